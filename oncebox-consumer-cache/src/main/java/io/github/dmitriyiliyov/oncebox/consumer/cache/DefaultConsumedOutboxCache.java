@@ -7,7 +7,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 public class DefaultConsumedOutboxCache implements ConsumedOutboxCache {
@@ -31,6 +33,11 @@ public class DefaultConsumedOutboxCache implements ConsumedOutboxCache {
     @Override
     public boolean isConsumed(UUID id) {
         Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            log.warn("Cache for outbox with name %s not found".formatted(cacheName));
+            cacheListener.onMiss();
+            return false;
+        }
         boolean isConsumed = cache.get(id.toString(), String.class) != null;
         if (isConsumed) {
             cacheListener.onHit();
@@ -44,7 +51,36 @@ public class DefaultConsumedOutboxCache implements ConsumedOutboxCache {
     public void consume(UUID id) {
         Cache cache = cacheManager.getCache(cacheName);
         if (cache != null) {
-            cache.put(id, "");
+            cache.put(id.toString(), "");
+        } else {
+            log.warn("Cache for outbox with name %s not found".formatted(cacheName));
+        }
+    }
+
+    @Override
+    public Set<UUID> getConsumed(Set<UUID> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Set<UUID> consumed = new HashSet<>();
+        if (cache == null) {
+            log.warn("Cache for outbox with name %s not found".formatted(cacheName));
+            return consumed;
+        }
+        for (UUID id : ids) {
+            if (cache.get(id.toString(), String.class) != null) {
+                consumed.add(id);
+                cacheListener.onHit();
+            } else {
+                cacheListener.onMiss();
+            }
+        }
+        return consumed;
+    }
+
+    @Override
+    public void consumeAll(Set<UUID> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            ids.forEach(id -> cache.put(id.toString(), ""));
         } else {
             log.warn("Cache for outbox with name %s not found".formatted(cacheName));
         }
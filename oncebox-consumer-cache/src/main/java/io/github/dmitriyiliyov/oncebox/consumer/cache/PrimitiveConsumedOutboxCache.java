@@ -0,0 +1,246 @@
+package io.github.dmitriyiliyov.oncebox.consumer.cache;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.cache.ConsumedOutboxCache;
+import io.github.dmitriyiliyov.oncebox.core.consumer.cache.ConsumedOutboxCacheListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process {@link ConsumedOutboxCache} that stores event ids as pairs of {@code long}s in open-addressing tables
+ * backed by primitive arrays, so checks and inserts do not allocate.
+ * <ul>
+ *
+ *     <li>ids are spread over lock stripes, each guarded by its own lock, so concurrent listeners rarely contend.</li>
+ *
+ *     <li>every stripe keeps {@code generations} tables; the newest one receives inserts and the oldest one is
+ *     cleared every {@code ttl / generations}, so an id stays cached for at most {@code ttl}. The ttl should not
+ *     exceed the consumed table clean-up ttl.</li>
+ *
+ *     <li>memory is allocated once for {@code capacity} ids. When the newest table of a stripe is full the stripe
+ *     rotates early, trading lifetime of the oldest ids for a fixed memory budget.</li>
+ *
+ * </ul>
+ * The nil UUID is never cached, since it marks empty slots.
+ */
+public class PrimitiveConsumedOutboxCache implements ConsumedOutboxCache {
+
+    private static final int DEFAULT_GENERATIONS = 4;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final ConsumedOutboxCacheListener cacheListener;
+    private final Clock clock;
+
+    public PrimitiveConsumedOutboxCache(int capacity, Duration ttl, ConsumedOutboxCacheListener cacheListener, Clock clock) {
+        this(capacity, ttl, defaultStripes(), DEFAULT_GENERATIONS, cacheListener, clock);
+    }
+
+    public PrimitiveConsumedOutboxCache(int capacity, Duration ttl, int stripes, int generations,
+                                        ConsumedOutboxCacheListener cacheListener, Clock clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity should be positive");
+        }
+        Objects.requireNonNull(ttl, "ttl cannot be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl should be positive");
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes should be positive");
+        }
+        if (generations < 2) {
+            throw new IllegalArgumentException("generations should be at least 2");
+        }
+        this.cacheListener = Objects.requireNonNull(cacheListener, "cacheListener cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+
+        int stripeCount = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+        long period = Math.max(1, ttl.toMillis() / generations);
+        int tableCapacity = (int) Math.max(1, Math.ceilDiv((long) capacity, (long) stripeCount * generations));
+        long tableSlots = (long) Math.ceil(tableCapacity / MAX_LOAD_FACTOR) + 1;
+        if (tableSlots * 2 > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("capacity is too large for %d stripes and %d generations"
+                    .formatted(stripeCount, generations));
+        }
+        int slots = (int) tableSlots;
+        long now = clock.millis();
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(generations, slots, tableCapacity, period, now);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    @Override
+    public boolean isConsumed(UUID id) {
+        boolean consumed = contains(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (consumed) {
+            cacheListener.onHit();
+        } else {
+            cacheListener.onMiss();
+        }
+        return consumed;
+    }
+
+    @Override
+    public void consume(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        if (msb == 0 && lsb == 0) {
+            return;
+        }
+        long hash = hash(msb, lsb);
+        Stripe stripe = stripes[(int) (hash >>> 40) & stripeMask];
+        stripe.lock.lock();
+        try {
+            stripe.add(msb, lsb, hash, clock.millis());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of ids currently cached, including ids whose generation is due but not yet rotated.
+     */
+    public long size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private boolean contains(long msb, long lsb) {
+        if (msb == 0 && lsb == 0) {
+            return false;
+        }
+        long hash = hash(msb, lsb);
+        Stripe stripe = stripes[(int) (hash >>> 40) & stripeMask];
+        stripe.lock.lock();
+        try {
+            stripe.rotate(clock.millis());
+            return stripe.contains(msb, lsb, hash);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static long hash(long msb, long lsb) {
+        long hash = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static int defaultStripes() {
+        return Runtime.getRuntime().availableProcessors() * 4;
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[][] tables;
+        private final int[] sizes;
+        private final int slots;
+        private final int tableCapacity;
+        private final long period;
+        private int head;
+        private long headStartedAt;
+
+        private Stripe(int generations, int slots, int tableCapacity, long period, long now) {
+            this.tables = new long[generations][slots * 2];
+            this.sizes = new int[generations];
+            this.slots = slots;
+            this.tableCapacity = tableCapacity;
+            this.period = period;
+            this.headStartedAt = now;
+        }
+
+        private boolean contains(long msb, long lsb, long hash) {
+            int generations = tables.length;
+            for (int i = 0; i < generations; i++) {
+                int generation = (head - i + generations) % generations;
+                if (sizes[generation] != 0 && indexOf(tables[generation], msb, lsb, hash) >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(long msb, long lsb, long hash, long now) {
+            rotate(now);
+            if (contains(msb, lsb, hash)) {
+                return;
+            }
+            if (sizes[head] >= tableCapacity) {
+                advance();
+                headStartedAt = now;
+            }
+            long[] table = tables[head];
+            int slot = -indexOf(table, msb, lsb, hash) - 1;
+            table[slot * 2] = msb;
+            table[slot * 2 + 1] = lsb;
+            sizes[head]++;
+        }
+
+        /**
+         * Returns the slot holding the id, or {@code -(slot + 1)} of the empty slot where it would be inserted.
+         * Tables are never filled above {@link #MAX_LOAD_FACTOR}, so probing always reaches an empty slot.
+         */
+        private int indexOf(long[] table, long msb, long lsb, long hash) {
+            int slot = (int) (((hash & 0xFFFFFFFFL) * slots) >>> 32);
+            while (true) {
+                long slotMsb = table[slot * 2];
+                long slotLsb = table[slot * 2 + 1];
+                if (slotMsb == msb && slotLsb == lsb) {
+                    return slot;
+                }
+                if (slotMsb == 0 && slotLsb == 0) {
+                    return -slot - 1;
+                }
+                slot = slot + 1 == slots ? 0 : slot + 1;
+            }
+        }
+
+        private void rotate(long now) {
+            long elapsed = now - headStartedAt;
+            if (elapsed < period) {
+                return;
+            }
+            long steps = elapsed / period;
+            int expired = (int) Math.min(steps, tables.length);
+            for (int i = 0; i < expired; i++) {
+                advance();
+            }
+            headStartedAt = steps >= tables.length ? now : headStartedAt + steps * period;
+        }
+
+        private void advance() {
+            head = (head + 1) % tables.length;
+            if (sizes[head] != 0) {
+                Arrays.fill(tables[head], 0L);
+                sizes[head] = 0;
+            }
+        }
+
+        private long size() {
+            long size = 0;
+            for (int generationSize : sizes) {
+                size += generationSize;
+            }
+            return size;
+        }
+    }
+}
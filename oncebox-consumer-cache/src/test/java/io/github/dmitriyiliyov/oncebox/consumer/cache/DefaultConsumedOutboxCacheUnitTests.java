@@ -10,7 +10,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.Mockito.mock;
@@ -139,7 +141,7 @@ class DefaultConsumedOutboxCacheUnitTests {
 
         // then
         Assertions.assertThat(result).isFalse();
-        Mockito.verify(cache, Mockito.never()).put(id.toString(), String.class);
+        Mockito.verify(cache, Mockito.never()).put(Mockito.any(), Mockito.any());
         Mockito.verify(cacheListener).onMiss();
     }
 
@@ -157,7 +159,7 @@ class DefaultConsumedOutboxCacheUnitTests {
         decorator.consume(id);
 
         // then
-        Mockito.verify(cache).put(id, "");
+        Mockito.verify(cache).put(id.toString(), "");
     }
 
     @Test
@@ -177,4 +179,103 @@ class DefaultConsumedOutboxCacheUnitTests {
         // then
         Mockito.verify(cache, Mockito.never()).put(Mockito.any(), Mockito.any());
     }
+
+    @Test
+    @DisplayName("UT getConsumed() should return cached ids and report hit or miss per id")
+    void getConsumed_shouldReturnCachedIdsAndReportHitOrMissPerId() {
+        // given
+        UUID cachedId = UUID.randomUUID();
+        UUID missedId = UUID.randomUUID();
+        String cacheName = "test-cache";
+        when(cacheManager.getCache(cacheName)).thenReturn(cache);
+        when(cache.get(cachedId.toString(), String.class)).thenReturn("");
+        when(cache.get(missedId.toString(), String.class)).thenReturn(null);
+
+        decorator = new DefaultConsumedOutboxCache(cacheManager, cacheName, cacheListener);
+
+        // when
+        Set<UUID> result = decorator.getConsumed(Set.of(cachedId, missedId));
+
+        // then
+        Assertions.assertThat(result).containsExactly(cachedId);
+        Mockito.verify(cacheListener).onHit();
+        Mockito.verify(cacheListener).onMiss();
+    }
+
+    @Test
+    @DisplayName("UT consumeAll() should put every id into cache")
+    void consumeAll_shouldPutEveryIdIntoCache() {
+        // given
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        String cacheName = "test-cache";
+        when(cacheManager.getCache(cacheName)).thenReturn(cache);
+
+        decorator = new DefaultConsumedOutboxCache(cacheManager, cacheName, cacheListener);
+
+        // when
+        decorator.consumeAll(Set.of(firstId, secondId));
+
+        // then
+        Mockito.verify(cache).put(firstId.toString(), "");
+        Mockito.verify(cache).put(secondId.toString(), "");
+    }
+
+    @Test
+    @DisplayName("UT getConsumed() when cache is null should return empty set")
+    void getConsumed_whenCacheIsNull_shouldReturnEmptySet() {
+        // given
+        String cacheName = "test-cache";
+        when(cacheManager.getCache(cacheName)).thenReturn(cache).thenReturn(null);
+
+        decorator = new DefaultConsumedOutboxCache(cacheManager, cacheName, cacheListener);
+
+        // when
+        Set<UUID> result = decorator.getConsumed(Set.of(UUID.randomUUID()));
+
+        // then
+        Assertions.assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("UT isConsumed() and getConsumed() should find ids stored by consume() and consumeAll() in ConcurrentMapCacheManager")
+    void isConsumedAndGetConsumed_withConcurrentMapCacheManager_shouldFindConsumedIds() {
+        // given
+        UUID consumedId = UUID.randomUUID();
+        UUID firstBatchId = UUID.randomUUID();
+        UUID secondBatchId = UUID.randomUUID();
+        UUID missedId = UUID.randomUUID();
+        String cacheName = "test-cache";
+        decorator = new DefaultConsumedOutboxCache(
+                new ConcurrentMapCacheManager(cacheName), cacheName, ConsumedOutboxCacheListener.NOOP
+        );
+
+        // when
+        decorator.consume(consumedId);
+        decorator.consumeAll(Set.of(firstBatchId, secondBatchId));
+
+        // then
+        Assertions.assertThat(decorator.isConsumed(consumedId)).isTrue();
+        Assertions.assertThat(decorator.isConsumed(firstBatchId)).isTrue();
+        Assertions.assertThat(decorator.isConsumed(missedId)).isFalse();
+        Assertions.assertThat(decorator.getConsumed(Set.of(consumedId, firstBatchId, secondBatchId, missedId)))
+                .containsExactlyInAnyOrder(consumedId, firstBatchId, secondBatchId);
+    }
+
+    @Test
+    @DisplayName("UT isConsumed() should find entries stored under the string form of the id")
+    void isConsumed_withEntryStoredUnderStringKey_shouldReturnTrue() {
+        // given
+        UUID id = UUID.randomUUID();
+        String cacheName = "test-cache";
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(cacheName);
+        cacheManager.getCache(cacheName).put(id.toString(), "");
+        decorator = new DefaultConsumedOutboxCache(cacheManager, cacheName, ConsumedOutboxCacheListener.NOOP);
+
+        // when
+        boolean result = decorator.isConsumed(id);
+
+        // then
+        Assertions.assertThat(result).isTrue();
+    }
 }
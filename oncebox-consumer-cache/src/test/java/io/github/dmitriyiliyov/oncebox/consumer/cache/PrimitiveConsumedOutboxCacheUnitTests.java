@@ -0,0 +1,159 @@
+package io.github.dmitriyiliyov.oncebox.consumer.cache;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.cache.ConsumedOutboxCacheListener;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrimitiveConsumedOutboxCacheUnitTests {
+
+    @Mock
+    private ConsumedOutboxCacheListener cacheListener;
+
+    @Mock
+    private Clock clock;
+
+    @Test
+    @DisplayName("UT constructor when capacity is not positive should throw IllegalArgumentException")
+    void constructor_whenCapacityIsNotPositive_shouldThrowIllegalArgumentException() {
+        Assertions.assertThatThrownBy(() -> new PrimitiveConsumedOutboxCache(0, Duration.ofHours(1), cacheListener, clock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("capacity should be positive");
+    }
+
+    @Test
+    @DisplayName("UT constructor when generations less than two should throw IllegalArgumentException")
+    void constructor_whenGenerationsLessThanTwo_shouldThrowIllegalArgumentException() {
+        Assertions.assertThatThrownBy(() -> new PrimitiveConsumedOutboxCache(
+                        100, Duration.ofHours(1), 1, 1, cacheListener, clock
+                ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("generations should be at least 2");
+    }
+
+    @Test
+    @DisplayName("UT isConsumed() when id consumed should return true and report hit")
+    void isConsumed_whenIdConsumed_shouldReturnTrueAndReportHit() {
+        // given
+        UUID id = UUID.randomUUID();
+        PrimitiveConsumedOutboxCache cache = new PrimitiveConsumedOutboxCache(
+                100, Duration.ofHours(1), 4, 4, cacheListener, clock
+        );
+        cache.consume(id);
+
+        // when
+        boolean result = cache.isConsumed(id);
+
+        // then
+        Assertions.assertThat(result).isTrue();
+        Mockito.verify(cacheListener).onHit();
+        Mockito.verify(cacheListener, Mockito.never()).onMiss();
+    }
+
+    @Test
+    @DisplayName("UT isConsumed() when id not consumed should return false and report miss")
+    void isConsumed_whenIdNotConsumed_shouldReturnFalseAndReportMiss() {
+        // given
+        PrimitiveConsumedOutboxCache cache = new PrimitiveConsumedOutboxCache(
+                100, Duration.ofHours(1), 4, 4, cacheListener, clock
+        );
+        cache.consume(UUID.randomUUID());
+
+        // when
+        boolean result = cache.isConsumed(UUID.randomUUID());
+
+        // then
+        Assertions.assertThat(result).isFalse();
+        Mockito.verify(cacheListener).onMiss();
+        Mockito.verify(cacheListener, Mockito.never()).onHit();
+    }
+
+    @Test
+    @DisplayName("UT consume() when id consumed twice should store it once")
+    void consume_whenIdConsumedTwice_shouldStoreItOnce() {
+        // given
+        UUID id = UUID.randomUUID();
+        PrimitiveConsumedOutboxCache cache = new PrimitiveConsumedOutboxCache(
+                100, Duration.ofHours(1), 4, 4, cacheListener, clock
+        );
+
+        // when
+        cache.consume(id);
+        cache.consume(id);
+
+        // then
+        Assertions.assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UT isConsumed() when ttl elapsed should evict id")
+    void isConsumed_whenTtlElapsed_shouldEvictId() {
+        // given
+        UUID id = UUID.randomUUID();
+        when(clock.millis()).thenReturn(0L, 0L, 999L, 1_000L);
+        PrimitiveConsumedOutboxCache cache = new PrimitiveConsumedOutboxCache(
+                100, Duration.ofSeconds(1), 1, 4, cacheListener, clock
+        );
+        cache.consume(id);
+
+        // when
+        boolean beforeTtl = cache.isConsumed(id);
+        boolean afterTtl = cache.isConsumed(id);
+
+        // then
+        Assertions.assertThat(beforeTtl).isTrue();
+        Assertions.assertThat(afterTtl).isFalse();
+        Assertions.assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("UT consume() when capacity exceeded should evict oldest ids and keep memory budget")
+    void consume_whenCapacityExceeded_shouldEvictOldestIdsAndKeepMemoryBudget() {
+        // given
+        PrimitiveConsumedOutboxCache cache = new PrimitiveConsumedOutboxCache(
+                8, Duration.ofHours(1), 1, 2, cacheListener, clock
+        );
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        // when
+        ids.forEach(cache::consume);
+
+        // then
+        Assertions.assertThat(cache.size()).isLessThanOrEqualTo(8);
+        Assertions.assertThat(cache.isConsumed(ids.get(0))).isFalse();
+        Assertions.assertThat(cache.isConsumed(ids.get(ids.size() - 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("UT consume() when id is nil UUID should not cache it")
+    void consume_whenIdIsNilUuid_shouldNotCacheIt() {
+        // given
+        UUID nil = new UUID(0, 0);
+        PrimitiveConsumedOutboxCache cache = new PrimitiveConsumedOutboxCache(
+                100, Duration.ofHours(1), 4, 4, cacheListener, clock
+        );
+
+        // when
+        cache.consume(nil);
+
+        // then
+        Assertions.assertThat(cache.isConsumed(nil)).isFalse();
+        Assertions.assertThat(cache.size()).isZero();
+    }
+}
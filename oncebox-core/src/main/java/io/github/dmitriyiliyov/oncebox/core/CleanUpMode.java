@@ -0,0 +1,20 @@
+package io.github.dmitriyiliyov.oncebox.core;
+
+/**
+ * Defines how cleanup jobs select expired records.
+ */
+public enum CleanUpMode {
+
+    /**
+     * Records are selected by their timestamp column, which requires an index on it.
+     */
+    TIMESTAMP,
+
+    /**
+     * Records are selected by a primary key range, since UUIDv7 ids encode their creation time.
+     * <p>
+     * The TTL is counted from event creation rather than from consumption or processing, and every id
+     * must be a UUIDv7.
+     */
+    ID_RANGE
+}
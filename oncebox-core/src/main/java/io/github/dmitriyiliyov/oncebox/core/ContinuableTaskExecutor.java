@@ -0,0 +1,40 @@
+package io.github.dmitriyiliyov.oncebox.core;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Runs a {@link ContinuableTask}, possibly on another thread, and reports its outcome to a callback
+ * instead of returning it, so the caller is not held while the task waits or runs.
+ */
+@FunctionalInterface
+public interface ContinuableTaskExecutor {
+
+    /**
+     * Runs the given task.
+     * <p>
+     * Implementations must not throw and must invoke the callback exactly once, with the result of the task
+     * and {@code null}, or with {@code false} and the exception the task failed with.
+     *
+     * @param task     the task to be run.
+     * @param callback the callback receiving whether execution should continue and the failure, if any.
+     */
+    void execute(ContinuableTask task, BiConsumer<Boolean, Throwable> callback);
+
+    /**
+     * Returns an executor that runs the task on the calling thread.
+     *
+     * @return a direct executor.
+     */
+    static ContinuableTaskExecutor direct() {
+        return (task, callback) -> {
+            boolean shouldContinue;
+            try {
+                shouldContinue = task.run();
+            } catch (Throwable t) {
+                callback.accept(false, t);
+                return;
+            }
+            callback.accept(shouldContinue, null);
+        };
+    }
+}
@@ -29,5 +29,12 @@ public interface OutboxPropertiesHolder {
          * This controls the transaction size during cleanup to avoid locking the database for too long.
          */
         Integer getBatchSize();
+
+        /**
+         * The way expired records are selected.
+         * <p>
+         * {@link CleanUpMode#ID_RANGE} deletes by primary key range, so the timestamp index is not needed.
+         */
+        CleanUpMode getMode();
     }
 }
@@ -1,9 +1,11 @@
 package io.github.dmitriyiliyov.oncebox.core.consumer;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxCleanupEvent;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
 import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
@@ -37,6 +39,9 @@ public final class ConsumedOutboxCleanUpScheduler implements OutboxScheduler {
         this.manager = Objects.requireNonNull(manager, "manager cannot be null");
         this.lock = Objects.requireNonNull(lock, "lock cannot be null");
         this.taskDecorator = Objects.requireNonNull(taskDecorator, "taskDecorator cannot be null");
+        if (properties.getMode() == CleanUpMode.ID_RANGE && !manager.supportsIdRangeCleanUp()) {
+            throw new IllegalStateException("Clean-up mode ID_RANGE is not supported by the consumed outbox manager");
+        }
     }
 
     @Override
@@ -49,7 +54,12 @@ public final class ConsumedOutboxCleanUpScheduler implements OutboxScheduler {
             }
             try {
                 int batchSize = properties.getBatchSize();
-                int cleanedCount = manager.cleanBatchByTtl(properties.getTtl(), batchSize);
+                OutboxCleanupEvent cleanupEvent = new OutboxCleanupEvent();
+                cleanupEvent.begin();
+                int cleanedCount = properties.getMode() == CleanUpMode.ID_RANGE
+                        ? manager.cleanBatchByIdRange(properties.getTtl(), batchSize)
+                        : manager.cleanBatchByTtl(properties.getTtl(), batchSize);
+                cleanupEvent.finish(OutboxCleanupEvent.CONSUMED, batchSize, cleanedCount);
                 log.debug("Successfully cleaned {} events", cleanedCount);
                 return cleanedCount == batchSize;
             } catch (Exception e) {
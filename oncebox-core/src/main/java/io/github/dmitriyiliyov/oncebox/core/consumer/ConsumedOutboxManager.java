@@ -27,6 +27,18 @@ public interface ConsumedOutboxManager {
      */
     Set<UUID> tryConsumeAndGetDuplicates(Set<UUID> ids);
 
+    /**
+     * Removes consumed marks of the given events, so their redelivery is processed again.
+     * Used to compensate when the consuming operation failed after the events were marked in a separate transaction.
+     *
+     * @param ids the set of event IDs to release.
+     * @return    the number of released events.
+     * @throws UnsupportedOperationException if the manager cannot release consumed events.
+     */
+    default int release(Set<UUID> ids) {
+        throw new UnsupportedOperationException("release is not supported");
+    }
+
     /**
      * Cleans up (deletes) consumed event records that have exceeded their TTL.
      *
@@ -35,4 +47,27 @@ public interface ConsumedOutboxManager {
      * @return          the number of deleted records.
      */
     int cleanBatchByTtl(Duration ttl, int batchSize);
+
+    /**
+     * Returns whether this manager can clean up by ID range through {@link #cleanBatchByIdRange}.
+     * <p>
+     * The clean-up scheduler checks this on creation, so an unsupported {@code ID_RANGE} mode fails at startup.
+     *
+     * @return {@code true} if {@link #cleanBatchByIdRange} is supported.
+     */
+    default boolean supportsIdRangeCleanUp() {
+        return false;
+    }
+
+    /**
+     * Cleans up consumed event records whose UUIDv7 IDs were created before the TTL, by primary key range.
+     *
+     * @param ttl       the duration after event creation when a consumed event record is considered expired.
+     * @param batchSize the maximum number of records to delete in a single operation.
+     * @return          the number of deleted records.
+     * @throws UnsupportedOperationException if {@link #supportsIdRangeCleanUp()} returns {@code false}.
+     */
+    default int cleanBatchByIdRange(Duration ttl, int batchSize) {
+        throw new UnsupportedOperationException("cleanBatchByIdRange is not supported");
+    }
 }
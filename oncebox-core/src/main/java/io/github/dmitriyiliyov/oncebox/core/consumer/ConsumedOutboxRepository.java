@@ -3,6 +3,7 @@ package io.github.dmitriyiliyov.oncebox.core.consumer;
 import java.time.Instant;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 /**
  * DAO layer for consumed outbox events.
@@ -35,6 +36,51 @@ public interface ConsumedOutboxRepository {
      */
     Set<UUID> saveIfAbsent(Set<UUID> ids);
 
+    /**
+     * Saves multiple event IDs like {@link #saveIfAbsent(Set)}, given a subset of IDs known to be unconsumed.
+     * <p>
+     * {@code unseenIds} is a subset of {@code ids} the caller believes were never consumed, e.g. from a negative
+     * Bloom filter answer. Implementations that check existence before inserting may skip the check for these IDs,
+     * but must not report any of them as inserted if it turns out to be consumed already, e.g. by throwing
+     * {@link ConcurrentInsertException}.
+     * The default implementation ignores the hint.
+     *
+     * @param ids       a set of UUIDs to save.
+     * @param unseenIds a subset of {@code ids} that does not need an existence check.
+     * @return          a set of UUIDs that were successfully inserted.
+     * @throws ConcurrentInsertException if a concurrent insert is detected.
+     */
+    default Set<UUID> saveIfAbsent(Set<UUID> ids, Set<UUID> unseenIds) {
+        return saveIfAbsent(ids);
+    }
+
+    /**
+     * Streams IDs of events consumed at or after the given time, together with their consumption time.
+     * <p>
+     * Implementations should fetch rows incrementally rather than loading the whole range into memory.
+     * The default implementation is not supported.
+     *
+     * @param since  the earliest consumption time to include.
+     * @param action the callback receiving each event ID and its consumption time.
+     * @throws UnsupportedOperationException if the repository cannot stream consumed IDs.
+     */
+    default void forEachConsumed(Instant since, BiConsumer<UUID, Instant> action) {
+        throw new UnsupportedOperationException("forEachConsumed is not supported");
+    }
+
+    /**
+     * Deletes consumed event records with the given IDs, so the events can be consumed again.
+     * <p>
+     * Returns 0 if {@code ids} is null or empty. The default implementation is not supported.
+     *
+     * @param ids a set of UUIDs to delete.
+     * @return    the number of deleted records.
+     * @throws UnsupportedOperationException if the repository cannot delete by IDs.
+     */
+    default int deleteByIds(Set<UUID> ids) {
+        throw new UnsupportedOperationException("deleteByIds is not supported");
+    }
+
     /**
      * Deletes consumed event records with {@code consumed_at} strictly before the given threshold.
      * <p>
@@ -46,4 +92,27 @@ public interface ConsumedOutboxRepository {
      * @return          the number of deleted records.
      */
     int deleteBatchByThreshold(Instant threshold, int batchSize);
+
+    /**
+     * Returns whether this repository can delete by ID range through {@link #deleteBatchByIdThreshold}.
+     *
+     * @return {@code true} if {@link #deleteBatchByIdThreshold} is supported.
+     */
+    default boolean supportsDeleteByIdThreshold() {
+        return false;
+    }
+
+    /**
+     * Deletes consumed event records with IDs strictly below the given UUIDv7 bound, using the primary key only.
+     * <p>
+     * At most {@code batchSize} records are deleted per call, lowest IDs first.
+     *
+     * @param idThreshold records with IDs strictly below this UUID will be deleted.
+     * @param batchSize   the maximum number of records to delete in one operation.
+     * @return            the number of deleted records.
+     * @throws UnsupportedOperationException if {@link #supportsDeleteByIdThreshold()} returns {@code false}.
+     */
+    default int deleteBatchByIdThreshold(UUID idThreshold, int batchSize) {
+        throw new UnsupportedOperationException("deleteBatchByIdThreshold is not supported");
+    }
 }
\ No newline at end of file
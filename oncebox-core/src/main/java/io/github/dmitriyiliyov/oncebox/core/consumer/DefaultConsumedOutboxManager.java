@@ -1,10 +1,14 @@
 package io.github.dmitriyiliyov.oncebox.core.consumer;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.ConsumedOutboxFilter;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -14,31 +18,95 @@ public class DefaultConsumedOutboxManager implements ConsumedOutboxManager {
 
     protected final ConsumedOutboxRepository repository;
     protected final Clock clock;
+    protected final ConsumedOutboxFilter filter;
+    protected final CleanUpMode cleanUpMode;
 
     public DefaultConsumedOutboxManager(ConsumedOutboxRepository repository, Clock clock) {
+        this(repository, clock, ConsumedOutboxFilter.NOOP);
+    }
+
+    public DefaultConsumedOutboxManager(ConsumedOutboxRepository repository, Clock clock, ConsumedOutboxFilter filter) {
+        this(repository, clock, filter, CleanUpMode.TIMESTAMP);
+    }
+
+    /**
+     * With {@link CleanUpMode#ID_RANGE} every saved id must be a UUIDv7, since clean-up reads its age from the id;
+     * other ids are rejected with {@link IllegalArgumentException} before anything is saved.
+     */
+    public DefaultConsumedOutboxManager(ConsumedOutboxRepository repository, Clock clock, ConsumedOutboxFilter filter,
+                                        CleanUpMode cleanUpMode) {
         this.repository = Objects.requireNonNull(repository, "repository cannot be null");
         this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        this.filter = Objects.requireNonNull(filter, "filter cannot be null");
+        this.cleanUpMode = Objects.requireNonNull(cleanUpMode, "cleanUpMode cannot be null");
     }
 
     @Transactional
     @Override
     public boolean tryConsume(UUID id) {
-        return repository.saveIfAbsent(id) == 1;
+        validateId(id);
+        boolean consumed = repository.saveIfAbsent(id) == 1;
+        filter.put(id, clock.instant());
+        return consumed;
     }
 
+    /**
+     * Ids the filter rules out are passed to the repository as unseen, so dialects that check existence before
+     * inserting, i.e. H2, skip the check for them. If one of them was consumed after all, e.g. by another instance,
+     * H2 throws {@link ConcurrentInsertException}. Oracle and MySQL throw it only if the driver reports no per-row
+     * counts for their batched insert, and PostgreSQL never does. The whole batch is put into the filter first, so
+     * the retried batch takes the regular path.
+     */
     @Transactional
     @Override
     public Set<UUID> tryConsumeAndGetDuplicates(Set<UUID> ids) {
-        Set<UUID> unconsumedIds = repository.saveIfAbsent(ids);
+        ids.forEach(this::validateId);
+        Set<UUID> unseenIds = new HashSet<>();
+        for (UUID id : ids) {
+            if (!filter.mightContain(id)) {
+                unseenIds.add(id);
+            }
+        }
+        Instant consumedAt = clock.instant();
+        Set<UUID> unconsumedIds;
+        try {
+            unconsumedIds = unseenIds.isEmpty() ? repository.saveIfAbsent(ids) : repository.saveIfAbsent(ids, unseenIds);
+        } finally {
+            ids.forEach(id -> filter.put(id, consumedAt));
+        }
         return ids.stream()
                 .filter(id -> !unconsumedIds.contains(id))
                 .collect(Collectors.toSet());
     }
 
+    @Transactional
+    @Override
+    public int release(Set<UUID> ids) {
+        return repository.deleteByIds(ids);
+    }
+
     @Transactional
     @Override
     public int cleanBatchByTtl(Duration ttl, int batchSize) {
         Instant threshold = clock.instant().minusMillis(ttl.toMillis());
         return repository.deleteBatchByThreshold(threshold, batchSize);
     }
+
+    @Override
+    public boolean supportsIdRangeCleanUp() {
+        return repository.supportsDeleteByIdThreshold();
+    }
+
+    @Transactional
+    @Override
+    public int cleanBatchByIdRange(Duration ttl, int batchSize) {
+        Instant threshold = clock.instant().minusMillis(ttl.toMillis());
+        return repository.deleteBatchByIdThreshold(UuidV7Utils.lowerBound(threshold), batchSize);
+    }
+
+    private void validateId(UUID id) {
+        if (cleanUpMode == CleanUpMode.ID_RANGE && !UuidV7Utils.isUuidV7(id)) {
+            throw new IllegalArgumentException("id " + id + " is not a UUIDv7, which clean-up mode ID_RANGE requires");
+        }
+    }
 }
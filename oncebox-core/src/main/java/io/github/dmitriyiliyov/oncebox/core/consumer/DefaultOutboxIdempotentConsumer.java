@@ -1,5 +1,6 @@
 package io.github.dmitriyiliyov.oncebox.core.consumer;
 
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxConsumerDedupeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -28,7 +29,7 @@ public class DefaultOutboxIdempotentConsumer implements OutboxIdempotentConsumer
         Objects.requireNonNull(operation, "operation cannot be null");
         try {
             transactionTemplate.executeWithoutResult(status -> {
-                if (consumedOutboxManager.tryConsume(eventId)) {
+                if (tryConsume(eventId)) {
                     operation.run();
                 }
             });
@@ -48,7 +49,7 @@ public class DefaultOutboxIdempotentConsumer implements OutboxIdempotentConsumer
 
         try {
             transactionTemplate.executeWithoutResult(status -> {
-                if (consumedOutboxManager.tryConsume(eventId)) {
+                if (tryConsume(eventId)) {
                     operation.accept(message);
                 }
             });
@@ -68,7 +69,7 @@ public class DefaultOutboxIdempotentConsumer implements OutboxIdempotentConsumer
 
         try {
             transactionTemplate.executeWithoutResult(status -> {
-                Set<UUID> alreadyConsumedIds = consumedOutboxManager.tryConsumeAndGetDuplicates(ids);
+                Set<UUID> alreadyConsumedIds = tryConsumeAndGetDuplicates(ids);
                 Set<UUID> validIds = new HashSet<>(ids);
                 alreadyConsumedIds.forEach(validIds::remove);
                 if (validIds.isEmpty()) {
@@ -100,7 +101,7 @@ public class DefaultOutboxIdempotentConsumer implements OutboxIdempotentConsumer
                 );
         try {
             transactionTemplate.executeWithoutResult(status -> {
-                Set<UUID> alreadyConsumedIds = consumedOutboxManager.tryConsumeAndGetDuplicates(messageMap.keySet());
+                Set<UUID> alreadyConsumedIds = tryConsumeAndGetDuplicates(messageMap.keySet());
                 alreadyConsumedIds.forEach(messageMap::remove);
                 if (messageMap.isEmpty()) {
                     log.info("Messages set is empty after filtering out duplicates");
@@ -113,4 +114,20 @@ public class DefaultOutboxIdempotentConsumer implements OutboxIdempotentConsumer
             throw e;
         }
     }
+
+    private boolean tryConsume(UUID eventId) {
+        OutboxConsumerDedupeEvent dedupeEvent = new OutboxConsumerDedupeEvent();
+        dedupeEvent.begin();
+        boolean consumed = consumedOutboxManager.tryConsume(eventId);
+        dedupeEvent.finish(1, consumed ? 0 : 1);
+        return consumed;
+    }
+
+    private Set<UUID> tryConsumeAndGetDuplicates(Set<UUID> ids) {
+        OutboxConsumerDedupeEvent dedupeEvent = new OutboxConsumerDedupeEvent();
+        dedupeEvent.begin();
+        Set<UUID> duplicates = consumedOutboxManager.tryConsumeAndGetDuplicates(ids);
+        dedupeEvent.finish(ids.size(), duplicates.size());
+        return duplicates;
+    }
 }
@@ -0,0 +1,23 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer;
+
+import java.time.Instant;
+
+/**
+ * Strategy interface for extracting the creation time of an outbox event from a raw message.
+ * <p>
+ * Used by consumer metrics to record end-to-end lag, so unlike {@link OutboxEventIdExtractor}
+ * it accepts any message type and returns {@code null} when the message carries no creation time.
+ */
+@FunctionalInterface
+public interface OutboxEventCreatedAtExtractor {
+
+    OutboxEventCreatedAtExtractor NONE = message -> null;
+
+    /**
+     * Extracts the creation time of an outbox event from the given raw message.
+     *
+     * @param message the raw message containing the event.
+     * @return        the creation time of the outbox event, or {@code null} if it cannot be resolved.
+     */
+    Instant extract(Object message);
+}
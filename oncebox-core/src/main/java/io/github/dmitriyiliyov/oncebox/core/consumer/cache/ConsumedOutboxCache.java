@@ -1,5 +1,8 @@
 package io.github.dmitriyiliyov.oncebox.core.consumer.cache;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -25,6 +28,36 @@ public interface ConsumedOutboxCache {
      */
     void consume(UUID id);
 
+    /**
+     * Returns the subset of the given IDs that are present in the cache.
+     * <p>
+     * The default implementation checks every ID with {@link #isConsumed(UUID)}; implementations backed by a store
+     * with a multi-get should override it to resolve the whole set in one round trip.
+     *
+     * @param ids the unique identifiers of the events to check.
+     * @return    IDs of the events present in the cache, never {@code null}.
+     */
+    default Set<UUID> getConsumed(Set<UUID> ids) {
+        Set<UUID> consumed = new HashSet<>();
+        for (UUID id : ids) {
+            if (isConsumed(id)) {
+                consumed.add(id);
+            }
+        }
+        return consumed;
+    }
+
+    /**
+     * Marks all given events as consumed by adding them to the cache.
+     * <p>
+     * The default implementation calls {@link #consume(UUID)} for every ID.
+     *
+     * @param ids the unique identifiers of the events to cache.
+     */
+    default void consumeAll(Set<UUID> ids) {
+        ids.forEach(this::consume);
+    }
+
     /**
      * A no-operation implementation that does nothing.
      */
@@ -36,5 +69,13 @@ public interface ConsumedOutboxCache {
 
         @Override
         public void consume(UUID id) { }
+
+        @Override
+        public Set<UUID> getConsumed(Set<UUID> ids) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public void consumeAll(Set<UUID> ids) { }
     };
 }
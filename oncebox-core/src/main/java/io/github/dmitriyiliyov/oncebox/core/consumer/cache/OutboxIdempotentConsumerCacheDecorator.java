@@ -3,10 +3,23 @@ package io.github.dmitriyiliyov.oncebox.core.consumer.cache;
 import io.github.dmitriyiliyov.oncebox.core.consumer.AbstractOutboxIdempotentConsumerDecorator;
 import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventIdExtractor;
 import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
 
+/**
+ * Decorator that answers duplicate checks from a {@link ConsumedOutboxCache} before reaching the database.
+ * <p>
+ * Batches are pre-filtered with a single {@link ConsumedOutboxCache#getConsumed(Set)} call and only cache misses are
+ * passed to the delegate, so redelivered batches that were already consumed never reach the database. Ids passed to
+ * the delegate are put into the cache in bulk once the surrounding transaction, if any, has committed.
+ */
 public class OutboxIdempotentConsumerCacheDecorator extends AbstractOutboxIdempotentConsumerDecorator {
 
     private final ConsumedOutboxCache cache;
@@ -22,7 +35,7 @@ public class OutboxIdempotentConsumerCacheDecorator extends AbstractOutboxIdempo
             return;
         }
         super.consume(eventId, operation);
-        cache.consume(eventId);
+        afterCommit(() -> cache.consume(eventId));
     }
 
     @Override
@@ -32,6 +45,63 @@ public class OutboxIdempotentConsumerCacheDecorator extends AbstractOutboxIdempo
             return;
         }
         super.consume(message, idExtractor, operation);
-        cache.consume(eventId);
+        afterCommit(() -> cache.consume(eventId));
+    }
+
+    @Override
+    public void consume(Set<UUID> ids, Consumer<Set<UUID>> operation) {
+        if (ids == null || ids.isEmpty()) {
+            super.consume(ids, operation);
+            return;
+        }
+        Set<UUID> misses = new HashSet<>(ids);
+        misses.removeAll(cache.getConsumed(ids));
+        if (misses.isEmpty()) {
+            return;
+        }
+        super.consume(misses, operation);
+        afterCommit(() -> cache.consumeAll(misses));
+    }
+
+    @Override
+    public <T> void consume(List<T> messages, OutboxEventIdExtractor<T> idExtractor, Consumer<List<T>> operation) {
+        if (messages == null || messages.isEmpty()) {
+            super.consume(messages, idExtractor, operation);
+            return;
+        }
+        List<UUID> messageIds = messages.stream().map(idExtractor::extract).toList();
+        Set<UUID> hits = cache.getConsumed(new HashSet<>(messageIds));
+        if (hits.isEmpty()) {
+            super.consume(messages, idExtractor, operation);
+            afterCommit(() -> cache.consumeAll(new HashSet<>(messageIds)));
+            return;
+        }
+        List<T> missMessages = new ArrayList<>(messages.size() - hits.size());
+        Set<UUID> misses = new HashSet<>();
+        for (int i = 0; i < messages.size(); i++) {
+            UUID id = messageIds.get(i);
+            if (!hits.contains(id)) {
+                missMessages.add(messages.get(i));
+                misses.add(id);
+            }
+        }
+        if (missMessages.isEmpty()) {
+            return;
+        }
+        super.consume(missMessages, idExtractor, operation);
+        afterCommit(() -> cache.consumeAll(misses));
+    }
+
+    private void afterCommit(Runnable cacheUpdate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheUpdate.run();
+                }
+            });
+        } else {
+            cacheUpdate.run();
+        }
     }
 }
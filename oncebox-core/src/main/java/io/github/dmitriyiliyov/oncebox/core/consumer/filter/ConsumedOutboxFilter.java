@@ -0,0 +1,51 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.filter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A probabilistic set of consumed event ids placed in front of the consumed outbox storage.
+ * <p>
+ * A negative {@link #mightContain(UUID)} answer means the id has not been consumed within the filter window,
+ * which lets batch deduplication skip the existence check for that id. A positive answer means nothing.
+ */
+public interface ConsumedOutboxFilter {
+
+    /**
+     * Checks whether the event with the given ID may have been consumed.
+     *
+     * @param id the unique identifier of the event.
+     * @return   {@code false} if the event was definitely not consumed within the filter window, {@code true} otherwise.
+     */
+    boolean mightContain(UUID id);
+
+    /**
+     * Records the event with the given ID as consumed at the given time.
+     *
+     * @param id         the unique identifier of the event.
+     * @param consumedAt the time the event was consumed.
+     */
+    void put(UUID id, Instant consumedAt);
+
+    /**
+     * Marks the filter as populated with the ids already present in the consumed outbox storage.
+     * Until then {@link #mightContain(UUID)} must answer {@code true} for every id.
+     */
+    void markLoaded();
+
+    /**
+     * A no-operation implementation that never rules out an id.
+     */
+    ConsumedOutboxFilter NOOP = new ConsumedOutboxFilter() {
+        @Override
+        public boolean mightContain(UUID id) {
+            return true;
+        }
+
+        @Override
+        public void put(UUID id, Instant consumedAt) { }
+
+        @Override
+        public void markLoaded() { }
+    };
+}
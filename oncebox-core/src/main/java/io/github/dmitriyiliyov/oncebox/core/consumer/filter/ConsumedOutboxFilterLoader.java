@@ -0,0 +1,55 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.filter;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Populates a {@link ConsumedOutboxFilter} from the consumed outbox storage and marks it as loaded.
+ * <p>
+ * Ids are streamed from the repository, so loading does not hold the whole window in memory. If the repository
+ * cannot stream ids or loading fails, the filter stays unloaded and keeps answering "maybe consumed",
+ * which leaves deduplication exactly as it is without the filter.
+ */
+public class ConsumedOutboxFilterLoader implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsumedOutboxFilterLoader.class);
+
+    private final ConsumedOutboxRepository repository;
+    private final ConsumedOutboxFilter filter;
+    private final Duration window;
+    private final Clock clock;
+
+    public ConsumedOutboxFilterLoader(ConsumedOutboxRepository repository, ConsumedOutboxFilter filter,
+                                      Duration window, Clock clock) {
+        this.repository = Objects.requireNonNull(repository, "repository cannot be null");
+        this.filter = Objects.requireNonNull(filter, "filter cannot be null");
+        this.window = Objects.requireNonNull(window, "window cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    @Override
+    public void run() {
+        Instant since = clock.instant().minus(window);
+        AtomicLong loaded = new AtomicLong();
+        try {
+            repository.forEachConsumed(since, (id, consumedAt) -> {
+                filter.put(id, consumedAt);
+                loaded.incrementAndGet();
+            });
+            filter.markLoaded();
+            log.info("Consumed outbox filter loaded with {} ids consumed since {}", loaded.get(), since);
+        } catch (UnsupportedOperationException e) {
+            log.warn("Consumed outbox filter is disabled, repository {} does not support streaming consumed ids",
+                    repository.getClass().getSimpleName());
+        } catch (Exception e) {
+            log.error("Failed to load consumed outbox filter, filter is disabled", e);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.filter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Time-windowed Bloom filter over consumed event ids.
+ * <ul>
+ *
+ *     <li>the window is split into periods of {@code window / (generations - 1)}; every period writes into its own
+ *     bit array, so an id stays in the filter for at least {@code window} and at most
+ *     {@code window * generations / (generations - 1)}.</li>
+ *
+ *     <li>a generation is replaced by a fresh bit array when its period expires, so readers never observe a
+ *     partially cleared generation.</li>
+ *
+ *     <li>bit arrays are sized for {@code expectedInsertions} ids per window at the configured false positive rate,
+ *     which is split evenly between generations since a lookup consults all of them.</li>
+ *
+ * </ul>
+ * Bits are set with CAS, so puts and lookups do not lock.
+ */
+public class RotatingBloomConsumedOutboxFilter implements ConsumedOutboxFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicReferenceArray<Generation> generations;
+    private final int generationCount;
+    private final long periodMillis;
+    private final long bits;
+    private final int hashFunctions;
+    private final Clock clock;
+    private volatile boolean loaded;
+
+    public RotatingBloomConsumedOutboxFilter(long expectedInsertions, double falsePositiveRate, Duration window,
+                                             int generations, Clock clock) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions should be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate should be between 0 and 1 exclusive");
+        }
+        Objects.requireNonNull(window, "window cannot be null");
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window should be positive");
+        }
+        if (generations < 2) {
+            throw new IllegalArgumentException("generations should be at least 2");
+        }
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        this.generationCount = generations;
+        this.generations = new AtomicReferenceArray<>(generations);
+        this.periodMillis = Math.max(1, window.toMillis() / (generations - 1));
+
+        double insertionsPerGeneration = Math.max(1, (double) expectedInsertions / (generations - 1));
+        double generationFalsePositiveRate = falsePositiveRate / generations;
+        long optimalBits = (long) Math.ceil(-insertionsPerGeneration * Math.log(generationFalsePositiveRate) / (LN2 * LN2));
+        long words = Math.ceilDiv(Math.max(64, optimalBits), 64);
+        if (words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("expectedInsertions is too large for the configured false positive rate");
+        }
+        this.bits = words * 64;
+        this.hashFunctions = (int) Math.max(1, Math.round(bits / insertionsPerGeneration * LN2));
+    }
+
+    @Override
+    public boolean mightContain(UUID id) {
+        if (!loaded) {
+            return true;
+        }
+        long h1 = hash(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        long h2 = hash(id.getLeastSignificantBits(), h1);
+        long currentPeriod = period(clock.millis());
+        for (long period = currentPeriod - generationCount + 1; period <= currentPeriod; period++) {
+            Generation generation = generations.get(slot(period));
+            if (generation != null && generation.period == period && generation.containsAll(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void put(UUID id, Instant consumedAt) {
+        long currentPeriod = period(clock.millis());
+        long period = Math.min(period(consumedAt.toEpochMilli()), currentPeriod);
+        if (period <= currentPeriod - generationCount) {
+            return;
+        }
+        Generation generation = generationFor(period);
+        if (generation == null) {
+            return;
+        }
+        long h1 = hash(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        generation.setAll(h1, hash(id.getLeastSignificantBits(), h1));
+    }
+
+    @Override
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Returns the memory reserved for bit arrays of all generations, in bytes.
+     */
+    public long getMemoryBytes() {
+        return bits / 8 * generationCount;
+    }
+
+    /**
+     * Estimates the current false positive rate of a lookup from the share of set bits in every live generation.
+     */
+    public double getEstimatedFalsePositiveRate() {
+        long currentPeriod = period(clock.millis());
+        double trueNegativeRate = 1.0;
+        for (long period = currentPeriod - generationCount + 1; period <= currentPeriod; period++) {
+            Generation generation = generations.get(slot(period));
+            if (generation != null && generation.period == period) {
+                double fill = (double) generation.bitCount() / bits;
+                trueNegativeRate *= 1 - Math.pow(fill, hashFunctions);
+            }
+        }
+        return 1 - trueNegativeRate;
+    }
+
+    private Generation generationFor(long period) {
+        int slot = slot(period);
+        while (true) {
+            Generation current = generations.get(slot);
+            if (current != null && current.period == period) {
+                return current;
+            }
+            if (current != null && current.period > period) {
+                return null;
+            }
+            Generation fresh = new Generation(period, (int) (bits / 64));
+            if (generations.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private long period(long epochMillis) {
+        return Math.floorDiv(epochMillis, periodMillis);
+    }
+
+    private int slot(long period) {
+        return (int) Math.floorMod(period, (long) generationCount);
+    }
+
+    private static long hash(long first, long second) {
+        long hash = first * 0x9E3779B97F4A7C15L ^ second;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private final class Generation {
+
+        private final long period;
+        private final AtomicLongArray words;
+
+        private Generation(long period, int words) {
+            this.period = period;
+            this.words = new AtomicLongArray(words);
+        }
+
+        private boolean containsAll(long h1, long h2) {
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void setAll(long h1, long h2) {
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bits);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+        }
+
+        private long bitCount() {
+            long count = 0;
+            for (int i = 0; i < words.length(); i++) {
+                count += Long.bitCount(words.get(i));
+            }
+            return count;
+        }
+    }
+}
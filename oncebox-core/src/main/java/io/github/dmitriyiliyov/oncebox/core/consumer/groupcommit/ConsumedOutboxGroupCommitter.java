@@ -0,0 +1,177 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.groupcommit;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConcurrentInsertException;
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxManager;
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxConsumerDedupeEvent;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces concurrent single-event idempotency checks into one batch insert of consumed ids.
+ * <ul>
+ *
+ *     <li>the first caller opens a group and becomes its leader; callers arriving within {@code window} join the
+ *     group instead of hitting the database themselves.</li>
+ *
+ *     <li>the leader closes the group after {@code window} or once it holds {@code maxBatchSize} ids and saves all
+ *     of them with {@link ConsumedOutboxManager#tryConsumeAndGetDuplicates(Set)} in its own transaction.</li>
+ *
+ *     <li>every caller gets the answer for its own id; if the batch fails, every caller of the group gets the
+ *     failure. A caller whose id is already in the open group is rejected, since the first caller's operation may
+ *     still fail and release the id.</li>
+ *
+ * </ul>
+ * Ids are committed before callers run their operations, so a failed operation must
+ * {@link #release(UUID) release} its id to have the redelivered event processed again. Ids whose release failed are
+ * remembered and the next call for them on this instance is accepted again.
+ */
+public class ConsumedOutboxGroupCommitter {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ConsumedOutboxManager manager;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<UUID> unreleased = ConcurrentHashMap.newKeySet();
+    private Group openGroup;
+
+    public ConsumedOutboxGroupCommitter(TransactionTemplate transactionTemplate, ConsumedOutboxManager manager,
+                                        Duration window, int maxBatchSize) {
+        Objects.requireNonNull(transactionTemplate, "transactionTemplate cannot be null");
+        this.manager = Objects.requireNonNull(manager, "manager cannot be null");
+        Objects.requireNonNull(window, "window cannot be null");
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window should be positive");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize should be positive");
+        }
+        this.transactionTemplate = new TransactionTemplate(
+                Objects.requireNonNull(transactionTemplate.getTransactionManager(), "transactionManager cannot be null"),
+                transactionTemplate
+        );
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Marks the event as consumed together with events of concurrent callers.
+     *
+     * @param id the ID of the event.
+     * @return   {@code true} if the event was marked by this call or its earlier release failed on this instance,
+     *           {@code false} if it was already consumed.
+     * @throws ConcurrentInsertException if a concurrent caller of the same group is consuming the same event.
+     */
+    public boolean tryConsume(UUID id) {
+        Objects.requireNonNull(id, "id cannot be null");
+        if (unreleased.remove(id)) {
+            return true;
+        }
+        Group group;
+        boolean leader;
+        boolean added;
+        lock.lock();
+        try {
+            leader = openGroup == null;
+            if (leader) {
+                openGroup = new Group();
+            }
+            group = openGroup;
+            added = group.ids.add(id);
+            if (group.ids.size() >= maxBatchSize) {
+                openGroup = null;
+                group.full.countDown();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!added) {
+            throw new ConcurrentInsertException(1, 0, Set.of(id));
+        }
+
+        if (leader) {
+            group.awaitFull(windowNanos);
+            lock.lock();
+            try {
+                if (openGroup == group) {
+                    openGroup = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            group.commit();
+        }
+        return !group.duplicates().contains(id);
+    }
+
+    /**
+     * Removes the consumed mark of the event in a separate transaction. If this fails, the event is remembered so its
+     * next {@link #tryConsume(UUID)} on this instance returns {@code true}.
+     *
+     * @param id the ID of the event.
+     */
+    public void release(UUID id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> manager.release(Set.of(id)));
+        } catch (RuntimeException e) {
+            unreleased.add(id);
+            throw e;
+        }
+    }
+
+    private final class Group {
+
+        private final Set<UUID> ids = new LinkedHashSet<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final CompletableFuture<Set<UUID>> result = new CompletableFuture<>();
+
+        private void awaitFull(long nanos) {
+            try {
+                full.await(nanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void commit() {
+            OutboxConsumerDedupeEvent dedupeEvent = new OutboxConsumerDedupeEvent();
+            dedupeEvent.begin();
+            try {
+                Set<UUID> duplicates = transactionTemplate.execute(
+                        status -> manager.tryConsumeAndGetDuplicates(ids)
+                );
+                dedupeEvent.finish(ids.size(), duplicates.size());
+                result.complete(duplicates);
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private Set<UUID> duplicates() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.groupcommit;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.AbstractOutboxIdempotentConsumerDecorator;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventIdExtractor;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Decorator that marks single events as consumed through a {@link ConsumedOutboxGroupCommitter}, so concurrent
+ * listener threads share one insert instead of running a transaction each.
+ * <p>
+ * The operation runs in its own transaction after the event was marked, so the mark and the business effect are no
+ * longer atomic and delivery is at-most-once. If the operation fails, the mark is released, the failure is rethrown
+ * so the message stays unacknowledged, and the redelivered event is processed again. If the release fails as well,
+ * only a redelivery to this instance is processed again; the event is lost if it is redelivered elsewhere or after a
+ * restart. The same event consumed concurrently within one group is rejected with a
+ * {@link io.github.dmitriyiliyov.oncebox.core.consumer.ConcurrentInsertException} and left for redelivery. Batch paths
+ * are passed to the delegate unchanged, since they already save ids in one statement.
+ */
+public class GroupCommitOutboxIdempotentConsumer extends AbstractOutboxIdempotentConsumerDecorator {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitOutboxIdempotentConsumer.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final ConsumedOutboxGroupCommitter groupCommitter;
+
+    public GroupCommitOutboxIdempotentConsumer(OutboxIdempotentConsumer delegate,
+                                               TransactionTemplate transactionTemplate,
+                                               ConsumedOutboxGroupCommitter groupCommitter) {
+        super(delegate);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate, "transactionTemplate cannot be null");
+        this.groupCommitter = Objects.requireNonNull(groupCommitter, "groupCommitter cannot be null");
+    }
+
+    @Override
+    public void consume(UUID eventId, Runnable operation) {
+        Objects.requireNonNull(eventId, "eventId cannot be null");
+        Objects.requireNonNull(operation, "operation cannot be null");
+        consumeOrRelease(eventId, operation);
+    }
+
+    @Override
+    public <T> void consume(T message, OutboxEventIdExtractor<T> idExtractor, Consumer<T> operation) {
+        Objects.requireNonNull(message, "message cannot be null");
+        Objects.requireNonNull(idExtractor, "idExtractor cannot be null");
+        Objects.requireNonNull(operation, "operation cannot be null");
+        UUID eventId = idExtractor.extract(message);
+        Objects.requireNonNull(eventId, "eventId cannot be null");
+        consumeOrRelease(eventId, () -> operation.accept(message));
+    }
+
+    private void consumeOrRelease(UUID eventId, Runnable operation) {
+        boolean consumed;
+        try {
+            consumed = groupCommitter.tryConsume(eventId);
+        } catch (Exception e) {
+            log.error("Failed to check idempotency for eventId: {}", eventId, e);
+            throw e;
+        }
+        if (!consumed) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> operation.run());
+        } catch (RuntimeException e) {
+            log.error("Failed to execute operation for eventId: {}, releasing it for redelivery", eventId, e);
+            release(eventId, e);
+            throw e;
+        }
+    }
+
+    private void release(UUID eventId, RuntimeException cause) {
+        try {
+            groupCommitter.release(eventId);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error("Failed to release eventId: {}, only its redelivery to this instance will be processed", eventId, e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.inbox;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Default {@link OutboxInbox} storing received messages as pending events of an {@link OutboxRepository} bound to
+ * the inbox table.
+ */
+public class DefaultOutboxInbox implements OutboxInbox {
+
+    private static final Logger log = LoggerFactory.getLogger(DefaultOutboxInbox.class);
+
+    private final OutboxRepository repository;
+    private final Clock clock;
+
+    public DefaultOutboxInbox(OutboxRepository repository, Clock clock) {
+        this.repository = Objects.requireNonNull(repository, "repository cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    @Transactional
+    @Override
+    public <T> int receive(T message, OutboxInboxMessageExtractor<? super T> extractor) {
+        Objects.requireNonNull(message, "message cannot be null");
+        Objects.requireNonNull(extractor, "extractor cannot be null");
+        OutboxInboxMessage inboxMessage = Objects.requireNonNull(extractor.extract(message), "inboxMessage cannot be null");
+        return repository.saveBatchIfAbsent(List.of(toEvent(inboxMessage, clock.instant())));
+    }
+
+    @Transactional
+    @Override
+    public <T> int receive(List<T> messages, OutboxInboxMessageExtractor<? super T> extractor) {
+        if (messages == null || messages.isEmpty()) {
+            log.warn("Provided messages list is null or empty");
+            return 0;
+        }
+        Objects.requireNonNull(extractor, "extractor cannot be null");
+
+        Instant receivedAt = clock.instant();
+        Map<UUID, OutboxEvent> events = new LinkedHashMap<>();
+        for (T message : messages) {
+            OutboxInboxMessage inboxMessage = Objects.requireNonNull(extractor.extract(message), "inboxMessage cannot be null");
+            events.putIfAbsent(inboxMessage.id(), toEvent(inboxMessage, receivedAt));
+        }
+        int savedCount = repository.saveBatchIfAbsent(new ArrayList<>(events.values()));
+        log.debug("Inbox received {} messages, savedCount={}", messages.size(), savedCount);
+        return savedCount;
+    }
+
+    private static OutboxEvent toEvent(OutboxInboxMessage message, Instant receivedAt) {
+        return new OutboxEvent(message.id(), message.eventType(), message.payloadType(), message.payload(), receivedAt);
+    }
+}
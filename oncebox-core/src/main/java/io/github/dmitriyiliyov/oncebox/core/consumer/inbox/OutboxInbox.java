@@ -0,0 +1,37 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.inbox;
+
+import java.util.List;
+
+/**
+ * Persist-then-process alternative to {@link io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer}.
+ * <p>
+ * Received messages are only stored in the inbox table, deduplicated by event id, so the listener can acknowledge
+ * them right away. The business logic runs later on inbox workers, which claim stored events in batches and retry
+ * failed ones with backoff, the same way the publisher processes the outbox table.
+ */
+public interface OutboxInbox {
+
+    String TABLE = "outbox_inbox_events";
+
+    /**
+     * Stores the message in the inbox unless an event with the same id was received before.
+     *
+     * @param message   the message to store.
+     * @param extractor the function to convert the message into an inbox message.
+     * @param <T>       the type of the message.
+     * @return          1 if the message was stored, 0 if it is a duplicate.
+     */
+    <T> int receive(T message, OutboxInboxMessageExtractor<? super T> extractor);
+
+    /**
+     * Stores the messages in the inbox with a single batched insert, skipping events that were received before.
+     * <p>
+     * Does nothing and returns 0 if the list is null or empty.
+     *
+     * @param messages  the list of messages to store.
+     * @param extractor the function to convert each message into an inbox message.
+     * @param <T>       the type of the messages.
+     * @return          the number of stored messages.
+     */
+    <T> int receive(List<T> messages, OutboxInboxMessageExtractor<? super T> extractor);
+}
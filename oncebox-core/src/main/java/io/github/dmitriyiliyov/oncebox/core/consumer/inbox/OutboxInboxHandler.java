@@ -0,0 +1,20 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.inbox;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+
+/**
+ * Business logic executed by inbox workers for every stored event.
+ * <p>
+ * Runs in the same transaction that marks the event as processed. Throwing an exception rolls the transaction back
+ * and schedules the event for a retry.
+ */
+@FunctionalInterface
+public interface OutboxInboxHandler {
+
+    /**
+     * Handles a stored event.
+     *
+     * @param event the inbox event; its payload is kept in the serialized form it was received in.
+     */
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,60 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.inbox;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxSender;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link OutboxSender} that delivers claimed inbox events to an {@link OutboxInboxHandler} instead of a broker,
+ * so inbox workers can reuse the publisher processing loop.
+ * <p>
+ * Every event is handled in its own transaction, which also marks the event as processed. The business effect and
+ * the status change are committed together, so a worker crash after the handler ran does not replay the event.
+ * Failed events are reported back and retried with the configured backoff.
+ */
+public class OutboxInboxHandlerSender implements OutboxSender {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxInboxHandlerSender.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRepository repository;
+    private final OutboxInboxHandler handler;
+
+    public OutboxInboxHandlerSender(TransactionTemplate transactionTemplate,
+                                    OutboxRepository repository,
+                                    OutboxInboxHandler handler) {
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate, "transactionTemplate cannot be null");
+        this.repository = Objects.requireNonNull(repository, "repository cannot be null");
+        this.handler = Objects.requireNonNull(handler, "handler cannot be null");
+    }
+
+    @Override
+    public SenderResult sendEvents(String topic, List<OutboxEvent> events) {
+        Set<UUID> processedIds = new HashSet<>();
+        Set<UUID> failedIds = new HashSet<>();
+        for (OutboxEvent event : events) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    handler.handle(event);
+                    repository.updateBatchStatus(Set.of(event.getId()), EventStatus.PROCESSED);
+                });
+                processedIds.add(event.getId());
+            } catch (Exception e) {
+                log.warn("Failed to handle inbox event id={}, eventType={}", event.getId(), event.getEventType(), e);
+                failedIds.add(event.getId());
+            }
+        }
+        return new SenderResult(processedIds, failedIds);
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.inbox;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Raw received event as stored in the inbox table.
+ *
+ * @param id          the outbox event id, used to deduplicate redelivered messages.
+ * @param eventType   the outbox event type, used to route the event to its workers.
+ * @param payloadType the class name of the event payload.
+ * @param payload     the serialized event payload.
+ */
+public record OutboxInboxMessage(
+        UUID id,
+        String eventType,
+        String payloadType,
+        String payload
+) {
+    public OutboxInboxMessage {
+        Objects.requireNonNull(id, "id cannot be null");
+        Objects.requireNonNull(eventType, "eventType cannot be null");
+        Objects.requireNonNull(payloadType, "payloadType cannot be null");
+        Objects.requireNonNull(payload, "payload cannot be null");
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.inbox;
+
+/**
+ * Strategy interface for converting a received raw message into an {@link OutboxInboxMessage}.
+ * <p>
+ * This is used by {@link DefaultOutboxInbox} to read event metadata and payload without knowing the specific
+ * message broker implementation.
+ *
+ * @param <T> The type of the raw message.
+ */
+@FunctionalInterface
+public interface OutboxInboxMessageExtractor<T> {
+
+    /**
+     * Extracts the inbox message from the given raw message.
+     *
+     * @param message the raw message containing the event.
+     * @return        the inbox message.
+     */
+    OutboxInboxMessage extract(T message);
+}
@@ -0,0 +1,41 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Tracks consumed records of ordered, partitioned sources by offset instead of by event ID.
+ * <p>
+ * Records of a partition must be consumed in offset order, which is what a Kafka listener container does per
+ * partition. A record at or below the highest consumed offset of its partition is a redelivery.
+ */
+public interface ConsumedOffsetManager {
+
+    /**
+     * Attempts to mark the record at the given position as consumed.
+     *
+     * @param position the position of the record.
+     * @return         {@code true} if the record was marked as consumed, {@code false} if it was already consumed.
+     */
+    boolean tryConsume(OutboxRecordPosition position);
+
+    /**
+     * Marks unconsumed records as consumed, return already consumed.
+     *
+     * @param positions the positions of the records to filter.
+     * @return          a subset of positions that were already consumed.
+     */
+    Set<OutboxRecordPosition> tryConsumeAndGetDuplicates(Collection<OutboxRecordPosition> positions);
+
+    /**
+     * Removes consumed marks of the given records, so their redelivery is processed again.
+     * Released offsets are kept as exceptions below the watermark, so only a few of them should be pending at once.
+     *
+     * @param positions the positions of the records to release.
+     * @return          the number of released records.
+     * @throws UnsupportedOperationException if the manager cannot release consumed records.
+     */
+    default int release(Collection<OutboxRecordPosition> positions) {
+        throw new UnsupportedOperationException("release is not supported");
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+/**
+ * DAO layer for consumed offset watermarks.
+ * <p>
+ * Keeps one row per source partition instead of one row per consumed event.
+ */
+public interface ConsumedOffsetRepository {
+
+    /**
+     * Moves the watermark of an existing partition row to {@code toOffset} if it is below {@code fromOffset} and the
+     * partition has no released offsets, i.e. if every offset in the range is known to be unconsumed.
+     *
+     * @param sourcePartition the partition to advance.
+     * @param fromOffset      the lowest offset of the consumed range.
+     * @param toOffset        the highest offset of the consumed range.
+     * @return                1 if the watermark was moved, 0 if the row is absent or the range needs a closer look.
+     */
+    int advance(OutboxSourcePartition sourcePartition, long fromOffset, long toOffset);
+
+    /**
+     * Creates the partition row if it does not exist yet and locks it until the end of the current transaction.
+     *
+     * @param sourcePartition the partition to lock.
+     * @return                the current watermark of the partition.
+     */
+    ConsumedOffsetWatermark lock(OutboxSourcePartition sourcePartition);
+
+    /**
+     * Stores the watermark of a partition row previously locked with {@link #lock(OutboxSourcePartition)}.
+     *
+     * @param sourcePartition the partition to update.
+     * @param watermark       the new watermark.
+     */
+    void update(OutboxSourcePartition sourcePartition, ConsumedOffsetWatermark watermark);
+}
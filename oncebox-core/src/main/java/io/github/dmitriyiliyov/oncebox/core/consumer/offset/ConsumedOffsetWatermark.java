@@ -0,0 +1,56 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Consumption state of one source partition.
+ * <p>
+ * Every offset up to and including {@code watermark} is consumed, except the offsets in {@code releasedOffsets}, whose
+ * consumed marks were released so their redelivery is processed again.
+ *
+ * @param watermark       the highest consumed offset, {@code -1} if nothing was consumed yet.
+ * @param releasedOffsets the offsets at or below the watermark that are not consumed.
+ */
+public record ConsumedOffsetWatermark(long watermark, Set<Long> releasedOffsets) {
+
+    public static final ConsumedOffsetWatermark EMPTY = new ConsumedOffsetWatermark(-1, Collections.emptySet());
+
+    public ConsumedOffsetWatermark {
+        Objects.requireNonNull(releasedOffsets, "releasedOffsets cannot be null");
+        releasedOffsets = Collections.unmodifiableSet(new TreeSet<>(releasedOffsets));
+    }
+
+    public boolean isConsumed(long offset) {
+        return offset <= watermark && !releasedOffsets.contains(offset);
+    }
+
+    /**
+     * Encodes released offsets as a comma separated list, {@code null} if there are none.
+     */
+    public String releasedOffsetsToString() {
+        if (releasedOffsets.isEmpty()) {
+            return null;
+        }
+        return releasedOffsets.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Decodes released offsets encoded by {@link #releasedOffsetsToString()}.
+     */
+    public static Set<Long> parseReleasedOffsets(String releasedOffsets) {
+        if (releasedOffsets == null || releasedOffsets.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(releasedOffsets.split(","))
+                .map(String::trim)
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * {@link ConsumedOffsetManager} that keeps a watermark per source partition.
+ * <p>
+ * A range of offsets above the watermark of a partition without released offsets is marked as consumed with a single
+ * conditional update. Otherwise the partition row is locked and every offset is compared against the watermark and its
+ * released offsets. Partitions are processed in {@link OutboxSourcePartition#ORDER}, so concurrent batches spanning
+ * the same partitions do not deadlock.
+ */
+public class DefaultConsumedOffsetManager implements ConsumedOffsetManager {
+
+    public static final int DEFAULT_MAX_RELEASED_OFFSETS = 128;
+
+    protected final ConsumedOffsetRepository repository;
+    protected final int maxReleasedOffsets;
+
+    public DefaultConsumedOffsetManager(ConsumedOffsetRepository repository) {
+        this(repository, DEFAULT_MAX_RELEASED_OFFSETS);
+    }
+
+    public DefaultConsumedOffsetManager(ConsumedOffsetRepository repository, int maxReleasedOffsets) {
+        this.repository = Objects.requireNonNull(repository, "repository cannot be null");
+        if (maxReleasedOffsets <= 0) {
+            throw new IllegalArgumentException("maxReleasedOffsets should be positive");
+        }
+        this.maxReleasedOffsets = maxReleasedOffsets;
+    }
+
+    @Transactional
+    @Override
+    public boolean tryConsume(OutboxRecordPosition position) {
+        Objects.requireNonNull(position, "position cannot be null");
+        return tryConsumeAndGetDuplicates(List.of(position)).isEmpty();
+    }
+
+    @Transactional
+    @Override
+    public Set<OutboxRecordPosition> tryConsumeAndGetDuplicates(Collection<OutboxRecordPosition> positions) {
+        if (positions == null || positions.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<OutboxRecordPosition> duplicates = new HashSet<>();
+        groupByPartition(positions).forEach((sourcePartition, offsets) -> {
+            if (repository.advance(sourcePartition, offsets.first(), offsets.last()) == 1) {
+                return;
+            }
+            ConsumedOffsetWatermark current = repository.lock(sourcePartition);
+            Set<Long> releasedOffsets = new HashSet<>(current.releasedOffsets());
+            for (long offset : offsets) {
+                if (offset <= current.watermark() && !releasedOffsets.remove(offset)) {
+                    duplicates.add(new OutboxRecordPosition(sourcePartition, offset));
+                }
+            }
+            long watermark = Math.max(current.watermark(), offsets.last());
+            if (watermark != current.watermark() || releasedOffsets.size() != current.releasedOffsets().size()) {
+                repository.update(sourcePartition, new ConsumedOffsetWatermark(watermark, releasedOffsets));
+            }
+        });
+        return duplicates;
+    }
+
+    @Transactional
+    @Override
+    public int release(Collection<OutboxRecordPosition> positions) {
+        if (positions == null || positions.isEmpty()) {
+            return 0;
+        }
+        int released = 0;
+        for (Map.Entry<OutboxSourcePartition, NavigableSet<Long>> entry : groupByPartition(positions).entrySet()) {
+            OutboxSourcePartition sourcePartition = entry.getKey();
+            ConsumedOffsetWatermark current = repository.lock(sourcePartition);
+            Set<Long> releasedOffsets = new HashSet<>(current.releasedOffsets());
+            int partitionReleased = 0;
+            for (long offset : entry.getValue()) {
+                if (offset <= current.watermark() && releasedOffsets.add(offset)) {
+                    partitionReleased++;
+                }
+            }
+            if (partitionReleased == 0) {
+                continue;
+            }
+            if (releasedOffsets.size() > maxReleasedOffsets) {
+                throw new IllegalStateException("Cannot release more than %d offsets of %s"
+                        .formatted(maxReleasedOffsets, sourcePartition));
+            }
+            repository.update(sourcePartition, new ConsumedOffsetWatermark(current.watermark(), releasedOffsets));
+            released += partitionReleased;
+        }
+        return released;
+    }
+
+    private static SortedMap<OutboxSourcePartition, NavigableSet<Long>> groupByPartition(
+            Collection<OutboxRecordPosition> positions) {
+        SortedMap<OutboxSourcePartition, NavigableSet<Long>> offsetsByPartition = new TreeMap<>(OutboxSourcePartition.ORDER);
+        for (OutboxRecordPosition position : positions) {
+            offsetsByPartition.computeIfAbsent(position.sourcePartition(), p -> new TreeSet<>()).add(position.offset());
+        }
+        return offsetsByPartition;
+    }
+}
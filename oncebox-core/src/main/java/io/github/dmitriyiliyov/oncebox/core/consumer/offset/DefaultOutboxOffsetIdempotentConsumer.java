@@ -0,0 +1,96 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxConsumerDedupeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class DefaultOutboxOffsetIdempotentConsumer implements OutboxOffsetIdempotentConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(DefaultOutboxOffsetIdempotentConsumer.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final ConsumedOffsetManager consumedOffsetManager;
+
+    public DefaultOutboxOffsetIdempotentConsumer(TransactionTemplate transactionTemplate,
+                                                 ConsumedOffsetManager consumedOffsetManager) {
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate, "transactionTemplate cannot be null");
+        this.consumedOffsetManager = Objects.requireNonNull(consumedOffsetManager, "consumedOffsetManager cannot be null");
+    }
+
+    @Override
+    public <T> void consume(T message, OutboxRecordPositionExtractor<? super T> positionExtractor, Consumer<T> operation) {
+        Objects.requireNonNull(message, "message cannot be null");
+        Objects.requireNonNull(positionExtractor, "positionExtractor cannot be null");
+        Objects.requireNonNull(operation, "operation cannot be null");
+        OutboxRecordPosition position = positionExtractor.extract(message);
+        Objects.requireNonNull(position, "position cannot be null");
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (tryConsume(position)) {
+                    operation.accept(message);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to check idempotency and execute operation for position: {}", position, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> void consume(List<T> messages, OutboxRecordPositionExtractor<? super T> positionExtractor,
+                            Consumer<List<T>> operation) {
+        if (messages == null || messages.isEmpty()) {
+            log.warn("Provided messages list is null or empty");
+            return;
+        }
+        Objects.requireNonNull(positionExtractor, "positionExtractor cannot be null");
+        Objects.requireNonNull(operation, "operation cannot be null");
+
+        List<OutboxRecordPosition> positions = messages.stream()
+                .<OutboxRecordPosition>map(positionExtractor::extract)
+                .toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<OutboxRecordPosition> duplicates = tryConsumeAndGetDuplicates(positions);
+                List<T> validMessages = new ArrayList<>(messages.size() - duplicates.size());
+                for (int i = 0; i < messages.size(); i++) {
+                    if (!duplicates.contains(positions.get(i))) {
+                        validMessages.add(messages.get(i));
+                    }
+                }
+                if (validMessages.isEmpty()) {
+                    log.info("Messages list is empty after filtering out duplicates");
+                    return;
+                }
+                operation.accept(validMessages);
+            });
+        } catch (Exception e) {
+            log.error("Failed to check batch idempotency and execute operation for positions: {}", positions, e);
+            throw e;
+        }
+    }
+
+    private boolean tryConsume(OutboxRecordPosition position) {
+        OutboxConsumerDedupeEvent dedupeEvent = new OutboxConsumerDedupeEvent();
+        dedupeEvent.begin();
+        boolean consumed = consumedOffsetManager.tryConsume(position);
+        dedupeEvent.finish(1, consumed ? 0 : 1);
+        return consumed;
+    }
+
+    private Set<OutboxRecordPosition> tryConsumeAndGetDuplicates(List<OutboxRecordPosition> positions) {
+        OutboxConsumerDedupeEvent dedupeEvent = new OutboxConsumerDedupeEvent();
+        dedupeEvent.begin();
+        Set<OutboxRecordPosition> duplicates = consumedOffsetManager.tryConsumeAndGetDuplicates(positions);
+        dedupeEvent.finish(positions.size(), duplicates.size());
+        return duplicates;
+    }
+}
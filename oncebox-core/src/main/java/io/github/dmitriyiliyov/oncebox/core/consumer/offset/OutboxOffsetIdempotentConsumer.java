@@ -0,0 +1,38 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Ensures idempotent message consumption from ordered, partitioned sources by tracking consumed offsets.
+ * <p>
+ * Unlike {@link io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer} no row is written per event:
+ * the offset watermark of the record's partition is moved in the same transaction as the business effect. Redelivered
+ * records are detected, but an event published twice lands at two offsets and is processed twice.
+ */
+public interface OutboxOffsetIdempotentConsumer {
+
+    /**
+     * Executes the operation only if the record at the message position has not been consumed before.
+     *
+     * @param message           the message to consume.
+     * @param positionExtractor the function to extract the source position from the message.
+     * @param operation         the business logic to execute with the message if it is new.
+     * @param <T>               the type of the message.
+     */
+    <T> void consume(T message, OutboxRecordPositionExtractor<? super T> positionExtractor, Consumer<T> operation);
+
+    /**
+     * Executes the operation for the subset of messages whose records have not been consumed before.
+     * <p>
+     * If all messages have already been consumed, the operation is not called at all.
+     * Does nothing if the list is null or empty.
+     *
+     * @param messages          the list of messages to consume.
+     * @param positionExtractor the function to extract the source position from each message.
+     * @param operation         the business logic to execute with the list of new messages.
+     * @param <T>               the type of the messages.
+     */
+    <T> void consume(List<T> messages, OutboxRecordPositionExtractor<? super T> positionExtractor,
+                     Consumer<List<T>> operation);
+}
@@ -0,0 +1,23 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import java.util.Objects;
+
+/**
+ * Position of a received record in an ordered source.
+ *
+ * @param sourcePartition the partition the record was received from.
+ * @param offset          the offset of the record within the partition.
+ */
+public record OutboxRecordPosition(OutboxSourcePartition sourcePartition, long offset) {
+
+    public OutboxRecordPosition {
+        Objects.requireNonNull(sourcePartition, "sourcePartition cannot be null");
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset cannot be negative");
+        }
+    }
+
+    public OutboxRecordPosition(String group, String topic, int partition, long offset) {
+        this(new OutboxSourcePartition(group, topic, partition), offset);
+    }
+}
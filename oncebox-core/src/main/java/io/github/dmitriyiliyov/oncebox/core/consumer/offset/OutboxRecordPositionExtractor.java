@@ -0,0 +1,21 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+/**
+ * Strategy interface for resolving the source position of a received message.
+ * <p>
+ * This is used by {@link DefaultOutboxOffsetIdempotentConsumer} to read record metadata without knowing the specific
+ * message broker implementation.
+ *
+ * @param <T> The type of the raw message from which to resolve the position.
+ */
+@FunctionalInterface
+public interface OutboxRecordPositionExtractor<T> {
+
+    /**
+     * Extracts the source position of the given raw message.
+     *
+     * @param message the raw message.
+     * @return        the position of the message in its source.
+     */
+    OutboxRecordPosition extract(T message);
+}
@@ -0,0 +1,36 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Partition of an ordered source as seen by one consumer group, e.g. a Kafka topic partition.
+ *
+ * @param group     the consumer group.
+ * @param topic     the topic the partition belongs to.
+ * @param partition the partition number.
+ */
+public record OutboxSourcePartition(String group, String topic, int partition) {
+
+    /**
+     * Orders partitions by group, topic and partition number, so rows are always locked in the same order.
+     */
+    public static final Comparator<OutboxSourcePartition> ORDER = Comparator
+            .comparing(OutboxSourcePartition::group)
+            .thenComparing(OutboxSourcePartition::topic)
+            .thenComparingInt(OutboxSourcePartition::partition);
+
+    public OutboxSourcePartition {
+        Objects.requireNonNull(group, "group cannot be null");
+        Objects.requireNonNull(topic, "topic cannot be null");
+        if (group.isBlank()) {
+            throw new IllegalArgumentException("group cannot be blank");
+        }
+        if (topic.isBlank()) {
+            throw new IllegalArgumentException("topic cannot be blank");
+        }
+        if (partition < 0) {
+            throw new IllegalArgumentException("partition cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.parallel;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventIdExtractor;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+
+/**
+ * Fans a received batch out to an executor while keeping messages with equal ordering keys in their received order.
+ * <ul>
+ *
+ *     <li>messages are grouped by {@link OutboxOrderingKeyExtractor key}; every group runs sequentially on its own
+ *     task, groups run in parallel. Messages with a null key form groups of their own.</li>
+ *
+ *     <li>every message goes through {@link OutboxIdempotentConsumer#consume(Object, OutboxEventIdExtractor, Consumer)},
+ *     so it is deduplicated through the consumed table and committed in its own transaction.</li>
+ *
+ *     <li>when a message fails, the rest of its group is not attempted, so a later message of the same key never
+ *     overtakes it.</li>
+ *
+ *     <li>at most {@code maxConcurrency} groups run at once, which should not exceed the connection pool size.</li>
+ *
+ * </ul>
+ * The call returns once every group has finished, with the {@link OutboxParallelConsumeResult completion state}
+ * the listener uses to acknowledge the batch. Built for a virtual-thread-per-task executor, where blocking on the
+ * concurrency limit is cheap.
+ */
+public class KeyOrderedOutboxConsumerExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyOrderedOutboxConsumerExecutor.class);
+
+    private final OutboxIdempotentConsumer consumer;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public KeyOrderedOutboxConsumerExecutor(OutboxIdempotentConsumer consumer, ExecutorService executor,
+                                            int maxConcurrency) {
+        this.consumer = Objects.requireNonNull(consumer, "consumer cannot be null");
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency should be positive");
+        }
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Consumes the messages in parallel across ordering keys and waits for all of them.
+     * <p>
+     * Returns an empty result if the list is null or empty. If the calling thread is interrupted while waiting, the
+     * running groups are cancelled, the interrupt flag is restored and messages that have not completed yet are
+     * reported as not completed.
+     *
+     * @param messages     the list of messages to consume.
+     * @param idExtractor  the function to extract the unique identifier from each message.
+     * @param keyExtractor the function to extract the ordering key from each message.
+     * @param operation    the business logic to execute with every new message.
+     * @param <T>          the type of the messages.
+     * @return             the completion state of every message.
+     */
+    public <T> OutboxParallelConsumeResult consume(List<T> messages,
+                                                   OutboxEventIdExtractor<T> idExtractor,
+                                                   OutboxOrderingKeyExtractor<? super T> keyExtractor,
+                                                   Consumer<T> operation) {
+        if (messages == null || messages.isEmpty()) {
+            log.warn("Provided messages list is null or empty");
+            return new OutboxParallelConsumeResult(new boolean[0], Map.of());
+        }
+        Objects.requireNonNull(idExtractor, "idExtractor cannot be null");
+        Objects.requireNonNull(keyExtractor, "keyExtractor cannot be null");
+        Objects.requireNonNull(operation, "operation cannot be null");
+
+        AtomicIntegerArray completed = new AtomicIntegerArray(messages.size());
+        Map<Integer, Throwable> failures = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<Integer> group : groupByKey(messages, keyExtractor)) {
+            futures.add(executor.submit(() -> consumeGroup(messages, group, idExtractor, operation, completed, failures)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Unexpected failure of a key-ordered consumer group", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+        }
+        return snapshot(completed, failures);
+    }
+
+    private <T> void consumeGroup(List<T> messages,
+                                  List<Integer> group,
+                                  OutboxEventIdExtractor<T> idExtractor,
+                                  Consumer<T> operation,
+                                  AtomicIntegerArray completed,
+                                  Map<Integer, Throwable> failures) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            for (int i = 0; i < group.size(); i++) {
+                int index = group.get(i);
+                try {
+                    consumer.consume(messages.get(index), idExtractor, operation);
+                    completed.set(index, 1);
+                } catch (Exception e) {
+                    log.warn("Failed to consume message at index={}, skipping {} following messages of its key",
+                            index, group.size() - i - 1, e);
+                    failures.put(index, e);
+                    return;
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static <T> List<List<Integer>> groupByKey(List<T> messages, OutboxOrderingKeyExtractor<? super T> keyExtractor) {
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        List<List<Integer>> result = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            Object key = keyExtractor.extract(messages.get(i));
+            if (key == null) {
+                result.add(List.of(i));
+            } else {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+        result.addAll(groups.values());
+        return result;
+    }
+
+    private static OutboxParallelConsumeResult snapshot(AtomicIntegerArray completed, Map<Integer, Throwable> failures) {
+        boolean[] result = new boolean[completed.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = completed.get(i) == 1;
+        }
+        return new OutboxParallelConsumeResult(result, Map.copyOf(failures));
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.parallel;
+
+/**
+ * Strategy interface for resolving the ordering key of a received message.
+ * <p>
+ * This is used by {@link KeyOrderedOutboxConsumerExecutor} to keep messages with equal keys, such as the same record
+ * key or aggregate id, in their received order while messages with different keys are processed in parallel.
+ *
+ * @param <T> The type of the raw message from which to resolve the key.
+ */
+@FunctionalInterface
+public interface OutboxOrderingKeyExtractor<T> {
+
+    /**
+     * Extracts the ordering key of the given raw message.
+     *
+     * @param message the raw message.
+     * @return        the ordering key compared with {@code equals}, or null if the message has no ordering constraint.
+     */
+    Object extract(T message);
+}
@@ -0,0 +1,65 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.parallel;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Completion state of a batch consumed by {@link KeyOrderedOutboxConsumerExecutor}, indexed like the consumed list.
+ * <p>
+ * Only completed messages may be acknowledged. {@link #getCommittableCount()} is the length of the completed prefix,
+ * so acknowledging the batch up to that index is safe even when later messages of other keys have completed too;
+ * they are redelivered and skipped by the consumed table.
+ */
+public final class OutboxParallelConsumeResult {
+
+    private final boolean[] completed;
+    private final Map<Integer, Throwable> failures;
+
+    OutboxParallelConsumeResult(boolean[] completed, Map<Integer, Throwable> failures) {
+        this.completed = completed;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    public int size() {
+        return completed.length;
+    }
+
+    /**
+     * Returns true if every message of the batch was consumed or skipped as a duplicate.
+     */
+    public boolean isCompleted() {
+        return getCommittableCount() == completed.length;
+    }
+
+    public boolean isCompleted(int index) {
+        return completed[index];
+    }
+
+    /**
+     * Returns the number of leading messages that completed, i.e. the index of the first message to redeliver.
+     */
+    public int getCommittableCount() {
+        int count = 0;
+        while (count < completed.length && completed[count]) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the failure of every message whose operation threw, by index. Messages after a failed one with the same
+     * ordering key are not attempted and have no entry.
+     */
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxParallelConsumeResult{" +
+                "size=" + completed.length +
+                ", committableCount=" + getCommittableCount() +
+                ", failures=" + failures.keySet() +
+                '}';
+    }
+}
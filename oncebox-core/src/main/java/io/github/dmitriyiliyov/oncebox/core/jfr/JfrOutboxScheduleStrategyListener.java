@@ -0,0 +1,45 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategyListener;
+
+import java.util.Objects;
+
+/**
+ * Decorates a {@link OutboxScheduleStrategyListener} to emit {@link OutboxScheduleDelayChangedEvent}.
+ */
+public class JfrOutboxScheduleStrategyListener implements OutboxScheduleStrategyListener {
+
+    private final String taskType;
+    private final OutboxScheduleStrategyListener delegate;
+
+    public JfrOutboxScheduleStrategyListener(String taskType, OutboxScheduleStrategyListener delegate) {
+        this.taskType = Objects.requireNonNull(taskType, "taskType cannot be null");
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+    }
+
+    @Override
+    public void onExecutionStarted() {
+        delegate.onExecutionStarted();
+    }
+
+    @Override
+    public void onExecutionSkipped() {
+        delegate.onExecutionSkipped();
+    }
+
+    @Override
+    public void onExecutionSucceeded() {
+        delegate.onExecutionSucceeded();
+    }
+
+    @Override
+    public void onExecutionFailed() {
+        delegate.onExecutionFailed();
+    }
+
+    @Override
+    public void onDelayChanged(long delay) {
+        delegate.onDelayChanged(delay);
+        new OutboxScheduleDelayChangedEvent().finish(taskType, delay);
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted once a polling cycle claimed a batch, its duration is the time spent in the claim query.
+ */
+@Name("io.github.dmitriyiliyov.oncebox.BatchClaimed")
+@Label("Outbox Batch Claimed")
+@Category({"Oncebox", "Publisher"})
+@Description("Claim of a batch of pending outbox events")
+public class OutboxBatchClaimedEvent extends jdk.jfr.Event {
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Requested Size")
+    int requestedSize;
+
+    @Label("Claimed Size")
+    int claimedSize;
+
+    public void finish(String eventType, int requestedSize, int claimedSize) {
+        end();
+        if (shouldCommit()) {
+            this.eventType = eventType;
+            this.requestedSize = requestedSize;
+            this.claimedSize = claimedSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted once a sent batch was finalized or released, its duration is the time spent in the finalizing updates.
+ */
+@Name("io.github.dmitriyiliyov.oncebox.BatchFinalized")
+@Label("Outbox Batch Finalized")
+@Category({"Oncebox", "Publisher"})
+@Description("Status update of a sent outbox batch")
+public class OutboxBatchFinalizedEvent extends jdk.jfr.Event {
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Processed")
+    int processed;
+
+    @Label("Failed")
+    int failed;
+
+    @Label("Released")
+    @Description("Whether the batch was released without retry because its destination is unavailable")
+    boolean released;
+
+    public void finish(String eventType, int processed, int failed, boolean released) {
+        end();
+        if (shouldCommit()) {
+            this.eventType = eventType;
+            this.processed = processed;
+            this.failed = failed;
+            this.released = released;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted once a claimed batch was handed to the sender, its duration is the time until broker acknowledgements.
+ */
+@Name("io.github.dmitriyiliyov.oncebox.BatchSent")
+@Label("Outbox Batch Sent")
+@Category({"Oncebox", "Publisher"})
+@Description("Send of a claimed outbox batch to the broker")
+public class OutboxBatchSentEvent extends jdk.jfr.Event {
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Topic")
+    String topic;
+
+    @Label("Size")
+    int size;
+
+    @Label("Failures")
+    int failures;
+
+    public void finish(String eventType, String topic, int size, int failures) {
+        end();
+        if (shouldCommit()) {
+            this.eventType = eventType;
+            this.topic = topic;
+            this.size = size;
+            this.failures = failures;
+            commit();
+        }
+    }
+}
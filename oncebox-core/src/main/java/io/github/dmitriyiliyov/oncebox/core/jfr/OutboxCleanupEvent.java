@@ -0,0 +1,40 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted once a cleanup task deleted a batch of expired rows.
+ */
+@Name("io.github.dmitriyiliyov.oncebox.Cleanup")
+@Label("Outbox Cleanup")
+@Category("Oncebox")
+@Description("Deletion of a batch of expired rows by a cleanup task")
+public class OutboxCleanupEvent extends jdk.jfr.Event {
+
+    public static final String OUTBOX = "outbox_events";
+    public static final String DLQ = "outbox_dlq_events";
+    public static final String CONSUMED = "outbox_consumed_events";
+    public static final String INBOX = "outbox_inbox_events";
+
+    @Label("Table")
+    String table;
+
+    @Label("Requested Size")
+    int requestedSize;
+
+    @Label("Deleted")
+    int deleted;
+
+    public void finish(String table, int requestedSize, int deleted) {
+        end();
+        if (shouldCommit()) {
+            this.table = table;
+            this.requestedSize = requestedSize;
+            this.deleted = deleted;
+            commit();
+        }
+    }
+}
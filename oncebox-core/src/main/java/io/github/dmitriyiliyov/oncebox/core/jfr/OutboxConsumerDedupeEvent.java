@@ -0,0 +1,33 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted once the idempotent consumer checked received events against already consumed ones,
+ * its duration is the time spent in the check.
+ */
+@Name("io.github.dmitriyiliyov.oncebox.ConsumerDedupe")
+@Label("Outbox Consumer Dedupe")
+@Category({"Oncebox", "Consumer"})
+@Description("Idempotency check of received outbox events")
+public class OutboxConsumerDedupeEvent extends jdk.jfr.Event {
+
+    @Label("Received")
+    int received;
+
+    @Label("Duplicates")
+    @Description("Number of received events rejected as already consumed, a dedupe hit")
+    int duplicates;
+
+    public void finish(int received, int duplicates) {
+        end();
+        if (shouldCommit()) {
+            this.received = received;
+            this.duplicates = duplicates;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted once a batch was moved between the outbox and the DLQ.
+ */
+@Name("io.github.dmitriyiliyov.oncebox.DlqTransfer")
+@Label("Outbox DLQ Transfer")
+@Category({"Oncebox", "Publisher"})
+@Description("Transfer of a batch between outbox_events and outbox_dlq_events")
+public class OutboxDlqTransferEvent extends jdk.jfr.Event {
+
+    public static final String TO_DLQ = "to_dlq";
+    public static final String FROM_DLQ = "from_dlq";
+
+    @Label("Direction")
+    String direction;
+
+    @Label("Requested Size")
+    int requestedSize;
+
+    @Label("Transferred")
+    int transferred;
+
+    public void finish(String direction, int requestedSize, int transferred) {
+        end();
+        if (shouldCommit()) {
+            this.direction = direction;
+            this.requestedSize = requestedSize;
+            this.transferred = transferred;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Emitted when a schedule strategy changes the delay before the next execution of a task.
+ */
+@Name("io.github.dmitriyiliyov.oncebox.ScheduleDelayChanged")
+@Label("Outbox Schedule Delay Changed")
+@Category("Oncebox")
+@Description("Delay change of an outbox polling or background task")
+public class OutboxScheduleDelayChangedEvent extends jdk.jfr.Event {
+
+    @Label("Task Type")
+    String taskType;
+
+    @Label("Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    long delay;
+
+    public void finish(String taskType, long delay) {
+        if (shouldCommit()) {
+            this.taskType = taskType;
+            this.delay = delay;
+            commit();
+        }
+    }
+}
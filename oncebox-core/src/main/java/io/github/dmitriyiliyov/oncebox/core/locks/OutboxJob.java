@@ -3,7 +3,9 @@ package io.github.dmitriyiliyov.oncebox.core.locks;
 public enum OutboxJob {
     OUTBOX_PROCESSED_CLEANUP("outbox-processed-cleanup"),
     OUTBOX_DLQ_CLEANUP("outbox-dlq-cleanup"),
-    OUTBOX_CONSUMED_CLEANUP("outbox-consumed-cleanup");
+    OUTBOX_CONSUMED_CLEANUP("outbox-consumed-cleanup"),
+    OUTBOX_INBOX_CLEANUP("outbox-inbox-cleanup"),
+    OUTBOX_GAUGE_REFRESH("outbox-gauge-refresh");
 
     private final String jobName;
 
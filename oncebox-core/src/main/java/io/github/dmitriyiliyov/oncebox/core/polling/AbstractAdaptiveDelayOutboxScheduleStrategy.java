@@ -0,0 +1,112 @@
+package io.github.dmitriyiliyov.oncebox.core.polling;
+
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Base {@link OutboxScheduleStrategy} that schedules the next execution once the previous one has finished,
+ * with a delay computed by the subclass from the outcome of the execution.
+ * <p>
+ * At most one execution of the task is scheduled at a time; a concurrent attempt to schedule it is skipped.
+ */
+public abstract class AbstractAdaptiveDelayOutboxScheduleStrategy implements OutboxScheduleStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractAdaptiveDelayOutboxScheduleStrategy.class);
+
+    protected final ScheduledExecutorService executor;
+    protected final OutboxScheduleStrategyListener listener;
+    private final AtomicBoolean taskInProcess;
+
+    protected AbstractAdaptiveDelayOutboxScheduleStrategy(ScheduledExecutorService executor,
+                                                          OutboxScheduleStrategyListener listener) {
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+        this.taskInProcess = new AtomicBoolean(false);
+    }
+
+    @Override
+    public void scheduleExecution(ContinuableTask task) {
+        scheduleExecution(task, ContinuableTaskExecutor.direct());
+    }
+
+    @Override
+    public void scheduleExecution(ContinuableTask task, ContinuableTaskExecutor taskExecutor) {
+        Objects.requireNonNull(taskExecutor, "taskExecutor cannot be null");
+        scheduleNext(task, taskExecutor, getInitialDelay());
+    }
+
+    /**
+     * Returns the delay before the first execution, in milliseconds.
+     */
+    protected abstract long getInitialDelay();
+
+    /**
+     * Called right before every execution of the task.
+     */
+    protected void beforeExecution() { }
+
+    /**
+     * Returns the delay before the next execution, in milliseconds.
+     *
+     * @param shouldContinue whether the finished execution returned {@code true}.
+     */
+    protected abstract long nextDelay(boolean shouldContinue);
+
+    private void scheduleNext(ContinuableTask task, ContinuableTaskExecutor taskExecutor, long delay) {
+        if (executor.isShutdown() || !taskInProcess.compareAndSet(false, true)) {
+            listener.onExecutionSkipped();
+            return;
+        }
+        try {
+            executor.schedule(
+                    () -> {
+                        try {
+                            executeTask(task, taskExecutor);
+                        } catch (Throwable t) {
+                            log.error("Exception in scheduled execution", t);
+                        }
+                    },
+                    delay,
+                    TimeUnit.MILLISECONDS
+            );
+        } catch (RejectedExecutionException e) {
+            taskInProcess.set(false);
+            log.warn("Executor rejected scheduling, likely shutting down", e);
+        }
+    }
+
+    private void executeTask(ContinuableTask task, ContinuableTaskExecutor taskExecutor) {
+        beforeExecution();
+        listener.onExecutionStarted();
+        taskExecutor.execute(task, (shouldContinue, error) -> onExecuted(task, taskExecutor, shouldContinue, error));
+    }
+
+    private void onExecuted(ContinuableTask task,
+                            ContinuableTaskExecutor taskExecutor,
+                            boolean shouldContinue,
+                            Throwable error) {
+        try {
+            if (error == null) {
+                listener.onExecutionSucceeded();
+            } else {
+                listener.onExecutionFailed();
+                log.error("Exception while executing task", error);
+            }
+        } finally {
+            long delay = nextDelay(error == null && shouldContinue);
+            listener.onDelayChanged(delay);
+            taskInProcess.set(false);
+            if (!executor.isShutdown()) {
+                scheduleNext(task, taskExecutor, delay);
+            }
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package io.github.dmitriyiliyov.oncebox.core.polling;
 
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -43,4 +45,43 @@ public class FixedOutboxScheduleStrategy implements OutboxScheduleStrategy {
                 TimeUnit.MILLISECONDS
         );
     }
+
+    /**
+     * Schedules each next execution with the fixed delay once the executor has reported the outcome
+     * of the previous one, the same as {@link ScheduledExecutorService#scheduleWithFixedDelay}.
+     */
+    @Override
+    public void scheduleExecution(ContinuableTask task, ContinuableTaskExecutor taskExecutor) {
+        Objects.requireNonNull(taskExecutor, "taskExecutor cannot be null");
+        listener.onDelayChanged(properties.getFixedDelay().toMillis());
+        scheduleNext(task, taskExecutor, properties.getInitialDelay().toMillis());
+    }
+
+    private void scheduleNext(ContinuableTask task, ContinuableTaskExecutor taskExecutor, long delay) {
+        try {
+            executor.schedule(
+                    () -> {
+                        listener.onExecutionStarted();
+                        taskExecutor.execute(task, (shouldContinue, error) -> {
+                            try {
+                                if (error == null) {
+                                    listener.onExecutionSucceeded();
+                                } else {
+                                    listener.onExecutionFailed();
+                                    log.error("Exception in scheduled execution", error);
+                                }
+                            } finally {
+                                if (!executor.isShutdown()) {
+                                    scheduleNext(task, taskExecutor, properties.getFixedDelay().toMillis());
+                                }
+                            }
+                        });
+                    },
+                    delay,
+                    TimeUnit.MILLISECONDS
+            );
+        } catch (RejectedExecutionException e) {
+            log.warn("Executor rejected scheduling, likely shutting down", e);
+        }
+    }
 }
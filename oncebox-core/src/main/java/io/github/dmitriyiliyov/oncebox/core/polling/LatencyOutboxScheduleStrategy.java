@@ -0,0 +1,108 @@
+package io.github.dmitriyiliyov.oncebox.core.polling;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxBatchListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * {@link OutboxScheduleStrategy} that keeps the latency between event creation and sending near a target.
+ * <p>
+ * After every execution a PID controller adjusts the delay within {@code [minFixedDelay, maxFixedDelay]} by the
+ * normalized error between the age of the oldest sent event and {@code targetLatency}. An empty poll counts as
+ * zero latency, so idle event types drift towards {@code maxFixedDelay}, while event types that fall behind the
+ * target drift towards {@code minFixedDelay}. A full batch is followed by an immediate execution, as in
+ * {@link AdaptiveOutboxScheduleStrategy}.
+ * <p>
+ * The strategy learns the latency through {@link OutboxBatchListener}, so it should be passed to
+ * {@link io.github.dmitriyiliyov.oncebox.core.publisher.OutboxProcessor#process(io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder.EventPropertiesHolder, int, OutboxBatchListener)}.
+ */
+public class LatencyOutboxScheduleStrategy extends AbstractAdaptiveDelayOutboxScheduleStrategy implements OutboxBatchListener {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyOutboxScheduleStrategy.class);
+    private static final double MAX_INTEGRAL = 10.0;
+
+    private final LatencyPollingPropertiesHolder properties;
+    private final Clock clock;
+    private final long minFixedDelay;
+    private final long maxFixedDelay;
+    private final double targetLatency;
+    private final double proportionalGain;
+    private final double integralGain;
+    private final double derivativeGain;
+    private volatile long controlledDelay;
+    private volatile long observedLatency;
+    private double integral;
+    private double previousError;
+
+    public LatencyOutboxScheduleStrategy(LatencyPollingPropertiesHolder properties,
+                                         ScheduledExecutorService executor,
+                                         OutboxScheduleStrategyListener listener,
+                                         Clock clock) {
+        super(executor, listener);
+        this.properties = Objects.requireNonNull(properties, "properties cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        this.minFixedDelay = properties.getMinFixedDelay().toMillis();
+        this.maxFixedDelay = properties.getMaxFixedDelay().toMillis();
+        if (minFixedDelay > maxFixedDelay) {
+            throw new IllegalArgumentException("minFixedDelay cannot be greater than maxFixedDelay");
+        }
+        Duration target = Objects.requireNonNull(properties.getTargetLatency(), "targetLatency cannot be null");
+        if (target.isNegative() || target.isZero()) {
+            throw new IllegalArgumentException("targetLatency should be positive");
+        }
+        this.targetLatency = target.toMillis();
+        this.proportionalGain = properties.getProportionalGain();
+        this.integralGain = properties.getIntegralGain();
+        this.derivativeGain = properties.getDerivativeGain();
+        this.controlledDelay = minFixedDelay;
+    }
+
+    @Override
+    public void onBatchSent(int batchSize, List<OutboxEvent> events, SenderResult result, Duration sendDuration) {
+        Instant now = clock.instant();
+        long latency = events.stream()
+                .map(OutboxEvent::getCreatedAt)
+                .filter(Objects::nonNull)
+                .mapToLong(createdAt -> Duration.between(createdAt, now).toMillis())
+                .max()
+                .orElse(0);
+        observedLatency = Math.max(observedLatency, latency);
+    }
+
+    @Override
+    protected long getInitialDelay() {
+        return properties.getInitialDelay().toMillis();
+    }
+
+    @Override
+    protected void beforeExecution() {
+        observedLatency = 0;
+    }
+
+    @Override
+    protected long nextDelay(boolean shouldContinue) {
+        long delay = adjustDelay(observedLatency);
+        return shouldContinue ? minFixedDelay : delay;
+    }
+
+    private long adjustDelay(long latency) {
+        double error = (latency - targetLatency) / targetLatency;
+        integral = Math.clamp(integral + error, -MAX_INTEGRAL, MAX_INTEGRAL);
+        double derivative = error - previousError;
+        previousError = error;
+        double output = proportionalGain * error + integralGain * integral + derivativeGain * derivative;
+        long delay = (long) (Math.max(controlledDelay, 1) * Math.exp(-output));
+        controlledDelay = Math.clamp(delay, minFixedDelay, maxFixedDelay);
+        log.debug("Schedule strategy adapted, latency={}ms, current delay is {}ms", latency, controlledDelay);
+        return controlledDelay;
+    }
+}
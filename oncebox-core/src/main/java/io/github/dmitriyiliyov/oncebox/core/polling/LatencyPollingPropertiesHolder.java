@@ -0,0 +1,41 @@
+package io.github.dmitriyiliyov.oncebox.core.polling;
+
+import java.time.Duration;
+
+public interface LatencyPollingPropertiesHolder {
+
+    /**
+     * The initial delay before the first processing.
+     */
+    Duration getInitialDelay();
+
+    /**
+     * The min fixed delay between subsequent processing operations.
+     */
+    Duration getMinFixedDelay();
+
+    /**
+     * The max fixed delay between subsequent processing operations.
+     */
+    Duration getMaxFixedDelay();
+
+    /**
+     * The target latency between event creation and its sending.
+     */
+    Duration getTargetLatency();
+
+    /**
+     * The proportional gain of the delay controller.
+     */
+    Double getProportionalGain();
+
+    /**
+     * The integral gain of the delay controller.
+     */
+    Double getIntegralGain();
+
+    /**
+     * The derivative gain of the delay controller.
+     */
+    Double getDerivativeGain();
+}
@@ -1,6 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.core.polling;
 
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
 
 public interface OutboxScheduleStrategy {
 
@@ -10,4 +11,13 @@ public interface OutboxScheduleStrategy {
      * @param task the task to be scheduled. Its execution continues as long as it returns {@code true}.
      */
     void scheduleExecution(ContinuableTask task);
+
+    /**
+     * Schedules the given task for execution through the given executor. The scheduling thread only hands
+     * the task over, the next execution is scheduled once the executor reports the outcome.
+     *
+     * @param task         the task to be scheduled. Its execution continues as long as it returns {@code true}.
+     * @param taskExecutor the executor running each execution of the task.
+     */
+    void scheduleExecution(ContinuableTask task, ContinuableTaskExecutor taskExecutor);
 }
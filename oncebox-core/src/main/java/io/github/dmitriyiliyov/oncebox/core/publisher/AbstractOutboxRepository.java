@@ -2,37 +2,57 @@ package io.github.dmitriyiliyov.oncebox.core.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
 import io.github.dmitriyiliyov.oncebox.core.utils.RepositoryUtils;
 import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.sql.Timestamp;
 import java.time.Clock;
+import java.time.Instant;
 import java.util.*;
+import java.util.regex.Pattern;
 
 /**
  *  Abstract multi SQL dialect implementation of {@link OutboxRepository}.
  *  Provides a mechanism for incrementing retry counters and marking permanently failed events.
+ *  <p>
+ *  Works on {@value #OUTBOX_TABLE} by default; any table with the same columns can be passed instead,
+ *  e.g. the consumer inbox table.
  */
 public abstract class AbstractOutboxRepository implements OutboxRepository {
 
+    public static final String OUTBOX_TABLE = "outbox_events";
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
     protected final JdbcTemplate jdbcTemplate;
     protected final Clock clock;
     protected final SqlIdHelper idHelper;
+    protected final String table;
 
     public AbstractOutboxRepository(JdbcTemplate jdbcTemplate, Clock clock, SqlIdHelper idHelper) {
+        this(jdbcTemplate, clock, idHelper, OUTBOX_TABLE);
+    }
+
+    public AbstractOutboxRepository(JdbcTemplate jdbcTemplate, Clock clock, SqlIdHelper idHelper, String table) {
         this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
         this.clock = Objects.requireNonNull(clock, "clock cannot be null");
         this.idHelper = Objects.requireNonNull(idHelper, "idHelper cannot be null");
+        Objects.requireNonNull(table, "table cannot be null");
+        if (!TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException("table should be a plain SQL identifier");
+        }
+        this.table = table;
     }
 
     @Override
     public void save(OutboxEvent event) {
         String sql = """
-            INSERT INTO outbox_events 
+            INSERT INTO %s 
             (id, status, event_type, payload_type, payload, retry_count, next_retry_at, created_at, updated_at)
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
+        """.formatted(table);
         jdbcTemplate.update(
                 sql,
                 ps -> {
@@ -52,10 +72,10 @@ public abstract class AbstractOutboxRepository implements OutboxRepository {
     @Override
     public void saveBatch(List<OutboxEvent> eventBatch) {
         String sql = """
-            INSERT INTO outbox_events 
+            INSERT INTO %s 
             (id, status, event_type, payload_type, payload, retry_count, next_retry_at, created_at, updated_at)
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
+        """.formatted(table);
         jdbcTemplate.batchUpdate(
                 sql,
                 eventBatch,
@@ -74,6 +94,49 @@ public abstract class AbstractOutboxRepository implements OutboxRepository {
         );
     }
 
+    @Override
+    public int saveBatchIfAbsent(List<OutboxEvent> eventBatch) {
+        if (eventBatch == null || eventBatch.isEmpty()) return 0;
+        int[][] result = jdbcTemplate.batchUpdate(
+                insertIfAbsentSql(),
+                eventBatch,
+                eventBatch.size(),
+                (ps, event) -> {
+                    idHelper.setIdToPs(ps, 1, event.getId());
+                    ps.setString(2, event.getStatus().name());
+                    ps.setString(3, event.getEventType());
+                    ps.setString(4, event.getPayloadType());
+                    ps.setString(5, event.getPayload());
+                    ps.setInt(6, event.getRetryCount());
+                    ps.setTimestamp(7, Timestamp.from(event.getNextRetryAt()));
+                    ps.setTimestamp(8, Timestamp.from(event.getCreatedAt()));
+                    ps.setTimestamp(9, Timestamp.from(event.getUpdatedAt()));
+                }
+        );
+        return Arrays.stream(result)
+                .flatMapToInt(Arrays::stream)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    /**
+     * @return the dialect specific statement inserting a single event with the same parameters as
+     *         {@link #save(OutboxEvent)} and skipping it if an event with the same id already exists.
+     * @throws UnsupportedOperationException if the dialect has no such statement.
+     */
+    protected String insertIfAbsentSql() {
+        throw new UnsupportedOperationException("saveBatchIfAbsent is not supported");
+    }
+
+    /**
+     * @return the dialect specific assignments appended to the {@code SET} clause of statements that finalize
+     *         or release claimed events, e.g. {@code ", claim_token = NULL"}; empty if the dialect keeps no
+     *         per-claim state.
+     */
+    protected String releaseClaimAssignments() {
+        return "";
+    }
+
     @Override
     public int updateBatchStatus(Set<UUID> ids, EventStatus newStatus) {
         if (!RepositoryUtils.isIdsValid(ids)) return 0;
@@ -81,11 +144,11 @@ public abstract class AbstractOutboxRepository implements OutboxRepository {
             throw new IllegalArgumentException("Use partiallyUpdateBatch() for update FAILED batch");
         }
         String sql = """
-                UPDATE outbox_events 
-                SET status = ?, updated_at = ? 
+                UPDATE %s 
+                SET status = ?, updated_at = ?%s 
                 WHERE id IN (%s)
-        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
-        return jdbcTemplate.update(
+        """.formatted(table, releaseClaimAssignments(), RepositoryUtils.generateIdsPlaceholders(ids));
+        int updated = jdbcTemplate.update(
                 sql,
                 ps -> {
                     ps.setString(1, newStatus.name());
@@ -93,20 +156,22 @@ public abstract class AbstractOutboxRepository implements OutboxRepository {
                     idHelper.setIdsToPs(ps, 3, ids);
                 }
         );
+        OutboxProcessingCycle.recordStatement();
+        return updated;
     }
 
     @Override
     public int partiallyUpdateBatch(List<OutboxEvent> events) {
         if (events == null || events.isEmpty()) return 0;
         String sql = """
-            UPDATE outbox_events
+            UPDATE %s
             SET
                 retry_count = ?,
                 status = ?,
                 next_retry_at = ?,
-                updated_at = ?
+                updated_at = ?%s
             WHERE id = ?
-        """;
+        """.formatted(table, releaseClaimAssignments());
         int [][] result = jdbcTemplate.batchUpdate(
                 sql,
                 events,
@@ -119,15 +184,92 @@ public abstract class AbstractOutboxRepository implements OutboxRepository {
                     idHelper.setIdToPs(ps, 5, event.getId());
                 }
         );
+        OutboxProcessingCycle.recordStatement();
         return Arrays.stream(result)
                 .flatMapToInt(Arrays::stream)
                 .sum();
     }
 
+    @Override
+    public int extendLeaseBatch(Set<UUID> ids, UUID lockedBy, Instant leaseUntil) {
+        if (!RepositoryUtils.isIdsValid(ids)) return 0;
+        String sql = """
+                UPDATE %s
+                SET lease_until = ?
+                WHERE locked_by = ? AND id IN (%s)
+        """.formatted(table, RepositoryUtils.generateIdsPlaceholders(ids));
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setTimestamp(1, Timestamp.from(leaseUntil));
+                    idHelper.setIdToPs(ps, 2, lockedBy);
+                    idHelper.setIdsToPs(ps, 3, ids);
+                }
+        );
+    }
+
+    @Override
+    public int updateBatchStatusByStatusAndLockedBy(EventStatus status, UUID lockedBy, EventStatus newStatus) {
+        String sql = """
+                UPDATE %s
+                SET status = ?, updated_at = ?, locked_by = NULL, lease_until = NULL%s
+                WHERE status = ? AND locked_by = ?
+        """.formatted(table, releaseClaimAssignments());
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, newStatus.name());
+                    ps.setTimestamp(2, Timestamp.from(clock.instant()));
+                    ps.setString(3, status.name());
+                    idHelper.setIdToPs(ps, 4, lockedBy);
+                }
+        );
+    }
+
+    /**
+     * Probes each event type with an index range scan limited to a single row, so the cost does not depend
+     * on the number of due events.
+     */
+    @Override
+    public Set<String> findEventTypesWithDueEvents(Collection<String> eventTypes, EventStatus status) {
+        Objects.requireNonNull(eventTypes, "eventTypes cannot be null");
+        if (eventTypes.isEmpty()) return Set.of();
+        List<String> types = List.copyOf(eventTypes);
+        String subquery = """
+                SELECT event_type FROM %s
+                WHERE event_type = ? AND status = ? AND next_retry_at <= ?
+                %s
+        """.formatted(table, firstRowClause());
+        StringJoiner sql = new StringJoiner(" UNION ALL ");
+        for (int i = 0; i < types.size(); i++) {
+            sql.add("SELECT t%d.event_type FROM (%s) t%d".formatted(i, subquery, i));
+        }
+        Timestamp now = Timestamp.from(clock.instant());
+        return new HashSet<>(jdbcTemplate.query(
+                sql.toString(),
+                ps -> {
+                    int index = 1;
+                    for (String type : types) {
+                        ps.setString(index++, type);
+                        ps.setString(index++, status.name());
+                        ps.setTimestamp(index++, now);
+                    }
+                },
+                (rs, rowNum) -> rs.getString(1)
+        ));
+    }
+
+    /**
+     * @return the dialect specific clause limiting a query to its first row.
+     */
+    protected String firstRowClause() {
+        return "LIMIT 1";
+    }
+
     @Override
     public int deleteBatch(Set<UUID> ids) {
         if (!RepositoryUtils.isIdsValid(ids)) return 0;
-        String sql = "DELETE FROM outbox_events WHERE id IN (%s)".formatted(RepositoryUtils.generateIdsPlaceholders(ids));
+        String sql = "DELETE FROM %s WHERE id IN (%s)".formatted(table, RepositoryUtils.generateIdsPlaceholders(ids));
         return jdbcTemplate.update(sql, ps -> idHelper.setIdsToPs(ps, 1, ids));
     }
 }
\ No newline at end of file
@@ -2,7 +2,10 @@ package io.github.dmitriyiliyov.oncebox.core.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingStage;
 import io.github.dmitriyiliyov.oncebox.core.utils.SetUtils;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Propagation;
@@ -44,12 +47,14 @@ public class DefaultOutboxManager implements OutboxManager {
     @Transactional
     @Override
     public List<OutboxEvent> loadBatch(String eventType, int batchSize) {
-        return repository.findAndLockBatchByEventTypeAndStatus(
+        List<OutboxEvent> events = repository.findAndLockBatchByEventTypeAndStatus(
                 eventType,
                 EventStatus.PENDING,
                 batchSize,
                 EventStatus.IN_PROCESS
         );
+        OutboxProcessingCycle.recordRows(events == null ? 0 : events.size());
+        return events;
     }
 
     @Transactional
@@ -73,18 +78,32 @@ public class DefaultOutboxManager implements OutboxManager {
                 log.warn("Set of ids was overlapped, all overlapped ids moved from processedIds to failedIds");
             }
             if (!processedIdsCopy.isEmpty()) {
-                repository.updateBatchStatus(processedIdsCopy, EventStatus.PROCESSED);
+                finalizeProcessed(processedIdsCopy);
             }
-            repository.partiallyUpdateBatch(prepareFailedEvents(events, failedIds, maxRetryCount, nextRetryAtSupplier));
+            finalizeFailed(prepareFailedEvents(events, failedIds, maxRetryCount, nextRetryAtSupplier));
         } else if (hasProcessed) {
-            repository.updateBatchStatus(processedIdsCopy, EventStatus.PROCESSED);
+            finalizeProcessed(processedIdsCopy);
         } else if (hasFailed) {
-            repository.partiallyUpdateBatch(prepareFailedEvents(events, failedIds, maxRetryCount, nextRetryAtSupplier));
+            finalizeFailed(prepareFailedEvents(events, failedIds, maxRetryCount, nextRetryAtSupplier));
         } else {
             log.warn("Finalization nullable or empty batch not delegating to repository layer");
         }
     }
 
+    private void finalizeProcessed(Set<UUID> processedIds) {
+        long start = System.nanoTime();
+        int updatedCount = repository.updateBatchStatus(processedIds, EventStatus.PROCESSED);
+        OutboxProcessingCycle.recordStage(OutboxProcessingStage.FINALIZE_PROCESSED, System.nanoTime() - start);
+        OutboxProcessingCycle.recordRows(updatedCount);
+    }
+
+    private void finalizeFailed(List<OutboxEvent> failedEvents) {
+        long start = System.nanoTime();
+        int updatedCount = repository.partiallyUpdateBatch(failedEvents);
+        OutboxProcessingCycle.recordStage(OutboxProcessingStage.FINALIZE_FAILED, System.nanoTime() - start);
+        OutboxProcessingCycle.recordRows(updatedCount);
+    }
+
     private List<OutboxEvent> prepareFailedEvents(List<OutboxEvent> events, Set<UUID> failedIds,
                                                   int maxRetryCount, Function<Integer, Instant> nextRetryAtSupplier) {
         return events.stream()
@@ -117,6 +136,22 @@ public class DefaultOutboxManager implements OutboxManager {
                 .toList();
     }
 
+    @Override
+    public boolean supportsRelease() {
+        return true;
+    }
+
+    @Transactional
+    @Override
+    public int releaseBatch(Set<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        int releasedCount = repository.updateBatchStatus(ids, EventStatus.PENDING);
+        OutboxProcessingCycle.recordRows(releasedCount);
+        return releasedCount;
+    }
+
     @Transactional
     @Override
     public int recoverStuckBatch(Duration maxBatchProcessingTime, int batchSize) {
@@ -137,6 +172,20 @@ public class DefaultOutboxManager implements OutboxManager {
         return repository.deleteBatchByStatusAndThreshold(EventStatus.PROCESSED, threshold, batchSize);
     }
 
+    @Override
+    public boolean supportsIdRangeCleanUp() {
+        return repository.supportsDeleteByIdThreshold();
+    }
+
+    @Transactional
+    @Override
+    public int deleteProcessedBatchByIdRange(Duration ttl, int batchSize) {
+        Instant threshold = clock.instant().minusMillis(ttl.toMillis());
+        return repository.deleteBatchByStatusAndIdThreshold(
+                EventStatus.PROCESSED, UuidV7Utils.lowerBound(threshold), batchSize
+        );
+    }
+
     @Transactional
     @Override
     public int deleteBatch(Set<UUID> ids) {
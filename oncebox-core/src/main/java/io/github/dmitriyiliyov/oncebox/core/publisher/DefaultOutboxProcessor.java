@@ -1,14 +1,25 @@
 package io.github.dmitriyiliyov.oncebox.core.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxBatchClaimedEvent;
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxBatchFinalizedEvent;
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxBatchSentEvent;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingStage;
+import io.github.dmitriyiliyov.oncebox.core.utils.SetUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class DefaultOutboxProcessor implements OutboxProcessor {
@@ -28,8 +39,22 @@ public class DefaultOutboxProcessor implements OutboxProcessor {
     @Override
     public int process(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties) {
         Objects.requireNonNull(properties, "properties cannot be null");
+        return process(properties, properties.getBatchSize(), OutboxBatchListener.NOOP);
+    }
+
+    @Override
+    public int process(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties,
+                       int batchSize,
+                       OutboxBatchListener listener) {
+        Objects.requireNonNull(properties, "properties cannot be null");
+        Objects.requireNonNull(listener, "listener cannot be null");
 
-        List<OutboxEvent> events = manager.loadBatch(properties.getEventType(), properties.getBatchSize());
+        OutboxBatchClaimedEvent claimedEvent = new OutboxBatchClaimedEvent();
+        claimedEvent.begin();
+        long loadStart = System.nanoTime();
+        List<OutboxEvent> events = manager.loadBatch(properties.getEventType(), batchSize);
+        OutboxProcessingCycle.recordStage(OutboxProcessingStage.LOAD, System.nanoTime() - loadStart);
+        claimedEvent.finish(properties.getEventType(), batchSize, events == null ? 0 : events.size());
         if (events == null) {
             log.warn("Outbox events batch is unexpectedly null, for eventType={}", properties.getEventType());
             return 0;
@@ -40,29 +65,85 @@ public class DefaultOutboxProcessor implements OutboxProcessor {
         }
 
         SenderResult result;
+        OutboxBatchSentEvent sentEvent = new OutboxBatchSentEvent();
+        sentEvent.begin();
+        long sendStart = System.nanoTime();
         try {
             result = sender.sendEvents(properties.getTopic(), events);
         } catch (Exception e) {
-            log.error("Error when processing batch {} events with size={}", properties.getEventType(), properties.getBatchSize(), e);
+            log.error("Error when processing batch {} events with size={}", properties.getEventType(), batchSize, e);
             result = new SenderResult(
                     null,
                     events.stream()
                             .map(OutboxEvent::getId)
-                            .collect(Collectors.toSet())
+                            .collect(Collectors.toSet()),
+                    true
             );
         }
+        long sendNanos = System.nanoTime() - sendStart;
+        sentEvent.finish(
+                properties.getEventType(),
+                properties.getTopic(),
+                events.size(),
+                result.failedIds() == null ? 0 : result.failedIds().size()
+        );
+        OutboxProcessingCycle.recordStage(OutboxProcessingStage.SEND, sendNanos);
+        boolean infrastructureFailure = false;
+        try {
+            listener.onBatchSent(batchSize, events, result, Duration.ofNanos(sendNanos));
+            infrastructureFailure = listener.isInfrastructureFailure(events, result);
+        } catch (Exception e) {
+            log.error("Error when notifying batch listener for {} events", properties.getEventType(), e);
+        }
+        OutboxBatchFinalizedEvent finalizedEvent = new OutboxBatchFinalizedEvent();
+        finalizedEvent.begin();
+        if (infrastructureFailure && manager.supportsRelease()) {
+            Set<UUID> processedIds = SetUtils.isEmpty(result.processedIds())
+                    ? new HashSet<>()
+                    : new HashSet<>(result.processedIds());
+            if (result.failedIds() != null) {
+                processedIds.removeAll(result.failedIds());
+            }
+            Set<UUID> unsentIds = events.stream()
+                    .map(OutboxEvent::getId)
+                    .filter(id -> !processedIds.contains(id))
+                    .collect(Collectors.toSet());
+            if (!processedIds.isEmpty()) {
+                manager.finalizeBatch(
+                        events,
+                        processedIds,
+                        Set.of(),
+                        properties.getMaxRetries(),
+                        retryCount -> nextRetryAt(properties, retryCount)
+                );
+            }
+            int releasedCount = manager.releaseBatch(unsentIds);
+            log.warn("Outbox events batch released without retry, destination is unavailable, eventType={}, processedCount={}, releasedCount={}",
+                    properties.getEventType(), processedIds.size(), releasedCount);
+            finalizedEvent.finish(properties.getEventType(), processedIds.size(), 0, true);
+            // the destination is down, report no progress so the scheduler does not claim the released rows again right away
+            return 0;
+        }
 
         manager.finalizeBatch(
                 events,
                 result.processedIds(),
                 result.failedIds(),
                 properties.getMaxRetries(),
-                retryCount -> {
-                    double currentMultiplier = Math.pow(properties.backoffMultiplier(), retryCount);
-                    return clock.instant()
-                            .plusSeconds((long) currentMultiplier * properties.backoffDelay());
-                }
+                retryCount -> nextRetryAt(properties, retryCount)
+        );
+        finalizedEvent.finish(
+                properties.getEventType(),
+                result.processedIds() == null ? 0 : result.processedIds().size(),
+                result.failedIds() == null ? 0 : result.failedIds().size(),
+                false
         );
         return events.size();
     }
+
+    private Instant nextRetryAt(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties, int retryCount) {
+        double currentMultiplier = Math.pow(properties.backoffMultiplier(), retryCount);
+        return clock.instant()
+                .plusSeconds((long) currentMultiplier * properties.backoffDelay());
+    }
 }
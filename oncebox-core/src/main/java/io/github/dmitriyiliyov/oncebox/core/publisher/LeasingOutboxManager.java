@@ -0,0 +1,99 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link DefaultOutboxManager} that leases claimed events to the current worker.
+ * <p>
+ * Every claim stores the worker id and a lease expiration on the claimed events. Stuck recovery
+ * reclaims events as soon as their lease expires instead of waiting for {@code maxBatchProcessingTime},
+ * while a worker that is still sending keeps its leases alive through {@link #extendLeases(Set)}.
+ */
+public class LeasingOutboxManager extends DefaultOutboxManager {
+
+    private static final Logger log = LoggerFactory.getLogger(LeasingOutboxManager.class);
+
+    protected final UUID workerId;
+    protected final Duration leaseDuration;
+
+    public LeasingOutboxManager(OutboxRepository repository, Clock clock, UUID workerId, Duration leaseDuration) {
+        super(repository, clock);
+        this.workerId = Objects.requireNonNull(workerId, "workerId cannot be null");
+        this.leaseDuration = Objects.requireNonNull(leaseDuration, "leaseDuration cannot be null");
+        if (leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new IllegalArgumentException("leaseDuration should be positive");
+        }
+    }
+
+    @Transactional
+    @Override
+    public List<OutboxEvent> loadBatch(String eventType, int batchSize) {
+        List<OutboxEvent> events = repository.findAndLockBatchByEventTypeAndStatus(
+                eventType,
+                EventStatus.PENDING,
+                batchSize,
+                EventStatus.IN_PROCESS,
+                workerId,
+                nextLeaseUntil()
+        );
+        OutboxProcessingCycle.recordRows(events == null ? 0 : events.size());
+        return events;
+    }
+
+    @Transactional
+    @Override
+    public List<OutboxEvent> loadBatch(EventStatus status, int batchSize) {
+        return repository.findAndLockBatchByStatus(status, batchSize, EventStatus.IN_PROCESS, workerId, nextLeaseUntil());
+    }
+
+    @Transactional
+    @Override
+    public int recoverStuckBatch(Duration maxBatchProcessingTime, int batchSize) {
+        int recoveredCount = repository.updateBatchStatusByStatusAndExpiredLease(
+                EventStatus.IN_PROCESS,
+                clock.instant().minusMillis(maxBatchProcessingTime.toMillis()),
+                batchSize,
+                EventStatus.PENDING
+        );
+        log.info("Events with expired lease recovered, recoveredCount={}; batchSize={} ", recoveredCount, batchSize);
+        return recoveredCount;
+    }
+
+    @Transactional
+    @Override
+    public int extendLeases(Set<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return repository.extendLeaseBatch(ids, workerId, nextLeaseUntil());
+    }
+
+    @Transactional
+    @Override
+    public int releaseLeases() {
+        int releasedCount = repository.updateBatchStatusByStatusAndLockedBy(
+                EventStatus.IN_PROCESS,
+                workerId,
+                EventStatus.PENDING
+        );
+        log.info("Outbox event leases released, releasedCount={}; workerId={}", releasedCount, workerId);
+        return releasedCount;
+    }
+
+    private Instant nextLeaseUntil() {
+        return clock.instant().plus(leaseDuration);
+    }
+}
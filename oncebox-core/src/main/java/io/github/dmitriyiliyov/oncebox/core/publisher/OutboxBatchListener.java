@@ -0,0 +1,44 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A listener notified by {@link OutboxProcessor} once a claimed batch has been handed to {@link OutboxSender}.
+ */
+@FunctionalInterface
+public interface OutboxBatchListener {
+
+    /**
+     * Called after the batch was sent, before its status is finalized.
+     *
+     * @param batchSize    the requested batch size.
+     * @param events       the claimed events, never empty.
+     * @param result       the sender result, all events are failed and the destination is unavailable
+     *                     if the sender threw an exception.
+     * @param sendDuration the time spent in {@link OutboxSender#sendEvents(String, List)}.
+     */
+    void onBatchSent(int batchSize, List<OutboxEvent> events, SenderResult result, Duration sendDuration);
+
+    /**
+     * Called after {@link #onBatchSent}, decides whether the batch failed because the destination is unavailable.
+     * <p>
+     * Such a batch is moved back to {@link io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus#PENDING}
+     * without consuming the retry budget of its events, instead of being finalized.
+     *
+     * @param events the claimed events, never empty.
+     * @param result the sender result.
+     * @return {@code true} if the batch should be released instead of finalized, {@code false} by default.
+     */
+    default boolean isInfrastructureFailure(List<OutboxEvent> events, SenderResult result) {
+        return false;
+    }
+
+    /**
+     * A no-operation implementation that does nothing.
+     */
+    OutboxBatchListener NOOP = (batchSize, events, result, sendDuration) -> { };
+}
@@ -1,9 +1,11 @@
 package io.github.dmitriyiliyov.oncebox.core.publisher;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxCleanupEvent;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
 import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
@@ -16,8 +18,8 @@ import java.util.UUID;
 public final class OutboxCleanUpScheduler implements OutboxScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxCleanUpScheduler.class);
-    private static final OutboxJob JOB = OutboxJob.OUTBOX_PROCESSED_CLEANUP;
-
+    private final OutboxJob job;
+    private final String table;
     private final UUID workerId;
     private final OutboxPropertiesHolder.CleanUpPropertiesHolder properties;
     private final OutboxScheduleStrategy scheduleStrategy;
@@ -31,32 +33,58 @@ public final class OutboxCleanUpScheduler implements OutboxScheduler {
                                   OutboxManager manager,
                                   DistributedLockRepository lock,
                                   ContinuableTaskDecorator taskDecorator) {
+        this(OutboxJob.OUTBOX_PROCESSED_CLEANUP, OutboxCleanupEvent.OUTBOX, workerId, cleanupProperties,
+                scheduleStrategy, manager, lock, taskDecorator);
+    }
+
+    /**
+     * Creates a scheduler that cleans up processed events of the table behind {@code manager},
+     * guarded by the distributed lock of {@code job}.
+     */
+    public OutboxCleanUpScheduler(OutboxJob job,
+                                  String table,
+                                  UUID workerId,
+                                  OutboxPropertiesHolder.CleanUpPropertiesHolder cleanupProperties,
+                                  OutboxScheduleStrategy scheduleStrategy,
+                                  OutboxManager manager,
+                                  DistributedLockRepository lock,
+                                  ContinuableTaskDecorator taskDecorator) {
+        this.job = Objects.requireNonNull(job, "job cannot be null");
+        this.table = Objects.requireNonNull(table, "table cannot be null");
         this.workerId = Objects.requireNonNull(workerId, "workerId cannot be null");
         this.properties = Objects.requireNonNull(cleanupProperties, "cleanupProperties cannot be null");
         this.scheduleStrategy = Objects.requireNonNull(scheduleStrategy, "scheduleStrategy cannot be null");
         this.manager = Objects.requireNonNull(manager, "manager cannot be null");
         this.lock = Objects.requireNonNull(lock, "lock cannot be null");
         this.taskDecorator = Objects.requireNonNull(taskDecorator, "taskDecorator cannot be null");
+        if (properties.getMode() == CleanUpMode.ID_RANGE && !manager.supportsIdRangeCleanUp()) {
+            throw new IllegalStateException("Clean-up mode ID_RANGE is not supported for " + table);
+        }
     }
 
     @Override
     public void schedule() {
         ContinuableTask task = () -> {
             log.debug("Start clean up processed events");
-            if (!lock.tryLock(JOB.getJobName(), workerId)) {
+            if (!lock.tryLock(job.getJobName(), workerId)) {
                 log.debug("Lock acquired by another instance; skipping task execution");
                 return false;
             }
             try {
                 int batchSize = properties.getBatchSize();
-                int deletedCount = manager.deleteProcessedBatch(properties.getTtl(), batchSize);
+                OutboxCleanupEvent cleanupEvent = new OutboxCleanupEvent();
+                cleanupEvent.begin();
+                int deletedCount = properties.getMode() == CleanUpMode.ID_RANGE
+                        ? manager.deleteProcessedBatchByIdRange(properties.getTtl(), batchSize)
+                        : manager.deleteProcessedBatch(properties.getTtl(), batchSize);
+                cleanupEvent.finish(table, batchSize, deletedCount);
                 log.debug("Successfully cleaned {} events", deletedCount);
                 return deletedCount == batchSize;
             } catch (Exception e) {
                 log.error("Error process clean up outbox", e);
                 return false;
             } finally {
-                lock.unlock(JOB.getJobName(), workerId);
+                lock.unlock(job.getJobName(), workerId);
             }
         };
         scheduleStrategy.scheduleExecution(taskDecorator.decorate(task));
@@ -85,18 +85,73 @@ public interface OutboxManager {
                        int maxRetryCount, Function<Integer, Instant> nextRetryAtSupplier);
 
     /**
-     * Recovers events stuck in {@link EventStatus#IN_PROCESS} state for longer than the given duration.
+     * Returns whether this manager can release a claimed batch through {@link #releaseBatch(Set)}.
+     * <p>
+     * Callers must check this before releasing; managers that return {@code false}
+     * finalize failed sends through {@link #finalizeBatch} instead.
+     *
+     * @return {@code true} if {@link #releaseBatch(Set)} is supported.
+     */
+    default boolean supportsRelease() {
+        return false;
+    }
+
+    /**
+     * Moves a claimed batch back to {@link EventStatus#PENDING} without counting a delivery attempt.
+     * <p>
+     * Used when the batch could not be sent because the destination is unavailable,
+     * so infrastructure failures do not push healthy events towards {@link EventStatus#FAILED}.
+     * Does nothing and returns 0 if the set is null or empty.
+     *
+     * @param ids the IDs of the claimed events.
+     * @return    the number of released events.
+     * @throws UnsupportedOperationException if {@link #supportsRelease()} returns {@code false}.
+     */
+    default int releaseBatch(Set<UUID> ids) {
+        throw new UnsupportedOperationException("releaseBatch is not supported");
+    }
+
+    /**
+     * Recovers events stuck in {@link EventStatus#IN_PROCESS} state.
      * <p>
      * Stuck events are moved back to {@link EventStatus#PENDING} to be retried.
      * This handles cases where a processing node crashed without completing the batch.
+     * When leases are enabled, an event is stuck as soon as its lease expires; events claimed
+     * without a lease are stuck once they stay {@link EventStatus#IN_PROCESS} longer than the given duration.
      *
      * @param maxBatchProcessingTime the maximum allowed duration in {@link EventStatus#IN_PROCESS}
-     *                               before an event is considered stuck.
+     *                               before an event without a lease is considered stuck.
      * @param batchSize              the maximum number of events to recover in one call.
      * @return                       the number of recovered events.
      */
     int recoverStuckBatch(Duration maxBatchProcessingTime, int batchSize);
 
+    /**
+     * Extends the lease of in-flight events owned by this instance.
+     * <p>
+     * Called periodically while a batch is being sent, so that a legitimately slow send
+     * is not recovered by another instance. Returns 0 if leases are not enabled.
+     *
+     * @param ids the IDs of the events being processed.
+     * @return    the number of events whose lease was extended.
+     */
+    default int extendLeases(Set<UUID> ids) {
+        return 0;
+    }
+
+    /**
+     * Moves all {@link EventStatus#IN_PROCESS} events leased by this instance back to {@link EventStatus#PENDING}.
+     * <p>
+     * Must only be called once no batch is in flight, e.g. after the processing executor has terminated,
+     * so that other instances can pick the events up immediately instead of waiting for the leases to expire.
+     * Returns 0 if leases are not enabled.
+     *
+     * @return the number of released events.
+     */
+    default int releaseLeases() {
+        return 0;
+    }
+
     /**
      * Deletes processed events with {@code updated_at} strictly before the given threshold.
      * <p>
@@ -108,6 +163,31 @@ public interface OutboxManager {
      */
     int deleteProcessedBatch(Duration ttl, int batchSize);
 
+    /**
+     * Returns whether this manager can clean up by ID range through {@link #deleteProcessedBatchByIdRange}.
+     * <p>
+     * Clean-up schedulers check this on creation, so an unsupported {@code ID_RANGE} mode fails at startup.
+     *
+     * @return {@code true} if {@link #deleteProcessedBatchByIdRange} is supported.
+     */
+    default boolean supportsIdRangeCleanUp() {
+        return false;
+    }
+
+    /**
+     * Deletes processed events whose UUIDv7 IDs were created before the TTL, by primary key range.
+     * <p>
+     * At most {@code batchSize} records are deleted per call.
+     *
+     * @param ttl       the duration after event creation when a processed event record is considered expired.
+     * @param batchSize the maximum number of events to delete in one call.
+     * @return          the number of deleted events.
+     * @throws UnsupportedOperationException if {@link #supportsIdRangeCleanUp()} returns {@code false}.
+     */
+    default int deleteProcessedBatchByIdRange(Duration ttl, int batchSize) {
+        throw new UnsupportedOperationException("deleteProcessedBatchByIdRange is not supported");
+    }
+
     /**
      * Deletes a batch of events by their IDs without any additional status checks.
      * <p>
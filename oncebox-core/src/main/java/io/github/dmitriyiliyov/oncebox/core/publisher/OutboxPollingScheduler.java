@@ -2,14 +2,26 @@ package io.github.dmitriyiliyov.oncebox.core.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.FixedBatchSizeStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
 
+/**
+ * Polls outbox events of a single event type, taking the batch size from a {@link BatchSizeStrategy}.
+ * <p>
+ * Execution continues while claimed batches are full at the batch size they were claimed with.
+ * A batch size of 0, e.g. while rate limited, skips the execution without claiming events.
+ * The strategy is also passed to {@link OutboxProcessor} as {@link OutboxBatchListener}, so it can be
+ * extended with {@link BatchSizeStrategy#withListener(OutboxBatchListener)} to observe sent batches.
+ * Executions run through a {@link ContinuableTaskExecutor}, on the scheduling thread unless another one is given.
+ */
 public final class OutboxPollingScheduler implements OutboxScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxPollingScheduler.class);
@@ -17,31 +29,66 @@ public final class OutboxPollingScheduler implements OutboxScheduler {
     private final OutboxPublisherPropertiesHolder.EventPropertiesHolder properties;
     private final OutboxProcessor processor;
     private final OutboxScheduleStrategy scheduleStrategy;
+    private final BatchSizeStrategy batchSizeStrategy;
     private final ContinuableTaskDecorator taskDecorator;
+    private final ContinuableTaskExecutor taskExecutor;
 
+    /**
+     * Creates a scheduler claiming the configured
+     * {@link OutboxPublisherPropertiesHolder.EventPropertiesHolder#getBatchSize()} on every execution.
+     */
     public OutboxPollingScheduler(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties,
                                   OutboxScheduleStrategy scheduleStrategy,
                                   OutboxProcessor processor,
                                   ContinuableTaskDecorator taskDecorator) {
+        this(
+                Objects.requireNonNull(properties, "properties cannot be null"),
+                scheduleStrategy,
+                new FixedBatchSizeStrategy(properties),
+                processor,
+                taskDecorator
+        );
+    }
+
+    public OutboxPollingScheduler(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties,
+                                  OutboxScheduleStrategy scheduleStrategy,
+                                  BatchSizeStrategy batchSizeStrategy,
+                                  OutboxProcessor processor,
+                                  ContinuableTaskDecorator taskDecorator) {
+        this(properties, scheduleStrategy, batchSizeStrategy, processor, taskDecorator, ContinuableTaskExecutor.direct());
+    }
+
+    public OutboxPollingScheduler(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties,
+                                  OutboxScheduleStrategy scheduleStrategy,
+                                  BatchSizeStrategy batchSizeStrategy,
+                                  OutboxProcessor processor,
+                                  ContinuableTaskDecorator taskDecorator,
+                                  ContinuableTaskExecutor taskExecutor) {
         this.properties = Objects.requireNonNull(properties, "properties cannot be null");
         this.scheduleStrategy = Objects.requireNonNull(scheduleStrategy, "scheduleStrategy cannot be null");
+        this.batchSizeStrategy = Objects.requireNonNull(batchSizeStrategy, "batchSizeStrategy cannot be null");
         this.processor = Objects.requireNonNull(processor, "processor cannot be null");
         this.taskDecorator = Objects.requireNonNull(taskDecorator, "taskDecorator cannot be null");
+        this.taskExecutor = Objects.requireNonNull(taskExecutor, "taskExecutor cannot be null");
     }
 
     @Override
     public void schedule() {
         ContinuableTask task = () -> {
-            int batchSize = properties.getBatchSize();
+            int batchSize = batchSizeStrategy.getBatchSize();
+            if (batchSize <= 0) {
+                log.debug("Skip processing {} outbox events, batch size is 0", properties.getEventType());
+                return false;
+            }
             int processedCount = 0;
             try {
-                log.debug("Start processing {} outbox events", properties.getEventType());
-                processedCount = processor.process(properties);
+                log.debug("Start processing {} outbox events with batchSize={}", properties.getEventType(), batchSize);
+                processedCount = processor.process(properties, batchSize, batchSizeStrategy);
             } catch (Exception e) {
                 log.error("Error process outbox events for type={}", properties.getEventType(), e);
             }
             return processedCount == batchSize;
         };
-        scheduleStrategy.scheduleExecution(taskDecorator.decorate(task));
+        scheduleStrategy.scheduleExecution(taskDecorator.decorate(task), taskExecutor);
     }
 }
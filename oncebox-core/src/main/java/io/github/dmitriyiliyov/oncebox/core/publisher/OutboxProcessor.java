@@ -27,4 +27,24 @@ public interface OutboxProcessor {
      * @throws NullPointerException if {@code properties} is null.
      */
     int process(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties);
+
+    /**
+     * Processes a batch of outbox events with an explicit batch size, notifying the {@code listener}
+     * about the outcome of the send.
+     * <p>
+     * Used by schedulers that adapt the batch size at runtime. The default implementation ignores
+     * {@code batchSize} and {@code listener} and falls back to {@link #process(OutboxPublisherPropertiesHolder.EventPropertiesHolder)}.
+     *
+     * @param properties configuration for the event type being processed.
+     * @param batchSize  the number of events to claim.
+     * @param listener   the listener to notify once the batch was sent.
+     * @return           the number of processed events; 0 if the batch was released
+     *                   because the destination is unavailable.
+     * @throws NullPointerException if {@code properties} or {@code listener} is null.
+     */
+    default int process(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties,
+                        int batchSize,
+                        OutboxBatchListener listener) {
+        return process(properties);
+    }
 }
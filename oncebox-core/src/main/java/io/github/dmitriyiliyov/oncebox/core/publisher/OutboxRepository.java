@@ -4,6 +4,8 @@ import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -31,6 +33,20 @@ public interface OutboxRepository {
      */
     void saveBatch(List<OutboxEvent> eventBatch);
 
+    /**
+     * Saves a batch of outbox events, skipping events whose IDs already exist.
+     * <p>
+     * Used to deduplicate redelivered events on insert, so concurrent writers of the same event do not fail.
+     * Does nothing and returns 0 if the list is null or empty.
+     *
+     * @param eventBatch the list of events to save.
+     * @return           the number of saved events; drivers that do not report per-row counts may report fewer.
+     * @throws UnsupportedOperationException if the repository cannot skip existing events on insert.
+     */
+    default int saveBatchIfAbsent(List<OutboxEvent> eventBatch) {
+        throw new UnsupportedOperationException("saveBatchIfAbsent is not supported");
+    }
+
     /**
      * Finds and locks a batch of events by their type and status.
      * <p>
@@ -63,6 +79,79 @@ public interface OutboxRepository {
      */
     List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus);
 
+    /**
+     * Finds and locks a batch of events by their type and status, leasing them to the given owner.
+     * <p>
+     * Behaves identically to
+     * {@link #findAndLockBatchByEventTypeAndStatus(String, EventStatus, int, EventStatus)}
+     * and additionally stores {@code lockedBy} and {@code leaseUntil} on every claimed event.
+     * Repositories that do not track leases fall back to a plain claim.
+     *
+     * @param eventType  the type of events to find.
+     * @param status     the current status of events to find.
+     * @param batchSize  the maximum number of events to retrieve.
+     * @param lockStatus the new status to set for the locked events.
+     * @param lockedBy   the id of the worker that owns the lease.
+     * @param leaseUntil the moment after which the lease is considered expired.
+     * @return           a list of locked outbox events with status set to {@code lockStatus};
+     *                   empty list if none available.
+     */
+    default List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
+                                                                   EventStatus lockStatus, UUID lockedBy, Instant leaseUntil) {
+        return findAndLockBatchByEventTypeAndStatus(eventType, status, batchSize, lockStatus);
+    }
+
+    /**
+     * Finds and locks a batch of events by their status, leasing them to the given owner.
+     * <p>
+     * Behaves identically to {@link #findAndLockBatchByStatus(EventStatus, int, EventStatus)}
+     * and additionally stores {@code lockedBy} and {@code leaseUntil} on every claimed event.
+     * Repositories that do not track leases fall back to a plain claim.
+     *
+     * @param status     the current status of events to find.
+     * @param batchSize  the maximum number of events to retrieve.
+     * @param lockStatus the new status to set for the locked events.
+     * @param lockedBy   the id of the worker that owns the lease.
+     * @param leaseUntil the moment after which the lease is considered expired.
+     * @return           a list of locked outbox events with status set to {@code lockStatus};
+     *                   empty list if none available.
+     */
+    default List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus,
+                                                       UUID lockedBy, Instant leaseUntil) {
+        return findAndLockBatchByStatus(status, batchSize, lockStatus);
+    }
+
+    /**
+     * Returns which of the given event types have at least one event with the given status that is due,
+     * i.e. whose {@code next_retry_at} is not after the current time.
+     * <p>
+     * Must not lock or modify any rows, so it can be used as a cheap pre-check before
+     * {@link #findAndLockBatchByEventTypeAndStatus(String, EventStatus, int, EventStatus)}.
+     * Repositories without such a probe report every given event type as due.
+     *
+     * @param eventTypes the event types to check.
+     * @param status     the status of events to look for.
+     * @return           the subset of {@code eventTypes} that have due events; empty set if none.
+     */
+    default Set<String> findEventTypesWithDueEvents(Collection<String> eventTypes, EventStatus status) {
+        return new HashSet<>(eventTypes);
+    }
+
+    /**
+     * Extends the lease of events still owned by the given worker.
+     * <p>
+     * Events whose lease was already taken over by another worker are left untouched.
+     * Does nothing and returns 0 if the set is null or empty.
+     *
+     * @param ids        the IDs of the leased events.
+     * @param lockedBy   the id of the worker that owns the lease.
+     * @param leaseUntil the new lease expiration moment.
+     * @return           the number of events whose lease was extended.
+     */
+    default int extendLeaseBatch(Set<UUID> ids, UUID lockedBy, Instant leaseUntil) {
+        return 0;
+    }
+
     /**
      * Updates the status for a batch of events.
      * <p>
@@ -92,6 +181,40 @@ public interface OutboxRepository {
      */
     int updateBatchStatusByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize, EventStatus newStatus);
 
+    /**
+     * Updates the status of events that match a given status and whose lease has expired.
+     * <p>
+     * Events claimed without a lease are updated once their {@code updated_at} is strictly
+     * before {@code threshold}, exactly as {@link #updateBatchStatusByStatusAndThreshold} does.
+     * The lease owner is cleared on every updated event.
+     * At most {@code batchSize} events are updated per call.
+     *
+     * @param status    the current status of events to update.
+     * @param threshold the fallback {@code updated_at} threshold for events without a lease.
+     * @param batchSize the maximum number of events to update in one call.
+     * @param newStatus the new status to set.
+     * @return          the number of updated events.
+     */
+    default int updateBatchStatusByStatusAndExpiredLease(EventStatus status, Instant threshold, int batchSize,
+                                                         EventStatus newStatus) {
+        return updateBatchStatusByStatusAndThreshold(status, threshold, batchSize, newStatus);
+    }
+
+    /**
+     * Updates the status of all events that match a given status and are leased by the given worker.
+     * <p>
+     * Used to hand back leases of a worker that is known to be gone, without waiting for them to expire.
+     * The lease owner is cleared on every updated event.
+     *
+     * @param status    the current status of events to update.
+     * @param lockedBy  the id of the worker that owns the leases.
+     * @param newStatus the new status to set.
+     * @return          the number of updated events.
+     */
+    default int updateBatchStatusByStatusAndLockedBy(EventStatus status, UUID lockedBy, EventStatus newStatus) {
+        return 0;
+    }
+
     /**
      * Updates a batch of events using the state carried by each event object.
      * <p>
@@ -126,4 +249,29 @@ public interface OutboxRepository {
      * @return          the number of deleted events.
      */
     int deleteBatchByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize);
+
+    /**
+     * Returns whether this repository can delete by ID range through {@link #deleteBatchByStatusAndIdThreshold}.
+     *
+     * @return {@code true} if {@link #deleteBatchByStatusAndIdThreshold} is supported.
+     */
+    default boolean supportsDeleteByIdThreshold() {
+        return false;
+    }
+
+    /**
+     * Deletes events that match a given status and have IDs strictly below the given UUIDv7 bound,
+     * using the primary key instead of the {@code updated_at} index.
+     * <p>
+     * At most {@code batchSize} events are deleted per call, lowest IDs first.
+     *
+     * @param status      the status of events to delete.
+     * @param idThreshold events with IDs strictly below this UUID will be deleted.
+     * @param batchSize   the maximum number of events to delete in one call.
+     * @return            the number of deleted events.
+     * @throws UnsupportedOperationException if {@link #supportsDeleteByIdThreshold()} returns {@code false}.
+     */
+    default int deleteBatchByStatusAndIdThreshold(EventStatus status, UUID idThreshold, int batchSize) {
+        throw new UnsupportedOperationException("deleteBatchByStatusAndIdThreshold is not supported");
+    }
 }
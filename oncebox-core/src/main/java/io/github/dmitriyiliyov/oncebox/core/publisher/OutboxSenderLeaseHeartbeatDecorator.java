@@ -0,0 +1,76 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@link OutboxSender} decorator that keeps the leases of a batch alive while it is being sent.
+ * <p>
+ * Leases are extended through {@link OutboxManager#extendLeases(Set)} every {@code interval},
+ * so a legitimately slow send is not recovered by another instance. The executor should be
+ * dedicated to heartbeats, so renewals are not starved by the sends they protect.
+ */
+public class OutboxSenderLeaseHeartbeatDecorator implements OutboxSender {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxSenderLeaseHeartbeatDecorator.class);
+
+    private final OutboxSender delegate;
+    private final OutboxManager manager;
+    private final ScheduledExecutorService executor;
+    private final Duration interval;
+
+    public OutboxSenderLeaseHeartbeatDecorator(OutboxSender delegate, OutboxManager manager,
+                                               ScheduledExecutorService executor, Duration interval) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.manager = Objects.requireNonNull(manager, "manager cannot be null");
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        this.interval = Objects.requireNonNull(interval, "interval cannot be null");
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval should be positive");
+        }
+    }
+
+    @Override
+    public SenderResult sendEvents(String topic, List<OutboxEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return delegate.sendEvents(topic, events);
+        }
+        Set<UUID> ids = events.stream()
+                .map(OutboxEvent::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        ScheduledFuture<?> heartbeat = executor.scheduleWithFixedDelay(
+                () -> extendLeases(ids),
+                interval.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+        try {
+            return delegate.sendEvents(topic, events);
+        } finally {
+            heartbeat.cancel(false);
+        }
+    }
+
+    private void extendLeases(Set<UUID> ids) {
+        try {
+            int extendedCount = manager.extendLeases(ids);
+            if (extendedCount < ids.size()) {
+                log.debug("Outbox lease was not extended for {} of {} in-flight events", ids.size() - extendedCount, ids.size());
+            }
+        } catch (Exception e) {
+            log.error("Error when extending outbox event leases", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.batching;
+
+import java.time.Duration;
+
+public interface AdaptiveBatchSizePropertiesHolder {
+
+    /**
+     * The lower bound of the batch size.
+     */
+    Integer getMinBatchSize();
+
+    /**
+     * The upper bound of the batch size.
+     */
+    Integer getMaxBatchSize();
+
+    /**
+     * The number of events added to the batch size after a healthy full batch.
+     */
+    Integer getAdditiveIncrease();
+
+    /**
+     * The factor in range (0, 1) the batch size is multiplied by after a slow or failing batch.
+     */
+    Double getDecreaseFactor();
+
+    /**
+     * The send latency above which a batch is considered slow.
+     */
+    Duration getTargetSendLatency();
+
+    /**
+     * The ratio of failed events in range [0, 1] above which a batch is considered failing.
+     */
+    Double getMaxFailureRatio();
+}
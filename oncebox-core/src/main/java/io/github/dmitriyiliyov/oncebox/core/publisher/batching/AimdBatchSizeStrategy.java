@@ -0,0 +1,89 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.batching;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Additive-increase/multiplicative-decrease {@link BatchSizeStrategy}.
+ * <p>
+ * A full batch sent within {@code targetSendLatency} and below {@code maxFailureRatio} grows the batch size
+ * by {@code additiveIncrease}, a slow or failing batch multiplies it by {@code decreaseFactor}.
+ * Partial batches don't grow it, since they say nothing about the broker capacity.
+ * The batch size always stays within {@code [minBatchSize, maxBatchSize]}.
+ */
+public class AimdBatchSizeStrategy implements BatchSizeStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(AimdBatchSizeStrategy.class);
+
+    private final BatchSizeStrategyListener listener;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int additiveIncrease;
+    private final double decreaseFactor;
+    private final long targetSendLatency;
+    private final double maxFailureRatio;
+    private volatile int currentBatchSize;
+
+    public AimdBatchSizeStrategy(int initialBatchSize,
+                                 AdaptiveBatchSizePropertiesHolder properties,
+                                 BatchSizeStrategyListener listener) {
+        Objects.requireNonNull(properties, "properties cannot be null");
+        this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+        this.minBatchSize = properties.getMinBatchSize();
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.additiveIncrease = properties.getAdditiveIncrease();
+        this.decreaseFactor = properties.getDecreaseFactor();
+        this.targetSendLatency = properties.getTargetSendLatency().toNanos();
+        this.maxFailureRatio = properties.getMaxFailureRatio();
+        if (minBatchSize <= 0 || maxBatchSize < minBatchSize) {
+            throw new IllegalArgumentException("minBatchSize should be positive and not greater than maxBatchSize");
+        }
+        if (additiveIncrease <= 0) {
+            throw new IllegalArgumentException("additiveIncrease should be positive");
+        }
+        if (!(decreaseFactor > 0 && decreaseFactor < 1)) {
+            throw new IllegalArgumentException("decreaseFactor should be in range (0, 1)");
+        }
+        if (!(maxFailureRatio >= 0 && maxFailureRatio <= 1)) {
+            throw new IllegalArgumentException("maxFailureRatio should be in range [0, 1]");
+        }
+        this.currentBatchSize = Math.clamp(initialBatchSize, minBatchSize, maxBatchSize);
+        listener.onBatchSizeChanged(currentBatchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return currentBatchSize;
+    }
+
+    @Override
+    public void onBatchSent(int batchSize, List<OutboxEvent> events, SenderResult result, Duration sendDuration) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        int failedCount = result == null || result.failedIds() == null ? 0 : result.failedIds().size();
+        double failureRatio = (double) failedCount / events.size();
+
+        int current = currentBatchSize;
+        int next;
+        if (failureRatio > maxFailureRatio || sendDuration.toNanos() > targetSendLatency) {
+            next = Math.max(minBatchSize, (int) (current * decreaseFactor));
+        } else if (events.size() >= batchSize) {
+            next = Math.min(maxBatchSize, current + additiveIncrease);
+        } else {
+            next = current;
+        }
+        if (next != current) {
+            currentBatchSize = next;
+            listener.onBatchSizeChanged(next);
+            log.debug("Batch size adapted from {} to {}, sendDuration={}ms, failureRatio={}",
+                    current, next, sendDuration.toMillis(), failureRatio);
+        }
+    }
+}
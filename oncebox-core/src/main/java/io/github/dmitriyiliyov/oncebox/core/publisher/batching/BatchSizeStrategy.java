@@ -0,0 +1,52 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.batching;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxBatchListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A strategy deciding how many outbox events are claimed per batch, fed back by the outcome of each sent batch.
+ */
+public interface BatchSizeStrategy extends OutboxBatchListener {
+
+    /**
+     * Returns the number of events to claim in the next batch.
+     *
+     * @return the current batch size, 0 if no events should be claimed right now.
+     */
+    int getBatchSize();
+
+    /**
+     * Returns a strategy with the same batch size that additionally notifies {@code listener} about sent batches.
+     * A batch is treated as an infrastructure failure if either this strategy or {@code listener} treats it so.
+     *
+     * @param listener the listener to notify after this strategy.
+     * @return a strategy notifying both this strategy and {@code listener}.
+     * @throws NullPointerException if {@code listener} is null.
+     */
+    default BatchSizeStrategy withListener(OutboxBatchListener listener) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        BatchSizeStrategy delegate = this;
+        return new BatchSizeStrategy() {
+            @Override
+            public int getBatchSize() {
+                return delegate.getBatchSize();
+            }
+
+            @Override
+            public void onBatchSent(int batchSize, List<OutboxEvent> events, SenderResult result, Duration sendDuration) {
+                delegate.onBatchSent(batchSize, events, result, sendDuration);
+                listener.onBatchSent(batchSize, events, result, sendDuration);
+            }
+
+            @Override
+            public boolean isInfrastructureFailure(List<OutboxEvent> events, SenderResult result) {
+                return delegate.isInfrastructureFailure(events, result) || listener.isInfrastructureFailure(events, result);
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.batching;
+
+/**
+ * A listener for observing batch size adjustments of a {@link BatchSizeStrategy}.
+ */
+public interface BatchSizeStrategyListener {
+
+    /**
+     * Called when the batch size for the next claim is changed.
+     *
+     * @param batchSize the new batch size.
+     */
+    void onBatchSizeChanged(int batchSize);
+
+    /**
+     * A no-operation implementation that does nothing on any event.
+     */
+    BatchSizeStrategyListener NOOP = batchSize -> { };
+}
@@ -0,0 +1,30 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.batching;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link BatchSizeStrategy} that always claims the configured
+ * {@link OutboxPublisherPropertiesHolder.EventPropertiesHolder#getBatchSize()}.
+ */
+public class FixedBatchSizeStrategy implements BatchSizeStrategy {
+
+    private final OutboxPublisherPropertiesHolder.EventPropertiesHolder properties;
+
+    public FixedBatchSizeStrategy(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties) {
+        this.properties = Objects.requireNonNull(properties, "properties cannot be null");
+    }
+
+    @Override
+    public int getBatchSize() {
+        return properties.getBatchSize();
+    }
+
+    @Override
+    public void onBatchSent(int batchSize, List<OutboxEvent> events, SenderResult result, Duration sendDuration) { }
+}
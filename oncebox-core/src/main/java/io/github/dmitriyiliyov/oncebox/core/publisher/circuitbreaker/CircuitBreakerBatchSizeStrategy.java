@@ -0,0 +1,72 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link BatchSizeStrategy} decorator that stops claiming events while the {@link OutboxCircuitBreaker}
+ * of the destination is open.
+ * <p>
+ * Returns 0 while the circuit is open and at most {@link OutboxCircuitBreaker#getHalfOpenBatchSize()}
+ * for a probe batch. A batch in which no event was sent because the destination was unavailable, i.e. the sender
+ * threw or timed out, is reported as a failure, any other batch as a success. Events rejected one by one, e.g. a
+ * record that is too large, do not count as an outage and go through the regular retries towards the DLQ.
+ * A failed regular batch is treated as an infrastructure failure, so it does not consume the retry budget of its
+ * events; a failed probe does, so an outage that outlives the breaker still moves its events towards the DLQ.
+ * <p>
+ * Not thread-safe, the instance is expected to be used by a single scheduler of an event type.
+ */
+public class CircuitBreakerBatchSizeStrategy implements BatchSizeStrategy {
+
+    private final BatchSizeStrategy delegate;
+    private final OutboxCircuitBreaker circuitBreaker;
+    private boolean probeInFlight;
+    private boolean lastBatchFailed;
+
+    public CircuitBreakerBatchSizeStrategy(BatchSizeStrategy delegate, OutboxCircuitBreaker circuitBreaker) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.circuitBreaker = Objects.requireNonNull(circuitBreaker, "circuitBreaker cannot be null");
+    }
+
+    @Override
+    public int getBatchSize() {
+        if (probeInFlight) {
+            probeInFlight = false;
+            circuitBreaker.onProbeAbandoned();
+        }
+        lastBatchFailed = false;
+        return switch (circuitBreaker.acquirePermission()) {
+            case ALLOWED -> delegate.getBatchSize();
+            case PROBE -> {
+                probeInFlight = true;
+                yield Math.min(circuitBreaker.getHalfOpenBatchSize(), delegate.getBatchSize());
+            }
+            case REJECTED -> 0;
+        };
+    }
+
+    @Override
+    public void onBatchSent(int batchSize, List<OutboxEvent> events, SenderResult result, Duration sendDuration) {
+        boolean probe = probeInFlight;
+        probeInFlight = false;
+        boolean failed = result.destinationUnavailable()
+                && (result.processedIds() == null || result.processedIds().isEmpty());
+        if (failed) {
+            circuitBreaker.onFailure(probe);
+        } else {
+            circuitBreaker.onSuccess(probe);
+        }
+        lastBatchFailed = failed && !probe;
+        delegate.onBatchSent(batchSize, events, result, sendDuration);
+    }
+
+    @Override
+    public boolean isInfrastructureFailure(List<OutboxEvent> events, SenderResult result) {
+        return lastBatchFailed || delegate.isInfrastructureFailure(events, result);
+    }
+}
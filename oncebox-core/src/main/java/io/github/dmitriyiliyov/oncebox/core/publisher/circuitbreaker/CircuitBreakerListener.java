@@ -0,0 +1,15 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker;
+
+/**
+ * Listener notified about state transitions of an {@link OutboxCircuitBreaker}.
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    CircuitBreakerListener NOOP = state -> { };
+
+    /**
+     * @param state the new state of the circuit breaker.
+     */
+    void onStateChanged(CircuitState state);
+}
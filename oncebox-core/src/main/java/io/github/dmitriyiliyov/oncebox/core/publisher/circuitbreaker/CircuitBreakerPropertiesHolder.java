@@ -0,0 +1,24 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker;
+
+import java.time.Duration;
+
+/**
+ * Configuration of an {@link OutboxCircuitBreaker}.
+ */
+public interface CircuitBreakerPropertiesHolder {
+
+    /**
+     * @return the number of consecutive failed batches that opens the circuit, always positive.
+     */
+    Integer getFailureThreshold();
+
+    /**
+     * @return how long the circuit stays open before a probe batch is allowed.
+     */
+    Duration getOpenDuration();
+
+    /**
+     * @return the maximum number of events claimed by a probe batch, always positive.
+     */
+    Integer getHalfOpenBatchSize();
+}
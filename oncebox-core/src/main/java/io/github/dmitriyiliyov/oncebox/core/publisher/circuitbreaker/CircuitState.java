@@ -0,0 +1,22 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker;
+
+/**
+ * States of an {@link OutboxCircuitBreaker}.
+ */
+public enum CircuitState {
+
+    /**
+     * Batches are claimed and sent as usual.
+     */
+    CLOSED,
+
+    /**
+     * The destination is considered unavailable, no batches are claimed.
+     */
+    OPEN,
+
+    /**
+     * A single probe batch is allowed to check whether the destination is available again.
+     */
+    HALF_OPEN
+}
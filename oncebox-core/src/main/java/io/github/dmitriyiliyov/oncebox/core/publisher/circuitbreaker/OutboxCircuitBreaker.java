@@ -0,0 +1,166 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Circuit breaker guarding a single destination, e.g. a Kafka topic or a RabbitMQ exchange.
+ * <p>
+ * Opens after {@code failureThreshold} consecutive failed batches. While open, no permission is granted,
+ * so no events are claimed. After {@code openDuration} the circuit becomes half-open and grants a single probe;
+ * a successful probe closes the circuit, a failed one opens it again.
+ * <p>
+ * Thread-safe, a single instance is shared by all event types sending to the same destination.
+ */
+public class OutboxCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxCircuitBreaker.class);
+
+    /**
+     * Permission to claim a batch.
+     */
+    public enum Permission {
+
+        /**
+         * The circuit is closed, a regular batch can be claimed.
+         */
+        ALLOWED,
+
+        /**
+         * The circuit is half-open, a probe batch of at most {@link #getHalfOpenBatchSize()} can be claimed.
+         * Its outcome must be reported, or the probe must be abandoned with {@link #onProbeAbandoned()}.
+         */
+        PROBE,
+
+        /**
+         * No batch should be claimed.
+         */
+        REJECTED
+    }
+
+    private final String destination;
+    private final Clock clock;
+    private final CircuitBreakerListener listener;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int halfOpenBatchSize;
+    private CircuitState state;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean probeInFlight;
+
+    public OutboxCircuitBreaker(String destination,
+                                CircuitBreakerPropertiesHolder properties,
+                                Clock clock,
+                                CircuitBreakerListener listener) {
+        this.destination = Objects.requireNonNull(destination, "destination cannot be null");
+        Objects.requireNonNull(properties, "properties cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+        this.failureThreshold = Objects.requireNonNull(properties.getFailureThreshold(), "failureThreshold cannot be null");
+        this.openDuration = Objects.requireNonNull(properties.getOpenDuration(), "openDuration cannot be null");
+        this.halfOpenBatchSize = Objects.requireNonNull(properties.getHalfOpenBatchSize(), "halfOpenBatchSize cannot be null");
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold should be positive");
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration cannot be negative");
+        }
+        if (halfOpenBatchSize <= 0) {
+            throw new IllegalArgumentException("halfOpenBatchSize should be positive");
+        }
+        this.state = CircuitState.CLOSED;
+    }
+
+    /**
+     * Asks for permission to claim the next batch.
+     *
+     * @return the granted permission.
+     */
+    public synchronized Permission acquirePermission() {
+        switch (state) {
+            case CLOSED -> {
+                return Permission.ALLOWED;
+            }
+            case OPEN -> {
+                if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                    return Permission.REJECTED;
+                }
+                transitionTo(CircuitState.HALF_OPEN);
+                probeInFlight = true;
+                return Permission.PROBE;
+            }
+            default -> {
+                if (probeInFlight) {
+                    return Permission.REJECTED;
+                }
+                probeInFlight = true;
+                return Permission.PROBE;
+            }
+        }
+    }
+
+    /**
+     * Reports a batch that was at least partially sent.
+     *
+     * @param probe whether the batch was claimed with {@link Permission#PROBE}.
+     */
+    public synchronized void onSuccess(boolean probe) {
+        if (state == CircuitState.CLOSED) {
+            consecutiveFailures = 0;
+        } else if (probe && state == CircuitState.HALF_OPEN) {
+            probeInFlight = false;
+            consecutiveFailures = 0;
+            transitionTo(CircuitState.CLOSED);
+        }
+    }
+
+    /**
+     * Reports a batch whose events all failed to be sent.
+     *
+     * @param probe whether the batch was claimed with {@link Permission#PROBE}.
+     */
+    public synchronized void onFailure(boolean probe) {
+        if (state == CircuitState.CLOSED) {
+            if (++consecutiveFailures >= failureThreshold) {
+                open();
+            }
+        } else if (probe && state == CircuitState.HALF_OPEN) {
+            probeInFlight = false;
+            open();
+        }
+    }
+
+    /**
+     * Gives the probe permission back when the probe claimed no events, so another probe can be granted.
+     */
+    public synchronized void onProbeAbandoned() {
+        probeInFlight = false;
+    }
+
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    public int getHalfOpenBatchSize() {
+        return halfOpenBatchSize;
+    }
+
+    private void open() {
+        openedAt = clock.instant();
+        transitionTo(CircuitState.OPEN);
+    }
+
+    private void transitionTo(CircuitState newState) {
+        if (state != newState) {
+            log.warn("Circuit breaker for destination={} changed state {} -> {}", destination, state, newState);
+            state = newState;
+            listener.onStateChanged(newState);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.dispatch;
+
+/**
+ * Configuration of an event type lane of a {@link WeightedFairDispatcher}.
+ */
+public interface DispatchLanePropertiesHolder {
+
+    String getEventType();
+
+    /**
+     * @return the priority of the lane, ready tasks of a higher priority are always dispatched first.
+     */
+    Integer getPriority();
+
+    /**
+     * @return the share of workers the lane receives relative to other lanes of the same priority, always positive.
+     */
+    Integer getWeight();
+}
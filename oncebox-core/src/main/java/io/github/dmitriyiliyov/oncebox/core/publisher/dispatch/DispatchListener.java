@@ -0,0 +1,16 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.dispatch;
+
+import java.time.Duration;
+
+/**
+ * Listener notified each time a task of an event type lane is handed over to a worker by a {@link WeightedFairDispatcher}.
+ */
+public interface DispatchListener {
+
+    DispatchListener NOOP = queueingDelay -> { };
+
+    /**
+     * @param queueingDelay the time the task waited in the queue for a free worker.
+     */
+    void onDispatched(Duration queueingDelay);
+}
@@ -0,0 +1,199 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.dispatch;
+
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs polling tasks of several event types on a shared worker pool in priority and weighted fair order.
+ * <p>
+ * Each event type registers a lane and receives a {@link ContinuableTaskExecutor} that queues the task
+ * in the lane and returns at once, the outcome is reported to the callback by the worker that ran the task.
+ * Whenever a worker is free, the ready lane with the highest priority is dispatched; lanes of the same priority
+ * are served by start-time fair queuing, so under a backlog each lane receives executions proportionally
+ * to its weight. The work itself is done by at most {@code concurrency} workers, scheduling threads are never
+ * held by queued or running tasks.
+ */
+public class WeightedFairDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(WeightedFairDispatcher.class);
+
+    private final ExecutorService workers;
+    private final int concurrency;
+    private final Clock clock;
+    private final List<Lane> lanes;
+    private double virtualTime;
+    private int running;
+
+    public WeightedFairDispatcher(ExecutorService workers, int concurrency, Clock clock) {
+        this.workers = Objects.requireNonNull(workers, "workers cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency should be positive");
+        }
+        this.concurrency = concurrency;
+        this.lanes = new ArrayList<>();
+        this.virtualTime = 0;
+        this.running = 0;
+    }
+
+    /**
+     * Registers a lane for an event type.
+     *
+     * @param properties the lane configuration.
+     * @param listener   the listener notified on each dispatched task of the lane.
+     * @return an executor queueing tasks in the registered lane.
+     */
+    public synchronized ContinuableTaskExecutor register(DispatchLanePropertiesHolder properties, DispatchListener listener) {
+        Objects.requireNonNull(properties, "properties cannot be null");
+        Objects.requireNonNull(listener, "listener cannot be null");
+        Integer priority = Objects.requireNonNull(properties.getPriority(), "priority cannot be null");
+        Integer weight = Objects.requireNonNull(properties.getWeight(), "weight cannot be null");
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight should be positive");
+        }
+        Lane lane = new Lane(properties.getEventType(), priority, weight, listener);
+        lanes.add(lane);
+        return lane;
+    }
+
+    /**
+     * Shuts down the worker pool, callbacks of queued tasks receive {@code false}.
+     */
+    public void shutdown() {
+        workers.shutdown();
+        List<Dispatch> abandoned = new ArrayList<>();
+        synchronized (this) {
+            for (Lane lane : lanes) {
+                abandoned.addAll(lane.pending);
+                lane.pending.clear();
+            }
+        }
+        abandoned.forEach(dispatch -> dispatch.callback.accept(false, null));
+    }
+
+    /**
+     * Blocks until dispatched tasks have completed after {@link #shutdown()}, or the timeout elapses.
+     *
+     * @return {@code true} if the worker pool terminated, {@code false} if the timeout elapsed.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Returns {@code true} once the worker pool is shut down and no dispatched task is running.
+     */
+    public boolean isTerminated() {
+        return workers.isTerminated();
+    }
+
+    private synchronized void enqueue(Lane lane, ContinuableTask task, BiConsumer<Boolean, Throwable> callback) {
+        Dispatch dispatch = new Dispatch(lane, task, clock.instant(), callback);
+        if (lane.pending.isEmpty()) {
+            lane.startTag = Math.max(lane.finishTag, virtualTime);
+        }
+        lane.pending.add(dispatch);
+        dispatchReady();
+    }
+
+    private synchronized void onCompleted() {
+        running--;
+        dispatchReady();
+    }
+
+    private void dispatchReady() {
+        while (running < concurrency) {
+            Lane lane = nextLane();
+            if (lane == null) {
+                return;
+            }
+            Dispatch dispatch = lane.pending.poll();
+            virtualTime = lane.startTag;
+            lane.finishTag = lane.startTag + 1.0 / lane.weight;
+            lane.startTag = lane.finishTag;
+            running++;
+            try {
+                workers.execute(() -> execute(dispatch));
+            } catch (RejectedExecutionException e) {
+                running--;
+                log.warn("Dispatcher workers rejected task of event type={}, likely shutting down", lane.eventType);
+                dispatch.callback.accept(false, null);
+            }
+        }
+    }
+
+    private Lane nextLane() {
+        Lane next = null;
+        for (Lane lane : lanes) {
+            if (lane.pending.isEmpty()) {
+                continue;
+            }
+            if (next == null
+                    || lane.priority > next.priority
+                    || (lane.priority == next.priority && lane.startTag < next.startTag)) {
+                next = lane;
+            }
+        }
+        return next;
+    }
+
+    private void execute(Dispatch dispatch) {
+        boolean shouldContinue = false;
+        Throwable error = null;
+        try {
+            dispatch.lane.listener.onDispatched(Duration.between(dispatch.enqueuedAt, clock.instant()));
+            shouldContinue = dispatch.task.run();
+        } catch (Throwable t) {
+            error = t;
+        } finally {
+            onCompleted();
+        }
+        dispatch.callback.accept(shouldContinue, error);
+    }
+
+    private final class Lane implements ContinuableTaskExecutor {
+
+        private final String eventType;
+        private final int priority;
+        private final int weight;
+        private final DispatchListener listener;
+        private final Queue<Dispatch> pending;
+        private double startTag;
+        private double finishTag;
+
+        private Lane(String eventType, int priority, int weight, DispatchListener listener) {
+            this.eventType = eventType;
+            this.priority = priority;
+            this.weight = weight;
+            this.listener = listener;
+            this.pending = new ArrayDeque<>();
+        }
+
+        @Override
+        public void execute(ContinuableTask task, BiConsumer<Boolean, Throwable> callback) {
+            Objects.requireNonNull(task, "task cannot be null");
+            Objects.requireNonNull(callback, "callback cannot be null");
+            enqueue(this, task, callback);
+        }
+    }
+
+    private record Dispatch(Lane lane,
+                            ContinuableTask task,
+                            Instant enqueuedAt,
+                            BiConsumer<Boolean, Throwable> callback) { }
+}
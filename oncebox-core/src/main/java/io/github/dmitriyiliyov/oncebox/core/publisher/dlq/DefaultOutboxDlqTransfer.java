@@ -1,5 +1,6 @@
 package io.github.dmitriyiliyov.oncebox.core.publisher.dlq;
 
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxDlqTransferEvent;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
@@ -36,6 +37,8 @@ public class DefaultOutboxDlqTransfer implements OutboxDlqTransfer {
 
     @Override
     public int transferToDlq(int batchSize) {
+        OutboxDlqTransferEvent transferEvent = new OutboxDlqTransferEvent();
+        transferEvent.begin();
         final List<OutboxEvent> events = new ArrayList<>();
         transactionTemplate.executeWithoutResult(status -> {
             try {
@@ -54,6 +57,7 @@ public class DefaultOutboxDlqTransfer implements OutboxDlqTransfer {
                 throw e;
             }
         });
+        transferEvent.finish(OutboxDlqTransferEvent.TO_DLQ, batchSize, events.size());
         if (!events.isEmpty()) {
             try {
                 handler.handle(events);
@@ -67,6 +71,8 @@ public class DefaultOutboxDlqTransfer implements OutboxDlqTransfer {
 
     @Override
     public int transferFromDlq(int batchSize) {
+        OutboxDlqTransferEvent transferEvent = new OutboxDlqTransferEvent();
+        transferEvent.begin();
         Integer transferredCount = transactionTemplate.execute(status -> {
             try {
                 List<OutboxDlqEvent> dlqEvents = dlqManager.loadAndLockBatch(DlqStatus.TO_RETRY, batchSize);
@@ -85,6 +91,8 @@ public class DefaultOutboxDlqTransfer implements OutboxDlqTransfer {
                 throw e;
             }
         });
-        return transferredCount != null ? transferredCount : 0;
+        int transferred = transferredCount != null ? transferredCount : 0;
+        transferEvent.finish(OutboxDlqTransferEvent.FROM_DLQ, batchSize, transferred);
+        return transferred;
     }
 }
\ No newline at end of file
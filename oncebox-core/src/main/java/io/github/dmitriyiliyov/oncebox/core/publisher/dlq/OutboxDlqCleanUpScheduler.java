@@ -4,6 +4,7 @@ import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxCleanupEvent;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
 import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
@@ -49,7 +50,10 @@ public final class OutboxDlqCleanUpScheduler implements OutboxScheduler {
             }
             try {
                 int batchSize = properties.getBatchSize();
+                OutboxCleanupEvent cleanupEvent = new OutboxCleanupEvent();
+                cleanupEvent.begin();
                 int deletedCount = manager.deleteResolvedBatch(properties.getTtl(), batchSize);
+                cleanupEvent.finish(OutboxCleanupEvent.DLQ, batchSize, deletedCount);
                 log.debug("Successfully cleaned {} events", deletedCount);
                 return batchSize == deletedCount;
             } catch (Exception e) {
@@ -3,7 +3,8 @@ package io.github.dmitriyiliyov.oncebox.core.publisher.domain;
 public enum OutboxHeaders {
     EVENT_TYPE("outbox_event_type"),
     EVENT_ID("outbox_event_id"),
-    EVENT_PAYLOAD_TYPE("outbox_event_payload_type");
+    EVENT_PAYLOAD_TYPE("outbox_event_payload_type"),
+    EVENT_CREATED_AT("outbox_event_created_at");
 
     private final String value;
 
@@ -4,10 +4,24 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Outcome of sending a batch.
+ *
+ * @param processedIds           the IDs of sent events.
+ * @param failedIds              the IDs of events that were not sent.
+ * @param destinationUnavailable whether the batch failed because the destination could not be reached, e.g. the
+ *                               sender threw or timed out, as opposed to the destination rejecting single events.
+ */
 public record SenderResult(
         Set<UUID> processedIds,
-        Set<UUID> failedIds
+        Set<UUID> failedIds,
+        boolean destinationUnavailable
 ) {
+
+    public SenderResult(Set<UUID> processedIds, Set<UUID> failedIds) {
+        this(processedIds, failedIds, false);
+    }
+
     public static SenderResult empty() {
         return new SenderResult(Collections.emptySet(), Collections.emptySet());
     }
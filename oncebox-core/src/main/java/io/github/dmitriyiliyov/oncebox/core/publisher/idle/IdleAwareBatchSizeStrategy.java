@@ -0,0 +1,62 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.idle;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxBatchListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link BatchSizeStrategy} decorator that returns a batch size of 0 while the event type is idle
+ * according to an {@link OutboxIdleDetector}, so no locking claim query is executed.
+ * <p>
+ * A claim that returns fewer events than requested drains the event type. A claim that returns no events
+ * is not reported by {@link OutboxBatchListener#onBatchSent}, so it is detected on the next call of
+ * {@link #getBatchSize()}.
+ */
+public class IdleAwareBatchSizeStrategy implements BatchSizeStrategy {
+
+    private final BatchSizeStrategy delegate;
+    private final OutboxIdleDetector detector;
+    private final String eventType;
+    private Long claimSequence;
+
+    public IdleAwareBatchSizeStrategy(BatchSizeStrategy delegate, OutboxIdleDetector detector, String eventType) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.detector = Objects.requireNonNull(detector, "detector cannot be null");
+        this.eventType = Objects.requireNonNull(eventType, "eventType cannot be null");
+    }
+
+    @Override
+    public int getBatchSize() {
+        if (claimSequence != null) {
+            detector.onDrained(eventType, claimSequence);
+            claimSequence = null;
+        }
+        if (detector.isIdle(eventType)) {
+            return 0;
+        }
+        int batchSize = delegate.getBatchSize();
+        if (batchSize > 0) {
+            claimSequence = detector.onClaimStarted();
+        }
+        return batchSize;
+    }
+
+    @Override
+    public void onBatchSent(int batchSize, List<OutboxEvent> events, SenderResult result, Duration sendDuration) {
+        if (claimSequence != null && events.size() < batchSize) {
+            detector.onDrained(eventType, claimSequence);
+        }
+        claimSequence = null;
+        delegate.onBatchSent(batchSize, events, result, sendDuration);
+    }
+
+    @Override
+    public boolean isInfrastructureFailure(List<OutboxEvent> events, SenderResult result) {
+        return delegate.isInfrastructureFailure(events, result);
+    }
+}
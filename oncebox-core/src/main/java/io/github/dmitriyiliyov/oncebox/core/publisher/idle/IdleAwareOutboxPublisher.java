@@ -0,0 +1,51 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.idle;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link OutboxPublisher} decorator that advances the local publish watermark of an {@link OutboxIdleDetector},
+ * so an idle event type is claimed right after this instance publishes an event of that type.
+ * <p>
+ * The event type is marked due after the surrounding transaction commits, because a claim running
+ * before the commit cannot see the event yet.
+ */
+public class IdleAwareOutboxPublisher implements OutboxPublisher {
+
+    private final OutboxPublisher delegate;
+    private final OutboxIdleDetector detector;
+
+    public IdleAwareOutboxPublisher(OutboxPublisher delegate, OutboxIdleDetector detector) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.detector = Objects.requireNonNull(detector, "detector cannot be null");
+    }
+
+    @Override
+    public <T> void publish(String eventType, T event) {
+        delegate.publish(eventType, event);
+        markPublished(eventType);
+    }
+
+    @Override
+    public <T> void publish(String eventType, List<T> events) {
+        delegate.publish(eventType, events);
+        markPublished(eventType);
+    }
+
+    private void markPublished(String eventType) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    detector.onPublished(eventType);
+                }
+            });
+        } else {
+            detector.onPublished(eventType);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.idle;
+
+import java.time.Duration;
+
+/**
+ * Configuration of an {@link OutboxIdleDetector}.
+ */
+public interface IdleDetectionPropertiesHolder {
+
+    /**
+     * @return how long the result of a probe is trusted before the database is probed again.
+     */
+    Duration getProbeInterval();
+}
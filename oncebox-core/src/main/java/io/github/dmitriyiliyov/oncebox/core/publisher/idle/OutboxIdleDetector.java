@@ -0,0 +1,128 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.idle;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks which event types have due pending events, so idle event types can skip the locking claim query.
+ * <p>
+ * Due event types are learned from a single non-locking probe
+ * ({@link OutboxRepository#findEventTypesWithDueEvents(Collection, EventStatus)}) shared by all event types
+ * and repeated at most once per {@code probeInterval}, and from a local publish watermark: an event type
+ * becomes due as soon as an event of that type is published by this instance. An event type stops being due
+ * once a claim started after it was marked due finds fewer events than requested.
+ * <p>
+ * Marks and claims are ordered by a sequence counter rather than by the clock, so an event published in the
+ * same clock tick as a claim started is never lost. The probe runs without holding any lock: the caller that
+ * wins the refresh of the next probe time runs it, the others use the current marks.
+ * <p>
+ * Events published by other instances or becoming due after a retry backoff are therefore noticed with
+ * a delay of at most {@code probeInterval}. If the probe fails, every event type is considered due.
+ */
+public class OutboxIdleDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxIdleDetector.class);
+
+    private final OutboxRepository repository;
+    private final List<String> eventTypes;
+    private final Duration probeInterval;
+    private final Clock clock;
+    private final ConcurrentMap<String, Long> dueSince;
+    private final AtomicLong sequence;
+    private final AtomicReference<Instant> nextProbeAt;
+
+    public OutboxIdleDetector(OutboxRepository repository,
+                              Collection<String> eventTypes,
+                              IdleDetectionPropertiesHolder properties,
+                              Clock clock) {
+        this.repository = Objects.requireNonNull(repository, "repository cannot be null");
+        this.eventTypes = List.copyOf(Objects.requireNonNull(eventTypes, "eventTypes cannot be null"));
+        Objects.requireNonNull(properties, "properties cannot be null");
+        this.probeInterval = Objects.requireNonNull(properties.getProbeInterval(), "probeInterval cannot be null");
+        if (probeInterval.isNegative() || probeInterval.isZero()) {
+            throw new IllegalArgumentException("probeInterval should be positive");
+        }
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        this.dueSince = new ConcurrentHashMap<>();
+        this.sequence = new AtomicLong();
+        this.nextProbeAt = new AtomicReference<>(Instant.MIN);
+    }
+
+    /**
+     * Returns whether the event type has no due events, probing the database if the last probe is outdated.
+     *
+     * @param eventType the event type to check.
+     * @return {@code true} if the claim query can be skipped.
+     */
+    public boolean isIdle(String eventType) {
+        Instant now = clock.instant();
+        Instant probeAt = nextProbeAt.get();
+        if (!now.isBefore(probeAt) && nextProbeAt.compareAndSet(probeAt, now.plus(probeInterval))) {
+            probe();
+        }
+        return !dueSince.containsKey(eventType);
+    }
+
+    /**
+     * Marks the event type as due, called once an event of that type is committed by this instance.
+     *
+     * @param eventType the published event type.
+     */
+    public void onPublished(String eventType) {
+        dueSince.put(eventType, sequence.incrementAndGet());
+    }
+
+    /**
+     * Returns the position of a claim that is about to start, to be passed to {@link #onDrained(String, long)}.
+     *
+     * @return the current sequence number.
+     */
+    public long onClaimStarted() {
+        return sequence.get();
+    }
+
+    /**
+     * Marks the event type as idle unless it was marked due after the claim started.
+     *
+     * @param eventType     the drained event type.
+     * @param claimSequence the value returned by {@link #onClaimStarted()} before the claim that found fewer
+     *                      events than requested.
+     */
+    public void onDrained(String eventType, long claimSequence) {
+        dueSince.computeIfPresent(eventType, (type, since) -> since <= claimSequence ? null : since);
+    }
+
+    private void probe() {
+        long probeSequence = sequence.get();
+        Set<String> dueTypes;
+        try {
+            dueTypes = repository.findEventTypesWithDueEvents(eventTypes, EventStatus.PENDING);
+        } catch (Exception e) {
+            log.warn("Error probing due outbox events, all event types are considered due", e);
+            eventTypes.forEach(eventType -> dueSince.put(eventType, sequence.incrementAndGet()));
+            return;
+        }
+        for (String eventType : eventTypes) {
+            if (dueTypes.contains(eventType)) {
+                dueSince.putIfAbsent(eventType, sequence.incrementAndGet());
+            } else {
+                onDrained(eventType, probeSequence);
+            }
+        }
+        log.debug("Due outbox events probed, dueEventTypes={}", dueTypes);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link RateLimiter} that grants only permits granted by all of its delegates,
+ * e.g. an event type limit combined with a limit shared by all event types of the same topic.
+ * <p>
+ * Permits granted by a delegate in excess of what a later delegate granted are released back immediately.
+ */
+public class CompositeRateLimiter implements RateLimiter {
+
+    private final List<RateLimiter> delegates;
+
+    public CompositeRateLimiter(List<RateLimiter> delegates) {
+        Objects.requireNonNull(delegates, "delegates cannot be null");
+        if (delegates.isEmpty()) {
+            throw new IllegalArgumentException("delegates cannot be empty");
+        }
+        this.delegates = List.copyOf(delegates);
+    }
+
+    @Override
+    public int tryAcquire(int permits) {
+        int granted = permits;
+        for (int i = 0; i < delegates.size() && granted > 0; i++) {
+            int current = delegates.get(i).tryAcquire(granted);
+            if (current < granted) {
+                for (int j = 0; j < i; j++) {
+                    delegates.get(j).release(granted - current);
+                }
+            }
+            granted = current;
+        }
+        return granted;
+    }
+
+    @Override
+    public void release(int permits) {
+        for (RateLimiter delegate : delegates) {
+            delegate.release(permits);
+        }
+    }
+
+    @Override
+    public double getAvailablePermits() {
+        double available = Double.MAX_VALUE;
+        for (RateLimiter delegate : delegates) {
+            available = Math.min(available, delegate.getAvailablePermits());
+        }
+        return available;
+    }
+
+    @Override
+    public Duration estimateWait(int permits) {
+        Duration wait = Duration.ZERO;
+        for (RateLimiter delegate : delegates) {
+            Duration current = delegate.estimateWait(permits);
+            if (current.compareTo(wait) > 0) {
+                wait = current;
+            }
+        }
+        return wait;
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+/**
+ * Configuration of a token-bucket {@link RateLimiter}.
+ */
+public interface RateLimitPropertiesHolder {
+
+    /**
+     * @return the number of permits refilled per second, always positive.
+     */
+    Double getPermitsPerSecond();
+
+    /**
+     * @return the maximum number of permits the bucket can hold, always positive.
+     */
+    Integer getBurstCapacity();
+}
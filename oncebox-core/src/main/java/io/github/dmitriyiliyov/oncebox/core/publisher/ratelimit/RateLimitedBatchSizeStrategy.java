@@ -0,0 +1,62 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link BatchSizeStrategy} decorator that shrinks the batch size to the permits granted by a {@link RateLimiter}.
+ * <p>
+ * Permits are acquired before the batch is claimed, so events are never locked just to wait for permits.
+ * Permits not used by the claimed batch are released on {@link #onBatchSent}, or on the next
+ * {@link #getBatchSize()} if nothing was sent. Returns 0 while no permits are available.
+ * <p>
+ * Not thread-safe, the instance is expected to be used by a single scheduler of an event type.
+ */
+public class RateLimitedBatchSizeStrategy implements BatchSizeStrategy {
+
+    private final BatchSizeStrategy delegate;
+    private final RateLimiter rateLimiter;
+    private final RateLimiterListener listener;
+    private int acquiredPermits;
+
+    public RateLimitedBatchSizeStrategy(BatchSizeStrategy delegate, RateLimiter rateLimiter, RateLimiterListener listener) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.rateLimiter = Objects.requireNonNull(rateLimiter, "rateLimiter cannot be null");
+        this.listener = Objects.requireNonNull(listener, "listener cannot be null");
+    }
+
+    @Override
+    public int getBatchSize() {
+        releaseAcquired(0);
+        int requested = delegate.getBatchSize();
+        int granted = rateLimiter.tryAcquire(requested);
+        acquiredPermits = granted;
+        Duration throttledFor = granted < requested ? rateLimiter.estimateWait(requested - granted) : Duration.ZERO;
+        listener.onAcquired(requested, granted, rateLimiter.getAvailablePermits(), throttledFor);
+        return granted;
+    }
+
+    @Override
+    public void onBatchSent(int batchSize, List<OutboxEvent> events, SenderResult result, Duration sendDuration) {
+        releaseAcquired(events.size());
+        delegate.onBatchSent(batchSize, events, result, sendDuration);
+    }
+
+    @Override
+    public boolean isInfrastructureFailure(List<OutboxEvent> events, SenderResult result) {
+        return delegate.isInfrastructureFailure(events, result);
+    }
+
+    private void releaseAcquired(int used) {
+        int unused = acquiredPermits - used;
+        acquiredPermits = 0;
+        if (unused > 0) {
+            rateLimiter.release(unused);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * A non-blocking limiter of the number of outbox events sent per time unit.
+ * <p>
+ * Permits are acquired before events are claimed, so the caller never locks events it is not allowed to send.
+ * Permits that were acquired but not used, e.g. because fewer events were claimed, should be released back.
+ */
+public interface RateLimiter {
+
+    /**
+     * Acquires up to {@code permits} permits without waiting.
+     *
+     * @param permits the number of permits requested, not negative.
+     * @return the number of granted permits, between 0 and {@code permits}.
+     * @throws IllegalArgumentException if {@code permits} is negative.
+     */
+    int tryAcquire(int permits);
+
+    /**
+     * Returns previously acquired but unused permits.
+     *
+     * @param permits the number of permits to return, ignored if not positive.
+     */
+    void release(int permits);
+
+    /**
+     * @return the number of permits that can be acquired right now.
+     */
+    double getAvailablePermits();
+
+    /**
+     * Estimates how long it takes until {@code permits} permits become available.
+     *
+     * @param permits the number of permits.
+     * @return the estimated wait, {@link Duration#ZERO} if the permits are already available.
+     */
+    Duration estimateWait(int permits);
+}
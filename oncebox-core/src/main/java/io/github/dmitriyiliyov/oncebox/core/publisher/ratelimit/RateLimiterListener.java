@@ -0,0 +1,20 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Listener notified each time permits are acquired from a {@link RateLimiter} for an outbox event type.
+ */
+public interface RateLimiterListener {
+
+    RateLimiterListener NOOP = (requested, granted, availablePermits, throttledFor) -> { };
+
+    /**
+     * @param requested        the number of permits requested, i.e. the desired batch size.
+     * @param granted          the number of permits granted, i.e. the batch size that will be claimed.
+     * @param availablePermits the number of permits left after the acquisition.
+     * @param throttledFor     the estimated time until the missing permits become available,
+     *                         {@link Duration#ZERO} if all requested permits were granted.
+     */
+    void onAcquired(int requested, int granted, double availablePermits, Duration throttledFor);
+}
@@ -0,0 +1,86 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * {@link RateLimiter} based on a token bucket.
+ * <p>
+ * The bucket starts full, holds at most {@code burstCapacity} permits and is refilled lazily at
+ * {@code permitsPerSecond} on each access. Thread-safe, so a single instance can be shared by several
+ * event types, e.g. sending to the same topic.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Clock clock;
+    private final double permitsPerNano;
+    private final double burstCapacity;
+    private double availablePermits;
+    private Instant lastRefill;
+
+    public TokenBucketRateLimiter(RateLimitPropertiesHolder properties, Clock clock) {
+        Objects.requireNonNull(properties, "properties cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        Double permitsPerSecond = Objects.requireNonNull(properties.getPermitsPerSecond(), "permitsPerSecond cannot be null");
+        Integer burstCapacity = Objects.requireNonNull(properties.getBurstCapacity(), "burstCapacity cannot be null");
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond should be positive");
+        }
+        if (burstCapacity <= 0) {
+            throw new IllegalArgumentException("burstCapacity should be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.burstCapacity = burstCapacity;
+        this.availablePermits = burstCapacity;
+        this.lastRefill = clock.instant();
+    }
+
+    @Override
+    public synchronized int tryAcquire(int permits) {
+        if (permits < 0) {
+            throw new IllegalArgumentException("permits cannot be negative");
+        }
+        refill();
+        int granted = (int) Math.min(permits, Math.floor(availablePermits));
+        availablePermits -= granted;
+        return granted;
+    }
+
+    @Override
+    public synchronized void release(int permits) {
+        if (permits <= 0) {
+            return;
+        }
+        refill();
+        availablePermits = Math.min(burstCapacity, availablePermits + permits);
+    }
+
+    @Override
+    public synchronized double getAvailablePermits() {
+        refill();
+        return availablePermits;
+    }
+
+    @Override
+    public synchronized Duration estimateWait(int permits) {
+        refill();
+        double missing = Math.min(permits, burstCapacity) - availablePermits;
+        if (missing <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) Math.ceil(missing / permitsPerNano));
+    }
+
+    private void refill() {
+        Instant now = clock.instant();
+        long elapsed = Duration.between(lastRefill, now).toNanos();
+        if (elapsed > 0) {
+            availablePermits = Math.min(burstCapacity, availablePermits + elapsed * permitsPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.stage;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-thread accumulator of stage durations and database round trips of a single polling cycle.
+ * <p>
+ * A polling cycle runs on one thread from claim to finalization, so the processor and the manager record
+ * into the cycle bound to the current thread instead of passing it through every call. Recording is a no-op
+ * when no cycle was started with {@link #begin()}, so instrumentation costs nothing unless someone observes it.
+ */
+public final class OutboxProcessingCycle {
+
+    private static final ThreadLocal<OutboxProcessingCycle> CURRENT = new ThreadLocal<>();
+
+    private final Map<OutboxProcessingStage, Long> stageNanos = new EnumMap<>(OutboxProcessingStage.class);
+    private int statements;
+    private long rows;
+
+    private OutboxProcessingCycle() { }
+
+    /**
+     * Starts a new cycle on the current thread, replacing any cycle left unfinished.
+     *
+     * @return the started cycle.
+     */
+    public static OutboxProcessingCycle begin() {
+        OutboxProcessingCycle cycle = new OutboxProcessingCycle();
+        CURRENT.set(cycle);
+        return cycle;
+    }
+
+    /**
+     * Detaches the cycle from the current thread.
+     *
+     * @return the finished cycle, or {@code null} if none was started.
+     */
+    public static OutboxProcessingCycle end() {
+        OutboxProcessingCycle cycle = CURRENT.get();
+        CURRENT.remove();
+        return cycle;
+    }
+
+    /**
+     * Adds the duration of a stage to the current cycle, if any.
+     */
+    public static void recordStage(OutboxProcessingStage stage, long nanos) {
+        OutboxProcessingCycle cycle = CURRENT.get();
+        if (cycle != null) {
+            cycle.stageNanos.merge(stage, nanos, Long::sum);
+        }
+    }
+
+    /**
+     * Counts one SQL statement sent to the database in the current cycle, if any.
+     * <p>
+     * Repositories call this once per statement they execute; a JDBC batch of the same statement counts once.
+     */
+    public static void recordStatement() {
+        OutboxProcessingCycle cycle = CURRENT.get();
+        if (cycle != null) {
+            cycle.statements++;
+        }
+    }
+
+    /**
+     * Adds the rows claimed or updated by an operation to the current cycle, if any.
+     */
+    public static void recordRows(long rows) {
+        OutboxProcessingCycle cycle = CURRENT.get();
+        if (cycle != null) {
+            cycle.rows += Math.max(0, rows);
+        }
+    }
+
+    /**
+     * @return stage durations in nanoseconds, only for stages that were reached.
+     */
+    public Map<OutboxProcessingStage, Long> getStageNanos() {
+        return stageNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("OutboxProcessingCycle{");
+        stageNanos.forEach((stage, nanos) -> builder.append(stage.name().toLowerCase())
+                .append("Ms=")
+                .append(nanos / 1_000_000.0)
+                .append(", "));
+        return builder.append("statements=")
+                .append(statements)
+                .append(", rows=")
+                .append(rows)
+                .append('}')
+                .toString();
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.stage;
+
+/**
+ * Stages of a single {@link io.github.dmitriyiliyov.oncebox.core.publisher.OutboxProcessor} polling cycle.
+ */
+public enum OutboxProcessingStage {
+
+    /**
+     * Claiming a batch of pending events.
+     */
+    LOAD,
+
+    /**
+     * Handing the claimed batch to the sender and waiting for broker acknowledgements.
+     */
+    SEND,
+
+    /**
+     * Marking acknowledged events as processed.
+     */
+    FINALIZE_PROCESSED,
+
+    /**
+     * Rescheduling or failing events the sender could not deliver.
+     */
+    FINALIZE_FAILED
+}
@@ -2,6 +2,7 @@ package io.github.dmitriyiliyov.oncebox.core.utils;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Set;
 import java.util.UUID;
 
@@ -11,6 +12,10 @@ public abstract class BytesSqlIdHelper implements SqlIdHelper {
 
     @Override
     public void setIdToPs(PreparedStatement ps, int parameterIndex, UUID id) throws SQLException {
+        if (id == null) {
+            ps.setNull(parameterIndex, Types.BINARY);
+            return;
+        }
         ps.setBytes(parameterIndex, uuidToBytes(id));
     }
 
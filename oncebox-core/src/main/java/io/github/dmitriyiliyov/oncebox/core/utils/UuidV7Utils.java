@@ -0,0 +1,37 @@
+package io.github.dmitriyiliyov.oncebox.core.utils;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Helpers for UUIDv7 ids, whose 48 most significant bits hold the Unix epoch milliseconds of their creation.
+ * <p>
+ * Used by {@link io.github.dmitriyiliyov.oncebox.core.CleanUpMode#ID_RANGE} clean-up, which turns a TTL into an id
+ * bound and deletes by primary key range.
+ */
+public final class UuidV7Utils {
+
+    private static final int VERSION = 7;
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+
+    private UuidV7Utils() {}
+
+    /**
+     * Returns the smallest UUIDv7 with the given timestamp, so every UUIDv7 created earlier compares lower in
+     * big-endian byte order, which is how databases order {@code UUID} and binary ids.
+     */
+    public static UUID lowerBound(Instant timestamp) {
+        Objects.requireNonNull(timestamp, "timestamp cannot be null");
+        long millis = Math.max(0, timestamp.toEpochMilli());
+        return new UUID((millis << 16) | VERSION_BITS, VARIANT_BITS);
+    }
+
+    /**
+     * Returns whether the id is an RFC 9562 UUIDv7, so its creation time can be read from its leading bits.
+     */
+    public static boolean isUuidV7(UUID id) {
+        return id != null && id.variant() == 2 && id.version() == VERSION;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.dmitriyiliyov.oncebox.core.consumer;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPropertiesHolder;
@@ -53,6 +54,17 @@ public class ConsumedOutboxCleanUpSchedulerUnitTests {
         );
     }
 
+    @Test
+    @DisplayName("UT ConsumedOutboxCleanUpScheduler() when mode is ID_RANGE and manager does not support it should throw IllegalStateException")
+    void constructor_whenIdRangeNotSupported_shouldThrowIllegalStateException() {
+        when(properties.getMode()).thenReturn(CleanUpMode.ID_RANGE);
+        when(manager.supportsIdRangeCleanUp()).thenReturn(false);
+
+        assertThatThrownBy(() -> new ConsumedOutboxCleanUpScheduler(workerId, properties, strategy, manager, lock, decorator))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ID_RANGE");
+    }
+
     @Test
     @DisplayName("UT ConsumedOutboxCleanUpScheduler() when workerId is null should throw NullPointerException")
     void constructor_whenWorkerIdIsNull_shouldThrowNullPointerException() {
@@ -123,6 +135,7 @@ public class ConsumedOutboxCleanUpSchedulerUnitTests {
     @DisplayName("UT schedule() when lock acquired by another instance, should return false and not execute")
     void schedule_whenLockNotAcquired_shouldReturnFalseAndNotExecute() {
         // given
+        clearInvocations(properties);
         when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
         when(lock.tryLock(jobName, workerId)).thenReturn(false);
 
@@ -220,6 +233,29 @@ public class ConsumedOutboxCleanUpSchedulerUnitTests {
         verify(manager).cleanBatchByTtl(ttl, batchSize);
     }
 
+    @Test
+    @DisplayName("UT schedule() when mode is ID_RANGE, should clean by id range")
+    void schedule_whenModeIsIdRange_shouldCleanByIdRange() {
+        // given
+        int batchSize = 100;
+        Duration ttl = Duration.ofHours(48);
+        when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
+        when(lock.tryLock(jobName, workerId)).thenReturn(true);
+        when(properties.getBatchSize()).thenReturn(batchSize);
+        when(properties.getTtl()).thenReturn(ttl);
+        when(properties.getMode()).thenReturn(CleanUpMode.ID_RANGE);
+        when(manager.cleanBatchByIdRange(ttl, batchSize)).thenReturn(batchSize);
+
+        // when
+        tested.schedule();
+        boolean result = captureAndRun();
+
+        // then
+        assertTrue(result);
+        verify(manager, never()).cleanBatchByTtl(any(), anyInt());
+        verify(lock).unlock(jobName, workerId);
+    }
+
     @Test
     @DisplayName("UT schedule() when manager throws exception, should return false, not rethrow and ALWAYS unlock")
     void schedule_whenManagerThrows_shouldReturnFalseAndNotRethrowAndUnlock() {
@@ -1,5 +1,8 @@
 package io.github.dmitriyiliyov.oncebox.core.consumer;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.ConsumedOutboxFilter;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +21,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -151,6 +157,50 @@ class DefaultConsumedOutboxManagerUnitTests {
         verify(repository).saveIfAbsent(ids);
     }
 
+    @Test
+    @DisplayName("UT tryConsumeAndGetDuplicates() when filter rules out ids should pass them as unseen")
+    void tryConsumeAndGetDuplicates_whenFilterRulesOutIds_shouldPassThemAsUnseen() {
+        // given
+        ConsumedOutboxFilter filter = mock(ConsumedOutboxFilter.class);
+        manager = new DefaultConsumedOutboxManager(repository, clock, filter);
+        UUID seen = UUID.randomUUID();
+        UUID unseen = UUID.randomUUID();
+        Set<UUID> ids = Set.of(seen, unseen);
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        when(clock.instant()).thenReturn(now);
+        when(filter.mightContain(seen)).thenReturn(true);
+        when(filter.mightContain(unseen)).thenReturn(false);
+        when(repository.saveIfAbsent(ids, Set.of(unseen))).thenReturn(Set.of(unseen));
+
+        // when
+        Set<UUID> result = manager.tryConsumeAndGetDuplicates(ids);
+
+        // then
+        assertThat(result).containsExactly(seen);
+        verify(repository, never()).saveIfAbsent(ids);
+        verify(filter).put(seen, now);
+        verify(filter).put(unseen, now);
+    }
+
+    @Test
+    @DisplayName("UT tryConsumeAndGetDuplicates() when concurrent insert detected should still put ids into filter")
+    void tryConsumeAndGetDuplicates_whenConcurrentInsert_shouldStillPutIdsIntoFilter() {
+        // given
+        ConsumedOutboxFilter filter = mock(ConsumedOutboxFilter.class);
+        manager = new DefaultConsumedOutboxManager(repository, clock, filter);
+        UUID id = UUID.randomUUID();
+        Set<UUID> ids = Set.of(id);
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        when(clock.instant()).thenReturn(now);
+        when(filter.mightContain(id)).thenReturn(false);
+        when(repository.saveIfAbsent(ids, ids)).thenThrow(new ConcurrentInsertException(1, 0, ids));
+
+        // when + then
+        assertThatThrownBy(() -> manager.tryConsumeAndGetDuplicates(ids))
+                .isInstanceOf(ConcurrentInsertException.class);
+        verify(filter).put(id, now);
+    }
+
     @Test
     @DisplayName("UT cleanBatchByTtl() should calculate correct threshold and delegate")
     void cleanBatchByTtl_shouldCalculateCorrectThresholdAndDelegate() {
@@ -193,6 +243,75 @@ class DefaultConsumedOutboxManagerUnitTests {
         verify(repository).deleteBatchByThreshold(any(Instant.class), eq(batchSize));
     }
 
+    @Test
+    @DisplayName("UT cleanBatchByIdRange() should convert threshold to UUIDv7 lower bound and delegate")
+    void cleanBatchByIdRange_shouldConvertThresholdToUuidV7LowerBoundAndDelegate() {
+        // given
+        Duration ttl = Duration.ofHours(1);
+        int batchSize = 100;
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        when(clock.instant()).thenReturn(now);
+        when(repository.deleteBatchByIdThreshold(UuidV7Utils.lowerBound(now.minus(ttl)), batchSize)).thenReturn(40);
+
+        // when
+        int result = manager.cleanBatchByIdRange(ttl, batchSize);
+
+        // then
+        assertThat(result).isEqualTo(40);
+        verify(repository, never()).deleteBatchByThreshold(any(), eq(batchSize));
+    }
+
+    @Test
+    @DisplayName("UT supportsIdRangeCleanUp() should delegate to repository")
+    void supportsIdRangeCleanUp_shouldDelegateToRepository() {
+        when(repository.supportsDeleteByIdThreshold()).thenReturn(true);
+
+        assertThat(manager.supportsIdRangeCleanUp()).isTrue();
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() in ID_RANGE mode when id is not UUIDv7 should throw IllegalArgumentException")
+    void tryConsume_inIdRangeModeWhenIdIsNotUuidV7_shouldThrowIllegalArgumentException() {
+        // given
+        manager = new DefaultConsumedOutboxManager(repository, clock, ConsumedOutboxFilter.NOOP, CleanUpMode.ID_RANGE);
+        UUID id = UUID.randomUUID();
+
+        // when + then
+        assertThatThrownBy(() -> manager.tryConsume(id))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not a UUIDv7");
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT tryConsumeAndGetDuplicates() in ID_RANGE mode when an id is not UUIDv7 should save nothing")
+    void tryConsumeAndGetDuplicates_inIdRangeModeWhenIdIsNotUuidV7_shouldSaveNothing() {
+        // given
+        manager = new DefaultConsumedOutboxManager(repository, clock, ConsumedOutboxFilter.NOOP, CleanUpMode.ID_RANGE);
+        Set<UUID> ids = Set.of(UuidV7Utils.lowerBound(Instant.now()), UUID.randomUUID());
+
+        // when + then
+        assertThatThrownBy(() -> manager.tryConsumeAndGetDuplicates(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() in ID_RANGE mode when id is UUIDv7 should save it")
+    void tryConsume_inIdRangeModeWhenIdIsUuidV7_shouldSaveIt() {
+        // given
+        manager = new DefaultConsumedOutboxManager(repository, clock, ConsumedOutboxFilter.NOOP, CleanUpMode.ID_RANGE);
+        UUID id = UuidV7Utils.lowerBound(Instant.now());
+        when(repository.saveIfAbsent(id)).thenReturn(1);
+        when(clock.instant()).thenReturn(Instant.now());
+
+        // when
+        boolean result = manager.tryConsume(id);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
     @Test
     @DisplayName("UT cleanBatchByTtl() with different ttl values should calculate correct threshold")
     void cleanBatchByTtl_withDifferentTtlValues_shouldCalculateCorrectThreshold() {
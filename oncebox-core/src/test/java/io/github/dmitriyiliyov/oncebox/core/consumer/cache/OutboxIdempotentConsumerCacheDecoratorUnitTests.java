@@ -117,12 +117,52 @@ class OutboxIdempotentConsumerCacheDecoratorUnitTests {
     }
 
     @Test
-    @DisplayName("UT consume(Set, Consumer) should delegate to underlying consumer directly without caching logic")
+    @DisplayName("UT consume(Set, Consumer) when all ids cached should return without executing delegate")
     @SuppressWarnings("unchecked")
-    void consumeSet_shouldDelegateToUnderlyingConsumerDirectly() {
+    void consumeSet_whenAllIdsCached_shouldReturnWithoutExecutingDelegate() {
         // given
         Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
         Consumer<Set<UUID>> operation = mock(Consumer.class);
+        when(cache.getConsumed(ids)).thenReturn(ids);
+
+        decorator = new OutboxIdempotentConsumerCacheDecorator(delegate, cache);
+
+        // when
+        decorator.consume(ids, operation);
+
+        // then
+        Mockito.verify(delegate, Mockito.never()).consume(Mockito.<Set<UUID>>any(), Mockito.<Consumer<Set<UUID>>>any());
+        Mockito.verify(cache, Mockito.never()).consumeAll(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("UT consume(Set, Consumer) when some ids cached should delegate misses and cache them in bulk")
+    @SuppressWarnings("unchecked")
+    void consumeSet_whenSomeIdsCached_shouldDelegateMissesAndCacheThemInBulk() {
+        // given
+        UUID cachedId = UUID.randomUUID();
+        UUID missedId = UUID.randomUUID();
+        Set<UUID> ids = Set.of(cachedId, missedId);
+        Consumer<Set<UUID>> operation = mock(Consumer.class);
+        when(cache.getConsumed(ids)).thenReturn(Set.of(cachedId));
+
+        decorator = new OutboxIdempotentConsumerCacheDecorator(delegate, cache);
+
+        // when
+        decorator.consume(ids, operation);
+
+        // then
+        Mockito.verify(delegate).consume(Set.of(missedId), operation);
+        Mockito.verify(cache).consumeAll(Set.of(missedId));
+    }
+
+    @Test
+    @DisplayName("UT consume(Set, Consumer) when ids empty should delegate without cache lookup")
+    @SuppressWarnings("unchecked")
+    void consumeSet_whenIdsEmpty_shouldDelegateWithoutCacheLookup() {
+        // given
+        Set<UUID> ids = Set.of();
+        Consumer<Set<UUID>> operation = mock(Consumer.class);
 
         decorator = new OutboxIdempotentConsumerCacheDecorator(delegate, cache);
 
@@ -135,13 +175,18 @@ class OutboxIdempotentConsumerCacheDecoratorUnitTests {
     }
 
     @Test
-    @DisplayName("UT consume(List, Extractor, Consumer) should delegate to underlying consumer directly without caching logic")
+    @DisplayName("UT consume(List, Extractor, Consumer) when no ids cached should delegate all messages and cache them in bulk")
     @SuppressWarnings("unchecked")
-    void consumeList_shouldDelegateToUnderlyingConsumerDirectly() {
+    void consumeList_whenNoIdsCached_shouldDelegateAllMessagesAndCacheThemInBulk() {
         // given
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
         List<String> messages = List.of("msg1", "msg2");
         OutboxEventIdExtractor<String> extractor = mock(OutboxEventIdExtractor.class);
         Consumer<List<String>> operation = mock(Consumer.class);
+        when(extractor.extract("msg1")).thenReturn(firstId);
+        when(extractor.extract("msg2")).thenReturn(secondId);
+        when(cache.getConsumed(Set.of(firstId, secondId))).thenReturn(Set.of());
 
         decorator = new OutboxIdempotentConsumerCacheDecorator(delegate, cache);
 
@@ -150,6 +195,52 @@ class OutboxIdempotentConsumerCacheDecoratorUnitTests {
 
         // then
         Mockito.verify(delegate).consume(messages, extractor, operation);
-        Mockito.verifyNoInteractions(cache);
+        Mockito.verify(cache).consumeAll(Set.of(firstId, secondId));
+    }
+
+    @Test
+    @DisplayName("UT consume(List, Extractor, Consumer) when some ids cached should delegate only missed messages")
+    @SuppressWarnings("unchecked")
+    void consumeList_whenSomeIdsCached_shouldDelegateOnlyMissedMessages() {
+        // given
+        UUID cachedId = UUID.randomUUID();
+        UUID missedId = UUID.randomUUID();
+        List<String> messages = List.of("cached", "missed");
+        OutboxEventIdExtractor<String> extractor = mock(OutboxEventIdExtractor.class);
+        Consumer<List<String>> operation = mock(Consumer.class);
+        when(extractor.extract("cached")).thenReturn(cachedId);
+        when(extractor.extract("missed")).thenReturn(missedId);
+        when(cache.getConsumed(Set.of(cachedId, missedId))).thenReturn(Set.of(cachedId));
+
+        decorator = new OutboxIdempotentConsumerCacheDecorator(delegate, cache);
+
+        // when
+        decorator.consume(messages, extractor, operation);
+
+        // then
+        Mockito.verify(delegate).consume(List.of("missed"), extractor, operation);
+        Mockito.verify(cache).consumeAll(Set.of(missedId));
+    }
+
+    @Test
+    @DisplayName("UT consume(List, Extractor, Consumer) when all ids cached should return without executing delegate")
+    @SuppressWarnings("unchecked")
+    void consumeList_whenAllIdsCached_shouldReturnWithoutExecutingDelegate() {
+        // given
+        UUID id = UUID.randomUUID();
+        List<String> messages = List.of("msg1");
+        OutboxEventIdExtractor<String> extractor = mock(OutboxEventIdExtractor.class);
+        Consumer<List<String>> operation = mock(Consumer.class);
+        when(extractor.extract("msg1")).thenReturn(id);
+        when(cache.getConsumed(Set.of(id))).thenReturn(Set.of(id));
+
+        decorator = new OutboxIdempotentConsumerCacheDecorator(delegate, cache);
+
+        // when
+        decorator.consume(messages, extractor, operation);
+
+        // then
+        Mockito.verify(delegate, Mockito.never()).consume(Mockito.<List<String>>any(), Mockito.<OutboxEventIdExtractor<String>>any(), Mockito.<Consumer<List<String>>>any());
+        Mockito.verify(cache, Mockito.never()).consumeAll(Mockito.any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.filter;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RotatingBloomConsumedOutboxFilterUnitTests {
+
+    @Mock
+    private Clock clock;
+
+    @Test
+    @DisplayName("UT constructor when false positive rate out of range should throw IllegalArgumentException")
+    void constructor_whenFalsePositiveRateOutOfRange_shouldThrowIllegalArgumentException() {
+        Assertions.assertThatThrownBy(() -> new RotatingBloomConsumedOutboxFilter(100, 1.0, Duration.ofHours(1), 4, clock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("falsePositiveRate should be between 0 and 1 exclusive");
+    }
+
+    @Test
+    @DisplayName("UT constructor when generations less than two should throw IllegalArgumentException")
+    void constructor_whenGenerationsLessThanTwo_shouldThrowIllegalArgumentException() {
+        Assertions.assertThatThrownBy(() -> new RotatingBloomConsumedOutboxFilter(100, 0.01, Duration.ofHours(1), 1, clock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("generations should be at least 2");
+    }
+
+    @Test
+    @DisplayName("UT mightContain() when not loaded should return true")
+    void mightContain_whenNotLoaded_shouldReturnTrue() {
+        // given
+        RotatingBloomConsumedOutboxFilter filter = new RotatingBloomConsumedOutboxFilter(
+                100, 0.01, Duration.ofHours(1), 4, clock
+        );
+
+        // when
+        boolean result = filter.mightContain(UUID.randomUUID());
+
+        // then
+        Assertions.assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("UT mightContain() when loaded should return true for put ids and false for unseen ids")
+    void mightContain_whenLoaded_shouldReturnTrueForPutIdsAndFalseForUnseenIds() {
+        // given
+        when(clock.millis()).thenReturn(0L);
+        RotatingBloomConsumedOutboxFilter filter = new RotatingBloomConsumedOutboxFilter(
+                1_000, 0.001, Duration.ofHours(1), 4, clock
+        );
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            filter.put(id, Instant.EPOCH);
+        }
+        filter.markLoaded();
+
+        // when + then
+        Assertions.assertThat(ids).allMatch(filter::mightContain);
+        Assertions.assertThat(filter.mightContain(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT mightContain() when window elapsed should forget id")
+    void mightContain_whenWindowElapsed_shouldForgetId() {
+        // given
+        UUID id = UUID.randomUUID();
+        when(clock.millis()).thenReturn(0L, 3_999L, 4_000L);
+        RotatingBloomConsumedOutboxFilter filter = new RotatingBloomConsumedOutboxFilter(
+                100, 0.01, Duration.ofSeconds(3), 4, clock
+        );
+        filter.put(id, Instant.EPOCH);
+        filter.markLoaded();
+
+        // when
+        boolean withinWindow = filter.mightContain(id);
+        boolean afterWindow = filter.mightContain(id);
+
+        // then
+        Assertions.assertThat(withinWindow).isTrue();
+        Assertions.assertThat(afterWindow).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT put() when consumedAt is older than window should skip id")
+    void put_whenConsumedAtOlderThanWindow_shouldSkipId() {
+        // given
+        UUID id = UUID.randomUUID();
+        when(clock.millis()).thenReturn(10_000L);
+        RotatingBloomConsumedOutboxFilter filter = new RotatingBloomConsumedOutboxFilter(
+                100, 0.01, Duration.ofSeconds(3), 4, clock
+        );
+
+        // when
+        filter.put(id, Instant.ofEpochMilli(5_000L));
+        filter.markLoaded();
+
+        // then
+        Assertions.assertThat(filter.mightContain(id)).isFalse();
+        Assertions.assertThat(filter.getEstimatedFalsePositiveRate()).isZero();
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.groupcommit;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConcurrentInsertException;
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsumedOutboxGroupCommitterUnitTests {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ConsumedOutboxManager manager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("UT constructor when window is not positive should throw IllegalArgumentException")
+    void constructor_whenWindowIsNotPositive_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new ConsumedOutboxGroupCommitter(transactionTemplate, manager, Duration.ZERO, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("window should be positive");
+    }
+
+    @Test
+    @DisplayName("UT constructor when maxBatchSize is not positive should throw IllegalArgumentException")
+    void constructor_whenMaxBatchSizeIsNotPositive_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new ConsumedOutboxGroupCommitter(transactionTemplate, manager, Duration.ofMillis(1), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxBatchSize should be positive");
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() when event not consumed should return true")
+    void tryConsume_whenEventNotConsumed_shouldReturnTrue() {
+        // given
+        UUID id = UUID.randomUUID();
+        when(manager.tryConsumeAndGetDuplicates(Set.of(id))).thenReturn(Set.of());
+        ConsumedOutboxGroupCommitter committer = new ConsumedOutboxGroupCommitter(
+                transactionTemplate, manager, Duration.ofNanos(1_000), 10
+        );
+
+        // when
+        boolean result = committer.tryConsume(id);
+
+        // then
+        assertThat(result).isTrue();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() when event already consumed should return false")
+    void tryConsume_whenEventAlreadyConsumed_shouldReturnFalse() {
+        // given
+        UUID id = UUID.randomUUID();
+        when(manager.tryConsumeAndGetDuplicates(Set.of(id))).thenReturn(Set.of(id));
+        ConsumedOutboxGroupCommitter committer = new ConsumedOutboxGroupCommitter(
+                transactionTemplate, manager, Duration.ofNanos(1_000), 10
+        );
+
+        // when
+        boolean result = committer.tryConsume(id);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() when called concurrently should save all ids in one batch")
+    void tryConsume_whenCalledConcurrently_shouldSaveAllIdsInOneBatch() throws Exception {
+        // given
+        int callers = 8;
+        when(manager.tryConsumeAndGetDuplicates(anySet())).thenReturn(Set.of());
+        ConsumedOutboxGroupCommitter committer = new ConsumedOutboxGroupCommitter(
+                transactionTemplate, manager, Duration.ofSeconds(10), callers
+        );
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        // when
+        List<Boolean> results = runConcurrently(ids, committer);
+
+        // then
+        assertThat(results).containsOnly(true);
+        ArgumentCaptor<Set<UUID>> captor = ArgumentCaptor.captor();
+        verify(manager, times(1)).tryConsumeAndGetDuplicates(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() when same id is consumed concurrently in one group should reject the second call")
+    void tryConsume_whenSameIdInOneGroup_shouldRejectSecondCall() throws Exception {
+        // given
+        UUID id = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        when(manager.tryConsumeAndGetDuplicates(anySet())).thenReturn(Set.of());
+        ConsumedOutboxGroupCommitter committer = new ConsumedOutboxGroupCommitter(
+                transactionTemplate, manager, Duration.ofSeconds(10), 2
+        );
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> leader = executor.submit(() -> committer.tryConsume(id));
+            Thread.sleep(100);
+
+            // when + then
+            assertThatThrownBy(() -> committer.tryConsume(id))
+                    .isInstanceOf(ConcurrentInsertException.class);
+            assertThat(committer.tryConsume(other)).isTrue();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isTrue();
+            verify(manager).tryConsumeAndGetDuplicates(Set.of(id, other));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() when batch fails should throw to every caller of the group")
+    void tryConsume_whenBatchFails_shouldThrowToEveryCaller() throws Exception {
+        // given
+        when(manager.tryConsumeAndGetDuplicates(anySet()))
+                .thenThrow(new ConcurrentInsertException(2, 1, Set.of()));
+        ConsumedOutboxGroupCommitter committer = new ConsumedOutboxGroupCommitter(
+                transactionTemplate, manager, Duration.ofSeconds(10), 2
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<Boolean> first = executor.submit(() -> committer.tryConsume(UUID.randomUUID()));
+            Future<Boolean> second = executor.submit(() -> committer.tryConsume(UUID.randomUUID()));
+
+            // then
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ConcurrentInsertException.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(ConcurrentInsertException.class);
+            verify(transactionManager).rollback(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("UT release() should release id in a separate transaction")
+    void release_shouldReleaseIdInSeparateTransaction() {
+        // given
+        UUID id = UUID.randomUUID();
+        ConsumedOutboxGroupCommitter committer = new ConsumedOutboxGroupCommitter(
+                transactionTemplate, manager, Duration.ofNanos(1_000), 10
+        );
+
+        // when
+        committer.release(id);
+
+        // then
+        verify(manager).release(Set.of(id));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("UT release() when release fails should accept the next tryConsume() of the id")
+    void release_whenReleaseFails_shouldAcceptNextTryConsume() {
+        // given
+        UUID id = UUID.randomUUID();
+        RuntimeException failure = new IllegalStateException("boom");
+        doThrow(failure).when(manager).release(Set.of(id));
+        ConsumedOutboxGroupCommitter committer = new ConsumedOutboxGroupCommitter(
+                transactionTemplate, manager, Duration.ofNanos(1_000), 10
+        );
+
+        // when
+        assertThatThrownBy(() -> committer.release(id)).isSameAs(failure);
+        boolean result = committer.tryConsume(id);
+
+        // then
+        assertThat(result).isTrue();
+        verify(manager, never()).tryConsumeAndGetDuplicates(anySet());
+    }
+
+    private static List<Boolean> runConcurrently(List<UUID> ids, ConsumedOutboxGroupCommitter committer)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ids.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (UUID id : ids) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return committer.tryConsume(id);
+                }));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.groupcommit;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventIdExtractor;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitOutboxIdempotentConsumerUnitTests {
+
+    @Mock
+    private OutboxIdempotentConsumer delegate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ConsumedOutboxGroupCommitter groupCommitter;
+
+    private GroupCommitOutboxIdempotentConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new GroupCommitOutboxIdempotentConsumer(delegate, transactionTemplate, groupCommitter);
+    }
+
+    @Test
+    @DisplayName("UT consume() when event not consumed should run operation in transaction")
+    void consume_whenEventNotConsumed_shouldRunOperationInTransaction() {
+        // given
+        UUID id = UUID.randomUUID();
+        Runnable operation = mock(Runnable.class);
+        when(groupCommitter.tryConsume(id)).thenReturn(true);
+        runTransactionsInline();
+
+        // when
+        consumer.consume(id, operation);
+
+        // then
+        verify(operation).run();
+        verify(groupCommitter, never()).release(any());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("UT consume() when event already consumed should skip operation")
+    void consume_whenEventAlreadyConsumed_shouldSkipOperation() {
+        // given
+        UUID id = UUID.randomUUID();
+        Runnable operation = mock(Runnable.class);
+        when(groupCommitter.tryConsume(id)).thenReturn(false);
+
+        // when
+        consumer.consume(id, operation);
+
+        // then
+        verifyNoInteractions(operation, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("UT consume() when operation fails should release id and rethrow")
+    void consume_whenOperationFails_shouldReleaseIdAndRethrow() {
+        // given
+        UUID message = UUID.randomUUID();
+        OutboxEventIdExtractor<UUID> idExtractor = m -> m;
+        RuntimeException failure = new IllegalStateException("boom");
+        when(groupCommitter.tryConsume(message)).thenReturn(true);
+        doThrow(failure).when(transactionTemplate).executeWithoutResult(any());
+
+        // when + then
+        assertThatThrownBy(() -> consumer.consume(message, idExtractor, m -> { }))
+                .isSameAs(failure);
+        verify(groupCommitter).release(message);
+    }
+
+    @Test
+    @DisplayName("UT consume() when release fails should rethrow operation failure with release failure suppressed")
+    void consume_whenReleaseFails_shouldRethrowOperationFailureWithSuppressed() {
+        // given
+        UUID id = UUID.randomUUID();
+        RuntimeException failure = new IllegalStateException("boom");
+        RuntimeException releaseFailure = new IllegalStateException("release");
+        when(groupCommitter.tryConsume(id)).thenReturn(true);
+        doThrow(failure).when(transactionTemplate).executeWithoutResult(any());
+        doThrow(releaseFailure).when(groupCommitter).release(id);
+
+        // when + then
+        assertThatThrownBy(() -> consumer.consume(id, () -> { }))
+                .isSameAs(failure);
+        assertThat(failure.getSuppressed()).containsExactly(releaseFailure);
+    }
+
+    @Test
+    @DisplayName("UT consume() with batch should pass through to delegate")
+    void consume_withBatch_shouldPassThroughToDelegate() {
+        // given
+        Set<UUID> ids = Set.of(UUID.randomUUID());
+        Consumer<Set<UUID>> operation = s -> { };
+
+        // when
+        consumer.consume(ids, operation);
+
+        // then
+        verify(delegate).consume(ids, operation);
+        verifyNoInteractions(groupCommitter);
+    }
+
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
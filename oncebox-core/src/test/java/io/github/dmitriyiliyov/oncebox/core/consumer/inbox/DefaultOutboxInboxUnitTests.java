@@ -0,0 +1,110 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.inbox;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultOutboxInboxUnitTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final OutboxInboxMessageExtractor<OutboxInboxMessage> EXTRACTOR = message -> message;
+
+    @Mock
+    private OutboxRepository repository;
+
+    private DefaultOutboxInbox inbox;
+
+    @BeforeEach
+    void setUp() {
+        inbox = new DefaultOutboxInbox(repository, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("UT constructor when repository is null should throw NullPointerException")
+    void constructor_whenRepositoryIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new DefaultOutboxInbox(null, Clock.systemUTC()))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("repository cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT receive() single message should store pending event")
+    void receive_singleMessage_shouldStorePendingEvent() {
+        // given
+        OutboxInboxMessage message = message(UUID.randomUUID());
+        when(repository.saveBatchIfAbsent(anyList())).thenReturn(1);
+
+        // when
+        int savedCount = inbox.receive(message, EXTRACTOR);
+
+        // then
+        assertThat(savedCount).isEqualTo(1);
+        List<OutboxEvent> events = captureSavedEvents();
+        assertThat(events).hasSize(1);
+        OutboxEvent event = events.getFirst();
+        assertThat(event.getId()).isEqualTo(message.id());
+        assertThat(event.getStatus()).isEqualTo(EventStatus.PENDING);
+        assertThat(event.getEventType()).isEqualTo(message.eventType());
+        assertThat(event.getPayload()).isEqualTo(message.payload());
+        assertThat(event.getCreatedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("UT receive() batch should store every id once in original order")
+    void receive_batch_shouldStoreEveryIdOnceInOriginalOrder() {
+        // given
+        OutboxInboxMessage first = message(UUID.randomUUID());
+        OutboxInboxMessage second = message(UUID.randomUUID());
+        when(repository.saveBatchIfAbsent(anyList())).thenReturn(2);
+
+        // when
+        int savedCount = inbox.receive(List.of(first, second, first), EXTRACTOR);
+
+        // then
+        assertThat(savedCount).isEqualTo(2);
+        assertThat(captureSavedEvents())
+                .extracting(OutboxEvent::getId)
+                .containsExactly(first.id(), second.id());
+    }
+
+    @Test
+    @DisplayName("UT receive() batch when messages empty should do nothing")
+    void receive_batch_whenMessagesEmpty_shouldDoNothing() {
+        // when
+        int savedCount = inbox.receive(List.<OutboxInboxMessage>of(), EXTRACTOR);
+
+        // then
+        assertThat(savedCount).isZero();
+        verifyNoInteractions(repository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxEvent> captureSavedEvents() {
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveBatchIfAbsent(captor.capture());
+        return captor.getValue();
+    }
+
+    private static OutboxInboxMessage message(UUID id) {
+        return new OutboxInboxMessage(id, "order.created", "com.example.OrderCreated", "{\"orderId\":1}");
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.inbox;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxInboxHandlerSenderUnitTests {
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OutboxRepository repository;
+
+    @Mock
+    private OutboxInboxHandler handler;
+
+    private OutboxInboxHandlerSender sender;
+
+    @BeforeEach
+    void setUp() {
+        sender = new OutboxInboxHandlerSender(transactionTemplate, repository, handler);
+    }
+
+    @Test
+    @DisplayName("UT sendEvents() should handle every event and mark it processed in the same transaction")
+    void sendEvents_shouldHandleEveryEventAndMarkItProcessed() {
+        // given
+        mockTransactionTemplateExecute();
+        OutboxEvent first = event();
+        OutboxEvent second = event();
+
+        // when
+        SenderResult result = sender.sendEvents("order.created", List.of(first, second));
+
+        // then
+        assertThat(result.processedIds()).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(result.failedIds()).isEmpty();
+        verify(handler).handle(first);
+        verify(handler).handle(second);
+        verify(repository).updateBatchStatus(Set.of(first.getId()), EventStatus.PROCESSED);
+        verify(repository).updateBatchStatus(Set.of(second.getId()), EventStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("UT sendEvents() when handler fails should report event as failed and continue")
+    void sendEvents_whenHandlerFails_shouldReportEventAsFailedAndContinue() {
+        // given
+        mockTransactionTemplateExecute();
+        OutboxEvent failing = event();
+        OutboxEvent succeeding = event();
+        doThrow(new IllegalStateException("boom")).when(handler).handle(failing);
+
+        // when
+        SenderResult result = sender.sendEvents("order.created", List.of(failing, succeeding));
+
+        // then
+        assertThat(result.failedIds()).containsExactly(failing.getId());
+        assertThat(result.processedIds()).containsExactly(succeeding.getId());
+        verify(repository, never()).updateBatchStatus(Set.of(failing.getId()), EventStatus.PROCESSED);
+    }
+
+    private void mockTransactionTemplateExecute() {
+        doAnswer(invocation -> {
+            java.util.function.Consumer<?> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static OutboxEvent event() {
+        return new OutboxEvent(UUID.randomUUID(), "order.created", "com.example.OrderCreated", "{}", Instant.now());
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsumedOffsetWatermarkUnitTests {
+
+    @Test
+    @DisplayName("UT isConsumed() should treat offsets up to watermark as consumed except released ones")
+    void isConsumed_shouldTreatOffsetsUpToWatermarkAsConsumedExceptReleased() {
+        ConsumedOffsetWatermark watermark = new ConsumedOffsetWatermark(10, Set.of(4L));
+
+        assertThat(watermark.isConsumed(3)).isTrue();
+        assertThat(watermark.isConsumed(4)).isFalse();
+        assertThat(watermark.isConsumed(10)).isTrue();
+        assertThat(watermark.isConsumed(11)).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT releasedOffsetsToString() should round trip through parseReleasedOffsets()")
+    void releasedOffsetsToString_shouldRoundTrip() {
+        ConsumedOffsetWatermark watermark = new ConsumedOffsetWatermark(100, Set.of(42L, 7L, 99L));
+
+        String encoded = watermark.releasedOffsetsToString();
+
+        assertThat(encoded).isEqualTo("7,42,99");
+        assertThat(ConsumedOffsetWatermark.parseReleasedOffsets(encoded)).containsExactlyInAnyOrder(7L, 42L, 99L);
+    }
+
+    @Test
+    @DisplayName("UT releasedOffsetsToString() when no released offsets should return null")
+    void releasedOffsetsToString_whenEmpty_shouldReturnNull() {
+        assertThat(ConsumedOffsetWatermark.EMPTY.releasedOffsetsToString()).isNull();
+        assertThat(ConsumedOffsetWatermark.parseReleasedOffsets(null)).isEmpty();
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultConsumedOffsetManagerUnitTests {
+
+    private static final OutboxSourcePartition PARTITION = new OutboxSourcePartition("analytics", "orders", 0);
+    private static final OutboxSourcePartition OTHER_PARTITION = new OutboxSourcePartition("analytics", "orders", 1);
+
+    @Mock
+    private ConsumedOffsetRepository repository;
+
+    private DefaultConsumedOffsetManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new DefaultConsumedOffsetManager(repository, 2);
+    }
+
+    @Test
+    @DisplayName("UT constructor when repository is null should throw NullPointerException")
+    void constructor_whenRepositoryIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new DefaultConsumedOffsetManager(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("repository cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT constructor when maxReleasedOffsets is not positive should throw IllegalArgumentException")
+    void constructor_whenMaxReleasedOffsetsIsNotPositive_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new DefaultConsumedOffsetManager(repository, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxReleasedOffsets should be positive");
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() when watermark advanced should return true without locking")
+    void tryConsume_whenWatermarkAdvanced_shouldReturnTrueWithoutLocking() {
+        // given
+        when(repository.advance(PARTITION, 5, 5)).thenReturn(1);
+
+        // when
+        boolean result = manager.tryConsume(new OutboxRecordPosition(PARTITION, 5));
+
+        // then
+        assertThat(result).isTrue();
+        verify(repository, never()).lock(any());
+        verify(repository, never()).update(any(), any());
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() when offset is at or below watermark should return false without update")
+    void tryConsume_whenOffsetAtOrBelowWatermark_shouldReturnFalseWithoutUpdate() {
+        // given
+        when(repository.advance(PARTITION, 5, 5)).thenReturn(0);
+        when(repository.lock(PARTITION)).thenReturn(new ConsumedOffsetWatermark(5, Set.of()));
+
+        // when
+        boolean result = manager.tryConsume(new OutboxRecordPosition(PARTITION, 5));
+
+        // then
+        assertThat(result).isFalse();
+        verify(repository, never()).update(any(), any());
+    }
+
+    @Test
+    @DisplayName("UT tryConsume() when partition is absent should create it and consume offset")
+    void tryConsume_whenPartitionIsAbsent_shouldCreateItAndConsume() {
+        // given
+        when(repository.advance(PARTITION, 0, 0)).thenReturn(0);
+        when(repository.lock(PARTITION)).thenReturn(ConsumedOffsetWatermark.EMPTY);
+
+        // when
+        boolean result = manager.tryConsume(new OutboxRecordPosition(PARTITION, 0));
+
+        // then
+        assertThat(result).isTrue();
+        verify(repository).update(PARTITION, new ConsumedOffsetWatermark(0, Set.of()));
+    }
+
+    @Test
+    @DisplayName("UT tryConsumeAndGetDuplicates() should consume released offsets and offsets above watermark")
+    void tryConsumeAndGetDuplicates_shouldConsumeReleasedAndNewOffsets() {
+        // given
+        when(repository.advance(PARTITION, 3, 12)).thenReturn(0);
+        when(repository.lock(PARTITION)).thenReturn(new ConsumedOffsetWatermark(10, Set.of(4L, 7L)));
+
+        // when
+        Set<OutboxRecordPosition> duplicates = manager.tryConsumeAndGetDuplicates(List.of(
+                new OutboxRecordPosition(PARTITION, 3),
+                new OutboxRecordPosition(PARTITION, 4),
+                new OutboxRecordPosition(PARTITION, 10),
+                new OutboxRecordPosition(PARTITION, 11),
+                new OutboxRecordPosition(PARTITION, 12)
+        ));
+
+        // then
+        assertThat(duplicates).containsExactlyInAnyOrder(
+                new OutboxRecordPosition(PARTITION, 3),
+                new OutboxRecordPosition(PARTITION, 10)
+        );
+        verify(repository).update(PARTITION, new ConsumedOffsetWatermark(12, Set.of(7L)));
+    }
+
+    @Test
+    @DisplayName("UT tryConsumeAndGetDuplicates() should advance every partition once in partition order")
+    void tryConsumeAndGetDuplicates_shouldAdvanceEveryPartitionInOrder() {
+        // given
+        when(repository.advance(any(), anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        Set<OutboxRecordPosition> duplicates = manager.tryConsumeAndGetDuplicates(List.of(
+                new OutboxRecordPosition(OTHER_PARTITION, 8),
+                new OutboxRecordPosition(PARTITION, 2),
+                new OutboxRecordPosition(OTHER_PARTITION, 7),
+                new OutboxRecordPosition(PARTITION, 1)
+        ));
+
+        // then
+        assertThat(duplicates).isEmpty();
+        InOrder inOrder = inOrder(repository);
+        inOrder.verify(repository).advance(PARTITION, 1, 2);
+        inOrder.verify(repository).advance(OTHER_PARTITION, 7, 8);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT tryConsumeAndGetDuplicates() when positions empty should return empty set")
+    void tryConsumeAndGetDuplicates_whenPositionsEmpty_shouldReturnEmptySet() {
+        assertThat(manager.tryConsumeAndGetDuplicates(List.of())).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT release() should add consumed offsets to released offsets")
+    void release_shouldAddConsumedOffsetsToReleasedOffsets() {
+        // given
+        when(repository.lock(PARTITION)).thenReturn(new ConsumedOffsetWatermark(10, Set.of()));
+
+        // when
+        int released = manager.release(List.of(
+                new OutboxRecordPosition(PARTITION, 9),
+                new OutboxRecordPosition(PARTITION, 11)
+        ));
+
+        // then
+        assertThat(released).isEqualTo(1);
+        verify(repository).update(PARTITION, new ConsumedOffsetWatermark(10, Set.of(9L)));
+    }
+
+    @Test
+    @DisplayName("UT release() when nothing is released should not update partition")
+    void release_whenNothingReleased_shouldNotUpdatePartition() {
+        // given
+        when(repository.lock(PARTITION)).thenReturn(new ConsumedOffsetWatermark(10, Set.of(9L)));
+
+        // when
+        int released = manager.release(List.of(new OutboxRecordPosition(PARTITION, 9)));
+
+        // then
+        assertThat(released).isZero();
+        verify(repository, never()).update(any(), any());
+    }
+
+    @Test
+    @DisplayName("UT release() when released offsets exceed limit should throw IllegalStateException")
+    void release_whenReleasedOffsetsExceedLimit_shouldThrowIllegalStateException() {
+        // given
+        when(repository.lock(PARTITION)).thenReturn(new ConsumedOffsetWatermark(10, Set.of(1L, 2L)));
+
+        // when + then
+        assertThatThrownBy(() -> manager.release(List.of(new OutboxRecordPosition(PARTITION, 3))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Cannot release more than 2 offsets");
+        verify(repository, never()).update(any(), any());
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.offset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultOutboxOffsetIdempotentConsumerUnitTests {
+
+    private static final OutboxSourcePartition PARTITION = new OutboxSourcePartition("analytics", "orders", 0);
+    private static final OutboxRecordPositionExtractor<Long> POSITION_EXTRACTOR =
+            offset -> new OutboxRecordPosition(PARTITION, offset);
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ConsumedOffsetManager consumedOffsetManager;
+
+    private DefaultOutboxOffsetIdempotentConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new DefaultOutboxOffsetIdempotentConsumer(transactionTemplate, consumedOffsetManager);
+    }
+
+    @Test
+    @DisplayName("UT constructor when consumedOffsetManager is null should throw NullPointerException")
+    void constructor_whenConsumedOffsetManagerIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new DefaultOutboxOffsetIdempotentConsumer(transactionTemplate, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("consumedOffsetManager cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT consume() single message when record is new should execute operation")
+    void consume_singleMessage_whenRecordIsNew_shouldExecuteOperation() {
+        // given
+        mockTransactionTemplateExecute();
+        when(consumedOffsetManager.tryConsume(new OutboxRecordPosition(PARTITION, 3))).thenReturn(true);
+        List<Long> processed = new ArrayList<>();
+
+        // when
+        consumer.consume(3L, POSITION_EXTRACTOR, processed::add);
+
+        // then
+        assertThat(processed).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("UT consume() single message when record was consumed should skip operation")
+    void consume_singleMessage_whenRecordWasConsumed_shouldSkipOperation() {
+        // given
+        mockTransactionTemplateExecute();
+        when(consumedOffsetManager.tryConsume(new OutboxRecordPosition(PARTITION, 3))).thenReturn(false);
+        List<Long> processed = new ArrayList<>();
+
+        // when
+        consumer.consume(3L, POSITION_EXTRACTOR, processed::add);
+
+        // then
+        assertThat(processed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("UT consume() batch should pass only new messages in original order")
+    void consume_batch_shouldPassOnlyNewMessagesInOrder() {
+        // given
+        mockTransactionTemplateExecute();
+        when(consumedOffsetManager.tryConsumeAndGetDuplicates(any()))
+                .thenReturn(Set.of(new OutboxRecordPosition(PARTITION, 2)));
+        List<Long> processed = new ArrayList<>();
+        Consumer<List<Long>> operation = processed::addAll;
+
+        // when
+        consumer.consume(List.of(1L, 2L, 3L), POSITION_EXTRACTOR, operation);
+
+        // then
+        assertThat(processed).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("UT consume() batch when all records were consumed should not call operation")
+    void consume_batch_whenAllRecordsWereConsumed_shouldNotCallOperation() {
+        // given
+        mockTransactionTemplateExecute();
+        when(consumedOffsetManager.tryConsumeAndGetDuplicates(any()))
+                .thenReturn(Set.of(new OutboxRecordPosition(PARTITION, 1)));
+        List<Long> processed = new ArrayList<>();
+
+        Consumer<List<Long>> operation = processed::addAll;
+
+        // when
+        consumer.consume(List.of(1L), POSITION_EXTRACTOR, operation);
+
+        // then
+        assertThat(processed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("UT consume() batch when messages empty should do nothing")
+    void consume_batch_whenMessagesEmpty_shouldDoNothing() {
+        Consumer<List<Long>> operation = messages -> { };
+
+        consumer.consume(List.of(), POSITION_EXTRACTOR, operation);
+
+        verifyNoInteractions(transactionTemplate, consumedOffsetManager);
+    }
+
+    private void mockTransactionTemplateExecute() {
+        doAnswer(invocation -> {
+            java.util.function.Consumer<?> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.dmitriyiliyov.oncebox.core.consumer.parallel;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventIdExtractor;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KeyOrderedOutboxConsumerExecutorUnitTests {
+
+    private static final OutboxEventIdExtractor<Message> ID_EXTRACTOR = Message::id;
+    private static final OutboxOrderingKeyExtractor<Message> KEY_EXTRACTOR = Message::key;
+
+    @Mock
+    private OutboxIdempotentConsumer consumer;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("UT constructor when maxConcurrency is not positive should throw IllegalArgumentException")
+    void constructor_whenMaxConcurrencyIsNotPositive_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new KeyOrderedOutboxConsumerExecutor(consumer, executorService, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxConcurrency should be positive");
+    }
+
+    @Test
+    @DisplayName("UT consume() should keep order within a key and complete every message")
+    void consume_shouldKeepOrderWithinKeyAndCompleteEveryMessage() {
+        // given
+        mockConsumerRunsOperation();
+        List<Message> messages = List.of(
+                message("a", 1), message("b", 1), message("a", 2), message("b", 2), message("a", 3)
+        );
+        List<Message> processed = Collections.synchronizedList(new ArrayList<>());
+        KeyOrderedOutboxConsumerExecutor executor = new KeyOrderedOutboxConsumerExecutor(consumer, executorService, 4);
+
+        // when
+        OutboxParallelConsumeResult result = executor.consume(messages, ID_EXTRACTOR, KEY_EXTRACTOR, processed::add);
+
+        // then
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getCommittableCount()).isEqualTo(5);
+        assertThat(processed.stream().filter(m -> m.key().equals("a")).map(Message::sequence))
+                .containsExactly(1, 2, 3);
+        assertThat(processed.stream().filter(m -> m.key().equals("b")).map(Message::sequence))
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("UT consume() should process different keys in parallel")
+    void consume_shouldProcessDifferentKeysInParallel() {
+        // given
+        mockConsumerRunsOperation();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Consumer<Message> operation = message -> {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("keys were not processed in parallel");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        KeyOrderedOutboxConsumerExecutor executor = new KeyOrderedOutboxConsumerExecutor(consumer, executorService, 2);
+
+        // when
+        OutboxParallelConsumeResult result = executor.consume(
+                List.of(message("a", 1), message("b", 1)), ID_EXTRACTOR, KEY_EXTRACTOR, operation
+        );
+
+        // then
+        assertThat(result.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("UT consume() when message fails should skip rest of its key and keep committable prefix")
+    void consume_whenMessageFails_shouldSkipRestOfItsKeyAndKeepCommittablePrefix() {
+        // given
+        mockConsumerRunsOperation();
+        List<Message> messages = List.of(
+                message("a", 1), message("b", 1), message("a", 2), message("b", 2)
+        );
+        List<Message> processed = Collections.synchronizedList(new ArrayList<>());
+        Consumer<Message> operation = message -> {
+            if (message.key().equals("b") && message.sequence() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            processed.add(message);
+        };
+        KeyOrderedOutboxConsumerExecutor executor = new KeyOrderedOutboxConsumerExecutor(consumer, executorService, 4);
+
+        // when
+        OutboxParallelConsumeResult result = executor.consume(messages, ID_EXTRACTOR, KEY_EXTRACTOR, operation);
+
+        // then
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getCommittableCount()).isEqualTo(1);
+        assertThat(result.isCompleted(2)).isTrue();
+        assertThat(result.isCompleted(3)).isFalse();
+        assertThat(result.getFailures()).containsOnlyKeys(1);
+        assertThat(processed).containsExactlyInAnyOrder(messages.get(0), messages.get(2));
+    }
+
+    @Test
+    @DisplayName("UT consume() when messages empty should return empty completed result")
+    void consume_whenMessagesEmpty_shouldReturnEmptyCompletedResult() {
+        // given
+        KeyOrderedOutboxConsumerExecutor executor = new KeyOrderedOutboxConsumerExecutor(consumer, executorService, 1);
+
+        // when
+        OutboxParallelConsumeResult result = executor.consume(List.of(), ID_EXTRACTOR, KEY_EXTRACTOR, message -> {});
+
+        // then
+        assertThat(result.size()).isZero();
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.getFailures()).isEqualTo(Map.of());
+        verifyNoInteractions(consumer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockConsumerRunsOperation() {
+        doAnswer(invocation -> {
+            Consumer<Object> operation = invocation.getArgument(2);
+            operation.accept(invocation.getArgument(0));
+            return null;
+        }).when(consumer).consume(any(Object.class), any(OutboxEventIdExtractor.class), any(Consumer.class));
+    }
+
+    private static Message message(String key, int sequence) {
+        return new Message(UUID.randomUUID(), key, sequence);
+    }
+
+    private record Message(UUID id, String key, int sequence) { }
+}
@@ -0,0 +1,112 @@
+package io.github.dmitriyiliyov.oncebox.core.jfr;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategyListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.DefaultOutboxProcessor;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxSender;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class OutboxJfrEventsUnitTests {
+
+    @Test
+    @DisplayName("UT DefaultOutboxProcessor should emit claimed, sent and finalized events for a polling cycle")
+    void process_shouldEmitBatchEvents() throws IOException {
+        // given
+        OutboxManager manager = mock(OutboxManager.class);
+        OutboxSender sender = mock(OutboxSender.class);
+        OutboxPublisherPropertiesHolder.EventPropertiesHolder properties =
+                mock(OutboxPublisherPropertiesHolder.EventPropertiesHolder.class);
+        when(properties.getEventType()).thenReturn("test-event-type");
+        when(properties.getTopic()).thenReturn("test-topic");
+        when(properties.getBatchSize()).thenReturn(10);
+        UUID processedId = UUID.randomUUID();
+        UUID failedId = UUID.randomUUID();
+        List<OutboxEvent> events = List.of(mock(OutboxEvent.class), mock(OutboxEvent.class));
+        when(manager.loadBatch("test-event-type", 10)).thenReturn(events);
+        when(sender.sendEvents("test-topic", events)).thenReturn(new SenderResult(Set.of(processedId), Set.of(failedId)));
+        DefaultOutboxProcessor processor = new DefaultOutboxProcessor(manager, sender, Clock.systemUTC());
+
+        // when
+        List<RecordedEvent> recorded = record(
+                () -> processor.process(properties),
+                OutboxBatchClaimedEvent.class, OutboxBatchSentEvent.class, OutboxBatchFinalizedEvent.class
+        );
+
+        // then
+        verify(manager).finalizeBatch(eq(events), eq(Set.of(processedId)), eq(Set.of(failedId)), anyInt(), any(Function.class));
+        Map<String, RecordedEvent> byName = recorded.stream()
+                .collect(Collectors.toMap(event -> event.getEventType().getName(), Function.identity()));
+        RecordedEvent claimed = byName.get("io.github.dmitriyiliyov.oncebox.BatchClaimed");
+        assertThat(claimed.getString("eventType")).isEqualTo("test-event-type");
+        assertThat(claimed.getInt("requestedSize")).isEqualTo(10);
+        assertThat(claimed.getInt("claimedSize")).isEqualTo(2);
+        RecordedEvent sent = byName.get("io.github.dmitriyiliyov.oncebox.BatchSent");
+        assertThat(sent.getString("topic")).isEqualTo("test-topic");
+        assertThat(sent.getInt("size")).isEqualTo(2);
+        assertThat(sent.getInt("failures")).isEqualTo(1);
+        RecordedEvent finalized = byName.get("io.github.dmitriyiliyov.oncebox.BatchFinalized");
+        assertThat(finalized.getInt("processed")).isEqualTo(1);
+        assertThat(finalized.getInt("failed")).isEqualTo(1);
+        assertThat(finalized.getBoolean("released")).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT JfrOutboxScheduleStrategyListener should delegate and emit delay changes")
+    void onDelayChanged_shouldDelegateAndEmitEvent() throws IOException {
+        // given
+        OutboxScheduleStrategyListener delegate = mock(OutboxScheduleStrategyListener.class);
+        JfrOutboxScheduleStrategyListener listener = new JfrOutboxScheduleStrategyListener("test-task", delegate);
+
+        // when
+        List<RecordedEvent> recorded = record(() -> {
+            listener.onExecutionStarted();
+            listener.onDelayChanged(1500);
+        }, OutboxScheduleDelayChangedEvent.class);
+
+        // then
+        verify(delegate).onExecutionStarted();
+        verify(delegate).onDelayChanged(1500);
+        assertThat(recorded).hasSize(1);
+        assertThat(recorded.getFirst().getString("taskType")).isEqualTo("test-task");
+        assertThat(recorded.getFirst().getDuration("delay").toMillis()).isEqualTo(1500);
+    }
+
+    @SafeVarargs
+    private static List<RecordedEvent> record(Runnable action,
+                                              Class<? extends jdk.jfr.Event>... eventClasses) throws IOException {
+        Path file = Files.createTempFile("oncebox", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (Class<? extends jdk.jfr.Event> eventClass : eventClasses) {
+                recording.enable(eventClass);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
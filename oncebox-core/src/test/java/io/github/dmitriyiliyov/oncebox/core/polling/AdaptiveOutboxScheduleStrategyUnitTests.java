@@ -1,6 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.core.polling;
 
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,8 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -207,6 +210,48 @@ class AdaptiveOutboxScheduleStrategyUnitTests {
         verify(executor, times(3)).schedule(any(Runnable.class), anyLong(), any());
     }
 
+    @Test
+    void withTaskExecutor_nextIterationScheduledOnlyOnceOutcomeReported() {
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        AtomicReference<BiConsumer<Boolean, Throwable>> callback = new AtomicReference<>();
+        ContinuableTaskExecutor taskExecutor = (t, c) -> callback.set(c);
+
+        strategy.scheduleExecution(task, taskExecutor);
+        runCapturedTask(0);
+
+        verify(executor, times(1)).schedule(any(Runnable.class), anyLong(), any());
+        callback.get().accept(true, null);
+        ArgumentCaptor<Long> delays = captureDelays(2);
+        assertThat(delays.getAllValues().get(1)).isEqualTo(MIN_DELAY);
+        verify(listener).onExecutionSucceeded();
+    }
+
+    @Test
+    void withTaskExecutor_whileOutcomePending_concurrentScheduleSkipped() {
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        ContinuableTaskExecutor taskExecutor = (t, c) -> { };
+
+        strategy.scheduleExecution(task, taskExecutor);
+        runCapturedTask(0);
+        strategy.scheduleExecution(task, taskExecutor);
+
+        verify(executor, times(1)).schedule(any(Runnable.class), anyLong(), any());
+        verify(listener).onExecutionSkipped();
+    }
+
+    @Test
+    void withTaskExecutor_whenTaskFailed_delayIncreases() {
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        ContinuableTaskExecutor taskExecutor = (t, c) -> c.accept(false, new RuntimeException("boom"));
+
+        strategy.scheduleExecution(task, taskExecutor);
+        runCapturedTask(0);
+
+        ArgumentCaptor<Long> delays = captureDelays(2);
+        assertThat(delays.getAllValues().get(1)).isEqualTo((long) (MIN_DELAY * MULTIPLIER));
+        verify(listener).onExecutionFailed();
+    }
+
     private void runCapturedTask(int callIndex) {
         ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
         verify(executor, atLeast(callIndex + 1)).schedule(captor.capture(), anyLong(), any());
@@ -1,6 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.core.polling;
 
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,10 +13,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -172,4 +177,45 @@ public class FixedOutboxScheduleStrategyUnitTests {
         verify(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
         verify(listener).onDelayChanged(nullable(Long.class));
     }
+
+    @Test
+    @DisplayName("UT scheduleExecution() with taskExecutor should schedule next execution only once outcome is reported")
+    void scheduleExecution_withTaskExecutor_shouldScheduleNextOnCompletion() {
+        // given
+        when(properties.getInitialDelay()).thenReturn(Duration.ofMillis(100));
+        when(properties.getFixedDelay()).thenReturn(Duration.ofMillis(500));
+        AtomicReference<BiConsumer<Boolean, Throwable>> callback = new AtomicReference<>();
+        ContinuableTaskExecutor taskExecutor = (t, c) -> callback.set(c);
+        tested.scheduleExecution(task, taskExecutor);
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(captor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+
+        // when
+        captor.getValue().run();
+
+        // then
+        verify(executor, never()).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+        callback.get().accept(false, null);
+        verify(executor, times(1)).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+        verify(listener).onExecutionSucceeded();
+    }
+
+    @Test
+    @DisplayName("UT scheduleExecution() with taskExecutor when task fails should notify listener and schedule next execution")
+    void scheduleExecution_withTaskExecutor_whenTaskFails_shouldScheduleNext() {
+        // given
+        when(properties.getInitialDelay()).thenReturn(Duration.ofMillis(100));
+        when(properties.getFixedDelay()).thenReturn(Duration.ofMillis(500));
+        when(task.run()).thenThrow(new RuntimeException("task error"));
+        tested.scheduleExecution(task, ContinuableTaskExecutor.direct());
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(captor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+
+        // when
+        assertDoesNotThrow(captor.getValue()::run);
+
+        // then
+        verify(listener).onExecutionFailed();
+        verify(executor).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+    }
 }
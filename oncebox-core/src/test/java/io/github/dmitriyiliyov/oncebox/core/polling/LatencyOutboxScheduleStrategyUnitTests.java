@@ -0,0 +1,219 @@
+package io.github.dmitriyiliyov.oncebox.core.polling;
+
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LatencyOutboxScheduleStrategyUnitTests {
+
+    private static final long MIN_DELAY = 100L;
+    private static final long MAX_DELAY = 3200L;
+    private static final long INITIAL_DELAY = 0L;
+    private static final Duration TARGET_LATENCY = Duration.ofSeconds(1);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private LatencyPollingPropertiesHolder properties;
+
+    @Mock
+    private ScheduledExecutorService executor;
+
+    @Mock
+    private OutboxScheduleStrategyListener listener;
+
+    @Mock
+    private ContinuableTask task;
+
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private LatencyOutboxScheduleStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(properties.getInitialDelay()).thenReturn(Duration.ofMillis(INITIAL_DELAY));
+        lenient().when(properties.getMinFixedDelay()).thenReturn(Duration.ofMillis(MIN_DELAY));
+        lenient().when(properties.getMaxFixedDelay()).thenReturn(Duration.ofMillis(MAX_DELAY));
+        lenient().when(properties.getTargetLatency()).thenReturn(TARGET_LATENCY);
+        lenient().when(properties.getProportionalGain()).thenReturn(0.5);
+        lenient().when(properties.getIntegralGain()).thenReturn(0.05);
+        lenient().when(properties.getDerivativeGain()).thenReturn(0.1);
+        strategy = new LatencyOutboxScheduleStrategy(properties, executor, listener, clock);
+    }
+
+    @Test
+    @DisplayName("UT constructor when clock is null should throw NullPointerException")
+    void constructor_whenClockIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new LatencyOutboxScheduleStrategy(properties, executor, listener, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("clock cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT constructor when minFixedDelay is greater than maxFixedDelay should throw IllegalArgumentException")
+    void constructor_whenMinGreaterThanMax_shouldThrowIllegalArgumentException() {
+        when(properties.getMinFixedDelay()).thenReturn(Duration.ofMillis(MAX_DELAY + 1));
+
+        assertThatThrownBy(() -> new LatencyOutboxScheduleStrategy(properties, executor, listener, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT constructor when targetLatency is zero should throw IllegalArgumentException")
+    void constructor_whenTargetLatencyIsZero_shouldThrowIllegalArgumentException() {
+        when(properties.getTargetLatency()).thenReturn(Duration.ZERO);
+
+        assertThatThrownBy(() -> new LatencyOutboxScheduleStrategy(properties, executor, listener, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT scheduleExecution() should schedule with initial delay")
+    void scheduleExecution_shouldScheduleWithInitialDelay() {
+        // given
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+
+        // when
+        strategy.scheduleExecution(task);
+
+        // then
+        ArgumentCaptor<Long> delays = captureDelays(1);
+        assertThat(delays.getValue()).isEqualTo(INITIAL_DELAY);
+        verifyNoInteractions(task);
+    }
+
+    @Test
+    @DisplayName("UT after empty poll delay should increase")
+    void afterEmptyPoll_delayShouldIncrease() throws Exception {
+        // given
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        when(task.run()).thenReturn(false);
+
+        // when
+        strategy.scheduleExecution(task);
+        runCapturedTask(0);
+
+        // then
+        ArgumentCaptor<Long> delays = captureDelays(2);
+        assertThat(delays.getAllValues().get(1)).isGreaterThan(MIN_DELAY);
+    }
+
+    @Test
+    @DisplayName("UT when latency is above target delay should decrease")
+    void whenLatencyAboveTarget_delayShouldDecrease() throws Exception {
+        // given
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        when(task.run())
+                .thenReturn(false, false)
+                .thenAnswer(invocation -> {
+                    strategy.onBatchSent(10, List.of(eventCreatedAgo(Duration.ofSeconds(5))), SenderResult.empty(), Duration.ZERO);
+                    return false;
+                });
+
+        // when
+        strategy.scheduleExecution(task);
+        runCapturedTask(0);
+        runCapturedTask(1);
+        runCapturedTask(2);
+
+        // then
+        ArgumentCaptor<Long> delays = captureDelays(4);
+        assertThat(delays.getAllValues().get(3)).isLessThan(delays.getAllValues().get(2));
+        assertThat(delays.getAllValues().get(3)).isGreaterThanOrEqualTo(MIN_DELAY);
+    }
+
+    @Test
+    @DisplayName("UT delay should not exceed maxFixedDelay")
+    void delayShouldNotExceedMaxFixedDelay() throws Exception {
+        // given
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        when(task.run()).thenReturn(false);
+
+        // when
+        strategy.scheduleExecution(task);
+        for (int i = 0; i < 20; i++) {
+            runCapturedTask(i);
+        }
+
+        // then
+        ArgumentCaptor<Long> delays = captureDelays(21);
+        assertThat(delays.getAllValues()).allMatch(delay -> delay <= MAX_DELAY);
+        assertThat(delays.getAllValues().get(20)).isEqualTo(MAX_DELAY);
+    }
+
+    @Test
+    @DisplayName("UT after full batch next execution should be scheduled with minFixedDelay")
+    void afterFullBatch_delayShouldBeMin() throws Exception {
+        // given
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        when(task.run()).thenReturn(false, false, true);
+
+        // when
+        strategy.scheduleExecution(task);
+        runCapturedTask(0);
+        runCapturedTask(1);
+        runCapturedTask(2);
+
+        // then
+        ArgumentCaptor<Long> delays = captureDelays(4);
+        assertThat(delays.getAllValues().get(2)).isGreaterThan(MIN_DELAY);
+        assertThat(delays.getAllValues().get(3)).isEqualTo(MIN_DELAY);
+        verify(listener, times(3)).onDelayChanged(anyLong());
+    }
+
+    @Test
+    @DisplayName("UT when task throws next execution should still be scheduled")
+    void whenTaskThrows_nextExecutionShouldBeScheduled() throws Exception {
+        // given
+        doReturn(scheduledFuture).when(executor).schedule(any(Runnable.class), anyLong(), any());
+        when(task.run()).thenThrow(new RuntimeException("boom"));
+
+        // when
+        strategy.scheduleExecution(task);
+        runCapturedTask(0);
+
+        // then
+        verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any());
+        verify(listener).onExecutionFailed();
+    }
+
+    private OutboxEvent eventCreatedAgo(Duration age) {
+        return new OutboxEvent(UUID.randomUUID(), "type", "payloadType", "payload", NOW.minus(age));
+    }
+
+    private void runCapturedTask(int callIndex) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, atLeast(callIndex + 1)).schedule(captor.capture(), anyLong(), any());
+        captor.getAllValues().get(callIndex).run();
+    }
+
+    private ArgumentCaptor<Long> captureDelays(int expectedCalls) {
+        ArgumentCaptor<Long> captor = ArgumentCaptor.forClass(Long.class);
+        verify(executor, times(expectedCalls)).schedule(any(Runnable.class), captor.capture(), any());
+        return captor;
+    }
+}
@@ -2,6 +2,7 @@ package io.github.dmitriyiliyov.oncebox.core.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -190,6 +191,114 @@ public class AbstractOutboxRepositoryIntegrationTests {
         ).isEqualTo(0);
     }
 
+    public void extendLeaseBatch_onlyOwnedLeases_extended() {
+        String eventType = "LEASE_" + UUID.randomUUID();
+        OutboxEvent event = buildEventWithTypeAndNextRetryAt(EventStatus.PENDING, eventType, Instant.now().minusSeconds(60));
+        repository.save(event);
+        UUID owner = UUID.randomUUID();
+        Instant leaseUntil = Instant.now().plusSeconds(30);
+
+        List<OutboxEvent> claimed = repository.findAndLockBatchByEventTypeAndStatus(
+                eventType, EventStatus.PENDING, 10, EventStatus.IN_PROCESS, owner, leaseUntil
+        );
+
+        assertThat(claimed).extracting(OutboxEvent::getId).containsExactly(event.getId());
+        assertThat(repository.extendLeaseBatch(Set.of(event.getId()), UUID.randomUUID(), leaseUntil.plusSeconds(30)))
+                .isEqualTo(0);
+        assertThat(repository.extendLeaseBatch(Set.of(event.getId()), owner, leaseUntil.plusSeconds(30)))
+                .isEqualTo(1);
+    }
+
+    public void updateBatchStatusByStatusAndExpiredLease_skipsLiveLeases() {
+        String eventType = "LEASE_" + UUID.randomUUID();
+        OutboxEvent event = buildEventWithTypeAndNextRetryAt(EventStatus.PENDING, eventType, Instant.now().minusSeconds(60));
+        repository.save(event);
+        repository.findAndLockBatchByEventTypeAndStatus(
+                eventType, EventStatus.PENDING, 10, EventStatus.IN_PROCESS, UUID.randomUUID(), Instant.now().plusSeconds(60)
+        );
+
+        repository.updateBatchStatusByStatusAndExpiredLease(
+                EventStatus.IN_PROCESS, Instant.now().plusSeconds(1), 1000, EventStatus.PENDING
+        );
+
+        assertThat(repository.findAndLockBatchByEventTypeAndStatus(eventType, EventStatus.PENDING, 10, EventStatus.IN_PROCESS))
+                .isEmpty();
+    }
+
+    public void updateBatchStatusByStatusAndExpiredLease_recoversExpiredLeases() {
+        String eventType = "LEASE_" + UUID.randomUUID();
+        OutboxEvent event = buildEventWithTypeAndNextRetryAt(EventStatus.PENDING, eventType, Instant.now().minusSeconds(60));
+        repository.save(event);
+        repository.findAndLockBatchByEventTypeAndStatus(
+                eventType, EventStatus.PENDING, 10, EventStatus.IN_PROCESS, UUID.randomUUID(), Instant.now().minusSeconds(1)
+        );
+
+        int recovered = repository.updateBatchStatusByStatusAndExpiredLease(
+                EventStatus.IN_PROCESS, Instant.now().minusSeconds(3600), 1000, EventStatus.PENDING
+        );
+
+        assertThat(recovered).isGreaterThanOrEqualTo(1);
+        assertThat(repository.findAndLockBatchByEventTypeAndStatus(eventType, EventStatus.PENDING, 10, EventStatus.IN_PROCESS))
+                .extracting(OutboxEvent::getId)
+                .containsExactly(event.getId());
+    }
+
+    public void updateBatchStatusByStatusAndLockedBy_releasesOnlyOwnedLeases() {
+        String eventType = "LEASE_" + UUID.randomUUID();
+        OutboxEvent owned = buildEventWithTypeAndNextRetryAt(EventStatus.PENDING, eventType, Instant.now().minusSeconds(60));
+        repository.save(owned);
+        UUID owner = UUID.randomUUID();
+        repository.findAndLockBatchByEventTypeAndStatus(
+                eventType, EventStatus.PENDING, 10, EventStatus.IN_PROCESS, owner, Instant.now().plusSeconds(60)
+        );
+        OutboxEvent foreign = buildEventWithTypeAndNextRetryAt(EventStatus.PENDING, eventType, Instant.now().minusSeconds(60));
+        repository.save(foreign);
+        repository.findAndLockBatchByEventTypeAndStatus(
+                eventType, EventStatus.PENDING, 10, EventStatus.IN_PROCESS, UUID.randomUUID(), Instant.now().plusSeconds(60)
+        );
+
+        int released = repository.updateBatchStatusByStatusAndLockedBy(EventStatus.IN_PROCESS, owner, EventStatus.PENDING);
+
+        assertThat(released).isEqualTo(1);
+        assertThat(repository.findAndLockBatchByEventTypeAndStatus(eventType, EventStatus.PENDING, 10, EventStatus.IN_PROCESS))
+                .extracting(OutboxEvent::getId)
+                .containsExactly(owned.getId());
+    }
+
+    public void findEventTypesWithDueEvents_returnsOnlyTypesWithDueEvents() {
+        String due = "DUE_" + UUID.randomUUID();
+        String notDue = "NOT_DUE_" + UUID.randomUUID();
+        String locked = "LOCKED_" + UUID.randomUUID();
+        String empty = "EMPTY_" + UUID.randomUUID();
+        repository.save(buildEventWithTypeAndNextRetryAt(EventStatus.PENDING, due, Instant.now().minusSeconds(60)));
+        repository.save(buildEventWithTypeAndNextRetryAt(EventStatus.PENDING, notDue, Instant.now().plusSeconds(3600)));
+        repository.save(buildEventWithTypeAndNextRetryAt(EventStatus.IN_PROCESS, locked, Instant.now().minusSeconds(60)));
+
+        Set<String> result = repository.findEventTypesWithDueEvents(List.of(due, notDue, locked, empty), EventStatus.PENDING);
+
+        assertThat(result).containsExactly(due);
+    }
+
+    public void deleteBatchByStatusAndIdThreshold_deletesOnlyOlderEventsWithStatus() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        OutboxEvent oldProcessed = buildEventWithRetry(
+                UuidV7Utils.lowerBound(now.minus(2, ChronoUnit.HOURS)), EventStatus.PROCESSED, 0, now
+        );
+        OutboxEvent oldPending = buildEventWithRetry(
+                UuidV7Utils.lowerBound(now.minus(1, ChronoUnit.HOURS)), EventStatus.PENDING, 0, now
+        );
+        OutboxEvent freshProcessed = buildEventWithRetry(
+                new UuidV7Generator().generate(), EventStatus.PROCESSED, 0, now
+        );
+        repository.saveBatch(List.of(oldProcessed, oldPending, freshProcessed));
+
+        int deleted = repository.deleteBatchByStatusAndIdThreshold(
+                EventStatus.PROCESSED, UuidV7Utils.lowerBound(now.minusSeconds(60)), 10
+        );
+
+        assertThat(deleted).isEqualTo(1);
+    }
+
     public OutboxEvent buildEvent(EventStatus status) {
         Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
         return new OutboxEvent(
@@ -205,7 +314,7 @@ public class AbstractOutboxRepositoryIntegrationTests {
         );
     }
 
-    private OutboxEvent buildEventWithRetry(
+    public OutboxEvent buildEventWithRetry(
             UUID id, EventStatus status, int retryCount, Instant nextRetryAt
     ) {
         Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
@@ -7,11 +7,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -20,6 +23,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -274,4 +278,33 @@ public class AbstractOutboxRepositoryUnitTests {
         // then
         verifyNoInteractions(jdbcTemplate);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UT findEventTypesWithDueEvents() when eventTypes is empty should early return")
+    public void findEventTypesWithDueEvents_whenEventTypesIsEmpty_shouldEarlyReturn() {
+        // when
+        Set<String> result = tested.findEventTypesWithDueEvents(List.of(), EventStatus.PENDING);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("UT findEventTypesWithDueEvents() should probe all event types in single query")
+    public void findEventTypesWithDueEvents_shouldProbeAllEventTypesInSingleQuery() {
+        // given
+        when(clock.instant()).thenReturn(Instant.now());
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), ArgumentMatchers.<RowMapper<String>>any()))
+                .thenReturn(List.of("a"));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // when
+        Set<String> result = tested.findEventTypesWithDueEvents(List.of("a", "b"), EventStatus.PENDING);
+
+        // then
+        assertThat(result).containsExactly("a");
+        verify(jdbcTemplate, times(1)).query(sql.capture(), any(PreparedStatementSetter.class), ArgumentMatchers.<RowMapper<String>>any());
+        assertThat(sql.getValue()).contains("UNION ALL").doesNotContain("FOR UPDATE");
+    }
+}
@@ -2,6 +2,9 @@ package io.github.dmitriyiliyov.oncebox.core.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingStage;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -408,6 +411,66 @@ public class DefaultOutboxManagerUnitTests {
         verifyNoInteractions(repository);
     }
 
+    @Test
+    @DisplayName("UT supportsRelease() should return true")
+    public void supportsRelease_shouldReturnTrue() {
+        assertThat(tested.supportsRelease()).isTrue();
+    }
+
+    @Test
+    @DisplayName("UT supportsIdRangeCleanUp() should delegate to repository")
+    public void supportsIdRangeCleanUp_shouldDelegateToRepository() {
+        when(repository.supportsDeleteByIdThreshold()).thenReturn(true);
+
+        assertThat(tested.supportsIdRangeCleanUp()).isTrue();
+    }
+
+    @Test
+    @DisplayName("UT releaseBatch() should move events back to PENDING without touching retry state")
+    public void releaseBatch_shouldUpdateStatusToPending() {
+        // given
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(repository.updateBatchStatus(ids, EventStatus.PENDING)).thenReturn(2);
+
+        // when
+        int released = tested.releaseBatch(ids);
+
+        // then
+        assertThat(released).isEqualTo(2);
+        verify(repository).updateBatchStatus(ids, EventStatus.PENDING);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT releaseBatch() when ids is empty should not touch repository")
+    public void releaseBatch_whenIdsIsEmpty_shouldNotUpdate() {
+        // when
+        int released = tested.releaseBatch(Set.of());
+
+        // then
+        assertThat(released).isZero();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT deleteProcessedBatchByIdRange() should delete processed events below UUIDv7 lower bound")
+    public void deleteProcessedBatchByIdRange_shouldDeleteProcessedBelowUuidV7LowerBound() {
+        // given
+        Duration ttl = Duration.ofHours(2);
+        int batchSize = 100;
+        Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        when(clock.instant()).thenReturn(now);
+        UUID idThreshold = UuidV7Utils.lowerBound(now.minus(ttl));
+        when(repository.deleteBatchByStatusAndIdThreshold(EventStatus.PROCESSED, idThreshold, batchSize)).thenReturn(7);
+
+        // when
+        int result = tested.deleteProcessedBatchByIdRange(ttl, batchSize);
+
+        // then
+        assertEquals(7, result);
+        verify(repository, never()).deleteBatchByStatusAndThreshold(any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("UT deleteBatch() when ids not null and not empty should delete")
     public void delete_whenIdsValid_shouldDelete() {
@@ -452,4 +515,46 @@ public class DefaultOutboxManagerUnitTests {
         // then
         verifyNoInteractions(repository);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UT extendLeases() without leases should return zero")
+    public void extendLeases_withoutLeases_shouldReturnZero() {
+        assertEquals(0, tested.extendLeases(Set.of(UUID.randomUUID())));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT releaseLeases() without leases should return zero")
+    public void releaseLeases_withoutLeases_shouldReturnZero() {
+        assertEquals(0, tested.releaseLeases());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT finalizeBatch() within a processing cycle should record finalize stages and rows")
+    public void finalizeBatch_withinCycle_shouldRecordStagesAndRows() {
+        // given
+        OutboxEvent failed = new OutboxEvent(
+                UUID.randomUUID(), EventStatus.IN_PROCESS, "type", "payloadType", "{}",
+                0, Instant.now(), Instant.now(), Instant.now()
+        );
+        UUID processedId = UUID.randomUUID();
+        when(clock.instant()).thenReturn(Instant.now());
+        when(repository.updateBatchStatus(Set.of(processedId), EventStatus.PROCESSED)).thenReturn(1);
+        when(repository.partiallyUpdateBatch(anyList())).thenReturn(1);
+        OutboxProcessingCycle cycle = OutboxProcessingCycle.begin();
+
+        // when
+        try {
+            tested.finalizeBatch(List.of(failed), Set.of(processedId), Set.of(failed.getId()), 3, i -> Instant.now());
+        } finally {
+            OutboxProcessingCycle.end();
+        }
+
+        // then
+        assertThat(cycle.getStageNanos())
+                .containsOnlyKeys(OutboxProcessingStage.FINALIZE_PROCESSED, OutboxProcessingStage.FINALIZE_FAILED);
+        assertEquals(0, cycle.getStatements());
+        assertEquals(2, cycle.getRows());
+    }
+}
@@ -3,6 +3,8 @@ package io.github.dmitriyiliyov.oncebox.core.publisher;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingStage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -109,6 +112,26 @@ class DefaultOutboxProcessorUnitTests {
         verifyNoMoreInteractions(manager, sender);
     }
 
+    @Test
+    @DisplayName("UT process() within a processing cycle, should record load and send stages")
+    void process_withinCycle_shouldRecordLoadAndSendStages() {
+        // given
+        List<OutboxEvent> events = List.of(mock(OutboxEvent.class));
+        when(manager.loadBatch(eventType, batchSize)).thenReturn(events);
+        when(sender.sendEvents(topic, events)).thenReturn(new SenderResult(Set.of(UUID.randomUUID()), null));
+        OutboxProcessingCycle cycle = OutboxProcessingCycle.begin();
+
+        // when
+        try {
+            tested.process(properties);
+        } finally {
+            OutboxProcessingCycle.end();
+        }
+
+        // then
+        assertThat(cycle.getStageNanos()).containsOnlyKeys(OutboxProcessingStage.LOAD, OutboxProcessingStage.SEND);
+    }
+
     @Test
     @DisplayName("UT process() when sender throws, should finalize all as failed")
     void process_whenSenderThrows_shouldFinalizeAllAsFailed() {
@@ -171,4 +194,145 @@ class DefaultOutboxProcessorUnitTests {
         verify(manager).loadBatch(eventType, batchSize);
         verifyNoMoreInteractions(manager, sender);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UT process() with explicit batch size should load that many events and notify listener")
+    void process_withExplicitBatchSize_shouldLoadBatchSizeAndNotifyListener() {
+        // given
+        OutboxEvent event = mock(OutboxEvent.class);
+        List<OutboxEvent> events = List.of(event);
+        SenderResult result = new SenderResult(Set.of(UUID.randomUUID()), Set.of());
+        OutboxBatchListener listener = mock(OutboxBatchListener.class);
+
+        when(manager.loadBatch(eventType, 70)).thenReturn(events);
+        when(sender.sendEvents(topic, events)).thenReturn(result);
+
+        // when
+        int processed = tested.process(properties, 70, listener);
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        verify(manager).loadBatch(eventType, 70);
+        verify(listener).onBatchSent(eq(70), eq(events), eq(result), any(Duration.class));
+        verify(manager).finalizeBatch(eq(events), eq(result.processedIds()), eq(result.failedIds()),
+                eq(maxRetries), any(Function.class));
+    }
+
+    @Test
+    @DisplayName("UT process() when listener throws, should still finalize batch")
+    void process_whenListenerThrows_shouldStillFinalize() {
+        // given
+        OutboxEvent event = mock(OutboxEvent.class);
+        List<OutboxEvent> events = List.of(event);
+        SenderResult result = new SenderResult(Set.of(UUID.randomUUID()), Set.of());
+        OutboxBatchListener listener = mock(OutboxBatchListener.class);
+
+        when(manager.loadBatch(eventType, batchSize)).thenReturn(events);
+        when(sender.sendEvents(topic, events)).thenReturn(result);
+        doThrow(RuntimeException.class).when(listener).onBatchSent(anyInt(), any(), any(), any());
+
+        // when
+        tested.process(properties, batchSize, listener);
+
+        // then
+        verify(manager).finalizeBatch(eq(events), eq(result.processedIds()), eq(result.failedIds()),
+                eq(maxRetries), any(Function.class));
+    }
+
+    @Test
+    @DisplayName("UT process() with explicit batch size when events are empty, should not notify listener")
+    void process_withExplicitBatchSize_whenEventsEmpty_shouldNotNotifyListener() {
+        // given
+        OutboxBatchListener listener = mock(OutboxBatchListener.class);
+        when(manager.loadBatch(eventType, 70)).thenReturn(List.of());
+
+        // when
+        int processed = tested.process(properties, 70, listener);
+
+        // then
+        assertThat(processed).isZero();
+        verifyNoInteractions(listener, sender);
+    }
+
+    @Test
+    @DisplayName("UT process() when listener reports infrastructure failure, should release batch and report no progress")
+    void process_whenInfrastructureFailure_shouldReleaseBatch() {
+        // given
+        UUID id = UUID.randomUUID();
+        OutboxEvent event = mock(OutboxEvent.class);
+        when(event.getId()).thenReturn(id);
+        List<OutboxEvent> events = List.of(event);
+        SenderResult result = new SenderResult(Set.of(), Set.of(id), true);
+        OutboxBatchListener listener = mock(OutboxBatchListener.class);
+
+        when(manager.loadBatch(eventType, batchSize)).thenReturn(events);
+        when(sender.sendEvents(topic, events)).thenReturn(result);
+        when(listener.isInfrastructureFailure(events, result)).thenReturn(true);
+        when(manager.supportsRelease()).thenReturn(true);
+        when(manager.releaseBatch(Set.of(id))).thenReturn(1);
+
+        // when
+        int processed = tested.process(properties, batchSize, listener);
+
+        // then
+        assertThat(processed).isZero();
+        verify(manager).releaseBatch(Set.of(id));
+        verify(manager, never()).finalizeBatch(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("UT process() when infrastructure failure after partial ack, should finalize acked ids and release only the rest")
+    void process_whenInfrastructureFailureWithAckedIds_shouldFinalizeAckedAndReleaseRest() {
+        // given
+        UUID ackedId = UUID.randomUUID();
+        UUID failedId = UUID.randomUUID();
+        UUID overlappedId = UUID.randomUUID();
+        OutboxEvent acked = mock(OutboxEvent.class);
+        OutboxEvent failed = mock(OutboxEvent.class);
+        OutboxEvent overlapped = mock(OutboxEvent.class);
+        when(acked.getId()).thenReturn(ackedId);
+        when(failed.getId()).thenReturn(failedId);
+        when(overlapped.getId()).thenReturn(overlappedId);
+        List<OutboxEvent> events = List.of(acked, failed, overlapped);
+        SenderResult result = new SenderResult(Set.of(ackedId, overlappedId), Set.of(failedId, overlappedId), true);
+        OutboxBatchListener listener = mock(OutboxBatchListener.class);
+
+        when(manager.loadBatch(eventType, batchSize)).thenReturn(events);
+        when(sender.sendEvents(topic, events)).thenReturn(result);
+        when(listener.isInfrastructureFailure(events, result)).thenReturn(true);
+        when(manager.supportsRelease()).thenReturn(true);
+        when(manager.releaseBatch(Set.of(failedId, overlappedId))).thenReturn(2);
+
+        // when
+        int processed = tested.process(properties, batchSize, listener);
+
+        // then
+        assertThat(processed).isZero();
+        verify(manager).finalizeBatch(eq(events), eq(Set.of(ackedId)), eq(Set.of()), anyInt(), any());
+        verify(manager).releaseBatch(Set.of(failedId, overlappedId));
+    }
+
+    @Test
+    @DisplayName("UT process() when manager does not support release, should finalize batch with retry")
+    void process_whenReleaseNotSupported_shouldFinalizeBatch() {
+        // given
+        UUID id = UUID.randomUUID();
+        OutboxEvent event = mock(OutboxEvent.class);
+        List<OutboxEvent> events = List.of(event);
+        SenderResult result = new SenderResult(Set.of(), Set.of(id), true);
+        OutboxBatchListener listener = mock(OutboxBatchListener.class);
+
+        when(manager.loadBatch(eventType, batchSize)).thenReturn(events);
+        when(sender.sendEvents(topic, events)).thenReturn(result);
+        when(listener.isInfrastructureFailure(events, result)).thenReturn(true);
+        when(manager.supportsRelease()).thenReturn(false);
+
+        // when
+        int processed = tested.process(properties, batchSize, listener);
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        verify(manager, never()).releaseBatch(any());
+        verify(manager).finalizeBatch(eq(events), eq(Set.of()), eq(Set.of(id)), anyInt(), any());
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeasingOutboxManagerUnitTests {
+
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(30);
+
+    @Mock
+    OutboxRepository repository;
+
+    @Mock
+    Clock clock;
+
+    UUID workerId;
+    Instant now;
+    LeasingOutboxManager tested;
+
+    @BeforeEach
+    void setUp() {
+        workerId = UUID.randomUUID();
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        tested = new LeasingOutboxManager(repository, clock, workerId, LEASE_DURATION);
+    }
+
+    @Test
+    @DisplayName("UT constructor when workerId is null should throw NullPointerException")
+    void constructor_whenWorkerIdIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new LeasingOutboxManager(repository, clock, null, LEASE_DURATION))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("workerId cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT constructor when leaseDuration is null should throw NullPointerException")
+    void constructor_whenLeaseDurationIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new LeasingOutboxManager(repository, clock, workerId, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("leaseDuration cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT constructor when leaseDuration is not positive should throw IllegalArgumentException")
+    void constructor_whenLeaseDurationIsNotPositive_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new LeasingOutboxManager(repository, clock, workerId, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LeasingOutboxManager(repository, clock, workerId, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT loadBatch(String, int) should claim events with worker id and lease expiration")
+    void loadBatch_byEventType_shouldClaimWithLease() {
+        // given
+        List<OutboxEvent> events = List.of(mock(OutboxEvent.class));
+        when(clock.instant()).thenReturn(now);
+        when(repository.findAndLockBatchByEventTypeAndStatus(
+                "event-type", EventStatus.PENDING, 10, EventStatus.IN_PROCESS, workerId, now.plus(LEASE_DURATION)
+        )).thenReturn(events);
+
+        // when
+        List<OutboxEvent> result = tested.loadBatch("event-type", 10);
+
+        // then
+        assertThat(result).isSameAs(events);
+        verify(repository).findAndLockBatchByEventTypeAndStatus(
+                "event-type", EventStatus.PENDING, 10, EventStatus.IN_PROCESS, workerId, now.plus(LEASE_DURATION)
+        );
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT loadBatch(EventStatus, int) should claim events with worker id and lease expiration")
+    void loadBatch_byStatus_shouldClaimWithLease() {
+        // given
+        when(clock.instant()).thenReturn(now);
+        when(repository.findAndLockBatchByStatus(
+                EventStatus.FAILED, 10, EventStatus.IN_PROCESS, workerId, now.plus(LEASE_DURATION)
+        )).thenReturn(List.of());
+
+        // when
+        List<OutboxEvent> result = tested.loadBatch(EventStatus.FAILED, 10);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(repository).findAndLockBatchByStatus(
+                EventStatus.FAILED, 10, EventStatus.IN_PROCESS, workerId, now.plus(LEASE_DURATION)
+        );
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT recoverStuckBatch() should recover expired leases with maxBatchProcessingTime as fallback")
+    void recoverStuckBatch_shouldRecoverExpiredLeases() {
+        // given
+        Duration maxProcessingTime = Duration.ofMinutes(5);
+        when(clock.instant()).thenReturn(now);
+        when(repository.updateBatchStatusByStatusAndExpiredLease(
+                EventStatus.IN_PROCESS, now.minus(maxProcessingTime), 50, EventStatus.PENDING
+        )).thenReturn(7);
+
+        // when
+        int recovered = tested.recoverStuckBatch(maxProcessingTime, 50);
+
+        // then
+        assertThat(recovered).isEqualTo(7);
+        verify(repository).updateBatchStatusByStatusAndExpiredLease(
+                EventStatus.IN_PROCESS, now.minus(maxProcessingTime), 50, EventStatus.PENDING
+        );
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT extendLeases() should extend leases owned by the worker")
+    void extendLeases_shouldExtendOwnedLeases() {
+        // given
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(clock.instant()).thenReturn(now);
+        when(repository.extendLeaseBatch(ids, workerId, now.plus(LEASE_DURATION))).thenReturn(2);
+
+        // when
+        int extended = tested.extendLeases(ids);
+
+        // then
+        assertThat(extended).isEqualTo(2);
+        verify(repository).extendLeaseBatch(ids, workerId, now.plus(LEASE_DURATION));
+    }
+
+    @Test
+    @DisplayName("UT extendLeases() when ids is null or empty should not delegate")
+    void extendLeases_whenIdsIsNullOrEmpty_shouldNotDelegate() {
+        assertThat(tested.extendLeases(null)).isZero();
+        assertThat(tested.extendLeases(Set.of())).isZero();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("UT releaseLeases() should move worker's in-process events back to pending")
+    void releaseLeases_shouldReleaseOwnedLeases() {
+        // given
+        when(repository.updateBatchStatusByStatusAndLockedBy(EventStatus.IN_PROCESS, workerId, EventStatus.PENDING))
+                .thenReturn(4);
+
+        // when
+        int released = tested.releaseLeases();
+
+        // then
+        assertThat(released).isEqualTo(4);
+        verify(repository).updateBatchStatusByStatusAndLockedBy(EventStatus.IN_PROCESS, workerId, EventStatus.PENDING);
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.dmitriyiliyov.oncebox.core.publisher;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPropertiesHolder;
@@ -53,6 +54,17 @@ public class OutboxCleanUpSchedulerUnitTests {
         );
     }
 
+    @Test
+    @DisplayName("UT constructor when mode is ID_RANGE and manager does not support it should throw IllegalStateException")
+    void constructor_whenIdRangeNotSupported_shouldThrowIllegalStateException() {
+        when(properties.getMode()).thenReturn(CleanUpMode.ID_RANGE);
+        when(manager.supportsIdRangeCleanUp()).thenReturn(false);
+
+        assertThatThrownBy(() -> new OutboxCleanUpScheduler(workerId, properties, strategy, manager, lock, decorator))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ID_RANGE");
+    }
+
     @Test
     @DisplayName("UT constructor when workerId is null should throw NullPointerException")
     void constructor_whenWorkerIdIsNull_shouldThrowNullPointerException() {
@@ -122,6 +134,7 @@ public class OutboxCleanUpSchedulerUnitTests {
     @Test
     void schedule_whenLockNotAcquired_shouldReturnFalseAndNotExecute() {
         // given
+        clearInvocations(properties);
         when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
         when(lock.tryLock(jobName, workerId)).thenReturn(false);
 
@@ -216,6 +229,28 @@ public class OutboxCleanUpSchedulerUnitTests {
         verify(lock).unlock(jobName, workerId);
     }
 
+    @Test
+    void schedule_whenModeIsIdRange_shouldDeleteProcessedByIdRange() {
+        // given
+        int batchSize = 100;
+        Duration ttl = Duration.ofHours(48);
+        when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
+        when(lock.tryLock(jobName, workerId)).thenReturn(true);
+        when(properties.getBatchSize()).thenReturn(batchSize);
+        when(properties.getTtl()).thenReturn(ttl);
+        when(properties.getMode()).thenReturn(CleanUpMode.ID_RANGE);
+        when(manager.deleteProcessedBatchByIdRange(ttl, batchSize)).thenReturn(0);
+
+        // when
+        tested.schedule();
+        captureAndRun();
+
+        // then
+        verify(manager).deleteProcessedBatchByIdRange(ttl, batchSize);
+        verify(manager, never()).deleteProcessedBatch(any(), anyInt());
+        verify(lock).unlock(jobName, workerId);
+    }
+
     @Test
     void schedule_whenManagerThrowsException_shouldReturnFalseAndNotRethrowAndUnlock() {
         // given
@@ -2,13 +2,16 @@ package io.github.dmitriyiliyov.oncebox.core.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.FixedBatchSizeStrategy;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -16,8 +19,9 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class OutboxPollingSchedulerUnitTests {
@@ -34,9 +38,16 @@ public class OutboxPollingSchedulerUnitTests {
     @Mock
     ContinuableTaskDecorator decorator;
 
-    @InjectMocks
+    @Mock
+    BatchSizeStrategy batchSizeStrategy;
+
     OutboxPollingScheduler tested;
 
+    @BeforeEach
+    void setUp() {
+        tested = new OutboxPollingScheduler(properties, strategy, processor, decorator);
+    }
+
     @Test
     @DisplayName("UT constructor when properties is null should throw NullPointerException")
     void constructor_whenPropertiesIsNull_shouldThrowNullPointerException() {
@@ -69,9 +80,17 @@ public class OutboxPollingSchedulerUnitTests {
                 .hasMessageContaining("taskDecorator cannot be null");
     }
 
+    @Test
+    @DisplayName("UT constructor when batchSizeStrategy is null should throw NullPointerException")
+    void constructor_whenBatchSizeStrategyIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new OutboxPollingScheduler(properties, strategy, null, processor, decorator))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("batchSizeStrategy cannot be null");
+    }
+
     private boolean captureAndRun() {
         ArgumentCaptor<ContinuableTask> captor = ArgumentCaptor.forClass(ContinuableTask.class);
-        verify(strategy).scheduleExecution(captor.capture());
+        verify(strategy).scheduleExecution(captor.capture(), any(ContinuableTaskExecutor.class));
         return captor.getValue().run();
     }
 
@@ -82,7 +101,31 @@ public class OutboxPollingSchedulerUnitTests {
         tested.schedule();
 
         // then
-        verify(strategy).scheduleExecution(any());
+        verify(strategy).scheduleExecution(any(), any(ContinuableTaskExecutor.class));
+    }
+
+    @Test
+    @DisplayName("UT constructor when taskExecutor is null should throw NullPointerException")
+    void constructor_whenTaskExecutorIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new OutboxPollingScheduler(properties, strategy, batchSizeStrategy, processor, decorator, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("taskExecutor cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT schedule() should pass given taskExecutor to strategy")
+    void schedule_shouldPassTaskExecutorToStrategy() {
+        // given
+        ContinuableTaskExecutor taskExecutor = mock(ContinuableTaskExecutor.class);
+        ContinuableTask decorated = () -> true;
+        when(decorator.decorate(any())).thenReturn(decorated);
+        tested = new OutboxPollingScheduler(properties, strategy, batchSizeStrategy, processor, decorator, taskExecutor);
+
+        // when
+        tested.schedule();
+
+        // then
+        verify(strategy).scheduleExecution(decorated, taskExecutor);
     }
 
     @Test
@@ -91,7 +134,7 @@ public class OutboxPollingSchedulerUnitTests {
         // given
         int batchSize = 50;
         when(properties.getBatchSize()).thenReturn(batchSize);
-        when(processor.process(properties)).thenReturn(batchSize);
+        when(processor.process(eq(properties), anyInt(), any(FixedBatchSizeStrategy.class))).thenReturn(batchSize);
         when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
 
         // when
@@ -108,7 +151,7 @@ public class OutboxPollingSchedulerUnitTests {
         // given
         int batchSize = 50;
         when(properties.getBatchSize()).thenReturn(batchSize);
-        when(processor.process(properties)).thenReturn(batchSize - 1);
+        when(processor.process(eq(properties), anyInt(), any(FixedBatchSizeStrategy.class))).thenReturn(batchSize - 1);
         when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
 
         // when
@@ -125,7 +168,7 @@ public class OutboxPollingSchedulerUnitTests {
         // given
         int batchSize = 50;
         when(properties.getBatchSize()).thenReturn(batchSize);
-        when(processor.process(properties)).thenReturn(0);
+        when(processor.process(eq(properties), anyInt(), any(FixedBatchSizeStrategy.class))).thenReturn(0);
         when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
 
         // when
@@ -141,7 +184,7 @@ public class OutboxPollingSchedulerUnitTests {
     void schedule_shouldPassPropertiesToProcessor() {
         // given
         when(properties.getBatchSize()).thenReturn(50);
-        when(processor.process(properties)).thenReturn(0);
+        when(processor.process(eq(properties), anyInt(), any(FixedBatchSizeStrategy.class))).thenReturn(0);
         when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
 
         // when
@@ -149,7 +192,7 @@ public class OutboxPollingSchedulerUnitTests {
         captureAndRun();
 
         // then
-        verify(processor).process(properties);
+        verify(processor).process(eq(properties), eq(50), any(FixedBatchSizeStrategy.class));
     }
 
     @Test
@@ -157,7 +200,7 @@ public class OutboxPollingSchedulerUnitTests {
     void schedule_whenProcessorThrows_continuableShouldReturnFalseAndNotRethrow() {
         // given
         when(properties.getBatchSize()).thenReturn(50);
-        when(processor.process(properties)).thenThrow(new RuntimeException("DB error"));
+        when(processor.process(eq(properties), anyInt(), any(FixedBatchSizeStrategy.class))).thenThrow(new RuntimeException("DB error"));
         when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
 
         // when
@@ -167,4 +210,40 @@ public class OutboxPollingSchedulerUnitTests {
         // then
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UT schedule() with batch size strategy should process with its batch size and feed it back")
+    void schedule_withBatchSizeStrategy_shouldProcessWithStrategyBatchSize() {
+        // given
+        tested = new OutboxPollingScheduler(properties, strategy, batchSizeStrategy, processor, decorator);
+        when(batchSizeStrategy.getBatchSize()).thenReturn(70);
+        when(processor.process(properties, 70, batchSizeStrategy)).thenReturn(70);
+        when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
+
+        // when
+        tested.schedule();
+        boolean result = captureAndRun();
+
+        // then
+        assertTrue(result);
+        verify(processor).process(properties, 70, batchSizeStrategy);
+        verify(properties, never()).getBatchSize();
+    }
+
+    @Test
+    @DisplayName("UT schedule() when strategy batch size is 0 should skip processing and not continue")
+    void schedule_whenStrategyBatchSizeIsZero_shouldSkipProcessing() {
+        // given
+        tested = new OutboxPollingScheduler(properties, strategy, batchSizeStrategy, processor, decorator);
+        when(batchSizeStrategy.getBatchSize()).thenReturn(0);
+        when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
+
+        // when
+        tested.schedule();
+        boolean result = captureAndRun();
+
+        // then
+        assertFalse(result);
+        verifyNoInteractions(processor);
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxSenderLeaseHeartbeatDecoratorUnitTests {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+
+    @Mock
+    OutboxSender delegate;
+
+    @Mock
+    OutboxManager manager;
+
+    @Mock
+    ScheduledExecutorService executor;
+
+    @Mock
+    ScheduledFuture<Object> future;
+
+    @Test
+    @DisplayName("UT constructor when delegate is null should throw NullPointerException")
+    void constructor_whenDelegateIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new OutboxSenderLeaseHeartbeatDecorator(null, manager, executor, INTERVAL))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("delegate cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT constructor when interval is not positive should throw IllegalArgumentException")
+    void constructor_whenIntervalIsNotPositive_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new OutboxSenderLeaseHeartbeatDecorator(delegate, manager, executor, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT sendEvents() should renew leases while sending and stop afterwards")
+    void sendEvents_shouldRenewLeasesWhileSending() {
+        // given
+        OutboxEvent event = mock(OutboxEvent.class);
+        UUID id = UUID.randomUUID();
+        when(event.getId()).thenReturn(id);
+        SenderResult expected = new SenderResult(Set.of(id), Set.of());
+        when(delegate.sendEvents("topic", List.of(event))).thenReturn(expected);
+        doReturn(future).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        OutboxSenderLeaseHeartbeatDecorator tested = new OutboxSenderLeaseHeartbeatDecorator(delegate, manager, executor, INTERVAL);
+
+        // when
+        SenderResult result = tested.sendEvents("topic", List.of(event));
+
+        // then
+        assertThat(result).isSameAs(expected);
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleWithFixedDelay(
+                captor.capture(), eq(INTERVAL.toMillis()), eq(INTERVAL.toMillis()), eq(TimeUnit.MILLISECONDS)
+        );
+        verify(future).cancel(false);
+
+        captor.getValue().run();
+        verify(manager).extendLeases(Set.of(id));
+    }
+
+    @Test
+    @DisplayName("UT sendEvents() when delegate throws should stop renewal and rethrow")
+    void sendEvents_whenDelegateThrows_shouldStopRenewal() {
+        // given
+        OutboxEvent event = mock(OutboxEvent.class);
+        when(event.getId()).thenReturn(UUID.randomUUID());
+        when(delegate.sendEvents(any(), any())).thenThrow(new RuntimeException("broker down"));
+        doReturn(future).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        OutboxSenderLeaseHeartbeatDecorator tested = new OutboxSenderLeaseHeartbeatDecorator(delegate, manager, executor, INTERVAL);
+
+        // when + then
+        assertThatThrownBy(() -> tested.sendEvents("topic", List.of(event)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("broker down");
+        verify(future).cancel(false);
+    }
+
+    @Test
+    @DisplayName("UT heartbeat when extendLeases throws should not propagate")
+    void heartbeat_whenExtendLeasesThrows_shouldNotPropagate() {
+        // given
+        OutboxEvent event = mock(OutboxEvent.class);
+        when(event.getId()).thenReturn(UUID.randomUUID());
+        when(manager.extendLeases(any())).thenThrow(new RuntimeException("db down"));
+        doReturn(future).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        OutboxSenderLeaseHeartbeatDecorator tested = new OutboxSenderLeaseHeartbeatDecorator(delegate, manager, executor, INTERVAL);
+        tested.sendEvents("topic", List.of(event));
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleWithFixedDelay(captor.capture(), anyLong(), anyLong(), any());
+
+        // when + then
+        assertThatCode(() -> captor.getValue().run()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("UT sendEvents() with empty events should not schedule renewal")
+    void sendEvents_withEmptyEvents_shouldNotScheduleRenewal() {
+        OutboxSenderLeaseHeartbeatDecorator tested = new OutboxSenderLeaseHeartbeatDecorator(delegate, manager, executor, INTERVAL);
+
+        tested.sendEvents("topic", List.of());
+
+        verify(delegate).sendEvents("topic", List.of());
+        verifyNoInteractions(executor, manager);
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.batching;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AimdBatchSizeStrategyUnitTests {
+
+    private static final Duration FAST = Duration.ofMillis(100);
+    private static final Duration SLOW = Duration.ofSeconds(2);
+
+    @Mock
+    AdaptiveBatchSizePropertiesHolder properties;
+
+    @Mock
+    BatchSizeStrategyListener listener;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(properties.getMinBatchSize()).thenReturn(10);
+        lenient().when(properties.getMaxBatchSize()).thenReturn(100);
+        lenient().when(properties.getAdditiveIncrease()).thenReturn(10);
+        lenient().when(properties.getDecreaseFactor()).thenReturn(0.5);
+        lenient().when(properties.getTargetSendLatency()).thenReturn(Duration.ofSeconds(1));
+        lenient().when(properties.getMaxFailureRatio()).thenReturn(0.1);
+    }
+
+    private static List<OutboxEvent> events(int count) {
+        return IntStream.range(0, count).mapToObj(i -> mock(OutboxEvent.class)).toList();
+    }
+
+    private static SenderResult failed(int count) {
+        Set<UUID> ids = IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).collect(Collectors.toSet());
+        return new SenderResult(Set.of(), ids);
+    }
+
+    @Test
+    @DisplayName("UT constructor should clamp initial batch size and notify listener")
+    void constructor_shouldClampInitialBatchSizeAndNotifyListener() {
+        AimdBatchSizeStrategy tested = new AimdBatchSizeStrategy(500, properties, listener);
+
+        assertThat(tested.getBatchSize()).isEqualTo(100);
+        verify(listener).onBatchSizeChanged(100);
+    }
+
+    @Test
+    @DisplayName("UT constructor when min batch size greater than max should throw IllegalArgumentException")
+    void constructor_whenMinGreaterThanMax_shouldThrowIllegalArgumentException() {
+        when(properties.getMinBatchSize()).thenReturn(200);
+
+        assertThatThrownBy(() -> new AimdBatchSizeStrategy(50, properties, listener))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT constructor when decrease factor out of range should throw IllegalArgumentException")
+    void constructor_whenDecreaseFactorOutOfRange_shouldThrowIllegalArgumentException() {
+        when(properties.getDecreaseFactor()).thenReturn(1.0);
+
+        assertThatThrownBy(() -> new AimdBatchSizeStrategy(50, properties, listener))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT constructor when listener is null should throw NullPointerException")
+    void constructor_whenListenerIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new AimdBatchSizeStrategy(50, properties, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("listener cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when full batch is fast and healthy should increase additively")
+    void onBatchSent_whenFullFastHealthyBatch_shouldIncreaseAdditively() {
+        AimdBatchSizeStrategy tested = new AimdBatchSizeStrategy(50, properties, listener);
+
+        tested.onBatchSent(50, events(50), failed(0), FAST);
+
+        assertThat(tested.getBatchSize()).isEqualTo(60);
+        verify(listener).onBatchSizeChanged(60);
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() should not increase above max batch size")
+    void onBatchSent_shouldNotIncreaseAboveMax() {
+        AimdBatchSizeStrategy tested = new AimdBatchSizeStrategy(95, properties, listener);
+
+        tested.onBatchSent(95, events(95), failed(0), FAST);
+        tested.onBatchSent(100, events(100), failed(0), FAST);
+
+        assertThat(tested.getBatchSize()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when partial batch is fast should keep batch size")
+    void onBatchSent_whenPartialBatch_shouldKeepBatchSize() {
+        AimdBatchSizeStrategy tested = new AimdBatchSizeStrategy(50, properties, listener);
+
+        tested.onBatchSent(50, events(20), failed(0), FAST);
+
+        assertThat(tested.getBatchSize()).isEqualTo(50);
+        verify(listener, times(1)).onBatchSizeChanged(anyInt());
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when batch is slow should decrease multiplicatively")
+    void onBatchSent_whenSlowBatch_shouldDecreaseMultiplicatively() {
+        AimdBatchSizeStrategy tested = new AimdBatchSizeStrategy(50, properties, listener);
+
+        tested.onBatchSent(50, events(50), failed(0), SLOW);
+
+        assertThat(tested.getBatchSize()).isEqualTo(25);
+        verify(listener).onBatchSizeChanged(25);
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when failure ratio exceeds max should decrease even if fast")
+    void onBatchSent_whenFailureRatioExceedsMax_shouldDecrease() {
+        AimdBatchSizeStrategy tested = new AimdBatchSizeStrategy(50, properties, listener);
+
+        tested.onBatchSent(50, events(50), failed(10), FAST);
+
+        assertThat(tested.getBatchSize()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() should not decrease below min batch size")
+    void onBatchSent_shouldNotDecreaseBelowMin() {
+        AimdBatchSizeStrategy tested = new AimdBatchSizeStrategy(12, properties, listener);
+
+        tested.onBatchSent(12, events(12), failed(0), SLOW);
+        tested.onBatchSent(10, events(10), failed(0), SLOW);
+
+        assertThat(tested.getBatchSize()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when events are empty should keep batch size")
+    void onBatchSent_whenEventsEmpty_shouldKeepBatchSize() {
+        AimdBatchSizeStrategy tested = new AimdBatchSizeStrategy(50, properties, listener);
+
+        tested.onBatchSent(50, List.of(), failed(0), SLOW);
+
+        assertThat(tested.getBatchSize()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.batching;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxBatchListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FixedBatchSizeStrategyUnitTests {
+
+    @Mock
+    OutboxPublisherPropertiesHolder.EventPropertiesHolder properties;
+
+    @Mock
+    OutboxBatchListener batchListener;
+
+    @Test
+    @DisplayName("UT constructor when properties is null should throw NullPointerException")
+    void constructor_whenPropertiesIsNull_shouldThrow() {
+        assertThatThrownBy(() -> new FixedBatchSizeStrategy(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("properties cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() should return configured batch size")
+    void getBatchSize_shouldReturnConfiguredBatchSize() {
+        // given
+        when(properties.getBatchSize()).thenReturn(50);
+        FixedBatchSizeStrategy tested = new FixedBatchSizeStrategy(properties);
+
+        // when
+        int batchSize = tested.getBatchSize();
+
+        // then
+        assertThat(batchSize).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("UT withListener() should keep batch size and notify both strategy and listener")
+    void withListener_shouldKeepBatchSizeAndNotifyBoth() {
+        // given
+        when(properties.getBatchSize()).thenReturn(50);
+        BatchSizeStrategy strategy = spy(new FixedBatchSizeStrategy(properties));
+        List<OutboxEvent> events = List.of(mock(OutboxEvent.class));
+        SenderResult result = SenderResult.empty();
+
+        // when
+        BatchSizeStrategy tested = strategy.withListener(batchListener);
+        tested.onBatchSent(50, events, result, Duration.ofMillis(5));
+
+        // then
+        assertThat(tested.getBatchSize()).isEqualTo(50);
+        verify(strategy).onBatchSent(50, events, result, Duration.ofMillis(5));
+        verify(batchListener).onBatchSent(50, events, result, Duration.ofMillis(5));
+    }
+
+    @Test
+    @DisplayName("UT withListener() when listener is null should throw NullPointerException")
+    void withListener_whenListenerIsNull_shouldThrow() {
+        FixedBatchSizeStrategy tested = new FixedBatchSizeStrategy(properties);
+
+        assertThatThrownBy(() -> tested.withListener(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("listener cannot be null");
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerBatchSizeStrategyUnitTests {
+
+    private static final SenderResult SUCCEEDED = new SenderResult(Set.of(UUID.randomUUID()), Set.of());
+    private static final SenderResult FAILED = new SenderResult(Set.of(), Set.of(UUID.randomUUID()), true);
+    private static final SenderResult REJECTED = new SenderResult(Set.of(), Set.of(UUID.randomUUID()));
+
+    @Mock
+    BatchSizeStrategy delegate;
+
+    @Mock
+    OutboxCircuitBreaker circuitBreaker;
+
+    @InjectMocks
+    CircuitBreakerBatchSizeStrategy tested;
+
+    private final List<OutboxEvent> events = List.of(mock(OutboxEvent.class));
+
+    @Test
+    @DisplayName("UT getBatchSize() when allowed should return delegate batch size")
+    void getBatchSize_whenAllowed_shouldReturnDelegateBatchSize() {
+        // given
+        when(circuitBreaker.acquirePermission()).thenReturn(OutboxCircuitBreaker.Permission.ALLOWED);
+        when(delegate.getBatchSize()).thenReturn(100);
+
+        // when + then
+        assertThat(tested.getBatchSize()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() when rejected should return 0 without asking delegate")
+    void getBatchSize_whenRejected_shouldReturnZero() {
+        // given
+        when(circuitBreaker.acquirePermission()).thenReturn(OutboxCircuitBreaker.Permission.REJECTED);
+
+        // when + then
+        assertThat(tested.getBatchSize()).isZero();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() when probe should limit batch size to half-open batch size")
+    void getBatchSize_whenProbe_shouldLimitBatchSize() {
+        // given
+        when(circuitBreaker.acquirePermission()).thenReturn(OutboxCircuitBreaker.Permission.PROBE);
+        when(circuitBreaker.getHalfOpenBatchSize()).thenReturn(5);
+        when(delegate.getBatchSize()).thenReturn(100);
+
+        // when + then
+        assertThat(tested.getBatchSize()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when regular batch failed should report failure and treat it as infrastructure failure")
+    void onBatchSent_whenRegularBatchFailed_shouldBeInfrastructureFailure() {
+        // given
+        when(circuitBreaker.acquirePermission()).thenReturn(OutboxCircuitBreaker.Permission.ALLOWED);
+        when(delegate.getBatchSize()).thenReturn(100);
+        tested.getBatchSize();
+
+        // when
+        tested.onBatchSent(100, events, FAILED, Duration.ZERO);
+
+        // then
+        verify(circuitBreaker).onFailure(false);
+        verify(delegate).onBatchSent(100, events, FAILED, Duration.ZERO);
+        assertThat(tested.isInfrastructureFailure(events, FAILED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when probe failed should report failure but consume retry budget")
+    void onBatchSent_whenProbeFailed_shouldNotBeInfrastructureFailure() {
+        // given
+        when(circuitBreaker.acquirePermission()).thenReturn(OutboxCircuitBreaker.Permission.PROBE);
+        when(circuitBreaker.getHalfOpenBatchSize()).thenReturn(5);
+        when(delegate.getBatchSize()).thenReturn(100);
+        tested.getBatchSize();
+
+        // when
+        tested.onBatchSent(5, events, FAILED, Duration.ZERO);
+
+        // then
+        verify(circuitBreaker).onFailure(true);
+        assertThat(tested.isInfrastructureFailure(events, FAILED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when batch partially succeeded should report success")
+    void onBatchSent_whenSucceeded_shouldReportSuccess() {
+        // given
+        when(circuitBreaker.acquirePermission()).thenReturn(OutboxCircuitBreaker.Permission.ALLOWED);
+        when(delegate.getBatchSize()).thenReturn(100);
+        tested.getBatchSize();
+
+        // when
+        tested.onBatchSent(100, events, SUCCEEDED, Duration.ZERO);
+
+        // then
+        verify(circuitBreaker).onSuccess(false);
+        assertThat(tested.isInfrastructureFailure(events, SUCCEEDED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when events were rejected one by one should report success and consume retry budget")
+    void onBatchSent_whenEventsRejected_shouldNotBeInfrastructureFailure() {
+        // given
+        when(circuitBreaker.acquirePermission()).thenReturn(OutboxCircuitBreaker.Permission.ALLOWED);
+        when(delegate.getBatchSize()).thenReturn(100);
+        tested.getBatchSize();
+
+        // when
+        tested.onBatchSent(100, events, REJECTED, Duration.ZERO);
+
+        // then
+        verify(circuitBreaker).onSuccess(false);
+        verify(circuitBreaker, never()).onFailure(anyBoolean());
+        assertThat(tested.isInfrastructureFailure(events, REJECTED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() should abandon a probe that claimed nothing")
+    void getBatchSize_shouldAbandonUnreportedProbe() {
+        // given
+        when(circuitBreaker.acquirePermission()).thenReturn(OutboxCircuitBreaker.Permission.PROBE);
+        when(circuitBreaker.getHalfOpenBatchSize()).thenReturn(5);
+        when(delegate.getBatchSize()).thenReturn(100);
+
+        // when
+        tested.getBatchSize();
+        tested.getBatchSize();
+
+        // then
+        verify(circuitBreaker).onProbeAbandoned();
+    }
+}
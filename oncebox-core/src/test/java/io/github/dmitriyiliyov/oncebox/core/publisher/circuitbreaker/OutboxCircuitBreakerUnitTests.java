@@ -0,0 +1,171 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxCircuitBreakerUnitTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    @Mock
+    CircuitBreakerPropertiesHolder properties;
+
+    @Mock
+    Clock clock;
+
+    @Mock
+    CircuitBreakerListener listener;
+
+    OutboxCircuitBreaker tested;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(properties.getFailureThreshold()).thenReturn(2);
+        lenient().when(properties.getOpenDuration()).thenReturn(OPEN_DURATION);
+        lenient().when(properties.getHalfOpenBatchSize()).thenReturn(5);
+        lenient().when(clock.instant()).thenReturn(NOW);
+        tested = new OutboxCircuitBreaker("orders", properties, clock, listener);
+    }
+
+    private void open() {
+        tested.onFailure(false);
+        tested.onFailure(false);
+    }
+
+    @Test
+    @DisplayName("UT constructor when failureThreshold is not positive should throw IllegalArgumentException")
+    void constructor_whenFailureThresholdNotPositive_shouldThrow() {
+        when(properties.getFailureThreshold()).thenReturn(0);
+
+        assertThatThrownBy(() -> new OutboxCircuitBreaker("orders", properties, clock, listener))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT acquirePermission() when closed should allow")
+    void acquirePermission_whenClosed_shouldAllow() {
+        assertThat(tested.acquirePermission()).isEqualTo(OutboxCircuitBreaker.Permission.ALLOWED);
+        assertThat(tested.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    @DisplayName("UT onFailure() should open circuit after consecutive failures reach threshold")
+    void onFailure_whenThresholdReached_shouldOpen() {
+        // when
+        tested.onFailure(false);
+        CircuitState afterFirst = tested.getState();
+        tested.onFailure(false);
+
+        // then
+        assertThat(afterFirst).isEqualTo(CircuitState.CLOSED);
+        assertThat(tested.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(tested.acquirePermission()).isEqualTo(OutboxCircuitBreaker.Permission.REJECTED);
+        verify(listener).onStateChanged(CircuitState.OPEN);
+    }
+
+    @Test
+    @DisplayName("UT onSuccess() should reset consecutive failures")
+    void onSuccess_shouldResetConsecutiveFailures() {
+        // when
+        tested.onFailure(false);
+        tested.onSuccess(false);
+        tested.onFailure(false);
+
+        // then
+        assertThat(tested.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    @DisplayName("UT acquirePermission() after open duration should grant a single probe")
+    void acquirePermission_afterOpenDuration_shouldGrantSingleProbe() {
+        // given
+        open();
+        when(clock.instant()).thenReturn(NOW.plus(OPEN_DURATION));
+
+        // when
+        OutboxCircuitBreaker.Permission first = tested.acquirePermission();
+        OutboxCircuitBreaker.Permission second = tested.acquirePermission();
+
+        // then
+        assertThat(first).isEqualTo(OutboxCircuitBreaker.Permission.PROBE);
+        assertThat(second).isEqualTo(OutboxCircuitBreaker.Permission.REJECTED);
+        assertThat(tested.getState()).isEqualTo(CircuitState.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("UT onSuccess() of probe should close circuit")
+    void onSuccess_ofProbe_shouldClose() {
+        // given
+        open();
+        when(clock.instant()).thenReturn(NOW.plus(OPEN_DURATION));
+        tested.acquirePermission();
+
+        // when
+        tested.onSuccess(true);
+
+        // then
+        assertThat(tested.getState()).isEqualTo(CircuitState.CLOSED);
+        verify(listener).onStateChanged(CircuitState.CLOSED);
+    }
+
+    @Test
+    @DisplayName("UT onFailure() of probe should open circuit again")
+    void onFailure_ofProbe_shouldReopen() {
+        // given
+        open();
+        when(clock.instant()).thenReturn(NOW.plus(OPEN_DURATION));
+        tested.acquirePermission();
+
+        // when
+        tested.onFailure(true);
+
+        // then
+        assertThat(tested.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(tested.acquirePermission()).isEqualTo(OutboxCircuitBreaker.Permission.REJECTED);
+    }
+
+    @Test
+    @DisplayName("UT onProbeAbandoned() should allow another probe")
+    void onProbeAbandoned_shouldAllowAnotherProbe() {
+        // given
+        open();
+        when(clock.instant()).thenReturn(NOW.plus(OPEN_DURATION));
+        tested.acquirePermission();
+
+        // when
+        tested.onProbeAbandoned();
+
+        // then
+        assertThat(tested.acquirePermission()).isEqualTo(OutboxCircuitBreaker.Permission.PROBE);
+    }
+
+    @Test
+    @DisplayName("UT outcome of regular batch while half-open should not change state")
+    void regularBatchOutcome_whileHalfOpen_shouldNotChangeState() {
+        // given
+        open();
+        when(clock.instant()).thenReturn(NOW.plus(OPEN_DURATION));
+        tested.acquirePermission();
+
+        // when
+        tested.onSuccess(false);
+        tested.onFailure(false);
+
+        // then
+        assertThat(tested.getState()).isEqualTo(CircuitState.HALF_OPEN);
+    }
+}
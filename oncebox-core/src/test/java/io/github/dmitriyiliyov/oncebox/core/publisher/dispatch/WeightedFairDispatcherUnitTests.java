@@ -0,0 +1,219 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.dispatch;
+
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeightedFairDispatcherUnitTests {
+
+    ExecutorService workers;
+    WeightedFairDispatcher tested;
+    List<String> executed;
+    List<CountDownLatch> completions;
+
+    @BeforeEach
+    void setUp() {
+        workers = Executors.newSingleThreadExecutor();
+        tested = new WeightedFairDispatcher(workers, 1, Clock.systemUTC());
+        executed = Collections.synchronizedList(new ArrayList<>());
+        completions = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    private static DispatchLanePropertiesHolder lane(String eventType, int priority, int weight) {
+        return new DispatchLanePropertiesHolder() {
+            @Override
+            public String getEventType() {
+                return eventType;
+            }
+
+            @Override
+            public Integer getPriority() {
+                return priority;
+            }
+
+            @Override
+            public Integer getWeight() {
+                return weight;
+            }
+        };
+    }
+
+    private CountDownLatch occupyWorker() throws InterruptedException {
+        ContinuableTaskExecutor blocker = tested.register(lane("blocker", 0, 1), DispatchListener.NOOP);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        blocker.execute(() -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }, (shouldContinue, error) -> { });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+
+    private void enqueue(ContinuableTaskExecutor lane, String name) {
+        CountDownLatch completed = new CountDownLatch(1);
+        lane.execute(() -> executed.add(name), (shouldContinue, error) -> completed.countDown());
+        completions.add(completed);
+    }
+
+    private void awaitCompletions() throws InterruptedException {
+        for (CountDownLatch completed : completions) {
+            assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("UT register() when weight is not positive should throw IllegalArgumentException")
+    void register_whenWeightNotPositive_shouldThrow() {
+        assertThatThrownBy(() -> tested.register(lane("a", 0, 0), DispatchListener.NOOP))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT execute() should report result of the task executed by worker to callback")
+    void execute_shouldReportTaskResult() throws InterruptedException {
+        ContinuableTaskExecutor lane = tested.register(lane("a", 0, 1), DispatchListener.NOOP);
+        AtomicReference<String> worker = new AtomicReference<>();
+        AtomicReference<Boolean> result = new AtomicReference<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        lane.execute(() -> {
+            worker.set(Thread.currentThread().getName());
+            return true;
+        }, (shouldContinue, error) -> {
+            result.set(shouldContinue);
+            completed.countDown();
+        });
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.get()).isTrue();
+        assertThat(worker.get()).isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("UT execute() should return without waiting while the task is queued")
+    void execute_whenWorkerBusy_shouldReturnAtOnce() throws InterruptedException {
+        ContinuableTaskExecutor lane = tested.register(lane("a", 0, 1), DispatchListener.NOOP);
+        CountDownLatch release = occupyWorker();
+
+        enqueue(lane, "a");
+
+        assertThat(completions.getFirst().getCount()).isEqualTo(1);
+        assertThat(executed).isEmpty();
+        release.countDown();
+        awaitCompletions();
+        assertThat(executed).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("UT execute() when task throws should report exception to callback")
+    void execute_whenTaskThrows_shouldReportException() throws InterruptedException {
+        ContinuableTaskExecutor lane = tested.register(lane("a", 0, 1), DispatchListener.NOOP);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        lane.execute(() -> {
+            throw new IllegalStateException("boom");
+        }, (shouldContinue, error) -> {
+            failure.set(error);
+            completed.countDown();
+        });
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    @Test
+    @DisplayName("UT dispatch should serve higher priority lanes first")
+    void dispatch_shouldServeHigherPriorityFirst() throws InterruptedException {
+        ContinuableTaskExecutor analytics = tested.register(lane("analytics", 0, 1), DispatchListener.NOOP);
+        ContinuableTaskExecutor payments = tested.register(lane("payments", 10, 1), DispatchListener.NOOP);
+        CountDownLatch release = occupyWorker();
+
+        enqueue(analytics, "analytics");
+        enqueue(payments, "payments");
+        release.countDown();
+        awaitCompletions();
+
+        assertThat(executed).containsExactly("payments", "analytics");
+    }
+
+    @Test
+    @DisplayName("UT dispatch should share workers between lanes of the same priority proportionally to weights")
+    void dispatch_shouldServeLanesProportionallyToWeights() throws InterruptedException {
+        ContinuableTaskExecutor heavy = tested.register(lane("heavy", 0, 3), DispatchListener.NOOP);
+        ContinuableTaskExecutor light = tested.register(lane("light", 0, 1), DispatchListener.NOOP);
+        CountDownLatch release = occupyWorker();
+
+        for (int i = 0; i < 2; i++) {
+            enqueue(light, "light");
+        }
+        for (int i = 0; i < 6; i++) {
+            enqueue(heavy, "heavy");
+        }
+        release.countDown();
+        awaitCompletions();
+
+        assertThat(executed).containsExactly("heavy", "light", "heavy", "heavy", "heavy", "light", "heavy", "heavy");
+    }
+
+    @Test
+    @DisplayName("UT dispatch should notify listener with queueing delay")
+    void dispatch_shouldNotifyListener() throws InterruptedException {
+        List<Duration> delays = Collections.synchronizedList(new ArrayList<>());
+        ContinuableTaskExecutor lane = tested.register(lane("a", 0, 1), delays::add);
+        CountDownLatch release = occupyWorker();
+
+        enqueue(lane, "a");
+        release.countDown();
+        awaitCompletions();
+
+        assertThat(delays).hasSize(1);
+        assertThat(delays.getFirst().isNegative()).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT shutdown() should report false to callbacks of queued tasks")
+    void shutdown_shouldCompleteQueuedTasks() throws InterruptedException {
+        ContinuableTaskExecutor lane = tested.register(lane("a", 0, 1), DispatchListener.NOOP);
+        CountDownLatch release = occupyWorker();
+        AtomicReference<Boolean> result = new AtomicReference<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        lane.execute(() -> true, (shouldContinue, error) -> {
+            result.set(shouldContinue);
+            completed.countDown();
+        });
+
+        tested.shutdown();
+        release.countDown();
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(result.get()).isFalse();
+    }
+}
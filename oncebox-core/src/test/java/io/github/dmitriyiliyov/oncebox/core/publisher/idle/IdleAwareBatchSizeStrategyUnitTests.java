@@ -0,0 +1,110 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.idle;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdleAwareBatchSizeStrategyUnitTests {
+
+    private static final long CLAIM_SEQUENCE = 7;
+    private static final SenderResult RESULT = new SenderResult(Set.of(), Set.of());
+
+    @Mock
+    BatchSizeStrategy delegate;
+
+    @Mock
+    OutboxIdleDetector detector;
+
+    IdleAwareBatchSizeStrategy tested;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(detector.onClaimStarted()).thenReturn(CLAIM_SEQUENCE);
+        tested = new IdleAwareBatchSizeStrategy(delegate, detector, "orders");
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() when idle should return 0 without asking delegate")
+    void getBatchSize_whenIdle_shouldReturnZero() {
+        // given
+        when(detector.isIdle("orders")).thenReturn(true);
+
+        // when + then
+        assertThat(tested.getBatchSize()).isZero();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() when due should return delegate batch size")
+    void getBatchSize_whenDue_shouldReturnDelegateBatchSize() {
+        // given
+        when(detector.isIdle("orders")).thenReturn(false);
+        when(delegate.getBatchSize()).thenReturn(100);
+
+        // when + then
+        assertThat(tested.getBatchSize()).isEqualTo(100);
+        verify(detector, never()).onDrained(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() after claim without sent batch should drain event type")
+    void getBatchSize_afterEmptyClaim_shouldDrain() {
+        // given
+        when(detector.isIdle("orders")).thenReturn(false);
+        when(delegate.getBatchSize()).thenReturn(100);
+        tested.getBatchSize();
+
+        // when
+        tested.getBatchSize();
+
+        // then
+        verify(detector, times(1)).onDrained("orders", CLAIM_SEQUENCE);
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when batch is not full should drain event type")
+    void onBatchSent_whenBatchNotFull_shouldDrain() {
+        // given
+        when(detector.isIdle("orders")).thenReturn(false);
+        when(delegate.getBatchSize()).thenReturn(2);
+        tested.getBatchSize();
+        List<OutboxEvent> events = List.of(mock(OutboxEvent.class));
+
+        // when
+        tested.onBatchSent(2, events, RESULT, Duration.ZERO);
+        tested.getBatchSize();
+
+        // then
+        verify(detector, times(1)).onDrained("orders", CLAIM_SEQUENCE);
+        verify(delegate).onBatchSent(2, events, RESULT, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() when batch is full should keep event type due")
+    void onBatchSent_whenBatchFull_shouldNotDrain() {
+        // given
+        when(detector.isIdle("orders")).thenReturn(false);
+        when(delegate.getBatchSize()).thenReturn(1);
+        tested.getBatchSize();
+
+        // when
+        tested.onBatchSent(1, List.of(mock(OutboxEvent.class)), RESULT, Duration.ZERO);
+
+        // then
+        verify(detector, never()).onDrained(any(), anyLong());
+    }
+}
@@ -0,0 +1,192 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.idle;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxIdleDetectorUnitTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration PROBE_INTERVAL = Duration.ofSeconds(1);
+    private static final List<String> EVENT_TYPES = List.of("orders", "payments");
+
+    @Mock
+    OutboxRepository repository;
+
+    @Mock
+    IdleDetectionPropertiesHolder properties;
+
+    @Mock
+    Clock clock;
+
+    OutboxIdleDetector tested;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(properties.getProbeInterval()).thenReturn(PROBE_INTERVAL);
+        lenient().when(clock.instant()).thenReturn(NOW);
+        tested = new OutboxIdleDetector(repository, EVENT_TYPES, properties, clock);
+    }
+
+    @Test
+    @DisplayName("UT constructor when probeInterval is not positive should throw IllegalArgumentException")
+    void constructor_whenProbeIntervalNotPositive_shouldThrow() {
+        when(properties.getProbeInterval()).thenReturn(Duration.ZERO);
+
+        assertThatThrownBy(() -> new OutboxIdleDetector(repository, EVENT_TYPES, properties, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT isIdle() should probe all event types once per probe interval")
+    void isIdle_shouldProbeOncePerInterval() {
+        // given
+        when(repository.findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING)).thenReturn(Set.of("orders"));
+
+        // when
+        boolean ordersIdle = tested.isIdle("orders");
+        boolean paymentsIdle = tested.isIdle("payments");
+
+        // then
+        assertThat(ordersIdle).isFalse();
+        assertThat(paymentsIdle).isTrue();
+        verify(repository, times(1)).findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("UT isIdle() after probe interval should probe again")
+    void isIdle_afterProbeInterval_shouldProbeAgain() {
+        // given
+        when(repository.findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("payments"));
+        tested.isIdle("payments");
+        when(clock.instant()).thenReturn(NOW.plus(PROBE_INTERVAL));
+
+        // when
+        boolean result = tested.isIdle("payments");
+
+        // then
+        assertThat(result).isFalse();
+        verify(repository, times(2)).findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("UT isIdle() when probe fails should consider all event types due")
+    void isIdle_whenProbeFails_shouldConsiderAllDue() {
+        // given
+        when(repository.findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING)).thenThrow(new RuntimeException("db down"));
+
+        // when + then
+        assertThat(tested.isIdle("orders")).isFalse();
+        assertThat(tested.isIdle("payments")).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT onPublished() should mark idle event type as due without probing")
+    void onPublished_shouldMarkDue() {
+        // given
+        when(repository.findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING)).thenReturn(Set.of());
+        tested.isIdle("orders");
+
+        // when
+        tested.onPublished("orders");
+
+        // then
+        assertThat(tested.isIdle("orders")).isFalse();
+        verify(repository, times(1)).findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("UT onDrained() should mark event type idle when claim started after it became due")
+    void onDrained_whenClaimStartedAfterDue_shouldMarkIdle() {
+        // given
+        when(repository.findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING)).thenReturn(Set.of("orders"));
+        tested.isIdle("orders");
+        long claimSequence = tested.onClaimStarted();
+
+        // when
+        tested.onDrained("orders", claimSequence);
+
+        // then
+        assertThat(tested.isIdle("orders")).isTrue();
+    }
+
+    @Test
+    @DisplayName("UT onDrained() should keep event type due when published after claim started")
+    void onDrained_whenPublishedAfterClaimStarted_shouldKeepDue() {
+        // given
+        when(repository.findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING)).thenReturn(Set.of());
+        tested.isIdle("orders");
+        long claimSequence = tested.onClaimStarted();
+        tested.onPublished("orders");
+
+        // when
+        tested.onDrained("orders", claimSequence);
+
+        // then
+        assertThat(tested.isIdle("orders")).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT onDrained() should keep event type due when published in the same clock tick the claim started")
+    void onDrained_whenPublishedInSameTickAsClaim_shouldKeepDue() {
+        // given
+        when(repository.findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING)).thenReturn(Set.of());
+        tested.isIdle("orders");
+        tested.onPublished("orders");
+        long claimSequence = tested.onClaimStarted();
+        tested.onPublished("orders");
+
+        // when
+        tested.onDrained("orders", claimSequence);
+
+        // then
+        assertThat(tested.isIdle("orders")).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT isIdle() should not block onPublished() while the probe is running")
+    void isIdle_whileProbing_shouldNotBlockOnPublished() throws Exception {
+        // given
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch published = new CountDownLatch(1);
+        when(repository.findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING)).thenAnswer(invocation -> {
+            probing.countDown();
+            assertThat(published.await(5, TimeUnit.SECONDS)).isTrue();
+            return Set.of();
+        });
+        Thread poller = new Thread(() -> tested.isIdle("orders"));
+        poller.start();
+        assertThat(probing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        tested.onPublished("payments");
+        published.countDown();
+        poller.join(5000);
+
+        // then
+        assertThat(poller.isAlive()).isFalse();
+        assertThat(tested.isIdle("payments")).isFalse();
+        assertThat(tested.isIdle("orders")).isTrue();
+        verify(repository, times(1)).findEventTypesWithDueEvents(EVENT_TYPES, EventStatus.PENDING);
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompositeRateLimiterUnitTests {
+
+    @Mock
+    RateLimiter first;
+
+    @Mock
+    RateLimiter second;
+
+    @Test
+    @DisplayName("UT constructor when delegates is empty should throw IllegalArgumentException")
+    void constructor_whenDelegatesEmpty_shouldThrow() {
+        assertThatThrownBy(() -> new CompositeRateLimiter(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT tryAcquire() should grant the minimum and release the surplus to earlier delegates")
+    void tryAcquire_shouldGrantMinimumAndReleaseSurplus() {
+        // given
+        when(first.tryAcquire(100)).thenReturn(80);
+        when(second.tryAcquire(80)).thenReturn(30);
+        CompositeRateLimiter tested = new CompositeRateLimiter(List.of(first, second));
+
+        // when
+        int granted = tested.tryAcquire(100);
+
+        // then
+        assertThat(granted).isEqualTo(30);
+        verify(first).release(50);
+        verify(second, never()).release(anyInt());
+    }
+
+    @Test
+    @DisplayName("UT tryAcquire() should not ask later delegates when nothing was granted")
+    void tryAcquire_whenFirstGrantsNothing_shouldNotAskOthers() {
+        // given
+        when(first.tryAcquire(100)).thenReturn(0);
+        CompositeRateLimiter tested = new CompositeRateLimiter(List.of(first, second));
+
+        // when
+        int granted = tested.tryAcquire(100);
+
+        // then
+        assertThat(granted).isZero();
+        verifyNoInteractions(second);
+    }
+
+    @Test
+    @DisplayName("UT getAvailablePermits() and estimateWait() should reflect the most restrictive delegate")
+    void availableAndWait_shouldReflectMostRestrictiveDelegate() {
+        // given
+        when(first.getAvailablePermits()).thenReturn(10.0);
+        when(second.getAvailablePermits()).thenReturn(3.0);
+        when(first.estimateWait(20)).thenReturn(Duration.ofSeconds(1));
+        when(second.estimateWait(20)).thenReturn(Duration.ofSeconds(4));
+        CompositeRateLimiter tested = new CompositeRateLimiter(List.of(first, second));
+
+        // when + then
+        assertThat(tested.getAvailablePermits()).isEqualTo(3.0);
+        assertThat(tested.estimateWait(20)).isEqualTo(Duration.ofSeconds(4));
+    }
+}
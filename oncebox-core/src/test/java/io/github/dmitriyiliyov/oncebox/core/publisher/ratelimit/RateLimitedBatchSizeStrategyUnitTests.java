@@ -0,0 +1,114 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitedBatchSizeStrategyUnitTests {
+
+    @Mock
+    BatchSizeStrategy delegate;
+
+    @Mock
+    RateLimiter rateLimiter;
+
+    @Mock
+    RateLimiterListener listener;
+
+    @InjectMocks
+    RateLimitedBatchSizeStrategy tested;
+
+    private static List<OutboxEvent> events(int count) {
+        return IntStream.range(0, count).mapToObj(i -> mock(OutboxEvent.class)).toList();
+    }
+
+    @Test
+    @DisplayName("UT constructor when rateLimiter is null should throw NullPointerException")
+    void constructor_whenRateLimiterIsNull_shouldThrow() {
+        assertThatThrownBy(() -> new RateLimitedBatchSizeStrategy(delegate, null, listener))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("rateLimiter cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() when all permits granted should return delegate batch size")
+    void getBatchSize_whenAllGranted_shouldReturnDelegateBatchSize() {
+        // given
+        when(delegate.getBatchSize()).thenReturn(100);
+        when(rateLimiter.tryAcquire(100)).thenReturn(100);
+        when(rateLimiter.getAvailablePermits()).thenReturn(50.0);
+
+        // when
+        int batchSize = tested.getBatchSize();
+
+        // then
+        assertThat(batchSize).isEqualTo(100);
+        verify(listener).onAcquired(100, 100, 50.0, Duration.ZERO);
+        verify(rateLimiter, never()).estimateWait(anyInt());
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() when throttled should shrink batch size and report throttled time")
+    void getBatchSize_whenThrottled_shouldShrinkAndReport() {
+        // given
+        when(delegate.getBatchSize()).thenReturn(100);
+        when(rateLimiter.tryAcquire(100)).thenReturn(30);
+        when(rateLimiter.getAvailablePermits()).thenReturn(0.0);
+        when(rateLimiter.estimateWait(70)).thenReturn(Duration.ofSeconds(7));
+
+        // when
+        int batchSize = tested.getBatchSize();
+
+        // then
+        assertThat(batchSize).isEqualTo(30);
+        verify(listener).onAcquired(100, 30, 0.0, Duration.ofSeconds(7));
+    }
+
+    @Test
+    @DisplayName("UT onBatchSent() should release permits not used by claimed events and notify delegate")
+    void onBatchSent_shouldReleaseUnusedPermits() {
+        // given
+        when(delegate.getBatchSize()).thenReturn(100);
+        when(rateLimiter.tryAcquire(100)).thenReturn(100);
+        List<OutboxEvent> events = events(40);
+        tested.getBatchSize();
+
+        // when
+        tested.onBatchSent(100, events, SenderResult.empty(), Duration.ZERO);
+
+        // then
+        verify(rateLimiter).release(60);
+        verify(delegate).onBatchSent(100, events, SenderResult.empty(), Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("UT getBatchSize() should release permits of a previous batch that sent nothing")
+    void getBatchSize_shouldReleasePermitsOfUnsentBatch() {
+        // given
+        when(delegate.getBatchSize()).thenReturn(100);
+        when(rateLimiter.tryAcquire(100)).thenReturn(100);
+
+        // when
+        tested.getBatchSize();
+        tested.getBatchSize();
+
+        // then
+        verify(rateLimiter).release(100);
+    }
+}
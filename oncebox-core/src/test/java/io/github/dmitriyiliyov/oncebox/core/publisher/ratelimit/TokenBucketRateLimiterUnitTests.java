@@ -0,0 +1,146 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBucketRateLimiterUnitTests {
+
+    @Mock
+    RateLimitPropertiesHolder properties;
+
+    MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        lenient().when(properties.getPermitsPerSecond()).thenReturn(10.0);
+        lenient().when(properties.getBurstCapacity()).thenReturn(20);
+    }
+
+    @Test
+    @DisplayName("UT constructor when permitsPerSecond is not positive should throw IllegalArgumentException")
+    void constructor_whenPermitsPerSecondNotPositive_shouldThrow() {
+        when(properties.getPermitsPerSecond()).thenReturn(0.0);
+
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(properties, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT constructor when burstCapacity is not positive should throw IllegalArgumentException")
+    void constructor_whenBurstCapacityNotPositive_shouldThrow() {
+        when(properties.getBurstCapacity()).thenReturn(0);
+
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(properties, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT tryAcquire() should grant up to burst capacity and then only refilled permits")
+    void tryAcquire_shouldGrantBurstThenRefilledPermits() {
+        // given
+        TokenBucketRateLimiter tested = new TokenBucketRateLimiter(properties, clock);
+
+        // when + then
+        assertThat(tested.tryAcquire(50)).isEqualTo(20);
+        assertThat(tested.tryAcquire(50)).isEqualTo(0);
+
+        clock.advance(Duration.ofMillis(500));
+        assertThat(tested.tryAcquire(50)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("UT tryAcquire() should not refill over burst capacity")
+    void tryAcquire_shouldNotRefillOverBurstCapacity() {
+        // given
+        TokenBucketRateLimiter tested = new TokenBucketRateLimiter(properties, clock);
+        tested.tryAcquire(20);
+
+        // when
+        clock.advance(Duration.ofHours(1));
+
+        // then
+        assertThat(tested.getAvailablePermits()).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("UT tryAcquire() when permits is negative should throw IllegalArgumentException")
+    void tryAcquire_whenPermitsNegative_shouldThrow() {
+        TokenBucketRateLimiter tested = new TokenBucketRateLimiter(properties, clock);
+
+        assertThatThrownBy(() -> tested.tryAcquire(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("UT release() should return permits up to burst capacity")
+    void release_shouldReturnPermitsUpToBurstCapacity() {
+        // given
+        TokenBucketRateLimiter tested = new TokenBucketRateLimiter(properties, clock);
+        tested.tryAcquire(15);
+
+        // when
+        tested.release(10);
+
+        // then
+        assertThat(tested.getAvailablePermits()).isEqualTo(15.0);
+        tested.release(100);
+        assertThat(tested.getAvailablePermits()).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("UT estimateWait() should return time until missing permits are refilled")
+    void estimateWait_shouldReturnTimeUntilRefilled() {
+        // given
+        TokenBucketRateLimiter tested = new TokenBucketRateLimiter(properties, clock);
+
+        // when + then
+        assertThat(tested.estimateWait(10)).isEqualTo(Duration.ZERO);
+        tested.tryAcquire(20);
+        assertThat(tested.estimateWait(5)).isEqualTo(Duration.ofMillis(500));
+    }
+
+    static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
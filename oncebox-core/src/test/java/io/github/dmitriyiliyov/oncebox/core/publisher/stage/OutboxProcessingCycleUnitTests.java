@@ -0,0 +1,65 @@
+package io.github.dmitriyiliyov.oncebox.core.publisher.stage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxProcessingCycleUnitTests {
+
+    @AfterEach
+    void tearDown() {
+        OutboxProcessingCycle.end();
+    }
+
+    @Test
+    @DisplayName("UT recordStage(), recordStatement() and recordRows() should accumulate into the cycle of the current thread")
+    void record_shouldAccumulateIntoCurrentCycle() {
+        // given
+        OutboxProcessingCycle cycle = OutboxProcessingCycle.begin();
+
+        // when
+        OutboxProcessingCycle.recordStage(OutboxProcessingStage.LOAD, 100);
+        OutboxProcessingCycle.recordStage(OutboxProcessingStage.LOAD, 50);
+        OutboxProcessingCycle.recordStatement();
+        OutboxProcessingCycle.recordStatement();
+        OutboxProcessingCycle.recordRows(10);
+        OutboxProcessingCycle.recordRows(-1);
+
+        // then
+        assertThat(OutboxProcessingCycle.end()).isSameAs(cycle);
+        assertThat(cycle.getStageNanos()).containsExactlyEntriesOf(Map.of(OutboxProcessingStage.LOAD, 150L));
+        assertThat(cycle.getStatements()).isEqualTo(2);
+        assertThat(cycle.getRows()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("UT recordStage(), recordStatement() and recordRows() without started cycle should be ignored")
+    void record_withoutCycle_shouldBeIgnored() {
+        // when
+        OutboxProcessingCycle.recordStage(OutboxProcessingStage.SEND, 100);
+        OutboxProcessingCycle.recordStatement();
+        OutboxProcessingCycle.recordRows(10);
+
+        // then
+        assertThat(OutboxProcessingCycle.end()).isNull();
+    }
+
+    @Test
+    @DisplayName("UT recordStage() should not leak into a cycle started on another thread")
+    void recordStage_shouldBeBoundToThread() throws InterruptedException {
+        // given
+        OutboxProcessingCycle cycle = OutboxProcessingCycle.begin();
+
+        // when
+        Thread thread = new Thread(() -> OutboxProcessingCycle.recordStage(OutboxProcessingStage.SEND, 100));
+        thread.start();
+        thread.join();
+
+        // then
+        assertThat(cycle.getStageNanos()).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.dmitriyiliyov.oncebox.core.utils;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7UtilsUnitTests {
+
+    @Test
+    @DisplayName("UT lowerBound() should return UUIDv7 with given timestamp and zero random bits")
+    void lowerBound_shouldReturnUuidV7WithGivenTimestamp() {
+        // given
+        Instant timestamp = Instant.parse("2026-01-01T00:00:00.123Z");
+
+        // when
+        UUID result = UuidV7Utils.lowerBound(timestamp);
+
+        // then
+        assertThat(result.version()).isEqualTo(7);
+        assertThat(result.variant()).isEqualTo(2);
+        assertThat(result.getMostSignificantBits() >>> 16).isEqualTo(timestamp.toEpochMilli());
+        assertThat(result.getMostSignificantBits() & 0x0FFFL).isZero();
+        assertThat(result.getLeastSignificantBits() & 0x3FFFFFFFFFFFFFFFL).isZero();
+    }
+
+    @Test
+    @DisplayName("UT lowerBound() should order generated UUIDv7 ids by creation time in byte order")
+    void lowerBound_shouldOrderGeneratedIdsByCreationTimeInByteOrder() {
+        // given
+        Instant before = Instant.now().minusMillis(1);
+        UUID id = UuidCreator.getTimeOrderedEpoch();
+        Instant after = Instant.now().plusMillis(1);
+
+        // when
+        UUID lower = UuidV7Utils.lowerBound(before);
+        UUID upper = UuidV7Utils.lowerBound(after);
+
+        // then
+        assertThat(Arrays.compareUnsigned(toBytes(lower), toBytes(id))).isNegative();
+        assertThat(Arrays.compareUnsigned(toBytes(id), toBytes(upper))).isNegative();
+    }
+
+    @Test
+    @DisplayName("UT isUuidV7() should accept only UUIDv7 ids")
+    void isUuidV7_shouldAcceptOnlyUuidV7Ids() {
+        assertThat(UuidV7Utils.isUuidV7(UuidCreator.getTimeOrderedEpoch())).isTrue();
+        assertThat(UuidV7Utils.isUuidV7(UUID.randomUUID())).isFalse();
+        assertThat(UuidV7Utils.isUuidV7(null)).isFalse();
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConcurrentInsertException;
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.utils.RepositoryUtils;
+import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+public class H2ConsumedOutboxRepository implements ConsumedOutboxRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    protected final JdbcTemplate jdbcTemplate;
+    protected final Clock clock;
+    protected final SqlIdHelper idHelper;
+
+    public H2ConsumedOutboxRepository(JdbcTemplate jdbcTemplate, Clock clock, SqlIdHelper idHelper) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        this.idHelper = Objects.requireNonNull(idHelper, "idHelper cannot be null");
+    }
+
+    @Override
+    public int saveIfAbsent(UUID id) {
+        String sql = """
+            MERGE INTO outbox_consumed_events t
+            USING (
+                SELECT CAST(? AS UUID) AS id, CAST(? AS TIMESTAMP) AS consumed_at
+            ) v_t
+            ON (t.id = v_t.id)
+            WHEN NOT MATCHED THEN
+                INSERT (id, consumed_at)
+                VALUES (v_t.id, v_t.consumed_at)
+        """;
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    idHelper.setIdToPs(ps, 1, id);
+                    ps.setTimestamp(2, Timestamp.from(clock.instant()));
+                }
+        );
+    }
+
+    @Override
+    public Set<UUID> saveIfAbsent(Set<UUID> ids) {
+        return saveIfAbsent(ids, Collections.emptySet());
+    }
+
+    @Override
+    public Set<UUID> saveIfAbsent(Set<UUID> ids, Set<UUID> unseenIds) {
+        if (!RepositoryUtils.isIdsValid(ids)) {
+            return Collections.emptySet();
+        }
+
+        Set<UUID> nonExistsIds = new HashSet<>(ids);
+        Set<UUID> checkedIds = new HashSet<>(ids);
+        checkedIds.removeAll(unseenIds);
+        if (!checkedIds.isEmpty()) {
+            String existsIdsSql = """
+                SELECT id
+                FROM outbox_consumed_events
+                WHERE id IN (%s)
+            """.formatted(RepositoryUtils.generateIdsPlaceholders(checkedIds));
+            List<UUID> existsIds = jdbcTemplate.query(
+                    existsIdsSql,
+                    ps -> idHelper.setIdsToPs(ps, 1, checkedIds),
+                    (rs, rowNum) -> rs.getObject("id", UUID.class)
+            );
+            nonExistsIds.removeAll(new HashSet<>(existsIds));
+        }
+
+        if (!RepositoryUtils.isIdsValid(nonExistsIds)) {
+            return Collections.emptySet();
+        }
+
+        String insertSql = """
+            INSERT INTO outbox_consumed_events (id, consumed_at)
+            VALUES %s
+        """.formatted(RepositoryUtils.generateValuesPlaceholders(nonExistsIds.size(), 2));
+        Instant consumedAt = clock.instant();
+        try {
+            jdbcTemplate.update(
+                    insertSql,
+                    ps -> {
+                        int paramId = 1;
+                        for (UUID id : nonExistsIds) {
+                            idHelper.setIdToPs(ps, paramId++, id);
+                            ps.setTimestamp(paramId++, Timestamp.from(consumedAt));
+                        }
+                    }
+            );
+        } catch (DuplicateKeyException e) {
+            throw new ConcurrentInsertException(nonExistsIds.size(), 0, nonExistsIds, e);
+        }
+
+        return new HashSet<>(nonExistsIds);
+    }
+
+    @Override
+    public void forEachConsumed(Instant since, BiConsumer<UUID, Instant> action) {
+        String sql = """
+            SELECT id, consumed_at
+            FROM outbox_consumed_events
+            WHERE consumed_at >= ?
+        """;
+        jdbcTemplate.query(
+                sql,
+                ps -> {
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setTimestamp(1, Timestamp.from(since));
+                },
+                rs -> {
+                    action.accept(rs.getObject("id", UUID.class), rs.getTimestamp("consumed_at").toInstant());
+                }
+        );
+    }
+
+    @Override
+    public int deleteByIds(Set<UUID> ids) {
+        if (!RepositoryUtils.isIdsValid(ids)) {
+            return 0;
+        }
+        String sql = """
+            DELETE FROM outbox_consumed_events
+            WHERE id IN (%s)
+        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
+        return jdbcTemplate.update(sql, ps -> idHelper.setIdsToPs(ps, 1, ids));
+    }
+
+    @Override
+    public int deleteBatchByThreshold(Instant threshold, int batchSize) {
+        String sql = """
+            DELETE FROM outbox_consumed_events
+            WHERE id IN (
+                SELECT id FROM outbox_consumed_events
+                WHERE consumed_at <= ?
+                ORDER BY consumed_at
+                LIMIT ?
+            )
+        """;
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setTimestamp(1, Timestamp.from(threshold));
+                    ps.setInt(2, batchSize);
+                }
+        );
+    }
+
+    @Override
+    public boolean supportsDeleteByIdThreshold() {
+        return true;
+    }
+
+    @Override
+    public int deleteBatchByIdThreshold(UUID idThreshold, int batchSize) {
+        String sql = """
+            DELETE FROM outbox_consumed_events
+            WHERE id IN (
+                SELECT id FROM outbox_consumed_events
+                WHERE id < ?
+                ORDER BY id
+                LIMIT ?
+            )
+        """;
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    idHelper.setIdToPs(ps, 1, idThreshold);
+                    ps.setInt(2, batchSize);
+                }
+        );
+    }
+}
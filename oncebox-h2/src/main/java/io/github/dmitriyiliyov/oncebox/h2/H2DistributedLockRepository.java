@@ -0,0 +1,65 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
+import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+public class H2DistributedLockRepository implements DistributedLockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlIdHelper idHelper;
+
+    public H2DistributedLockRepository(JdbcTemplate jdbcTemplate, SqlIdHelper idHelper) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
+        this.idHelper = Objects.requireNonNull(idHelper, "idHelper cannot be null");
+    }
+
+    // H2 freezes CURRENT_TIMESTAMP for the whole transaction and has no clock_timestamp() equivalent,
+    // so the wall-clock time is bound from the application instead.
+    @Override
+    public boolean tryLock(String jobName, UUID workerId) {
+        String sql = """
+            UPDATE outbox_jobs
+            SET lock_until = DATEADD(MILLISECOND, lock_at_most_for, CAST(? AS TIMESTAMP WITH TIME ZONE)),
+                locked_by = ?,
+                locked_at = ?
+            WHERE job_name = ? AND lock_until <= ?
+        """;
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setTimestamp(1, now);
+                    idHelper.setIdToPs(ps, 2, workerId);
+                    ps.setTimestamp(3, now);
+                    ps.setString(4, jobName);
+                    ps.setTimestamp(5, now);
+                }
+        ) == 1;
+    }
+
+    @Override
+    public void unlock(String jobName, UUID workerId) {
+        String sql = """
+            UPDATE outbox_jobs
+            SET lock_until = GREATEST(
+                CAST(? AS TIMESTAMP WITH TIME ZONE), DATEADD(MILLISECOND, lock_at_least_for, locked_at)
+            )
+            WHERE job_name = ? AND locked_by = ?
+        """;
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setTimestamp(1, now);
+                    ps.setString(2, jobName);
+                    idHelper.setIdToPs(ps, 3, workerId);
+                }
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Set;
+import java.util.UUID;
+
+public final class H2IdHelper implements SqlIdHelper {
+
+    @Override
+    public void setIdToPs(PreparedStatement ps, int parameterIndex, UUID id) throws SQLException {
+        if (id == null) {
+            ps.setNull(parameterIndex, Types.OTHER);
+            return;
+        }
+        ps.setObject(parameterIndex, id);
+    }
+
+    @Override
+    public void setIdsToPs(PreparedStatement ps, int initialParameterIndex, Set<UUID> ids) throws SQLException {
+        for (UUID id : ids) {
+            ps.setObject(initialParameterIndex++, id);
+        }
+    }
+}
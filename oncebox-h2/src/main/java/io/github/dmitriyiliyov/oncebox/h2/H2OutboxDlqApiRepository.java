@@ -0,0 +1,22 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.utils.ResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
+import io.github.dmitriyiliyov.oncebox.dlq.api.AbstractOutboxDlqApiRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.util.UUID;
+
+public class H2OutboxDlqApiRepository extends AbstractOutboxDlqApiRepository {
+
+    public H2OutboxDlqApiRepository(JdbcTemplate jdbcTemplate, SqlIdHelper idHelper, ResultSetMapper mapper,
+                                    Clock clock) {
+        super(jdbcTemplate, idHelper, mapper, clock);
+    }
+
+    @Override
+    protected Object convertIdParameter(UUID id) {
+        return id;
+    }
+}
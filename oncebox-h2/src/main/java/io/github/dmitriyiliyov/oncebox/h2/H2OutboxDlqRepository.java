@@ -0,0 +1,96 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.AbstractOutboxDlqRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.DlqStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.utils.RepositoryUtils;
+import io.github.dmitriyiliyov.oncebox.core.utils.ResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * H2-specific implementation of {@link OutboxDlqRepository}.
+ */
+public class H2OutboxDlqRepository extends AbstractOutboxDlqRepository {
+
+    private final Clock clock;
+
+    public H2OutboxDlqRepository(JdbcTemplate jdbcTemplate, SqlIdHelper idHelper, ResultSetMapper mapper, Clock clock) {
+        super(jdbcTemplate, idHelper, mapper);
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    @Override
+    public List<OutboxDlqEvent> findAndLockBatchByStatus(DlqStatus status, int batchSize, DlqStatus lockStatus) {
+        String selectSql = """
+            SELECT *
+            FROM outbox_dlq_events
+            WHERE dlq_status = ?
+            ORDER BY moved_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        """;
+        List<OutboxDlqEvent> events = jdbcTemplate.query(
+                selectSql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    ps.setInt(2, batchSize);
+                },
+                (rs, rowNum) -> mapper.toDlqEvent(rs)
+        );
+
+        Set<UUID> ids = events.stream()
+                .map(OutboxEvent::getId)
+                .collect(Collectors.toSet());
+
+        if (!RepositoryUtils.isIdsValid(ids)) {
+            return Collections.emptyList();
+        }
+
+        String lockSql = """
+            UPDATE outbox_dlq_events
+                SET dlq_status = ?, updated_at = ?
+            WHERE id IN (%s)
+        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
+        jdbcTemplate.update(
+                lockSql,
+                ps -> {
+                    ps.setString(1, lockStatus.name());
+                    ps.setTimestamp(2, Timestamp.from(clock.instant()));
+                    idHelper.setIdsToPs(ps, 3, ids);
+                }
+        );
+
+        events.forEach(event -> event.setDlqStatus(lockStatus));
+        return events;
+    }
+
+    @Override
+    public int deleteBatchByStatusAndThreshold(DlqStatus status, Instant threshold, int batchSize) {
+        String sql = """
+            DELETE FROM outbox_dlq_events
+            WHERE id IN (
+                SELECT id FROM outbox_dlq_events
+                WHERE dlq_status = ? AND updated_at <= ?
+                ORDER BY updated_at
+                LIMIT ?
+            )
+        """;
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    ps.setTimestamp(2, Timestamp.from(threshold));
+                    ps.setInt(3, batchSize);
+                }
+        );
+    }
+}
@@ -0,0 +1,262 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.AbstractOutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
+import io.github.dmitriyiliyov.oncebox.core.utils.RepositoryUtils;
+import io.github.dmitriyiliyov.oncebox.core.utils.ResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * H2-specific implementation of {@link OutboxRepository}, intended for tests and benchmarks of the full
+ * pipeline without external services.
+ * <ul>
+ *
+ *     <li>H2 accepts <code>FOR UPDATE SKIP LOCKED</code> only on top-level queries, so a batch is claimed
+ *     by locking candidate ids first and updating them by id within the same transaction.</li>
+ *
+ *     <li>claimed rows are re-read after the update, so returned events carry the claim time in
+ *     {@code updated_at} like the other dialects.</li>
+ *
+ * </ul>
+ */
+public class H2OutboxRepository extends AbstractOutboxRepository {
+
+    protected final ResultSetMapper mapper;
+
+    public H2OutboxRepository(JdbcTemplate jdbcTemplate,
+                              Clock clock,
+                              SqlIdHelper idHelper,
+                              ResultSetMapper mapper) {
+        super(jdbcTemplate, clock, idHelper);
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+    }
+
+    public H2OutboxRepository(JdbcTemplate jdbcTemplate,
+                              Clock clock,
+                              SqlIdHelper idHelper,
+                              ResultSetMapper mapper,
+                              String table) {
+        super(jdbcTemplate, clock, idHelper, table);
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+    }
+
+    @Override
+    protected String insertIfAbsentSql() {
+        return """
+            MERGE INTO %s t
+            USING (
+                SELECT CAST(? AS UUID) AS id, CAST(? AS VARCHAR(50)) AS status, CAST(? AS VARCHAR(255)) AS event_type,
+                    CAST(? AS VARCHAR(255)) AS payload_type, CAST(? AS CLOB) AS payload, CAST(? AS INTEGER) AS retry_count,
+                    CAST(? AS TIMESTAMP) AS next_retry_at, CAST(? AS TIMESTAMP) AS created_at,
+                    CAST(? AS TIMESTAMP) AS updated_at
+            ) v_t
+            ON (t.id = v_t.id)
+            WHEN NOT MATCHED THEN
+                INSERT (id, status, event_type, payload_type, payload, retry_count, next_retry_at, created_at, updated_at)
+                VALUES (v_t.id, v_t.status, v_t.event_type, v_t.payload_type, v_t.payload, v_t.retry_count,
+                    v_t.next_retry_at, v_t.created_at, v_t.updated_at)
+        """.formatted(table);
+    }
+
+    @Override
+    public List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
+                                                                  EventStatus lockStatus) {
+        return findAndLockBatchByEventTypeAndStatus(eventType, status, batchSize, lockStatus, null, null);
+    }
+
+    @Override
+    public List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
+                                                                  EventStatus lockStatus, UUID lockedBy, Instant leaseUntil) {
+        String lockSql = """
+            SELECT id FROM %s
+            WHERE event_type = ? AND status = ? AND next_retry_at <= ?
+            ORDER BY next_retry_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        """.formatted(table);
+        Timestamp now = Timestamp.from(clock.instant());
+        Set<UUID> ids = new LinkedHashSet<>(jdbcTemplate.query(
+                lockSql,
+                ps -> {
+                    ps.setString(1, eventType);
+                    ps.setString(2, status.name());
+                    ps.setTimestamp(3, now);
+                    ps.setInt(4, batchSize);
+                },
+                (rs, rowNum) -> rs.getObject("id", UUID.class)
+        ));
+        OutboxProcessingCycle.recordStatement();
+        return claim(ids, lockStatus, now, lockedBy, leaseUntil, "next_retry_at");
+    }
+
+    @Override
+    public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus) {
+        return findAndLockBatchByStatus(status, batchSize, lockStatus, null, null);
+    }
+
+    @Override
+    public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus,
+                                                      UUID lockedBy, Instant leaseUntil) {
+        String lockSql = """
+            SELECT id FROM %s
+            WHERE status = ?
+            ORDER BY updated_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        """.formatted(table);
+        Set<UUID> ids = new LinkedHashSet<>(jdbcTemplate.query(
+                lockSql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    ps.setInt(2, batchSize);
+                },
+                (rs, rowNum) -> rs.getObject("id", UUID.class)
+        ));
+        OutboxProcessingCycle.recordStatement();
+        return claim(ids, lockStatus, Timestamp.from(clock.instant()), lockedBy, leaseUntil, "id");
+    }
+
+    private List<OutboxEvent> claim(Set<UUID> ids, EventStatus lockStatus, Timestamp now, UUID lockedBy,
+                                    Instant leaseUntil, String orderColumn) {
+        if (!RepositoryUtils.isIdsValid(ids)) {
+            return Collections.emptyList();
+        }
+        String placeholders = RepositoryUtils.generateIdsPlaceholders(ids);
+        String claimSql = """
+            UPDATE %s
+                SET status = ?, updated_at = ?, locked_by = ?, lease_until = ?
+            WHERE id IN (%s)
+        """.formatted(table, placeholders);
+        jdbcTemplate.update(
+                claimSql,
+                ps -> {
+                    ps.setString(1, lockStatus.name());
+                    ps.setTimestamp(2, now);
+                    idHelper.setIdToPs(ps, 3, lockedBy);
+                    ps.setTimestamp(4, leaseUntil == null ? null : Timestamp.from(leaseUntil));
+                    idHelper.setIdsToPs(ps, 5, ids);
+                }
+        );
+        OutboxProcessingCycle.recordStatement();
+        String selectSql = """
+            SELECT *
+            FROM %s
+            WHERE id IN (%s)
+            ORDER BY %s
+        """.formatted(table, placeholders, orderColumn);
+        List<OutboxEvent> events = jdbcTemplate.query(
+                selectSql,
+                ps -> idHelper.setIdsToPs(ps, 1, ids),
+                (rs, rowNum) -> mapper.toEvent(rs)
+        );
+        OutboxProcessingCycle.recordStatement();
+        return events;
+    }
+
+    @Override
+    public int updateBatchStatusByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize, EventStatus newStatus) {
+        String sql = """
+            UPDATE %1$s
+                SET status = ?, updated_at = ?
+            WHERE id IN (
+                SELECT id FROM %1$s
+                WHERE status = ? AND updated_at <= ?
+                ORDER BY updated_at
+                LIMIT ?
+            )
+        """.formatted(table);
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, newStatus.name());
+                    ps.setTimestamp(2, Timestamp.from(clock.instant()));
+                    ps.setString(3, status.name());
+                    ps.setTimestamp(4, Timestamp.from(threshold));
+                    ps.setInt(5, batchSize);
+                }
+        );
+    }
+
+    @Override
+    public int updateBatchStatusByStatusAndExpiredLease(EventStatus status, Instant threshold, int batchSize,
+                                                        EventStatus newStatus) {
+        String sql = """
+            UPDATE %1$s
+                SET status = ?, updated_at = ?, locked_by = NULL, lease_until = NULL
+            WHERE id IN (
+                SELECT id FROM %1$s
+                WHERE status = ? AND (lease_until <= ? OR (lease_until IS NULL AND updated_at <= ?))
+                ORDER BY updated_at
+                LIMIT ?
+            )
+        """.formatted(table);
+        Timestamp now = Timestamp.from(clock.instant());
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, newStatus.name());
+                    ps.setTimestamp(2, now);
+                    ps.setString(3, status.name());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, Timestamp.from(threshold));
+                    ps.setInt(6, batchSize);
+                }
+        );
+    }
+
+    @Override
+    public int deleteBatchByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize) {
+        String sql = """
+            DELETE FROM %1$s
+            WHERE id IN (
+                SELECT id FROM %1$s
+                WHERE status = ? AND updated_at <= ?
+                ORDER BY updated_at
+                LIMIT ?
+            )
+        """.formatted(table);
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    ps.setTimestamp(2, Timestamp.from(threshold));
+                    ps.setInt(3, batchSize);
+                }
+        );
+    }
+
+    @Override
+    public boolean supportsDeleteByIdThreshold() {
+        return true;
+    }
+
+    @Override
+    public int deleteBatchByStatusAndIdThreshold(EventStatus status, UUID idThreshold, int batchSize) {
+        String sql = """
+            DELETE FROM %1$s
+            WHERE id IN (
+                SELECT id FROM %1$s
+                WHERE status = ? AND id < ?
+                ORDER BY id
+                LIMIT ?
+            )
+        """.formatted(table);
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    idHelper.setIdToPs(ps, 2, idThreshold);
+                    ps.setInt(3, batchSize);
+                }
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetWatermark;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxSourcePartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class H2ConsumedOffsetRepositoryIntegrationTests extends BaseH2IntegrationTests {
+
+    private final H2ConsumedOffsetRepository repository;
+
+    H2ConsumedOffsetRepositoryIntegrationTests(
+            @Qualifier("h2ConsumedOffsetRepository") H2ConsumedOffsetRepository repository
+    ) {
+        this.repository = repository;
+    }
+
+    @Test
+    @DisplayName("IT lock() absent partition should create it with empty watermark")
+    void lock_absentPartition_createsEmptyWatermark() {
+        ConsumedOffsetWatermark watermark = repository.lock(partition());
+
+        assertThat(watermark).isEqualTo(ConsumedOffsetWatermark.EMPTY);
+    }
+
+    @Test
+    @DisplayName("IT advance() absent partition should return 0")
+    void advance_absentPartition_returnsZero() {
+        assertThat(repository.advance(partition(), 0, 10)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT advance() range above watermark should move watermark")
+    void advance_rangeAboveWatermark_movesWatermark() {
+        OutboxSourcePartition partition = partition();
+        repository.lock(partition);
+
+        int result = repository.advance(partition, 0, 10);
+
+        assertThat(result).isEqualTo(1);
+        assertThat(repository.lock(partition).watermark()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("IT advance() range overlapping watermark should return 0 and keep watermark")
+    void advance_rangeOverlappingWatermark_returnsZero() {
+        OutboxSourcePartition partition = partition();
+        repository.lock(partition);
+        repository.advance(partition, 0, 10);
+
+        int result = repository.advance(partition, 10, 20);
+
+        assertThat(result).isEqualTo(0);
+        assertThat(repository.lock(partition).watermark()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("IT advance() partition with released offsets should return 0")
+    void advance_partitionWithReleasedOffsets_returnsZero() {
+        OutboxSourcePartition partition = partition();
+        repository.lock(partition);
+        repository.update(partition, new ConsumedOffsetWatermark(10, Set.of(5L)));
+
+        assertThat(repository.advance(partition, 11, 20)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT update() should store watermark and released offsets")
+    void update_storesWatermarkAndReleasedOffsets() {
+        OutboxSourcePartition partition = partition();
+        repository.lock(partition);
+
+        repository.update(partition, new ConsumedOffsetWatermark(42, Set.of(7L, 40L)));
+
+        assertThat(repository.lock(partition)).isEqualTo(new ConsumedOffsetWatermark(42, Set.of(7L, 40L)));
+    }
+
+    private static OutboxSourcePartition partition() {
+        return new OutboxSourcePartition("group-" + UUID.randomUUID(), "orders", 0);
+    }
+}
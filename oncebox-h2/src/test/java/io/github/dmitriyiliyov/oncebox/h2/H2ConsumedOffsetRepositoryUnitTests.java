@@ -0,0 +1,96 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetWatermark;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxSourcePartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class H2ConsumedOffsetRepositoryUnitTests {
+
+    private static final OutboxSourcePartition PARTITION = new OutboxSourcePartition("analytics", "orders", 2);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private H2ConsumedOffsetRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+        repository = new H2ConsumedOffsetRepository(jdbcTemplate, clock);
+    }
+
+    @Test
+    @DisplayName("UT advance() should move watermark only above range start and without released offsets")
+    void advance_shouldMoveWatermarkConditionally() throws Exception {
+        // given
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1);
+
+        // when
+        int result = repository.advance(PARTITION, 5, 9);
+
+        // then
+        assertThat(result).isEqualTo(1);
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(contains("watermark < ? AND released_offsets IS NULL"), setter.capture());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps);
+        verify(ps).setLong(1, 9);
+        verify(ps).setString(3, "analytics");
+        verify(ps).setString(4, "orders");
+        verify(ps).setInt(5, 2);
+        verify(ps).setLong(6, 5);
+    }
+
+    @Test
+    @DisplayName("UT lock() should create absent row and select it for update")
+    @SuppressWarnings("unchecked")
+    void lock_shouldCreateAbsentRowAndSelectForUpdate() {
+        // given
+        ConsumedOffsetWatermark watermark = new ConsumedOffsetWatermark(7, Set.of(3L));
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq("analytics"), eq("orders"), eq(2)))
+                .thenReturn(watermark);
+
+        // when
+        ConsumedOffsetWatermark result = repository.lock(PARTITION);
+
+        // then
+        assertThat(result).isEqualTo(watermark);
+        verify(jdbcTemplate).update(contains("WHEN NOT MATCHED THEN"), any(PreparedStatementSetter.class));
+        verify(jdbcTemplate).queryForObject(contains("FOR UPDATE"), any(RowMapper.class), eq("analytics"), eq("orders"), eq(2));
+    }
+
+    @Test
+    @DisplayName("UT update() should store encoded released offsets")
+    void update_shouldStoreEncodedReleasedOffsets() throws Exception {
+        // when
+        repository.update(PARTITION, new ConsumedOffsetWatermark(12, Set.of(11L, 4L)));
+
+        // then
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(contains("SET watermark = ?, released_offsets = ?"), setter.capture());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps);
+        verify(ps).setLong(1, 12);
+        verify(ps).setString(2, "4,11");
+    }
+}
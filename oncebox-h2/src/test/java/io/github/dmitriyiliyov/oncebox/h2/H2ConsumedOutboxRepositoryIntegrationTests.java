@@ -0,0 +1,233 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.UuidV7Generator;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+class H2ConsumedOutboxRepositoryIntegrationTests extends BaseH2IntegrationTests {
+
+    private final H2ConsumedOutboxRepository repository;
+
+    H2ConsumedOutboxRepositoryIntegrationTests(
+            @Qualifier("h2ConsumedOutboxRepository") H2ConsumedOutboxRepository repository
+    ) {
+        this.repository = repository;
+    }
+
+    @Test
+    @DisplayName("UT constructor when jdbcTemplate is null should throw NullPointerException")
+    void constructor_whenJdbcTemplateIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new H2ConsumedOutboxRepository(null, repository.clock, repository.idHelper))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("jdbcTemplate cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT constructor when clock is null should throw NullPointerException")
+    void constructor_whenClockIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new H2ConsumedOutboxRepository(repository.jdbcTemplate, null, repository.idHelper))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("clock cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT constructor when idHelper is null should throw NullPointerException")
+    void constructor_whenIdHelperIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new H2ConsumedOutboxRepository(repository.jdbcTemplate, repository.clock, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("idHelper cannot be null");
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(UUID) new id should return 1")
+    void saveIfAbsent_newId_returnsOne() {
+        int result = repository.saveIfAbsent(UUID.randomUUID());
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(UUID) duplicate id should return 0")
+    void saveIfAbsent_duplicateId_returnsZero() {
+        UUID id = UUID.randomUUID();
+        repository.saveIfAbsent(id);
+
+        int result = repository.saveIfAbsent(id);
+
+        assertThat(result).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(UUID) multiple different ids should all return 1")
+    void saveIfAbsent_multipleDifferentIds_eachReturnsOne() {
+        assertThat(repository.saveIfAbsent(UUID.randomUUID())).isEqualTo(1);
+        assertThat(repository.saveIfAbsent(UUID.randomUUID())).isEqualTo(1);
+        assertThat(repository.saveIfAbsent(UUID.randomUUID())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(Set) new ids should return all inserted ids")
+    void saveIfAbsent_newIds_returnsAllInserted() {
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        Set<UUID> inserted = repository.saveIfAbsent(ids);
+
+        assertThat(inserted).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(Set) duplicate ids should return only new ones")
+    void saveIfAbsent_partiallyDuplicate_returnsOnlyNew() {
+        UUID existing = UUID.randomUUID();
+        repository.saveIfAbsent(existing);
+
+        UUID newId = UUID.randomUUID();
+        Set<UUID> inserted = repository.saveIfAbsent(Set.of(existing, newId));
+
+        assertThat(inserted)
+                .containsOnly(newId)
+                .doesNotContain(existing);
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(Set) all duplicate ids should return empty set")
+    void saveIfAbsent_allDuplicates_returnsEmptySet() {
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        repository.saveIfAbsent(Set.of(id1, id2));
+
+        Set<UUID> inserted = repository.saveIfAbsent(Set.of(id1, id2));
+
+        assertThat(inserted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(Set) empty set should return empty set")
+    void saveIfAbsent_emptySet_returnsEmptySet() {
+        Set<UUID> inserted = repository.saveIfAbsent(Set.of());
+        assertThat(inserted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(Set) large batch should persist all")
+    void saveIfAbsent_largeBatch_persistsAll() {
+        Set<UUID> ids = IntStream.range(0, 50)
+                .mapToObj(i -> UUID.randomUUID())
+                .collect(Collectors.toSet());
+
+        Set<UUID> inserted = repository.saveIfAbsent(ids);
+
+        assertThat(inserted).hasSize(50)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByThreshold() should delete old events")
+    void deleteBatchByThreshold_deletesOldEvents() {
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        repository.saveIfAbsent(Set.of(id1, id2));
+
+        Instant futureThreshold = Instant.now().plusSeconds(10).truncatedTo(ChronoUnit.MILLIS);
+        int deleted = repository.deleteBatchByThreshold(futureThreshold, 10);
+
+        assertThat(deleted).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByThreshold() should not delete fresh events")
+    void deleteBatchByThreshold_doesNotDeleteFreshEvents() {
+        repository.saveIfAbsent(UUID.randomUUID());
+        repository.saveIfAbsent(UUID.randomUUID());
+
+        Instant pastThreshold = Instant.now().minusSeconds(60).truncatedTo(ChronoUnit.MILLIS);
+        int deleted = repository.deleteBatchByThreshold(pastThreshold, 10);
+
+        assertThat(deleted).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByThreshold() should respect batch size")
+    void deleteBatchByThreshold_respectsBatchSize() {
+        IntStream.range(0, 5).forEach(i -> repository.saveIfAbsent(UUID.randomUUID()));
+
+        Instant futureThreshold = Instant.now().plusSeconds(10).truncatedTo(ChronoUnit.MILLIS);
+        int deleted = repository.deleteBatchByThreshold(futureThreshold, 3);
+
+        assertThat(deleted).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByThreshold() when no events should return zero")
+    void deleteBatchByThreshold_noEvents_returnsZero() {
+        Instant futureThreshold = Instant.now().plusSeconds(10);
+        int deleted = repository.deleteBatchByThreshold(futureThreshold, 10);
+        assertThat(deleted).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByThreshold() should not affect events above threshold")
+    void deleteBatchByThreshold_doesNotAffectEventsAboveThreshold() {
+        UUID old   = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        repository.saveIfAbsent(Set.of(old, fresh));
+
+        Instant threshold = Instant.now().minusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+        repository.deleteBatchByThreshold(threshold, 10);
+
+        int result = repository.saveIfAbsent(fresh);
+        assertThat(result).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByIdThreshold() should delete only events created before threshold")
+    void deleteBatchByIdThreshold_deletesOnlyEventsCreatedBeforeThreshold() {
+        Instant now = Instant.now();
+        UUID old = UuidV7Utils.lowerBound(now.minus(1, ChronoUnit.HOURS));
+        UUID fresh = new UuidV7Generator().generate();
+        repository.saveIfAbsent(Set.of(old, fresh));
+
+        int deleted = repository.deleteBatchByIdThreshold(UuidV7Utils.lowerBound(now.minusSeconds(60)), 10);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.saveIfAbsent(fresh)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT deleteByIds() should delete only given ids")
+    void deleteByIds_deletesOnlyGivenIds() {
+        UUID deleted = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        repository.saveIfAbsent(Set.of(deleted, kept));
+
+        int result = repository.deleteByIds(Set.of(deleted));
+
+        assertThat(result).isEqualTo(1);
+        assertThat(repository.saveIfAbsent(deleted)).isEqualTo(1);
+        assertThat(repository.saveIfAbsent(kept)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByIdThreshold() should respect batch size")
+    void deleteBatchByIdThreshold_respectsBatchSize() {
+        Instant now = Instant.now();
+        IntStream.range(0, 5).forEach(i -> repository.saveIfAbsent(UuidV7Utils.lowerBound(now.minus(i + 1, ChronoUnit.HOURS))));
+
+        int deleted = repository.deleteBatchByIdThreshold(UuidV7Utils.lowerBound(now), 3);
+
+        assertThat(deleted).isEqualTo(3);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConcurrentInsertException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class H2ConsumedOutboxRepositoryUnitTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private H2ConsumedOutboxRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+        repository = new H2ConsumedOutboxRepository(jdbcTemplate, clock, new H2IdHelper());
+    }
+
+    @Test
+    @DisplayName("UT saveIfAbsent(Set) should insert only ids that were not consumed yet")
+    @SuppressWarnings("unchecked")
+    void saveIfAbsent_shouldInsertOnlyAbsentIds() {
+        // given
+        UUID consumed = UUID.randomUUID();
+        UUID absent = UUID.randomUUID();
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of(consumed));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1);
+
+        // when
+        Set<UUID> result = repository.saveIfAbsent(Set.of(consumed, absent));
+
+        // then
+        assertThat(result).containsExactly(absent);
+        verify(jdbcTemplate).update(contains("VALUES (?,?)"), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("UT saveIfAbsent(Set) should skip insert when all ids were consumed")
+    @SuppressWarnings("unchecked")
+    void saveIfAbsent_whenAllConsumed_shouldSkipInsert() {
+        // given
+        UUID consumed = UUID.randomUUID();
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of(consumed));
+
+        // when
+        Set<UUID> result = repository.saveIfAbsent(Set.of(consumed));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("UT saveIfAbsent(Set) should throw ConcurrentInsertException when a concurrent insert wins")
+    @SuppressWarnings("unchecked")
+    void saveIfAbsent_whenDuplicateKey_shouldThrowConcurrentInsertException() {
+        // given
+        UUID id = UUID.randomUUID();
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("duplicate"));
+
+        // when + then
+        assertThatThrownBy(() -> repository.saveIfAbsent(Set.of(id)))
+                .isInstanceOf(ConcurrentInsertException.class)
+                .hasCauseInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    @DisplayName("UT deleteBatchByIdThreshold() should delete by primary key range")
+    void deleteBatchByIdThreshold_shouldDeleteByPrimaryKeyRange() throws Exception {
+        // given
+        UUID idThreshold = UUID.randomUUID();
+        when(jdbcTemplate.update(contains("WHERE id < ?"), any(PreparedStatementSetter.class))).thenReturn(2);
+
+        // when
+        int result = repository.deleteBatchByIdThreshold(idThreshold, 10);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        ArgumentCaptor<PreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(contains("ORDER BY id"), setterCaptor.capture());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setterCaptor.getValue().setValues(ps);
+        verify(ps).setObject(1, idThreshold);
+        verify(ps).setInt(2, 10);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class H2IdHelperUnitTests {
+
+    @Mock
+    private PreparedStatement ps;
+
+    private H2IdHelper helper;
+
+    @BeforeEach
+    void setUp() {
+        helper = new H2IdHelper();
+    }
+
+    @Test
+    @DisplayName("UT setIdToPs() should call ps.setObject with correct index and UUID")
+    void setIdToPs_shouldCallSetObjectWithCorrectIndexAndUuid() throws SQLException {
+        // given
+        UUID id = UUID.randomUUID();
+        int parameterIndex = 1;
+
+        // when
+        helper.setIdToPs(ps, parameterIndex, id);
+
+        // then
+        verify(ps).setObject(eq(parameterIndex), eq(id));
+    }
+
+    @Test
+    @DisplayName("UT setIdToPs() with null id should call ps.setNull with OTHER type")
+    void setIdToPs_nullId_shouldCallSetNullWithOtherType() throws SQLException {
+        // when
+        helper.setIdToPs(ps, 2, null);
+
+        // then
+        verify(ps).setNull(2, Types.OTHER);
+    }
+
+    @Test
+    @DisplayName("UT setIdsToPs() should call ps.setObject for each id with incrementing index")
+    void setIdsToPs_shouldCallSetObjectForEachIdWithIncrementingIndex() throws SQLException {
+        // given
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        int initialParameterIndex = 1;
+
+        // when
+        helper.setIdsToPs(ps, initialParameterIndex, ids);
+
+        // then
+        verify(ps, times(2)).setObject(any(Integer.class), any(UUID.class));
+    }
+}
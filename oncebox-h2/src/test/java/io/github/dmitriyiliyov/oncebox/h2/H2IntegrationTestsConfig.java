@@ -0,0 +1,75 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqRepository;
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultResultSetMapper;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+
+@TestConfiguration
+@Profile("h2-it")
+public class H2IntegrationTestsConfig {
+
+    @Bean
+    public DataSourceInitializer h2OutboxDataSourceInitializer(DataSource dataSource) {
+        DataSourceInitializer dataSourceInitializer = new DataSourceInitializer();
+        dataSourceInitializer.setEnabled(true);
+        dataSourceInitializer.setDataSource(dataSource);
+        dataSourceInitializer.setDatabasePopulator(
+                new ResourceDatabasePopulator(
+                        false,
+                        false,
+                        StandardCharsets.UTF_8.name(),
+                        new ClassPathResource("h2/h2_outbox_table.sql"),
+                        new ClassPathResource("h2/h2_outbox_dlq_table.sql"),
+                        new ClassPathResource("h2/h2_outbox_consumed_table.sql"),
+                        new ClassPathResource("h2/h2_outbox_consumed_index.sql"),
+                        new ClassPathResource("h2/h2_outbox_consumed_offsets_table.sql"),
+                        new ClassPathResource("h2/h2_outbox_jobs_table.sql"),
+                        new ClassPathResource("h2/h2_outbox_inbox_table.sql")
+                )
+        );
+        return dataSourceInitializer;
+    }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    public OutboxDlqRepository h2OutboxDlqRepository(DataSource dataSource, Clock clock) {
+        return new H2OutboxDlqRepository(new JdbcTemplate(dataSource), new H2IdHelper(), new DefaultResultSetMapper(), clock);
+    }
+
+    @Bean
+    public OutboxRepository h2OutboxRepository(DataSource dataSource, Clock clock) {
+        return new H2OutboxRepository(new JdbcTemplate(dataSource), clock, new H2IdHelper(), new DefaultResultSetMapper());
+    }
+
+    @Bean
+    public ConsumedOutboxRepository h2ConsumedOutboxRepository(DataSource dataSource, Clock clock) {
+        return new H2ConsumedOutboxRepository(new JdbcTemplate(dataSource), clock, new H2IdHelper());
+    }
+
+    @Bean
+    public ConsumedOffsetRepository h2ConsumedOffsetRepository(DataSource dataSource, Clock clock) {
+        return new H2ConsumedOffsetRepository(new JdbcTemplate(dataSource), clock);
+    }
+
+    @Bean
+    public JdbcTemplate h2JdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.DlqStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqRepositoryVerifier;
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultResultSetMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+class H2OutboxDlqRepositoryIntegrationTests extends BaseH2IntegrationTests {
+
+    private final OutboxDlqRepository repository;
+    private final OutboxDlqRepositoryVerifier delegate;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final H2IdHelper h2IdHelper = new H2IdHelper();
+    private final DefaultResultSetMapper mapper = new DefaultResultSetMapper();
+
+    public H2OutboxDlqRepositoryIntegrationTests(
+            @Qualifier("h2OutboxDlqRepository") OutboxDlqRepository repository,
+            @Qualifier("h2JdbcTemplate") JdbcTemplate jdbcTemplate
+    ) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.delegate = new OutboxDlqRepositoryVerifier(
+                repository,
+                jdbcTemplate,
+                new H2IdHelper(),
+                new DefaultResultSetMapper()
+        );
+    }
+
+    @Test
+    @DisplayName("UT constructor when clock is null should throw NullPointerException")
+    void constructor_whenClockIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new H2OutboxDlqRepository(jdbcTemplate, h2IdHelper, mapper, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("clock cannot be null");
+    }
+
+    @Test
+    @DisplayName("IT saveBatch() with single event should persist correctly")
+    void saveBatch_singleEvent_persistedCorrectly() {
+        delegate.saveBatch_singleEvent_persistedCorrectly();
+    }
+
+    @Test
+    @DisplayName("IT saveBatch() with multiple events should persist all")
+    void saveBatch_multipleEvents_allPersisted() {
+        delegate.saveBatch_multipleEvents_allPersisted();
+    }
+
+    @Test
+    @DisplayName("IT deleteBatch() for existing ids should delete and return count")
+    void deleteBatch_existingIds_deletedAndReturnsCount() {
+        delegate.deleteBatch_existingIds_deletedAndReturnsCount();
+    }
+
+    @Test
+    @DisplayName("IT deleteBatch() with empty ids should return zero")
+    void deleteBatch_emptyIds_returnsZero() {
+        delegate.deleteBatch_emptyIds_returnsZero();
+    }
+
+    @Test
+    @DisplayName("IT deleteBatch() should not affect other events")
+    void deleteBatch_doesNotAffectOtherEvents() {
+        delegate.deleteBatch_doesNotAffectOtherEvents();
+    }
+
+    @Test
+    @DisplayName("IT findAndLockBatchByStatus() should lock and set status")
+    void findAndLockBatchByStatus_locksAndSetsStatus() {
+        OutboxDlqEvent e1 = delegate.buildEvent(DlqStatus.MOVED);
+        OutboxDlqEvent e2 = delegate.buildEvent(DlqStatus.MOVED);
+        repository.saveBatch(List.of(e1, e2));
+
+        List<OutboxDlqEvent> locked = repository
+                .findAndLockBatchByStatus(DlqStatus.MOVED, 10, DlqStatus.IN_PROCESS);
+
+        assertThat(locked)
+                .hasSize(2)
+                .extracting(OutboxDlqEvent::getId)
+                .containsExactlyInAnyOrder(e1.getId(), e2.getId());
+
+        assertThat(delegate.findById(e1.getId()).get().getDlqStatus()).isEqualTo(DlqStatus.IN_PROCESS);
+        assertThat(delegate.findById(e2.getId()).get().getDlqStatus()).isEqualTo(DlqStatus.IN_PROCESS);
+    }
+
+    @Test
+    @DisplayName("IT findAndLockBatchByStatus() should respect batch size")
+    void findAndLockBatchByStatus_respectsBatchSize() {
+        repository.saveBatch(
+                IntStream.range(0, 5)
+                        .mapToObj(i -> delegate.buildEvent(DlqStatus.MOVED))
+                        .toList()
+        );
+
+        assertThat(repository.findAndLockBatchByStatus(DlqStatus.MOVED, 3, DlqStatus.IN_PROCESS))
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndThreshold() should delete matching events and return count")
+    void deleteBatchByStatusAndThreshold_matches_deleted() {
+        delegate.deleteBatchByStatusAndThreshold_matches_deleted();
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndThreshold() should not delete events newer than threshold")
+    void deleteBatchByStatusAndThreshold_newerThanThreshold_notDeleted() {
+        delegate.deleteBatchByStatusAndThreshold_newerThanThreshold_notDeleted();
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndThreshold() should not delete events with different status")
+    void deleteBatchByStatusAndThreshold_wrongStatus_notDeleted() {
+        delegate.deleteBatchByStatusAndThreshold_wrongStatus_notDeleted();
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndThreshold() should respect batch size limit")
+    void deleteBatchByStatusAndThreshold_respectsBatchSize() {
+        delegate.deleteBatchByStatusAndThreshold_respectsBatchSize();
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndThreshold() when no matches should return zero")
+    void deleteBatchByStatusAndThreshold_noMatches_returnsZero() {
+        delegate.deleteBatchByStatusAndThreshold_noMatches_returnsZero();
+    }
+}
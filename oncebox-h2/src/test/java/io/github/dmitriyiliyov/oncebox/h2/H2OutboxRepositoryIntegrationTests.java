@@ -0,0 +1,367 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.AbstractOutboxRepositoryIntegrationTests;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultResultSetMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+class H2OutboxRepositoryIntegrationTests extends BaseH2IntegrationTests {
+
+    private final H2OutboxRepository repository;
+    private final AbstractOutboxRepositoryIntegrationTests delegate;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock = Clock.systemUTC();
+    private final H2IdHelper h2IdHelper = new H2IdHelper();
+    private final DefaultResultSetMapper mapper = new DefaultResultSetMapper();
+
+    H2OutboxRepositoryIntegrationTests(
+            @Qualifier("h2OutboxRepository") H2OutboxRepository repository,
+            @Qualifier("h2JdbcTemplate") JdbcTemplate jdbcTemplate
+    ) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.delegate = new AbstractOutboxRepositoryIntegrationTests(repository);
+    }
+
+    @Test
+    @DisplayName("UT constructor when mapper is null should throw NullPointerException")
+    void constructor_whenMapperIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new H2OutboxRepository(jdbcTemplate, clock, h2IdHelper, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("mapper cannot be null");
+    }
+
+    @Test @DisplayName("IT save() should persist event correctly")
+    void save_singleEvent_persistedCorrectly() { delegate.save_singleEvent_persistedCorrectly(); }
+
+    @Test @DisplayName("IT saveBatch() should persist all events")
+    void saveBatch_multipleEvents_allPersisted() { delegate.saveBatch_multipleEvents_allPersisted(); }
+
+    @Test @DisplayName("IT saveBatch() with empty list should not throw")
+    void saveBatch_emptyList_doesNotThrow() { delegate.saveBatch_emptyList_doesNotThrow(); }
+
+    @Test @DisplayName("IT updateBatchStatus() to PENDING should update all")
+    void updateBatchStatus_toPending_updatesAll() { delegate.updateBatchStatus_toPending_updatesAll(); }
+
+    @Test @DisplayName("IT updateBatchStatus() to PROCESSED should update all")
+    void updateBatchStatus_toProcessed_updatesAll() { delegate.updateBatchStatus_toProcessed_updatesAll(); }
+
+    @Test @DisplayName("IT updateBatchStatus() to FAILED should throw exception")
+    void updateBatchStatus_toFailed_throwsException() { delegate.updateBatchStatus_toFailed_throwsException(); }
+
+    @Test @DisplayName("IT updateBatchStatus() with empty ids should return zero")
+    void updateBatchStatus_emptyIds_returnsZero() { delegate.updateBatchStatus_emptyIds_returnsZero(); }
+
+    @Test @DisplayName("IT updateBatchStatus() should not affect other events")
+    void updateBatchStatus_doesNotAffectOtherEvents() { delegate.updateBatchStatus_doesNotAffectOtherEvents(); }
+
+    @Test @DisplayName("IT partiallyUpdateBatch() should increment retry count")
+    void partiallyUpdateBatch_incrementsRetryCount() { delegate.partiallyUpdateBatch_incrementsRetryCount(); }
+
+    @Test @DisplayName("IT partiallyUpdateBatch() with empty list should return zero")
+    void partiallyUpdateBatch_emptyList_returnsZero() { delegate.partiallyUpdateBatch_emptyList_returnsZero(); }
+
+    @Test @DisplayName("IT partiallyUpdateBatch() with null should return zero")
+    void partiallyUpdateBatch_nullList_returnsZero() { delegate.partiallyUpdateBatch_nullList_returnsZero(); }
+
+    @Test @DisplayName("IT partiallyUpdateBatch() should update all events")
+    void partiallyUpdateBatch_multipleEvents_allUpdated() { delegate.partiallyUpdateBatch_multipleEvents_allUpdated(); }
+
+    @Test @DisplayName("IT deleteBatch() should delete and return count")
+    void deleteBatch_existingIds_deletedAndReturnsCount() { delegate.deleteBatch_existingIds_deletedAndReturnsCount(); }
+
+    @Test @DisplayName("IT deleteBatch() with empty ids should return zero")
+    void deleteBatch_emptyIds_returnsZero() { delegate.deleteBatch_emptyIds_returnsZero(); }
+
+    @Test @DisplayName("IT deleteBatch() should not affect other events")
+    void deleteBatch_doesNotAffectOtherEvents() { delegate.deleteBatch_doesNotAffectOtherEvents(); }
+
+    @Test @DisplayName("IT deleteBatch() with not existing ids should return zero")
+    void deleteBatch_notExistingIds_returnsZero() { delegate.deleteBatch_notExistingIds_returnsZero(); }
+
+    @Test
+    @DisplayName("IT findAndLockBatchByStatus() should lock rows and then update their status")
+    void findAndLockBatchByStatus_locksThenUpdatesStatus() {
+        OutboxEvent e1 = delegate.buildEvent(EventStatus.PENDING);
+        OutboxEvent e2 = delegate.buildEvent(EventStatus.PENDING);
+        repository.saveBatch(List.of(e1, e2));
+
+        List<OutboxEvent> locked = repository
+                .findAndLockBatchByStatus(EventStatus.PENDING, 10, EventStatus.IN_PROCESS);
+
+        assertThat(locked)
+                .hasSize(2)
+                .extracting(OutboxEvent::getStatus)
+                .containsOnly(EventStatus.IN_PROCESS);
+        assertThat(locked)
+                .extracting(OutboxEvent::getId)
+                .containsExactlyInAnyOrder(e1.getId(), e2.getId());
+        assertThat(countByStatus(EventStatus.IN_PROCESS)).isEqualTo(2);
+        assertThat(countByStatus(EventStatus.PENDING)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT save() should persist payload larger than VARCHAR limit as CLOB")
+    void save_largePayload_persistedAsClob() {
+        String payload = "{\"data\":\"" + "x".repeat(100_000) + "\"}";
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        OutboxEvent event = new OutboxEvent(
+                UUID.randomUUID(), EventStatus.PENDING, "ORDER_CREATED",
+                "io.example.OrderCreated", payload, -1, now.minusSeconds(10), now, now
+        );
+
+        repository.save(event);
+
+        assertThat(repository.findAndLockBatchByStatus(EventStatus.PENDING, 10, EventStatus.IN_PROCESS))
+                .singleElement()
+                .extracting(OutboxEvent::getPayload)
+                .isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("IT findAndLockBatchByStatus() should respect batch size")
+    void findAndLockBatchByStatus_respectsBatchSize() {
+        repository.saveBatch(
+                IntStream.range(0, 5)
+                        .mapToObj(i -> delegate.buildEvent(EventStatus.PENDING))
+                        .toList()
+        );
+
+        List<OutboxEvent> locked = repository
+                .findAndLockBatchByStatus(EventStatus.PENDING, 3, EventStatus.IN_PROCESS);
+
+        assertThat(locked).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("IT findAndLockBatchByStatus() when no matches should return empty")
+    void findAndLockBatchByStatus_noMatches_returnsEmpty() {
+        assertThat(repository.findAndLockBatchByStatus(
+                EventStatus.PENDING, 10, EventStatus.IN_PROCESS)
+        ).isEmpty();
+    }
+
+    @Test
+    @DisplayName("IT findAndLockBatchByStatus() should not lock events of other status")
+    void findAndLockBatchByStatus_doesNotLockOtherStatuses() {
+        OutboxEvent pending   = delegate.buildEvent(EventStatus.PENDING);
+        OutboxEvent processed = delegate.buildEvent(EventStatus.PROCESSED);
+        repository.saveBatch(List.of(pending, processed));
+
+        repository.findAndLockBatchByStatus(EventStatus.PENDING, 10, EventStatus.IN_PROCESS);
+
+        List<OutboxEvent> stillProcessed = repository
+                .findAndLockBatchByStatus(EventStatus.PROCESSED, 10, EventStatus.IN_PROCESS);
+        assertThat(stillProcessed)
+                .extracting(OutboxEvent::getId)
+                .contains(processed.getId());
+    }
+
+    @Test
+    @DisplayName("IT findAndLockBatchByEventTypeAndStatus() should lock only matching event type")
+    void findAndLockBatchByEventTypeAndStatus_locksOnlyMatchingType() {
+        Instant pastRetryAt = Instant.now().minusSeconds(10).truncatedTo(ChronoUnit.MILLIS);
+
+        OutboxEvent orderEvent   = delegate.buildEventWithNextRetryAt(EventStatus.PENDING, pastRetryAt);
+        OutboxEvent paymentEvent = delegate.buildEventWithTypeAndNextRetryAt(
+                EventStatus.PENDING, "PAYMENT_CREATED", pastRetryAt
+        );
+        repository.saveBatch(List.of(orderEvent, paymentEvent));
+
+        List<OutboxEvent> locked = repository.findAndLockBatchByEventTypeAndStatus(
+                "ORDER_CREATED", EventStatus.PENDING, 10, EventStatus.IN_PROCESS
+        );
+
+        assertThat(locked)
+                .extracting(OutboxEvent::getId)
+                .containsOnly(orderEvent.getId())
+                .doesNotContain(paymentEvent.getId());
+    }
+
+    @Test
+    @DisplayName("IT findAndLockBatchByEventTypeAndStatus() should respect next_retry_at threshold")
+    void findAndLockBatchByEventTypeAndStatus_respectsNextRetryAt() {
+        OutboxEvent ready = delegate.buildEventWithNextRetryAt(
+                EventStatus.PENDING, Instant.now().minusSeconds(10).truncatedTo(ChronoUnit.MILLIS)
+        );
+        OutboxEvent notReady = delegate.buildEventWithNextRetryAt(
+                EventStatus.PENDING, Instant.now().plusSeconds(300).truncatedTo(ChronoUnit.MILLIS)
+        );
+        repository.saveBatch(List.of(ready, notReady));
+
+        List<OutboxEvent> locked = repository.findAndLockBatchByEventTypeAndStatus(
+                "ORDER_CREATED", EventStatus.PENDING, 10, EventStatus.IN_PROCESS
+        );
+
+        assertThat(locked)
+                .extracting(OutboxEvent::getId)
+                .contains(ready.getId())
+                .doesNotContain(notReady.getId());
+    }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndThreshold() should update only old events")
+    void updateBatchStatusByStatusAndThreshold_updatesOnlyOldEvents() {
+        OutboxEvent old   = delegate.buildEvent(EventStatus.IN_PROCESS);
+        OutboxEvent fresh = delegate.buildEvent(EventStatus.IN_PROCESS);
+        repository.saveBatch(List.of(old, fresh));
+
+        Instant threshold = Instant.now().plusSeconds(1);
+        int updated = repository.updateBatchStatusByStatusAndThreshold(
+                EventStatus.IN_PROCESS, threshold, 10, EventStatus.PENDING
+        );
+
+        assertThat(updated).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndThreshold() when no matches should return zero")
+    void updateBatchStatusByStatusAndThreshold_noMatches_returnsZero() {
+        Instant pastThreshold = Instant.now().minusSeconds(3600);
+
+        int updated = repository.updateBatchStatusByStatusAndThreshold(
+                EventStatus.IN_PROCESS, pastThreshold, 10, EventStatus.PENDING
+        );
+
+        assertThat(updated).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndThreshold() should delete old processed events")
+    void deleteBatchByStatusAndThreshold_deletesOldEvents() {
+        OutboxEvent e1 = delegate.buildEvent(EventStatus.PROCESSED);
+        OutboxEvent e2 = delegate.buildEvent(EventStatus.PROCESSED);
+        repository.saveBatch(List.of(e1, e2));
+
+        Instant threshold = Instant.now().plusSeconds(1);
+        int deleted = repository.deleteBatchByStatusAndThreshold(
+                EventStatus.PROCESSED, threshold, 10
+        );
+
+        assertThat(deleted).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndThreshold() should respect batch size")
+    void deleteBatchByStatusAndThreshold_respectsBatchSize() {
+        repository.saveBatch(
+                IntStream.range(0, 5)
+                        .mapToObj(i -> delegate.buildEvent(EventStatus.PROCESSED))
+                        .toList()
+        );
+
+        Instant threshold = Instant.now().plusSeconds(1);
+        int deleted = repository.deleteBatchByStatusAndThreshold(
+                EventStatus.PROCESSED, threshold, 3
+        );
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(countByStatus(EventStatus.PROCESSED)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndThreshold() should not delete events of other status")
+    void deleteBatchByStatusAndThreshold_doesNotDeleteOtherStatuses() {
+        repository.saveBatch(List.of(
+                delegate.buildEvent(EventStatus.PROCESSED),
+                delegate.buildEvent(EventStatus.PENDING)
+        ));
+
+        int deleted = repository.deleteBatchByStatusAndThreshold(
+                EventStatus.PROCESSED, Instant.now().plusSeconds(1), 10
+        );
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(countByStatus(EventStatus.PENDING)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndThreshold() should respect batch size")
+    void updateBatchStatusByStatusAndThreshold_respectsBatchSize() {
+        repository.saveBatch(
+                IntStream.range(0, 5)
+                        .mapToObj(i -> delegate.buildEvent(EventStatus.IN_PROCESS))
+                        .toList()
+        );
+
+        int updated = repository.updateBatchStatusByStatusAndThreshold(
+                EventStatus.IN_PROCESS, Instant.now().plusSeconds(1), 3, EventStatus.PENDING
+        );
+
+        assertThat(updated).isEqualTo(3);
+        assertThat(countByStatus(EventStatus.PENDING)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndIdThreshold() should delete only older events with status")
+    void deleteBatchByStatusAndIdThreshold_deletesOnlyOlderEventsWithStatus() { delegate.deleteBatchByStatusAndIdThreshold_deletesOnlyOlderEventsWithStatus(); }
+
+    @Test
+    @DisplayName("IT extendLeaseBatch() should extend only leases owned by worker")
+    void extendLeaseBatch_onlyOwnedLeases_extended() { delegate.extendLeaseBatch_onlyOwnedLeases_extended(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndExpiredLease() should skip live leases")
+    void updateBatchStatusByStatusAndExpiredLease_skipsLiveLeases() { delegate.updateBatchStatusByStatusAndExpiredLease_skipsLiveLeases(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndExpiredLease() should recover expired leases")
+    void updateBatchStatusByStatusAndExpiredLease_recoversExpiredLeases() { delegate.updateBatchStatusByStatusAndExpiredLease_recoversExpiredLeases(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndLockedBy() should release only worker leases")
+    void updateBatchStatusByStatusAndLockedBy_releasesOnlyOwnedLeases() { delegate.updateBatchStatusByStatusAndLockedBy_releasesOnlyOwnedLeases(); }
+
+    @Test
+    @DisplayName("IT findEventTypesWithDueEvents() should return only event types with due pending events")
+    void findEventTypesWithDueEvents_returnsOnlyTypesWithDueEvents() { delegate.findEventTypesWithDueEvents_returnsOnlyTypesWithDueEvents(); }
+
+    @Test
+    @DisplayName("IT DDL scripts should create outbox tables and indexes")
+    void ddlScripts_createTablesAndIndexes() {
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT LOWER(table_name) FROM information_schema.tables WHERE LOWER(table_name) LIKE 'outbox_%'",
+                String.class
+        );
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes WHERE LOWER(index_name) LIKE 'idx_%'",
+                String.class
+        );
+
+        assertThat(tables).contains(
+                "outbox_events", "outbox_dlq_events", "outbox_consumed_events",
+                "outbox_consumed_offsets", "outbox_jobs", "outbox_inbox_events"
+        );
+        assertThat(indexes).contains(
+                "idx_outbox_by_event_type_and_next_retry_at",
+                "idx_outbox_by_status_and_updated_at",
+                "idx_outbox_by_status_and_lease_until",
+                "idx_outbox_dlq_by_dlq_status_and_moved_at",
+                "idx_outbox_consumed_by_consumed_at",
+                "idx_inbox_by_event_type_and_next_retry_at"
+        );
+    }
+
+    private int countByStatus(EventStatus status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE status = ?", Integer.class, status.name()
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.dmitriyiliyov.oncebox.h2;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultResultSetMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class H2OutboxRepositoryUnitTests {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private H2OutboxRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+        repository = new H2OutboxRepository(jdbcTemplate, clock, new H2IdHelper(), new DefaultResultSetMapper());
+    }
+
+    @Test
+    @DisplayName("UT findAndLockBatchByEventTypeAndStatus() should not update when nothing was locked")
+    @SuppressWarnings("unchecked")
+    void findAndLockBatchByEventTypeAndStatus_whenNothingLocked_shouldNotUpdate() {
+        // given
+        when(jdbcTemplate.query(contains("FOR UPDATE SKIP LOCKED"), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        // when
+        List<OutboxEvent> result = repository.findAndLockBatchByEventTypeAndStatus(
+                "order-created", EventStatus.PENDING, 10, EventStatus.IN_PROCESS
+        );
+
+        // then
+        assertThat(result).isEmpty();
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("UT findAndLockBatchByStatus() should claim locked ids and re-read them")
+    @SuppressWarnings("unchecked")
+    void findAndLockBatchByStatus_shouldClaimLockedIdsAndReadThem() throws Exception {
+        // given
+        UUID id = UUID.randomUUID();
+        UUID lockedBy = UUID.randomUUID();
+        when(jdbcTemplate.query(contains("FOR UPDATE SKIP LOCKED"), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of(id));
+        when(jdbcTemplate.query(contains("ORDER BY id"), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        // when
+        repository.findAndLockBatchByStatus(EventStatus.IN_PROCESS, 10, EventStatus.PENDING, lockedBy, null);
+
+        // then
+        ArgumentCaptor<PreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(contains("WHERE id IN (?)"), setterCaptor.capture());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setterCaptor.getValue().setValues(ps);
+        verify(ps).setString(1, EventStatus.PENDING.name());
+        verify(ps).setObject(3, lockedBy);
+        verify(ps).setObject(5, id);
+    }
+
+    @Test
+    @DisplayName("UT deleteBatchByStatusAndIdThreshold() should delete by status and primary key range")
+    void deleteBatchByStatusAndIdThreshold_shouldDeleteByStatusAndPrimaryKeyRange() throws Exception {
+        // given
+        UUID idThreshold = UUID.randomUUID();
+        when(jdbcTemplate.update(contains("status = ? AND id < ?"), any(PreparedStatementSetter.class))).thenReturn(3);
+
+        // when
+        int result = repository.deleteBatchByStatusAndIdThreshold(EventStatus.PROCESSED, idThreshold, 10);
+
+        // then
+        assertThat(result).isEqualTo(3);
+        ArgumentCaptor<PreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(contains("ORDER BY id"), setterCaptor.capture());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setterCaptor.getValue().setValues(ps);
+        verify(ps).setString(1, EventStatus.PROCESSED.name());
+        verify(ps).setObject(2, idThreshold);
+        verify(ps).setInt(3, 10);
+    }
+
+    @Test
+    @DisplayName("UT saveBatchIfAbsent() should merge into configured table and count only inserted rows")
+    @SuppressWarnings("unchecked")
+    void saveBatchIfAbsent_shouldMergeIntoConfiguredTableAndCountOnlyInsertedRows() {
+        // given
+        H2OutboxRepository inboxRepository = new H2OutboxRepository(
+                jdbcTemplate, Clock.systemUTC(), new H2IdHelper(), new DefaultResultSetMapper(), "outbox_inbox_events"
+        );
+        List<OutboxEvent> events = List.of(
+                new OutboxEvent(UUID.randomUUID(), "order-created", "OrderCreated", "{}", Instant.now()),
+                new OutboxEvent(UUID.randomUUID(), "order-created", "OrderCreated", "{}", Instant.now())
+        );
+        when(jdbcTemplate.batchUpdate(
+                contains("MERGE INTO outbox_inbox_events"), eq(events), eq(2), any(ParameterizedPreparedStatementSetter.class)
+        )).thenReturn(new int[][]{{1, 0}});
+
+        // when
+        int result = inboxRepository.saveBatchIfAbsent(events);
+
+        // then
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UT constructor when table is not a plain identifier should throw IllegalArgumentException")
+    void constructor_whenTableIsNotPlainIdentifier_shouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> new H2OutboxRepository(
+                jdbcTemplate, Clock.systemUTC(), new H2IdHelper(), new DefaultResultSetMapper(), "events; DROP TABLE x"
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("table should be a plain SQL identifier");
+    }
+}
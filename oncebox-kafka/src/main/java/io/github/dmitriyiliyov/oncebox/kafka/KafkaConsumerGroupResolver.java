@@ -0,0 +1,30 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import org.springframework.kafka.support.KafkaUtils;
+
+/**
+ * Resolves the consumer group of a received record: from the record metadata if present, then from the group of the
+ * listener running on the current thread, then from the default group.
+ */
+final class KafkaConsumerGroupResolver {
+
+    private final String defaultGroup;
+
+    KafkaConsumerGroupResolver(String defaultGroup) {
+        this.defaultGroup = defaultGroup;
+    }
+
+    String resolve(String recordGroup) {
+        if (recordGroup != null) {
+            return recordGroup;
+        }
+        String listenerGroup = KafkaUtils.getConsumerGroupId();
+        if (listenerGroup != null) {
+            return listenerGroup;
+        }
+        if (defaultGroup != null) {
+            return defaultGroup;
+        }
+        throw new IllegalStateException("Kafka consumer group cannot be resolved");
+    }
+}
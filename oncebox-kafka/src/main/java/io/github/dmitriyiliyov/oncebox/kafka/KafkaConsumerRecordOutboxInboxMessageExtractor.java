@@ -0,0 +1,48 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInboxMessage;
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInboxMessageExtractor;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxHeaders;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Reads an {@link OutboxInboxMessage} from a raw Kafka {@link ConsumerRecord} sent by the outbox publisher.
+ * <p>
+ * Event metadata is taken from the {@link OutboxHeaders}, the payload is kept as received, so the record value
+ * should be a {@link String} or a UTF-8 {@code byte[]}.
+ */
+public class KafkaConsumerRecordOutboxInboxMessageExtractor implements OutboxInboxMessageExtractor<ConsumerRecord<?, ?>> {
+
+    @Override
+    public OutboxInboxMessage extract(ConsumerRecord<?, ?> record) {
+        return new OutboxInboxMessage(
+                UUID.fromString(requireHeader(record, OutboxHeaders.EVENT_ID)),
+                requireHeader(record, OutboxHeaders.EVENT_TYPE),
+                requireHeader(record, OutboxHeaders.EVENT_PAYLOAD_TYPE),
+                payload(record.value())
+        );
+    }
+
+    private static String requireHeader(ConsumerRecord<?, ?> record, OutboxHeaders outboxHeader) {
+        Header header = record.headers().lastHeader(outboxHeader.getValue());
+        if (header == null || header.value() == null) {
+            throw new IllegalArgumentException("Header '%s' not found".formatted(outboxHeader.getValue()));
+        }
+        return new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static String payload(Object value) {
+        if (value instanceof String payload) {
+            return payload;
+        }
+        if (value instanceof byte[] payload) {
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+        throw new IllegalArgumentException("Unsupported inbox record value type %s, expected String or byte[]"
+                .formatted(value == null ? null : value.getClass().getName()));
+    }
+}
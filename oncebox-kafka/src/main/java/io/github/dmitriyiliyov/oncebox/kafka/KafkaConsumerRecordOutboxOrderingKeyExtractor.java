@@ -0,0 +1,46 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.parallel.OutboxOrderingKeyExtractor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Resolves the ordering key of a Kafka {@link ConsumerRecord}.
+ * <p>
+ * The key is taken from the configured header, such as an aggregate id, then from the record key. Records without
+ * both are ordered by their partition, so they keep the order Kafka guarantees without parallelism.
+ */
+public class KafkaConsumerRecordOutboxOrderingKeyExtractor implements OutboxOrderingKeyExtractor<ConsumerRecord<?, ?>> {
+
+    private final String keyHeader;
+
+    public KafkaConsumerRecordOutboxOrderingKeyExtractor() {
+        this(null);
+    }
+
+    public KafkaConsumerRecordOutboxOrderingKeyExtractor(String keyHeader) {
+        this.keyHeader = keyHeader;
+    }
+
+    @Override
+    public Object extract(ConsumerRecord<?, ?> record) {
+        if (keyHeader != null) {
+            Header header = record.headers().lastHeader(keyHeader);
+            if (header != null && header.value() != null) {
+                return new String(header.value(), StandardCharsets.UTF_8);
+            }
+        }
+        Object key = record.key();
+        if (key instanceof byte[] bytes) {
+            return ByteBuffer.wrap(bytes);
+        }
+        if (key != null) {
+            return key;
+        }
+        return new TopicPartition(record.topic(), record.partition());
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxRecordPosition;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxRecordPositionExtractor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Resolves the position of a Kafka {@link ConsumerRecord}.
+ * <p>
+ * The consumer group is taken from the listener running on the current thread, then from the default group.
+ */
+public class KafkaConsumerRecordOutboxRecordPositionExtractor implements OutboxRecordPositionExtractor<ConsumerRecord<?, ?>> {
+
+    private final KafkaConsumerGroupResolver groupResolver;
+
+    public KafkaConsumerRecordOutboxRecordPositionExtractor() {
+        this(null);
+    }
+
+    public KafkaConsumerRecordOutboxRecordPositionExtractor(String defaultGroup) {
+        this.groupResolver = new KafkaConsumerGroupResolver(defaultGroup);
+    }
+
+    @Override
+    public OutboxRecordPosition extract(ConsumerRecord<?, ?> record) {
+        return new OutboxRecordPosition(groupResolver.resolve(null), record.topic(), record.partition(), record.offset());
+    }
+}
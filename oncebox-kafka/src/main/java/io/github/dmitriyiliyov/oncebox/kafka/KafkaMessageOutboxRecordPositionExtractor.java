@@ -0,0 +1,45 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxRecordPosition;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxRecordPositionExtractor;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+
+/**
+ * Resolves the position of a Spring {@link Message} received by a Kafka listener from its {@link KafkaHeaders}.
+ * <p>
+ * The consumer group is taken from the {@code kafka_groupId} header, then from the listener running on the current
+ * thread, then from the default group.
+ */
+public class KafkaMessageOutboxRecordPositionExtractor implements OutboxRecordPositionExtractor<Message<?>> {
+
+    private final KafkaConsumerGroupResolver groupResolver;
+
+    public KafkaMessageOutboxRecordPositionExtractor() {
+        this(null);
+    }
+
+    public KafkaMessageOutboxRecordPositionExtractor(String defaultGroup) {
+        this.groupResolver = new KafkaConsumerGroupResolver(defaultGroup);
+    }
+
+    @Override
+    public OutboxRecordPosition extract(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        return new OutboxRecordPosition(
+                groupResolver.resolve(headers.get(KafkaHeaders.GROUP_ID, String.class)),
+                requireHeader(headers, KafkaHeaders.RECEIVED_TOPIC, String.class),
+                requireHeader(headers, KafkaHeaders.RECEIVED_PARTITION, Integer.class),
+                requireHeader(headers, KafkaHeaders.OFFSET, Long.class)
+        );
+    }
+
+    private static <V> V requireHeader(MessageHeaders headers, String headerName, Class<V> type) {
+        V value = headers.get(headerName, type);
+        if (value == null) {
+            throw new IllegalArgumentException("Header '%s' not found".formatted(headerName));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.parallel.OutboxParallelConsumeResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes the offsets that are safe to commit for a batch consumed in parallel.
+ * <p>
+ * Per partition the committable offset is the offset of the first record that has not completed, or the offset
+ * after the last record if all of them completed, so a failure in one partition does not hold back the others.
+ */
+public final class KafkaOutboxCommittableOffsets {
+
+    private KafkaOutboxCommittableOffsets() {}
+
+    /**
+     * @param records the consumed records, in the order they were passed to the executor.
+     * @param result  the completion state of the records.
+     * @return        the offset to commit for every partition of the batch.
+     * @throws IllegalArgumentException if the result does not match the records.
+     */
+    public static Map<TopicPartition, OffsetAndMetadata> resolve(List<? extends ConsumerRecord<?, ?>> records,
+                                                                 OutboxParallelConsumeResult result) {
+        Objects.requireNonNull(records, "records cannot be null");
+        Objects.requireNonNull(result, "result cannot be null");
+        if (records.size() != result.size()) {
+            throw new IllegalArgumentException("result size %d does not match records size %d"
+                    .formatted(result.size(), records.size()));
+        }
+        Map<TopicPartition, OffsetAndMetadata> offsets = new LinkedHashMap<>();
+        Set<TopicPartition> blocked = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<?, ?> record = records.get(i);
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (blocked.contains(partition)) {
+                continue;
+            }
+            if (result.isCompleted(i)) {
+                offsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+            } else {
+                offsets.put(partition, new OffsetAndMetadata(record.offset()));
+                blocked.add(partition);
+            }
+        }
+        return offsets;
+    }
+}
@@ -17,6 +17,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class KafkaOutboxSender implements OutboxSender {
 
@@ -49,6 +50,7 @@ public class KafkaOutboxSender implements OutboxSender {
         Set<UUID> processedIds = ConcurrentHashMap.newKeySet();
         Set<UUID> failedIds = ConcurrentHashMap.newKeySet();
         List<CompletableFuture<Void>> futures = new ArrayList<>();
+        AtomicBoolean destinationUnavailable = new AtomicBoolean(false);
 
         for (OutboxEvent event : events) {
             try {
@@ -58,6 +60,9 @@ public class KafkaOutboxSender implements OutboxSender {
                         .thenAccept(success -> processedIds.add(event.getId()))
                         .exceptionally(ex -> {
                             failedIds.add(event.getId());
+                            if (isInfrastructureError(ex)) {
+                                destinationUnavailable.set(true);
+                            }
                             log.error("Error when sending event with id={} to topic={} ", event.getId(), topic, ex);
                             return null;
                         });
@@ -70,7 +75,7 @@ public class KafkaOutboxSender implements OutboxSender {
                             .toList()
                     );
                     log.info("Mark whole '{}' event batch as failed", event.getEventType());
-                    return new SenderResult(Collections.emptySet(), new HashSet<>(failedIds));
+                    return new SenderResult(Collections.emptySet(), new HashSet<>(failedIds), true);
                 }
                 failedIds.add(event.getId());
             }
@@ -81,11 +86,12 @@ public class KafkaOutboxSender implements OutboxSender {
                     .orTimeout(emergencyTimeout, TimeUnit.SECONDS)
                     .join();
         } catch (CompletionException e) {
+            destinationUnavailable.set(true);
             events.stream()
                     .filter(event -> !processedIds.contains(event.getId()) && !failedIds.contains(event.getId()))
                     .forEach(event -> failedIds.add(event.getId()));
         }
-        return new SenderResult(new HashSet<>(processedIds), new HashSet<>(failedIds));
+        return new SenderResult(new HashSet<>(processedIds), new HashSet<>(failedIds), destinationUnavailable.get());
     }
 
     private Message<?> buildMessage(String topic, OutboxEvent event) {
@@ -95,6 +101,7 @@ public class KafkaOutboxSender implements OutboxSender {
                 .setHeader(OutboxHeaders.EVENT_ID.getValue(), event.getId().toString())
                 .setHeader(OutboxHeaders.EVENT_TYPE.getValue(), event.getEventType())
                 .setHeader(OutboxHeaders.EVENT_PAYLOAD_TYPE.getValue(), event.getPayloadType())
+                .setHeader(OutboxHeaders.EVENT_CREATED_AT.getValue(), String.valueOf(event.getCreatedAt().toEpochMilli()))
                 .build();
     }
 
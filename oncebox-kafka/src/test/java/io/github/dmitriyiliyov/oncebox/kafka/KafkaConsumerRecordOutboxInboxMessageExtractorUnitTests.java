@@ -0,0 +1,74 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInboxMessage;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxHeaders;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KafkaConsumerRecordOutboxInboxMessageExtractorUnitTests {
+
+    private final KafkaConsumerRecordOutboxInboxMessageExtractor extractor = new KafkaConsumerRecordOutboxInboxMessageExtractor();
+
+    @Test
+    @DisplayName("UT extract() consumer record should read metadata from outbox headers")
+    void extract_consumerRecord_shouldReadMetadataFromOutboxHeaders() {
+        // given
+        UUID id = UUID.randomUUID();
+        ConsumerRecord<String, String> record = record(id, "{\"orderId\":1}");
+
+        // when
+        OutboxInboxMessage message = extractor.extract(record);
+
+        // then
+        assertThat(message).isEqualTo(new OutboxInboxMessage(id, "order.created", "com.example.OrderCreated", "{\"orderId\":1}"));
+    }
+
+    @Test
+    @DisplayName("UT extract() consumer record with byte array value should decode payload")
+    void extract_consumerRecordWithByteArrayValue_shouldDecodePayload() {
+        // given
+        UUID id = UUID.randomUUID();
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(
+                "orders", 0, 1L, "key", "{\"orderId\":1}".getBytes(StandardCharsets.UTF_8)
+        );
+        addHeaders(record, id);
+
+        // when
+        OutboxInboxMessage message = extractor.extract(record);
+
+        // then
+        assertThat(message.payload()).isEqualTo("{\"orderId\":1}");
+    }
+
+    @Test
+    @DisplayName("UT extract() consumer record without event id header should throw IllegalArgumentException")
+    void extract_consumerRecordWithoutEventIdHeader_shouldThrowIllegalArgumentException() {
+        // given
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("orders", 0, 1L, "key", "{}");
+
+        // when + then
+        assertThatThrownBy(() -> extractor.extract(record))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(OutboxHeaders.EVENT_ID.getValue());
+    }
+
+    private static ConsumerRecord<String, String> record(UUID id, String value) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("orders", 0, 1L, "key", value);
+        addHeaders(record, id);
+        return record;
+    }
+
+    private static void addHeaders(ConsumerRecord<?, ?> record, UUID id) {
+        record.headers()
+                .add(OutboxHeaders.EVENT_ID.getValue(), id.toString().getBytes(StandardCharsets.UTF_8))
+                .add(OutboxHeaders.EVENT_TYPE.getValue(), "order.created".getBytes(StandardCharsets.UTF_8))
+                .add(OutboxHeaders.EVENT_PAYLOAD_TYPE.getValue(), "com.example.OrderCreated".getBytes(StandardCharsets.UTF_8));
+    }
+}
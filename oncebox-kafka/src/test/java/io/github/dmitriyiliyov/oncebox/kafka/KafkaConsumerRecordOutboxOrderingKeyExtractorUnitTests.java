@@ -0,0 +1,52 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaConsumerRecordOutboxOrderingKeyExtractorUnitTests {
+
+    @Test
+    @DisplayName("UT extract() consumer record with key header should use header value")
+    void extract_consumerRecordWithKeyHeader_shouldUseHeaderValue() {
+        // given
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("orders", 0, 1L, "key", "value");
+        record.headers().add("aggregate_id", "order-42".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        Object key = new KafkaConsumerRecordOutboxOrderingKeyExtractor("aggregate_id").extract(record);
+
+        // then
+        assertThat(key).isEqualTo("order-42");
+    }
+
+    @Test
+    @DisplayName("UT extract() consumer record with byte array keys should compare keys by content")
+    void extract_consumerRecordWithByteArrayKeys_shouldCompareKeysByContent() {
+        // given
+        KafkaConsumerRecordOutboxOrderingKeyExtractor extractor = new KafkaConsumerRecordOutboxOrderingKeyExtractor();
+        ConsumerRecord<byte[], String> first = new ConsumerRecord<>("orders", 0, 1L, new byte[]{1, 2}, "value");
+        ConsumerRecord<byte[], String> second = new ConsumerRecord<>("orders", 0, 2L, new byte[]{1, 2}, "value");
+
+        // when + then
+        assertThat(extractor.extract(first)).isEqualTo(extractor.extract(second));
+    }
+
+    @Test
+    @DisplayName("UT extract() consumer record without key should use its partition")
+    void extract_consumerRecordWithoutKey_shouldUsePartition() {
+        // given
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("orders", 3, 1L, null, "value");
+
+        // when
+        Object key = new KafkaConsumerRecordOutboxOrderingKeyExtractor("aggregate_id").extract(record);
+
+        // then
+        assertThat(key).isEqualTo(new TopicPartition("orders", 3));
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxRecordPosition;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KafkaConsumerRecordOutboxRecordPositionExtractorUnitTests {
+
+    @AfterEach
+    void tearDown() {
+        KafkaUtils.clearConsumerGroupId();
+    }
+
+    @Test
+    @DisplayName("UT extract() consumer record should use listener group of current thread")
+    void extract_consumerRecord_shouldUseListenerGroup() {
+        // given
+        KafkaUtils.setConsumerGroupId("analytics");
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("orders", 3, 42L, "key", "value");
+
+        // when
+        OutboxRecordPosition position = new KafkaConsumerRecordOutboxRecordPositionExtractor("fallback").extract(record);
+
+        // then
+        assertThat(position).isEqualTo(new OutboxRecordPosition("analytics", "orders", 3, 42L));
+    }
+
+    @Test
+    @DisplayName("UT extract() consumer record without listener group should use default group")
+    void extract_consumerRecordWithoutListenerGroup_shouldUseDefaultGroup() {
+        // given
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("orders", 0, 7L, "key", "value");
+
+        // when
+        OutboxRecordPosition position = new KafkaConsumerRecordOutboxRecordPositionExtractor("fallback").extract(record);
+
+        // then
+        assertThat(position).isEqualTo(new OutboxRecordPosition("fallback", "orders", 0, 7L));
+    }
+
+    @Test
+    @DisplayName("UT extract() when group cannot be resolved should throw IllegalStateException")
+    void extract_whenGroupCannotBeResolved_shouldThrowIllegalStateException() {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("orders", 0, 7L, "key", "value");
+
+        assertThatThrownBy(() -> new KafkaConsumerRecordOutboxRecordPositionExtractor().extract(record))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("consumer group cannot be resolved");
+    }
+}
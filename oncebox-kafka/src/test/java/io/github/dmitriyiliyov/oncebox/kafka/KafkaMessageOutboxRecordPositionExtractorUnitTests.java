@@ -0,0 +1,73 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxRecordPosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.KafkaUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KafkaMessageOutboxRecordPositionExtractorUnitTests {
+
+    @AfterEach
+    void tearDown() {
+        KafkaUtils.clearConsumerGroupId();
+    }
+
+    @Test
+    @DisplayName("UT extract() message should read position from kafka headers")
+    void extract_message_shouldReadPositionFromKafkaHeaders() {
+        // given
+        Message<String> message = MessageBuilder.withPayload("payload")
+                .setHeader(KafkaHeaders.GROUP_ID, "analytics")
+                .setHeader(KafkaHeaders.RECEIVED_TOPIC, "orders")
+                .setHeader(KafkaHeaders.RECEIVED_PARTITION, 1)
+                .setHeader(KafkaHeaders.OFFSET, 15L)
+                .build();
+
+        // when
+        OutboxRecordPosition position = new KafkaMessageOutboxRecordPositionExtractor().extract(message);
+
+        // then
+        assertThat(position).isEqualTo(new OutboxRecordPosition("analytics", "orders", 1, 15L));
+    }
+
+    @Test
+    @DisplayName("UT extract() message without offset header should throw IllegalArgumentException")
+    void extract_messageWithoutOffsetHeader_shouldThrowIllegalArgumentException() {
+        // given
+        Message<String> message = MessageBuilder.withPayload("payload")
+                .setHeader(KafkaHeaders.GROUP_ID, "analytics")
+                .setHeader(KafkaHeaders.RECEIVED_TOPIC, "orders")
+                .setHeader(KafkaHeaders.RECEIVED_PARTITION, 1)
+                .build();
+
+        // when + then
+        assertThatThrownBy(() -> new KafkaMessageOutboxRecordPositionExtractor().extract(message))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(KafkaHeaders.OFFSET);
+    }
+
+    @Test
+    @DisplayName("UT extract() message without group header should use listener group of current thread")
+    void extract_messageWithoutGroupHeader_shouldUseListenerGroup() {
+        // given
+        KafkaUtils.setConsumerGroupId("analytics");
+        Message<String> message = MessageBuilder.withPayload("payload")
+                .setHeader(KafkaHeaders.RECEIVED_TOPIC, "orders")
+                .setHeader(KafkaHeaders.RECEIVED_PARTITION, 0)
+                .setHeader(KafkaHeaders.OFFSET, 3L)
+                .build();
+
+        // when
+        OutboxRecordPosition position = new KafkaMessageOutboxRecordPositionExtractor("fallback").extract(message);
+
+        // then
+        assertThat(position).isEqualTo(new OutboxRecordPosition("analytics", "orders", 0, 3L));
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.dmitriyiliyov.oncebox.kafka;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventIdExtractor;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
+import io.github.dmitriyiliyov.oncebox.core.consumer.parallel.KeyOrderedOutboxConsumerExecutor;
+import io.github.dmitriyiliyov.oncebox.core.consumer.parallel.OutboxParallelConsumeResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaOutboxCommittableOffsetsUnitTests {
+
+    private static final OutboxEventIdExtractor<ConsumerRecord<String, String>> ID_EXTRACTOR =
+            record -> UUID.nameUUIDFromBytes((record.partition() + ":" + record.offset()).getBytes());
+
+    @Mock
+    private OutboxIdempotentConsumer consumer;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("UT resolve() should stop at first incomplete record of each partition")
+    void resolve_shouldStopAtFirstIncompleteRecordOfEachPartition() {
+        // given
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("orders", 0, 10L, "a", "ok"),
+                new ConsumerRecord<>("orders", 1, 20L, "b", "fail"),
+                new ConsumerRecord<>("orders", 0, 11L, "c", "ok"),
+                new ConsumerRecord<>("orders", 1, 21L, "d", "ok")
+        );
+        OutboxParallelConsumeResult result = consume(records);
+
+        // when
+        Map<TopicPartition, OffsetAndMetadata> offsets = KafkaOutboxCommittableOffsets.resolve(records, result);
+
+        // then
+        assertThat(offsets).containsOnly(
+                Map.entry(new TopicPartition("orders", 0), new OffsetAndMetadata(12L)),
+                Map.entry(new TopicPartition("orders", 1), new OffsetAndMetadata(20L))
+        );
+    }
+
+    @Test
+    @DisplayName("UT resolve() when result size differs should throw IllegalArgumentException")
+    void resolve_whenResultSizeDiffers_shouldThrowIllegalArgumentException() {
+        // given
+        List<ConsumerRecord<String, String>> records = List.of(new ConsumerRecord<>("orders", 0, 10L, "a", "ok"));
+        OutboxParallelConsumeResult result = consume(List.of());
+
+        // when + then
+        assertThatThrownBy(() -> KafkaOutboxCommittableOffsets.resolve(records, result))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not match records size");
+    }
+
+    @SuppressWarnings("unchecked")
+    private OutboxParallelConsumeResult consume(List<ConsumerRecord<String, String>> records) {
+        if (!records.isEmpty()) {
+            doAnswer(invocation -> {
+                Consumer<Object> operation = invocation.getArgument(2);
+                operation.accept(invocation.getArgument(0));
+                return null;
+            }).when(consumer).consume(any(Object.class), any(OutboxEventIdExtractor.class), any(Consumer.class));
+        }
+        return new KeyOrderedOutboxConsumerExecutor(consumer, executorService, 4).consume(
+                records,
+                ID_EXTRACTOR,
+                new KafkaConsumerRecordOutboxOrderingKeyExtractor(),
+                record -> {
+                    if (record.value().equals("fail")) {
+                        throw new IllegalStateException("boom");
+                    }
+                }
+        );
+    }
+}
@@ -3,12 +3,14 @@ package io.github.dmitriyiliyov.oncebox.kafka;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxHeaders;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
 import org.apache.kafka.common.KafkaException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -24,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -111,6 +114,34 @@ public class KafkaOutboxSenderUnitTests {
         verifyNoMoreInteractions(kafkaTemplate);
     }
 
+    @Test
+    @DisplayName("UT sendEvents(), should propagate event creation time as epoch millis header")
+    public void sendEvents_shouldPropagateCreatedAtHeader() {
+        // given
+        String topic = "test-topic";
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00.123Z");
+        OutboxEvent event = new OutboxEvent(
+                UUID.randomUUID(),
+                EventStatus.PENDING,
+                "TestOutboxEvent",
+                TestOutboxEvent.class.getName(),
+                "{}",
+                0,
+                createdAt,
+                createdAt,
+                Instant.now()
+        );
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        when(kafkaTemplate.send(captor.capture())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        tested.sendEvents(topic, List.of(event));
+
+        // then
+        assertThat(captor.getValue().getHeaders().get(OutboxHeaders.EVENT_CREATED_AT.getValue()))
+                .isEqualTo(String.valueOf(createdAt.toEpochMilli()));
+    }
+
     @Test
     @DisplayName("UT sendEvents() when Kafka throws, should return correct SenderResult")
     public void sendEvents_whenKafkaThrows_shouldReturnSenderResult() throws JsonProcessingException {
@@ -136,6 +167,7 @@ public class KafkaOutboxSenderUnitTests {
         // then
         assertEquals(Set.of(event.getId()), result.failedIds());
         assertEquals(Set.of(), result.processedIds());
+        assertFalse(result.destinationUnavailable());
         verify(kafkaTemplate, times(events.size())).send(any(Message.class));
         verifyNoMoreInteractions(kafkaTemplate);
     }
@@ -167,6 +199,7 @@ public class KafkaOutboxSenderUnitTests {
         // then
         assertEquals(Set.of(event.getId()), result.failedIds());
         assertEquals(Set.of(), result.processedIds());
+        assertFalse(result.destinationUnavailable());
         verify(kafkaTemplate, times(events.size())).send(any(Message.class));
         verifyNoMoreInteractions(kafkaTemplate);
     }
@@ -198,6 +231,7 @@ public class KafkaOutboxSenderUnitTests {
         // then
         assertEquals(Set.of(event.getId()), result.failedIds());
         assertEquals(Set.of(), result.processedIds());
+        assertTrue(result.destinationUnavailable());
     }
 
     @Test
@@ -225,6 +259,7 @@ public class KafkaOutboxSenderUnitTests {
         // then
         assertEquals(Set.of(event.getId()), result.failedIds());
         assertEquals(Set.of(), result.processedIds());
+        assertTrue(result.destinationUnavailable());
         verify(kafkaTemplate).send(any(Message.class));
         verifyNoMoreInteractions(kafkaTemplate);
     }
@@ -274,6 +309,7 @@ public class KafkaOutboxSenderUnitTests {
 
         assertEquals(1, result.processedIds().size());
         assertEquals(1, result.failedIds().size());
+        assertFalse(result.destinationUnavailable());
 
         verify(kafkaTemplate, times(2)).send(any(Message.class));
     }
@@ -0,0 +1,21 @@
+package io.github.dmitriyiliyov.oncebox.messaging;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventCreatedAtExtractor;
+import org.springframework.messaging.Message;
+
+import java.time.Instant;
+
+/**
+ * Resolves event creation time from the {@code outbox_event_created_at} header of a Spring {@link Message}.
+ * Messages of other types, or without a valid header, resolve to {@code null}.
+ */
+public class MessageOutboxEventCreatedAtExtractor implements OutboxEventCreatedAtExtractor {
+
+    @Override
+    public Instant extract(Object message) {
+        if (message instanceof Message<?> springMessage) {
+            return OutboxHeadersUtils.findCreatedAt(springMessage);
+        }
+        return null;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -76,6 +77,72 @@ public final class OutboxHeadersUtils {
         return extractStringHeader(message, OutboxHeaders.EVENT_PAYLOAD_TYPE.getValue());
     }
 
+    /**
+     * Extract event creation time from message headers.
+     *
+     * @param message Spring message
+     * @return event creation time
+     * @throws IllegalArgumentException if header is missing or invalid
+     */
+    public static Instant extractCreatedAt(Message<?> message) {
+        String headerName = OutboxHeaders.EVENT_CREATED_AT.getValue();
+        Object objCreatedAt = message.getHeaders().get(headerName);
+
+        if (objCreatedAt instanceof Number numberCreatedAt) {
+            return Instant.ofEpochMilli(numberCreatedAt.longValue());
+        }
+
+        if (objCreatedAt instanceof String strCreatedAt) {
+            return createdAtFromString(strCreatedAt, headerName);
+        }
+
+        if (objCreatedAt instanceof byte[] bytesCreatedAt) {
+            return createdAtFromString(new String(bytesCreatedAt, StandardCharsets.UTF_8), headerName);
+        }
+
+        throw new IllegalArgumentException("Header '%s' not found or has unsupported type".formatted(headerName));
+    }
+
+    /**
+     * Find event creation time in message headers without failing on messages that don't carry it.
+     *
+     * @param message Spring message
+     * @return event creation time, or {@code null} if header is missing or invalid
+     */
+    public static Instant findCreatedAt(Message<?> message) {
+        Object objCreatedAt = message.getHeaders().get(OutboxHeaders.EVENT_CREATED_AT.getValue());
+
+        if (objCreatedAt instanceof Number numberCreatedAt) {
+            return Instant.ofEpochMilli(numberCreatedAt.longValue());
+        }
+
+        String strCreatedAt = null;
+        if (objCreatedAt instanceof String str) {
+            strCreatedAt = str;
+        } else if (objCreatedAt instanceof byte[] bytesCreatedAt) {
+            strCreatedAt = new String(bytesCreatedAt, StandardCharsets.UTF_8);
+        }
+        if (strCreatedAt == null || strCreatedAt.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(strCreatedAt));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Instant createdAtFromString(String str, String headerName) {
+        if (str.isBlank()) {
+            throw new IllegalArgumentException("Header '%s' is blank".formatted(headerName));
+        }
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(str));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Header '%s' has invalid epoch millis format: %s".formatted(headerName, str), e);
+        }
+    }
+
     private static String extractStringHeader(Message<?> message, String headerName) {
         MessageHeaders headers = message.getHeaders();
         String value = headers.get(headerName, String.class);
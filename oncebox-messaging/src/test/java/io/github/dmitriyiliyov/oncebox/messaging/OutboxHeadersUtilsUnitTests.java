@@ -7,6 +7,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -232,4 +233,109 @@ class OutboxHeadersUtilsUnitTests {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Header '%s' is blank".formatted(OutboxHeaders.EVENT_PAYLOAD_TYPE.getValue()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UT extractCreatedAt() should return Instant from message headers when value is epoch millis String")
+    void extractCreatedAt_shouldReturnInstantWhenValueIsString() {
+        // given
+        Instant expected = Instant.ofEpochMilli(1767225600123L);
+        Message<String> message = MessageBuilder.withPayload("test")
+                .setHeader(OutboxHeaders.EVENT_CREATED_AT.getValue(), String.valueOf(expected.toEpochMilli()))
+                .build();
+
+        // when
+        Instant result = OutboxHeadersUtils.extractCreatedAt(message);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("UT extractCreatedAt() should return Instant from message headers when value is byte array")
+    void extractCreatedAt_shouldReturnInstantWhenValueIsByteArray() {
+        // given
+        Instant expected = Instant.ofEpochMilli(1767225600123L);
+        Message<String> message = MessageBuilder.withPayload("test")
+                .setHeader(
+                        OutboxHeaders.EVENT_CREATED_AT.getValue(),
+                        String.valueOf(expected.toEpochMilli()).getBytes(StandardCharsets.UTF_8)
+                )
+                .build();
+
+        // when
+        Instant result = OutboxHeadersUtils.extractCreatedAt(message);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("UT extractCreatedAt() should throw IllegalArgumentException if header has invalid format")
+    void extractCreatedAt_shouldThrowExceptionIfHeaderInvalid() {
+        // given
+        Message<String> message = MessageBuilder.withPayload("test")
+                .setHeader(OutboxHeaders.EVENT_CREATED_AT.getValue(), "yesterday")
+                .build();
+
+        // when + then
+        assertThatThrownBy(() -> OutboxHeadersUtils.extractCreatedAt(message))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("invalid epoch millis format");
+    }
+
+    @Test
+    @DisplayName("UT MessageOutboxEventCreatedAtExtractor should return null for missing header and non message types")
+    void messageExtractor_shouldReturnNullWhenCreatedAtUnavailable() {
+        // given
+        MessageOutboxEventCreatedAtExtractor extractor = new MessageOutboxEventCreatedAtExtractor();
+        Message<String> message = MessageBuilder.withPayload("test").build();
+
+        // when + then
+        assertThat(extractor.extract(message)).isNull();
+        assertThat(extractor.extract("raw payload")).isNull();
+    }
+
+    @Test
+    @DisplayName("UT findCreatedAt() should return Instant from message headers when value is epoch millis String")
+    void findCreatedAt_shouldReturnInstantWhenValueIsString() {
+        // given
+        Instant expected = Instant.ofEpochMilli(1767225600123L);
+        Message<String> message = MessageBuilder.withPayload("test")
+                .setHeader(OutboxHeaders.EVENT_CREATED_AT.getValue(), String.valueOf(expected.toEpochMilli()))
+                .build();
+
+        // when
+        Instant result = OutboxHeadersUtils.findCreatedAt(message);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("UT findCreatedAt() should return null if header is missing")
+    void findCreatedAt_shouldReturnNullIfHeaderMissing() {
+        // given
+        Message<String> message = MessageBuilder.withPayload("test").build();
+
+        // when
+        Instant result = OutboxHeadersUtils.findCreatedAt(message);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("UT findCreatedAt() should return null if header has invalid format")
+    void findCreatedAt_shouldReturnNullIfHeaderInvalid() {
+        // given
+        Message<String> message = MessageBuilder.withPayload("test")
+                .setHeader(OutboxHeaders.EVENT_CREATED_AT.getValue(), "yesterday")
+                .build();
+
+        // when
+        Instant result = OutboxHeadersUtils.findCreatedAt(message);
+
+        // then
+        assertThat(result).isNull();
+    }
+}
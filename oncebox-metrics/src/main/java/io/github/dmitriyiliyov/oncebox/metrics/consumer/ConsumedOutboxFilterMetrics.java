@@ -0,0 +1,34 @@
+package io.github.dmitriyiliyov.oncebox.metrics.consumer;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.RotatingBloomConsumedOutboxFilter;
+import io.github.dmitriyiliyov.oncebox.metrics.OutboxMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+
+public class ConsumedOutboxFilterMetrics implements OutboxMetrics {
+
+    private final MeterRegistry registry;
+    private final RotatingBloomConsumedOutboxFilter filter;
+
+    public ConsumedOutboxFilterMetrics(MeterRegistry registry, RotatingBloomConsumedOutboxFilter filter) {
+        this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+        this.filter = Objects.requireNonNull(filter, "filter cannot be null");
+    }
+
+    @Override
+    public void register() {
+        Gauge.builder("consumed_outbox_filter_memory_bytes", filter, RotatingBloomConsumedOutboxFilter::getMemoryBytes)
+                .description("Memory reserved by the consumed events filter")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("consumed_outbox_filter_false_positive_rate", filter,
+                        RotatingBloomConsumedOutboxFilter::getEstimatedFalsePositiveRate)
+                .description("Estimated false positive rate of the consumed events filter")
+                .register(registry);
+        Gauge.builder("consumed_outbox_filter_loaded", filter, f -> f.isLoaded() ? 1 : 0)
+                .description("Whether the consumed events filter finished loading: 0 - loading, 1 - loaded")
+                .register(registry);
+    }
+}
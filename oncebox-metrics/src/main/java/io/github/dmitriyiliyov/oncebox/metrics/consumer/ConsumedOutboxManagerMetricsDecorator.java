@@ -48,10 +48,27 @@ public class ConsumedOutboxManagerMetricsDecorator implements ConsumedOutboxMana
         return duplicates;
     }
 
+    @Override
+    public int release(Set<UUID> ids) {
+        return delegate.release(ids);
+    }
+
     @Override
     public int cleanBatchByTtl(Duration ttl, int batchSize) {
         int cleanedCount = delegate.cleanBatchByTtl(ttl, batchSize);
         cleaned.increment(cleanedCount);
         return cleanedCount;
     }
+
+    @Override
+    public boolean supportsIdRangeCleanUp() {
+        return delegate.supportsIdRangeCleanUp();
+    }
+
+    @Override
+    public int cleanBatchByIdRange(Duration ttl, int batchSize) {
+        int cleanedCount = delegate.cleanBatchByIdRange(ttl, batchSize);
+        cleaned.increment(cleanedCount);
+        return cleanedCount;
+    }
 }
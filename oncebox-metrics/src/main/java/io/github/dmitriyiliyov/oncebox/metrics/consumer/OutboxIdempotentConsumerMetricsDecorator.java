@@ -1,25 +1,56 @@
 package io.github.dmitriyiliyov.oncebox.metrics.consumer;
 
 import io.github.dmitriyiliyov.oncebox.core.consumer.AbstractOutboxIdempotentConsumerDecorator;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventCreatedAtExtractor;
 import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventIdExtractor;
 import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
+import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class OutboxIdempotentConsumerMetricsDecorator extends AbstractOutboxIdempotentConsumerDecorator {
 
     private final Counter fails;
+    private final OutboxEventCreatedAtExtractor createdAtExtractor;
+    private final Timer lag;
+    private final Clock clock;
 
     public OutboxIdempotentConsumerMetricsDecorator(MeterRegistry registry, OutboxIdempotentConsumer delegate) {
+        this(registry, delegate, OutboxEventCreatedAtExtractor.NONE);
+    }
+
+    /**
+     * @param createdAtExtractor resolves event creation time from consumed messages to record
+     *                           {@code outbox_event_consumer_lag}; with {@link OutboxEventCreatedAtExtractor#NONE}
+     *                           the timer is not registered.
+     */
+    public OutboxIdempotentConsumerMetricsDecorator(MeterRegistry registry, OutboxIdempotentConsumer delegate,
+                                                    OutboxEventCreatedAtExtractor createdAtExtractor) {
         super(Objects.requireNonNull(delegate, "delegate cannot be null"));
         Objects.requireNonNull(registry, "registry cannot be null");
+        this.createdAtExtractor = Objects.requireNonNull(createdAtExtractor, "createdAtExtractor cannot be null");
         this.fails = registry.counter("consumed_outbox_events_total", "type", "failed");
+        if (createdAtExtractor == OutboxEventCreatedAtExtractor.NONE) {
+            this.lag = null;
+            this.clock = null;
+        } else {
+            this.lag = Timer.builder("outbox_event_consumer_lag")
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofHours(1))
+                    .register(registry);
+            this.clock = registry.config().clock();
+        }
     }
 
     @Override
@@ -40,6 +71,9 @@ public class OutboxIdempotentConsumerMetricsDecorator extends AbstractOutboxIdem
             fails.increment();
             throw e;
         }
+        if (lag != null) {
+            recordLag(message, clock.wallTime());
+        }
     }
 
     @Override
@@ -60,5 +94,18 @@ public class OutboxIdempotentConsumerMetricsDecorator extends AbstractOutboxIdem
             fails.increment(messages.size());
             throw e;
         }
+        if (lag != null) {
+            long consumedAt = clock.wallTime();
+            for (T message : messages) {
+                recordLag(message, consumedAt);
+            }
+        }
+    }
+
+    private void recordLag(Object message, long consumedAt) {
+        Instant createdAt = createdAtExtractor.extract(message);
+        if (createdAt != null) {
+            lag.record(Math.max(0, consumedAt - createdAt.toEpochMilli()), TimeUnit.MILLISECONDS);
+        }
     }
 }
@@ -0,0 +1,117 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics service that avoids a {@code COUNT(*)} per gauge on every scrape.
+ * <p>
+ * The total comes from the database's planner statistics. Per event type and status counts are kept in-process:
+ * they are reset from a single grouped scan once per {@code reconcileInterval} and moved by the transitions this
+ * instance observes in between. Transitions made by other instances, releases, recoveries and cleanups are not
+ * attributed to an event type and only show up after the next reconciliation.
+ */
+public class EstimatedOutboxMetricsService implements OutboxMetricsService, OutboxEventCountListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EstimatedOutboxMetricsService.class);
+
+    private final OutboxMetricsRepository repository;
+    private final Duration reconcileInterval;
+    private final Clock clock;
+    private final ConcurrentMap<String, Map<EventStatus, AtomicLong>> counts;
+    private final AtomicBoolean reconciling;
+    private volatile Instant nextReconcileAt;
+
+    public EstimatedOutboxMetricsService(OutboxMetricsRepository repository, Duration reconcileInterval, Clock clock) {
+        this.repository = Objects.requireNonNull(repository, "repository cannot be null");
+        this.reconcileInterval = Objects.requireNonNull(reconcileInterval, "reconcileInterval cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+        this.counts = new ConcurrentHashMap<>();
+        this.reconciling = new AtomicBoolean(false);
+        this.nextReconcileAt = Instant.MIN;
+    }
+
+    @Override
+    public long count() {
+        return repository.estimateCount();
+    }
+
+    @Override
+    public long countByStatus(EventStatus status) {
+        reconcileIfDue();
+        long total = 0;
+        for (Map<EventStatus, AtomicLong> byStatus : counts.values()) {
+            total += Math.max(0, byStatus.get(status).get());
+        }
+        return total;
+    }
+
+    @Override
+    public long countByEventTypeAndStatus(String eventType, EventStatus status) {
+        reconcileIfDue();
+        return Math.max(0, counter(eventType, status).get());
+    }
+
+    @Override
+    public void onSaved(String eventType, int count) {
+        counter(eventType, EventStatus.PENDING).addAndGet(count);
+    }
+
+    @Override
+    public void onClaimed(String eventType, int count) {
+        counter(eventType, EventStatus.PENDING).addAndGet(-count);
+        counter(eventType, EventStatus.IN_PROCESS).addAndGet(count);
+    }
+
+    @Override
+    public void onFinalized(String eventType, int processed, int retried, int failed) {
+        counter(eventType, EventStatus.IN_PROCESS).addAndGet(-(processed + retried + failed));
+        counter(eventType, EventStatus.PROCESSED).addAndGet(processed);
+        counter(eventType, EventStatus.PENDING).addAndGet(retried);
+        counter(eventType, EventStatus.FAILED).addAndGet(failed);
+    }
+
+    private void reconcileIfDue() {
+        Instant now = clock.instant();
+        if (now.isBefore(nextReconcileAt) || !reconciling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Map<String, Map<EventStatus, Long>> actual = repository.countGroupedByEventTypeAndStatus();
+            actual.keySet().forEach(eventType -> counts.computeIfAbsent(eventType, EstimatedOutboxMetricsService::newCounters));
+            counts.forEach((eventType, byStatus) -> {
+                Map<EventStatus, Long> actualByStatus = actual.getOrDefault(eventType, Map.of());
+                byStatus.forEach((status, counter) -> counter.set(actualByStatus.getOrDefault(status, 0L)));
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile outbox event counts, serving in-process counts until next attempt", e);
+        } finally {
+            nextReconcileAt = now.plus(reconcileInterval);
+            reconciling.set(false);
+        }
+    }
+
+    private AtomicLong counter(String eventType, EventStatus status) {
+        return counts.computeIfAbsent(eventType, EstimatedOutboxMetricsService::newCounters).get(status);
+    }
+
+    private static Map<EventStatus, AtomicLong> newCounters(String eventType) {
+        Map<EventStatus, AtomicLong> byStatus = new EnumMap<>(EventStatus.class);
+        for (EventStatus status : EventStatus.values()) {
+            byStatus.put(status, new AtomicLong());
+        }
+        return byStatus;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategyListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+
+public class MetricsBatchSizeStrategyListener implements BatchSizeStrategyListener {
+
+    private volatile int currentBatchSize;
+
+    public MetricsBatchSizeStrategyListener(String eventType, MeterRegistry registry) {
+        Objects.requireNonNull(eventType, "eventType cannot be null");
+        if (eventType.isBlank()) {
+            throw new IllegalArgumentException("eventType cannot be empty or blank");
+        }
+        Objects.requireNonNull(registry, "registry cannot be null");
+        Gauge.builder("outbox_batch_size", () -> currentBatchSize)
+                .description("Current adaptive batch size of outbox events claimed per processing")
+                .tag("event_type", eventType)
+                .register(registry);
+    }
+
+    @Override
+    public void onBatchSizeChanged(int batchSize) {
+        currentBatchSize = batchSize;
+    }
+}
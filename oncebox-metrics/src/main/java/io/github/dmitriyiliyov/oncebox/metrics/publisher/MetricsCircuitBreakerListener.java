@@ -0,0 +1,30 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.CircuitBreakerListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.CircuitState;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+
+public class MetricsCircuitBreakerListener implements CircuitBreakerListener {
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+
+    public MetricsCircuitBreakerListener(String topic, MeterRegistry registry) {
+        Objects.requireNonNull(topic, "topic cannot be null");
+        if (topic.isBlank()) {
+            throw new IllegalArgumentException("topic cannot be empty or blank");
+        }
+        Objects.requireNonNull(registry, "registry cannot be null");
+        Gauge.builder("outbox_circuit_breaker_state", () -> state.ordinal())
+                .description("Current circuit breaker state of the destination: 0 - closed, 1 - open, 2 - half-open")
+                .tag("topic", topic)
+                .register(registry);
+    }
+
+    @Override
+    public void onStateChanged(CircuitState state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.DispatchListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class MetricsDispatchListener implements DispatchListener {
+
+    private final Timer queueingTimer;
+
+    public MetricsDispatchListener(String eventType, MeterRegistry registry) {
+        Objects.requireNonNull(eventType, "eventType cannot be null");
+        if (eventType.isBlank()) {
+            throw new IllegalArgumentException("eventType cannot be empty or blank");
+        }
+        Objects.requireNonNull(registry, "registry cannot be null");
+        this.queueingTimer = Timer.builder("outbox_dispatch_queueing_delay")
+                .description("Time polling tasks waited for a free dispatcher worker")
+                .tag("event_type", eventType)
+                .register(registry);
+    }
+
+    @Override
+    public void onDispatched(Duration queueingDelay) {
+        queueingTimer.record(queueingDelay);
+    }
+}
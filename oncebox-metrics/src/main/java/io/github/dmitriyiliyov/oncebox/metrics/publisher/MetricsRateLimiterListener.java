@@ -0,0 +1,39 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.RateLimiterListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class MetricsRateLimiterListener implements RateLimiterListener {
+
+    private final Timer throttledTimer;
+    private volatile double availablePermits;
+
+    public MetricsRateLimiterListener(String eventType, MeterRegistry registry) {
+        Objects.requireNonNull(eventType, "eventType cannot be null");
+        if (eventType.isBlank()) {
+            throw new IllegalArgumentException("eventType cannot be empty or blank");
+        }
+        Objects.requireNonNull(registry, "registry cannot be null");
+        this.throttledTimer = Timer.builder("outbox_rate_limit_throttled_duration")
+                .description("Estimated time sending of outbox events was delayed by the rate limiter")
+                .tag("event_type", eventType)
+                .register(registry);
+        Gauge.builder("outbox_rate_limit_available_permits", () -> availablePermits)
+                .description("Number of permits currently available to send outbox events")
+                .tag("event_type", eventType)
+                .register(registry);
+    }
+
+    @Override
+    public void onAcquired(int requested, int granted, double availablePermits, Duration throttledFor) {
+        this.availablePermits = availablePermits;
+        if (!throttledFor.isZero()) {
+            throttledTimer.record(throttledFor);
+        }
+    }
+}
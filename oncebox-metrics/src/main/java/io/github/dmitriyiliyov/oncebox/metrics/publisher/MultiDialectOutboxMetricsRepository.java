@@ -3,11 +3,13 @@ package io.github.dmitriyiliyov.oncebox.metrics.publisher;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public class MultiDialectOutboxMetricsRepository implements OutboxMetricsRepository {
 
-    private final JdbcTemplate jdbcTemplate;
+    protected final JdbcTemplate jdbcTemplate;
 
     public MultiDialectOutboxMetricsRepository(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
@@ -33,4 +35,15 @@ public class MultiDialectOutboxMetricsRepository implements OutboxMetricsReposit
         Long count = jdbcTemplate.queryForObject(sql, Long.class, eventType, status.name());
         return count == null ? 0 : count;
     }
+
+    @Override
+    public Map<String, Map<EventStatus, Long>> countGroupedByEventTypeAndStatus() {
+        String sql = "SELECT event_type, status, COUNT(*) FROM outbox_events GROUP BY event_type, status";
+        Map<String, Map<EventStatus, Long>> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.computeIfAbsent(rs.getString(1), eventType -> new HashMap<>())
+                    .put(EventStatus.fromString(rs.getString(2)), rs.getLong(3));
+        });
+        return counts;
+    }
 }
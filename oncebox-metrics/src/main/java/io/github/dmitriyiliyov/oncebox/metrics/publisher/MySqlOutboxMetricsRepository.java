@@ -0,0 +1,25 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * MySQL metrics repository estimating the total from {@code information_schema.TABLES.TABLE_ROWS}.
+ * <p>
+ * Falls back to an exact count when the statistics are not available.
+ */
+public class MySqlOutboxMetricsRepository extends MultiDialectOutboxMetricsRepository {
+
+    public MySqlOutboxMetricsRepository(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    public long estimateCount() {
+        String sql = """
+                SELECT TABLE_ROWS FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'outbox_events'
+                """;
+        Long estimate = jdbcTemplate.query(sql, rs -> rs.next() ? rs.getObject(1, Long.class) : null);
+        return estimate == null ? count() : estimate;
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Oracle metrics repository estimating the total from {@code USER_TAB_STATISTICS.NUM_ROWS}.
+ * <p>
+ * Falls back to an exact count while the table has no gathered statistics.
+ */
+public class OracleOutboxMetricsRepository extends MultiDialectOutboxMetricsRepository {
+
+    public OracleOutboxMetricsRepository(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    public long estimateCount() {
+        String sql = """
+                SELECT NUM_ROWS FROM USER_TAB_STATISTICS
+                WHERE TABLE_NAME = 'OUTBOX_EVENTS' AND OBJECT_TYPE = 'TABLE'
+                """;
+        Long estimate = jdbcTemplate.query(sql, rs -> rs.next() ? rs.getObject(1, Long.class) : null);
+        return estimate == null ? count() : estimate;
+    }
+}
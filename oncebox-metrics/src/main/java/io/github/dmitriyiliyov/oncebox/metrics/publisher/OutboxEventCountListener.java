@@ -0,0 +1,31 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+/**
+ * Receives the status transitions of outbox events observed by this instance.
+ * <p>
+ * Used to maintain gauge counts in-process instead of scanning the outbox table on every scrape.
+ */
+public interface OutboxEventCountListener {
+
+    OutboxEventCountListener NOOP = new OutboxEventCountListener() {};
+
+    /**
+     * Called after events were saved as {@code PENDING}.
+     */
+    default void onSaved(String eventType, int count) {}
+
+    /**
+     * Called after {@code PENDING} events were claimed and moved to {@code IN_PROCESS}.
+     */
+    default void onClaimed(String eventType, int count) {}
+
+    /**
+     * Called after a claimed batch was finalized.
+     *
+     * @param eventType type of the finalized events.
+     * @param processed number of events moved to {@code PROCESSED}.
+     * @param retried   number of events handed back to {@code PENDING} for another attempt.
+     * @param failed    number of events moved to {@code FAILED}.
+     */
+    default void onFinalized(String eventType, int processed, int retried, int failed) {}
+}
@@ -0,0 +1,66 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
+import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
+import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
+import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
+import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.GaugeSnapshotHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Refreshes gauge snapshots in the background, so that only one instance at a time runs the grouped counts.
+ */
+public final class OutboxGaugeRefreshScheduler implements OutboxScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxGaugeRefreshScheduler.class);
+    private static final OutboxJob JOB = OutboxJob.OUTBOX_GAUGE_REFRESH;
+
+    private final UUID workerId;
+    private final OutboxScheduleStrategy scheduleStrategy;
+    private final List<GaugeSnapshotHolder<?>> snapshots;
+    private final DistributedLockRepository lock;
+    private final ContinuableTaskDecorator taskDecorator;
+
+    public OutboxGaugeRefreshScheduler(UUID workerId,
+                                       OutboxScheduleStrategy scheduleStrategy,
+                                       List<GaugeSnapshotHolder<?>> snapshots,
+                                       DistributedLockRepository lock,
+                                       ContinuableTaskDecorator taskDecorator) {
+        this.workerId = Objects.requireNonNull(workerId, "workerId cannot be null");
+        this.scheduleStrategy = Objects.requireNonNull(scheduleStrategy, "scheduleStrategy cannot be null");
+        this.snapshots = List.copyOf(Objects.requireNonNull(snapshots, "snapshots cannot be null"));
+        this.lock = Objects.requireNonNull(lock, "lock cannot be null");
+        this.taskDecorator = Objects.requireNonNull(taskDecorator, "taskDecorator cannot be null");
+    }
+
+    @Override
+    public void schedule() {
+        ContinuableTask task = () -> {
+            log.debug("Start refresh gauge snapshots");
+            if (!lock.tryLock(JOB.getJobName(), workerId)) {
+                log.debug("Lock acquired by another instance; skipping task execution");
+                return false;
+            }
+            try {
+                for (GaugeSnapshotHolder<?> snapshot : snapshots) {
+                    try {
+                        snapshot.refresh();
+                    } catch (Exception e) {
+                        log.error("Error refresh gauge snapshot", e);
+                    }
+                }
+                return false;
+            } finally {
+                lock.unlock(JOB.getJobName(), workerId);
+            }
+        };
+        scheduleStrategy.scheduleExecution(taskDecorator.decorate(task));
+    }
+}
@@ -4,25 +4,40 @@ import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class OutboxManagerMetricsDecorator implements OutboxManager {
 
     private static final EventStatus [] STATUSES = new EventStatus[] {EventStatus.PROCESSED};
+    private static final Duration MIN_EXPECTED_LATENCY = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED_LATENCY = Duration.ofHours(1);
     private final OutboxManager delegate;
     private final Map<String, Map<EventStatus, Counter>> counters;
+    private final Map<String, Map<LatencyStage, Timer>> latencyTimers;
+    private final Clock clock;
     private final Map<ActionType, Counter> actionCounters;
+    private final OutboxEventCountListener countListener;
 
     public OutboxManagerMetricsDecorator(OutboxPublisherPropertiesHolder properties,
                                          MeterRegistry registry,
                                          OutboxManager delegate) {
+        this(properties, registry, delegate, OutboxEventCountListener.NOOP);
+    }
+
+    public OutboxManagerMetricsDecorator(OutboxPublisherPropertiesHolder properties,
+                                         MeterRegistry registry,
+                                         OutboxManager delegate,
+                                         OutboxEventCountListener countListener) {
         Objects.requireNonNull(properties, "properties cannot be null");
         Objects.requireNonNull(registry, "registry cannot be null");
         this.counters = properties.getEventHolders().keySet()
@@ -39,6 +54,23 @@ public class OutboxManagerMetricsDecorator implements OutboxManager {
                                         )
                                 ))
                 ));
+        this.latencyTimers = properties.getEventHolders().keySet()
+                .stream()
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        eventType -> Arrays.stream(LatencyStage.values())
+                                .collect(Collectors.toMap(
+                                        Function.identity(),
+                                        stage -> Timer.builder("outbox_event_latency")
+                                                .tag("event_type", eventType)
+                                                .tag("stage", stage.toString().toLowerCase())
+                                                .publishPercentileHistogram()
+                                                .minimumExpectedValue(MIN_EXPECTED_LATENCY)
+                                                .maximumExpectedValue(MAX_EXPECTED_LATENCY)
+                                                .register(registry)
+                                ))
+                ));
+        this.clock = registry.config().clock();
         this.actionCounters = Arrays.stream(ActionType.values())
                 .collect(Collectors.toMap(
                         Function.identity(),
@@ -48,21 +80,34 @@ public class OutboxManagerMetricsDecorator implements OutboxManager {
                         )
                 );
         this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.countListener = Objects.requireNonNull(countListener, "countListener cannot be null");
     }
 
     @Override
     public void save(OutboxEvent event) {
         delegate.save(event);
+        if (event.getEventType() != null) {
+            countListener.onSaved(event.getEventType(), 1);
+        }
     }
 
     @Override
     public void saveBatch(List<OutboxEvent> eventBatch) {
         delegate.saveBatch(eventBatch);
+        eventBatch.stream()
+                .filter(event -> event.getEventType() != null)
+                .collect(Collectors.groupingBy(OutboxEvent::getEventType, Collectors.counting()))
+                .forEach((eventType, count) -> countListener.onSaved(eventType, count.intValue()));
     }
 
     @Override
     public List<OutboxEvent> loadBatch(String eventType, int batchSize) {
-        return delegate.loadBatch(eventType, batchSize);
+        List<OutboxEvent> events = delegate.loadBatch(eventType, batchSize);
+        if (!events.isEmpty()) {
+            countListener.onClaimed(eventType, events.size());
+            recordClaimLatency(eventType, events);
+        }
+        return events;
     }
 
     @Override
@@ -82,11 +127,25 @@ public class OutboxManagerMetricsDecorator implements OutboxManager {
                 Map<EventStatus, Counter> eventTypeCounter = counters.get(eventType);
                 if (processedIds != null) {
                     eventTypeCounter.get(EventStatus.PROCESSED).increment(processedIds.size());
+                    recordAckLatency(eventType, events, processedIds);
                 }
+                notifyFinalized(eventType, events, processedIds, failedIds, maxRetryCount);
             }
         }
     }
 
+    @Override
+    public boolean supportsRelease() {
+        return delegate.supportsRelease();
+    }
+
+    @Override
+    public int releaseBatch(Set<UUID> ids) {
+        int releasedCount = delegate.releaseBatch(ids);
+        actionCounters.get(ActionType.RELEASED).increment(releasedCount);
+        return releasedCount;
+    }
+
     @Override
     public int recoverStuckBatch(Duration maxBatchProcessingTime, int batchSize) {
         int recoveredCount = delegate.recoverStuckBatch(maxBatchProcessingTime, batchSize);
@@ -94,6 +153,18 @@ public class OutboxManagerMetricsDecorator implements OutboxManager {
         return recoveredCount;
     }
 
+    @Override
+    public int extendLeases(Set<UUID> ids) {
+        return delegate.extendLeases(ids);
+    }
+
+    @Override
+    public int releaseLeases() {
+        int releasedCount = delegate.releaseLeases();
+        actionCounters.get(ActionType.RELEASED).increment(releasedCount);
+        return releasedCount;
+    }
+
     @Override
     public int deleteProcessedBatch(Duration ttl, int batchSize) {
         int deletedCount = delegate.deleteProcessedBatch(ttl, batchSize);
@@ -101,6 +172,18 @@ public class OutboxManagerMetricsDecorator implements OutboxManager {
         return deletedCount;
     }
 
+    @Override
+    public boolean supportsIdRangeCleanUp() {
+        return delegate.supportsIdRangeCleanUp();
+    }
+
+    @Override
+    public int deleteProcessedBatchByIdRange(Duration ttl, int batchSize) {
+        int deletedCount = delegate.deleteProcessedBatchByIdRange(ttl, batchSize);
+        actionCounters.get(ActionType.CLEANED).increment(deletedCount);
+        return deletedCount;
+    }
+
     @Override
     public int deleteBatch(Set<UUID> ids) {
         int deletedCount = delegate.deleteBatch(ids);
@@ -108,6 +191,85 @@ public class OutboxManagerMetricsDecorator implements OutboxManager {
         return deletedCount;
     }
 
+    private void recordClaimLatency(String eventType, List<OutboxEvent> events) {
+        Map<LatencyStage, Timer> timers = latencyTimers.get(eventType);
+        if (timers == null) {
+            return;
+        }
+        Timer publishToClaim = timers.get(LatencyStage.PUBLISH_TO_CLAIM);
+        for (OutboxEvent event : events) {
+            if (event.getCreatedAt() != null && event.getUpdatedAt() != null) {
+                record(publishToClaim, event.getUpdatedAt().toEpochMilli() - event.getCreatedAt().toEpochMilli());
+            }
+        }
+    }
+
+    private void recordAckLatency(String eventType, List<OutboxEvent> events, Set<UUID> processedIds) {
+        Map<LatencyStage, Timer> timers = latencyTimers.get(eventType);
+        if (timers == null || processedIds.isEmpty()) {
+            return;
+        }
+        Timer claimToAck = timers.get(LatencyStage.CLAIM_TO_ACK);
+        Timer ageAtAck = timers.get(LatencyStage.AGE_AT_ACK);
+        long ackedAt = clock.wallTime();
+        for (OutboxEvent event : events) {
+            if (!processedIds.contains(event.getId())) {
+                continue;
+            }
+            if (event.getUpdatedAt() != null) {
+                record(claimToAck, ackedAt - event.getUpdatedAt().toEpochMilli());
+            }
+            if (event.getCreatedAt() != null) {
+                record(ageAtAck, ackedAt - event.getCreatedAt().toEpochMilli());
+            }
+        }
+    }
+
+    private static void record(Timer timer, long millis) {
+        timer.record(Math.max(0, millis), TimeUnit.MILLISECONDS);
+    }
+
+    private void notifyFinalized(String eventType, List<OutboxEvent> events, Set<UUID> processedIds,
+                                 Set<UUID> failedIds, int maxRetryCount) {
+        int processed = 0;
+        int retried = 0;
+        int failed = 0;
+        for (OutboxEvent event : events) {
+            if (failedIds != null && failedIds.contains(event.getId())) {
+                if (event.getRetryCount() + 1 < maxRetryCount) {
+                    retried++;
+                } else {
+                    failed++;
+                }
+            } else if (processedIds != null && processedIds.contains(event.getId())) {
+                processed++;
+            }
+        }
+        countListener.onFinalized(eventType, processed, retried, failed);
+    }
+
+    /**
+     * Defines tags for the {@code outbox_event_latency} metric. Claim time is taken from {@code updated_at},
+     * which every dialect stamps when the event is claimed.
+     */
+    private enum LatencyStage {
+
+        /**
+         * Time from event creation until it was claimed by a polling task.
+         */
+        PUBLISH_TO_CLAIM,
+
+        /**
+         * Time from claim until the broker acknowledged the event.
+         */
+        CLAIM_TO_ACK,
+
+        /**
+         * Total time from event creation until the broker acknowledged the event.
+         */
+        AGE_AT_ACK;
+    }
+
     /**
      * Defines tags for the {@code outbox_events_by_action_type_rate_total} metric.
      */
@@ -123,6 +285,12 @@ public class OutboxManagerMetricsDecorator implements OutboxManager {
          */
         RECOVERED,
 
+        /**
+         * Incremented when events leased by a stopping instance are handed back without waiting for lease expiration,
+         * or when a batch is handed back because its destination is unavailable.
+         */
+        RELEASED,
+
         /**
          * Incremented upon the automatic deletion of old processed events by the cleanup process.
          */
@@ -2,6 +2,8 @@ package io.github.dmitriyiliyov.oncebox.metrics.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 
+import java.util.Map;
+
 /**
  * DAO for retrieving outbox event metrics.
  */
@@ -25,4 +27,20 @@ public interface OutboxMetricsRepository {
      * @return          the count of events matching the criteria.
      */
     long countByEventTypeAndStatus(String eventType, EventStatus status);
+
+    /**
+     * Estimates the total number of outbox events from the database's planner statistics.
+     * <p>
+     * The default implementation falls back to the exact {@link #count()}.
+     */
+    default long estimateCount() {
+        return count();
+    }
+
+    /**
+     * Counts outbox events of every event type and status in a single grouped scan.
+     *
+     * @return counts keyed by event type, then by status; pairs without events are absent.
+     */
+    Map<String, Map<EventStatus, Long>> countGroupedByEventTypeAndStatus();
 }
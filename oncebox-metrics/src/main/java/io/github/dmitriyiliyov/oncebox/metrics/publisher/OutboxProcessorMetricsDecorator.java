@@ -0,0 +1,96 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxBatchListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxProcessor;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingStage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts an {@link OutboxProcessingCycle} around every polling cycle and publishes what the processor and the manager
+ * recorded into it: per-stage timers and counters of database statements and rows, tagged by event type.
+ * The same figures are logged as a per-cycle summary at debug level.
+ */
+public class OutboxProcessorMetricsDecorator implements OutboxProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxProcessorMetricsDecorator.class);
+
+    private final MeterRegistry registry;
+    private final OutboxProcessor delegate;
+    private final Map<String, CycleMeters> meters;
+
+    public OutboxProcessorMetricsDecorator(MeterRegistry registry, OutboxProcessor delegate) {
+        this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.meters = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public int process(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties) {
+        Objects.requireNonNull(properties, "properties cannot be null");
+        OutboxProcessingCycle.begin();
+        try {
+            return delegate.process(properties);
+        } finally {
+            publish(properties.getEventType(), OutboxProcessingCycle.end());
+        }
+    }
+
+    @Override
+    public int process(OutboxPublisherPropertiesHolder.EventPropertiesHolder properties,
+                       int batchSize,
+                       OutboxBatchListener listener) {
+        Objects.requireNonNull(properties, "properties cannot be null");
+        OutboxProcessingCycle.begin();
+        try {
+            return delegate.process(properties, batchSize, listener);
+        } finally {
+            publish(properties.getEventType(), OutboxProcessingCycle.end());
+        }
+    }
+
+    private void publish(String eventType, OutboxProcessingCycle cycle) {
+        if (cycle == null) {
+            return;
+        }
+        CycleMeters cycleMeters = meters.computeIfAbsent(eventType, CycleMeters::new);
+        cycle.getStageNanos().forEach(
+                (stage, nanos) -> cycleMeters.stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS)
+        );
+        cycleMeters.statements.increment(cycle.getStatements());
+        cycleMeters.rows.increment(cycle.getRows());
+        if (log.isDebugEnabled()) {
+            log.debug("Outbox processing cycle finished, eventType={}, {}", eventType, cycle);
+        }
+    }
+
+    private final class CycleMeters {
+
+        private final Map<OutboxProcessingStage, Timer> stageTimers;
+        private final Counter statements;
+        private final Counter rows;
+
+        private CycleMeters(String eventType) {
+            this.stageTimers = new EnumMap<>(OutboxProcessingStage.class);
+            for (OutboxProcessingStage stage : OutboxProcessingStage.values()) {
+                stageTimers.put(stage, Timer.builder("outbox_processing_stage_duration")
+                        .tag("event_type", eventType)
+                        .tag("stage", stage.toString().toLowerCase())
+                        .register(registry));
+            }
+            this.statements = registry.counter("outbox_jdbc_statements_total", "event_type", eventType);
+            this.rows = registry.counter("outbox_jdbc_rows_total", "event_type", eventType);
+        }
+    }
+}
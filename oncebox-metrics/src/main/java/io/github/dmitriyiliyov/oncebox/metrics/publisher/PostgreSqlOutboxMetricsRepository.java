@@ -0,0 +1,22 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * PostgreSQL metrics repository estimating the total from {@code pg_class.reltuples}.
+ * <p>
+ * Falls back to an exact count while the table has never been vacuumed or analyzed.
+ */
+public class PostgreSqlOutboxMetricsRepository extends MultiDialectOutboxMetricsRepository {
+
+    public PostgreSqlOutboxMetricsRepository(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    public long estimateCount() {
+        String sql = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('outbox_events')";
+        Long estimate = jdbcTemplate.query(sql, rs -> rs.next() ? rs.getLong(1) : null);
+        return estimate == null || estimate < 0 ? count() : estimate;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.metrics.OutboxMetrics;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.GaugeSnapshotHolder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Registers the same gauges as {@link DefaultOutboxMetrics}, served from a background refreshed snapshot.
+ */
+public final class SnapshotOutboxMetrics implements OutboxMetrics {
+
+    private final OutboxPublisherPropertiesHolder properties;
+    private final MeterRegistry registry;
+    private final GaugeSnapshotHolder<EventStatus> snapshot;
+    private final EventStatus [] statuses = new EventStatus[] {EventStatus.PENDING, EventStatus.IN_PROCESS};
+
+    public SnapshotOutboxMetrics(OutboxPublisherPropertiesHolder properties,
+                                 MeterRegistry registry,
+                                 GaugeSnapshotHolder<EventStatus> snapshot) {
+        this.properties = Objects.requireNonNull(properties, "properties cannot be null");
+        this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+        this.snapshot = Objects.requireNonNull(snapshot, "snapshot cannot be null");
+    }
+
+    @Override
+    public void register() {
+        Gauge.builder("outbox_events", snapshot, GaugeSnapshotHolder::count)
+                .description("Total number of outbox events")
+                .register(registry);
+
+        Arrays.stream(statuses).forEach(status ->
+                        Gauge.builder("outbox_events_by_status", snapshot,
+                                        s -> s.countByStatus(status))
+                                .description("Number of outbox events by status")
+                                .tag("status", status.name().toLowerCase())
+                                .register(registry)
+                );
+
+        properties.getEventHolders().keySet().forEach(type ->
+                Arrays.stream(statuses)
+                        .forEach(status ->
+                                Gauge.builder("outbox_events_by_event_type_and_status", snapshot,
+                                                s -> s.countByEventTypeAndStatus(type, status))
+                                        .description("Number of outbox events by type and status")
+                                        .tags("event_type", type, "status", status.name().toLowerCase())
+                                        .register(registry)
+                        )
+        );
+    }
+}
@@ -3,6 +3,8 @@ package io.github.dmitriyiliyov.oncebox.metrics.publisher.dlq;
 import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.DlqStatus;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public class MultiDialectOutboxDlqMetricsRepository implements OutboxDlqMetricsRepository {
@@ -33,4 +35,15 @@ public class MultiDialectOutboxDlqMetricsRepository implements OutboxDlqMetricsR
         Long count = jdbcTemplate.queryForObject(sql, Long.class, eventType, status.name());
         return count == null ? 0 : count;
     }
+
+    @Override
+    public Map<String, Map<DlqStatus, Long>> countGroupedByEventTypeAndStatus() {
+        String sql = "SELECT event_type, dlq_status, COUNT(*) FROM outbox_dlq_events GROUP BY event_type, dlq_status";
+        Map<String, Map<DlqStatus, Long>> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.computeIfAbsent(rs.getString(1), eventType -> new HashMap<>())
+                    .put(DlqStatus.fromString(rs.getString(2)), rs.getLong(3));
+        });
+        return counts;
+    }
 }
@@ -2,6 +2,8 @@ package io.github.dmitriyiliyov.oncebox.metrics.publisher.dlq;
 
 import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.DlqStatus;
 
+import java.util.Map;
+
 /**
  * DAO for retrieving DLQ event metrics.
  */
@@ -25,4 +27,11 @@ public interface OutboxDlqMetricsRepository {
      * @return          count of DLQ events matching the criteria.
      */
     long countByEventTypeAndStatus(String eventType, DlqStatus status);
+
+    /**
+     * Counts DLQ events of every event type and status in a single grouped scan.
+     *
+     * @return counts keyed by event type, then by status; pairs without events are absent.
+     */
+    Map<String, Map<DlqStatus, Long>> countGroupedByEventTypeAndStatus();
 }
@@ -0,0 +1,55 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher.dlq;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.DlqStatus;
+import io.github.dmitriyiliyov.oncebox.metrics.OutboxMetrics;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.GaugeSnapshotHolder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Registers the same gauges as {@link OutboxDlqMetrics}, served from a background refreshed snapshot.
+ */
+public final class SnapshotOutboxDlqMetrics implements OutboxMetrics {
+
+    private final OutboxPublisherPropertiesHolder properties;
+    private final MeterRegistry registry;
+    private final GaugeSnapshotHolder<DlqStatus> snapshot;
+    private final DlqStatus [] statuses = new DlqStatus[] {DlqStatus.MOVED, DlqStatus.IN_PROCESS, DlqStatus.TO_RETRY};
+
+    public SnapshotOutboxDlqMetrics(OutboxPublisherPropertiesHolder properties,
+                                    MeterRegistry registry,
+                                    GaugeSnapshotHolder<DlqStatus> snapshot) {
+        this.properties = Objects.requireNonNull(properties, "properties cannot be null");
+        this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+        this.snapshot = Objects.requireNonNull(snapshot, "snapshot cannot be null");
+    }
+
+    @Override
+    public void register() {
+        Gauge.builder("outbox_dlq_events", snapshot, GaugeSnapshotHolder::count)
+                .description("Total number of outbox DLQ events")
+                .register(registry);
+
+        Arrays.stream(statuses).forEach(status ->
+                        Gauge.builder("outbox_dlq_events_by_status", snapshot,
+                                        s -> s.countByStatus(status))
+                                .description("Number of outbox DLQ events by status")
+                                .tag("status", status.name().toLowerCase())
+                                .register(registry)
+                );
+
+        properties.getEventHolders().keySet().forEach(type ->
+                Arrays.stream(statuses).forEach(status ->
+                                Gauge.builder("outbox_dlq_events_by_event_type_and_status", snapshot,
+                                                s -> s.countByEventTypeAndStatus(type, status))
+                                        .description("Number of outbox DLQ events by type and status")
+                                        .tags("event_type", type, "status", status.name().toLowerCase())
+                                        .register(registry)
+                        )
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Holds the last grouped count of a table and serves gauge values from it.
+ * <p>
+ * The snapshot is replaced by {@link #refresh()}, typically from a background task, so that gauges never query the
+ * database on the scrape thread. Once the snapshot is older than {@code staleAfter}, or before the first refresh,
+ * every value is {@link Double#NaN}, which lets instances that did not refresh recently drop out of aggregations.
+ *
+ * @param <S> status type of the counted events.
+ */
+public final class GaugeSnapshotHolder<S extends Enum<S>> {
+
+    private final Class<S> statusType;
+    private final Supplier<Map<String, Map<S, Long>>> query;
+    private final Duration staleAfter;
+    private final Clock clock;
+    private volatile Snapshot<S> snapshot;
+
+    public GaugeSnapshotHolder(Class<S> statusType,
+                               Supplier<Map<String, Map<S, Long>>> query,
+                               Duration staleAfter,
+                               Clock clock) {
+        this.statusType = Objects.requireNonNull(statusType, "statusType cannot be null");
+        this.query = Objects.requireNonNull(query, "query cannot be null");
+        this.staleAfter = Objects.requireNonNull(staleAfter, "staleAfter cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    /**
+     * Runs the grouped count and replaces the snapshot with its result.
+     */
+    public void refresh() {
+        Map<String, Map<S, Long>> byEventTypeAndStatus = query.get();
+        Map<S, Long> byStatus = new EnumMap<>(statusType);
+        long total = 0;
+        for (Map<S, Long> counts : byEventTypeAndStatus.values()) {
+            for (Map.Entry<S, Long> entry : counts.entrySet()) {
+                byStatus.merge(entry.getKey(), entry.getValue(), Long::sum);
+                total += entry.getValue();
+            }
+        }
+        snapshot = new Snapshot<>(total, byStatus, byEventTypeAndStatus, clock.instant());
+    }
+
+    public double count() {
+        Snapshot<S> current = fresh();
+        return current == null ? Double.NaN : current.total();
+    }
+
+    public double countByStatus(S status) {
+        Snapshot<S> current = fresh();
+        return current == null ? Double.NaN : current.byStatus().getOrDefault(status, 0L);
+    }
+
+    public double countByEventTypeAndStatus(String eventType, S status) {
+        Snapshot<S> current = fresh();
+        return current == null
+                ? Double.NaN
+                : current.byEventTypeAndStatus().getOrDefault(eventType, Map.of()).getOrDefault(status, 0L);
+    }
+
+    private Snapshot<S> fresh() {
+        Snapshot<S> current = snapshot;
+        if (current == null || current.takenAt().plus(staleAfter).isBefore(clock.instant())) {
+            return null;
+        }
+        return current;
+    }
+
+    private record Snapshot<S>(
+            long total,
+            Map<S, Long> byStatus,
+            Map<String, Map<S, Long>> byEventTypeAndStatus,
+            Instant takenAt
+    ) {}
+}
@@ -0,0 +1,44 @@
+package io.github.dmitriyiliyov.oncebox.metrics.consumer;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.RotatingBloomConsumedOutboxFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConsumedOutboxFilterMetricsUnitTests {
+
+    private final RotatingBloomConsumedOutboxFilter filter = new RotatingBloomConsumedOutboxFilter(
+            1_000, 0.01, Duration.ofHours(1), 4, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC)
+    );
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when registry is null")
+    void constructor_shouldThrowNPE_whenRegistryIsNull() {
+        assertThrows(NullPointerException.class, () -> new ConsumedOutboxFilterMetrics(null, filter));
+    }
+
+    @Test
+    @DisplayName("UT register() should expose filter memory, false positive rate and load state")
+    void register_shouldExposeFilterGauges() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new ConsumedOutboxFilterMetrics(registry, filter).register();
+
+        assertThat(registry.get("consumed_outbox_filter_memory_bytes").gauge().value())
+                .isEqualTo(filter.getMemoryBytes());
+        assertThat(registry.get("consumed_outbox_filter_false_positive_rate").gauge().value()).isZero();
+        assertThat(registry.get("consumed_outbox_filter_loaded").gauge().value()).isZero();
+
+        filter.markLoaded();
+
+        assertThat(registry.get("consumed_outbox_filter_loaded").gauge().value()).isEqualTo(1);
+    }
+}
@@ -184,4 +184,15 @@ class ConsumedOutboxManagerMetricsDecoratorUnitTests {
         Mockito.verify(delegate).cleanBatchByTtl(ttl, batchSize);
         Mockito.verify(cleanedCounter).increment(0.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UT supportsIdRangeCleanUp() should delegate")
+    void supportsIdRangeCleanUp_shouldDelegate() {
+        Mockito.when(delegate.supportsIdRangeCleanUp()).thenReturn(true);
+
+        boolean result = decorator.supportsIdRangeCleanUp();
+
+        Assertions.assertThat(result).isTrue();
+        Mockito.verify(delegate).supportsIdRangeCleanUp();
+    }
+}
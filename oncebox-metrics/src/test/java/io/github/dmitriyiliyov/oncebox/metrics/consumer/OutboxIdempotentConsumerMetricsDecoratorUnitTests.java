@@ -4,6 +4,10 @@ import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventIdExtractor;
 import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,11 +17,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
@@ -105,4 +112,40 @@ class OutboxIdempotentConsumerMetricsDecoratorUnitTests {
         assertThrows(RuntimeException.class, () -> tested.consume(messages, extractor, consumer));
         Mockito.verify(fails).increment(3.0);
     }
+
+    @Test
+    @DisplayName("UT consume(T, Extractor, Consumer) with created at extractor should record consumer lag")
+    void consumeTExtractorConsumer_withCreatedAtExtractor_shouldRecordLag() {
+        MockClock clock = new MockClock();
+        SimpleMeterRegistry simpleRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        Instant createdAt = Instant.ofEpochMilli(clock.wallTime()).minusMillis(1500);
+        tested = new OutboxIdempotentConsumerMetricsDecorator(simpleRegistry, delegate, m -> createdAt);
+        OutboxEventIdExtractor<String> extractor = m -> UUID.randomUUID();
+        Consumer<String> consumer = m -> {};
+
+        tested.consume("msg", extractor, consumer);
+
+        Timer lag = simpleRegistry.get("outbox_event_consumer_lag").timer();
+        assertEquals(1, lag.count());
+        assertEquals(1500.0, lag.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("UT consume(List<T>, Extractor, Consumer) should skip lag for messages without creation time")
+    void consumeListExtractorConsumer_shouldSkipLagWithoutCreatedAt() {
+        MockClock clock = new MockClock();
+        SimpleMeterRegistry simpleRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        Instant createdAt = Instant.ofEpochMilli(clock.wallTime()).minusMillis(200);
+        tested = new OutboxIdempotentConsumerMetricsDecorator(
+                simpleRegistry, delegate, m -> "with-header".equals(m) ? createdAt : null
+        );
+        OutboxEventIdExtractor<String> extractor = m -> UUID.randomUUID();
+        Consumer<List<String>> consumer = m -> {};
+
+        tested.consume(List.of("with-header", "without-header"), extractor, consumer);
+
+        Timer lag = simpleRegistry.get("outbox_event_consumer_lag").timer();
+        assertEquals(1, lag.count());
+        assertEquals(200.0, lag.totalTime(TimeUnit.MILLISECONDS));
+    }
 }
@@ -0,0 +1,176 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstimatedOutboxMetricsServiceUnitTests {
+
+    static final Duration RECONCILE_INTERVAL = Duration.ofMinutes(5);
+    static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    OutboxMetricsRepository repository;
+
+    @Mock
+    Clock clock;
+
+    EstimatedOutboxMetricsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EstimatedOutboxMetricsService(repository, RECONCILE_INTERVAL, clock);
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when repository is null")
+    void constructor_shouldThrowNPE_whenRepositoryIsNull() {
+        assertThrows(NullPointerException.class, () -> new EstimatedOutboxMetricsService(null, RECONCILE_INTERVAL, clock));
+    }
+
+    @Test
+    @DisplayName("UT count() should use estimate instead of exact count")
+    void count_shouldUseEstimate() {
+        // given
+        when(repository.estimateCount()).thenReturn(50_000_000L);
+
+        // when
+        long result = service.count();
+
+        // then
+        assertThat(result).isEqualTo(50_000_000L);
+        verify(repository, never()).count();
+    }
+
+    @Test
+    @DisplayName("UT countByEventTypeAndStatus() should reconcile once per interval with single grouped scan")
+    void countByEventTypeAndStatus_shouldReconcileOncePerInterval() {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(60), NOW.plus(RECONCILE_INTERVAL));
+        when(repository.countGroupedByEventTypeAndStatus()).thenReturn(
+                Map.of("order", Map.of(EventStatus.PENDING, 10L, EventStatus.IN_PROCESS, 2L))
+        );
+
+        // when
+        long first = service.countByEventTypeAndStatus("order", EventStatus.PENDING);
+        long second = service.countByEventTypeAndStatus("order", EventStatus.IN_PROCESS);
+        service.countByEventTypeAndStatus("order", EventStatus.PENDING);
+
+        // then
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(2L);
+        verify(repository, times(2)).countGroupedByEventTypeAndStatus();
+        verify(repository, never()).countByEventTypeAndStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("UT observed transitions should move counts between reconciliations")
+    void transitions_shouldMoveCountsBetweenReconciliations() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.countGroupedByEventTypeAndStatus()).thenReturn(
+                Map.of("order", Map.of(EventStatus.PENDING, 10L))
+        );
+        service.countByStatus(EventStatus.PENDING);
+
+        // when
+        service.onSaved("order", 5);
+        service.onClaimed("order", 8);
+        service.onFinalized("order", 5, 2, 1);
+
+        // then
+        assertThat(service.countByEventTypeAndStatus("order", EventStatus.PENDING)).isEqualTo(9L);
+        assertThat(service.countByEventTypeAndStatus("order", EventStatus.IN_PROCESS)).isEqualTo(0L);
+        assertThat(service.countByEventTypeAndStatus("order", EventStatus.PROCESSED)).isEqualTo(5L);
+        assertThat(service.countByEventTypeAndStatus("order", EventStatus.FAILED)).isEqualTo(1L);
+        verify(repository, times(1)).countGroupedByEventTypeAndStatus();
+    }
+
+    @Test
+    @DisplayName("UT reconciliation should overwrite drifted counts and reset types without rows")
+    void reconciliation_shouldOverwriteDriftedCounts() {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW.plus(RECONCILE_INTERVAL));
+        when(repository.countGroupedByEventTypeAndStatus()).thenReturn(
+                Map.of("order", Map.of(EventStatus.PENDING, 3L)),
+                Map.of("order", Map.of(EventStatus.PENDING, 1L))
+        );
+        service.countByStatus(EventStatus.PENDING);
+        service.onSaved("order", 100);
+        service.onSaved("payment", 4);
+
+        // when
+        long order = service.countByEventTypeAndStatus("order", EventStatus.PENDING);
+
+        // then
+        assertThat(order).isEqualTo(1L);
+        assertThat(service.countByEventTypeAndStatus("payment", EventStatus.PENDING)).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("UT countByStatus() should sum counts of all event types")
+    void countByStatus_shouldSumEventTypes() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.countGroupedByEventTypeAndStatus()).thenReturn(Map.of(
+                "order", Map.of(EventStatus.PENDING, 3L),
+                "payment", Map.of(EventStatus.PENDING, 4L, EventStatus.FAILED, 1L)
+        ));
+
+        // when
+        long result = service.countByStatus(EventStatus.PENDING);
+
+        // then
+        assertThat(result).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("UT counts should not go negative when transitions outrun reconciliation")
+    void counts_shouldNotGoNegative() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        when(repository.countGroupedByEventTypeAndStatus()).thenReturn(Map.of());
+
+        // when
+        service.onClaimed("order", 3);
+
+        // then
+        assertThat(service.countByEventTypeAndStatus("order", EventStatus.PENDING)).isEqualTo(0L);
+        assertThat(service.countByStatus(EventStatus.PENDING)).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("UT failed reconciliation should keep in-process counts and retry after interval")
+    void failedReconciliation_shouldKeepCountsAndRetryAfterInterval() {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(1), NOW.plus(RECONCILE_INTERVAL));
+        when(repository.countGroupedByEventTypeAndStatus())
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(Map.of("order", Map.of(EventStatus.PENDING, 42L)));
+        service.onSaved("order", 2);
+
+        // when
+        long duringOutage = service.countByEventTypeAndStatus("order", EventStatus.PENDING);
+        long beforeRetry = service.countByEventTypeAndStatus("order", EventStatus.PENDING);
+        long afterRetry = service.countByEventTypeAndStatus("order", EventStatus.PENDING);
+
+        // then
+        assertThat(duringOutage).isEqualTo(2L);
+        assertThat(beforeRetry).isEqualTo(2L);
+        assertThat(afterRetry).isEqualTo(42L);
+    }
+}
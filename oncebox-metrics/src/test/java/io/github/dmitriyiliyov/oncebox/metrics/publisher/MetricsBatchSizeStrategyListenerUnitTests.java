@@ -0,0 +1,54 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsBatchSizeStrategyListenerUnitTests {
+
+    SimpleMeterRegistry registry;
+    MetricsBatchSizeStrategyListener tested;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tested = new MetricsBatchSizeStrategyListener("test_event", registry);
+    }
+
+    private Gauge findGauge() {
+        return registry.find("outbox_batch_size").tag("event_type", "test_event").gauge();
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when eventType is null")
+    void constructor_shouldThrowNPE_whenEventTypeIsNull() {
+        assertThrows(NullPointerException.class, () -> new MetricsBatchSizeStrategyListener(null, registry));
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw IAE when eventType is blank")
+    void constructor_shouldThrowIAE_whenEventTypeIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> new MetricsBatchSizeStrategyListener("   ", registry));
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when registry is null")
+    void constructor_shouldThrowNPE_whenRegistryIsNull() {
+        assertThrows(NullPointerException.class, () -> new MetricsBatchSizeStrategyListener("test_event", null));
+    }
+
+    @Test
+    @DisplayName("UT onBatchSizeChanged() should update gauge value")
+    void onBatchSizeChanged_shouldUpdateGauge() {
+        assertNotNull(findGauge());
+        assertEquals(0.0, findGauge().value());
+
+        tested.onBatchSizeChanged(120);
+
+        assertEquals(120.0, findGauge().value());
+    }
+}
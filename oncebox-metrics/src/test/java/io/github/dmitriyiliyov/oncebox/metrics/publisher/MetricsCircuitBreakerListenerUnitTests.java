@@ -0,0 +1,50 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.CircuitState;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsCircuitBreakerListenerUnitTests {
+
+    SimpleMeterRegistry registry;
+    MetricsCircuitBreakerListener tested;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tested = new MetricsCircuitBreakerListener("orders", registry);
+    }
+
+    private Gauge findGauge() {
+        return registry.find("outbox_circuit_breaker_state").tag("topic", "orders").gauge();
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when topic is null")
+    void constructor_shouldThrowNPE_whenTopicIsNull() {
+        assertThrows(NullPointerException.class, () -> new MetricsCircuitBreakerListener(null, registry));
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw IAE when topic is blank")
+    void constructor_shouldThrowIAE_whenTopicIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> new MetricsCircuitBreakerListener("  ", registry));
+    }
+
+    @Test
+    @DisplayName("UT onStateChanged() should update gauge value")
+    void onStateChanged_shouldUpdateGauge() {
+        assertEquals(0.0, findGauge().value());
+
+        tested.onStateChanged(CircuitState.OPEN);
+        assertEquals(1.0, findGauge().value());
+
+        tested.onStateChanged(CircuitState.HALF_OPEN);
+        assertEquals(2.0, findGauge().value());
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsDispatchListenerUnitTests {
+
+    SimpleMeterRegistry registry;
+    MetricsDispatchListener tested;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tested = new MetricsDispatchListener("test_event", registry);
+    }
+
+    private Timer findTimer() {
+        return registry.find("outbox_dispatch_queueing_delay").tag("event_type", "test_event").timer();
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when eventType is null")
+    void constructor_shouldThrowNPE_whenEventTypeIsNull() {
+        assertThrows(NullPointerException.class, () -> new MetricsDispatchListener(null, registry));
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw IAE when eventType is blank")
+    void constructor_shouldThrowIAE_whenEventTypeIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> new MetricsDispatchListener("   ", registry));
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when registry is null")
+    void constructor_shouldThrowNPE_whenRegistryIsNull() {
+        assertThrows(NullPointerException.class, () -> new MetricsDispatchListener("test_event", null));
+    }
+
+    @Test
+    @DisplayName("UT onDispatched() should record queueing delay")
+    void onDispatched_shouldRecordTimer() {
+        tested.onDispatched(Duration.ofMillis(250));
+
+        assertEquals(1, findTimer().count());
+        assertEquals(250.0, findTimer().totalTime(TimeUnit.MILLISECONDS));
+    }
+}
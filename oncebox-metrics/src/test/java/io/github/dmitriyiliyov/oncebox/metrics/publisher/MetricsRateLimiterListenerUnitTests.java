@@ -0,0 +1,69 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRateLimiterListenerUnitTests {
+
+    SimpleMeterRegistry registry;
+    MetricsRateLimiterListener tested;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        tested = new MetricsRateLimiterListener("test_event", registry);
+    }
+
+    private Gauge findGauge() {
+        return registry.find("outbox_rate_limit_available_permits").tag("event_type", "test_event").gauge();
+    }
+
+    private Timer findTimer() {
+        return registry.find("outbox_rate_limit_throttled_duration").tag("event_type", "test_event").timer();
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when eventType is null")
+    void constructor_shouldThrowNPE_whenEventTypeIsNull() {
+        assertThrows(NullPointerException.class, () -> new MetricsRateLimiterListener(null, registry));
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw IAE when eventType is blank")
+    void constructor_shouldThrowIAE_whenEventTypeIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> new MetricsRateLimiterListener("   ", registry));
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when registry is null")
+    void constructor_shouldThrowNPE_whenRegistryIsNull() {
+        assertThrows(NullPointerException.class, () -> new MetricsRateLimiterListener("test_event", null));
+    }
+
+    @Test
+    @DisplayName("UT onAcquired() should update available permits gauge")
+    void onAcquired_shouldUpdateGauge() {
+        tested.onAcquired(100, 100, 42.5, Duration.ZERO);
+
+        assertEquals(42.5, findGauge().value());
+        assertEquals(0, findTimer().count());
+    }
+
+    @Test
+    @DisplayName("UT onAcquired() should record throttled time when throttled")
+    void onAcquired_whenThrottled_shouldRecordTimer() {
+        tested.onAcquired(100, 20, 0.0, Duration.ofMillis(800));
+
+        assertEquals(1, findTimer().count());
+        assertEquals(800.0, findTimer().totalTime(TimeUnit.MILLISECONDS));
+    }
+}
@@ -8,9 +8,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -136,4 +144,33 @@ class MultiDialectOutboxMetricsRepositoryUnitTests {
 
         assertThat(result).isEqualTo(0L);
     }
+
+    @Test
+    @DisplayName("UT countGroupedByEventTypeAndStatus() should group counts by event type and status in one query")
+    void countGroupedByEventTypeAndStatus_shouldGroupRows() throws Exception {
+        // given
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn("order", "order", "payment");
+        when(rs.getString(2)).thenReturn("PENDING", "PROCESSED", "PENDING");
+        when(rs.getLong(3)).thenReturn(5L, 10L, 2L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(
+                eq("SELECT event_type, status, COUNT(*) FROM outbox_events GROUP BY event_type, status"),
+                any(RowCallbackHandler.class)
+        );
+
+        // when
+        Map<String, Map<EventStatus, Long>> result = repository.countGroupedByEventTypeAndStatus();
+
+        // then
+        assertThat(result).isEqualTo(Map.of(
+                "order", Map.of(EventStatus.PENDING, 5L, EventStatus.PROCESSED, 10L),
+                "payment", Map.of(EventStatus.PENDING, 2L)
+        ));
+    }
 }
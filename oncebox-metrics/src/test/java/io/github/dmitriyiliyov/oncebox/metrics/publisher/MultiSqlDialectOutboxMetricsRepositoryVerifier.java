@@ -6,6 +6,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +40,18 @@ class MultiSqlDialectOutboxMetricsRepositoryVerifier {
         assertThat(repository.count()).isEqualTo(3L);
     }
 
+    void countGroupedByEventTypeAndStatus_returnsCountsPerTypeAndStatus() {
+        insertEvent(EventStatus.PENDING, "ORDER_CREATED");
+        insertEvent(EventStatus.PENDING, "ORDER_CREATED");
+        insertEvent(EventStatus.PROCESSED, "ORDER_CREATED");
+        insertEvent(EventStatus.FAILED, "PAYMENT_CREATED");
+
+        assertThat(repository.countGroupedByEventTypeAndStatus()).isEqualTo(Map.of(
+                "ORDER_CREATED", Map.of(EventStatus.PENDING, 2L, EventStatus.PROCESSED, 1L),
+                "PAYMENT_CREATED", Map.of(EventStatus.FAILED, 1L)
+        ));
+    }
+
     void countByStatus_noEvents_returnsZero() {
         assertThat(repository.countByStatus(EventStatus.PENDING)).isEqualTo(0L);
     }
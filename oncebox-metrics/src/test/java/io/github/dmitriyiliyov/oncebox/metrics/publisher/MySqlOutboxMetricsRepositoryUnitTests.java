@@ -0,0 +1,56 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MySqlOutboxMetricsRepositoryUnitTests {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    MySqlOutboxMetricsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MySqlOutboxMetricsRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("UT estimateCount() should read information_schema.TABLES statistics")
+    void estimateCount_shouldReadStatistics() {
+        // given
+        when(jdbcTemplate.query(contains("information_schema.TABLES"), ArgumentMatchers.<ResultSetExtractor<Long>>any())).thenReturn(50_000_000L);
+
+        // when
+        long result = repository.estimateCount();
+
+        // then
+        assertThat(result).isEqualTo(50_000_000L);
+        verify(jdbcTemplate, never()).queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class);
+    }
+
+    @Test
+    @DisplayName("UT estimateCount() should fall back to exact count when statistics are missing")
+    void estimateCount_shouldFallBackToCount_whenStatisticsMissing() {
+        // given
+        when(jdbcTemplate.query(contains("information_schema.TABLES"), ArgumentMatchers.<ResultSetExtractor<Long>>any())).thenReturn(null);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class)).thenReturn(7L);
+
+        // when
+        long result = repository.estimateCount();
+
+        // then
+        assertThat(result).isEqualTo(7L);
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTask;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
+import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
+import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
+import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.GaugeSnapshotHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxGaugeRefreshSchedulerUnitTests {
+
+    @Mock
+    OutboxScheduleStrategy strategy;
+
+    @Mock
+    GaugeSnapshotHolder<?> outboxSnapshot;
+
+    @Mock
+    GaugeSnapshotHolder<?> dlqSnapshot;
+
+    @Mock
+    DistributedLockRepository lock;
+
+    @Mock
+    ContinuableTaskDecorator decorator;
+
+    OutboxGaugeRefreshScheduler tested;
+
+    private final UUID workerId = UUID.randomUUID();
+    private final String jobName = OutboxJob.OUTBOX_GAUGE_REFRESH.getJobName();
+
+    @BeforeEach
+    void setUp() {
+        tested = new OutboxGaugeRefreshScheduler(workerId, strategy, List.of(outboxSnapshot, dlqSnapshot), lock, decorator);
+    }
+
+    @Test
+    @DisplayName("UT constructor when lock is null should throw NullPointerException")
+    void constructor_whenLockIsNull_shouldThrowNullPointerException() {
+        assertThatThrownBy(() -> new OutboxGaugeRefreshScheduler(workerId, strategy, List.of(), null, decorator))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("lock cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT schedule() when lock not acquired should not refresh snapshots")
+    void schedule_whenLockNotAcquired_shouldNotRefresh() {
+        // given
+        when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
+        when(lock.tryLock(jobName, workerId)).thenReturn(false);
+
+        // when
+        tested.schedule();
+        boolean result = captureAndRun();
+
+        // then
+        assertFalse(result);
+        verifyNoInteractions(outboxSnapshot, dlqSnapshot);
+        verify(lock, never()).unlock(any(), any());
+    }
+
+    @Test
+    @DisplayName("UT schedule() when lock acquired should refresh every snapshot and unlock")
+    void schedule_whenLockAcquired_shouldRefreshAllAndUnlock() {
+        // given
+        when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
+        when(lock.tryLock(jobName, workerId)).thenReturn(true);
+
+        // when
+        tested.schedule();
+        boolean result = captureAndRun();
+
+        // then
+        assertFalse(result);
+        verify(outboxSnapshot).refresh();
+        verify(dlqSnapshot).refresh();
+        verify(lock).unlock(jobName, workerId);
+    }
+
+    @Test
+    @DisplayName("UT schedule() when one refresh fails should still refresh others and unlock")
+    void schedule_whenOneRefreshFails_shouldRefreshOthersAndUnlock() {
+        // given
+        when(decorator.decorate(any(ContinuableTask.class))).then(returnsFirstArg());
+        when(lock.tryLock(jobName, workerId)).thenReturn(true);
+        doThrow(new RuntimeException("db down")).when(outboxSnapshot).refresh();
+
+        // when
+        tested.schedule();
+        captureAndRun();
+
+        // then
+        verify(dlqSnapshot).refresh();
+        verify(lock).unlock(jobName, workerId);
+    }
+
+    private boolean captureAndRun() {
+        ArgumentCaptor<ContinuableTask> captor = ArgumentCaptor.forClass(ContinuableTask.class);
+        verify(strategy).scheduleExecution(captor.capture());
+        return captor.getValue().run();
+    }
+}
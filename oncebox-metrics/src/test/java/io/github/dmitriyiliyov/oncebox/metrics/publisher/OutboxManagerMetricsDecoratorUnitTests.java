@@ -5,6 +5,9 @@ import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,9 +19,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class OutboxManagerMetricsDecoratorUnitTests {
@@ -114,6 +119,32 @@ public class OutboxManagerMetricsDecoratorUnitTests {
         assertEquals(0, processedCounter.count(), "Processed counter should not be incremented");
     }
 
+    @Test
+    @DisplayName("UT count listener should receive saves, claims and finalization outcomes per event type")
+    void countListener_shouldReceiveTransitions() {
+        // given
+        OutboxEventCountListener listener = mock(OutboxEventCountListener.class);
+        tested = new OutboxManagerMetricsDecorator(properties, registry, outboxManager, listener);
+        OutboxEvent processed = new OutboxEvent(UUID.randomUUID(), "test-event-type", "payloadType", "{}", Instant.now());
+        OutboxEvent retried = new OutboxEvent(UUID.randomUUID(), "test-event-type", "payloadType", "{}", Instant.now());
+        OutboxEvent failed = new OutboxEvent(UUID.randomUUID(), EventStatus.IN_PROCESS, "test-event-type", "payloadType",
+                "{}", 4, Instant.now(), Instant.now(), Instant.now());
+        List<OutboxEvent> events = List.of(processed, retried, failed);
+        when(outboxManager.loadBatch("test-event-type", 10)).thenReturn(events);
+
+        // when
+        tested.save(processed);
+        tested.saveBatch(List.of(retried, failed));
+        tested.loadBatch("test-event-type", 10);
+        tested.finalizeBatch(events, Set.of(processed.getId()), Set.of(retried.getId(), failed.getId()), 5, retry -> Instant.now());
+
+        // then
+        verify(listener).onSaved("test-event-type", 1);
+        verify(listener).onSaved("test-event-type", 2);
+        verify(listener).onClaimed("test-event-type", 3);
+        verify(listener).onFinalized("test-event-type", 1, 1, 1);
+    }
+
     @Test
     @DisplayName("UT loadBatch(status, batchSize) should delegate and increment attempt counter")
     void loadBatch_shouldDelegateAndIncrementAttemptCounter() {
@@ -150,6 +181,84 @@ public class OutboxManagerMetricsDecoratorUnitTests {
         assertEquals(5.0, recoveredCounter.count());
     }
 
+    @Test
+    @DisplayName("UT extendLeases() should delegate")
+    void extendLeases_shouldDelegate() {
+        // given
+        Set<UUID> ids = Set.of(UUID.randomUUID());
+        when(outboxManager.extendLeases(ids)).thenReturn(1);
+
+        // when
+        int extended = tested.extendLeases(ids);
+
+        // then
+        assertEquals(1, extended);
+        verify(outboxManager).extendLeases(ids);
+    }
+
+    @Test
+    @DisplayName("UT releaseLeases() should delegate and increment released counter")
+    void releaseLeases_shouldDelegateAndIncrementReleasedCounter() {
+        // given
+        when(outboxManager.releaseLeases()).thenReturn(3);
+
+        // when
+        tested.releaseLeases();
+
+        // then
+        verify(outboxManager).releaseLeases();
+        Counter releasedCounter = registry.get("outbox_events_by_action_type_rate_total")
+                .tag("action_type", "released")
+                .counter();
+        assertEquals(3.0, releasedCounter.count());
+    }
+
+    @Test
+    @DisplayName("UT supportsRelease() should delegate")
+    void supportsRelease_shouldDelegate() {
+        // given
+        when(outboxManager.supportsRelease()).thenReturn(true);
+
+        // when
+        boolean result = tested.supportsRelease();
+
+        // then
+        assertTrue(result);
+        verify(outboxManager).supportsRelease();
+    }
+
+    @Test
+    @DisplayName("UT supportsIdRangeCleanUp() should delegate")
+    void supportsIdRangeCleanUp_shouldDelegate() {
+        // given
+        when(outboxManager.supportsIdRangeCleanUp()).thenReturn(true);
+
+        // when
+        boolean result = tested.supportsIdRangeCleanUp();
+
+        // then
+        assertTrue(result);
+        verify(outboxManager).supportsIdRangeCleanUp();
+    }
+
+    @Test
+    @DisplayName("UT releaseBatch() should delegate and increment released counter")
+    void releaseBatch_shouldDelegateAndIncrementReleasedCounter() {
+        // given
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(outboxManager.releaseBatch(ids)).thenReturn(2);
+
+        // when
+        tested.releaseBatch(ids);
+
+        // then
+        verify(outboxManager).releaseBatch(ids);
+        Counter releasedCounter = registry.get("outbox_events_by_action_type_rate_total")
+                .tag("action_type", "released")
+                .counter();
+        assertEquals(2.0, releasedCounter.count());
+    }
+
     @Test
     @DisplayName("UT deleteProcessedBatch() should delegate and increment cleaned counter")
     void deleteProcessedBatch_shouldDelegateAndIncrementCleanedCounter() {
@@ -185,4 +294,64 @@ public class OutboxManagerMetricsDecoratorUnitTests {
                 .counter();
         assertEquals(1.0, successMovedCounter.count());
     }
+
+    @Test
+    @DisplayName("UT loadBatch() should record publish to claim latency from created_at and updated_at")
+    void loadBatch_shouldRecordPublishToClaimLatency() {
+        // given
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+        OutboxEvent event = new OutboxEvent(
+                UUID.randomUUID(), EventStatus.IN_PROCESS, "test-event-type", "payloadType", "{}",
+                0, createdAt, createdAt, createdAt.plusMillis(250)
+        );
+        when(outboxManager.loadBatch("test-event-type", 10)).thenReturn(List.of(event));
+
+        // when
+        tested.loadBatch("test-event-type", 10);
+
+        // then
+        Timer timer = registry.get("outbox_event_latency")
+                .tag("event_type", "test-event-type")
+                .tag("stage", "publish_to_claim")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(250.0, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("UT finalizeBatch() should record claim to ack and age at ack latency only for processed events")
+    void finalizeBatch_shouldRecordAckLatencyForProcessedEvents() {
+        // given
+        MockClock clock = new MockClock();
+        SimpleMeterRegistry clockRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        OutboxManagerMetricsDecorator decorator = new OutboxManagerMetricsDecorator(properties, clockRegistry, outboxManager);
+        Instant now = Instant.ofEpochMilli(clock.wallTime());
+        OutboxEvent processed = new OutboxEvent(
+                UUID.randomUUID(), EventStatus.IN_PROCESS, "test-event-type", "payloadType", "{}",
+                0, now, now.minusSeconds(3), now.minusSeconds(1)
+        );
+        OutboxEvent failed = new OutboxEvent(
+                UUID.randomUUID(), EventStatus.IN_PROCESS, "test-event-type", "payloadType", "{}",
+                0, now, now.minusSeconds(3), now.minusSeconds(1)
+        );
+
+        // when
+        decorator.finalizeBatch(
+                List.of(processed, failed), Set.of(processed.getId()), Set.of(failed.getId()), 5, retry -> now
+        );
+
+        // then
+        Timer claimToAck = clockRegistry.get("outbox_event_latency")
+                .tag("event_type", "test-event-type")
+                .tag("stage", "claim_to_ack")
+                .timer();
+        Timer ageAtAck = clockRegistry.get("outbox_event_latency")
+                .tag("event_type", "test-event-type")
+                .tag("stage", "age_at_ack")
+                .timer();
+        assertEquals(1, claimToAck.count());
+        assertEquals(1000.0, claimToAck.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, ageAtAck.count());
+        assertEquals(3000.0, ageAtAck.totalTime(TimeUnit.MILLISECONDS));
+    }
 }
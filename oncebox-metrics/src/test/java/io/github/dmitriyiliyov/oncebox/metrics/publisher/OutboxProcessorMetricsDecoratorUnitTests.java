@@ -0,0 +1,96 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxBatchListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxProcessor;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingStage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class OutboxProcessorMetricsDecoratorUnitTests {
+
+    SimpleMeterRegistry registry;
+    OutboxProcessor delegate;
+    OutboxPublisherPropertiesHolder.EventPropertiesHolder properties;
+    OutboxProcessorMetricsDecorator tested;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        delegate = mock(OutboxProcessor.class);
+        properties = mock(OutboxPublisherPropertiesHolder.EventPropertiesHolder.class);
+        when(properties.getEventType()).thenReturn("test-event-type");
+        tested = new OutboxProcessorMetricsDecorator(registry, delegate);
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when delegate is null")
+    void constructor_shouldThrowNPE_whenDelegateIsNull() {
+        assertThatThrownBy(() -> new OutboxProcessorMetricsDecorator(registry, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("delegate cannot be null");
+    }
+
+    @Test
+    @DisplayName("UT process() should publish stages and statements recorded during the cycle")
+    void process_shouldPublishRecordedCycle() {
+        // given
+        when(delegate.process(properties, 10, OutboxBatchListener.NOOP)).thenAnswer(invocation -> {
+            OutboxProcessingCycle.recordStage(OutboxProcessingStage.LOAD, TimeUnit.MILLISECONDS.toNanos(5));
+            OutboxProcessingCycle.recordStatement();
+            OutboxProcessingCycle.recordRows(10);
+            OutboxProcessingCycle.recordStage(OutboxProcessingStage.FINALIZE_PROCESSED, TimeUnit.MILLISECONDS.toNanos(2));
+            OutboxProcessingCycle.recordStatement();
+            OutboxProcessingCycle.recordRows(10);
+            return 10;
+        });
+
+        // when
+        int processed = tested.process(properties, 10, OutboxBatchListener.NOOP);
+
+        // then
+        assertThat(processed).isEqualTo(10);
+        Timer load = registry.get("outbox_processing_stage_duration")
+                .tag("event_type", "test-event-type")
+                .tag("stage", "load")
+                .timer();
+        Timer send = registry.get("outbox_processing_stage_duration")
+                .tag("event_type", "test-event-type")
+                .tag("stage", "send")
+                .timer();
+        assertThat(load.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+        assertThat(send.count()).isZero();
+        assertThat(registry.get("outbox_jdbc_statements_total").tag("event_type", "test-event-type").counter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("outbox_jdbc_rows_total").tag("event_type", "test-event-type").counter().count())
+                .isEqualTo(20.0);
+        assertThat(OutboxProcessingCycle.end()).isNull();
+    }
+
+    @Test
+    @DisplayName("UT process() when delegate throws should still publish and detach the cycle")
+    void process_whenDelegateThrows_shouldPublishAndDetachCycle() {
+        // given
+        when(delegate.process(properties)).thenAnswer(invocation -> {
+            OutboxProcessingCycle.recordStatement();
+            OutboxProcessingCycle.recordRows(3);
+            throw new IllegalStateException("boom");
+        });
+
+        // when + then
+        assertThatThrownBy(() -> tested.process(properties)).isInstanceOf(IllegalStateException.class);
+        assertThat(registry.get("outbox_jdbc_statements_total").tag("event_type", "test-event-type").counter().count())
+                .isEqualTo(1.0);
+        assertThat(OutboxProcessingCycle.end()).isNull();
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.GaugeSnapshotHolder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotOutboxMetricsUnitTests {
+
+    @Mock
+    OutboxPublisherPropertiesHolder properties;
+
+    SimpleMeterRegistry registry;
+
+    GaugeSnapshotHolder<EventStatus> snapshot;
+
+    SnapshotOutboxMetrics tested;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        lenient().when(properties.getEventHolders()).thenReturn(Map.of(
+                "test-event", mock(OutboxPublisherPropertiesHolder.EventPropertiesHolder.class)
+        ));
+        snapshot = new GaugeSnapshotHolder<>(
+                EventStatus.class,
+                () -> Map.of("test-event", Map.of(EventStatus.PENDING, 7L, EventStatus.PROCESSED, 3L)),
+                Duration.ofMinutes(1),
+                Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC)
+        );
+        tested = new SnapshotOutboxMetrics(properties, registry, snapshot);
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when snapshot is null")
+    void constructor_shouldThrowNPE_whenSnapshotIsNull() {
+        assertThrows(NullPointerException.class, () -> new SnapshotOutboxMetrics(properties, registry, null));
+    }
+
+    @Test
+    @DisplayName("UT register() should serve gauges from snapshot without querying on scrape")
+    void register_shouldServeGaugesFromSnapshot() {
+        // given
+        tested.register();
+
+        // when
+        snapshot.refresh();
+
+        // then
+        assertThat(registry.get("outbox_events").gauge().value()).isEqualTo(10.0);
+        assertThat(registry.get("outbox_events_by_status").tag("status", "pending").gauge().value()).isEqualTo(7.0);
+        Gauge byType = registry.get("outbox_events_by_event_type_and_status")
+                .tags("event_type", "test-event", "status", "in_process")
+                .gauge();
+        assertThat(byType.value()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("UT register() gauges should report NaN before first refresh")
+    void register_gaugesShouldBeNaN_beforeFirstRefresh() {
+        // when
+        tested.register();
+
+        // then
+        assertThat(registry.get("outbox_events").gauge().value()).isNaN();
+    }
+}
@@ -8,9 +8,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -133,4 +141,29 @@ class MultiDialectOutboxDlqMetricsRepositoryUnitTests {
 
         assertThat(result).isEqualTo(0L);
     }
+
+    @Test
+    @DisplayName("UT countGroupedByEventTypeAndStatus() should group counts by event type and status in one query")
+    void countGroupedByEventTypeAndStatus_shouldGroupRows() throws Exception {
+        // given
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn("order", "order");
+        when(rs.getString(2)).thenReturn("MOVED", "TO_RETRY");
+        when(rs.getLong(3)).thenReturn(4L, 1L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(
+                eq("SELECT event_type, dlq_status, COUNT(*) FROM outbox_dlq_events GROUP BY event_type, dlq_status"),
+                any(RowCallbackHandler.class)
+        );
+
+        // when
+        Map<String, Map<DlqStatus, Long>> result = repository.countGroupedByEventTypeAndStatus();
+
+        // then
+        assertThat(result).isEqualTo(Map.of("order", Map.of(DlqStatus.MOVED, 4L, DlqStatus.TO_RETRY, 1L)));
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +40,17 @@ class MultiSqlDialectOutboxDlqMetricsRepositoryVerifier {
         assertThat(repository.count()).isEqualTo(3L);
     }
 
+    void countGroupedByEventTypeAndStatus_returnsCountsPerTypeAndStatus() {
+        insertDlqEvent(DlqStatus.MOVED, "ORDER_CREATED");
+        insertDlqEvent(DlqStatus.MOVED, "ORDER_CREATED");
+        insertDlqEvent(DlqStatus.TO_RETRY, "PAYMENT_CREATED");
+
+        assertThat(repository.countGroupedByEventTypeAndStatus()).isEqualTo(Map.of(
+                "ORDER_CREATED", Map.of(DlqStatus.MOVED, 2L),
+                "PAYMENT_CREATED", Map.of(DlqStatus.TO_RETRY, 1L)
+        ));
+    }
+
     void countByStatus_noEvents_returnsZero() {
         assertThat(repository.countByStatus(DlqStatus.MOVED)).isEqualTo(0L);
     }
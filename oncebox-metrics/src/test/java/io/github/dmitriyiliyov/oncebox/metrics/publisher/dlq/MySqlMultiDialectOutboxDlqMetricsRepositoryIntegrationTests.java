@@ -29,6 +29,9 @@ class MySqlMultiDialectOutboxDlqMetricsRepositoryIntegrationTests extends BaseMy
     @Test @DisplayName("IT count() with events should return total")
     void count_withEvents_returnsTotal() { verifier.count_withEvents_returnsTotal(); }
 
+    @Test @DisplayName("IT countGroupedByEventTypeAndStatus() should return counts per type and status")
+    void countGroupedByEventTypeAndStatus_returnsCountsPerTypeAndStatus() { verifier.countGroupedByEventTypeAndStatus_returnsCountsPerTypeAndStatus(); }
+
     @Test @DisplayName("IT countByStatus() when no events should return zero")
     void countByStatus_noEvents_returnsZero() { verifier.countByStatus_noEvents_returnsZero(); }
 
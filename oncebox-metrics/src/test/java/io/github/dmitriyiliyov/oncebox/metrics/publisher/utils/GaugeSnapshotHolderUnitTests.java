@@ -0,0 +1,111 @@
+package io.github.dmitriyiliyov.oncebox.metrics.publisher.utils;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GaugeSnapshotHolderUnitTests {
+
+    static final Duration STALE_AFTER = Duration.ofSeconds(90);
+    static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    Supplier<Map<String, Map<EventStatus, Long>>> query;
+
+    @Mock
+    Clock clock;
+
+    GaugeSnapshotHolder<EventStatus> tested;
+
+    @BeforeEach
+    void setUp() {
+        tested = new GaugeSnapshotHolder<>(EventStatus.class, query, STALE_AFTER, clock);
+    }
+
+    @Test
+    @DisplayName("UT constructor should throw NPE when query is null")
+    void constructor_shouldThrowNPE_whenQueryIsNull() {
+        assertThrows(NullPointerException.class,
+                () -> new GaugeSnapshotHolder<>(EventStatus.class, null, STALE_AFTER, clock));
+    }
+
+    @Test
+    @DisplayName("UT values should be NaN before first refresh")
+    void values_shouldBeNaN_beforeFirstRefresh() {
+        assertThat(tested.count()).isNaN();
+        assertThat(tested.countByStatus(EventStatus.PENDING)).isNaN();
+        assertThat(tested.countByEventTypeAndStatus("order", EventStatus.PENDING)).isNaN();
+        verifyNoInteractions(query);
+    }
+
+    @Test
+    @DisplayName("UT refresh() should derive total and per status counts from grouped counts")
+    void refresh_shouldDeriveTotalsFromGroupedCounts() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        when(query.get()).thenReturn(Map.of(
+                "order", Map.of(EventStatus.PENDING, 5L, EventStatus.IN_PROCESS, 2L),
+                "payment", Map.of(EventStatus.PENDING, 3L)
+        ));
+
+        // when
+        tested.refresh();
+
+        // then
+        assertThat(tested.count()).isEqualTo(10.0);
+        assertThat(tested.countByStatus(EventStatus.PENDING)).isEqualTo(8.0);
+        assertThat(tested.countByStatus(EventStatus.FAILED)).isEqualTo(0.0);
+        assertThat(tested.countByEventTypeAndStatus("order", EventStatus.IN_PROCESS)).isEqualTo(2.0);
+        assertThat(tested.countByEventTypeAndStatus("unknown", EventStatus.PENDING)).isEqualTo(0.0);
+        verify(query, times(1)).get();
+    }
+
+    @Test
+    @DisplayName("UT values should be NaN once snapshot is older than staleAfter")
+    void values_shouldBeNaN_whenSnapshotIsStale() {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW.plus(STALE_AFTER), NOW.plus(STALE_AFTER).plusMillis(1));
+        when(query.get()).thenReturn(Map.of("order", Map.of(EventStatus.PENDING, 5L)));
+        tested.refresh();
+
+        // when
+        double atThreshold = tested.count();
+        double afterThreshold = tested.count();
+
+        // then
+        assertThat(atThreshold).isEqualTo(5.0);
+        assertThat(afterThreshold).isNaN();
+    }
+
+    @Test
+    @DisplayName("UT failed refresh should keep previous snapshot")
+    void refresh_whenQueryFails_shouldKeepPreviousSnapshot() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        when(query.get())
+                .thenReturn(Map.of("order", Map.of(EventStatus.PENDING, 5L)))
+                .thenThrow(new RuntimeException("db down"));
+        tested.refresh();
+
+        // when
+        assertThrows(RuntimeException.class, () -> tested.refresh());
+
+        // then
+        assertThat(tested.countByEventTypeAndStatus("order", EventStatus.PENDING)).isEqualTo(5.0);
+    }
+}
@@ -11,9 +11,12 @@ import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 public class MySqlConsumedOutboxRepository implements ConsumedOutboxRepository {
 
+    private static final int FETCH_SIZE = 1_000;
+
     protected final JdbcTemplate jdbcTemplate;
     protected final Clock clock;
     protected final BytesSqlIdHelper idHelper;
@@ -44,51 +47,82 @@ public class MySqlConsumedOutboxRepository implements ConsumedOutboxRepository {
         );
     }
 
+    /**
+     * Saves ids with a single batched {@code INSERT IGNORE}, without an existence check first.
+     * <p>
+     * The primary key makes a conflicting insert wait for a concurrent transaction, so the per-row counts of the
+     * batch tell exactly which ids were inserted by this call. {@link ConcurrentInsertException} is thrown only if the
+     * driver does not report a count for every row, e.g. with {@code rewriteBatchedStatements=true}.
+     */
     @Override
     public Set<UUID> saveIfAbsent(Set<UUID> ids) {
         if (!RepositoryUtils.isIdsValid(ids)) {
             return Collections.emptySet();
         }
 
-        String existsIdsSql = """
-            SELECT id 
-            FROM outbox_consumed_events
-            WHERE id IN (%s)
-        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
-        List<UUID> existsIds = jdbcTemplate.query(
-                existsIdsSql,
-                ps -> idHelper.setIdsToPs(ps, 1, ids),
-                (rs, rowNum) -> mapper.fromBytesToUuid(rs.getBytes("id"))
+        String sql = """
+            INSERT IGNORE INTO outbox_consumed_events (id, consumed_at)
+            VALUES (?, ?)
+        """;
+
+        List<UUID> orderedIds = new ArrayList<>(ids);
+        Instant consumedAt = clock.instant();
+        int[][] batchUpdateResult = jdbcTemplate.batchUpdate(
+                sql,
+                orderedIds,
+                orderedIds.size(),
+                (ps, id) -> {
+                    ps.setBytes(1, idHelper.uuidToBytes(id));
+                    ps.setTimestamp(2, Timestamp.from(consumedAt));
+                }
         );
+        int[] rowCounts = Arrays.stream(batchUpdateResult)
+                .flatMapToInt(Arrays::stream)
+                .toArray();
 
-        Set<UUID> nonExistsIds = new HashSet<>(ids);
-        nonExistsIds.removeAll(new HashSet<>(existsIds));
+        if (rowCounts.length != orderedIds.size() || Arrays.stream(rowCounts).anyMatch(count -> count < 0)) {
+            int updRowsCount = Arrays.stream(rowCounts).filter(count -> count > 0).sum();
+            throw new ConcurrentInsertException(orderedIds.size(), updRowsCount, ids);
+        }
 
-        if (!RepositoryUtils.isIdsValid(nonExistsIds)) {
-            return Collections.emptySet();
+        Set<UUID> insertedIds = new HashSet<>();
+        for (int i = 0; i < rowCounts.length; i++) {
+            if (rowCounts[i] > 0) {
+                insertedIds.add(orderedIds.get(i));
+            }
         }
+        return insertedIds;
+    }
 
-        String insertSql = """
-            INSERT IGNORE INTO outbox_consumed_events(id, consumed_at)
-            VALUES %s
-        """.formatted(RepositoryUtils.generateValuesPlaceholders(nonExistsIds.size(), 2));
-        Instant consumedAt = clock.instant();
-        int updatedRows = jdbcTemplate.update(
-                insertSql,
+    @Override
+    public void forEachConsumed(Instant since, BiConsumer<UUID, Instant> action) {
+        String sql = """
+            SELECT id, consumed_at
+            FROM outbox_consumed_events
+            WHERE consumed_at >= ?
+        """;
+        jdbcTemplate.query(
+                sql,
                 ps -> {
-                    int paramId = 1;
-                    for (UUID id: nonExistsIds) {
-                        ps.setBytes(paramId++, idHelper.uuidToBytes(id));
-                        ps.setTimestamp(paramId++, Timestamp.from(consumedAt));
-                    }
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setTimestamp(1, Timestamp.from(since));
+                },
+                rs -> {
+                    action.accept(mapper.fromBytesToUuid(rs.getBytes("id")), rs.getTimestamp("consumed_at").toInstant());
                 }
         );
+    }
 
-        if (nonExistsIds.size() != updatedRows) {
-            throw new ConcurrentInsertException(nonExistsIds.size(), updatedRows, nonExistsIds);
+    @Override
+    public int deleteByIds(Set<UUID> ids) {
+        if (!RepositoryUtils.isIdsValid(ids)) {
+            return 0;
         }
-
-        return new HashSet<>(nonExistsIds);
+        String sql = """
+            DELETE FROM outbox_consumed_events
+            WHERE id IN (%s)
+        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
+        return jdbcTemplate.update(sql, ps -> idHelper.setIdsToPs(ps, 1, ids));
     }
 
     @Override
@@ -107,4 +141,26 @@ public class MySqlConsumedOutboxRepository implements ConsumedOutboxRepository {
                 }
         );
     }
+
+    @Override
+    public boolean supportsDeleteByIdThreshold() {
+        return true;
+    }
+
+    @Override
+    public int deleteBatchByIdThreshold(UUID idThreshold, int batchSize) {
+        String sql = """
+            DELETE FROM outbox_consumed_events
+            WHERE id < ?
+            ORDER BY id
+            LIMIT ?
+        """;
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    idHelper.setIdToPs(ps, 1, idThreshold);
+                    ps.setInt(2, batchSize);
+                }
+        );
+    }
 }
@@ -3,8 +3,8 @@ package io.github.dmitriyiliyov.oncebox.mysql;
 import io.github.dmitriyiliyov.oncebox.core.publisher.AbstractOutboxRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
 import io.github.dmitriyiliyov.oncebox.core.utils.BytesResultSetMapper;
-import io.github.dmitriyiliyov.oncebox.core.utils.RepositoryUtils;
 import io.github.dmitriyiliyov.oncebox.core.utils.ResultSetMapper;
 import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -12,8 +12,10 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.Instant;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 
 public class MySqlOutboxRepository extends AbstractOutboxRepository {
 
@@ -27,98 +29,146 @@ public class MySqlOutboxRepository extends AbstractOutboxRepository {
         this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
     }
 
+    public MySqlOutboxRepository(JdbcTemplate jdbcTemplate,
+                                 Clock clock,
+                                 SqlIdHelper idHelper,
+                                 BytesResultSetMapper mapper,
+                                 String table) {
+        super(jdbcTemplate, clock, idHelper, table);
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+    }
+
+    @Override
+    protected String insertIfAbsentSql() {
+        return """
+            INSERT IGNORE INTO %s
+            (id, status, event_type, payload_type, payload, retry_count, next_retry_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """.formatted(table);
+    }
+
+    /**
+     * Clears the claim token of finalized and released events, so only rows of live claims carry one.
+     */
+    @Override
+    protected String releaseClaimAssignments() {
+        return ", claim_token = NULL";
+    }
+
     @Override
     public List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
                                                                   EventStatus lockStatus) {
-        String selectSql = """
-            SELECT * 
-            FROM outbox_events
-            WHERE event_type = ? AND status = ? AND next_retry_at <= ?
-            ORDER BY next_retry_at
-            LIMIT ?
-            FOR UPDATE SKIP LOCKED
-        """;
-        List<OutboxEvent> events = jdbcTemplate.query(
-                selectSql,
-                ps -> {
-                    ps.setString(1, eventType);
-                    ps.setString(2, status.name());
-                    ps.setTimestamp(3, Timestamp.from(clock.instant()));
-                    ps.setInt(4, batchSize);
-                },
-                (rs, rowNum) -> mapper.toEvent(rs)
-        );
-        return lock(events, lockStatus);
+        return findAndLockBatchByEventTypeAndStatus(eventType, status, batchSize, lockStatus, null, null);
     }
 
     @Override
-    public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus) {
-        String selectSql = """
-            SELECT * 
-            FROM outbox_events
-            WHERE status = ?
-            ORDER BY updated_at
-            LIMIT ?
-            FOR UPDATE SKIP LOCKED
-        """;
-        List<OutboxEvent> events = jdbcTemplate.query(
-                selectSql,
+    public List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
+                                                                  EventStatus lockStatus, UUID lockedBy, Instant leaseUntil) {
+        String claimSql = """
+            UPDATE %1$s
+                SET status = ?, updated_at = ?, claim_token = ?, locked_by = ?, lease_until = ?
+            WHERE id IN (
+                SELECT id FROM (
+                    SELECT id FROM %1$s
+                    WHERE event_type = ? AND status = ? AND next_retry_at <= ?
+                    ORDER BY next_retry_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ) AS to_claim
+            )
+        """.formatted(table);
+        UUID claimToken = UUID.randomUUID();
+        Timestamp now = Timestamp.from(clock.instant());
+        int claimed = jdbcTemplate.update(
+                claimSql,
                 ps -> {
-                    ps.setString(1, status.name());
-                    ps.setInt(2, batchSize);
-                },
-                (rs, rowNum) -> mapper.toEvent(rs)
+                    ps.setString(1, lockStatus.name());
+                    ps.setTimestamp(2, now);
+                    idHelper.setIdToPs(ps, 3, claimToken);
+                    idHelper.setIdToPs(ps, 4, lockedBy);
+                    ps.setTimestamp(5, leaseUntil == null ? null : Timestamp.from(leaseUntil));
+                    ps.setString(6, eventType);
+                    ps.setString(7, status.name());
+                    ps.setTimestamp(8, now);
+                    ps.setInt(9, batchSize);
+                }
         );
-        return lock(events, lockStatus);
+        OutboxProcessingCycle.recordStatement();
+        return findByClaimToken(claimed, claimToken, "next_retry_at");
     }
 
-    private List<OutboxEvent> lock(List<OutboxEvent> events, EventStatus lockStatus) {
-        Set<UUID> ids = events.stream()
-                .map(OutboxEvent::getId)
-                .collect(Collectors.toSet());
-
-        if (!RepositoryUtils.isIdsValid(ids)) {
-            return Collections.emptyList();
-        }
-
-        String lockSql = """
-            UPDATE outbox_events
-                SET status = ?, updated_at = ?
-            WHERE id IN(%s)
-        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
-        Instant updatedAt = clock.instant();
+    @Override
+    public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus) {
+        return findAndLockBatchByStatus(status, batchSize, lockStatus, null, null);
+    }
 
-        jdbcTemplate.update(
-                lockSql,
+    @Override
+    public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus,
+                                                      UUID lockedBy, Instant leaseUntil) {
+        String claimSql = """
+            UPDATE %1$s
+                SET status = ?, updated_at = ?, claim_token = ?, locked_by = ?, lease_until = ?
+            WHERE id IN (
+                SELECT id FROM (
+                    SELECT id FROM %1$s
+                    WHERE status = ?
+                    ORDER BY updated_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ) AS to_claim
+            )
+        """.formatted(table);
+        UUID claimToken = UUID.randomUUID();
+        int claimed = jdbcTemplate.update(
+                claimSql,
                 ps -> {
                     ps.setString(1, lockStatus.name());
-                    ps.setTimestamp(2, Timestamp.from(updatedAt));
-                    idHelper.setIdsToPs(ps, 3, ids);
+                    ps.setTimestamp(2, Timestamp.from(clock.instant()));
+                    idHelper.setIdToPs(ps, 3, claimToken);
+                    idHelper.setIdToPs(ps, 4, lockedBy);
+                    ps.setTimestamp(5, leaseUntil == null ? null : Timestamp.from(leaseUntil));
+                    ps.setString(6, status.name());
+                    ps.setInt(7, batchSize);
                 }
         );
+        OutboxProcessingCycle.recordStatement();
+        return findByClaimToken(claimed, claimToken, "id");
+    }
 
-        events.forEach(event -> {
-            event.setStatus(lockStatus);
-            event.setUpdatedAt(updatedAt);
-        });
+    private List<OutboxEvent> findByClaimToken(int claimed, UUID claimToken, String orderColumn) {
+        if (claimed == 0) {
+            return Collections.emptyList();
+        }
+        String selectSql = """
+            SELECT *
+            FROM %s
+            WHERE claim_token = ?
+            ORDER BY %s
+        """.formatted(table, orderColumn);
+        List<OutboxEvent> events = jdbcTemplate.query(
+                selectSql,
+                ps -> idHelper.setIdToPs(ps, 1, claimToken),
+                (rs, rowNum) -> mapper.toEvent(rs)
+        );
+        OutboxProcessingCycle.recordStatement();
         return events;
     }
 
     @Override
     public int updateBatchStatusByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize, EventStatus newStatus) {
         String sql = """
-            UPDATE outbox_events
-                SET status = ?, updated_at = ?
+            UPDATE %1$s
+                SET status = ?, updated_at = ?, claim_token = NULL
             WHERE id IN (
                 SELECT id FROM(
-                    SELECT id FROM outbox_events
+                    SELECT id FROM %1$s
                     WHERE status = ? AND updated_at <= ?
                     ORDER BY updated_at
                     LIMIT ?
                     FOR UPDATE SKIP LOCKED
                 ) AS to_update
             )
-        """;
+        """.formatted(table);
         return jdbcTemplate.update(
                 sql,
                 ps -> {
@@ -131,14 +181,44 @@ public class MySqlOutboxRepository extends AbstractOutboxRepository {
         );
     }
 
+    @Override
+    public int updateBatchStatusByStatusAndExpiredLease(EventStatus status, Instant threshold, int batchSize,
+                                                        EventStatus newStatus) {
+        String sql = """
+            UPDATE %1$s
+                SET status = ?, updated_at = ?, claim_token = NULL, locked_by = NULL, lease_until = NULL
+            WHERE id IN (
+                SELECT id FROM(
+                    SELECT id FROM %1$s
+                    WHERE status = ? AND (lease_until <= ? OR (lease_until IS NULL AND updated_at <= ?))
+                    ORDER BY updated_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ) AS to_update
+            )
+        """.formatted(table);
+        Timestamp now = Timestamp.from(clock.instant());
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, newStatus.name());
+                    ps.setTimestamp(2, now);
+                    ps.setString(3, status.name());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, Timestamp.from(threshold));
+                    ps.setInt(6, batchSize);
+                }
+        );
+    }
+
     @Override
     public int deleteBatchByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize) {
         String sql = """
-            DELETE FROM outbox_events
+            DELETE FROM %s
             WHERE status = ? AND updated_at <= ?
             ORDER BY updated_at
             LIMIT ?
-        """;
+        """.formatted(table);
         return jdbcTemplate.update(
                 sql,
                 ps -> {
@@ -148,4 +228,27 @@ public class MySqlOutboxRepository extends AbstractOutboxRepository {
                 }
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean supportsDeleteByIdThreshold() {
+        return true;
+    }
+
+    @Override
+    public int deleteBatchByStatusAndIdThreshold(EventStatus status, UUID idThreshold, int batchSize) {
+        String sql = """
+            DELETE FROM %s
+            WHERE status = ? AND id < ?
+            ORDER BY id
+            LIMIT ?
+        """.formatted(table);
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    idHelper.setIdToPs(ps, 2, idThreshold);
+                    ps.setInt(3, batchSize);
+                }
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.mysql;
 
-import io.github.dmitriyiliyov.oncebox.core.consumer.ConcurrentInsertException;
+import io.github.dmitriyiliyov.oncebox.core.publisher.UuidV7Generator;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -163,15 +164,57 @@ class MySqlConsumedOutboxRepositoryIntegrationTests extends BaseMySqlIntegration
     }
 
     @Test
-    @DisplayName("IT saveIfAbsent(Set) throws ConcurrentInsertException when inserted rows mismatch")
-    void saveIfAbsent_concurrentInsertMismatch_throwsException() {
+    @DisplayName("IT saveIfAbsent(Set) when batch contains consumed id should return only new ids")
+    void saveIfAbsent_batchContainsConsumedId_returnsOnlyNewIds() {
+        UUID consumed = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        repository.saveIfAbsent(consumed);
+
+        Set<UUID> inserted = repository.saveIfAbsent(Set.of(consumed, first, second));
+
+        assertThat(inserted).containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(Set) when concurrent insert wins the race should return only ids inserted by this call")
+    void saveIfAbsent_concurrentInsertWinsRace_returnsOnlyInsertedIds() {
+        UUID consumed = UUID.randomUUID();
+        UUID raced = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        repository.saveIfAbsent(consumed);
+
+        org.springframework.jdbc.core.JdbcTemplate interceptedJdbcTemplate = new org.springframework.jdbc.core.JdbcTemplate(repository.jdbcTemplate.getDataSource()) {
+            @Override
+            public <T> int[][] batchUpdate(String sql, java.util.Collection<T> batchArgs, int batchSize,
+                                           org.springframework.jdbc.core.ParameterizedPreparedStatementSetter<T> pss)
+                    throws org.springframework.dao.DataAccessException {
+                repository.saveIfAbsent(raced);
+                return super.batchUpdate(sql, batchArgs, batchSize, pss);
+            }
+        };
+
+        MySqlConsumedOutboxRepository testRepository = new MySqlConsumedOutboxRepository(
+                interceptedJdbcTemplate,
+                repository.clock,
+                repository.idHelper,
+                repository.mapper
+        );
+
+        Set<UUID> inserted = testRepository.saveIfAbsent(Set.of(consumed, raced, fresh));
+
+        assertThat(inserted).containsOnly(fresh);
+    }
+
+    @Test
+    @DisplayName("IT saveIfAbsent(Set) throws ConcurrentInsertException when the driver reports no row counts")
+    void saveIfAbsent_missingRowCounts_throwsException() {
         org.springframework.jdbc.core.JdbcTemplate interceptedJdbcTemplate = new org.springframework.jdbc.core.JdbcTemplate(repository.jdbcTemplate.getDataSource()) {
             @Override
-            public int update(String sql, org.springframework.jdbc.core.PreparedStatementSetter pss) throws org.springframework.dao.DataAccessException {
-                if (sql.contains("INSERT IGNORE INTO outbox_consumed_events")) {
-                    return 0;
-                }
-                return super.update(sql, pss);
+            public <T> int[][] batchUpdate(String sql, java.util.Collection<T> batchArgs, int batchSize,
+                                           org.springframework.jdbc.core.ParameterizedPreparedStatementSetter<T> pss)
+                    throws org.springframework.dao.DataAccessException {
+                return new int[][]{{java.sql.Statement.SUCCESS_NO_INFO, java.sql.Statement.SUCCESS_NO_INFO}};
             }
         };
 
@@ -185,7 +228,7 @@ class MySqlConsumedOutboxRepositoryIntegrationTests extends BaseMySqlIntegration
         Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
 
         org.assertj.core.api.Assertions.assertThatThrownBy(() -> testRepository.saveIfAbsent(ids))
-                .isInstanceOf(ConcurrentInsertException.class);
+                .isInstanceOf(io.github.dmitriyiliyov.oncebox.core.consumer.ConcurrentInsertException.class);
     }
 
     @Test
@@ -243,4 +286,29 @@ class MySqlConsumedOutboxRepositoryIntegrationTests extends BaseMySqlIntegration
         int result = repository.saveIfAbsent(fresh);
         assertThat(result).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("IT deleteBatchByIdThreshold() should delete only events created before threshold")
+    void deleteBatchByIdThreshold_deletesOnlyEventsCreatedBeforeThreshold() {
+        Instant now = Instant.now();
+        UUID old = UuidV7Utils.lowerBound(now.minus(1, ChronoUnit.HOURS));
+        UUID fresh = new UuidV7Generator().generate();
+        repository.saveIfAbsent(Set.of(old, fresh));
+
+        int deleted = repository.deleteBatchByIdThreshold(UuidV7Utils.lowerBound(now.minusSeconds(60)), 10);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.saveIfAbsent(fresh)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByIdThreshold() should respect batch size")
+    void deleteBatchByIdThreshold_respectsBatchSize() {
+        Instant now = Instant.now();
+        IntStream.range(0, 5).forEach(i -> repository.saveIfAbsent(UuidV7Utils.lowerBound(now.minus(i + 1, ChronoUnit.HOURS))));
+
+        int deleted = repository.deleteBatchByIdThreshold(UuidV7Utils.lowerBound(now), 3);
+
+        assertThat(deleted).isEqualTo(3);
+    }
+}
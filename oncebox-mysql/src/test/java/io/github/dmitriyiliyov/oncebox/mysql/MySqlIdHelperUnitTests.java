@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.nio.ByteBuffer;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Set;
 import java.util.UUID;
 
@@ -63,6 +64,16 @@ class MySqlIdHelperUnitTests {
         verify(ps).setBytes(eq(parameterIndex), any(byte[].class));
     }
 
+    @Test
+    @DisplayName("UT setIdToPs() with null id should call ps.setNull with BINARY type")
+    void setIdToPs_nullId_shouldCallSetNullWithBinaryType() throws SQLException {
+        // when
+        helper.setIdToPs(ps, 2, null);
+
+        // then
+        verify(ps).setNull(2, Types.BINARY);
+    }
+
     @Test
     @DisplayName("UT setIdsToPs() should call ps.setBytes for each id with incrementing index")
     void setIdsToPs_shouldCallSetBytesForEachIdWithIncrementingIndex() throws SQLException {
@@ -0,0 +1,96 @@
+package io.github.dmitriyiliyov.oncebox.oracle;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetRepository;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetWatermark;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.OutboxSourcePartition;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.Objects;
+
+public class OracleConsumedOffsetRepository implements ConsumedOffsetRepository {
+
+    protected final JdbcTemplate jdbcTemplate;
+    protected final Clock clock;
+
+    public OracleConsumedOffsetRepository(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    @Override
+    public int advance(OutboxSourcePartition sourcePartition, long fromOffset, long toOffset) {
+        String sql = """
+            UPDATE outbox_consumed_offsets
+            SET watermark = ?, updated_at = ?
+            WHERE consumer_group = ? AND topic = ? AND partition_id = ?
+                AND watermark < ? AND released_offsets IS NULL
+        """;
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setLong(1, toOffset);
+                    ps.setTimestamp(2, Timestamp.from(clock.instant()));
+                    ps.setString(3, sourcePartition.group());
+                    ps.setString(4, sourcePartition.topic());
+                    ps.setInt(5, sourcePartition.partition());
+                    ps.setLong(6, fromOffset);
+                }
+        );
+    }
+
+    @Override
+    public ConsumedOffsetWatermark lock(OutboxSourcePartition sourcePartition) {
+        String insertSql = """
+            INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(outbox_consumed_offsets (consumer_group, topic, partition_id)) */
+            INTO outbox_consumed_offsets (consumer_group, topic, partition_id, watermark, updated_at)
+            VALUES (?, ?, ?, -1, ?)
+        """;
+        jdbcTemplate.update(
+                insertSql,
+                ps -> {
+                    ps.setString(1, sourcePartition.group());
+                    ps.setString(2, sourcePartition.topic());
+                    ps.setInt(3, sourcePartition.partition());
+                    ps.setTimestamp(4, Timestamp.from(clock.instant()));
+                }
+        );
+        String selectSql = """
+            SELECT watermark, released_offsets
+            FROM outbox_consumed_offsets
+            WHERE consumer_group = ? AND topic = ? AND partition_id = ?
+            FOR UPDATE
+        """;
+        return jdbcTemplate.queryForObject(
+                selectSql,
+                (rs, rowNum) -> new ConsumedOffsetWatermark(
+                        rs.getLong("watermark"),
+                        ConsumedOffsetWatermark.parseReleasedOffsets(rs.getString("released_offsets"))
+                ),
+                sourcePartition.group(),
+                sourcePartition.topic(),
+                sourcePartition.partition()
+        );
+    }
+
+    @Override
+    public void update(OutboxSourcePartition sourcePartition, ConsumedOffsetWatermark watermark) {
+        String sql = """
+            UPDATE outbox_consumed_offsets
+            SET watermark = ?, released_offsets = ?, updated_at = ?
+            WHERE consumer_group = ? AND topic = ? AND partition_id = ?
+        """;
+        jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setLong(1, watermark.watermark());
+                    ps.setString(2, watermark.releasedOffsetsToString());
+                    ps.setTimestamp(3, Timestamp.from(clock.instant()));
+                    ps.setString(4, sourcePartition.group());
+                    ps.setString(5, sourcePartition.topic());
+                    ps.setInt(6, sourcePartition.partition());
+                }
+        );
+    }
+}
@@ -3,17 +3,21 @@ package io.github.dmitriyiliyov.oncebox.oracle;
 import io.github.dmitriyiliyov.oncebox.core.publisher.AbstractOutboxRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
 import io.github.dmitriyiliyov.oncebox.core.utils.BytesResultSetMapper;
 import io.github.dmitriyiliyov.oncebox.core.utils.RepositoryUtils;
 import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
+import org.springframework.jdbc.core.CallableStatementCreator;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 
-import java.sql.PreparedStatement;
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class OracleOutboxRepository extends AbstractOutboxRepository {
 
@@ -27,103 +31,226 @@ public class OracleOutboxRepository extends AbstractOutboxRepository {
         this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
     }
 
+    public OracleOutboxRepository(JdbcTemplate jdbcTemplate,
+                                  Clock clock,
+                                  SqlIdHelper idHelper,
+                                  BytesResultSetMapper mapper,
+                                  String table) {
+        super(jdbcTemplate, clock, idHelper, table);
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+    }
+
+    @Override
+    protected String insertIfAbsentSql() {
+        return """
+            INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(%1$s (id)) */
+            INTO %1$s (id, status, event_type, payload_type, payload, retry_count, next_retry_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """.formatted(table);
+    }
+
+    /**
+     * Clears the claim token of finalized and released events, so only rows of live claims carry one.
+     */
+    @Override
+    protected String releaseClaimAssignments() {
+        return ", claim_token = NULL";
+    }
+
     @Override
     public List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
                                                                   EventStatus lockStatus) {
-        String selectSql = """
-            SELECT *
-            FROM outbox_events
-            WHERE event_type = ? AND status = ? AND next_retry_at <= ?
-            ORDER BY next_retry_at
-            FOR UPDATE SKIP LOCKED
-        """;
-        List<OutboxEvent> events = jdbcTemplate.query(
-                con -> {
-                    PreparedStatement ps = con.prepareStatement(selectSql);
-                    ps.setMaxRows(batchSize);
+        return findAndLockBatchByEventTypeAndStatus(eventType, status, batchSize, lockStatus, null, null);
+    }
+
+    @Override
+    public List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
+                                                                  EventStatus lockStatus, UUID lockedBy, Instant leaseUntil) {
+        String claimSql = """
+            DECLARE
+                TYPE rowid_table IS TABLE OF ROWID;
+                claimed_rows rowid_table;
+                CURSOR to_claim IS
+                    SELECT ROWID
+                    FROM %1$s
+                    WHERE event_type = ? AND status = ? AND next_retry_at <= ?
+                    ORDER BY next_retry_at
+                    FOR UPDATE SKIP LOCKED;
+            BEGIN
+                OPEN to_claim;
+                FETCH to_claim BULK COLLECT INTO claimed_rows LIMIT ?;
+                CLOSE to_claim;
+                FORALL i IN 1 .. claimed_rows.COUNT
+                    UPDATE %1$s
+                        SET status = ?, updated_at = ?, claim_token = ?, locked_by = ?, lease_until = ?
+                    WHERE ROWID = claimed_rows(i);
+                OPEN ? FOR
+                    SELECT *
+                    FROM %1$s
+                    WHERE claim_token = ?
+                    ORDER BY next_retry_at;
+            END;
+        """.formatted(table);
+        UUID claimToken = UUID.randomUUID();
+        Timestamp now = Timestamp.from(clock.instant());
+        return claim(
+                claimSql,
+                10,
+                ps -> {
                     ps.setString(1, eventType);
                     ps.setString(2, status.name());
-                    ps.setTimestamp(3, Timestamp.from(clock.instant()));
-                    return ps;
-                },
-                (rs, rowNum) -> mapper.toEvent(rs)
+                    ps.setTimestamp(3, now);
+                    ps.setInt(4, batchSize);
+                    ps.setString(5, lockStatus.name());
+                    ps.setTimestamp(6, now);
+                    idHelper.setIdToPs(ps, 7, claimToken);
+                    idHelper.setIdToPs(ps, 8, lockedBy);
+                    ps.setTimestamp(9, leaseUntil == null ? null : Timestamp.from(leaseUntil));
+                    idHelper.setIdToPs(ps, 11, claimToken);
+                }
         );
-       return updateStatus(events, lockStatus);
     }
 
     @Override
     public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus) {
-        String selectSql = """
-            SELECT *
-            FROM outbox_events
-            WHERE status = ?
-            ORDER BY updated_at
-            FOR UPDATE SKIP LOCKED
-        """;
-        List<OutboxEvent> events = jdbcTemplate.query(
-                con -> {
-                    PreparedStatement ps = con.prepareStatement(selectSql);
-                    ps.setMaxRows(batchSize);
+        return findAndLockBatchByStatus(status, batchSize, lockStatus, null, null);
+    }
+
+    @Override
+    public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus,
+                                                      UUID lockedBy, Instant leaseUntil) {
+        String claimSql = """
+            DECLARE
+                TYPE rowid_table IS TABLE OF ROWID;
+                claimed_rows rowid_table;
+                CURSOR to_claim IS
+                    SELECT ROWID
+                    FROM %1$s
+                    WHERE status = ?
+                    ORDER BY updated_at
+                    FOR UPDATE SKIP LOCKED;
+            BEGIN
+                OPEN to_claim;
+                FETCH to_claim BULK COLLECT INTO claimed_rows LIMIT ?;
+                CLOSE to_claim;
+                FORALL i IN 1 .. claimed_rows.COUNT
+                    UPDATE %1$s
+                        SET status = ?, updated_at = ?, claim_token = ?, locked_by = ?, lease_until = ?
+                    WHERE ROWID = claimed_rows(i);
+                OPEN ? FOR
+                    SELECT *
+                    FROM %1$s
+                    WHERE claim_token = ?
+                    ORDER BY id;
+            END;
+        """.formatted(table);
+        UUID claimToken = UUID.randomUUID();
+        return claim(
+                claimSql,
+                8,
+                ps -> {
                     ps.setString(1, status.name());
-                    return ps;
+                    ps.setInt(2, batchSize);
+                    ps.setString(3, lockStatus.name());
+                    ps.setTimestamp(4, Timestamp.from(clock.instant()));
+                    idHelper.setIdToPs(ps, 5, claimToken);
+                    idHelper.setIdToPs(ps, 6, lockedBy);
+                    ps.setTimestamp(7, leaseUntil == null ? null : Timestamp.from(leaseUntil));
+                    idHelper.setIdToPs(ps, 9, claimToken);
+                }
+        );
+    }
+
+    private List<OutboxEvent> claim(String claimSql, int cursorParameterIndex, PreparedStatementSetter setter) {
+        List<OutboxEvent> claimed = jdbcTemplate.execute(
+                (CallableStatementCreator) con -> {
+                    CallableStatement cs = con.prepareCall(claimSql);
+                    setter.setValues(cs);
+                    cs.registerOutParameter(cursorParameterIndex, Types.REF_CURSOR);
+                    return cs;
                 },
-                (rs, rowNum) -> mapper.toEvent(rs)
+                cs -> {
+                    cs.execute();
+                    List<OutboxEvent> events = new ArrayList<>();
+                    try (ResultSet rs = cs.getObject(cursorParameterIndex, ResultSet.class)) {
+                        while (rs.next()) {
+                            events.add(mapper.toEvent(rs));
+                        }
+                    }
+                    return events;
+                }
         );
-        return updateStatus(events, lockStatus);
+        OutboxProcessingCycle.recordStatement();
+        return claimed;
     }
 
-    private List<OutboxEvent> updateStatus(List<OutboxEvent> events, EventStatus lockStatus) {
-        Set<UUID> ids = events.stream()
-                .map(OutboxEvent::getId)
-                .collect(Collectors.toSet());
+    @Override
+    public int updateBatchStatusByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize, EventStatus newStatus) {
+        String selectSql = """
+            SELECT id
+            FROM %1$s
+            WHERE id IN (
+                SELECT id
+                FROM %1$s
+                WHERE status = ? AND updated_at <= ?
+                ORDER BY updated_at
+                FETCH FIRST ? ROWS ONLY
+            )
+            FOR UPDATE SKIP LOCKED
+        """.formatted(table);
+
+        Set<UUID> ids = new HashSet<>(jdbcTemplate.query(
+                selectSql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    ps.setTimestamp(2, Timestamp.from(threshold));
+                    ps.setInt(3, batchSize);
+                },
+                (rs, rowNum) -> mapper.fromBytesToUuid(rs.getBytes("id")))
+        );
 
         if (!RepositoryUtils.isIdsValid(ids)) {
-            return Collections.emptyList();
+            return 0;
         }
 
         String lockSql = """
-            UPDATE outbox_events
-                SET status = ?, updated_at = ?
+            UPDATE %s
+                SET status = ?, updated_at = ?, claim_token = NULL
             WHERE id IN(%s)
-        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
-        Instant updatedAt = clock.instant();
-        jdbcTemplate.update(
+        """.formatted(table, RepositoryUtils.generateIdsPlaceholders(ids));
+        return jdbcTemplate.update(
                 lockSql,
                 ps -> {
-                    ps.setString(1, lockStatus.name());
-                    ps.setTimestamp(2, Timestamp.from(updatedAt));
+                    ps.setString(1, newStatus.name());
+                    ps.setTimestamp(2, Timestamp.from(clock.instant()));
                     idHelper.setIdsToPs(ps, 3, ids);
                 }
         );
-
-        events.forEach(event -> {
-            event.setStatus(lockStatus);
-            event.setUpdatedAt(updatedAt);
-        });
-        return events;
     }
 
     @Override
-    public int updateBatchStatusByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize, EventStatus newStatus) {
+    public int updateBatchStatusByStatusAndExpiredLease(EventStatus status, Instant threshold, int batchSize,
+                                                        EventStatus newStatus) {
         String selectSql = """
             SELECT id
-            FROM outbox_events
+            FROM %1$s
             WHERE id IN (
                 SELECT id
-                FROM outbox_events
-                WHERE status = ? AND updated_at <= ?
+                FROM %1$s
+                WHERE status = ? AND (lease_until <= ? OR (lease_until IS NULL AND updated_at <= ?))
                 ORDER BY updated_at
                 FETCH FIRST ? ROWS ONLY
             )
             FOR UPDATE SKIP LOCKED
-        """;
-
+        """.formatted(table);
+        Timestamp now = Timestamp.from(clock.instant());
         Set<UUID> ids = new HashSet<>(jdbcTemplate.query(
                 selectSql,
                 ps -> {
                     ps.setString(1, status.name());
-                    ps.setTimestamp(2, Timestamp.from(threshold));
-                    ps.setInt(3, batchSize);
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, Timestamp.from(threshold));
+                    ps.setInt(4, batchSize);
                 },
                 (rs, rowNum) -> mapper.fromBytesToUuid(rs.getBytes("id")))
         );
@@ -132,16 +259,16 @@ public class OracleOutboxRepository extends AbstractOutboxRepository {
             return 0;
         }
 
-        String lockSql = """
-            UPDATE outbox_events
-                SET status = ?, updated_at = ?
+        String updateSql = """
+            UPDATE %s
+                SET status = ?, updated_at = ?, claim_token = NULL, locked_by = NULL, lease_until = NULL
             WHERE id IN(%s)
-        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
+        """.formatted(table, RepositoryUtils.generateIdsPlaceholders(ids));
         return jdbcTemplate.update(
-                lockSql,
+                updateSql,
                 ps -> {
                     ps.setString(1, newStatus.name());
-                    ps.setTimestamp(2, Timestamp.from(clock.instant()));
+                    ps.setTimestamp(2, now);
                     idHelper.setIdsToPs(ps, 3, ids);
                 }
         );
@@ -150,11 +277,11 @@ public class OracleOutboxRepository extends AbstractOutboxRepository {
     @Override
     public int deleteBatchByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize) {
         String selectSql = """
-            SELECT id FROM outbox_events
+            SELECT id FROM %s
             WHERE status = ? AND updated_at <= ?
             ORDER BY updated_at
             FETCH FIRST ? ROWS ONLY
-        """;
+        """.formatted(table);
 
         Set<UUID> ids = new HashSet<>(jdbcTemplate.query(
                 selectSql,
@@ -171,9 +298,35 @@ public class OracleOutboxRepository extends AbstractOutboxRepository {
         }
 
         String sql = """
-            DELETE FROM outbox_events
+            DELETE FROM %s
             WHERE id IN (%s)
-        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
+        """.formatted(table, RepositoryUtils.generateIdsPlaceholders(ids));
         return jdbcTemplate.update(sql, ps -> idHelper.setIdsToPs(ps, 1, ids));
     }
+
+    @Override
+    public boolean supportsDeleteByIdThreshold() {
+        return true;
+    }
+
+    @Override
+    public int deleteBatchByStatusAndIdThreshold(EventStatus status, UUID idThreshold, int batchSize) {
+        String sql = """
+            DELETE FROM %s
+            WHERE status = ? AND id < ? AND ROWNUM <= ?
+        """.formatted(table);
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    idHelper.setIdToPs(ps, 2, idThreshold);
+                    ps.setInt(3, batchSize);
+                }
+        );
+    }
+
+    @Override
+    protected String firstRowClause() {
+        return "FETCH FIRST 1 ROWS ONLY";
+    }
 }
@@ -14,6 +14,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -114,6 +115,40 @@ class OracleOutboxRepositoryIntegrationTests extends BaseOracleIntegrationTests
                 .containsExactlyInAnyOrder(e1.getId(), e2.getId());
     }
 
+    @Test
+    @DisplayName("IT updateBatchStatus() should clear claim token of claimed events")
+    void updateBatchStatus_claimedEvents_clearsClaimToken() {
+        OutboxEvent e1 = delegate.buildEvent(EventStatus.PENDING);
+        OutboxEvent e2 = delegate.buildEvent(EventStatus.PENDING);
+        repository.saveBatch(List.of(e1, e2));
+        repository.findAndLockBatchByStatus(EventStatus.PENDING, 10, EventStatus.IN_PROCESS);
+
+        repository.updateBatchStatus(Set.of(e1.getId(), e2.getId()), EventStatus.PROCESSED);
+
+        Integer withToken = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE claim_token IS NOT NULL", Integer.class
+        );
+        assertThat(withToken).isZero();
+    }
+
+    @Test
+    @DisplayName("IT partiallyUpdateBatch() should clear claim token of claimed events")
+    void partiallyUpdateBatch_claimedEvents_clearsClaimToken() {
+        OutboxEvent event = delegate.buildEvent(EventStatus.PENDING);
+        repository.saveBatch(List.of(event));
+        repository.findAndLockBatchByStatus(EventStatus.PENDING, 10, EventStatus.IN_PROCESS);
+
+        repository.partiallyUpdateBatch(List.of(delegate.buildEventWithRetry(
+                event.getId(), EventStatus.FAILED, 1,
+                Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.MILLIS)
+        )));
+
+        Integer withToken = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE claim_token IS NOT NULL", Integer.class
+        );
+        assertThat(withToken).isZero();
+    }
+
     @Test
     @DisplayName("IT findAndLockBatchByStatus() should respect batch size via FETCH FIRST")
     void findAndLockBatchByStatus_respectsBatchSize() {
@@ -281,4 +316,28 @@ class OracleOutboxRepositoryIntegrationTests extends BaseOracleIntegrationTests
 
         assertThat(deleted).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndIdThreshold() should delete only older events with status")
+    void deleteBatchByStatusAndIdThreshold_deletesOnlyOlderEventsWithStatus() { delegate.deleteBatchByStatusAndIdThreshold_deletesOnlyOlderEventsWithStatus(); }
+
+    @Test
+    @DisplayName("IT extendLeaseBatch() should extend only leases owned by worker")
+    void extendLeaseBatch_onlyOwnedLeases_extended() { delegate.extendLeaseBatch_onlyOwnedLeases_extended(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndExpiredLease() should skip live leases")
+    void updateBatchStatusByStatusAndExpiredLease_skipsLiveLeases() { delegate.updateBatchStatusByStatusAndExpiredLease_skipsLiveLeases(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndExpiredLease() should recover expired leases")
+    void updateBatchStatusByStatusAndExpiredLease_recoversExpiredLeases() { delegate.updateBatchStatusByStatusAndExpiredLease_recoversExpiredLeases(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndLockedBy() should release only worker leases")
+    void updateBatchStatusByStatusAndLockedBy_releasesOnlyOwnedLeases() { delegate.updateBatchStatusByStatusAndLockedBy_releasesOnlyOwnedLeases(); }
+
+    @Test
+    @DisplayName("IT findEventTypesWithDueEvents() should return only event types with due pending events")
+    void findEventTypesWithDueEvents_returnsOnlyTypesWithDueEvents() { delegate.findEventTypesWithDueEvents_returnsOnlyTypesWithDueEvents(); }
+}
@@ -8,9 +8,12 @@ import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 public class PostgreSqlConsumedOutboxRepository implements ConsumedOutboxRepository {
 
+    private static final int FETCH_SIZE = 1_000;
+
     protected final JdbcTemplate jdbcTemplate;
     protected final Clock clock;
 
@@ -64,6 +67,45 @@ public class PostgreSqlConsumedOutboxRepository implements ConsumedOutboxReposit
         );
     }
 
+    @Override
+    public void forEachConsumed(Instant since, BiConsumer<UUID, Instant> action) {
+        String sql = """
+            SELECT id, consumed_at
+            FROM outbox_consumed_events
+            WHERE consumed_at >= ?
+        """;
+        jdbcTemplate.query(
+                sql,
+                ps -> {
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setTimestamp(1, Timestamp.from(since));
+                },
+                rs -> {
+                    action.accept(rs.getObject("id", UUID.class), rs.getTimestamp("consumed_at").toInstant());
+                }
+        );
+    }
+
+    @Override
+    public int deleteByIds(Set<UUID> ids) {
+        if (!RepositoryUtils.isIdsValid(ids)) {
+            return 0;
+        }
+        String sql = """
+            DELETE FROM outbox_consumed_events
+            WHERE id IN (%s)
+        """.formatted(RepositoryUtils.generateIdsPlaceholders(ids));
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    int paramId = 1;
+                    for (UUID id : ids) {
+                        ps.setObject(paramId++, id);
+                    }
+                }
+        );
+    }
+
     @Override
     public int deleteBatchByThreshold(Instant threshold, int batchSize) {
         String sql = """
@@ -85,4 +127,31 @@ public class PostgreSqlConsumedOutboxRepository implements ConsumedOutboxReposit
                 }
         );
     }
+
+    @Override
+    public boolean supportsDeleteByIdThreshold() {
+        return true;
+    }
+
+    @Override
+    public int deleteBatchByIdThreshold(UUID idThreshold, int batchSize) {
+        String sql = """
+            WITH to_delete AS (
+                SELECT id 
+                FROM outbox_consumed_events 
+                WHERE id < ?
+                ORDER BY id
+                LIMIT ?
+            )
+            DELETE FROM outbox_consumed_events
+            WHERE id IN (SELECT id FROM to_delete)
+        """;
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setObject(1, idThreshold);
+                    ps.setInt(2, batchSize);
+                }
+        );
+    }
 }
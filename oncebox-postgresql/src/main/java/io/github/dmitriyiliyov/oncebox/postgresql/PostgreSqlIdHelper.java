@@ -4,6 +4,7 @@ import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Set;
 import java.util.UUID;
 
@@ -11,6 +12,10 @@ public final class PostgreSqlIdHelper implements SqlIdHelper {
 
     @Override
     public void setIdToPs(PreparedStatement ps, int parameterIndex, UUID id) throws SQLException {
+        if (id == null) {
+            ps.setNull(parameterIndex, Types.OTHER);
+            return;
+        }
         ps.setObject(parameterIndex, id);
     }
 
@@ -4,6 +4,7 @@ import io.github.dmitriyiliyov.oncebox.core.publisher.AbstractOutboxRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.stage.OutboxProcessingCycle;
 import io.github.dmitriyiliyov.oncebox.core.utils.ResultSetMapper;
 import io.github.dmitriyiliyov.oncebox.core.utils.SqlIdHelper;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -13,6 +14,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * PostgreSQL-specific implementation of {@link OutboxRepository}.
@@ -22,6 +24,9 @@ import java.util.Objects;
  *     <code>FOR UPDATE SKIP LOCKED</code> (available since PostgreSQL 9.5) to allow multiple service instances
  *     to process outbox batches in parallel without conflicting on the same rows.</li>
  *
+ *     <li>stores the lease owner and expiration on claimed events, so stuck recovery can reclaim
+ *     only expired leases instead of relying on {@code updated_at} alone.</li>
+ *
  *     <li>performs batched deletion of processed events using a CTE
  *     (<code>WITH ... AS</code>), ensuring predictable load on the database.</li>
  *
@@ -39,23 +44,48 @@ public class PostgreSqlOutboxRepository extends AbstractOutboxRepository {
         this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
     }
 
+    public PostgreSqlOutboxRepository(JdbcTemplate jdbcTemplate,
+                                      Clock clock,
+                                      SqlIdHelper idHelper,
+                                      ResultSetMapper mapper,
+                                      String table) {
+        super(jdbcTemplate, clock, idHelper, table);
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+    }
+
+    @Override
+    protected String insertIfAbsentSql() {
+        return """
+            INSERT INTO %s
+            (id, status, event_type, payload_type, payload, retry_count, next_retry_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+        """.formatted(table);
+    }
+
     @Override
     public List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
                                                                   EventStatus lockStatus) {
+        return findAndLockBatchByEventTypeAndStatus(eventType, status, batchSize, lockStatus, null, null);
+    }
+
+    @Override
+    public List<OutboxEvent> findAndLockBatchByEventTypeAndStatus(String eventType, EventStatus status, int batchSize,
+                                                                  EventStatus lockStatus, UUID lockedBy, Instant leaseUntil) {
         String sql = """
             WITH to_lock AS (
-                SELECT id FROM outbox_events
+                SELECT id FROM %1$s
                 WHERE event_type = ? AND status = ? AND next_retry_at <= ?
                 ORDER BY next_retry_at
                 LIMIT ?
                 FOR UPDATE SKIP LOCKED
             )
-            UPDATE outbox_events
-                SET status = ?, updated_at = ?
+            UPDATE %1$s
+                SET status = ?, updated_at = ?, locked_by = ?, lease_until = ?
             WHERE id IN(SELECT id FROM to_lock)
             RETURNING id, status, event_type, payload_type, payload, retry_count, next_retry_at, created_at, updated_at
-        """;
-        return jdbcTemplate.query(
+        """.formatted(table);
+        List<OutboxEvent> events = jdbcTemplate.query(
                 sql,
                 ps -> {
                     ps.setString(1, eventType);
@@ -64,52 +94,66 @@ public class PostgreSqlOutboxRepository extends AbstractOutboxRepository {
                     ps.setInt(4, batchSize);
                     ps.setString(5, lockStatus.name());
                     ps.setTimestamp(6, Timestamp.from(clock.instant()));
+                    idHelper.setIdToPs(ps, 7, lockedBy);
+                    ps.setTimestamp(8, leaseUntil == null ? null : Timestamp.from(leaseUntil));
                 },
                 (rs, rowNum) -> mapper.toEvent(rs)
         );
+        OutboxProcessingCycle.recordStatement();
+        return events;
     }
 
     @Override
     public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus) {
+        return findAndLockBatchByStatus(status, batchSize, lockStatus, null, null);
+    }
+
+    @Override
+    public List<OutboxEvent> findAndLockBatchByStatus(EventStatus status, int batchSize, EventStatus lockStatus,
+                                                      UUID lockedBy, Instant leaseUntil) {
         String sql = """
             WITH to_lock AS (
-                SELECT id FROM outbox_events
+                SELECT id FROM %1$s
                 WHERE status = ?
                 ORDER BY updated_at
                 LIMIT ?
                 FOR UPDATE SKIP LOCKED
             )
-            UPDATE outbox_events
-                SET status = ?, updated_at = ?
+            UPDATE %1$s
+                SET status = ?, updated_at = ?, locked_by = ?, lease_until = ?
             WHERE id IN(SELECT id FROM to_lock)
             RETURNING id, status, event_type, payload_type, payload, retry_count, next_retry_at, created_at, updated_at
-        """;
-        return jdbcTemplate.query(
+        """.formatted(table);
+        List<OutboxEvent> events = jdbcTemplate.query(
                 sql,
                 ps -> {
                     ps.setString(1, status.name());
                     ps.setInt(2, batchSize);
                     ps.setString(3, lockStatus.name());
                     ps.setTimestamp(4, Timestamp.from(clock.instant()));
+                    idHelper.setIdToPs(ps, 5, lockedBy);
+                    ps.setTimestamp(6, leaseUntil == null ? null : Timestamp.from(leaseUntil));
                 },
                 (rs, rowNum) -> mapper.toEvent(rs)
         );
+        OutboxProcessingCycle.recordStatement();
+        return events;
     }
 
     @Override
     public int updateBatchStatusByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize, EventStatus newStatus) {
         String sql = """
             WITH to_update AS (
-                SELECT id FROM outbox_events
+                SELECT id FROM %1$s
                 WHERE status = ? AND updated_at <= ?
                 ORDER BY updated_at
                 LIMIT ?
                 FOR UPDATE SKIP LOCKED
             )
-            UPDATE outbox_events
+            UPDATE %1$s
                 SET status = ?, updated_at = ?
             WHERE id IN (SELECT id FROM to_update)
-        """;
+        """.formatted(table);
         return jdbcTemplate.update(
                 sql,
                 ps -> {
@@ -122,18 +166,47 @@ public class PostgreSqlOutboxRepository extends AbstractOutboxRepository {
         );
     }
 
+    @Override
+    public int updateBatchStatusByStatusAndExpiredLease(EventStatus status, Instant threshold, int batchSize,
+                                                        EventStatus newStatus) {
+        String sql = """
+            WITH to_update AS (
+                SELECT id FROM %1$s
+                WHERE status = ? AND (lease_until <= ? OR (lease_until IS NULL AND updated_at <= ?))
+                ORDER BY updated_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE %1$s
+                SET status = ?, updated_at = ?, locked_by = NULL, lease_until = NULL
+            WHERE id IN (SELECT id FROM to_update)
+        """.formatted(table);
+        Timestamp now = Timestamp.from(clock.instant());
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, Timestamp.from(threshold));
+                    ps.setInt(4, batchSize);
+                    ps.setString(5, newStatus.name());
+                    ps.setTimestamp(6, now);
+                }
+        );
+    }
+
     @Override
     public int deleteBatchByStatusAndThreshold(EventStatus status, Instant threshold, int batchSize) {
         String sql = """
             WITH to_delete AS (
-                SELECT id FROM outbox_events 
+                SELECT id FROM %1$s 
                 WHERE status = ? AND updated_at <= ?
                 ORDER BY updated_at
                 LIMIT ?
             )
-            DELETE FROM outbox_events 
+            DELETE FROM %1$s 
             WHERE id IN (SELECT id FROM to_delete)
-        """;
+        """.formatted(table);
         return jdbcTemplate.update(
                 sql,
                 ps -> {
@@ -143,4 +216,31 @@ public class PostgreSqlOutboxRepository extends AbstractOutboxRepository {
                 }
         );
     }
+
+    @Override
+    public boolean supportsDeleteByIdThreshold() {
+        return true;
+    }
+
+    @Override
+    public int deleteBatchByStatusAndIdThreshold(EventStatus status, UUID idThreshold, int batchSize) {
+        String sql = """
+            WITH to_delete AS (
+                SELECT id FROM %1$s 
+                WHERE status = ? AND id < ?
+                ORDER BY id
+                LIMIT ?
+            )
+            DELETE FROM %1$s 
+            WHERE id IN (SELECT id FROM to_delete)
+        """.formatted(table);
+        return jdbcTemplate.update(
+                sql,
+                ps -> {
+                    ps.setString(1, status.name());
+                    idHelper.setIdToPs(ps, 2, idThreshold);
+                    ps.setInt(3, batchSize);
+                }
+        );
+    }
 }
@@ -1,5 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.postgresql;
 
+import io.github.dmitriyiliyov.oncebox.core.publisher.UuidV7Generator;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -181,4 +183,29 @@ class PostgreSqlConsumedOutboxRepositoryIntegrationTests extends BasePostgresSql
         int result = repository.saveIfAbsent(fresh);
         assertThat(result).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("IT deleteBatchByIdThreshold() should delete only events created before threshold")
+    void deleteBatchByIdThreshold_deletesOnlyEventsCreatedBeforeThreshold() {
+        Instant now = Instant.now();
+        UUID old = UuidV7Utils.lowerBound(now.minus(1, ChronoUnit.HOURS));
+        UUID fresh = new UuidV7Generator().generate();
+        repository.saveIfAbsent(Set.of(old, fresh));
+
+        int deleted = repository.deleteBatchByIdThreshold(UuidV7Utils.lowerBound(now.minusSeconds(60)), 10);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.saveIfAbsent(fresh)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("IT deleteBatchByIdThreshold() should respect batch size")
+    void deleteBatchByIdThreshold_respectsBatchSize() {
+        Instant now = Instant.now();
+        IntStream.range(0, 5).forEach(i -> repository.saveIfAbsent(UuidV7Utils.lowerBound(now.minus(i + 1, ChronoUnit.HOURS))));
+
+        int deleted = repository.deleteBatchByIdThreshold(UuidV7Utils.lowerBound(now), 3);
+
+        assertThat(deleted).isEqualTo(3);
+    }
 }
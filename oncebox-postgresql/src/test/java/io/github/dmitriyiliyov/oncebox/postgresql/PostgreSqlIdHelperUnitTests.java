@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Set;
 import java.util.UUID;
 
@@ -44,6 +45,16 @@ class PostgreSqlIdHelperUnitTests {
         verify(ps).setObject(eq(parameterIndex), eq(id));
     }
 
+    @Test
+    @DisplayName("UT setIdToPs() with null id should call ps.setNull with OTHER type")
+    void setIdToPs_nullId_shouldCallSetNullWithOtherType() throws SQLException {
+        // when
+        helper.setIdToPs(ps, 2, null);
+
+        // then
+        verify(ps).setNull(2, Types.OTHER);
+    }
+
     @Test
     @DisplayName("UT setIdsToPs() should call ps.setObject for each id with incrementing index")
     void setIdsToPs_shouldCallSetObjectForEachIdWithIncrementingIndex() throws SQLException {
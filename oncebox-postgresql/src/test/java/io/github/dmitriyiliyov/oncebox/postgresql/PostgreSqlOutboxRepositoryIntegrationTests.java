@@ -253,4 +253,28 @@ class PostgreSqlOutboxRepositoryIntegrationTests extends BasePostgresSqlIntegrat
 
         assertThat(deleted).isEqualTo(3);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("IT deleteBatchByStatusAndIdThreshold() should delete only older events with status")
+    void deleteBatchByStatusAndIdThreshold_deletesOnlyOlderEventsWithStatus() { delegate.deleteBatchByStatusAndIdThreshold_deletesOnlyOlderEventsWithStatus(); }
+
+    @Test
+    @DisplayName("IT extendLeaseBatch() should extend only leases owned by worker")
+    void extendLeaseBatch_onlyOwnedLeases_extended() { delegate.extendLeaseBatch_onlyOwnedLeases_extended(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndExpiredLease() should skip live leases")
+    void updateBatchStatusByStatusAndExpiredLease_skipsLiveLeases() { delegate.updateBatchStatusByStatusAndExpiredLease_skipsLiveLeases(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndExpiredLease() should recover expired leases")
+    void updateBatchStatusByStatusAndExpiredLease_recoversExpiredLeases() { delegate.updateBatchStatusByStatusAndExpiredLease_recoversExpiredLeases(); }
+
+    @Test
+    @DisplayName("IT updateBatchStatusByStatusAndLockedBy() should release only worker leases")
+    void updateBatchStatusByStatusAndLockedBy_releasesOnlyOwnedLeases() { delegate.updateBatchStatusByStatusAndLockedBy_releasesOnlyOwnedLeases(); }
+
+    @Test
+    @DisplayName("IT findEventTypesWithDueEvents() should return only event types with due pending events")
+    void findEventTypesWithDueEvents_returnsOnlyTypesWithDueEvents() { delegate.findEventTypesWithDueEvents_returnsOnlyTypesWithDueEvents(); }
+}
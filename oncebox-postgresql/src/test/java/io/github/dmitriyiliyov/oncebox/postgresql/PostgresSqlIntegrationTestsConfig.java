@@ -1,6 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.postgresql;
 
 import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.DefaultOutboxManager;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
@@ -38,6 +39,7 @@ public class PostgresSqlIntegrationTestsConfig {
                         new ClassPathResource("psql/psql_outbox_table.sql"),
                         new ClassPathResource("psql/psql_outbox_dlq_table.sql"),
                         new ClassPathResource("psql/psql_outbox_consumed_table.sql"),
+                        new ClassPathResource("psql/psql_outbox_consumed_offsets_table.sql"),
                         new ClassPathResource("psql/psql_outbox_jobs_table.sql"),
                         new ClassPathResource("psql/psql_business_table.sql"))
         );
@@ -64,6 +66,11 @@ public class PostgresSqlIntegrationTestsConfig {
         return new PostgreSqlConsumedOutboxRepository(new JdbcTemplate(dataSource), clock);
     }
 
+    @Bean
+    public ConsumedOffsetRepository postgresConsumedOffsetRepository(DataSource dataSource, Clock clock) {
+        return new PostgreSqlConsumedOffsetRepository(new JdbcTemplate(dataSource), clock);
+    }
+
     @Bean
     public JdbcTemplate postgresJdbcTemplate(DataSource dataSource) {
         return new JdbcTemplate(dataSource);
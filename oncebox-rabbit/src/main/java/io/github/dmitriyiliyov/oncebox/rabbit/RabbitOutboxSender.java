@@ -38,6 +38,7 @@ public class RabbitOutboxSender implements OutboxSender {
         Set<UUID> failedIds = ConcurrentHashMap.newKeySet();
         Map<Long, UUID> deliveryTagToEventId = new ConcurrentHashMap<>();
         CountDownLatch latch = new CountDownLatch(events.size());
+        boolean destinationUnavailable = false;
         try {
             rabbitTemplate.execute(channel -> {
                 channel.confirmSelect();
@@ -49,7 +50,8 @@ public class RabbitOutboxSender implements OutboxSender {
                                 .headers(Map.of(
                                         OutboxHeaders.EVENT_ID.getValue(), event.getId().toString(),
                                         OutboxHeaders.EVENT_TYPE.getValue(), event.getEventType(),
-                                        OutboxHeaders.EVENT_PAYLOAD_TYPE.getValue(), event.getPayloadType()
+                                        OutboxHeaders.EVENT_PAYLOAD_TYPE.getValue(), event.getPayloadType(),
+                                        OutboxHeaders.EVENT_CREATED_AT.getValue(), String.valueOf(event.getCreatedAt().toEpochMilli())
                                 ))
                                 .build();
                         long deliveryTag = channel.getNextPublishSeqNo();
@@ -71,19 +73,21 @@ public class RabbitOutboxSender implements OutboxSender {
             });
             boolean completed = latch.await(emergencyTimeout, TimeUnit.SECONDS);
             if (!completed) {
+                destinationUnavailable = true;
                 events.stream()
                         .filter(e -> !processedIds.contains(e.getId()) && !failedIds.contains(e.getId()))
                         .forEach(e -> failedIds.add(e.getId()));
                 log.error("Sending batch of events to exchange={} was non completed before timeout ", exchange);
             }
         } catch (Exception e) {
+            destinationUnavailable = true;
             failedIds.addAll(events.stream().map(OutboxEvent::getId).collect(Collectors.toSet()));
             log.error(
                     "Error when preparing batch of '{}' events to send in exchange={}, mark whole batch as failed",
                     events.getFirst().getEventType(), exchange, e
             );
         }
-        return new SenderResult(new HashSet<>(processedIds), new HashSet<>(failedIds));
+        return new SenderResult(new HashSet<>(processedIds), new HashSet<>(failedIds), destinationUnavailable);
     }
 
     private static class OutboxConfirmListener implements ConfirmListener {
@@ -178,6 +178,7 @@ class RabbitOutboxSenderUnitTests {
 
         assertThat(result.failedIds()).containsExactlyInAnyOrder(event1.getId(), event2.getId());
         assertThat(result.processedIds()).isEmpty();
+        assertThat(result.destinationUnavailable()).isFalse();
     }
 
     @Test
@@ -280,6 +281,7 @@ class RabbitOutboxSenderUnitTests {
 
         assertThat(result.failedIds()).containsExactlyInAnyOrder(event1.getId());
         assertThat(result.processedIds()).isEmpty();
+        assertThat(result.destinationUnavailable()).isTrue();
     }
 
     @Test
@@ -309,6 +311,7 @@ class RabbitOutboxSenderUnitTests {
 
         assertThat(result.processedIds()).containsExactly(event1.getId());
         assertThat(result.failedIds()).containsExactly(event2.getId());
+        assertThat(result.destinationUnavailable()).isTrue();
     }
 
     @Test
@@ -1,7 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
 public enum DatabaseType {
-    POSTGRESQL, MYSQL, ORACLE;
+    POSTGRESQL, MYSQL, ORACLE, H2;
 
     public static DatabaseType fromString(String value) {
         if (value == null || value.isBlank()) {
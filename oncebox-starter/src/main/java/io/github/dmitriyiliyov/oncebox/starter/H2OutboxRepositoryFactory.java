@@ -0,0 +1,70 @@
+package io.github.dmitriyiliyov.oncebox.starter;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInbox;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetRepository;
+import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqRepository;
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.h2.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+public class H2OutboxRepositoryFactory implements OutboxRepositoryFactory {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    public H2OutboxRepositoryFactory(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    @Override
+    public OutboxRepository createOutboxRepository() {
+        return new H2OutboxRepository(
+                jdbcTemplate,
+                clock,
+                new H2IdHelper(),
+                new DefaultResultSetMapper()
+        );
+    }
+
+    @Override
+    public OutboxDlqRepository createOutboxDlqRepository() {
+        return new H2OutboxDlqRepository(
+                jdbcTemplate,
+                new H2IdHelper(),
+                new DefaultResultSetMapper(),
+                clock
+        );
+    }
+
+    @Override
+    public DistributedLockRepository createDistributedLockRepository() {
+        return new H2DistributedLockRepository(jdbcTemplate, new H2IdHelper());
+    }
+
+    @Override
+    public ConsumedOutboxRepository createConsumedOutboxRepository() {
+        return new H2ConsumedOutboxRepository(jdbcTemplate, clock, new H2IdHelper());
+    }
+
+    @Override
+    public ConsumedOffsetRepository createConsumedOffsetRepository() {
+        return new H2ConsumedOffsetRepository(jdbcTemplate, clock);
+    }
+
+    @Override
+    public OutboxRepository createInboxRepository() {
+        return new H2OutboxRepository(
+                jdbcTemplate,
+                clock,
+                new H2IdHelper(),
+                new DefaultResultSetMapper(),
+                OutboxInbox.TABLE
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
 import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInbox;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetRepository;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqRepository;
@@ -54,4 +56,20 @@ public class MySqlOutboxRepositoryFactory implements OutboxRepositoryFactory {
                 new DefaultBytesResultSetMapper()
         );
     }
+
+    @Override
+    public ConsumedOffsetRepository createConsumedOffsetRepository() {
+        return new MySqlConsumedOffsetRepository(jdbcTemplate, clock);
+    }
+
+    @Override
+    public OutboxRepository createInboxRepository() {
+        return new MySqlOutboxRepository(
+                jdbcTemplate,
+                clock,
+                new MySqlIdHelper(),
+                new DefaultBytesResultSetMapper(),
+                OutboxInbox.TABLE
+        );
+    }
 }
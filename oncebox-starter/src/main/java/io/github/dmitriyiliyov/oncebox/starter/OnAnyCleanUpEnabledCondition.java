@@ -11,12 +11,17 @@ public class OnAnyCleanUpEnabledCondition extends SpringBootCondition {
     public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
         Boolean isPublisherCleanUpEnabled = context.getEnvironment().getProperty("oncebox.publisher.clean-up.enabled", Boolean.class);
         Boolean isConsumerCleanUpEnabled = context.getEnvironment().getProperty("oncebox.consumer.clean-up.enabled", Boolean.class);
+        Boolean isInboxEnabled = context.getEnvironment().getProperty("oncebox.consumer.inbox.enabled", Boolean.class);
+        Boolean isInboxCleanUpEnabled = context.getEnvironment().getProperty("oncebox.consumer.inbox.clean-up.enabled", Boolean.class);
         if (isPublisherCleanUpEnabled == null || isPublisherCleanUpEnabled) {
             return ConditionOutcome.match();
         }
         if (isConsumerCleanUpEnabled != null && isConsumerCleanUpEnabled) {
             return ConditionOutcome.match();
         }
+        if (isInboxEnabled != null && isInboxEnabled && (isInboxCleanUpEnabled == null || isInboxCleanUpEnabled)) {
+            return ConditionOutcome.match();
+        }
         return ConditionOutcome.noMatch("Nobody has the clean-up function enabled");
     }
 }
@@ -85,6 +85,14 @@ public class OutboxAutoConfiguration {
         return new OracleOutboxRepositoryFactory(jdbcTemplate, clock);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnDatabaseType(type = DatabaseType.H2)
+    public OutboxRepositoryFactory h2OutboxRepositoryFactory(@Qualifier("outboxJdbcTemplate") JdbcTemplate jdbcTemplate,
+                                                             Clock clock) {
+        return new H2OutboxRepositoryFactory(jdbcTemplate, clock);
+    }
+
     @Bean
     @ConditionalOnProperty(
             prefix = "oncebox.tables",
@@ -1,5 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
+import io.github.dmitriyiliyov.oncebox.starter.consumer.OutboxConsumerProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -31,19 +33,37 @@ public final class OutboxDatabasePopulatorFactory {
                     TableSupplierType.OUTBOX, new PostgreSqlOutboxTableSqlResourceSupplier(),
                     TableSupplierType.OUTBOX_JOBS, new PostgreSqlOutboxJobsTableSqlResourceSupplier(),
                     TableSupplierType.OUTBOX_DLQ, new PostgreSqlOutboxDlqTableSqlResourceSupplier(),
-                    TableSupplierType.CONSUMED_OUTBOX, new PostgreSqlOutboxConsumedTableSqlResourceSupplier()
+                    TableSupplierType.CONSUMED_OUTBOX, new PostgreSqlOutboxConsumedTableSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OUTBOX_INDEX, new PostgreSqlOutboxConsumedIndexSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OFFSETS, new PostgreSqlOutboxConsumedOffsetsTableSqlResourceSupplier(),
+                    TableSupplierType.INBOX, new PostgreSqlOutboxInboxTableSqlResourceSupplier()
             ),
             DatabaseType.MYSQL, Map.of(
                     TableSupplierType.OUTBOX, new MySqlOutboxTableSqlResourceSupplier(),
                     TableSupplierType.OUTBOX_JOBS, new MySqlOutboxJobsTableSqlResourceSupplier(),
                     TableSupplierType.OUTBOX_DLQ, new MySqlOutboxDlqTableSqlResourceSupplier(),
-                    TableSupplierType.CONSUMED_OUTBOX, new MySqlOutboxConsumedTableSqlResourceSupplier()
+                    TableSupplierType.CONSUMED_OUTBOX, new MySqlOutboxConsumedTableSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OUTBOX_INDEX, new MySqlOutboxConsumedIndexSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OFFSETS, new MySqlOutboxConsumedOffsetsTableSqlResourceSupplier(),
+                    TableSupplierType.INBOX, new MySqlOutboxInboxTableSqlResourceSupplier()
             ),
             DatabaseType.ORACLE, Map.of(
                     TableSupplierType.OUTBOX, new OracleOutboxTableSqlResourceSupplier(),
                     TableSupplierType.OUTBOX_JOBS, new OracleOutboxJobsTableSqlResourceSupplier(),
                     TableSupplierType.OUTBOX_DLQ, new OracleOutboxDlqTableSqlResourceSupplier(),
-                    TableSupplierType.CONSUMED_OUTBOX, new OracleOutboxConsumedTableSqlResourceSupplier()
+                    TableSupplierType.CONSUMED_OUTBOX, new OracleOutboxConsumedTableSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OUTBOX_INDEX, new OracleOutboxConsumedIndexSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OFFSETS, new OracleOutboxConsumedOffsetsTableSqlResourceSupplier(),
+                    TableSupplierType.INBOX, new OracleOutboxInboxTableSqlResourceSupplier()
+            ),
+            DatabaseType.H2, Map.of(
+                    TableSupplierType.OUTBOX, new H2OutboxTableSqlResourceSupplier(),
+                    TableSupplierType.OUTBOX_JOBS, new H2OutboxJobsTableSqlResourceSupplier(),
+                    TableSupplierType.OUTBOX_DLQ, new H2OutboxDlqTableSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OUTBOX, new H2OutboxConsumedTableSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OUTBOX_INDEX, new H2OutboxConsumedIndexSqlResourceSupplier(),
+                    TableSupplierType.CONSUMED_OFFSETS, new H2OutboxConsumedOffsetsTableSqlResourceSupplier(),
+                    TableSupplierType.INBOX, new H2OutboxInboxTableSqlResourceSupplier()
             )
     );
 
@@ -82,6 +102,21 @@ public final class OutboxDatabasePopulatorFactory {
             if (properties.getConsumer() != null && properties.getConsumer().isEnabled()) {
                 Supplier<Resource> consumedSupplier = suppliers.get(TableSupplierType.CONSUMED_OUTBOX);
                 scripts.add(consumedSupplier.get());
+                OutboxProperties.CleanUpProperties consumedCleanUp = properties.getConsumer().getCleanUp();
+                if (consumedCleanUp == null || consumedCleanUp.getMode() != CleanUpMode.ID_RANGE) {
+                    Supplier<Resource> consumedIndexSupplier = suppliers.get(TableSupplierType.CONSUMED_OUTBOX_INDEX);
+                    scripts.add(consumedIndexSupplier.get());
+                }
+                OutboxConsumerProperties.SourceProperties source = properties.getConsumer().getSource();
+                if (source != null && Boolean.TRUE.equals(source.isOffsetTracking())) {
+                    Supplier<Resource> consumedOffsetsSupplier = suppliers.get(TableSupplierType.CONSUMED_OFFSETS);
+                    scripts.add(consumedOffsetsSupplier.get());
+                }
+                OutboxConsumerProperties.InboxProperties inbox = properties.getConsumer().getInbox();
+                if (inbox != null && Boolean.TRUE.equals(inbox.isEnabled())) {
+                    Supplier<Resource> inboxSupplier = suppliers.get(TableSupplierType.INBOX);
+                    scripts.add(inboxSupplier.get());
+                }
             }
 
             Supplier<Resource> outboxJobsSupplier = suppliers.get(TableSupplierType.OUTBOX_JOBS);
@@ -135,6 +170,30 @@ public final class OutboxDatabasePopulatorFactory {
         }
     }
 
+    private static final class PostgreSqlOutboxConsumedIndexSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("psql/psql_outbox_consumed_index.sql");
+        }
+    }
+
+    private static final class PostgreSqlOutboxConsumedOffsetsTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("psql/psql_outbox_consumed_offsets_table.sql");
+        }
+    }
+
+    private static final class PostgreSqlOutboxInboxTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("psql/psql_outbox_inbox_table.sql");
+        }
+    }
+
     private static final class MySqlOutboxTableSqlResourceSupplier implements Supplier<Resource> {
 
         @Override
@@ -167,6 +226,30 @@ public final class OutboxDatabasePopulatorFactory {
         }
     }
 
+    private static final class MySqlOutboxConsumedIndexSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("mysql/mysql_outbox_consumed_index.sql");
+        }
+    }
+
+    private static final class MySqlOutboxConsumedOffsetsTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("mysql/mysql_outbox_consumed_offsets_table.sql");
+        }
+    }
+
+    private static final class MySqlOutboxInboxTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("mysql/mysql_outbox_inbox_table.sql");
+        }
+    }
+
     private static final class OracleOutboxTableSqlResourceSupplier implements Supplier<Resource> {
 
         @Override
@@ -198,4 +281,84 @@ public final class OutboxDatabasePopulatorFactory {
             return new ClassPathResource("oracle/oracle_outbox_consumed_table.sql");
         }
     }
+
+    private static final class OracleOutboxConsumedIndexSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("oracle/oracle_outbox_consumed_index.sql");
+        }
+    }
+
+    private static final class OracleOutboxConsumedOffsetsTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("oracle/oracle_outbox_consumed_offsets_table.sql");
+        }
+    }
+
+    private static final class OracleOutboxInboxTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("oracle/oracle_outbox_inbox_table.sql");
+        }
+    }
+
+    private static final class H2OutboxTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("h2/h2_outbox_table.sql");
+        }
+    }
+
+    private static final class H2OutboxJobsTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("h2/h2_outbox_jobs_table.sql");
+        }
+    }
+
+    private static final class H2OutboxDlqTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("h2/h2_outbox_dlq_table.sql");
+        }
+    }
+
+    private static final class H2OutboxConsumedTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("h2/h2_outbox_consumed_table.sql");
+        }
+    }
+
+    private static final class H2OutboxConsumedIndexSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("h2/h2_outbox_consumed_index.sql");
+        }
+    }
+
+    private static final class H2OutboxConsumedOffsetsTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("h2/h2_outbox_consumed_offsets_table.sql");
+        }
+    }
+
+    private static final class H2OutboxInboxTableSqlResourceSupplier implements Supplier<Resource> {
+
+        @Override
+        public ClassPathResource get() {
+            return new ClassPathResource("h2/h2_outbox_inbox_table.sql");
+        }
+    }
 }
@@ -4,9 +4,12 @@ public enum OutboxJobType {
     PUBLISHER_CLEANUP("cleanup-processed-events"),
     CONSUMER_CLEANUP("cleanup-consumed-events"),
     STUCK_RECOVERY("stuck-event-recovery"),
+    INBOX_CLEANUP("cleanup-processed-inbox-events"),
+    INBOX_STUCK_RECOVERY("stuck-inbox-event-recovery"),
     TRANSFER_TO_DLQ("transfer-to-dlq"),
     TRANSFER_FROM_DLQ("transfer-from-dlq"),
-    DLQ_CLEANUP("cleanup-resolved-dlq-events");
+    DLQ_CLEANUP("cleanup-resolved-dlq-events"),
+    GAUGE_REFRESH("refresh-gauges");
 
     private final String value;
 
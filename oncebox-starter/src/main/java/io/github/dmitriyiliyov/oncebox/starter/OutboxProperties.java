@@ -1,6 +1,8 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.polling.LatencyPollingPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.core.polling.PollingPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.starter.consumer.OutboxConsumerProperties;
 import io.github.dmitriyiliyov.oncebox.starter.publisher.OutboxPublisherProperties;
@@ -151,6 +153,7 @@ public class OutboxProperties implements OutboxPropertiesHolder {
         private Boolean enabled;
         private Integer batchSize;
         private Duration ttl;
+        private CleanUpMode mode;
         @NestedConfigurationProperty
         private PollingProperties polling;
 
@@ -159,12 +162,14 @@ public class OutboxProperties implements OutboxPropertiesHolder {
                 enabled = true;
                 batchSize = (batchSize == null || batchSize <= 0) ? DEFAULT_BATCH_SIZE : batchSize;
                 ttl = ttl == null ? DEFAULT_TTL : ttl;
+                mode = mode == null ? CleanUpMode.TIMESTAMP : mode;
                 polling = polling == null ? new PollingProperties() : polling;
                 polling.applyDefaults(POLLING_DEFAULTS);
             } else {
                 enabled = false;
                 batchSize = 0;
                 ttl = null;
+                mode = CleanUpMode.TIMESTAMP;
                 polling = new PollingProperties();
             }
         }
@@ -195,6 +200,15 @@ public class OutboxProperties implements OutboxPropertiesHolder {
             this.ttl = ttl;
         }
 
+        @Override
+        public CleanUpMode getMode() {
+            return mode;
+        }
+
+        public void setMode(CleanUpMode mode) {
+            this.mode = mode;
+        }
+
         public PollingProperties getPolling() {
             return polling;
         }
@@ -234,6 +248,7 @@ public class OutboxProperties implements OutboxPropertiesHolder {
                     "enabled=" + enabled +
                     ", batchSize=" + batchSize +
                     ", ttl=" + ttl +
+                    ", mode=" + mode +
                     ", polling=" + polling +
                     '}';
         }
@@ -401,7 +416,12 @@ public class OutboxProperties implements OutboxPropertiesHolder {
         }
     }
 
-    public static final class PollingProperties implements PollingPropertiesHolder {
+    public static final class PollingProperties implements PollingPropertiesHolder, LatencyPollingPropertiesHolder {
+
+        private static final Duration DEFAULT_TARGET_LATENCY = Duration.ofSeconds(5);
+        private static final double DEFAULT_PROPORTIONAL_GAIN = 0.5;
+        private static final double DEFAULT_INTEGRAL_GAIN = 0.05;
+        private static final double DEFAULT_DERIVATIVE_GAIN = 0.1;
 
         private PollingType type;
         private Duration initialDelay;
@@ -409,6 +429,10 @@ public class OutboxProperties implements OutboxPropertiesHolder {
         private Duration minFixedDelay;
         private Duration maxFixedDelay;
         private Double multiplier;
+        private Duration targetLatency;
+        private Double proportionalGain;
+        private Double integralGain;
+        private Double derivativeGain;
 
         public void applyDefaults(Defaults defaults) {
             type = type == null ? defaults.type() : type;
@@ -426,6 +450,16 @@ public class OutboxProperties implements OutboxPropertiesHolder {
                     multiplier = multiplier == null ? defaults.multiplier() : multiplier;
                     fixedDelay = Duration.ZERO;
                 }
+                case LATENCY -> {
+                    minFixedDelay = minFixedDelay == null ? defaults.minFixedDelay() : minFixedDelay;
+                    maxFixedDelay = maxFixedDelay == null ? defaults.maxFixedDelay() : maxFixedDelay;
+                    targetLatency = targetLatency == null ? DEFAULT_TARGET_LATENCY : targetLatency;
+                    proportionalGain = proportionalGain == null ? DEFAULT_PROPORTIONAL_GAIN : proportionalGain;
+                    integralGain = integralGain == null ? DEFAULT_INTEGRAL_GAIN : integralGain;
+                    derivativeGain = derivativeGain == null ? DEFAULT_DERIVATIVE_GAIN : derivativeGain;
+                    fixedDelay = Duration.ZERO;
+                    multiplier = Double.NaN;
+                }
             }
             validate();
         }
@@ -449,6 +483,27 @@ public class OutboxProperties implements OutboxPropertiesHolder {
                         throw new IllegalArgumentException("multiplier cannot be negative or 0");
                     }
                 }
+                case LATENCY -> {
+                    Objects.requireNonNull(initialDelay, "initialDelay cannot be null");
+                    Objects.requireNonNull(minFixedDelay, "minFixedDelay cannot be null");
+                    Objects.requireNonNull(maxFixedDelay, "maxFixedDelay cannot be null");
+                    if (minFixedDelay.compareTo(maxFixedDelay) > 0) {
+                        throw new IllegalArgumentException("minFixedDelay cannot be greater than maxFixedDelay");
+                    }
+                    if (maxFixedDelay.isZero()) {
+                        throw new IllegalArgumentException("maxFixedDelay cannot be 0");
+                    }
+                    Objects.requireNonNull(targetLatency, "targetLatency cannot be null");
+                    if (targetLatency.isNegative() || targetLatency.isZero()) {
+                        throw new IllegalArgumentException("targetLatency cannot be negative or 0");
+                    }
+                    Objects.requireNonNull(proportionalGain, "proportionalGain cannot be null");
+                    Objects.requireNonNull(integralGain, "integralGain cannot be null");
+                    Objects.requireNonNull(derivativeGain, "derivativeGain cannot be null");
+                    if (proportionalGain < 0 || integralGain < 0 || derivativeGain < 0) {
+                        throw new IllegalArgumentException("controller gains cannot be negative");
+                    }
+                }
             }
         }
 
@@ -505,6 +560,42 @@ public class OutboxProperties implements OutboxPropertiesHolder {
             this.multiplier = multiplier;
         }
 
+        @Override
+        public Duration getTargetLatency() {
+            return targetLatency;
+        }
+
+        public void setTargetLatency(Duration targetLatency) {
+            this.targetLatency = targetLatency;
+        }
+
+        @Override
+        public Double getProportionalGain() {
+            return proportionalGain;
+        }
+
+        public void setProportionalGain(Double proportionalGain) {
+            this.proportionalGain = proportionalGain;
+        }
+
+        @Override
+        public Double getIntegralGain() {
+            return integralGain;
+        }
+
+        public void setIntegralGain(Double integralGain) {
+            this.integralGain = integralGain;
+        }
+
+        @Override
+        public Double getDerivativeGain() {
+            return derivativeGain;
+        }
+
+        public void setDerivativeGain(Double derivativeGain) {
+            this.derivativeGain = derivativeGain;
+        }
+
         @Override
         public String toString() {
             return "PollingProperties{" +
@@ -514,6 +605,10 @@ public class OutboxProperties implements OutboxPropertiesHolder {
                     ", minFixedDelay=" + minFixedDelay +
                     ", maxFixedDelay=" + maxFixedDelay +
                     ", multiplier=" + multiplier +
+                    ", targetLatency=" + targetLatency +
+                    ", proportionalGain=" + proportionalGain +
+                    ", integralGain=" + integralGain +
+                    ", derivativeGain=" + derivativeGain +
                     '}';
         }
 
@@ -536,6 +631,7 @@ public class OutboxProperties implements OutboxPropertiesHolder {
                 switch (type) {
                     case FIXED -> validateForFixed(type, initialDelay, fixedDelay);
                     case ADAPTIVE -> validateForAdaptive(type, initialDelay, minFixedDelay, maxFixedDelay, multiplier);
+                    case LATENCY -> validateForLatency(type, initialDelay, minFixedDelay, maxFixedDelay);
                 }
             }
 
@@ -554,6 +650,17 @@ public class OutboxProperties implements OutboxPropertiesHolder {
                 }
             }
 
+            private static void validateForLatency(PollingType type, Duration initialDelay, Duration minFixedDelay,
+                                                   Duration maxFixedDelay) {
+                Objects.requireNonNull(type, "type cannot be null");
+                Objects.requireNonNull(initialDelay, "initialDelay cannot be null");
+                Objects.requireNonNull(minFixedDelay, "minFixedDelay cannot be null");
+                Objects.requireNonNull(maxFixedDelay, "maxFixedDelay cannot be null");
+                if (minFixedDelay.compareTo(maxFixedDelay) > 0) {
+                    throw new IllegalArgumentException("minFixedDelay cannot be greater than maxFixedDelay");
+                }
+            }
+
             private static void validateForFixed(PollingType type, Duration initialDelay, Duration fixedDelay) {
                 Objects.requireNonNull(type, "type cannot be null");
                 Objects.requireNonNull(initialDelay, "initialDelay cannot be null");
@@ -1,6 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
 import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetRepository;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqRepository;
@@ -39,4 +40,24 @@ public interface OutboxRepositoryFactory {
      * @return the created {@link ConsumedOutboxRepository}.
      */
     ConsumedOutboxRepository createConsumedOutboxRepository();
+
+    /**
+     * Creates an instance of {@link ConsumedOffsetRepository} for managing consumed offset watermarks.
+     *
+     * @return the created {@link ConsumedOffsetRepository}.
+     * @throws UnsupportedOperationException if the database does not support offset tracking.
+     */
+    default ConsumedOffsetRepository createConsumedOffsetRepository() {
+        throw new UnsupportedOperationException("createConsumedOffsetRepository is not supported");
+    }
+
+    /**
+     * Creates an instance of {@link OutboxRepository} bound to the inbox table.
+     *
+     * @return the created {@link OutboxRepository}.
+     * @throws UnsupportedOperationException if the database does not support the inbox table.
+     */
+    default OutboxRepository createInboxRepository() {
+        throw new UnsupportedOperationException("createInboxRepository is not supported");
+    }
 }
@@ -1,10 +1,13 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
+import io.github.dmitriyiliyov.oncebox.core.jfr.JfrOutboxScheduleStrategyListener;
 import io.github.dmitriyiliyov.oncebox.core.polling.AdaptiveOutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.polling.FixedOutboxScheduleStrategy;
+import io.github.dmitriyiliyov.oncebox.core.polling.LatencyOutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategyListener;
 
+import java.time.Clock;
 import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -12,7 +15,7 @@ import java.util.concurrent.ScheduledExecutorService;
  * A factory for creating {@link OutboxScheduleStrategy} instances based on the polling configuration.
  * <p>
  * Implementations should support scheduling strategies based on {@link PollingType}, such as
- * {@link PollingType#FIXED} and {@link PollingType#ADAPTIVE}.
+ * {@link PollingType#FIXED}, {@link PollingType#ADAPTIVE} and {@link PollingType#LATENCY}.
  */
 public final class OutboxScheduleStrategyFactory {
 
@@ -27,7 +30,8 @@ public final class OutboxScheduleStrategyFactory {
      * @param listenerSupplier a supplier for providing a {@link OutboxScheduleStrategyListener} based on taskType.
      * @return                 a configured {@link OutboxScheduleStrategy} instance.
      * @throws NullPointerException  if some of the passed parameters is null.
-     * @throws IllegalStateException if an unknown or unsupported polling type is encountered.
+     * @throws IllegalStateException if an unknown or unsupported polling type is encountered,
+     *                               {@link PollingType#LATENCY} is supported only for outbox event types.
      */
     public static OutboxScheduleStrategy create(String taskType,
                                                 OutboxProperties.PollingProperties properties,
@@ -39,11 +43,54 @@ public final class OutboxScheduleStrategyFactory {
         Objects.requireNonNull(listenerSupplier, "listenerSupplier cannot be null");
 
         if (PollingType.FIXED.equals(properties.getType())) {
-            return new FixedOutboxScheduleStrategy(properties, executor, listenerSupplier.supply(taskType));
+            return new FixedOutboxScheduleStrategy(properties, executor, supplyListener(taskType, listenerSupplier));
         } else if (PollingType.ADAPTIVE.equals(properties.getType())) {
-            return new AdaptiveOutboxScheduleStrategy(properties, executor, listenerSupplier.supply(taskType));
+            return new AdaptiveOutboxScheduleStrategy(properties, executor, supplyListener(taskType, listenerSupplier));
+        } else if (PollingType.LATENCY.equals(properties.getType())) {
+            throw new IllegalStateException("Polling type LATENCY is supported only for outbox event types, taskType=%s".formatted(taskType));
         } else {
             throw new IllegalStateException("Reached unreachable branch during creating OutboxScheduleStrategy");
         }
     }
+
+    /**
+     * Creates an {@link OutboxScheduleStrategy} instance for an outbox event type.
+     * <p>
+     * Unlike {@link #create(String, OutboxProperties.PollingProperties, ScheduledExecutorService, OutboxScheduleStrategyListenerSupplier)}
+     * also supports {@link PollingType#LATENCY}, which is driven by the age of sent events.
+     *
+     * @param eventType        the outbox event type to be scheduled.
+     * @param properties       the polling properties determining the strategy type.
+     * @param executor         the scheduled executor service used for task scheduling.
+     * @param listenerSupplier a supplier for providing a {@link OutboxScheduleStrategyListener} based on eventType.
+     * @param clock            the clock used to measure the age of sent events.
+     * @return                 a configured {@link OutboxScheduleStrategy} instance.
+     * @throws NullPointerException  if some of the passed parameters is null.
+     * @throws IllegalStateException if an unknown or unsupported polling type is encountered.
+     */
+    public static OutboxScheduleStrategy createForEventType(String eventType,
+                                                            OutboxProperties.PollingProperties properties,
+                                                            ScheduledExecutorService executor,
+                                                            OutboxScheduleStrategyListenerSupplier listenerSupplier,
+                                                            Clock clock) {
+        Objects.requireNonNull(properties, "properties cannot be null");
+        Objects.requireNonNull(clock, "clock cannot be null");
+        if (PollingType.LATENCY.equals(properties.getType())) {
+            Objects.requireNonNull(eventType, "eventType cannot be null");
+            Objects.requireNonNull(executor, "executor cannot be null");
+            Objects.requireNonNull(listenerSupplier, "listenerSupplier cannot be null");
+            return new LatencyOutboxScheduleStrategy(
+                    properties, executor, supplyListener(eventType, listenerSupplier), clock
+            );
+        }
+        return create(eventType, properties, executor, listenerSupplier);
+    }
+
+    /**
+     * Wraps the supplied listener to also emit delay changes as JFR events.
+     */
+    private static OutboxScheduleStrategyListener supplyListener(String taskType,
+                                                                 OutboxScheduleStrategyListenerSupplier listenerSupplier) {
+        return new JfrOutboxScheduleStrategyListener(taskType, listenerSupplier.supply(taskType));
+    }
 }
@@ -7,8 +7,8 @@ import java.util.concurrent.TimeUnit;
  */
 public final class OutboxScheduledExecutorServiceConstants {
 
-    static final long TIMEOUT = 60;
-    static final TimeUnit TIME_UNIT = TimeUnit.SECONDS;
+    public static final long TIMEOUT = 60;
+    public static final TimeUnit TIME_UNIT = TimeUnit.SECONDS;
 
     private OutboxScheduledExecutorServiceConstants() {}
 }
@@ -1,7 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
 public enum PollingType {
-    FIXED, ADAPTIVE;
+    FIXED, ADAPTIVE, LATENCY;
 
     public static PollingType from(String value) {
         if (value == null || value.isBlank()) {
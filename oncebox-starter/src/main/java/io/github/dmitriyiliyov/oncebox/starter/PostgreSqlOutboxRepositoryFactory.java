@@ -1,6 +1,8 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
 import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInbox;
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.ConsumedOffsetRepository;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
 import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqRepository;
@@ -49,4 +51,20 @@ public class PostgreSqlOutboxRepositoryFactory implements OutboxRepositoryFactor
     public ConsumedOutboxRepository createConsumedOutboxRepository() {
         return new PostgreSqlConsumedOutboxRepository(jdbcTemplate, clock);
     }
+
+    @Override
+    public ConsumedOffsetRepository createConsumedOffsetRepository() {
+        return new PostgreSqlConsumedOffsetRepository(jdbcTemplate, clock);
+    }
+
+    @Override
+    public OutboxRepository createInboxRepository() {
+        return new PostgreSqlOutboxRepository(
+                jdbcTemplate,
+                clock,
+                new PostgreSqlIdHelper(),
+                new DefaultResultSetMapper(),
+                OutboxInbox.TABLE
+        );
+    }
 }
@@ -1,5 +1,5 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
 public enum TableSupplierType {
-    OUTBOX, OUTBOX_DLQ, OUTBOX_JOBS, CONSUMED_OUTBOX
+    OUTBOX, OUTBOX_DLQ, OUTBOX_JOBS, CONSUMED_OUTBOX, CONSUMED_OUTBOX_INDEX, CONSUMED_OFFSETS, INBOX
 }
@@ -0,0 +1,5 @@
+package io.github.dmitriyiliyov.oncebox.starter.consumer;
+
+public enum ConsumedOutboxCacheType {
+    CACHE_MANAGER, PRIMITIVE
+}
@@ -0,0 +1,36 @@
+package io.github.dmitriyiliyov.oncebox.starter.consumer;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.ConsumedOutboxFilterLoader;
+import io.github.dmitriyiliyov.oncebox.starter.PostApplicationReadyOutboxInitializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Loads the consumed events filter in the background, so application startup does not wait for the consumed table
+ * to be read. Until loading finishes the filter lets every id through to the database.
+ */
+public class ConsumedOutboxFilterPostApplicationReadyOutboxInitializer implements PostApplicationReadyOutboxInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsumedOutboxFilterPostApplicationReadyOutboxInitializer.class);
+
+    private final Executor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final ConsumedOutboxFilterLoader loader;
+
+    public ConsumedOutboxFilterPostApplicationReadyOutboxInitializer(Executor executor,
+                                                                     TransactionTemplate transactionTemplate,
+                                                                     ConsumedOutboxFilterLoader loader) {
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.loader = loader;
+    }
+
+    @Override
+    public void init() {
+        executor.execute(() -> transactionTemplate.executeWithoutResult(status -> loader.run()));
+        log.debug("Outbox consumed events filter loading started");
+    }
+}
@@ -2,9 +2,15 @@ package io.github.dmitriyiliyov.oncebox.starter.consumer;
 
 import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
 import io.github.dmitriyiliyov.oncebox.core.consumer.*;
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.ConsumedOutboxFilter;
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.ConsumedOutboxFilterLoader;
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.RotatingBloomConsumedOutboxFilter;
+import io.github.dmitriyiliyov.oncebox.core.consumer.groupcommit.ConsumedOutboxGroupCommitter;
+import io.github.dmitriyiliyov.oncebox.core.consumer.parallel.KeyOrderedOutboxConsumerExecutor;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
 import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
 import io.github.dmitriyiliyov.oncebox.starter.*;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -12,11 +18,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
 @Configuration
@@ -30,10 +39,13 @@ import java.util.concurrent.ScheduledExecutorService;
         OutboxConsumerRabbitAutoConfiguration.class,
         OutboxConsumerMetricsAutoConfiguration.class,
         OutboxConsumerCacheAutoConfiguration.class,
-        OutboxConsumerCacheMetricsAutoConfiguration.class
+        OutboxConsumerCacheMetricsAutoConfiguration.class,
+        OutboxConsumerInboxAutoConfiguration.class
 })
 public class OutboxConsumerAutoConfiguration {
 
+    private static final int FILTER_GENERATIONS = 4;
+
     private final OutboxConsumerProperties consumerProperties;
 
     public OutboxConsumerAutoConfiguration(OutboxConsumerProperties consumerProperties) {
@@ -48,8 +60,52 @@ public class OutboxConsumerAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(name = "consumedOutboxManager")
-    public ConsumedOutboxManager consumedOutboxManager(ConsumedOutboxRepository repository, Clock clock) {
-        return new DefaultConsumedOutboxManager(repository, clock);
+    public ConsumedOutboxManager consumedOutboxManager(ConsumedOutboxRepository repository, Clock clock,
+                                                       ObjectProvider<ConsumedOutboxFilter> filter) {
+        return new DefaultConsumedOutboxManager(
+                repository,
+                clock,
+                filter.getIfAvailable(() -> ConsumedOutboxFilter.NOOP),
+                consumerProperties.getCleanUp().getMode()
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "oncebox.consumer.filter",
+            name = "enabled",
+            havingValue = "true"
+    )
+    @ConditionalOnMissingBean
+    public RotatingBloomConsumedOutboxFilter consumedOutboxFilter(Clock clock) {
+        OutboxConsumerProperties.FilterProperties filterProperties = consumerProperties.getFilter();
+        return new RotatingBloomConsumedOutboxFilter(
+                filterProperties.getExpectedInsertions(),
+                filterProperties.getFalsePositiveRate(),
+                filterProperties.getTtl(),
+                FILTER_GENERATIONS,
+                clock
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "oncebox.consumer.filter",
+            name = "enabled",
+            havingValue = "true"
+    )
+    public PostApplicationReadyOutboxInitializer consumedOutboxFilterInitializer(
+            @Qualifier("outboxScheduledExecutorService") ScheduledExecutorService executor,
+            TransactionTemplate transactionTemplate,
+            ConsumedOutboxRepository repository,
+            RotatingBloomConsumedOutboxFilter filter,
+            Clock clock
+    ) {
+        return new ConsumedOutboxFilterPostApplicationReadyOutboxInitializer(
+                executor,
+                transactionTemplate,
+                new ConsumedOutboxFilterLoader(repository, filter, consumerProperties.getFilter().getTtl(), clock)
+        );
     }
 
     @Bean
@@ -59,6 +115,29 @@ public class OutboxConsumerAutoConfiguration {
         return new DefaultOutboxIdempotentConsumer(transactionTemplate, manager);
     }
 
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "oncebox.consumer.group-commit",
+            name = "enabled",
+            havingValue = "true"
+    )
+    @Order(0)
+    public OutboxIdempotentConsumerDecoratorSupplier outboxIdempotentConsumerGroupCommitDecoratorSupplier(
+            TransactionTemplate transactionTemplate,
+            ConsumedOutboxManager manager
+    ) {
+        OutboxConsumerProperties.GroupCommitProperties groupCommitProperties = consumerProperties.getGroupCommit();
+        return new OutboxIdempotentConsumerGroupCommitDecoratorSupplier(
+                transactionTemplate,
+                new ConsumedOutboxGroupCommitter(
+                        transactionTemplate,
+                        manager,
+                        groupCommitProperties.getWindow(),
+                        groupCommitProperties.getMaxBatchSize()
+                )
+        );
+    }
+
     @Bean
     @Primary
     public OutboxIdempotentConsumer primaryOutboxIdempotentConsumer(
@@ -72,6 +151,31 @@ public class OutboxConsumerAutoConfiguration {
         return primaryConsumer;
     }
 
+    @Bean(name = "outboxConsumerVirtualThreadExecutorService", destroyMethod = "shutdown", autowireCandidate = false)
+    @ConditionalOnProperty(
+            prefix = "oncebox.consumer.parallel",
+            name = "enabled",
+            havingValue = "true"
+    )
+    public ExecutorService outboxConsumerVirtualThreadExecutorService() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-consumer-vthrd-", 0).factory());
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "oncebox.consumer.parallel",
+            name = "enabled",
+            havingValue = "true"
+    )
+    @ConditionalOnMissingBean
+    public KeyOrderedOutboxConsumerExecutor keyOrderedOutboxConsumerExecutor(OutboxIdempotentConsumer consumer) {
+        return new KeyOrderedOutboxConsumerExecutor(
+                consumer,
+                outboxConsumerVirtualThreadExecutorService(),
+                consumerProperties.getParallel().getMaxConcurrency()
+        );
+    }
+
     @Bean
     @ConditionalOnProperty(
             prefix = "oncebox.consumer.clean-up",
@@ -1,7 +1,10 @@
 package io.github.dmitriyiliyov.oncebox.starter.consumer;
 
 import io.github.dmitriyiliyov.oncebox.consumer.cache.DefaultConsumedOutboxCache;
+import io.github.dmitriyiliyov.oncebox.consumer.cache.PrimitiveConsumedOutboxCache;
+import io.github.dmitriyiliyov.oncebox.core.consumer.cache.ConsumedOutboxCache;
 import io.github.dmitriyiliyov.oncebox.core.consumer.cache.ConsumedOutboxCacheListener;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -10,6 +13,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 
+import java.time.Clock;
+
 @Configuration
 @ConditionalOnProperty(
         prefix = "oncebox.consumer",
@@ -40,14 +45,25 @@ public class OutboxConsumerCacheAutoConfiguration {
     @Order(1)
     public OutboxIdempotentConsumerDecoratorSupplier outboxIdempotentConsumerCacheDecoratorSupplier(
             ConsumedOutboxCacheListener cacheListener,
-            CacheManager cacheManager
+            ObjectProvider<CacheManager> cacheManager,
+            ObjectProvider<Clock> clock
     ) {
-        return new OutboxIdempotentConsumerCacheDecoratorSupplier(
-                new DefaultConsumedOutboxCache(
-                        cacheManager,
-                        consumerProperties.getCache().getCacheName(),
-                        cacheListener
-                )
-        );
+        OutboxConsumerProperties.CacheProperties cacheProperties = consumerProperties.getCache();
+        ConsumedOutboxCache cache;
+        if (cacheProperties.getType() == ConsumedOutboxCacheType.PRIMITIVE) {
+            cache = new PrimitiveConsumedOutboxCache(
+                    cacheProperties.getCapacity(),
+                    cacheProperties.getTtl(),
+                    cacheListener,
+                    clock.getIfAvailable(Clock::systemUTC)
+            );
+        } else {
+            cache = new DefaultConsumedOutboxCache(
+                    cacheManager.getObject(),
+                    cacheProperties.getCacheName(),
+                    cacheListener
+            );
+        }
+        return new OutboxIdempotentConsumerCacheDecoratorSupplier(cache);
     }
 }
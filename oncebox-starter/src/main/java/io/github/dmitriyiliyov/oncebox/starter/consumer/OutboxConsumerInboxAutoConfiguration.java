@@ -0,0 +1,199 @@
+package io.github.dmitriyiliyov.oncebox.starter.consumer;
+
+import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.DefaultOutboxInbox;
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInbox;
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInboxHandler;
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInboxHandlerSender;
+import io.github.dmitriyiliyov.oncebox.core.jfr.OutboxCleanupEvent;
+import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
+import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
+import io.github.dmitriyiliyov.oncebox.core.publisher.*;
+import io.github.dmitriyiliyov.oncebox.starter.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Inbox beans reuse publisher types, so they are not autowire candidates to keep the publisher injection by type
+ * unambiguous.
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "oncebox.consumer.inbox",
+        name = "enabled",
+        havingValue = "true"
+)
+public class OutboxConsumerInboxAutoConfiguration {
+
+    private final OutboxConsumerProperties.InboxProperties inboxProperties;
+
+    public OutboxConsumerInboxAutoConfiguration(OutboxConsumerProperties consumerProperties) {
+        this.inboxProperties = consumerProperties.getInbox();
+    }
+
+    @Bean(name = "outboxInboxRepository", autowireCandidate = false)
+    public OutboxRepository outboxInboxRepository(OutboxRepositoryFactory repositoryFactory) {
+        return repositoryFactory.createInboxRepository();
+    }
+
+    @Bean(name = "outboxInboxManager", autowireCandidate = false)
+    public OutboxManager outboxInboxManager(OutboxRepositoryFactory repositoryFactory, Clock clock) {
+        return new DefaultOutboxManager(outboxInboxRepository(repositoryFactory), clock);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxInbox outboxInbox(OutboxRepositoryFactory repositoryFactory, Clock clock) {
+        return new DefaultOutboxInbox(outboxInboxRepository(repositoryFactory), clock);
+    }
+
+    /**
+     * Inbox workers run application handlers, so they get their own pool with a thread per worker instead of
+     * competing with the publisher and background jobs for the shared scheduler threads.
+     */
+    @Bean(name = "outboxInboxScheduledExecutorService", autowireCandidate = false)
+    public ScheduledExecutorService outboxInboxScheduledExecutorService(OutboxConsumerProperties consumerProperties) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                Math.max(1, inboxProperties.getWorkers() * consumerProperties.getMappings().size()),
+                new CustomizableThreadFactory("outbox-inbox-thrd-")
+        );
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdown", autowireCandidate = false)
+    public ScheduledExecutorServiceShutdownHook outboxInboxScheduledExecutorServiceShutdownHook(
+            OutboxConsumerProperties consumerProperties
+    ) {
+        return new DefaultScheduledExecutorServiceShutdownHook(outboxInboxScheduledExecutorService(consumerProperties));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "outboxInboxPollingScheduler")
+    public OutboxScheduler outboxInboxPollingScheduler(
+            OutboxConsumerProperties consumerProperties,
+            OutboxRepositoryFactory repositoryFactory,
+            OutboxInboxHandler handler,
+            TransactionTemplate transactionTemplate,
+            OutboxScheduleStrategyListenerSupplier scheduleStrategyListenerSupplier,
+            ContinuableTaskDecoratorSupplier continuableTaskDecoratorSupplier,
+            Clock clock
+    ) {
+        ScheduledExecutorService executor = outboxInboxScheduledExecutorService(consumerProperties);
+        OutboxProcessor processor = new DefaultOutboxProcessor(
+                outboxInboxManager(repositoryFactory, clock),
+                new OutboxInboxHandlerSender(transactionTemplate, outboxInboxRepository(repositoryFactory), handler),
+                clock
+        );
+        List<OutboxScheduler> workers = new ArrayList<>();
+        for (String eventType : consumerProperties.getMappings().keySet()) {
+            for (int i = 0; i < inboxProperties.getWorkers(); i++) {
+                String taskType = "inbox-" + eventType + "-" + i;
+                workers.add(new OutboxPollingScheduler(
+                        inboxProperties.toEventProperties(eventType),
+                        OutboxScheduleStrategyFactory.create(
+                                taskType,
+                                inboxProperties.getPolling(),
+                                executor,
+                                scheduleStrategyListenerSupplier
+                        ),
+                        processor,
+                        continuableTaskDecoratorSupplier.supply(taskType)
+                ));
+            }
+        }
+        return () -> workers.forEach(OutboxScheduler::schedule);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "outboxInboxRecoveryScheduler")
+    public OutboxScheduler outboxInboxRecoveryScheduler(
+            OutboxRepositoryFactory repositoryFactory,
+            @Qualifier("outboxScheduledExecutorService") ScheduledExecutorService executor,
+            OutboxScheduleStrategyListenerSupplier scheduleStrategyListenerSupplier,
+            ContinuableTaskDecoratorSupplier continuableTaskDecoratorSupplier,
+            Clock clock
+    ) {
+        return new OutboxRecoveryScheduler(
+                inboxProperties.getStuckRecovery(),
+                OutboxScheduleStrategyFactory.create(
+                        OutboxJobType.INBOX_STUCK_RECOVERY.getValue(),
+                        inboxProperties.getStuckRecovery().getPolling(),
+                        executor,
+                        scheduleStrategyListenerSupplier
+                ),
+                outboxInboxManager(repositoryFactory, clock),
+                continuableTaskDecoratorSupplier.supply(OutboxJobType.INBOX_STUCK_RECOVERY.getValue())
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "oncebox.consumer.inbox.clean-up",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    @ConditionalOnMissingBean(name = "outboxInboxCleanUpScheduler")
+    public OutboxScheduler outboxInboxCleanUpScheduler(
+            OutboxProperties properties,
+            OutboxRepositoryFactory repositoryFactory,
+            @Qualifier("outboxScheduledExecutorService") ScheduledExecutorService executor,
+            OutboxScheduleStrategyListenerSupplier scheduleStrategyListenerSupplier,
+            ContinuableTaskDecoratorSupplier continuableTaskDecoratorSupplier,
+            DistributedLockRepository lockRepository,
+            Clock clock
+    ) {
+        return new OutboxCleanUpScheduler(
+                OutboxJob.OUTBOX_INBOX_CLEANUP,
+                OutboxCleanupEvent.INBOX,
+                properties.getWorkerId(),
+                inboxProperties.getCleanUp(),
+                OutboxScheduleStrategyFactory.create(
+                        OutboxJobType.INBOX_CLEANUP.getValue(),
+                        inboxProperties.getCleanUp().getPolling(),
+                        executor,
+                        scheduleStrategyListenerSupplier
+                ),
+                outboxInboxManager(repositoryFactory, clock),
+                lockRepository,
+                continuableTaskDecoratorSupplier.supply(OutboxJobType.INBOX_CLEANUP.getValue())
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "oncebox.consumer.inbox.clean-up",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    public OutboxJobCreateCommand outboxInboxCleanUpJobCreateCommand(OutboxProperties properties,
+                                                                     @Qualifier("outboxJdbcTemplate") JdbcTemplate jdbcTemplate,
+                                                                     Clock clock) {
+        DistributedLockPropertiesResolver.LockDurations lockDurations = DistributedLockPropertiesResolver.resolve(
+                properties.getDistributedLock(),
+                inboxProperties.getCleanUp().getPolling()
+        );
+        return new DefaultOutboxJobCreateCommand(
+                jdbcTemplate,
+                clock,
+                OutboxJob.OUTBOX_INBOX_CLEANUP.getJobName(),
+                lockDurations.atLeastFor(),
+                lockDurations.atMostFor()
+        );
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -33,6 +34,11 @@ import org.springframework.kafka.support.mapping.Jackson2JavaTypeMapper;
         name = "type",
         havingValue = "kafka"
 )
+@Import({
+        OutboxConsumerKafkaOffsetTrackingAutoConfiguration.class,
+        OutboxConsumerKafkaInboxAutoConfiguration.class,
+        OutboxConsumerKafkaParallelAutoConfiguration.class
+})
 public class OutboxConsumerKafkaAutoConfiguration {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxConsumerKafkaAutoConfiguration.class);
@@ -0,0 +1,32 @@
+package io.github.dmitriyiliyov.oncebox.starter.consumer;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.inbox.OutboxInboxMessageExtractor;
+import io.github.dmitriyiliyov.oncebox.kafka.KafkaConsumerRecordOutboxInboxMessageExtractor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@Configuration
+@ConditionalOnProperty(
+        prefix = "oncebox.consumer",
+        name = "enabled",
+        havingValue = "true"
+)
+@ConditionalOnClass({KafkaTemplate.class, KafkaConsumerRecordOutboxInboxMessageExtractor.class})
+@ConditionalOnProperty(
+        prefix = "oncebox.consumer.inbox",
+        name = "enabled",
+        havingValue = "true"
+)
+public class OutboxConsumerKafkaInboxAutoConfiguration {
+
+    @Bean(name = "outboxKafkaInboxMessageExtractor")
+    @ConditionalOnMissingBean(name = "outboxKafkaInboxMessageExtractor")
+    public OutboxInboxMessageExtractor<ConsumerRecord<?, ?>> outboxKafkaInboxMessageExtractor() {
+        return new KafkaConsumerRecordOutboxInboxMessageExtractor();
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.dmitriyiliyov.oncebox.starter.consumer;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.offset.*;
+import io.github.dmitriyiliyov.oncebox.kafka.KafkaConsumerRecordOutboxRecordPositionExtractor;
+import io.github.dmitriyiliyov.oncebox.kafka.KafkaMessageOutboxRecordPositionExtractor;
+import io.github.dmitriyiliyov.oncebox.starter.OutboxRepositoryFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@ConditionalOnProperty(
+        prefix = "oncebox.consumer",
+        name = "enabled",
+        havingValue = "true"
+)
+@ConditionalOnClass({KafkaTemplate.class, KafkaMessageOutboxRecordPositionExtractor.class})
+@ConditionalOnProperty(
+        prefix = "oncebox.consumer.source",
+        name = "offset-tracking",
+        havingValue = "true"
+)
+public class OutboxConsumerKafkaOffsetTrackingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ConsumedOffsetRepository consumedOffsetRepository(OutboxRepositoryFactory repositoryFactory) {
+        return repositoryFactory.createConsumedOffsetRepository();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ConsumedOffsetManager consumedOffsetManager(ConsumedOffsetRepository repository) {
+        return new DefaultConsumedOffsetManager(repository);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxOffsetIdempotentConsumer outboxOffsetIdempotentConsumer(TransactionTemplate transactionTemplate,
+                                                                         ConsumedOffsetManager manager) {
+        return new DefaultOutboxOffsetIdempotentConsumer(transactionTemplate, manager);
+    }
+
+    @Bean(name = "outboxKafkaMessagePositionExtractor")
+    @ConditionalOnMissingBean(name = "outboxKafkaMessagePositionExtractor")
+    public OutboxRecordPositionExtractor<Message<?>> outboxKafkaMessagePositionExtractor(
+            ObjectProvider<KafkaProperties> kafkaProperties
+    ) {
+        return new KafkaMessageOutboxRecordPositionExtractor(defaultGroup(kafkaProperties));
+    }
+
+    @Bean(name = "outboxKafkaConsumerRecordPositionExtractor")
+    @ConditionalOnMissingBean(name = "outboxKafkaConsumerRecordPositionExtractor")
+    public OutboxRecordPositionExtractor<ConsumerRecord<?, ?>> outboxKafkaConsumerRecordPositionExtractor(
+            ObjectProvider<KafkaProperties> kafkaProperties
+    ) {
+        return new KafkaConsumerRecordOutboxRecordPositionExtractor(defaultGroup(kafkaProperties));
+    }
+
+    private static String defaultGroup(ObjectProvider<KafkaProperties> kafkaProperties) {
+        KafkaProperties properties = kafkaProperties.getIfAvailable();
+        return properties == null ? null : properties.getConsumer().getGroupId();
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.dmitriyiliyov.oncebox.starter.consumer;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.parallel.OutboxOrderingKeyExtractor;
+import io.github.dmitriyiliyov.oncebox.kafka.KafkaConsumerRecordOutboxOrderingKeyExtractor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@Configuration
+@ConditionalOnProperty(
+        prefix = "oncebox.consumer",
+        name = "enabled",
+        havingValue = "true"
+)
+@ConditionalOnClass({KafkaTemplate.class, KafkaConsumerRecordOutboxOrderingKeyExtractor.class})
+@ConditionalOnProperty(
+        prefix = "oncebox.consumer.parallel",
+        name = "enabled",
+        havingValue = "true"
+)
+public class OutboxConsumerKafkaParallelAutoConfiguration {
+
+    private final OutboxConsumerProperties consumerProperties;
+
+    public OutboxConsumerKafkaParallelAutoConfiguration(OutboxConsumerProperties consumerProperties) {
+        this.consumerProperties = consumerProperties;
+    }
+
+    @Bean(name = "outboxKafkaOrderingKeyExtractor")
+    @ConditionalOnMissingBean(name = "outboxKafkaOrderingKeyExtractor")
+    public OutboxOrderingKeyExtractor<ConsumerRecord<?, ?>> outboxKafkaOrderingKeyExtractor() {
+        return new KafkaConsumerRecordOutboxOrderingKeyExtractor(consumerProperties.getParallel().getKeyHeader());
+    }
+}
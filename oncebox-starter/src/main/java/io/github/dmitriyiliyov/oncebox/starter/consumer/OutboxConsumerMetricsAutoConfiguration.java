@@ -1,11 +1,16 @@
 package io.github.dmitriyiliyov.oncebox.starter.consumer;
 
 import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxManager;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventCreatedAtExtractor;
+import io.github.dmitriyiliyov.oncebox.core.consumer.filter.RotatingBloomConsumedOutboxFilter;
+import io.github.dmitriyiliyov.oncebox.messaging.MessageOutboxEventCreatedAtExtractor;
 import io.github.dmitriyiliyov.oncebox.metrics.OutboxMetrics;
+import io.github.dmitriyiliyov.oncebox.metrics.consumer.ConsumedOutboxFilterMetrics;
 import io.github.dmitriyiliyov.oncebox.metrics.consumer.ConsumedOutboxManagerMetricsDecorator;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,9 +40,28 @@ public class OutboxConsumerMetricsAutoConfiguration {
         return new ConsumedOutboxManagerMetricsDecorator(registry, consumedOutboxManager);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxEventCreatedAtExtractor outboxEventCreatedAtExtractor() {
+        return new MessageOutboxEventCreatedAtExtractor();
+    }
+
     @Bean
     @Order(2)
-    public OutboxIdempotentConsumerDecoratorSupplier outboxIdempotentConsumerMetricsDecoratorSupplier(MeterRegistry registry) {
-        return new OutboxIdempotentConsumerMetricsDecoratorSupplier(registry);
+    public OutboxIdempotentConsumerDecoratorSupplier outboxIdempotentConsumerMetricsDecoratorSupplier(
+            MeterRegistry registry,
+            OutboxEventCreatedAtExtractor outboxEventCreatedAtExtractor
+    ) {
+        return new OutboxIdempotentConsumerMetricsDecoratorSupplier(registry, outboxEventCreatedAtExtractor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "oncebox.consumer.filter",
+            name = "enabled",
+            havingValue = "true"
+    )
+    public OutboxMetrics consumedOutboxFilterMetrics(MeterRegistry registry, RotatingBloomConsumedOutboxFilter filter) {
+        return new ConsumedOutboxFilterMetrics(registry, filter);
     }
 }
@@ -1,11 +1,14 @@
 package io.github.dmitriyiliyov.oncebox.starter.consumer;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.starter.OutboxProperties;
 import io.github.dmitriyiliyov.oncebox.starter.TransportType;
+import io.github.dmitriyiliyov.oncebox.starter.publisher.OutboxPublisherProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 
@@ -21,6 +24,14 @@ public class OutboxConsumerProperties {
     @NestedConfigurationProperty
     private CacheProperties cache;
     @NestedConfigurationProperty
+    private FilterProperties filter;
+    @NestedConfigurationProperty
+    private GroupCommitProperties groupCommit;
+    @NestedConfigurationProperty
+    private InboxProperties inbox;
+    @NestedConfigurationProperty
+    private ParallelProperties parallel;
+    @NestedConfigurationProperty
     private OutboxProperties.MetricsProperties metrics;
 
     public void applyDefaults() {
@@ -45,11 +56,52 @@ public class OutboxConsumerProperties {
                 cache = new CacheProperties();
                 cache.setEnabled(false);
             }
+            if (cache.getTtl() == null && cleanUp.isEnabled()) {
+                cache.setTtl(cleanUp.getTtl());
+            }
             cache.applyDefaults();
+            if (cache.getTtl() != null && cleanUp.isEnabled() && cache.getTtl().compareTo(cleanUp.getTtl()) > 0) {
+                log.warn("Consumer Outbox cache ttl {} exceeds clean-up ttl {}, cached ids may outlive consumed outbox storage",
+                        cache.getTtl(), cleanUp.getTtl());
+            }
             if (!cache.isEnabled()) {
                 log.warn("Consumer Outbox is configured with disabled cache");
             }
 
+            if (filter == null) {
+                filter = new FilterProperties();
+                filter.setEnabled(false);
+            }
+            if (filter.getTtl() == null && cleanUp.isEnabled()) {
+                filter.setTtl(cleanUp.getTtl());
+            }
+            filter.applyDefaults();
+            if (filter.getTtl() != null && cleanUp.isEnabled() && filter.getTtl().compareTo(cleanUp.getTtl()) < 0) {
+                log.warn("Consumer Outbox filter ttl {} is shorter than clean-up ttl {}, redelivered old ids will be retried as concurrent inserts",
+                        filter.getTtl(), cleanUp.getTtl());
+            }
+
+            if (groupCommit == null) {
+                groupCommit = new GroupCommitProperties();
+                groupCommit.setEnabled(false);
+            }
+            groupCommit.applyDefaults();
+
+            if (inbox == null) {
+                inbox = new InboxProperties();
+                inbox.setEnabled(false);
+            }
+            inbox.applyDefaults();
+            if (inbox.isEnabled() && (mappings == null || mappings.isEmpty())) {
+                throw new IllegalArgumentException("inbox requires consumer mappings to resolve worker event types");
+            }
+
+            if (parallel == null) {
+                parallel = new ParallelProperties();
+                parallel.setEnabled(false);
+            }
+            parallel.applyDefaults();
+
             if (metrics == null) {
                 metrics = new OutboxProperties.MetricsProperties();
                 metrics.setEnabled(false);
@@ -61,6 +113,7 @@ public class OutboxConsumerProperties {
             enabled = false;
 
             source = new SourceProperties();
+            source.setOffsetTracking(false);
 
             cleanUp = new OutboxProperties.CleanUpProperties();
             cleanUp.setEnabled(false);
@@ -70,6 +123,22 @@ public class OutboxConsumerProperties {
             cache.setEnabled(false);
             cache.applyDefaults();
 
+            filter = new FilterProperties();
+            filter.setEnabled(false);
+            filter.applyDefaults();
+
+            groupCommit = new GroupCommitProperties();
+            groupCommit.setEnabled(false);
+            groupCommit.applyDefaults();
+
+            inbox = new InboxProperties();
+            inbox.setEnabled(false);
+            inbox.applyDefaults();
+
+            parallel = new ParallelProperties();
+            parallel.setEnabled(false);
+            parallel.applyDefaults();
+
             metrics = new OutboxProperties.MetricsProperties();
             metrics.setEnabled(false);
             metrics.applyDefaults();
@@ -116,6 +185,38 @@ public class OutboxConsumerProperties {
         this.cache = cache;
     }
 
+    public FilterProperties getFilter() {
+        return filter;
+    }
+
+    public void setFilter(FilterProperties filter) {
+        this.filter = filter;
+    }
+
+    public GroupCommitProperties getGroupCommit() {
+        return groupCommit;
+    }
+
+    public void setGroupCommit(GroupCommitProperties groupCommit) {
+        this.groupCommit = groupCommit;
+    }
+
+    public InboxProperties getInbox() {
+        return inbox;
+    }
+
+    public void setInbox(InboxProperties inbox) {
+        this.inbox = inbox;
+    }
+
+    public ParallelProperties getParallel() {
+        return parallel;
+    }
+
+    public void setParallel(ParallelProperties parallel) {
+        this.parallel = parallel;
+    }
+
     public OutboxProperties.MetricsProperties getMetrics() {
         return metrics;
     }
@@ -132,6 +233,10 @@ public class OutboxConsumerProperties {
                 ", mappings=" + mappings +
                 ", cleanUp=" + cleanUp +
                 ", cache=" + cache +
+                ", filter=" + filter +
+                ", groupCommit=" + groupCommit +
+                ", inbox=" + inbox +
+                ", parallel=" + parallel +
                 ", metrics=" + metrics +
                 '}';
     }
@@ -139,11 +244,19 @@ public class OutboxConsumerProperties {
     public static final class SourceProperties {
 
         private TransportType type;
+        private Boolean offsetTracking;
 
         public void applyDefaults() {
             if (type == null) {
                 throw new IllegalArgumentException("source type cannot be null");
             }
+            if (offsetTracking == null) {
+                offsetTracking = false;
+            }
+            if (offsetTracking && type != TransportType.KAFKA) {
+                log.warn("Outbox consumer offset tracking is supported only for kafka source, it is disabled for {}", type);
+                offsetTracking = false;
+            }
         }
 
         public TransportType getType() {
@@ -154,29 +267,395 @@ public class OutboxConsumerProperties {
             this.type = type;
         }
 
+        public Boolean isOffsetTracking() {
+            return offsetTracking;
+        }
+
+        public void setOffsetTracking(Boolean offsetTracking) {
+            this.offsetTracking = offsetTracking;
+        }
+
         @Override
         public String toString() {
             return "SourceProperties{" +
                     "type='" + type + '\'' +
+                    ", offsetTracking=" + offsetTracking +
+                    '}';
+        }
+    }
+
+    public static final class ParallelProperties {
+
+        private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+        private Boolean enabled;
+        private Integer maxConcurrency;
+        private String keyHeader;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                maxConcurrency = (maxConcurrency == null || maxConcurrency <= 0) ? DEFAULT_MAX_CONCURRENCY : maxConcurrency;
+                keyHeader = (keyHeader == null || keyHeader.isBlank()) ? null : keyHeader;
+            } else {
+                enabled = false;
+                maxConcurrency = null;
+                keyHeader = null;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public String getKeyHeader() {
+            return keyHeader;
+        }
+
+        public void setKeyHeader(String keyHeader) {
+            this.keyHeader = keyHeader;
+        }
+
+        @Override
+        public String toString() {
+            return "ParallelProperties{" +
+                    "enabled=" + enabled +
+                    ", maxConcurrency=" + maxConcurrency +
+                    ", keyHeader='" + keyHeader + '\'' +
+                    '}';
+        }
+    }
+
+    public static final class InboxProperties {
+
+        private static final int DEFAULT_WORKERS = 1;
+
+        private Boolean enabled;
+        private Integer workers;
+        private Integer batchSize;
+        @NestedConfigurationProperty
+        private OutboxProperties.PollingProperties polling;
+        private Integer maxRetries;
+        @NestedConfigurationProperty
+        private OutboxPublisherProperties.BackoffProperties backoff;
+        @NestedConfigurationProperty
+        private OutboxPublisherProperties.StuckRecoveryProperties stuckRecovery;
+        @NestedConfigurationProperty
+        private OutboxProperties.CleanUpProperties cleanUp;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                workers = (workers == null || workers <= 0) ? DEFAULT_WORKERS : workers;
+                OutboxPublisherProperties.EventProperties.Defaults defaults = new OutboxPublisherProperties.EventProperties.Defaults();
+                defaults.applyDefaults();
+                batchSize = (batchSize == null || batchSize <= 0) ? defaults.getBatchSize() : batchSize;
+                maxRetries = (maxRetries == null || maxRetries < 0) ? defaults.getMaxRetries() : maxRetries;
+                if (polling == null) {
+                    polling = defaults.getPolling();
+                }
+                polling.applyDefaults(defaults.getPoolingDefaults());
+                if (backoff == null) {
+                    backoff = defaults.getBackoff();
+                }
+                backoff.applyDefaults(defaults.getBackoffDefaults());
+                if (stuckRecovery == null) {
+                    stuckRecovery = new OutboxPublisherProperties.StuckRecoveryProperties();
+                }
+                stuckRecovery.applyDefaults();
+                if (cleanUp == null) {
+                    cleanUp = new OutboxProperties.CleanUpProperties();
+                    cleanUp.setEnabled(true);
+                }
+                cleanUp.applyDefaults();
+                if (cleanUp.getMode() == CleanUpMode.ID_RANGE) {
+                    throw new IllegalArgumentException(
+                            "inbox clean-up does not support mode ID_RANGE, inbox message ids are not guaranteed to be UUIDv7"
+                    );
+                }
+                if (!cleanUp.isEnabled()) {
+                    log.warn("Consumer Outbox inbox is configured with disabled clean-up, inbox storage will not be cleaned automatically");
+                }
+            } else {
+                enabled = false;
+                workers = null;
+                batchSize = null;
+                polling = null;
+                maxRetries = null;
+                backoff = null;
+                stuckRecovery = null;
+                cleanUp = new OutboxProperties.CleanUpProperties();
+                cleanUp.setEnabled(false);
+                cleanUp.applyDefaults();
+            }
+        }
+
+        /**
+         * Builds publisher event properties for the inbox workers of the given event type, so they can be processed
+         * by the publisher processing loop.
+         */
+        public OutboxPublisherProperties.EventProperties toEventProperties(String eventType) {
+            OutboxPublisherProperties.EventProperties event = new OutboxPublisherProperties.EventProperties();
+            event.setEventType(eventType);
+            event.setTopic(eventType);
+            event.setBatchSize(batchSize);
+            event.setPolling(polling);
+            event.setMaxRetries(maxRetries);
+            event.setBackoff(backoff);
+            OutboxPublisherProperties.EventProperties.Defaults defaults = new OutboxPublisherProperties.EventProperties.Defaults();
+            defaults.applyDefaults();
+            event.applyDefaults(defaults);
+            return event;
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(Integer workers) {
+            this.workers = workers;
+        }
+
+        public Integer getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public OutboxProperties.PollingProperties getPolling() {
+            return polling;
+        }
+
+        public void setPolling(OutboxProperties.PollingProperties polling) {
+            this.polling = polling;
+        }
+
+        public Integer getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public OutboxPublisherProperties.BackoffProperties getBackoff() {
+            return backoff;
+        }
+
+        public void setBackoff(OutboxPublisherProperties.BackoffProperties backoff) {
+            this.backoff = backoff;
+        }
+
+        public OutboxPublisherProperties.StuckRecoveryProperties getStuckRecovery() {
+            return stuckRecovery;
+        }
+
+        public void setStuckRecovery(OutboxPublisherProperties.StuckRecoveryProperties stuckRecovery) {
+            this.stuckRecovery = stuckRecovery;
+        }
+
+        public OutboxProperties.CleanUpProperties getCleanUp() {
+            return cleanUp;
+        }
+
+        public void setCleanUp(OutboxProperties.CleanUpProperties cleanUp) {
+            this.cleanUp = cleanUp;
+        }
+
+        @Override
+        public String toString() {
+            return "InboxProperties{" +
+                    "enabled=" + enabled +
+                    ", workers=" + workers +
+                    ", batchSize=" + batchSize +
+                    ", polling=" + polling +
+                    ", maxRetries=" + maxRetries +
+                    ", backoff=" + backoff +
+                    ", stuckRecovery=" + stuckRecovery +
+                    ", cleanUp=" + cleanUp +
+                    '}';
+        }
+    }
+
+    public static final class GroupCommitProperties {
+
+        private static final Duration DEFAULT_WINDOW = Duration.ofNanos(200_000);
+        private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+        private Boolean enabled;
+        private Duration window;
+        private Integer maxBatchSize;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                window = (window == null || window.isNegative() || window.isZero()) ? DEFAULT_WINDOW : window;
+                maxBatchSize = (maxBatchSize == null || maxBatchSize <= 0) ? DEFAULT_MAX_BATCH_SIZE : maxBatchSize;
+            } else {
+                enabled = false;
+                window = null;
+                maxBatchSize = null;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public Integer getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        @Override
+        public String toString() {
+            return "GroupCommitProperties{" +
+                    "enabled=" + enabled +
+                    ", window=" + window +
+                    ", maxBatchSize=" + maxBatchSize +
+                    '}';
+        }
+    }
+
+    public static final class FilterProperties {
+
+        private static final long DEFAULT_EXPECTED_INSERTIONS = 1_000_000;
+        private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+        private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+        private Boolean enabled;
+        private Long expectedInsertions;
+        private Double falsePositiveRate;
+        private Duration ttl;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                expectedInsertions = (expectedInsertions == null || expectedInsertions <= 0)
+                        ? DEFAULT_EXPECTED_INSERTIONS
+                        : expectedInsertions;
+                if (falsePositiveRate == null) {
+                    falsePositiveRate = DEFAULT_FALSE_POSITIVE_RATE;
+                } else if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+                    throw new IllegalArgumentException("falsePositiveRate should be between 0 and 1 exclusive");
+                }
+                ttl = (ttl == null || ttl.isNegative() || ttl.isZero()) ? DEFAULT_TTL : ttl;
+            } else {
+                enabled = false;
+                expectedInsertions = null;
+                falsePositiveRate = null;
+                ttl = null;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Long getExpectedInsertions() {
+            return expectedInsertions;
+        }
+
+        public void setExpectedInsertions(Long expectedInsertions) {
+            this.expectedInsertions = expectedInsertions;
+        }
+
+        public Double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(Double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        @Override
+        public String toString() {
+            return "FilterProperties{" +
+                    "enabled=" + enabled +
+                    ", expectedInsertions=" + expectedInsertions +
+                    ", falsePositiveRate=" + falsePositiveRate +
+                    ", ttl=" + ttl +
                     '}';
         }
     }
 
     public static final class CacheProperties {
 
+        private static final int DEFAULT_CAPACITY = 1_000_000;
+        private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
         public Boolean enabled;
+        public ConsumedOutboxCacheType type;
         public String cacheName;
+        public Integer capacity;
+        public Duration ttl;
 
         public void applyDefaults() {
             if (enabled == null || enabled) {
                 enabled = true;
-                Objects.requireNonNull(cacheName, "cacheName cannot be null");
-                if (cacheName.isBlank()) {
-                    throw new IllegalArgumentException("cacheName cannot be empty or blank");
+                type = type == null ? ConsumedOutboxCacheType.CACHE_MANAGER : type;
+                if (type == ConsumedOutboxCacheType.CACHE_MANAGER) {
+                    Objects.requireNonNull(cacheName, "cacheName cannot be null");
+                    if (cacheName.isBlank()) {
+                        throw new IllegalArgumentException("cacheName cannot be empty or blank");
+                    }
+                    capacity = null;
+                    ttl = null;
+                } else {
+                    capacity = (capacity == null || capacity <= 0) ? DEFAULT_CAPACITY : capacity;
+                    ttl = (ttl == null || ttl.isNegative() || ttl.isZero()) ? DEFAULT_TTL : ttl;
                 }
             } else {
                 enabled = false;
+                type = null;
                 cacheName = null;
+                capacity = null;
+                ttl = null;
             }
         }
 
@@ -188,6 +667,14 @@ public class OutboxConsumerProperties {
             this.enabled = enabled;
         }
 
+        public ConsumedOutboxCacheType getType() {
+            return type;
+        }
+
+        public void setType(ConsumedOutboxCacheType type) {
+            this.type = type;
+        }
+
         public String getCacheName() {
             return cacheName;
         }
@@ -196,11 +683,30 @@ public class OutboxConsumerProperties {
             this.cacheName = cacheName;
         }
 
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(Integer capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
         @Override
         public String toString() {
             return "CacheProperties{" +
                     "enabled=" + enabled +
+                    ", type=" + type +
                     ", cacheName='" + cacheName + '\'' +
+                    ", capacity=" + capacity +
+                    ", ttl=" + ttl +
                     '}';
         }
     }
@@ -0,0 +1,30 @@
+package io.github.dmitriyiliyov.oncebox.starter.consumer;
+
+import io.github.dmitriyiliyov.oncebox.core.consumer.AbstractOutboxIdempotentConsumerDecorator;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
+import io.github.dmitriyiliyov.oncebox.core.consumer.groupcommit.ConsumedOutboxGroupCommitter;
+import io.github.dmitriyiliyov.oncebox.core.consumer.groupcommit.GroupCommitOutboxIdempotentConsumer;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+public class OutboxIdempotentConsumerGroupCommitDecoratorSupplier implements OutboxIdempotentConsumerDecoratorSupplier {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ConsumedOutboxGroupCommitter groupCommitter;
+
+    public OutboxIdempotentConsumerGroupCommitDecoratorSupplier(TransactionTemplate transactionTemplate,
+                                                                ConsumedOutboxGroupCommitter groupCommitter) {
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate, "transactionTemplate cannot be null");
+        this.groupCommitter = Objects.requireNonNull(groupCommitter, "groupCommitter cannot be null");
+    }
+
+    @Override
+    public AbstractOutboxIdempotentConsumerDecorator supply(OutboxIdempotentConsumer consumer) {
+        return new GroupCommitOutboxIdempotentConsumer(
+                Objects.requireNonNull(consumer, "consumer cannot be null"),
+                transactionTemplate,
+                groupCommitter
+        );
+    }
+}
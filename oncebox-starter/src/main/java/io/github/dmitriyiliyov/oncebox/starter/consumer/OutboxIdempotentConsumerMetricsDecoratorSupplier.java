@@ -1,6 +1,7 @@
 package io.github.dmitriyiliyov.oncebox.starter.consumer;
 
 import io.github.dmitriyiliyov.oncebox.core.consumer.AbstractOutboxIdempotentConsumerDecorator;
+import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxEventCreatedAtExtractor;
 import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
 import io.github.dmitriyiliyov.oncebox.metrics.consumer.OutboxIdempotentConsumerMetricsDecorator;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -10,16 +11,24 @@ import java.util.Objects;
 public class OutboxIdempotentConsumerMetricsDecoratorSupplier implements OutboxIdempotentConsumerDecoratorSupplier {
 
     private final MeterRegistry registry;
+    private final OutboxEventCreatedAtExtractor createdAtExtractor;
 
     public OutboxIdempotentConsumerMetricsDecoratorSupplier(MeterRegistry registry) {
+        this(registry, OutboxEventCreatedAtExtractor.NONE);
+    }
+
+    public OutboxIdempotentConsumerMetricsDecoratorSupplier(MeterRegistry registry,
+                                                            OutboxEventCreatedAtExtractor createdAtExtractor) {
         this.registry = Objects.requireNonNull(registry, "registry cannot be null");
+        this.createdAtExtractor = Objects.requireNonNull(createdAtExtractor, "createdAtExtractor cannot be null");
     }
 
     @Override
     public AbstractOutboxIdempotentConsumerDecorator supply(OutboxIdempotentConsumer consumer) {
         return new OutboxIdempotentConsumerMetricsDecorator(
                 registry,
-                Objects.requireNonNull(consumer, "consumer cannot be null")
+                Objects.requireNonNull(consumer, "consumer cannot be null"),
+                createdAtExtractor
         );
     }
 }
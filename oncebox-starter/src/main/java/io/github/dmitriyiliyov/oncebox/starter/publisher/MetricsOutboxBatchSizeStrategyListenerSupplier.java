@@ -0,0 +1,19 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategyListener;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.MetricsBatchSizeStrategyListener;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class MetricsOutboxBatchSizeStrategyListenerSupplier implements OutboxBatchSizeStrategyListenerSupplier {
+
+    private final MeterRegistry registry;
+
+    public MetricsOutboxBatchSizeStrategyListenerSupplier(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public BatchSizeStrategyListener supply(String eventType) {
+        return new MetricsBatchSizeStrategyListener(eventType, registry);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.CircuitBreakerListener;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.MetricsCircuitBreakerListener;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class MetricsOutboxCircuitBreakerListenerSupplier implements OutboxCircuitBreakerListenerSupplier {
+
+    private final MeterRegistry registry;
+
+    public MetricsOutboxCircuitBreakerListenerSupplier(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public CircuitBreakerListener supply(String topic) {
+        return new MetricsCircuitBreakerListener(topic, registry);
+    }
+}
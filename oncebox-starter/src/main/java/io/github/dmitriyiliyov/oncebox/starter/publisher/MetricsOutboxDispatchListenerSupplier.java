@@ -0,0 +1,19 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.DispatchListener;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.MetricsDispatchListener;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class MetricsOutboxDispatchListenerSupplier implements OutboxDispatchListenerSupplier {
+
+    private final MeterRegistry registry;
+
+    public MetricsOutboxDispatchListenerSupplier(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public DispatchListener supply(String eventType) {
+        return new MetricsDispatchListener(eventType, registry);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.RateLimiterListener;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.MetricsRateLimiterListener;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class MetricsOutboxRateLimiterListenerSupplier implements OutboxRateLimiterListenerSupplier {
+
+    private final MeterRegistry registry;
+
+    public MetricsOutboxRateLimiterListenerSupplier(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public RateLimiterListener supply(String eventType) {
+        return new MetricsRateLimiterListener(eventType, registry);
+    }
+}
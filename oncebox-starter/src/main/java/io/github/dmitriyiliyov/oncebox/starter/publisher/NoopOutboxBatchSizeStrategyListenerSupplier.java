@@ -0,0 +1,10 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategyListener;
+
+public class NoopOutboxBatchSizeStrategyListenerSupplier implements OutboxBatchSizeStrategyListenerSupplier {
+    @Override
+    public BatchSizeStrategyListener supply(String eventType) {
+        return BatchSizeStrategyListener.NOOP;
+    }
+}
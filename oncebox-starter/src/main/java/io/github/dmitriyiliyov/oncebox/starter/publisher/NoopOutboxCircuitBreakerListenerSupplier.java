@@ -0,0 +1,10 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.CircuitBreakerListener;
+
+public class NoopOutboxCircuitBreakerListenerSupplier implements OutboxCircuitBreakerListenerSupplier {
+    @Override
+    public CircuitBreakerListener supply(String topic) {
+        return CircuitBreakerListener.NOOP;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.DispatchListener;
+
+public class NoopOutboxDispatchListenerSupplier implements OutboxDispatchListenerSupplier {
+    @Override
+    public DispatchListener supply(String eventType) {
+        return DispatchListener.NOOP;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.RateLimiterListener;
+
+public class NoopOutboxRateLimiterListenerSupplier implements OutboxRateLimiterListenerSupplier {
+    @Override
+    public RateLimiterListener supply(String eventType) {
+        return RateLimiterListener.NOOP;
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategyListener;
+
+/**
+ * A supplier for creating {@link BatchSizeStrategyListener} instances.
+ */
+public interface OutboxBatchSizeStrategyListenerSupplier {
+
+    /**
+     * Supplies a configured {@link BatchSizeStrategyListener} for the given event type.
+     *
+     * @param eventType the type of event for which to provide the listener.
+     * @return a configured {@link BatchSizeStrategyListener}.
+     */
+    BatchSizeStrategyListener supply(String eventType);
+}
@@ -0,0 +1,17 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.CircuitBreakerListener;
+
+/**
+ * A supplier for creating {@link CircuitBreakerListener} instances.
+ */
+public interface OutboxCircuitBreakerListenerSupplier {
+
+    /**
+     * Supplies a configured {@link CircuitBreakerListener} for the given topic.
+     *
+     * @param topic the topic guarded by the circuit breaker.
+     * @return a configured {@link CircuitBreakerListener}.
+     */
+    CircuitBreakerListener supply(String topic);
+}
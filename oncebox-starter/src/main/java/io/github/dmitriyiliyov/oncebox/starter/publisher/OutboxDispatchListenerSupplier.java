@@ -0,0 +1,17 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.DispatchListener;
+
+/**
+ * A supplier for creating {@link DispatchListener} instances.
+ */
+public interface OutboxDispatchListenerSupplier {
+
+    /**
+     * Supplies a configured {@link DispatchListener} for the given event type.
+     *
+     * @param eventType the event type of the dispatcher lane.
+     * @return a configured {@link DispatchListener}.
+     */
+    DispatchListener supply(String eventType);
+}
@@ -0,0 +1,91 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.WeightedFairDispatcher;
+import io.github.dmitriyiliyov.oncebox.starter.ScheduledExecutorServiceShutdownHook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static io.github.dmitriyiliyov.oncebox.starter.OutboxScheduledExecutorServiceConstants.TIMEOUT;
+import static io.github.dmitriyiliyov.oncebox.starter.OutboxScheduledExecutorServiceConstants.TIME_UNIT;
+
+/**
+ * Shuts the outbox executor down and then hands the leases of this instance back,
+ * so other instances don't have to wait for them to expire.
+ * <p>
+ * Sends may outlive the scheduling threads when they run on the dispatcher workers, so the dispatcher and
+ * the lease heartbeat executor are drained as well. Leases are released only if all of them terminated
+ * gracefully, i.e. no batch is still in flight and no lease is being extended.
+ */
+public class OutboxLeasesReleaseShutdownHook implements ScheduledExecutorServiceShutdownHook {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxLeasesReleaseShutdownHook.class);
+
+    private final ScheduledExecutorServiceShutdownHook delegate;
+    private final ScheduledExecutorService executor;
+    private final WeightedFairDispatcher dispatcher;
+    private final ScheduledExecutorService heartbeatExecutor;
+    private final OutboxManager manager;
+
+    /**
+     * @param dispatcher the dispatcher running polling tasks, or {@code null} if dispatch is disabled.
+     */
+    public OutboxLeasesReleaseShutdownHook(ScheduledExecutorServiceShutdownHook delegate,
+                                           ScheduledExecutorService executor,
+                                           WeightedFairDispatcher dispatcher,
+                                           ScheduledExecutorService heartbeatExecutor,
+                                           OutboxManager manager) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        this.dispatcher = dispatcher;
+        this.heartbeatExecutor = Objects.requireNonNull(heartbeatExecutor, "heartbeatExecutor cannot be null");
+        this.manager = Objects.requireNonNull(manager, "manager cannot be null");
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+        if (!executor.isTerminated()) {
+            log.warn("Outbox's ScheduledExecutorService isn't terminated, leases are left to expire");
+            return;
+        }
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+            if (!awaitDispatcherTermination()) {
+                log.warn("Outbox dispatcher isn't terminated, leases are left to expire");
+                return;
+            }
+        }
+        heartbeatExecutor.shutdown();
+        if (!awaitHeartbeatTermination()) {
+            log.warn("Outbox lease heartbeat executor isn't terminated, leases are left to expire");
+            return;
+        }
+        try {
+            manager.releaseLeases();
+        } catch (Exception e) {
+            log.error("Error when releasing outbox event leases, leases are left to expire", e);
+        }
+    }
+
+    private boolean awaitDispatcherTermination() {
+        try {
+            return dispatcher.awaitTermination(TIMEOUT, TIME_UNIT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean awaitHeartbeatTermination() {
+        try {
+            return heartbeatExecutor.awaitTermination(TIMEOUT, TIME_UNIT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,9 +1,24 @@
 package io.github.dmitriyiliyov.oncebox.starter.publisher;
 
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskExecutor;
+import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxBatchListener;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxPollingScheduler;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxProcessor;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.AimdBatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.BatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.FixedBatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.CircuitBreakerBatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.OutboxCircuitBreaker;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.WeightedFairDispatcher;
+import io.github.dmitriyiliyov.oncebox.core.publisher.idle.IdleAwareBatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.idle.OutboxIdleDetector;
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.CompositeRateLimiter;
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.RateLimitedBatchSizeStrategy;
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.RateLimiter;
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.TokenBucketRateLimiter;
 import io.github.dmitriyiliyov.oncebox.starter.*;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.BeansException;
@@ -18,6 +33,11 @@ import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotationMetadata;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 
 
@@ -47,6 +67,9 @@ public class OutboxPollingSchedulerRegistrar implements ImportBeanDefinitionRegi
                 .getPublisher();
         properties.applyDefaults();
 
+        Map<String, RateLimiter> topicRateLimiters = new ConcurrentHashMap<>();
+        Map<String, OutboxCircuitBreaker> topicCircuitBreakers = new ConcurrentHashMap<>();
+
         for (OutboxPublisherProperties.EventProperties event : properties.getEvents().values()) {
 
             String beanName = BeanNameUtils.toBeanName(
@@ -54,7 +77,7 @@ public class OutboxPollingSchedulerRegistrar implements ImportBeanDefinitionRegi
                     "OutboxPollingScheduler"
             );
 
-            RootBeanDefinition definition = new RootBeanDefinition(OutboxPollingScheduler.class);
+            RootBeanDefinition definition = new RootBeanDefinition(OutboxScheduler.class);
             definition.setInstanceSupplier(() -> {
 
                 ScheduledExecutorService executor = beanFactory.getBean(
@@ -72,19 +95,115 @@ public class OutboxPollingSchedulerRegistrar implements ImportBeanDefinitionRegi
                         ContinuableTaskDecoratorSupplier.class
                 );
 
-                OutboxScheduleStrategy strategy = OutboxScheduleStrategyFactory.create(
+                Clock clock = beanFactory.getBean(Clock.class);
+
+                OutboxScheduleStrategy strategy = OutboxScheduleStrategyFactory.createForEventType(
                         event.getEventType(),
                         event.getPolling(),
                         executor,
-                        listenerSupplier
+                        listenerSupplier,
+                        clock
                 );
 
                 ContinuableTaskDecorator decorator = decoratorSupplier.supply(event.getEventType());
-
-                return new OutboxPollingScheduler(event, strategy, processor, decorator);
+                ContinuableTaskExecutor taskExecutor = properties.getDispatch().isEnabled()
+                        ? beanFactory.getBean(WeightedFairDispatcher.class).register(
+                                event,
+                                beanFactory.getBean(OutboxDispatchListenerSupplier.class).supply(event.getEventType())
+                        )
+                        : ContinuableTaskExecutor.direct();
+
+                BatchSizeStrategy batchSizeStrategy = createBatchSizeStrategy(
+                        event,
+                        strategy,
+                        clock,
+                        properties.getTopicRateLimits(),
+                        topicRateLimiters
+                );
+                if (properties.getCircuitBreaker().isEnabled()) {
+                    OutboxCircuitBreaker circuitBreaker = topicCircuitBreakers.computeIfAbsent(
+                            event.getTopic(),
+                            topic -> new OutboxCircuitBreaker(
+                                    topic,
+                                    properties.getCircuitBreaker(),
+                                    clock,
+                                    beanFactory.getBean(OutboxCircuitBreakerListenerSupplier.class).supply(topic)
+                            )
+                    );
+                    batchSizeStrategy = new CircuitBreakerBatchSizeStrategy(
+                            batchSizeStrategy == null ? new FixedBatchSizeStrategy(event) : batchSizeStrategy,
+                            circuitBreaker
+                    );
+                }
+                if (properties.getIdleDetection().isEnabled()) {
+                    batchSizeStrategy = new IdleAwareBatchSizeStrategy(
+                            batchSizeStrategy == null ? new FixedBatchSizeStrategy(event) : batchSizeStrategy,
+                            beanFactory.getBean(OutboxIdleDetector.class),
+                            event.getEventType()
+                    );
+                }
+                return new OutboxPollingScheduler(
+                        event,
+                        strategy,
+                        batchSizeStrategy == null ? new FixedBatchSizeStrategy(event) : batchSizeStrategy,
+                        processor,
+                        decorator,
+                        taskExecutor
+                );
             });
 
+            if (properties.getDispatch().isEnabled()) {
+                definition.setDependsOn("outboxWeightedFairDispatcher");
+            }
             registry.registerBeanDefinition(beanName,definition);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns null when the event type claims fixed batches without feedback, so the plain
+     * {@link OutboxPollingScheduler} can be used.
+     */
+    private BatchSizeStrategy createBatchSizeStrategy(OutboxPublisherProperties.EventProperties event,
+                                                      OutboxScheduleStrategy scheduleStrategy,
+                                                      Clock clock,
+                                                      Map<String, OutboxPublisherProperties.RateLimitProperties> topicRateLimits,
+                                                      Map<String, RateLimiter> topicRateLimiters) {
+        BatchSizeStrategy batchSizeStrategy = null;
+        if (event.getBatching().isEnabled()) {
+            OutboxBatchSizeStrategyListenerSupplier listenerSupplier = beanFactory.getBean(
+                    OutboxBatchSizeStrategyListenerSupplier.class
+            );
+            batchSizeStrategy = new AimdBatchSizeStrategy(
+                    event.getBatchSize(),
+                    event.getBatching(),
+                    listenerSupplier.supply(event.getEventType())
+            );
+        }
+
+        List<RateLimiter> rateLimiters = new ArrayList<>();
+        if (event.getRateLimit().isEnabled()) {
+            rateLimiters.add(new TokenBucketRateLimiter(event.getRateLimit(), clock));
+        }
+        OutboxPublisherProperties.RateLimitProperties topicRateLimit = topicRateLimits.get(event.getTopic());
+        if (topicRateLimit != null && topicRateLimit.isEnabled()) {
+            rateLimiters.add(topicRateLimiters.computeIfAbsent(
+                    event.getTopic(),
+                    topic -> new TokenBucketRateLimiter(topicRateLimit, clock)
+            ));
+        }
+        if (!rateLimiters.isEmpty()) {
+            OutboxRateLimiterListenerSupplier listenerSupplier = beanFactory.getBean(OutboxRateLimiterListenerSupplier.class);
+            batchSizeStrategy = new RateLimitedBatchSizeStrategy(
+                    batchSizeStrategy == null ? new FixedBatchSizeStrategy(event) : batchSizeStrategy,
+                    rateLimiters.size() == 1 ? rateLimiters.getFirst() : new CompositeRateLimiter(rateLimiters),
+                    listenerSupplier.supply(event.getEventType())
+            );
+        }
+
+        if (scheduleStrategy instanceof OutboxBatchListener batchListener) {
+            batchSizeStrategy = (batchSizeStrategy == null ? new FixedBatchSizeStrategy(event) : batchSizeStrategy)
+                    .withListener(batchListener);
+        }
+        return batchSizeStrategy;
+    }
+}
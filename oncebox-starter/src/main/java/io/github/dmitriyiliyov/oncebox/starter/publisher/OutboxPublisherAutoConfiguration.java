@@ -2,16 +2,22 @@ package io.github.dmitriyiliyov.oncebox.starter.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.dmitriyiliyov.oncebox.aop.OutboxPublishAspect;
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
 import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
 import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.publisher.*;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.WeightedFairDispatcher;
+import io.github.dmitriyiliyov.oncebox.core.publisher.idle.IdleAwareOutboxPublisher;
+import io.github.dmitriyiliyov.oncebox.core.publisher.idle.OutboxIdleDetector;
+import io.github.dmitriyiliyov.oncebox.core.utils.UuidV7Utils;
 import io.github.dmitriyiliyov.oncebox.starter.*;
 import io.github.dmitriyiliyov.oncebox.starter.publisher.dlq.OutboxDlqAutoConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -20,9 +26,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 @Configuration
 @ConditionalOnProperty(
@@ -56,8 +66,17 @@ public class OutboxPublisherAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(name = "outboxManager")
-    public OutboxManager outboxManager(OutboxRepository repository, Clock clock) {
-        return new DefaultOutboxManager(repository, clock);
+    public OutboxManager outboxManager(OutboxProperties properties, OutboxRepository repository, Clock clock) {
+        OutboxPublisherProperties.StuckRecoveryProperties stuckRecoveryProperties = publisherProperties.getStuckRecovery();
+        if (!stuckRecoveryProperties.isLeasingEnabled()) {
+            return new DefaultOutboxManager(repository, clock);
+        }
+        return new LeasingOutboxManager(
+                repository,
+                clock,
+                properties.getWorkerId(),
+                stuckRecoveryProperties.getLeaseDuration()
+        );
     }
 
     @Bean
@@ -74,14 +93,118 @@ public class OutboxPublisherAutoConfiguration {
     }
 
     @Bean
-    public OutboxPublisher outboxPublisher(OutboxSerializer serializer, OutboxManager manager) {
-        return new DefaultOutboxPublisher(publisherProperties, serializer, manager);
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher.idle-detection",
+            name = "enabled",
+            havingValue = "true"
+    )
+    public OutboxIdleDetector outboxIdleDetector(OutboxRepository repository, Clock clock) {
+        return new OutboxIdleDetector(
+                repository,
+                publisherProperties.getEvents().keySet(),
+                publisherProperties.getIdleDetection(),
+                clock
+        );
+    }
+
+    @Bean
+    public OutboxPublisher outboxPublisher(OutboxSerializer serializer,
+                                           OutboxManager manager,
+                                           ObjectProvider<OutboxIdleDetector> idleDetector) {
+        OutboxPublisher publisher = new DefaultOutboxPublisher(publisherProperties, serializer, manager);
+        OutboxIdleDetector detector = idleDetector.getIfAvailable();
+        return detector == null ? publisher : new IdleAwareOutboxPublisher(publisher, detector);
+    }
+
+    @Bean(name = "outboxLeaseHeartbeatExecutorService", autowireCandidate = false)
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher.stuck-recovery",
+            name = "leasing-enabled",
+            havingValue = "true"
+    )
+    public ScheduledExecutorService outboxLeaseHeartbeatExecutorService() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                1,
+                new CustomizableThreadFactory("outbox-lease-thrd-")
+        );
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher.dispatch",
+            name = "enabled",
+            havingValue = "true"
+    )
+    public WeightedFairDispatcher outboxWeightedFairDispatcher(Clock clock) {
+        int workerPoolSize = publisherProperties.getDispatch().getWorkerPoolSize();
+        ExecutorService workers = Executors.newFixedThreadPool(
+                workerPoolSize,
+                new CustomizableThreadFactory("outbox-dispatch-thrd-")
+        );
+        return new WeightedFairDispatcher(workers, workerPoolSize, clock);
     }
 
     @Bean
     @ConditionalOnMissingBean
     public OutboxProcessor outboxProcessor(OutboxManager manager, OutboxSender sender, Clock clock) {
-        return new DefaultOutboxProcessor(manager, sender, clock);
+        if (!publisherProperties.getStuckRecovery().isLeasingEnabled()) {
+            return new DefaultOutboxProcessor(manager, sender, clock);
+        }
+        OutboxSender heartbeatSender = new OutboxSenderLeaseHeartbeatDecorator(
+                sender,
+                manager,
+                outboxLeaseHeartbeatExecutorService(),
+                publisherProperties.getStuckRecovery().getHeartbeatInterval()
+        );
+        return new DefaultOutboxProcessor(manager, heartbeatSender, clock);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher.stuck-recovery",
+            name = "leasing-enabled",
+            havingValue = "true"
+    )
+    public ScheduledExecutorServiceShutdownHook outboxLeasesReleaseShutdownHook(
+            @Qualifier("outboxScheduledExecutorServiceShutdownHook") ScheduledExecutorServiceShutdownHook shutdownHook,
+            @Qualifier("outboxScheduledExecutorService") ScheduledExecutorService executor,
+            ObjectProvider<WeightedFairDispatcher> dispatcher,
+            OutboxManager manager
+    ) {
+        return new OutboxLeasesReleaseShutdownHook(
+                shutdownHook,
+                executor,
+                dispatcher.getIfAvailable(),
+                outboxLeaseHeartbeatExecutorService(),
+                manager
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxBatchSizeStrategyListenerSupplier outboxBatchSizeStrategyListenerSupplier() {
+        return new NoopOutboxBatchSizeStrategyListenerSupplier();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxRateLimiterListenerSupplier outboxRateLimiterListenerSupplier() {
+        return new NoopOutboxRateLimiterListenerSupplier();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxCircuitBreakerListenerSupplier outboxCircuitBreakerListenerSupplier() {
+        return new NoopOutboxCircuitBreakerListenerSupplier();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxDispatchListenerSupplier outboxDispatchListenerSupplier() {
+        return new NoopOutboxDispatchListenerSupplier();
     }
 
     @Bean
@@ -119,8 +242,14 @@ public class OutboxPublisherAutoConfiguration {
                                                   OutboxScheduleStrategyListenerSupplier scheduleStrategyListenerSupplier,
                                                   OutboxManager manager,
                                                   DistributedLockRepository lockRepository,
-                                                  ContinuableTaskDecoratorSupplier continuableTaskDecoratorSupplier) {
+                                                  ContinuableTaskDecoratorSupplier continuableTaskDecoratorSupplier,
+                                                  UuidGenerator uuidGenerator) {
         OutboxProperties.CleanUpProperties cleanUpProperties = publisherProperties.getCleanUp();
+        if (cleanUpProperties.getMode() == CleanUpMode.ID_RANGE && !UuidV7Utils.isUuidV7(uuidGenerator.generate())) {
+            throw new IllegalStateException(
+                    "Clean-up mode ID_RANGE requires a UuidGenerator producing UUIDv7 ids, got " + uuidGenerator.getClass().getName()
+            );
+        }
         OutboxScheduleStrategy strategy = OutboxScheduleStrategyFactory.create(
                 OutboxJobType.PUBLISHER_CLEANUP.getValue(),
                 cleanUpProperties.getPolling(),
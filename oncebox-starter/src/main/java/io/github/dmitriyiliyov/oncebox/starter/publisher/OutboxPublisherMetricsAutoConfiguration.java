@@ -1,15 +1,24 @@
 package io.github.dmitriyiliyov.oncebox.starter.publisher;
 
+import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
+import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
+import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
+import io.github.dmitriyiliyov.oncebox.core.locks.OutboxJob;
+import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxProcessor;
 import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
 import io.github.dmitriyiliyov.oncebox.metrics.OutboxMetrics;
 import io.github.dmitriyiliyov.oncebox.metrics.publisher.*;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.GaugeSnapshotHolder;
 import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.NoopOutboxCache;
 import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.OutboxCache;
 import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.SimpleOutboxCache;
-import io.github.dmitriyiliyov.oncebox.starter.OutboxProperties;
+import io.github.dmitriyiliyov.oncebox.starter.*;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -18,8 +27,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Configuration
 @ConditionalOnProperty(
@@ -64,8 +75,91 @@ public class OutboxPublisherMetricsAutoConfiguration {
     @Bean
     @Primary
     public OutboxManager outboxManagerMetricsDecorator(@Qualifier("outboxManager") OutboxManager manager,
-                                                       MeterRegistry registry) {
-        return new OutboxManagerMetricsDecorator(publisherProperties, registry, manager);
+                                                       MeterRegistry registry,
+                                                       ObjectProvider<OutboxMetricsService> metricsService) {
+        OutboxEventCountListener countListener = metricsService.getIfAvailable() instanceof OutboxEventCountListener listener
+                ? listener
+                : OutboxEventCountListener.NOOP;
+        return new OutboxManagerMetricsDecorator(publisherProperties, registry, manager, countListener);
+    }
+
+    @Bean
+    public static BeanPostProcessor outboxProcessorMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof OutboxProcessor processor && !(bean instanceof OutboxProcessorMetricsDecorator)) {
+                    return new OutboxProcessorMetricsDecorator(registry.getObject(), processor);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @Primary
+    public OutboxBatchSizeStrategyListenerSupplier metricsOutboxBatchSizeStrategyListenerSupplier(MeterRegistry registry) {
+        return new MetricsOutboxBatchSizeStrategyListenerSupplier(registry);
+    }
+
+    @Bean
+    @Primary
+    public OutboxRateLimiterListenerSupplier metricsOutboxRateLimiterListenerSupplier(MeterRegistry registry) {
+        return new MetricsOutboxRateLimiterListenerSupplier(registry);
+    }
+
+    @Bean
+    @Primary
+    public OutboxCircuitBreakerListenerSupplier metricsOutboxCircuitBreakerListenerSupplier(MeterRegistry registry) {
+        return new MetricsOutboxCircuitBreakerListenerSupplier(registry);
+    }
+
+    @Bean
+    @Primary
+    public OutboxDispatchListenerSupplier metricsOutboxDispatchListenerSupplier(MeterRegistry registry) {
+        return new MetricsOutboxDispatchListenerSupplier(registry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-estimation.enabled"},
+            havingValue = "true"
+    )
+    @ConditionalOnDatabaseType(type = DatabaseType.POSTGRESQL)
+    public OutboxMetricsRepository postgreSqlOutboxMetricsRepository(
+            @Qualifier("outboxJdbcTemplate") JdbcTemplate jdbcTemplate
+    ) {
+        return new PostgreSqlOutboxMetricsRepository(jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-estimation.enabled"},
+            havingValue = "true"
+    )
+    @ConditionalOnDatabaseType(type = DatabaseType.MYSQL)
+    public OutboxMetricsRepository mySqlOutboxMetricsRepository(
+            @Qualifier("outboxJdbcTemplate") JdbcTemplate jdbcTemplate
+    ) {
+        return new MySqlOutboxMetricsRepository(jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-estimation.enabled"},
+            havingValue = "true"
+    )
+    @ConditionalOnDatabaseType(type = DatabaseType.ORACLE)
+    public OutboxMetricsRepository oracleOutboxMetricsRepository(
+            @Qualifier("outboxJdbcTemplate") JdbcTemplate jdbcTemplate
+    ) {
+        return new OracleOutboxMetricsRepository(jdbcTemplate);
     }
 
     @Bean
@@ -88,10 +182,44 @@ public class OutboxPublisherMetricsAutoConfiguration {
             name = "enabled",
             havingValue = "true"
     )
-    public OutboxMetricsService outboxMetricsService(OutboxMetricsRepository repository, OutboxCache<EventStatus> cache) {
+    public OutboxMetricsService outboxMetricsService(OutboxMetricsRepository repository,
+                                                     OutboxCache<EventStatus> cache,
+                                                     Clock clock) {
+        OutboxPublisherProperties.GaugeEstimationProperties estimation = publisherProperties.getGaugeEstimation();
+        if (estimation != null && Boolean.TRUE.equals(estimation.isEnabled())) {
+            return new EstimatedOutboxMetricsService(repository, estimation.getReconcileInterval(), clock);
+        }
         return new DefaultOutboxMetricsService(repository, cache);
     }
 
+    @Bean
+    @ConditionalOnMissingBean(name = "outboxGaugeSnapshot")
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-refresh.enabled"},
+            havingValue = "true"
+    )
+    public GaugeSnapshotHolder<EventStatus> outboxGaugeSnapshot(OutboxMetricsRepository repository, Clock clock) {
+        return new GaugeSnapshotHolder<>(
+                EventStatus.class,
+                repository::countGroupedByEventTypeAndStatus,
+                publisherProperties.getGaugeRefresh().getStaleAfter(),
+                clock
+        );
+    }
+
+    @Bean(name = "outboxMetrics")
+    @ConditionalOnMissingBean(name = "outboxMetrics")
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-refresh.enabled"},
+            havingValue = "true"
+    )
+    public OutboxMetrics snapshotOutboxMetrics(MeterRegistry registry,
+                                               @Qualifier("outboxGaugeSnapshot") GaugeSnapshotHolder<EventStatus> snapshot) {
+        return new SnapshotOutboxMetrics(publisherProperties, registry, snapshot);
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "outboxMetrics")
     @ConditionalOnProperty(
@@ -102,4 +230,51 @@ public class OutboxPublisherMetricsAutoConfiguration {
     public OutboxMetrics outboxMetrics(MeterRegistry registry, OutboxMetricsService metricsService) {
         return new DefaultOutboxMetrics(publisherProperties, registry, metricsService);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "outboxGaugeRefreshScheduler")
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-refresh.enabled"},
+            havingValue = "true"
+    )
+    public OutboxScheduler outboxGaugeRefreshScheduler(OutboxProperties properties,
+                                                       ScheduledExecutorService executor,
+                                                       OutboxScheduleStrategyListenerSupplier scheduleStrategyListenerSupplier,
+                                                       ObjectProvider<GaugeSnapshotHolder<?>> snapshots,
+                                                       DistributedLockRepository lockRepository,
+                                                       ContinuableTaskDecoratorSupplier continuableTaskDecoratorSupplier) {
+        OutboxScheduleStrategy strategy = OutboxScheduleStrategyFactory.create(
+                OutboxJobType.GAUGE_REFRESH.getValue(),
+                publisherProperties.getGaugeRefresh().getPolling(),
+                executor,
+                scheduleStrategyListenerSupplier
+        );
+        ContinuableTaskDecorator continuableTaskDecorator = continuableTaskDecoratorSupplier.supply(OutboxJobType.GAUGE_REFRESH.getValue());
+        return new OutboxGaugeRefreshScheduler(
+                properties.getWorkerId(), strategy, snapshots.orderedStream().toList(), lockRepository, continuableTaskDecorator
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-refresh.enabled"},
+            havingValue = "true"
+    )
+    public OutboxJobCreateCommand outboxGaugeRefreshJobCreateCommand(OutboxProperties properties,
+                                                                     @Qualifier("outboxJdbcTemplate") JdbcTemplate jdbcTemplate,
+                                                                     Clock clock) {
+        DistributedLockPropertiesResolver.LockDurations lockDurations = DistributedLockPropertiesResolver.resolve(
+                properties.getDistributedLock(),
+                publisherProperties.getGaugeRefresh().getPolling()
+        );
+        return new DefaultOutboxJobCreateCommand(
+                jdbcTemplate,
+                clock,
+                OutboxJob.OUTBOX_GAUGE_REFRESH.getJobName(),
+                lockDurations.atLeastFor(),
+                lockDurations.atMostFor()
+        );
+    }
 }
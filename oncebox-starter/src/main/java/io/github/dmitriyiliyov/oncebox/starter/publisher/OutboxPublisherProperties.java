@@ -1,6 +1,12 @@
 package io.github.dmitriyiliyov.oncebox.starter.publisher;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.OutboxPublisherPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.batching.AdaptiveBatchSizePropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.circuitbreaker.CircuitBreakerPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.DispatchLanePropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.idle.IdleDetectionPropertiesHolder;
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.RateLimitPropertiesHolder;
 import io.github.dmitriyiliyov.oncebox.starter.OutboxProperties;
 import io.github.dmitriyiliyov.oncebox.starter.PollingType;
 import io.github.dmitriyiliyov.oncebox.starter.TransportType;
@@ -24,6 +30,17 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
     @NestedConfigurationProperty
     private EventProperties.Defaults defaults;
     private Map<String, EventProperties> events;
+    private Map<String, RateLimitProperties> topicRateLimits;
+    @NestedConfigurationProperty
+    private CircuitBreakerProperties circuitBreaker;
+    @NestedConfigurationProperty
+    private DispatchProperties dispatch;
+    @NestedConfigurationProperty
+    private IdleDetectionProperties idleDetection;
+    @NestedConfigurationProperty
+    private GaugeEstimationProperties gaugeEstimation;
+    @NestedConfigurationProperty
+    private GaugeRefreshProperties gaugeRefresh;
     @NestedConfigurationProperty
     private StuckRecoveryProperties stuckRecovery;
     @NestedConfigurationProperty
@@ -55,6 +72,23 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
             }
             events = applyDefaults(events);
 
+            topicRateLimits = topicRateLimits == null ? Collections.emptyMap() : applyTopicRateLimitDefaults(topicRateLimits);
+
+            circuitBreaker = circuitBreaker == null ? new CircuitBreakerProperties() : circuitBreaker;
+            circuitBreaker.applyDefaults();
+
+            dispatch = dispatch == null ? new DispatchProperties() : dispatch;
+            dispatch.applyDefaults();
+
+            idleDetection = idleDetection == null ? new IdleDetectionProperties() : idleDetection;
+            idleDetection.applyDefaults();
+
+            gaugeEstimation = gaugeEstimation == null ? new GaugeEstimationProperties() : gaugeEstimation;
+            gaugeEstimation.applyDefaults();
+
+            gaugeRefresh = gaugeRefresh == null ? new GaugeRefreshProperties() : gaugeRefresh;
+            gaugeRefresh.applyDefaults();
+
             stuckRecovery = stuckRecovery == null ? new StuckRecoveryProperties() : stuckRecovery;
             stuckRecovery.applyDefaults();
 
@@ -89,6 +123,27 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
             defaults.applyDefaults();
 
             events = Collections.emptyMap();
+            topicRateLimits = Collections.emptyMap();
+
+            circuitBreaker = new CircuitBreakerProperties();
+            circuitBreaker.setEnabled(false);
+            circuitBreaker.applyDefaults();
+
+            dispatch = new DispatchProperties();
+            dispatch.setEnabled(false);
+            dispatch.applyDefaults();
+
+            idleDetection = new IdleDetectionProperties();
+            idleDetection.setEnabled(false);
+            idleDetection.applyDefaults();
+
+            gaugeEstimation = new GaugeEstimationProperties();
+            gaugeEstimation.setEnabled(false);
+            gaugeEstimation.applyDefaults();
+
+            gaugeRefresh = new GaugeRefreshProperties();
+            gaugeRefresh.setEnabled(false);
+            gaugeRefresh.applyDefaults();
 
             cleanUp = new OutboxProperties.CleanUpProperties();
             cleanUp.setEnabled(false);
@@ -126,6 +181,27 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
                 ));
     }
 
+    private Map<String, RateLimitProperties> applyTopicRateLimitDefaults(Map<String, RateLimitProperties> rateLimits) {
+        return rateLimits.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        e -> {
+                            String topic = e.getKey();
+                            if (topic == null || topic.isBlank()) {
+                                throw new IllegalArgumentException("topic cannot be null or blank");
+                            }
+                            return topic;
+                        },
+                        e -> {
+                            RateLimitProperties rateLimit = e.getValue();
+                            if (rateLimit.isEnabled() == null) {
+                                rateLimit.setEnabled(true);
+                            }
+                            rateLimit.applyDefaults();
+                            return rateLimit;
+                        }
+                ));
+    }
+
     public Boolean isEnabled() {
         return enabled;
     }
@@ -170,6 +246,54 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
         this.events = events;
     }
 
+    public Map<String, RateLimitProperties> getTopicRateLimits() {
+        return topicRateLimits;
+    }
+
+    public void setTopicRateLimits(Map<String, RateLimitProperties> topicRateLimits) {
+        this.topicRateLimits = topicRateLimits;
+    }
+
+    public CircuitBreakerProperties getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public DispatchProperties getDispatch() {
+        return dispatch;
+    }
+
+    public void setDispatch(DispatchProperties dispatch) {
+        this.dispatch = dispatch;
+    }
+
+    public IdleDetectionProperties getIdleDetection() {
+        return idleDetection;
+    }
+
+    public void setIdleDetection(IdleDetectionProperties idleDetection) {
+        this.idleDetection = idleDetection;
+    }
+
+    public GaugeEstimationProperties getGaugeEstimation() {
+        return gaugeEstimation;
+    }
+
+    public void setGaugeEstimation(GaugeEstimationProperties gaugeEstimation) {
+        this.gaugeEstimation = gaugeEstimation;
+    }
+
+    public GaugeRefreshProperties getGaugeRefresh() {
+        return gaugeRefresh;
+    }
+
+    public void setGaugeRefresh(GaugeRefreshProperties gaugeRefresh) {
+        this.gaugeRefresh = gaugeRefresh;
+    }
+
     public StuckRecoveryProperties getStuckRecovery() {
         return stuckRecovery;
     }
@@ -213,6 +337,12 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
                 ", sender=" + sender +
                 ", defaults=" + defaults +
                 ", events=" + events +
+                ", topicRateLimits=" + topicRateLimits +
+                ", circuitBreaker=" + circuitBreaker +
+                ", dispatch=" + dispatch +
+                ", idleDetection=" + idleDetection +
+                ", gaugeEstimation=" + gaugeEstimation +
+                ", gaugeRefresh=" + gaugeRefresh +
                 ", stuckRecovery=" + stuckRecovery +
                 ", cleanUp=" + cleanUp +
                 ", dlq=" + dlq +
@@ -343,7 +473,10 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
         }
     }
 
-    public static final class EventProperties implements EventPropertiesHolder {
+    public static final class EventProperties implements EventPropertiesHolder, DispatchLanePropertiesHolder {
+
+        private static final int DEFAULT_PRIORITY = 0;
+        private static final int DEFAULT_WEIGHT = 1;
 
         private String eventType;
         private String topic;
@@ -353,6 +486,12 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
         private Integer maxRetries;
         @NestedConfigurationProperty
         private BackoffProperties backoff;
+        @NestedConfigurationProperty
+        private BatchingProperties batching;
+        @NestedConfigurationProperty
+        private RateLimitProperties rateLimit;
+        private Integer priority;
+        private Integer weight;
 
         public void applyDefaults(Defaults defaults) {
             if (eventType == null) {
@@ -378,6 +517,15 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
                 backoff.setEnabled(false);
             }
             backoff.applyDefaults(defaults.getBackoffDefaults());
+            batching = batching == null ? new BatchingProperties() : batching;
+            batching.applyDefaults(batchSize);
+            rateLimit = rateLimit == null ? new RateLimitProperties() : rateLimit;
+            rateLimit.applyDefaults();
+            priority = priority == null ? DEFAULT_PRIORITY : priority;
+            weight = weight == null ? DEFAULT_WEIGHT : weight;
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight should be positive");
+            }
         }
 
         @Override
@@ -432,6 +580,40 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
             this.backoff = backoff;
         }
 
+        public BatchingProperties getBatching() {
+            return batching;
+        }
+
+        public void setBatching(BatchingProperties batching) {
+            this.batching = batching;
+        }
+
+        public RateLimitProperties getRateLimit() {
+            return rateLimit;
+        }
+
+        public void setRateLimit(RateLimitProperties rateLimit) {
+            this.rateLimit = rateLimit;
+        }
+
+        @Override
+        public Integer getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Integer priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public Integer getWeight() {
+            return weight;
+        }
+
+        public void setWeight(Integer weight) {
+            this.weight = weight;
+        }
+
         @Override
         public Duration getInitialDelay() {
             return polling.getInitialDelay();
@@ -476,12 +658,16 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
                     && Objects.equals(batchSize, that.batchSize)
                     && Objects.equals(polling, that.polling)
                     && Objects.equals(maxRetries, that.maxRetries)
-                    && Objects.equals(backoff, that.backoff);
+                    && Objects.equals(backoff, that.backoff)
+                    && Objects.equals(batching, that.batching)
+                    && Objects.equals(rateLimit, that.rateLimit)
+                    && Objects.equals(priority, that.priority)
+                    && Objects.equals(weight, that.weight);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(eventType, topic, batchSize, polling, maxRetries, backoff);
+            return Objects.hash(eventType, topic, batchSize, polling, maxRetries, backoff, batching, rateLimit, priority, weight);
         }
 
         @Override
@@ -493,6 +679,10 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
                     ", polling=" + polling +
                     ", maxRetries=" + maxRetries +
                     ", backoff=" + backoff +
+                    ", batching=" + batching +
+                    ", rateLimit=" + rateLimit +
+                    ", priority=" + priority +
+                    ", weight=" + weight +
                     '}';
         }
 
@@ -586,10 +776,474 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
         }
     }
 
+    public static final class BatchingProperties implements AdaptiveBatchSizePropertiesHolder {
+
+        private static final double DEFAULT_DECREASE_FACTOR = 0.5;
+        private static final Duration DEFAULT_TARGET_SEND_LATENCY = Duration.ofSeconds(1);
+        private static final double DEFAULT_MAX_FAILURE_RATIO = 0.1;
+
+        private Boolean enabled;
+        private Integer minBatchSize;
+        private Integer maxBatchSize;
+        private Integer additiveIncrease;
+        private Double decreaseFactor;
+        private Duration targetSendLatency;
+        private Double maxFailureRatio;
+
+        public void applyDefaults(int batchSize) {
+            if (enabled != null && enabled) {
+                minBatchSize = minBatchSize == null || minBatchSize <= 0 ? Math.max(1, batchSize / 10) : minBatchSize;
+                maxBatchSize = maxBatchSize == null || maxBatchSize <= 0 ? batchSize * 4 : maxBatchSize;
+                if (minBatchSize > batchSize || maxBatchSize < batchSize) {
+                    throw new IllegalArgumentException(
+                            "batching min-batch-size and max-batch-size should surround batch-size=%d".formatted(batchSize)
+                    );
+                }
+                additiveIncrease = additiveIncrease == null || additiveIncrease <= 0 ? Math.max(1, batchSize / 10) : additiveIncrease;
+                decreaseFactor = decreaseFactor == null || decreaseFactor <= 0 || decreaseFactor >= 1
+                        ? DEFAULT_DECREASE_FACTOR
+                        : decreaseFactor;
+                targetSendLatency = targetSendLatency == null || targetSendLatency.isNegative() || targetSendLatency.isZero()
+                        ? DEFAULT_TARGET_SEND_LATENCY
+                        : targetSendLatency;
+                maxFailureRatio = maxFailureRatio == null || maxFailureRatio < 0 || maxFailureRatio > 1
+                        ? DEFAULT_MAX_FAILURE_RATIO
+                        : maxFailureRatio;
+            } else {
+                enabled = false;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public Integer getMinBatchSize() {
+            return minBatchSize;
+        }
+
+        public void setMinBatchSize(Integer minBatchSize) {
+            this.minBatchSize = minBatchSize;
+        }
+
+        @Override
+        public Integer getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        @Override
+        public Integer getAdditiveIncrease() {
+            return additiveIncrease;
+        }
+
+        public void setAdditiveIncrease(Integer additiveIncrease) {
+            this.additiveIncrease = additiveIncrease;
+        }
+
+        @Override
+        public Double getDecreaseFactor() {
+            return decreaseFactor;
+        }
+
+        public void setDecreaseFactor(Double decreaseFactor) {
+            this.decreaseFactor = decreaseFactor;
+        }
+
+        @Override
+        public Duration getTargetSendLatency() {
+            return targetSendLatency;
+        }
+
+        public void setTargetSendLatency(Duration targetSendLatency) {
+            this.targetSendLatency = targetSendLatency;
+        }
+
+        @Override
+        public Double getMaxFailureRatio() {
+            return maxFailureRatio;
+        }
+
+        public void setMaxFailureRatio(Double maxFailureRatio) {
+            this.maxFailureRatio = maxFailureRatio;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BatchingProperties that)) return false;
+            return Objects.equals(enabled, that.enabled)
+                    && Objects.equals(minBatchSize, that.minBatchSize)
+                    && Objects.equals(maxBatchSize, that.maxBatchSize)
+                    && Objects.equals(additiveIncrease, that.additiveIncrease)
+                    && Objects.equals(decreaseFactor, that.decreaseFactor)
+                    && Objects.equals(targetSendLatency, that.targetSendLatency)
+                    && Objects.equals(maxFailureRatio, that.maxFailureRatio);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(enabled, minBatchSize, maxBatchSize, additiveIncrease, decreaseFactor, targetSendLatency, maxFailureRatio);
+        }
+
+        @Override
+        public String toString() {
+            return "BatchingProperties{" +
+                    "enabled=" + enabled +
+                    ", minBatchSize=" + minBatchSize +
+                    ", maxBatchSize=" + maxBatchSize +
+                    ", additiveIncrease=" + additiveIncrease +
+                    ", decreaseFactor=" + decreaseFactor +
+                    ", targetSendLatency=" + targetSendLatency +
+                    ", maxFailureRatio=" + maxFailureRatio +
+                    '}';
+        }
+    }
+
+    public static final class RateLimitProperties implements RateLimitPropertiesHolder {
+
+        private Boolean enabled;
+        private Double permitsPerSecond;
+        private Integer burstCapacity;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                if (permitsPerSecond == null || permitsPerSecond <= 0) {
+                    throw new IllegalArgumentException("rate-limit permits-per-second should be positive");
+                }
+                if (burstCapacity == null) {
+                    burstCapacity = (int) Math.max(1, Math.ceil(permitsPerSecond));
+                } else if (burstCapacity <= 0) {
+                    throw new IllegalArgumentException("rate-limit burst-capacity should be positive");
+                }
+            } else {
+                enabled = false;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public Double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public void setPermitsPerSecond(Double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        @Override
+        public Integer getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public void setBurstCapacity(Integer burstCapacity) {
+            this.burstCapacity = burstCapacity;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RateLimitProperties that)) return false;
+            return Objects.equals(enabled, that.enabled)
+                    && Objects.equals(permitsPerSecond, that.permitsPerSecond)
+                    && Objects.equals(burstCapacity, that.burstCapacity);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(enabled, permitsPerSecond, burstCapacity);
+        }
+
+        @Override
+        public String toString() {
+            return "RateLimitProperties{" +
+                    "enabled=" + enabled +
+                    ", permitsPerSecond=" + permitsPerSecond +
+                    ", burstCapacity=" + burstCapacity +
+                    '}';
+        }
+    }
+
+    public static final class CircuitBreakerProperties implements CircuitBreakerPropertiesHolder {
+
+        private static final int DEFAULT_FAILURE_THRESHOLD = 3;
+        private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+        private static final int DEFAULT_HALF_OPEN_BATCH_SIZE = 10;
+
+        private Boolean enabled;
+        private Integer failureThreshold;
+        private Duration openDuration;
+        private Integer halfOpenBatchSize;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                failureThreshold = failureThreshold == null || failureThreshold <= 0 ? DEFAULT_FAILURE_THRESHOLD : failureThreshold;
+                openDuration = openDuration == null || openDuration.isNegative() || openDuration.isZero()
+                        ? DEFAULT_OPEN_DURATION
+                        : openDuration;
+                halfOpenBatchSize = halfOpenBatchSize == null || halfOpenBatchSize <= 0
+                        ? DEFAULT_HALF_OPEN_BATCH_SIZE
+                        : halfOpenBatchSize;
+            } else {
+                enabled = false;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public Integer getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(Integer failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        @Override
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        @Override
+        public Integer getHalfOpenBatchSize() {
+            return halfOpenBatchSize;
+        }
+
+        public void setHalfOpenBatchSize(Integer halfOpenBatchSize) {
+            this.halfOpenBatchSize = halfOpenBatchSize;
+        }
+
+        @Override
+        public String toString() {
+            return "CircuitBreakerProperties{" +
+                    "enabled=" + enabled +
+                    ", failureThreshold=" + failureThreshold +
+                    ", openDuration=" + openDuration +
+                    ", halfOpenBatchSize=" + halfOpenBatchSize +
+                    '}';
+        }
+    }
+
+    public static final class DispatchProperties {
+
+        private static final int DEFAULT_WORKER_POOL_SIZE = 4;
+
+        private Boolean enabled;
+        private Integer workerPoolSize;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                workerPoolSize = workerPoolSize == null || workerPoolSize <= 0 ? DEFAULT_WORKER_POOL_SIZE : workerPoolSize;
+            } else {
+                enabled = false;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Integer getWorkerPoolSize() {
+            return workerPoolSize;
+        }
+
+        public void setWorkerPoolSize(Integer workerPoolSize) {
+            this.workerPoolSize = workerPoolSize;
+        }
+
+        @Override
+        public String toString() {
+            return "DispatchProperties{" +
+                    "enabled=" + enabled +
+                    ", workerPoolSize=" + workerPoolSize +
+                    '}';
+        }
+    }
+
+    public static final class IdleDetectionProperties implements IdleDetectionPropertiesHolder {
+
+        private static final Duration DEFAULT_PROBE_INTERVAL = Duration.ofSeconds(1);
+
+        private Boolean enabled;
+        private Duration probeInterval;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                probeInterval = probeInterval == null || probeInterval.isNegative() || probeInterval.isZero()
+                        ? DEFAULT_PROBE_INTERVAL
+                        : probeInterval;
+            } else {
+                enabled = false;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public Duration getProbeInterval() {
+            return probeInterval;
+        }
+
+        public void setProbeInterval(Duration probeInterval) {
+            this.probeInterval = probeInterval;
+        }
+
+        @Override
+        public String toString() {
+            return "IdleDetectionProperties{" +
+                    "enabled=" + enabled +
+                    ", probeInterval=" + probeInterval +
+                    '}';
+        }
+    }
+
+    public static final class GaugeEstimationProperties {
+
+        private static final Duration DEFAULT_RECONCILE_INTERVAL = Duration.ofMinutes(5);
+
+        private Boolean enabled;
+        private Duration reconcileInterval;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                reconcileInterval = reconcileInterval == null || reconcileInterval.isNegative() || reconcileInterval.isZero()
+                        ? DEFAULT_RECONCILE_INTERVAL
+                        : reconcileInterval;
+            } else {
+                enabled = false;
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getReconcileInterval() {
+            return reconcileInterval;
+        }
+
+        public void setReconcileInterval(Duration reconcileInterval) {
+            this.reconcileInterval = reconcileInterval;
+        }
+
+        @Override
+        public String toString() {
+            return "GaugeEstimationProperties{" +
+                    "enabled=" + enabled +
+                    ", reconcileInterval=" + reconcileInterval +
+                    '}';
+        }
+    }
+
+    public static final class GaugeRefreshProperties {
+
+        private static final int STALE_AFTER_MISSED_REFRESHES = 3;
+        private static final OutboxProperties.PollingProperties.Defaults POLLING_DEFAULTS = OutboxProperties.PollingProperties.Defaults.ofFixed(
+                PollingType.FIXED,
+                Duration.ofSeconds(10),
+                Duration.ofSeconds(30)
+        );
+
+        private Boolean enabled;
+        private Duration staleAfter;
+        @NestedConfigurationProperty
+        private OutboxProperties.PollingProperties polling;
+
+        public void applyDefaults() {
+            if (enabled != null && enabled) {
+                polling = polling == null ? new OutboxProperties.PollingProperties() : polling;
+                polling.applyDefaults(POLLING_DEFAULTS);
+                if (staleAfter == null || staleAfter.isNegative() || staleAfter.isZero()) {
+                    Duration longestDelay = polling.getFixedDelay().compareTo(polling.getMaxFixedDelay()) > 0
+                            ? polling.getFixedDelay()
+                            : polling.getMaxFixedDelay();
+                    staleAfter = longestDelay.multipliedBy(STALE_AFTER_MISSED_REFRESHES);
+                }
+            } else {
+                enabled = false;
+                polling = new OutboxProperties.PollingProperties();
+            }
+        }
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getStaleAfter() {
+            return staleAfter;
+        }
+
+        public void setStaleAfter(Duration staleAfter) {
+            this.staleAfter = staleAfter;
+        }
+
+        public OutboxProperties.PollingProperties getPolling() {
+            return polling;
+        }
+
+        public void setPolling(OutboxProperties.PollingProperties polling) {
+            this.polling = polling;
+        }
+
+        @Override
+        public String toString() {
+            return "GaugeRefreshProperties{" +
+                    "enabled=" + enabled +
+                    ", staleAfter=" + staleAfter +
+                    ", polling=" + polling +
+                    '}';
+        }
+    }
+
     public static final class StuckRecoveryProperties implements StuckRecoveryPropertiesHolder {
 
         private static final int DEFAULT_BATCH_SIZE = 500;
         private static final Duration DEFAULT_MAX_BATCH_PROCESSING_TIME = Duration.ofMinutes(5);
+        private static final Duration DEFAULT_LEASE_DURATION = Duration.ofMinutes(1);
         private static final OutboxProperties.PollingProperties.Defaults POLLING_DEFAULTS = OutboxProperties.PollingProperties.Defaults.ofAdaptive(
                 PollingType.ADAPTIVE,
                 Duration.ofMinutes(5),
@@ -600,18 +1254,26 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
 
         private Integer batchSize;
         private Duration maxBatchProcessingTime;
+        private Boolean leasingEnabled;
+        private Duration leaseDuration;
         @NestedConfigurationProperty
         private OutboxProperties.PollingProperties polling;
 
         public StuckRecoveryProperties() {
             this.batchSize = DEFAULT_BATCH_SIZE;
             this.maxBatchProcessingTime = DEFAULT_MAX_BATCH_PROCESSING_TIME;
+            this.leasingEnabled = false;
+            this.leaseDuration = DEFAULT_LEASE_DURATION;
             this.polling = new OutboxProperties.PollingProperties();
         }
 
         public void applyDefaults() {
             batchSize = batchSize == null || batchSize <= 0 ? DEFAULT_BATCH_SIZE : batchSize;
             maxBatchProcessingTime = maxBatchProcessingTime == null ? DEFAULT_MAX_BATCH_PROCESSING_TIME : maxBatchProcessingTime;
+            leasingEnabled = leasingEnabled != null && leasingEnabled;
+            leaseDuration = leaseDuration == null || leaseDuration.isNegative() || leaseDuration.isZero()
+                    ? DEFAULT_LEASE_DURATION
+                    : leaseDuration;
             polling = polling == null ? new OutboxProperties.PollingProperties() : polling;
             polling.applyDefaults(POLLING_DEFAULTS);
         }
@@ -634,6 +1296,26 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
             this.maxBatchProcessingTime = maxBatchProcessingTime;
         }
 
+        public Boolean isLeasingEnabled() {
+            return leasingEnabled;
+        }
+
+        public void setLeasingEnabled(Boolean leasingEnabled) {
+            this.leasingEnabled = leasingEnabled;
+        }
+
+        public Duration getLeaseDuration() {
+            return leaseDuration;
+        }
+
+        public void setLeaseDuration(Duration leaseDuration) {
+            this.leaseDuration = leaseDuration;
+        }
+
+        public Duration getHeartbeatInterval() {
+            return leaseDuration.dividedBy(3);
+        }
+
         public OutboxProperties.PollingProperties getPolling() {
             return polling;
         }
@@ -672,6 +1354,8 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
             return "StuckRecoveryProperties{" +
                     "batchSize=" + batchSize +
                     ", maxBatchProcessingTime=" + maxBatchProcessingTime +
+                    ", leasingEnabled=" + leasingEnabled +
+                    ", leaseDuration=" + leaseDuration +
                     ", polling=" + polling +
                     '}';
         }
@@ -724,6 +1408,10 @@ public class OutboxPublisherProperties implements OutboxPublisherPropertiesHolde
                     cleanUp.setEnabled(true);
                 }
                 cleanUp.applyDefaults();
+                if (cleanUp.getMode() == CleanUpMode.ID_RANGE) {
+                    log.warn("Outbox DLQ clean-up selects resolved events by resolution time, mode ID_RANGE is ignored");
+                    cleanUp.setMode(CleanUpMode.TIMESTAMP);
+                }
             } else {
                 enabled = false;
                 transferTo = new TransferProperties();
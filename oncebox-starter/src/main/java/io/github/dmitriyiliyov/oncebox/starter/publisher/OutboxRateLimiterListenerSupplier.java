@@ -0,0 +1,17 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.ratelimit.RateLimiterListener;
+
+/**
+ * A supplier for creating {@link RateLimiterListener} instances.
+ */
+public interface OutboxRateLimiterListenerSupplier {
+
+    /**
+     * Supplies a configured {@link RateLimiterListener} for the given event type.
+     *
+     * @param eventType the type of event for which to provide the listener.
+     * @return a configured {@link RateLimiterListener}.
+     */
+    RateLimiterListener supply(String eventType);
+}
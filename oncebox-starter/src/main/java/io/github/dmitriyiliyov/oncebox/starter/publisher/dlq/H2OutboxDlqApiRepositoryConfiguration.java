@@ -0,0 +1,35 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher.dlq;
+
+
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.dlq.api.OutboxDlqApiRepository;
+import io.github.dmitriyiliyov.oncebox.h2.H2IdHelper;
+import io.github.dmitriyiliyov.oncebox.h2.H2OutboxDlqApiRepository;
+import io.github.dmitriyiliyov.oncebox.starter.ConditionalOnDatabaseType;
+import io.github.dmitriyiliyov.oncebox.starter.DatabaseType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnDatabaseType(type = DatabaseType.H2)
+@ConditionalOnClass(H2OutboxDlqApiRepository.class)
+public class H2OutboxDlqApiRepositoryConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxDlqApiRepository h2OutboxDlqApiRepository(@Qualifier("outboxJdbcTemplate") JdbcTemplate jdbcTemplate,
+                                                           Clock clock) {
+        return new H2OutboxDlqApiRepository(
+                jdbcTemplate,
+                new H2IdHelper(),
+                new DefaultResultSetMapper(),
+                clock
+        );
+    }
+}
@@ -22,7 +22,8 @@ import java.time.Clock;
 @Import({
         PostgreSqlOutboxDlqApiRepositoryConfiguration.class,
         MySqlOutboxDlqApiRepositoryConfiguration.class,
-        OracleOutboxDlqApiRepositoryConfiguration.class
+        OracleOutboxDlqApiRepositoryConfiguration.class,
+        H2OutboxDlqApiRepositoryConfiguration.class
 })
 public class OutboxDlqApiAutoConfiguration {
 
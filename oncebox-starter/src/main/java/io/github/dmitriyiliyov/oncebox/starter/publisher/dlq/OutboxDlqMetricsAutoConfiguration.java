@@ -4,6 +4,7 @@ import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.DlqStatus;
 import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqManager;
 import io.github.dmitriyiliyov.oncebox.metrics.OutboxMetrics;
 import io.github.dmitriyiliyov.oncebox.metrics.publisher.dlq.*;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.GaugeSnapshotHolder;
 import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.NoopOutboxCache;
 import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.OutboxCache;
 import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.SimpleOutboxCache;
@@ -19,6 +20,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.List;
 
@@ -94,6 +96,35 @@ public class OutboxDlqMetricsAutoConfiguration {
         return new DefaultOutboxDlqMetricsService(repository, cache);
     }
 
+    @Bean
+    @ConditionalOnMissingBean(name = "outboxDlqGaugeSnapshot")
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-refresh.enabled"},
+            havingValue = "true"
+    )
+    public GaugeSnapshotHolder<DlqStatus> outboxDlqGaugeSnapshot(OutboxDlqMetricsRepository repository, Clock clock) {
+        return new GaugeSnapshotHolder<>(
+                DlqStatus.class,
+                repository::countGroupedByEventTypeAndStatus,
+                publisherProperties.getGaugeRefresh().getStaleAfter(),
+                clock
+        );
+    }
+
+    @Bean(name = "outboxDlqMetrics")
+    @ConditionalOnMissingBean(name = "outboxDlqMetrics")
+    @ConditionalOnProperty(
+            prefix = "oncebox.publisher",
+            name = {"metrics.gauge.enabled", "gauge-refresh.enabled"},
+            havingValue = "true"
+    )
+    public OutboxMetrics snapshotOutboxDlqMetrics(OutboxPublisherProperties properties,
+                                                  MeterRegistry registry,
+                                                  @Qualifier("outboxDlqGaugeSnapshot") GaugeSnapshotHolder<DlqStatus> snapshot) {
+        return new SnapshotOutboxDlqMetrics(properties, registry, snapshot);
+    }
+
     @Bean
     @ConditionalOnMissingBean(name = "outboxDlqMetrics")
     @ConditionalOnProperty(
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS outbox_consumed_offsets (
+    consumer_group VARCHAR(255) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    partition_id INT NOT NULL,
+    watermark BIGINT NOT NULL,
+    released_offsets VARCHAR(4000),
+    updated_at DATETIME NOT NULL,
+    PRIMARY KEY (consumer_group, topic, partition_id)
+);
@@ -0,0 +1,62 @@
+CREATE TABLE IF NOT EXISTS outbox_inbox_events (
+    id BINARY(16) PRIMARY KEY,
+    status VARCHAR(50) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    retry_count INTEGER NOT NULL,
+    next_retry_at DATETIME NOT NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    claim_token BINARY(16) NULL,
+    locked_by BINARY(16) NULL,
+    lease_until DATETIME NULL
+);
+
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_inbox_events'
+    AND index_name = 'idx_inbox_by_event_type_and_next_retry_at'
+    );
+SET @sql := IF(@exists = 0,
+    'CREATE INDEX idx_inbox_by_event_type_and_next_retry_at ON outbox_inbox_events(event_type, next_retry_at, id)',
+    'SELECT 1'
+    );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_inbox_events'
+    AND index_name = 'idx_inbox_by_status_and_updated_at'
+    );
+SET @sql := IF(@exists = 0,
+    'CREATE INDEX idx_inbox_by_status_and_updated_at ON outbox_inbox_events(status, updated_at, id)',
+    'SELECT 1'
+    );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_inbox_events'
+    AND index_name = 'idx_inbox_by_claim_token'
+    );
+SET @sql := IF(@exists = 0,
+    'CREATE INDEX idx_inbox_by_claim_token ON outbox_inbox_events(claim_token)',
+    'SELECT 1'
+    );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_inbox_events'
+    AND index_name = 'idx_inbox_by_status_and_lease_until'
+    );
+SET @sql := IF(@exists = 0,
+    'CREATE INDEX idx_inbox_by_status_and_lease_until ON outbox_inbox_events(status, lease_until, id)',
+    'SELECT 1'
+    );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
\ No newline at end of file
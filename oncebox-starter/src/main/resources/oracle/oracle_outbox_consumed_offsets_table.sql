@@ -0,0 +1,15 @@
+BEGIN
+EXECUTE IMMEDIATE '
+        CREATE TABLE outbox_consumed_offsets (
+            consumer_group VARCHAR2(255) NOT NULL,
+            topic VARCHAR2(255) NOT NULL,
+            partition_id NUMBER(10) NOT NULL,
+            watermark NUMBER(19) NOT NULL,
+            released_offsets VARCHAR2(4000),
+            updated_at TIMESTAMP NOT NULL,
+            PRIMARY KEY (consumer_group, topic, partition_id)
+        )';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -955 THEN RAISE; END IF;
+END;
+/
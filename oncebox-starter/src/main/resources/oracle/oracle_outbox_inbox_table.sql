@@ -0,0 +1,48 @@
+BEGIN
+EXECUTE IMMEDIATE '
+        CREATE TABLE outbox_inbox_events (
+            id RAW(16) PRIMARY KEY,
+            status VARCHAR2(50) NOT NULL,
+            event_type VARCHAR2(255) NOT NULL,
+            payload_type VARCHAR2(255) NOT NULL,
+            payload CLOB NOT NULL,
+            retry_count INTEGER NOT NULL,
+            next_retry_at TIMESTAMP NOT NULL,
+            created_at TIMESTAMP NOT NULL,
+            updated_at TIMESTAMP NOT NULL,
+            claim_token RAW(16),
+            locked_by RAW(16),
+            lease_until TIMESTAMP
+        )';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -955 THEN RAISE; END IF;
+END;
+/
+
+BEGIN
+EXECUTE IMMEDIATE 'CREATE INDEX idx_inbox_by_event_type_and_next_retry_at ON outbox_inbox_events(event_type, next_retry_at)';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -955 THEN RAISE; END IF;
+END;
+/
+
+BEGIN
+EXECUTE IMMEDIATE 'CREATE INDEX idx_inbox_by_status_and_updated_at ON outbox_inbox_events(status, updated_at)';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -955 THEN RAISE; END IF;
+END;
+/
+
+BEGIN
+EXECUTE IMMEDIATE 'CREATE INDEX idx_inbox_by_claim_token ON outbox_inbox_events(claim_token)';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -955 THEN RAISE; END IF;
+END;
+/
+
+BEGIN
+EXECUTE IMMEDIATE 'CREATE INDEX idx_inbox_by_status_and_lease_until ON outbox_inbox_events(status, lease_until)';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -955 THEN RAISE; END IF;
+END;
+/
\ No newline at end of file
@@ -0,0 +1,23 @@
+CREATE TABLE IF NOT EXISTS outbox_inbox_events (
+    id UUID PRIMARY KEY,
+    status VARCHAR(50) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    retry_count INTEGER NOT NULL,
+    next_retry_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    locked_by UUID,
+    lease_until TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_inbox_by_event_type_and_next_retry_at
+    ON outbox_inbox_events(event_type, next_retry_at)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_inbox_by_status_and_updated_at
+    ON outbox_inbox_events(status, updated_at)
+    WHERE status IN ('IN_PROCESS', 'FAILED', 'PROCESSED');
+CREATE INDEX IF NOT EXISTS idx_inbox_by_status_and_lease_until
+    ON outbox_inbox_events(status, lease_until)
+    WHERE status = 'IN_PROCESS'
\ No newline at end of file
@@ -7,12 +7,20 @@ CREATE TABLE IF NOT EXISTS outbox_events (
     retry_count INTEGER NOT NULL,
     next_retry_at TIMESTAMP NOT NULL,
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    locked_by UUID,
+    lease_until TIMESTAMP
 );
 
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS locked_by UUID;
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS lease_until TIMESTAMP;
+
 CREATE INDEX IF NOT EXISTS idx_outbox_by_event_type_and_next_retry_at
     ON outbox_events(event_type, next_retry_at)
     WHERE status = 'PENDING';
 CREATE INDEX IF NOT EXISTS idx_outbox_by_status_and_updated_at
     ON outbox_events(status, updated_at)
-    WHERE status IN ('IN_PROCESS', 'FAILED', 'PROCESSED')
+    WHERE status IN ('IN_PROCESS', 'FAILED', 'PROCESSED');
+CREATE INDEX IF NOT EXISTS idx_outbox_by_status_and_lease_until
+    ON outbox_events(status, lease_until)
+    WHERE status = 'IN_PROCESS'
\ No newline at end of file
@@ -48,4 +48,17 @@ public class DatabaseTypeUnitTests {
         // then
         assertEquals(e.getMessage(), INVALID_INPUT_MESSAGE);
     }
+
+    @Test
+    @DisplayName("UT fromString(), should resolve H2 database product name")
+    public void fromString_whenValueIsH2ProductName_shouldReturnH2() {
+        // given
+        String value = "H2";
+
+        // when
+        DatabaseType databaseType = DatabaseType.fromString(value);
+
+        // then
+        assertEquals(DatabaseType.H2, databaseType);
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.starter.consumer.OutboxConsumerProperties;
 import io.github.dmitriyiliyov.oncebox.starter.publisher.OutboxPublisherProperties;
 import org.junit.jupiter.api.DisplayName;
@@ -7,14 +8,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
 import org.springframework.jdbc.datasource.init.DatabasePopulator;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -154,6 +158,74 @@ class OutboxDatabasePopulatorFactoryUnitTests {
         assertThat(result).isNotNull().isInstanceOf(ResourceDatabasePopulator.class);
     }
 
+    @Test
+    @DisplayName("UT create() when consumer clean-up mode is TIMESTAMP should create consumed_at index")
+    void create_whenConsumerCleanUpModeIsTimestamp_shouldCreateConsumedAtIndex() throws SQLException {
+        mockDbProductName("PostgreSQL");
+        when(properties.getPublisher()).thenReturn(publisherProperties);
+        when(publisherProperties.getDlq()).thenReturn(null);
+        when(properties.getConsumer()).thenReturn(consumerProperties);
+        when(consumerProperties.isEnabled()).thenReturn(true);
+        when(consumerProperties.getCleanUp()).thenReturn(cleanUpProperties(CleanUpMode.TIMESTAMP));
+
+        DatabasePopulator result = OutboxDatabasePopulatorFactory.create(properties, dataSource);
+
+        assertThat(scriptNames(result)).contains("psql_outbox_consumed_table.sql", "psql_outbox_consumed_index.sql");
+    }
+
+    @Test
+    @DisplayName("UT create() when consumer clean-up mode is ID_RANGE should skip consumed_at index")
+    void create_whenConsumerCleanUpModeIsIdRange_shouldSkipConsumedAtIndex() throws SQLException {
+        mockDbProductName("MySQL");
+        when(properties.getPublisher()).thenReturn(publisherProperties);
+        when(publisherProperties.getDlq()).thenReturn(null);
+        when(properties.getConsumer()).thenReturn(consumerProperties);
+        when(consumerProperties.isEnabled()).thenReturn(true);
+        when(consumerProperties.getCleanUp()).thenReturn(cleanUpProperties(CleanUpMode.ID_RANGE));
+
+        DatabasePopulator result = OutboxDatabasePopulatorFactory.create(properties, dataSource);
+
+        assertThat(scriptNames(result))
+                .contains("mysql_outbox_consumed_table.sql")
+                .doesNotContain("mysql_outbox_consumed_index.sql");
+    }
+
+    @Test
+    @DisplayName("UT create() when consumer offset tracking enabled should create consumed offsets table")
+    void create_whenConsumerOffsetTrackingEnabled_shouldCreateConsumedOffsetsTable() throws SQLException {
+        mockDbProductName("H2");
+        when(properties.getPublisher()).thenReturn(publisherProperties);
+        when(publisherProperties.getDlq()).thenReturn(null);
+        when(properties.getConsumer()).thenReturn(consumerProperties);
+        when(consumerProperties.isEnabled()).thenReturn(true);
+        OutboxConsumerProperties.SourceProperties source = new OutboxConsumerProperties.SourceProperties();
+        source.setType(TransportType.KAFKA);
+        source.setOffsetTracking(true);
+        source.applyDefaults();
+        when(consumerProperties.getSource()).thenReturn(source);
+
+        DatabasePopulator result = OutboxDatabasePopulatorFactory.create(properties, dataSource);
+
+        assertThat(scriptNames(result)).contains("h2_outbox_consumed_table.sql", "h2_outbox_consumed_offsets_table.sql");
+    }
+
+    @Test
+    @DisplayName("UT create() when consumer inbox enabled should create inbox table")
+    void create_whenConsumerInboxEnabled_shouldCreateInboxTable() throws SQLException {
+        mockDbProductName("H2");
+        when(properties.getPublisher()).thenReturn(publisherProperties);
+        when(publisherProperties.getDlq()).thenReturn(null);
+        when(properties.getConsumer()).thenReturn(consumerProperties);
+        when(consumerProperties.isEnabled()).thenReturn(true);
+        OutboxConsumerProperties.InboxProperties inbox = new OutboxConsumerProperties.InboxProperties();
+        inbox.setEnabled(true);
+        when(consumerProperties.getInbox()).thenReturn(inbox);
+
+        DatabasePopulator result = OutboxDatabasePopulatorFactory.create(properties, dataSource);
+
+        assertThat(scriptNames(result)).contains("h2_outbox_consumed_table.sql", "h2_outbox_inbox_table.sql");
+    }
+
     @Test
     @DisplayName("UT create() when DLQ and consumer explicitly disabled should return base populator")
     void create_whenDlqAndConsumerExplicitlyDisabled_shouldReturnBasePopulator() throws SQLException {
@@ -189,4 +261,17 @@ class OutboxDatabasePopulatorFactoryUnitTests {
                 .isInstanceOf(RuntimeException.class)
                 .hasCauseInstanceOf(MetaDataAccessException.class);
     }
+
+    private static OutboxProperties.CleanUpProperties cleanUpProperties(CleanUpMode mode) {
+        OutboxProperties.CleanUpProperties cleanUp = new OutboxProperties.CleanUpProperties();
+        cleanUp.setMode(mode);
+        cleanUp.applyDefaults();
+        return cleanUp;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> scriptNames(DatabasePopulator populator) {
+        List<Resource> scripts = (List<Resource>) ReflectionTestUtils.getField(populator, "scripts");
+        return scripts.stream().map(Resource::getFilename).toList();
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.dmitriyiliyov.oncebox.starter;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.starter.OutboxProperties.CleanUpProperties;
 import io.github.dmitriyiliyov.oncebox.starter.OutboxProperties.PollingProperties;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +26,7 @@ public class OutboxPropertiesCleanUpPropertiesUnitTests {
         assertTrue(cleanup.isEnabled());
         assertEquals(500, cleanup.getBatchSize());
         assertEquals(Duration.ofHours(24), cleanup.getTtl());
+        assertEquals(CleanUpMode.TIMESTAMP, cleanup.getMode());
 
         assertEquals(PollingType.ADAPTIVE, cleanup.getPolling().getType());
         assertEquals(Duration.ofMinutes(5), cleanup.getInitialDelay());
@@ -177,4 +179,19 @@ public class OutboxPropertiesCleanUpPropertiesUnitTests {
         assertEquals(Duration.ofMinutes(1), cleanup.getMaxFixedDelay());
         assertEquals(2.0, cleanup.getMultiplier());
     }
+
+    @Test
+    @DisplayName("UT applyDefaults() with mode = ID_RANGE should keep mode")
+    public void applyDefaults_modeIdRange_shouldKeepMode() {
+        // given
+        CleanUpProperties cleanup = new CleanUpProperties();
+        cleanup.setEnabled(true);
+        cleanup.setMode(CleanUpMode.ID_RANGE);
+
+        // when
+        cleanup.applyDefaults();
+
+        // then
+        assertEquals(CleanUpMode.ID_RANGE, cleanup.getMode());
+    }
 }
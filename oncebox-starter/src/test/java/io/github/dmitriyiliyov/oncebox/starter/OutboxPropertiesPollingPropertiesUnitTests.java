@@ -161,6 +161,70 @@ class OutboxPropertiesPollingPropertiesUnitTests {
         assertEquals(3.0, properties.getMultiplier());
     }
 
+    @Test
+    @DisplayName("UT PollingProperties.applyDefaults() should take delays from defaults and default controller values for LATENCY")
+    void applyDefaults_whenLatencyTypeAndNullFields_thenTakesDelaysFromDefaults() {
+        PollingProperties properties = new PollingProperties();
+        properties.setType(PollingType.LATENCY);
+        properties.setFixedDelay(Duration.ofSeconds(100));
+
+        Defaults defaults = new Defaults(
+                PollingType.ADAPTIVE,
+                Duration.ofSeconds(10),
+                Duration.ZERO,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(5),
+                2.0
+        );
+
+        properties.applyDefaults(defaults);
+
+        assertEquals(PollingType.LATENCY, properties.getType());
+        assertEquals(Duration.ofSeconds(10), properties.getInitialDelay());
+        assertEquals(Duration.ZERO, properties.getFixedDelay());
+        assertEquals(Duration.ofSeconds(1), properties.getMinFixedDelay());
+        assertEquals(Duration.ofSeconds(5), properties.getMaxFixedDelay());
+        assertTrue(Double.isNaN(properties.getMultiplier()));
+        assertEquals(Duration.ofSeconds(5), properties.getTargetLatency());
+        assertEquals(0.5, properties.getProportionalGain());
+        assertEquals(0.05, properties.getIntegralGain());
+        assertEquals(0.1, properties.getDerivativeGain());
+    }
+
+    @Test
+    @DisplayName("UT PollingProperties.validate() should throw when type is LATENCY and targetLatency is not positive")
+    void validate_latencyType_throwsIfTargetLatencyNotPositive() {
+        PollingProperties properties = latencyProperties();
+        properties.setTargetLatency(Duration.ZERO);
+
+        assertThrows(IllegalArgumentException.class, properties::validate);
+    }
+
+    @Test
+    @DisplayName("UT PollingProperties.validate() should throw when type is LATENCY and a gain is negative")
+    void validate_latencyType_throwsIfGainNegative() {
+        PollingProperties properties = latencyProperties();
+        properties.setIntegralGain(-0.1);
+
+        assertThrows(IllegalArgumentException.class, properties::validate);
+    }
+
+    @Test
+    @DisplayName("UT PollingProperties.validate() should throw when type is LATENCY and maxFixedDelay is zero")
+    void validate_latencyType_throwsIfMaxFixedDelayZero() {
+        PollingProperties properties = latencyProperties();
+        properties.setMinFixedDelay(Duration.ZERO);
+        properties.setMaxFixedDelay(Duration.ZERO);
+
+        assertThrows(IllegalArgumentException.class, properties::validate);
+    }
+
+    @Test
+    @DisplayName("UT PollingProperties.validate() should succeed when type is LATENCY and properties are valid")
+    void validate_latencyType_success() {
+        assertDoesNotThrow(latencyProperties()::validate);
+    }
+
     @Test
     @DisplayName("UT PollingProperties.validate() should throw when type is FIXED and initialDelay is null")
     void validate_fixedType_throwsIfInitialDelayNull() {
@@ -508,4 +572,17 @@ class OutboxPropertiesPollingPropertiesUnitTests {
             );
         }
     }
-}
\ No newline at end of file
+
+    private static PollingProperties latencyProperties() {
+        PollingProperties properties = new PollingProperties();
+        properties.setType(PollingType.LATENCY);
+        properties.setInitialDelay(Duration.ofSeconds(1));
+        properties.setMinFixedDelay(Duration.ofMillis(100));
+        properties.setMaxFixedDelay(Duration.ofSeconds(5));
+        properties.setTargetLatency(Duration.ofSeconds(2));
+        properties.setProportionalGain(0.5);
+        properties.setIntegralGain(0.05);
+        properties.setDerivativeGain(0.1);
+        return properties;
+    }
+}
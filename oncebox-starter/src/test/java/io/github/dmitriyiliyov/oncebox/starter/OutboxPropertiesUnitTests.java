@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -75,6 +76,21 @@ class OutboxPropertiesUnitTests {
         assertThat(props.getPublisher().isEnabled()).isTrue();
     }
 
+    @Test
+    @DisplayName("UT applyDefaults() when dispatch enabled and threadPoolSize does not exceed event types, should pass")
+    void applyDefaults_whenDispatchEnabledAndThreadPoolSmallerThanEventTypes_shouldPass() {
+        // given
+        OutboxProperties props = new OutboxProperties();
+        props.setThreadPoolSize(1);
+        props.setPublisher(buildDispatchedPublisher(2));
+
+        // when
+        props.applyDefaults();
+
+        // then
+        assertThat(props.getPublisher().getDispatch().isEnabled()).isTrue();
+    }
+
     @Test
     @DisplayName("UT init() when publisher not provided should set enabled = false")
     void applyDefaults_whenPublisherNotProvided_shouldUnable() {
@@ -620,4 +636,23 @@ class OutboxPropertiesUnitTests {
         assertThat(result).contains("lockAtMostFor=PT5S");
         assertThat(result).contains("resolveByPollingProperties=false");
     }
-}
\ No newline at end of file
+
+    private static OutboxPublisherProperties buildDispatchedPublisher(int eventTypes) {
+        OutboxPublisherProperties.SenderProperties sender = new OutboxPublisherProperties.SenderProperties();
+        sender.setType(TransportType.KAFKA);
+        Map<String, OutboxPublisherProperties.EventProperties> events = new HashMap<>();
+        for (int i = 0; i < eventTypes; i++) {
+            OutboxPublisherProperties.EventProperties event = new OutboxPublisherProperties.EventProperties();
+            event.setTopic("test-topic-" + i);
+            events.put("test-event-" + i, event);
+        }
+        OutboxPublisherProperties.DispatchProperties dispatch = new OutboxPublisherProperties.DispatchProperties();
+        dispatch.setEnabled(true);
+        OutboxPublisherProperties publisher = new OutboxPublisherProperties();
+        publisher.setEnabled(true);
+        publisher.setSender(sender);
+        publisher.setEvents(events);
+        publisher.setDispatch(dispatch);
+        return publisher;
+    }
+}
@@ -2,11 +2,13 @@ package io.github.dmitriyiliyov.oncebox.starter;
 
 import io.github.dmitriyiliyov.oncebox.core.polling.AdaptiveOutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.polling.FixedOutboxScheduleStrategy;
+import io.github.dmitriyiliyov.oncebox.core.polling.LatencyOutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategyListener;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -78,4 +80,69 @@ public class OutboxScheduleStrategyFactoryUnitTests {
         // then
         assertEquals("Reached unreachable branch during creating OutboxScheduleStrategy", e.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("UT create() should throw IllegalStateException when type is LATENCY")
+    public void create_whenTypeIsLatency_shouldThrowException() {
+        // given
+        OutboxProperties.PollingProperties properties = new OutboxProperties.PollingProperties();
+        properties.setType(PollingType.LATENCY);
+        ScheduledExecutorService executorMock = mock(ScheduledExecutorService.class);
+
+        // when + then
+        assertThrows(IllegalStateException.class,
+                () -> OutboxScheduleStrategyFactory.create("taskType", properties, executorMock, mock(OutboxScheduleStrategyListenerSupplier.class)));
+    }
+
+    @Test
+    @DisplayName("UT createForEventType() should return LatencyOutboxScheduleStrategy when type is LATENCY")
+    public void createForEventType_whenTypeIsLatency_shouldReturnLatencyStrategy() {
+        // given
+        String eventType = "eventType";
+        OutboxProperties.PollingProperties properties = new OutboxProperties.PollingProperties();
+        properties.setType(PollingType.LATENCY);
+        properties.setInitialDelay(Duration.ofMinutes(1));
+        properties.setMinFixedDelay(Duration.ofMillis(100));
+        properties.setMaxFixedDelay(Duration.ofSeconds(10));
+        properties.setTargetLatency(Duration.ofSeconds(5));
+        properties.setProportionalGain(0.5);
+        properties.setIntegralGain(0.05);
+        properties.setDerivativeGain(0.1);
+
+        ScheduledExecutorService executorMock = mock(ScheduledExecutorService.class);
+
+        OutboxScheduleStrategyListenerSupplier listenerSupplier = mock(OutboxScheduleStrategyListenerSupplier.class);
+        when(listenerSupplier.supply(eventType)).thenReturn(mock(OutboxScheduleStrategyListener.class));
+
+        // when
+        OutboxScheduleStrategy strategy = OutboxScheduleStrategyFactory.createForEventType(
+                eventType, properties, executorMock, listenerSupplier, Clock.systemUTC()
+        );
+
+        // then
+        assertTrue(strategy instanceof LatencyOutboxScheduleStrategy,
+                "Strategy should be instance of LatencyOutboxScheduleStrategy");
+    }
+
+    @Test
+    @DisplayName("UT createForEventType() should delegate to create() when type is not LATENCY")
+    public void createForEventType_whenTypeIsFixed_shouldReturnFixedStrategy() {
+        // given
+        String eventType = "eventType";
+        OutboxProperties.PollingProperties properties = new OutboxProperties.PollingProperties();
+        properties.setType(PollingType.FIXED);
+        ScheduledExecutorService executorMock = mock(ScheduledExecutorService.class);
+
+        OutboxScheduleStrategyListenerSupplier listenerSupplier = mock(OutboxScheduleStrategyListenerSupplier.class);
+        when(listenerSupplier.supply(eventType)).thenReturn(mock(OutboxScheduleStrategyListener.class));
+
+        // when
+        OutboxScheduleStrategy strategy = OutboxScheduleStrategyFactory.createForEventType(
+                eventType, properties, executorMock, listenerSupplier, Clock.systemUTC()
+        );
+
+        // then
+        assertTrue(strategy instanceof FixedOutboxScheduleStrategy,
+                "Strategy should be instance of FixedOutboxScheduleStrategy");
+    }
+}
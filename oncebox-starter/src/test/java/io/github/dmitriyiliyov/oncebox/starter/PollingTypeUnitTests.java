@@ -86,4 +86,15 @@ public class PollingTypeUnitTests {
         // then
         assertEquals(PollingType.ADAPTIVE, result);
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"latency", "LATENCY", "LaTeNcY"})
+    @DisplayName("UT from(), should return LATENCY regardless of case")
+    public void from_whenValueIsLatency_shouldReturnEnum(String value) {
+        // when
+        PollingType result = PollingType.from(value);
+
+        // then
+        assertEquals(PollingType.LATENCY, result);
+    }
 }
@@ -14,6 +14,8 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -174,6 +176,28 @@ class OutboxConsumerCacheAutoConfigurationConditionTests {
                 });
     }
 
+    @Test
+    @DisplayName("IT should create supplier without CacheManager when cache type is PRIMITIVE")
+    void shouldCreateSupplierWithoutCacheManagerWhenTypeIsPrimitive() {
+        OutboxConsumerProperties.CacheProperties cache = mock(OutboxConsumerProperties.CacheProperties.class);
+        when(cache.getType()).thenReturn(ConsumedOutboxCacheType.PRIMITIVE);
+        when(cache.getCapacity()).thenReturn(1_000);
+        when(cache.getTtl()).thenReturn(Duration.ofHours(1));
+        when(properties.getCache()).thenReturn(cache);
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(OutboxConsumerCacheAutoConfiguration.class))
+                .withBean(OutboxConsumerProperties.class, () -> properties)
+                .withPropertyValues(
+                        "oncebox.consumer.enabled=true",
+                        "oncebox.consumer.cache.enabled=true"
+                )
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasBean("outboxIdempotentConsumerCacheDecoratorSupplier");
+                    assertThat(context).doesNotHaveBean(CacheManager.class);
+                });
+    }
+
     private void stubCache() {
         OutboxConsumerProperties.CacheProperties cache = mock(OutboxConsumerProperties.CacheProperties.class);
         when(cache.getCacheName()).thenReturn("cache-name");
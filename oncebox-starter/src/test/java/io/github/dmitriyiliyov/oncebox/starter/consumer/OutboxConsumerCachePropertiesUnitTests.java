@@ -4,6 +4,8 @@ import io.github.dmitriyiliyov.oncebox.starter.consumer.OutboxConsumerProperties
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class OutboxConsumerCachePropertiesUnitTests {
@@ -107,4 +109,47 @@ public class OutboxConsumerCachePropertiesUnitTests {
         assertTrue(result.contains("enabled=null"));
         assertTrue(result.contains("cacheName='null'"));
     }
+
+    @Test
+    @DisplayName("UT applyDefaults() should default type to CACHE_MANAGER")
+    void applyDefaults_whenTypeIsNull_setsCacheManagerType() {
+        CacheProperties properties = new CacheProperties();
+        properties.enabled = true;
+        properties.cacheName = "myCache";
+
+        properties.applyDefaults();
+
+        assertEquals(ConsumedOutboxCacheType.CACHE_MANAGER, properties.type);
+        assertNull(properties.capacity);
+        assertNull(properties.ttl);
+    }
+
+    @Test
+    @DisplayName("UT applyDefaults() should not require cacheName and apply capacity and ttl defaults when type is PRIMITIVE")
+    void applyDefaults_whenTypeIsPrimitive_appliesCapacityAndTtlDefaults() {
+        CacheProperties properties = new CacheProperties();
+        properties.enabled = true;
+        properties.type = ConsumedOutboxCacheType.PRIMITIVE;
+
+        properties.applyDefaults();
+
+        assertNull(properties.cacheName);
+        assertEquals(1_000_000, properties.capacity);
+        assertEquals(Duration.ofHours(24), properties.ttl);
+    }
+
+    @Test
+    @DisplayName("UT applyDefaults() should keep valid capacity and ttl when type is PRIMITIVE")
+    void applyDefaults_whenTypeIsPrimitiveAndValuesValid_keepsValues() {
+        CacheProperties properties = new CacheProperties();
+        properties.enabled = true;
+        properties.type = ConsumedOutboxCacheType.PRIMITIVE;
+        properties.capacity = 10_000;
+        properties.ttl = Duration.ofHours(2);
+
+        properties.applyDefaults();
+
+        assertEquals(10_000, properties.capacity);
+        assertEquals(Duration.ofHours(2), properties.ttl);
+    }
 }
@@ -1,10 +1,15 @@
 package io.github.dmitriyiliyov.oncebox.starter.consumer;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.starter.OutboxProperties;
 import io.github.dmitriyiliyov.oncebox.starter.TransportType;
+import io.github.dmitriyiliyov.oncebox.starter.publisher.OutboxPublisherProperties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -153,6 +158,35 @@ class OutboxConsumerPropertiesUnitTests {
         assertThat(props.getSource().getType()).isNotNull();
     }
 
+    @Test
+    @DisplayName("UT init() when offset tracking not set should default to false")
+    void applyDefaults_whenOffsetTrackingNotSet_shouldDefaultToFalse() {
+        // given
+        OutboxConsumerProperties.SourceProperties source = new OutboxConsumerProperties.SourceProperties();
+        source.setType(TransportType.KAFKA);
+
+        // when
+        source.applyDefaults();
+
+        // then
+        assertThat(source.isOffsetTracking()).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT init() when offset tracking enabled for rabbit source should disable it")
+    void applyDefaults_whenOffsetTrackingEnabledForRabbit_shouldDisableIt() {
+        // given
+        OutboxConsumerProperties.SourceProperties source = new OutboxConsumerProperties.SourceProperties();
+        source.setType(TransportType.RABBIT);
+        source.setOffsetTracking(true);
+
+        // when
+        source.applyDefaults();
+
+        // then
+        assertThat(source.isOffsetTracking()).isFalse();
+    }
+
     @Test
     @DisplayName("UT init() when cache enabled true and cacheName null should throw NPE")
     void applyDefaults_whenCacheEnabledTrueAndNameNull_shouldThrowNPE() {
@@ -273,4 +307,184 @@ class OutboxConsumerPropertiesUnitTests {
         assertThat(cache.isEnabled()).isTrue();
         assertThat(cache.getCacheName()).isEqualTo("validCache");
     }
+
+    @Test
+    @DisplayName("UT init() when filter enabled without ttl should use clean-up ttl")
+    void applyDefaults_whenFilterEnabledWithoutTtl_shouldUseCleanUpTtl() {
+        // given
+        OutboxConsumerProperties props = new OutboxConsumerProperties();
+        props.setEnabled(true);
+        props.setSource(mock(OutboxConsumerProperties.SourceProperties.class));
+
+        OutboxProperties.CleanUpProperties cleanUp = new OutboxProperties.CleanUpProperties();
+        cleanUp.setEnabled(true);
+        cleanUp.setTtl(Duration.ofHours(6));
+        props.setCleanUp(cleanUp);
+
+        OutboxConsumerProperties.FilterProperties filter = new OutboxConsumerProperties.FilterProperties();
+        filter.setEnabled(true);
+        props.setFilter(filter);
+
+        // when
+        props.applyDefaults();
+
+        // then
+        assertThat(props.getFilter().isEnabled()).isTrue();
+        assertThat(props.getFilter().getTtl()).isEqualTo(Duration.ofHours(6));
+        assertThat(props.getFilter().getExpectedInsertions()).isEqualTo(1_000_000L);
+        assertThat(props.getFilter().getFalsePositiveRate()).isEqualTo(0.01);
+    }
+
+    @Test
+    @DisplayName("UT FilterProperties init() when enabled null should disable and nullify settings")
+    void filter_applyDefaults_whenEnabledNull_shouldDisable() {
+        // given
+        OutboxConsumerProperties.FilterProperties filter = new OutboxConsumerProperties.FilterProperties();
+        filter.setExpectedInsertions(10L);
+        filter.setTtl(Duration.ofHours(1));
+
+        // when
+        filter.applyDefaults();
+
+        // then
+        assertThat(filter.isEnabled()).isFalse();
+        assertThat(filter.getExpectedInsertions()).isNull();
+        assertThat(filter.getTtl()).isNull();
+    }
+
+    @Test
+    @DisplayName("UT FilterProperties init() when false positive rate out of range should throw IllegalArgumentException")
+    void filter_applyDefaults_whenFalsePositiveRateOutOfRange_shouldThrowIAE() {
+        // given
+        OutboxConsumerProperties.FilterProperties filter = new OutboxConsumerProperties.FilterProperties();
+        filter.setEnabled(true);
+        filter.setFalsePositiveRate(1.0);
+
+        // when + then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, filter::applyDefaults);
+        assertEquals("falsePositiveRate should be between 0 and 1 exclusive", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("UT GroupCommitProperties init() when enabled should apply default window and max batch size")
+    void groupCommit_applyDefaults_whenEnabled_shouldApplyDefaults() {
+        // given
+        OutboxConsumerProperties.GroupCommitProperties groupCommit = new OutboxConsumerProperties.GroupCommitProperties();
+        groupCommit.setEnabled(true);
+
+        // when
+        groupCommit.applyDefaults();
+
+        // then
+        assertThat(groupCommit.getWindow()).isEqualTo(Duration.ofNanos(200_000));
+        assertThat(groupCommit.getMaxBatchSize()).isEqualTo(256);
+    }
+
+    @Test
+    @DisplayName("UT init() when inbox enabled should apply worker defaults and enable inbox clean-up")
+    void applyDefaults_whenInboxEnabled_shouldApplyDefaults() {
+        // given
+        OutboxConsumerProperties props = new OutboxConsumerProperties();
+        props.setEnabled(true);
+        props.setSource(mock(OutboxConsumerProperties.SourceProperties.class));
+        props.setMappings(Map.of("order.created", TestEvent.class));
+        OutboxConsumerProperties.InboxProperties inbox = new OutboxConsumerProperties.InboxProperties();
+        inbox.setEnabled(true);
+        props.setInbox(inbox);
+
+        // when
+        props.applyDefaults();
+
+        // then
+        assertThat(inbox.getWorkers()).isEqualTo(1);
+        assertThat(inbox.getBatchSize()).isEqualTo(200);
+        assertThat(inbox.getMaxRetries()).isEqualTo(3);
+        assertThat(inbox.getPolling()).isNotNull();
+        assertThat(inbox.getBackoff().isEnabled()).isTrue();
+        assertThat(inbox.getStuckRecovery()).isNotNull();
+        assertThat(inbox.getCleanUp().isEnabled()).isTrue();
+        OutboxPublisherProperties.EventProperties event = inbox.toEventProperties("order.created");
+        assertThat(event.getEventType()).isEqualTo("order.created");
+        assertThat(event.getBatchSize()).isEqualTo(200);
+        assertThat(event.getMaxRetries()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("UT init() when inbox enabled without mappings should throw IllegalArgumentException")
+    void applyDefaults_whenInboxEnabledWithoutMappings_shouldThrowIAE() {
+        // given
+        OutboxConsumerProperties props = new OutboxConsumerProperties();
+        props.setEnabled(true);
+        props.setSource(mock(OutboxConsumerProperties.SourceProperties.class));
+        OutboxConsumerProperties.InboxProperties inbox = new OutboxConsumerProperties.InboxProperties();
+        inbox.setEnabled(true);
+        props.setInbox(inbox);
+
+        // when + then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, props::applyDefaults);
+        assertEquals("inbox requires consumer mappings to resolve worker event types", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("UT InboxProperties init() when clean-up mode is ID_RANGE should throw IllegalArgumentException")
+    void inbox_applyDefaults_whenCleanUpModeIdRange_shouldThrowIAE() {
+        // given
+        OutboxConsumerProperties.InboxProperties inbox = new OutboxConsumerProperties.InboxProperties();
+        inbox.setEnabled(true);
+        OutboxProperties.CleanUpProperties cleanUp = new OutboxProperties.CleanUpProperties();
+        cleanUp.setMode(CleanUpMode.ID_RANGE);
+        inbox.setCleanUp(cleanUp);
+
+        // when + then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, inbox::applyDefaults);
+        assertThat(exception.getMessage()).contains("ID_RANGE");
+    }
+
+    @Test
+    @DisplayName("UT InboxProperties init() when enabled null should disable inbox and its clean-up")
+    void inbox_applyDefaults_whenEnabledNull_shouldDisable() {
+        // given
+        OutboxConsumerProperties.InboxProperties inbox = new OutboxConsumerProperties.InboxProperties();
+        inbox.setWorkers(4);
+
+        // when
+        inbox.applyDefaults();
+
+        // then
+        assertThat(inbox.isEnabled()).isFalse();
+        assertThat(inbox.getWorkers()).isNull();
+        assertThat(inbox.getCleanUp().isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("UT ParallelProperties init() when enabled should apply defaults and drop blank key header")
+    void parallel_applyDefaults_whenEnabled_shouldApplyDefaults() {
+        // given
+        OutboxConsumerProperties.ParallelProperties parallel = new OutboxConsumerProperties.ParallelProperties();
+        parallel.setEnabled(true);
+        parallel.setKeyHeader(" ");
+
+        // when
+        parallel.applyDefaults();
+
+        // then
+        assertThat(parallel.isEnabled()).isTrue();
+        assertThat(parallel.getMaxConcurrency()).isEqualTo(10);
+        assertThat(parallel.getKeyHeader()).isNull();
+    }
+
+    @Test
+    @DisplayName("UT ParallelProperties init() when enabled null should disable parallel processing")
+    void parallel_applyDefaults_whenEnabledNull_shouldDisable() {
+        // given
+        OutboxConsumerProperties.ParallelProperties parallel = new OutboxConsumerProperties.ParallelProperties();
+        parallel.setMaxConcurrency(4);
+
+        // when
+        parallel.applyDefaults();
+
+        // then
+        assertThat(parallel.isEnabled()).isFalse();
+        assertThat(parallel.getMaxConcurrency()).isNull();
+    }
 }
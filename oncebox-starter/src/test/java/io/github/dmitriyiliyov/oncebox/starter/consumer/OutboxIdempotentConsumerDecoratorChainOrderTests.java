@@ -1,10 +1,13 @@
 package io.github.dmitriyiliyov.oncebox.starter.consumer;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.consumer.ConsumedOutboxRepository;
 import io.github.dmitriyiliyov.oncebox.core.consumer.DefaultOutboxIdempotentConsumer;
 import io.github.dmitriyiliyov.oncebox.core.consumer.OutboxIdempotentConsumer;
 import io.github.dmitriyiliyov.oncebox.core.consumer.cache.OutboxIdempotentConsumerCacheDecorator;
+import io.github.dmitriyiliyov.oncebox.core.consumer.groupcommit.GroupCommitOutboxIdempotentConsumer;
 import io.github.dmitriyiliyov.oncebox.metrics.consumer.OutboxIdempotentConsumerMetricsDecorator;
+import io.github.dmitriyiliyov.oncebox.starter.OutboxProperties;
 import io.github.dmitriyiliyov.oncebox.starter.OutboxRepositoryFactory;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -17,9 +20,11 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,7 +48,17 @@ class OutboxIdempotentConsumerDecoratorChainOrderTests {
         when(properties.getCache()).thenReturn(cache);
         when(cacheManager.getCache("cache-name")).thenReturn(mock(Cache.class));
 
+        OutboxConsumerProperties.GroupCommitProperties groupCommit = mock(OutboxConsumerProperties.GroupCommitProperties.class);
+        when(groupCommit.getWindow()).thenReturn(Duration.ofNanos(200_000));
+        when(groupCommit.getMaxBatchSize()).thenReturn(256);
+        when(properties.getGroupCommit()).thenReturn(groupCommit);
+
+        OutboxProperties.CleanUpProperties cleanUp = mock(OutboxProperties.CleanUpProperties.class);
+        when(cleanUp.getMode()).thenReturn(CleanUpMode.TIMESTAMP);
+        when(properties.getCleanUp()).thenReturn(cleanUp);
+
         TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.getTransactionManager()).thenReturn(mock(PlatformTransactionManager.class));
         doAnswer(invocation -> {
             invocation.getArgument(0, Runnable.class).run();
             return null;
@@ -155,6 +170,27 @@ class OutboxIdempotentConsumerDecoratorChainOrderTests {
                 });
     }
 
+    @Test
+    @DisplayName("IT should nest the group commit decorator innermost, right around the default consumer")
+    void shouldNestGroupCommitInnermost() {
+        contextRunner()
+                .withPropertyValues(
+                        "oncebox.consumer.enabled=true",
+                        "oncebox.consumer.cache.enabled=true",
+                        "oncebox.consumer.metrics.enabled=false",
+                        "oncebox.consumer.group-commit.enabled=true"
+                )
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    OutboxIdempotentConsumer primary = context.getBean(OutboxIdempotentConsumer.class);
+
+                    assertThat(primary).isInstanceOf(OutboxIdempotentConsumerCacheDecorator.class);
+                    OutboxIdempotentConsumer inner = delegateOf(primary);
+                    assertThat(inner).isInstanceOf(GroupCommitOutboxIdempotentConsumer.class);
+                    assertThat(delegateOf(inner)).isInstanceOf(DefaultOutboxIdempotentConsumer.class);
+                });
+    }
+
     private static OutboxIdempotentConsumer delegateOf(OutboxIdempotentConsumer decorator) {
         return (OutboxIdempotentConsumer) ReflectionTestUtils.getField(decorator, "delegate");
     }
@@ -0,0 +1,168 @@
+package io.github.dmitriyiliyov.oncebox.starter.publisher;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
+import io.github.dmitriyiliyov.oncebox.core.publisher.dispatch.WeightedFairDispatcher;
+import io.github.dmitriyiliyov.oncebox.starter.ScheduledExecutorServiceShutdownHook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class OutboxLeasesReleaseShutdownHookUnitTests {
+
+    @Test
+    @DisplayName("UT constructor should throw NullPointerException when manager is null")
+    public void constructor_whenManagerIsNull_shouldThrowNullPointerException() {
+        // when / then
+        NullPointerException e = assertThrows(NullPointerException.class,
+                () -> new OutboxLeasesReleaseShutdownHook(
+                        mock(ScheduledExecutorServiceShutdownHook.class),
+                        mock(ScheduledExecutorService.class),
+                        null,
+                        mock(ScheduledExecutorService.class),
+                        null
+                ));
+
+        assertEquals("manager cannot be null", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("UT shutdown() should release leases after executor, dispatcher and heartbeat executor terminated")
+    public void shutdown_whenAllExecutorsTerminated_shouldReleaseLeases() throws InterruptedException {
+        // given
+        ScheduledExecutorServiceShutdownHook delegate = mock(ScheduledExecutorServiceShutdownHook.class);
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        WeightedFairDispatcher dispatcher = mock(WeightedFairDispatcher.class);
+        ScheduledExecutorService heartbeatExecutor = mock(ScheduledExecutorService.class);
+        OutboxManager manager = mock(OutboxManager.class);
+        when(executor.isTerminated()).thenReturn(true);
+        when(dispatcher.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(heartbeatExecutor.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        OutboxLeasesReleaseShutdownHook hook = new OutboxLeasesReleaseShutdownHook(
+                delegate, executor, dispatcher, heartbeatExecutor, manager
+        );
+
+        // when
+        hook.shutdown();
+
+        // then
+        InOrder inOrder = inOrder(delegate, dispatcher, heartbeatExecutor, manager);
+        inOrder.verify(delegate).shutdown();
+        inOrder.verify(dispatcher).shutdown();
+        inOrder.verify(heartbeatExecutor).shutdown();
+        inOrder.verify(manager).releaseLeases();
+    }
+
+    @Test
+    @DisplayName("UT shutdown() should release leases without dispatcher when dispatch is disabled")
+    public void shutdown_whenDispatcherIsNull_shouldReleaseLeases() throws InterruptedException {
+        // given
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        ScheduledExecutorService heartbeatExecutor = mock(ScheduledExecutorService.class);
+        OutboxManager manager = mock(OutboxManager.class);
+        when(executor.isTerminated()).thenReturn(true);
+        when(heartbeatExecutor.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        OutboxLeasesReleaseShutdownHook hook = new OutboxLeasesReleaseShutdownHook(
+                mock(ScheduledExecutorServiceShutdownHook.class), executor, null, heartbeatExecutor, manager
+        );
+
+        // when
+        hook.shutdown();
+
+        // then
+        verify(manager).releaseLeases();
+    }
+
+    @Test
+    @DisplayName("UT shutdown() should leave leases to expire when executor isn't terminated")
+    public void shutdown_whenExecutorNotTerminated_shouldNotReleaseLeases() {
+        // given
+        ScheduledExecutorServiceShutdownHook delegate = mock(ScheduledExecutorServiceShutdownHook.class);
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        OutboxManager manager = mock(OutboxManager.class);
+        when(executor.isTerminated()).thenReturn(false);
+
+        OutboxLeasesReleaseShutdownHook hook = new OutboxLeasesReleaseShutdownHook(
+                delegate, executor, null, mock(ScheduledExecutorService.class), manager
+        );
+
+        // when
+        hook.shutdown();
+
+        // then
+        verify(delegate).shutdown();
+        verifyNoInteractions(manager);
+    }
+
+    @Test
+    @DisplayName("UT shutdown() should leave leases to expire when dispatcher still runs a send")
+    public void shutdown_whenDispatcherNotTerminated_shouldNotReleaseLeases() throws InterruptedException {
+        // given
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        WeightedFairDispatcher dispatcher = mock(WeightedFairDispatcher.class);
+        ScheduledExecutorService heartbeatExecutor = mock(ScheduledExecutorService.class);
+        OutboxManager manager = mock(OutboxManager.class);
+        when(executor.isTerminated()).thenReturn(true);
+        when(dispatcher.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        OutboxLeasesReleaseShutdownHook hook = new OutboxLeasesReleaseShutdownHook(
+                mock(ScheduledExecutorServiceShutdownHook.class), executor, dispatcher, heartbeatExecutor, manager
+        );
+
+        // when
+        hook.shutdown();
+
+        // then
+        verify(heartbeatExecutor, never()).shutdown();
+        verifyNoInteractions(manager);
+    }
+
+    @Test
+    @DisplayName("UT shutdown() should leave leases to expire when heartbeat executor isn't terminated")
+    public void shutdown_whenHeartbeatExecutorNotTerminated_shouldNotReleaseLeases() throws InterruptedException {
+        // given
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        ScheduledExecutorService heartbeatExecutor = mock(ScheduledExecutorService.class);
+        OutboxManager manager = mock(OutboxManager.class);
+        when(executor.isTerminated()).thenReturn(true);
+        when(heartbeatExecutor.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        OutboxLeasesReleaseShutdownHook hook = new OutboxLeasesReleaseShutdownHook(
+                mock(ScheduledExecutorServiceShutdownHook.class), executor, null, heartbeatExecutor, manager
+        );
+
+        // when
+        hook.shutdown();
+
+        // then
+        verifyNoInteractions(manager);
+    }
+
+    @Test
+    @DisplayName("UT shutdown() should not propagate exception from releaseLeases()")
+    public void shutdown_whenReleaseLeasesThrows_shouldNotPropagate() throws InterruptedException {
+        // given
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        ScheduledExecutorService heartbeatExecutor = mock(ScheduledExecutorService.class);
+        OutboxManager manager = mock(OutboxManager.class);
+        when(executor.isTerminated()).thenReturn(true);
+        when(heartbeatExecutor.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(manager.releaseLeases()).thenThrow(new RuntimeException("db down"));
+
+        OutboxLeasesReleaseShutdownHook hook = new OutboxLeasesReleaseShutdownHook(
+                mock(ScheduledExecutorServiceShutdownHook.class), executor, null, heartbeatExecutor, manager
+        );
+
+        // when / then
+        assertDoesNotThrow(hook::shutdown);
+    }
+}
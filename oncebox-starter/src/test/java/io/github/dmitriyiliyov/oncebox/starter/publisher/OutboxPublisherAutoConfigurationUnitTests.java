@@ -1,5 +1,6 @@
 package io.github.dmitriyiliyov.oncebox.starter.publisher;
 
+import io.github.dmitriyiliyov.oncebox.core.CleanUpMode;
 import io.github.dmitriyiliyov.oncebox.core.ContinuableTaskDecorator;
 import io.github.dmitriyiliyov.oncebox.core.OutboxScheduler;
 import io.github.dmitriyiliyov.oncebox.core.locks.DistributedLockRepository;
@@ -7,6 +8,7 @@ import io.github.dmitriyiliyov.oncebox.core.polling.OutboxScheduleStrategy;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxCleanUpScheduler;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxManager;
 import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRecoveryScheduler;
+import io.github.dmitriyiliyov.oncebox.core.publisher.UuidV7Generator;
 import io.github.dmitriyiliyov.oncebox.starter.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +25,7 @@ import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -84,13 +87,33 @@ class OutboxPublisherAutoConfigurationUnitTests {
                     .thenReturn(mock(OutboxScheduleStrategy.class));
 
             OutboxScheduler scheduler = config.outboxCleanUpScheduler(
-                    outboxProperties, executor, scheduleStrategyListenerSupplier, manager, lockRepository, continuableTaskDecoratorSupplier
+                    outboxProperties, executor, scheduleStrategyListenerSupplier, manager, lockRepository, continuableTaskDecoratorSupplier,
+                    new UuidV7Generator()
             );
 
             assertThat(scheduler).isInstanceOf(OutboxCleanUpScheduler.class);
         }
     }
 
+    @Test
+    @DisplayName("UT outboxCleanUpScheduler when mode is ID_RANGE and ids are not UUIDv7 should throw IllegalStateException")
+    void outboxCleanUpScheduler_whenIdRangeWithNonV7Generator_shouldThrowIllegalStateException(
+            @Mock OutboxProperties outboxProperties,
+            @Mock OutboxManager manager,
+            @Mock DistributedLockRepository lockRepository
+    ) {
+        OutboxProperties.CleanUpProperties cleanUpProperties = mock(OutboxProperties.CleanUpProperties.class);
+        when(cleanUpProperties.getMode()).thenReturn(CleanUpMode.ID_RANGE);
+        when(props.getCleanUp()).thenReturn(cleanUpProperties);
+
+        assertThatThrownBy(() -> config.outboxCleanUpScheduler(
+                outboxProperties, executor, scheduleStrategyListenerSupplier, manager, lockRepository, continuableTaskDecoratorSupplier,
+                UUID::randomUUID
+        ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("UUIDv7");
+    }
+
     @Test
     @DisplayName("UT outboxCleanUpJobCreateCommand creates DefaultOutboxJobCreateCommand")
     void outboxCleanUpJobCreateCommand_createsCommand(@Mock OutboxProperties outboxProperties,
@@ -102,6 +102,9 @@ public class OutboxPublisherPropertiesUnitTests {
         assertNotNull(properties.getStuckRecovery());
         assertEquals(500, properties.getStuckRecovery().getBatchSize());
         assertEquals(Duration.ofMinutes(5), properties.getStuckRecovery().getMaxBatchProcessingTime());
+        assertFalse(properties.getStuckRecovery().isLeasingEnabled());
+        assertEquals(Duration.ofMinutes(1), properties.getStuckRecovery().getLeaseDuration());
+        assertEquals(Duration.ofSeconds(20), properties.getStuckRecovery().getHeartbeatInterval());
         assertEquals(PollingType.ADAPTIVE, properties.getDefaults().getPolling().getType());
         assertEquals(Duration.ofMinutes(5), properties.getDefaults().getPolling().getInitialDelay());
         assertEquals(Duration.ofMillis(250), properties.getDefaults().getPolling().getMinFixedDelay());
@@ -315,6 +318,223 @@ public class OutboxPublisherPropertiesUnitTests {
         assertEquals(3.9, resultEvent.getBackoff().getMultiplier());
     }
 
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should disable batching when not configured")
+    public void applyDefaults_whenEventBatchingNull_thenDisabled() {
+        OutboxPublisherProperties properties = buildWithEvent(new OutboxPublisherProperties.EventProperties());
+
+        properties.applyDefaults();
+
+        assertFalse(properties.getEvents().get("test-event").getBatching().isEnabled());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should derive batching bounds from batch size")
+    public void applyDefaults_whenEventBatchingEnabled_thenDeriveFromBatchSize() {
+        OutboxPublisherProperties.EventProperties event = new OutboxPublisherProperties.EventProperties();
+        event.setBatchSize(200);
+        OutboxPublisherProperties.BatchingProperties batching = new OutboxPublisherProperties.BatchingProperties();
+        batching.setEnabled(true);
+        event.setBatching(batching);
+        OutboxPublisherProperties properties = buildWithEvent(event);
+
+        properties.applyDefaults();
+
+        OutboxPublisherProperties.BatchingProperties result = properties.getEvents().get("test-event").getBatching();
+        assertTrue(result.isEnabled());
+        assertEquals(20, result.getMinBatchSize());
+        assertEquals(800, result.getMaxBatchSize());
+        assertEquals(20, result.getAdditiveIncrease());
+        assertEquals(0.5, result.getDecreaseFactor());
+        assertEquals(Duration.ofSeconds(1), result.getTargetSendLatency());
+        assertEquals(0.1, result.getMaxFailureRatio());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should throw when batching bounds don't surround batch size")
+    public void applyDefaults_whenEventBatchingBoundsInvalid_thenThrow() {
+        OutboxPublisherProperties.EventProperties event = new OutboxPublisherProperties.EventProperties();
+        event.setBatchSize(200);
+        OutboxPublisherProperties.BatchingProperties batching = new OutboxPublisherProperties.BatchingProperties();
+        batching.setEnabled(true);
+        batching.setMaxBatchSize(100);
+        event.setBatching(batching);
+        OutboxPublisherProperties properties = buildWithEvent(event);
+
+        assertThrows(IllegalArgumentException.class, properties::applyDefaults);
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should derive rate limit burst capacity from permits per second")
+    public void applyDefaults_whenEventRateLimitEnabled_thenDeriveBurstCapacity() {
+        OutboxPublisherProperties.EventProperties event = new OutboxPublisherProperties.EventProperties();
+        OutboxPublisherProperties.RateLimitProperties rateLimit = new OutboxPublisherProperties.RateLimitProperties();
+        rateLimit.setEnabled(true);
+        rateLimit.setPermitsPerSecond(12.5);
+        event.setRateLimit(rateLimit);
+        OutboxPublisherProperties properties = buildWithEvent(event);
+
+        properties.applyDefaults();
+
+        OutboxPublisherProperties.RateLimitProperties result = properties.getEvents().get("test-event").getRateLimit();
+        assertTrue(result.isEnabled());
+        assertEquals(13, result.getBurstCapacity());
+        assertTrue(properties.getTopicRateLimits().isEmpty());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should throw when enabled rate limit has no permits per second")
+    public void applyDefaults_whenEventRateLimitWithoutPermits_thenThrow() {
+        OutboxPublisherProperties.EventProperties event = new OutboxPublisherProperties.EventProperties();
+        OutboxPublisherProperties.RateLimitProperties rateLimit = new OutboxPublisherProperties.RateLimitProperties();
+        rateLimit.setEnabled(true);
+        event.setRateLimit(rateLimit);
+        OutboxPublisherProperties properties = buildWithEvent(event);
+
+        assertThrows(IllegalArgumentException.class, properties::applyDefaults);
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should enable declared topic rate limits by default")
+    public void applyDefaults_whenTopicRateLimitDeclared_thenEnabled() {
+        OutboxPublisherProperties.EventProperties event = new OutboxPublisherProperties.EventProperties();
+        OutboxPublisherProperties properties = buildWithEvent(event);
+        OutboxPublisherProperties.RateLimitProperties rateLimit = new OutboxPublisherProperties.RateLimitProperties();
+        rateLimit.setPermitsPerSecond(100.0);
+        rateLimit.setBurstCapacity(50);
+        properties.setTopicRateLimits(new HashMap<>(Map.of("test-topic", rateLimit)));
+
+        properties.applyDefaults();
+
+        OutboxPublisherProperties.RateLimitProperties result = properties.getTopicRateLimits().get("test-topic");
+        assertTrue(result.isEnabled());
+        assertEquals(50, result.getBurstCapacity());
+        assertFalse(properties.getEvents().get("test-event").getRateLimit().isEnabled());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should disable circuit breaker when not configured")
+    public void applyDefaults_whenCircuitBreakerMissing_thenDisabled() {
+        OutboxPublisherProperties properties = buildWithEvent(new OutboxPublisherProperties.EventProperties());
+
+        properties.applyDefaults();
+
+        assertNotNull(properties.getCircuitBreaker());
+        assertFalse(properties.getCircuitBreaker().isEnabled());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should fill circuit breaker defaults when enabled")
+    public void applyDefaults_whenCircuitBreakerEnabled_thenDefaultsApplied() {
+        OutboxPublisherProperties properties = buildWithEvent(new OutboxPublisherProperties.EventProperties());
+        OutboxPublisherProperties.CircuitBreakerProperties circuitBreaker = new OutboxPublisherProperties.CircuitBreakerProperties();
+        circuitBreaker.setEnabled(true);
+        circuitBreaker.setFailureThreshold(0);
+        properties.setCircuitBreaker(circuitBreaker);
+
+        properties.applyDefaults();
+
+        OutboxPublisherProperties.CircuitBreakerProperties result = properties.getCircuitBreaker();
+        assertTrue(result.isEnabled());
+        assertEquals(3, result.getFailureThreshold());
+        assertEquals(Duration.ofSeconds(30), result.getOpenDuration());
+        assertEquals(10, result.getHalfOpenBatchSize());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should apply default priority and weight and disable dispatch")
+    public void applyDefaults_whenPriorityAndWeightMissing_thenDefaultsApplied() {
+        OutboxPublisherProperties properties = buildWithEvent(new OutboxPublisherProperties.EventProperties());
+
+        properties.applyDefaults();
+
+        OutboxPublisherProperties.EventProperties result = properties.getEvents().get("test-event");
+        assertEquals(0, result.getPriority());
+        assertEquals(1, result.getWeight());
+        assertFalse(properties.getDispatch().isEnabled());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should throw when weight is not positive")
+    public void applyDefaults_whenWeightNotPositive_thenThrow() {
+        OutboxPublisherProperties.EventProperties event = new OutboxPublisherProperties.EventProperties();
+        event.setWeight(0);
+        OutboxPublisherProperties properties = buildWithEvent(event);
+
+        assertThrows(IllegalArgumentException.class, properties::applyDefaults);
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should fill dispatch worker pool size when enabled")
+    public void applyDefaults_whenDispatchEnabled_thenDefaultsApplied() {
+        OutboxPublisherProperties properties = buildWithEvent(new OutboxPublisherProperties.EventProperties());
+        OutboxPublisherProperties.DispatchProperties dispatch = new OutboxPublisherProperties.DispatchProperties();
+        dispatch.setEnabled(true);
+        properties.setDispatch(dispatch);
+
+        properties.applyDefaults();
+
+        assertTrue(properties.getDispatch().isEnabled());
+        assertEquals(4, properties.getDispatch().getWorkerPoolSize());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should fill idle detection probe interval when enabled")
+    public void applyDefaults_whenIdleDetectionEnabled_thenDefaultsApplied() {
+        OutboxPublisherProperties properties = buildWithEvent(new OutboxPublisherProperties.EventProperties());
+        OutboxPublisherProperties.IdleDetectionProperties idleDetection = new OutboxPublisherProperties.IdleDetectionProperties();
+        idleDetection.setEnabled(true);
+        properties.setIdleDetection(idleDetection);
+
+        properties.applyDefaults();
+
+        assertTrue(properties.getIdleDetection().isEnabled());
+        assertEquals(Duration.ofSeconds(1), properties.getIdleDetection().getProbeInterval());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should fill gauge estimation reconcile interval when enabled")
+    public void applyDefaults_whenGaugeEstimationEnabled_thenDefaultsApplied() {
+        OutboxPublisherProperties properties = buildWithEvent(new OutboxPublisherProperties.EventProperties());
+        OutboxPublisherProperties.GaugeEstimationProperties gaugeEstimation = new OutboxPublisherProperties.GaugeEstimationProperties();
+        gaugeEstimation.setEnabled(true);
+        properties.setGaugeEstimation(gaugeEstimation);
+
+        properties.applyDefaults();
+
+        assertTrue(properties.getGaugeEstimation().isEnabled());
+        assertEquals(Duration.ofMinutes(5), properties.getGaugeEstimation().getReconcileInterval());
+    }
+
+    @Test
+    @DisplayName("UT OutboxProperties.applyDefaults() should fill gauge refresh polling and derive staleAfter when enabled")
+    public void applyDefaults_whenGaugeRefreshEnabled_thenDefaultsApplied() {
+        OutboxPublisherProperties properties = buildWithEvent(new OutboxPublisherProperties.EventProperties());
+        OutboxPublisherProperties.GaugeRefreshProperties gaugeRefresh = new OutboxPublisherProperties.GaugeRefreshProperties();
+        gaugeRefresh.setEnabled(true);
+        properties.setGaugeRefresh(gaugeRefresh);
+
+        properties.applyDefaults();
+
+        assertTrue(properties.getGaugeRefresh().isEnabled());
+        assertEquals(PollingType.FIXED, properties.getGaugeRefresh().getPolling().getType());
+        assertEquals(Duration.ofSeconds(30), properties.getGaugeRefresh().getPolling().getFixedDelay());
+        assertEquals(Duration.ofSeconds(90), properties.getGaugeRefresh().getStaleAfter());
+    }
+
+    private OutboxPublisherProperties buildWithEvent(OutboxPublisherProperties.EventProperties event) {
+        OutboxPublisherProperties properties = new OutboxPublisherProperties();
+        OutboxPublisherProperties.SenderProperties sender = new OutboxPublisherProperties.SenderProperties();
+        sender.setType(TransportType.KAFKA);
+        sender.setBeanName("bean");
+        properties.setSender(sender);
+        event.setTopic("test-topic");
+        Map<String, OutboxPublisherProperties.EventProperties> events = new HashMap<>();
+        events.put("test-event", event);
+        properties.setEvents(events);
+        return properties;
+    }
+
     @Test
     @DisplayName("UT OutboxProperties.applyDefaults() should override defaults with event specific values")
     public void applyDefaults_whenEventPropertiesProvided_thenOverrideDefaults() {
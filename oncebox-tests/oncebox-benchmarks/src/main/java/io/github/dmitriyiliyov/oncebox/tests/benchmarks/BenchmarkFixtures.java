@@ -0,0 +1,68 @@
+package io.github.dmitriyiliyov.oncebox.tests.benchmarks;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+
+    static final String EVENT_TYPE = "order-created";
+    static final String PAYLOAD_TYPE = "com.example.OrderCreated";
+    static final String PAYLOAD = "{\"orderId\":\"5f0c1d7e-0c55-4c1b-9a0e-2b7c4b5a9d11\",\"amount\":1250,\"currency\":\"EUR\"}";
+
+    private BenchmarkFixtures() {}
+
+    static List<OutboxEvent> events(int size) {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(new OutboxEvent(
+                    UUID.randomUUID(), EventStatus.IN_PROCESS, EVENT_TYPE, PAYLOAD_TYPE, PAYLOAD,
+                    i % 3, now, now, now
+            ));
+        }
+        return events;
+    }
+
+    /**
+     * Builds a single-row {@link ResultSet} backed by the given column map. Only the getters used by
+     * the result set mappers are served, so the measured cost is the mapping itself rather than a driver.
+     */
+    static ResultSet resultSet(Map<String, Object> columns) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getObject", "getString", "getBytes", "getTimestamp" -> columns.get((String) args[0]);
+                    case "getInt" -> ((Number) columns.get((String) args[0])).intValue();
+                    case "wasNull" -> false;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    static Map<String, Object> outboxRow(Object id) {
+        Timestamp now = Timestamp.from(Instant.now());
+        return Map.ofEntries(
+                Map.entry("id", id),
+                Map.entry("status", EventStatus.IN_PROCESS.name()),
+                Map.entry("event_type", EVENT_TYPE),
+                Map.entry("payload_type", PAYLOAD_TYPE),
+                Map.entry("payload", PAYLOAD),
+                Map.entry("retry_count", 1),
+                Map.entry("next_retry_at", now),
+                Map.entry("created_at", now),
+                Map.entry("updated_at", now),
+                Map.entry("dlq_status", "MOVED"),
+                Map.entry("moved_at", now)
+        );
+    }
+}
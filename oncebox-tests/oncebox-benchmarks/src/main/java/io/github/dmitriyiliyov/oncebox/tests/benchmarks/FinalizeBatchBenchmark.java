@@ -0,0 +1,71 @@
+package io.github.dmitriyiliyov.oncebox.tests.benchmarks;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.DefaultOutboxManager;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures {@link DefaultOutboxManager#finalizeBatch} against a repository that does no I/O, so the
+ * result reflects the failed-event preparation and id set handling done before the update statements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FinalizeBatchBenchmark {
+
+    private static final int MAX_RETRY_COUNT = 3;
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    @Param({"0.1", "0.5", "1.0"})
+    private double failedRatio;
+
+    private DefaultOutboxManager manager;
+    private List<OutboxEvent> events;
+    private Set<UUID> processedIds;
+    private Set<UUID> failedIds;
+    private Function<Integer, Instant> nextRetryAtSupplier;
+
+    @Setup
+    public void setUp() {
+        manager = new DefaultOutboxManager(noOpRepository(), Clock.systemUTC());
+        events = BenchmarkFixtures.events(batchSize);
+        int failedCount = (int) (batchSize * failedRatio);
+        processedIds = new HashSet<>();
+        failedIds = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            (i < failedCount ? failedIds : processedIds).add(events.get(i).getId());
+        }
+        Instant now = Instant.now();
+        nextRetryAtSupplier = retryCount -> now.plus(Duration.ofSeconds(retryCount));
+    }
+
+    @Benchmark
+    public void finalizeBatch() {
+        manager.finalizeBatch(events, processedIds, failedIds, MAX_RETRY_COUNT, nextRetryAtSupplier);
+    }
+
+    private static OutboxRepository noOpRepository() {
+        return (OutboxRepository) Proxy.newProxyInstance(
+                OutboxRepository.class.getClassLoader(),
+                new Class<?>[]{OutboxRepository.class},
+                (proxy, method, args) -> method.getReturnType() == int.class ? 0 : null
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.dmitriyiliyov.oncebox.tests.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.dmitriyiliyov.oncebox.core.publisher.JacksonOutboxSerializer;
+import io.github.dmitriyiliyov.oncebox.core.publisher.UuidV7Generator;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonOutboxSerializerBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    private JacksonOutboxSerializer serializer;
+    private OrderCreated single;
+    private List<OrderCreated> batch;
+
+    @Setup
+    public void setUp() {
+        serializer = new JacksonOutboxSerializer(new ObjectMapper(), new UuidV7Generator(), Clock.systemUTC());
+        single = new OrderCreated(UUID.randomUUID(), 1250, "EUR");
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new OrderCreated(UUID.randomUUID(), i, "EUR"));
+        }
+    }
+
+    @Benchmark
+    public OutboxEvent serializeSingle() {
+        return serializer.serialize(BenchmarkFixtures.EVENT_TYPE, single);
+    }
+
+    @Benchmark
+    public List<OutboxEvent> serializeBatch() {
+        return serializer.serialize(BenchmarkFixtures.EVENT_TYPE, batch);
+    }
+
+    public record OrderCreated(UUID orderId, long amount, String currency) {}
+}
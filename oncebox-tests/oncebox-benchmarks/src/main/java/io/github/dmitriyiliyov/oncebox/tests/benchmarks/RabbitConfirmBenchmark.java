@@ -0,0 +1,94 @@
+package io.github.dmitriyiliyov.oncebox.tests.benchmarks;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+import io.github.dmitriyiliyov.oncebox.rabbit.RabbitOutboxSender;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives {@link RabbitOutboxSender#sendEvents} over an in-memory channel that confirms publishes
+ * synchronously, acknowledging every {@code ackEvery} deliveries with {@code multiple=true} the way a
+ * broker coalesces confirms under load. The confirm listener is private to the sender, so it is
+ * measured through the public send path together with header and property construction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RabbitConfirmBenchmark {
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    @Param({"1", "16", "128"})
+    private int ackEvery;
+
+    private RabbitOutboxSender sender;
+    private List<OutboxEvent> events;
+
+    @Setup
+    public void setUp() {
+        sender = new RabbitOutboxSender(new ConfirmingRabbitTemplate(batchSize, ackEvery), 5);
+        events = BenchmarkFixtures.events(batchSize);
+    }
+
+    @Benchmark
+    public SenderResult sendEvents() {
+        return sender.sendEvents("orders", events);
+    }
+
+    private static final class ConfirmingRabbitTemplate extends RabbitTemplate {
+
+        private final int batchSize;
+        private final int ackEvery;
+
+        private ConfirmingRabbitTemplate(int batchSize, int ackEvery) {
+            this.batchSize = batchSize;
+            this.ackEvery = ackEvery;
+        }
+
+        @Override
+        public <T> T execute(ChannelCallback<T> action) {
+            try {
+                return action.doInRabbit(confirmingChannel());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Channel confirmingChannel() {
+            ConfirmListener[] listener = new ConfirmListener[1];
+            long[] nextSeqNo = {1};
+            return (Channel) Proxy.newProxyInstance(
+                    Channel.class.getClassLoader(),
+                    new Class<?>[]{Channel.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "confirmSelect" -> null;
+                        case "addConfirmListener" -> {
+                            listener[0] = (ConfirmListener) args[0];
+                            yield null;
+                        }
+                        case "getNextPublishSeqNo" -> nextSeqNo[0];
+                        case "basicPublish" -> {
+                            long seqNo = nextSeqNo[0]++;
+                            if (seqNo % ackEvery == 0 || seqNo == batchSize) {
+                                listener[0].handleAck(seqNo, ackEvery > 1);
+                            }
+                            yield null;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    }
+            );
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.dmitriyiliyov.oncebox.tests.benchmarks;
+
+import io.github.dmitriyiliyov.oncebox.core.utils.RepositoryUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryUtilsBenchmark {
+
+    private static final int OUTBOX_COLUMN_COUNT = 9;
+
+    @Param({"10", "100", "1000"})
+    private int batchSize;
+
+    private Set<UUID> ids;
+
+    @Setup
+    public void setUp() {
+        ids = new HashSet<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            ids.add(UUID.randomUUID());
+        }
+    }
+
+    @Benchmark
+    public String idsPlaceholders() {
+        return RepositoryUtils.generateIdsPlaceholders(ids);
+    }
+
+    @Benchmark
+    public String valuesPlaceholders() {
+        return RepositoryUtils.generateValuesPlaceholders(batchSize, OUTBOX_COLUMN_COUNT);
+    }
+}
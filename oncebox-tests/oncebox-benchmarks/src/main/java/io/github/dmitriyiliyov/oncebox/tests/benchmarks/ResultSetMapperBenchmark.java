@@ -0,0 +1,55 @@
+package io.github.dmitriyiliyov.oncebox.tests.benchmarks;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.dlq.OutboxDlqEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultBytesResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.mysql.MySqlIdHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultSetMapperBenchmark {
+
+    private final DefaultResultSetMapper uuidMapper = new DefaultResultSetMapper();
+    private final DefaultBytesResultSetMapper bytesMapper = new DefaultBytesResultSetMapper();
+
+    private ResultSet uuidRow;
+    private ResultSet bytesRow;
+
+    @Setup
+    public void setUp() {
+        UUID id = UUID.randomUUID();
+        uuidRow = BenchmarkFixtures.resultSet(BenchmarkFixtures.outboxRow(id));
+        bytesRow = BenchmarkFixtures.resultSet(BenchmarkFixtures.outboxRow(new MySqlIdHelper().uuidToBytes(id)));
+    }
+
+    @Benchmark
+    public OutboxEvent uuidToEvent() throws SQLException {
+        return uuidMapper.toEvent(uuidRow);
+    }
+
+    @Benchmark
+    public OutboxEvent bytesToEvent() throws SQLException {
+        return bytesMapper.toEvent(bytesRow);
+    }
+
+    @Benchmark
+    public OutboxDlqEvent uuidToDlqEvent() throws SQLException {
+        return uuidMapper.toDlqEvent(uuidRow);
+    }
+
+    @Benchmark
+    public OutboxDlqEvent bytesToDlqEvent() throws SQLException {
+        return bytesMapper.toDlqEvent(bytesRow);
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.dmitriyiliyov.oncebox.tests.benchmarks;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.EventStatus;
+import io.github.dmitriyiliyov.oncebox.metrics.publisher.utils.SimpleOutboxCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimpleOutboxCacheBenchmark {
+
+    private SimpleOutboxCache<EventStatus> cache;
+
+    @Setup
+    public void setUp() {
+        cache = new SimpleOutboxCache<>(60, 60, 60);
+        cache.putCount(1_000);
+        cache.putCountByStatus(EventStatus.PENDING, 500);
+        cache.putCountByEventTypeAndStatus(BenchmarkFixtures.EVENT_TYPE, EventStatus.PENDING, 250);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long getCount() {
+        return cache.getCount();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long getCountByStatus() {
+        return cache.getCountByStatus(EventStatus.PENDING);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long getCountByEventTypeAndStatus() {
+        return cache.getCountByEventTypeAndStatus(BenchmarkFixtures.EVENT_TYPE, EventStatus.PENDING);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long putCountByEventTypeAndStatus() {
+        return cache.putCountByEventTypeAndStatus(BenchmarkFixtures.EVENT_TYPE, EventStatus.PENDING, 250);
+    }
+}
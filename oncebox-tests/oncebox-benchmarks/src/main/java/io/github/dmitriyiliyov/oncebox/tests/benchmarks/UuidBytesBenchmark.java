@@ -0,0 +1,46 @@
+package io.github.dmitriyiliyov.oncebox.tests.benchmarks;
+
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultBytesResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.mysql.MySqlIdHelper;
+import io.github.dmitriyiliyov.oncebox.oracle.OracleSqlIdHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidBytesBenchmark {
+
+    private final DefaultBytesResultSetMapper mapper = new DefaultBytesResultSetMapper();
+    private final MySqlIdHelper mySqlIdHelper = new MySqlIdHelper();
+    private final OracleSqlIdHelper oracleSqlIdHelper = new OracleSqlIdHelper();
+
+    private UUID id;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        id = UUID.randomUUID();
+        bytes = mySqlIdHelper.uuidToBytes(id);
+    }
+
+    @Benchmark
+    public UUID fromBytesToUuid() {
+        return mapper.fromBytesToUuid(bytes);
+    }
+
+    @Benchmark
+    public byte[] mySqlUuidToBytes() {
+        return mySqlIdHelper.uuidToBytes(id);
+    }
+
+    @Benchmark
+    public byte[] oracleUuidToBytes() {
+        return oracleSqlIdHelper.uuidToBytes(id);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.dmitriyiliyov.oncebox.tests.relay;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxSender;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.SenderResult;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link OutboxSender} standing in for a broker. Each call waits for the configured latency, then fails
+ * the whole batch with {@code failureRate} probability or otherwise fails every single event with
+ * {@code partialFailureRate} probability. Age at send is recorded for every event handed to the sender.
+ */
+class ProgrammableOutboxSender implements OutboxSender {
+
+    private final RelayStatistics statistics;
+    private final Clock clock;
+    private final Duration latency;
+    private final double failureRate;
+    private final double partialFailureRate;
+
+    ProgrammableOutboxSender(RelayStatistics statistics, Clock clock, RelayBenchmarkSettings settings) {
+        this.statistics = statistics;
+        this.clock = clock;
+        this.latency = settings.sendLatency();
+        this.failureRate = settings.failureRate();
+        this.partialFailureRate = settings.partialFailureRate();
+    }
+
+    @Override
+    public SenderResult sendEvents(String topic, List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return SenderResult.empty();
+        }
+        statistics.onSend(clock.instant(), events);
+        sleep();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Set<UUID> processedIds = new HashSet<>();
+        Set<UUID> failedIds = new HashSet<>();
+        boolean batchFailed = random.nextDouble() < failureRate;
+        for (OutboxEvent event : events) {
+            if (batchFailed || random.nextDouble() < partialFailureRate) {
+                failedIds.add(event.getId());
+            } else {
+                processedIds.add(event.getId());
+            }
+        }
+        statistics.onSendResult(processedIds.size(), failedIds.size());
+        return new SenderResult(processedIds, failedIds);
+    }
+
+    private void sleep() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.dmitriyiliyov.oncebox.tests.relay;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.UuidV7Generator;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.github.dmitriyiliyov.oncebox.core.utils.DefaultResultSetMapper;
+import io.github.dmitriyiliyov.oncebox.h2.H2IdHelper;
+import io.github.dmitriyiliyov.oncebox.h2.H2OutboxRepository;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Prepares the shared in-memory database for a scenario: recreates the outbox tables and inserts the
+ * configured number of pending events spread evenly over the configured event types.
+ */
+class RelayBacklogLoader {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final String PAYLOAD_TYPE = "RelayPayload";
+    private static final String PAYLOAD = "{\"value\":\"relay-benchmark-payload\"}";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxRepository repository;
+    private final UuidV7Generator idGenerator = new UuidV7Generator();
+    private final Clock clock = Clock.systemUTC();
+
+    RelayBacklogLoader() {
+        this.jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(RelayScenario.DATASOURCE_URL));
+        this.repository = new H2OutboxRepository(jdbcTemplate, clock, new H2IdHelper(), new DefaultResultSetMapper());
+    }
+
+    static String eventType(int index) {
+        return "relay-event-" + index;
+    }
+
+    void reset() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("h2/h2_outbox_table.sql"),
+                new ClassPathResource("h2/h2_outbox_jobs_table.sql"),
+                new ClassPathResource("h2/h2_outbox_dlq_table.sql")
+        );
+        populator.execute(jdbcTemplate.getDataSource());
+    }
+
+    void load(int rows, int eventTypes) {
+        List<OutboxEvent> chunk = new ArrayList<>(CHUNK_SIZE);
+        Instant now = clock.instant();
+        for (int i = 0; i < rows; i++) {
+            chunk.add(new OutboxEvent(idGenerator.generate(), eventType(i % eventTypes), PAYLOAD_TYPE, PAYLOAD, now));
+            if (chunk.size() == CHUNK_SIZE) {
+                repository.saveBatch(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            repository.saveBatch(chunk);
+        }
+    }
+
+    /**
+     * Moves creation time of the whole backlog to the moment the relays start, so age at send is measured
+     * from the start of the drain rather than from the moment each row was inserted.
+     */
+    void markCreated(Instant createdAt) {
+        Timestamp timestamp = Timestamp.from(createdAt);
+        jdbcTemplate.update("UPDATE outbox_events SET created_at = ?, next_retry_at = ?", timestamp, timestamp);
+    }
+
+    long remaining() {
+        return count("SELECT COUNT(*) FROM outbox_events WHERE status IN ('PENDING', 'IN_PROCESS')");
+    }
+
+    long exhausted() {
+        return count("SELECT COUNT(*) FROM outbox_events WHERE status = 'FAILED'")
+                + count("SELECT COUNT(*) FROM outbox_dlq_events");
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+}
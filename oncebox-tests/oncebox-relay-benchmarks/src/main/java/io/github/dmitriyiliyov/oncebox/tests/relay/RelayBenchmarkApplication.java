@@ -0,0 +1,134 @@
+package io.github.dmitriyiliyov.oncebox.tests.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * End-to-end relay benchmark. For every strategy and instance count it preloads the backlog into an
+ * in-memory H2 database, boots the requested number of starter contexts against it and measures how the
+ * relays drain the backlog through {@link ProgrammableOutboxSender}.
+ * <p>
+ * Arguments are described in {@link RelayBenchmarkSettings}, e.g.
+ * {@code --rows=200000 --instances=1,4 --strategies=fixed,adaptive --send-latency=PT0.01S}.
+ */
+public class RelayBenchmarkApplication {
+
+    private static final Logger log = LoggerFactory.getLogger(RelayBenchmarkApplication.class);
+    private static final Duration PROGRESS_INTERVAL = Duration.ofMillis(200);
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        RelayBenchmarkSettings settings = RelayBenchmarkSettings.fromArgs(args);
+        RelayBacklogLoader loader = new RelayBacklogLoader();
+        List<RelayReport.Result> results = new ArrayList<>();
+        for (String strategy : settings.strategies()) {
+            for (int instances : settings.instances()) {
+                results.add(run(new RelayScenario(strategy, instances), settings, loader));
+            }
+        }
+        RelayReport report = new RelayReport(Instant.now(), settings, results);
+        print(report);
+        new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(Path.of(settings.output()).toFile(), report);
+        log.info("Relay report written to {}", settings.output());
+    }
+
+    private static RelayReport.Result run(RelayScenario scenario, RelayBenchmarkSettings settings,
+                                          RelayBacklogLoader loader) throws InterruptedException {
+        log.info("Scenario {}: loading {} rows", scenario.name(), settings.rows());
+        loader.reset();
+        loader.load(settings.rows(), settings.eventTypes());
+        RelayStatistics statistics = new RelayStatistics();
+        List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+        boolean completed = false;
+        Instant drainedAt;
+        try {
+            loader.markCreated(Instant.now());
+            for (int i = 0; i < scenario.instances(); i++) {
+                contexts.add(start(scenario, settings, statistics));
+            }
+            Instant deadline = Instant.now().plus(settings.timeout());
+            while (Instant.now().isBefore(deadline)) {
+                if (loader.remaining() == 0) {
+                    completed = true;
+                    break;
+                }
+                Thread.sleep(PROGRESS_INTERVAL);
+            }
+            drainedAt = Instant.now();
+        } finally {
+            contexts.forEach(ConfigurableApplicationContext::close);
+        }
+        return result(scenario, settings, statistics, completed, drainedAt, loader.exhausted());
+    }
+
+    private static ConfigurableApplicationContext start(RelayScenario scenario, RelayBenchmarkSettings settings,
+                                                        RelayStatistics statistics) {
+        return new SpringApplicationBuilder(RelayInstanceConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties(scenario.properties(settings))
+                .initializers(context -> {
+                    context.getBeanFactory().registerSingleton("relayStatistics", statistics);
+                    context.getBeanFactory().registerSingleton("relayBenchmarkSettings", settings);
+                })
+                .run();
+    }
+
+    private static RelayReport.Result result(RelayScenario scenario, RelayBenchmarkSettings settings,
+                                             RelayStatistics statistics, boolean completed, Instant drainedAt,
+                                             long exhausted) {
+        Instant firstSendAt = statistics.firstSendAt() == null ? drainedAt : statistics.firstSendAt();
+        long durationMillis = Math.max(1, Duration.between(firstSendAt, drainedAt).toMillis());
+        long claims = statistics.claims();
+        long nonEmptyClaims = claims - statistics.emptyClaims();
+        return new RelayReport.Result(
+                scenario.name(),
+                scenario.strategy(),
+                scenario.instances(),
+                completed,
+                durationMillis,
+                settings.rows() * 1000.0 / durationMillis,
+                statistics.statements(),
+                (double) statistics.statements() / settings.rows(),
+                claims,
+                claims == 0 ? 0 : (double) statistics.emptyClaims() / claims,
+                nonEmptyClaims == 0 ? 0 : (double) statistics.claimedEvents() / nonEmptyClaims,
+                statistics.failedEvents(),
+                exhausted,
+                statistics.ageAtSendPercentile(0.5),
+                statistics.ageAtSendPercentile(0.99)
+        );
+    }
+
+    private static void print(RelayReport report) {
+        StringBuilder table = new StringBuilder()
+                .append(System.lineSeparator())
+                .append("%-14s %9s %11s %12s %10s %10s %10s %12s %12s%n".formatted(
+                        "scenario", "completed", "events/s", "stmts/event", "empty", "avg claim",
+                        "exhausted", "p50 age ms", "p99 age ms"
+                ));
+        for (RelayReport.Result result : report.results()) {
+            table.append("%-14s %9s %11.1f %12.2f %10.3f %10.1f %10d %12.1f %12.1f%n".formatted(
+                    result.scenario(), result.completed(), result.drainRate(), result.statementsPerEvent(),
+                    result.emptyClaimRatio(), result.averageClaimSize(), result.exhausted(),
+                    result.p50AgeAtSendMillis(), result.p99AgeAtSendMillis()
+            ));
+        }
+        log.info("Relay benchmark results:{}", table);
+    }
+}
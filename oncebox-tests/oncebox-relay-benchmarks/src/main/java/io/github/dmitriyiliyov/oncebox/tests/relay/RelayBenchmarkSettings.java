@@ -0,0 +1,70 @@
+package io.github.dmitriyiliyov.oncebox.tests.relay;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Benchmark settings parsed from {@code --name=value} arguments. Every setting has a default, so the
+ * harness runs without arguments; list settings are comma separated.
+ */
+record RelayBenchmarkSettings(
+        int rows,
+        int eventTypes,
+        List<Integer> instances,
+        List<String> strategies,
+        int batchSize,
+        int threadPoolSize,
+        Duration fixedDelay,
+        Duration minDelay,
+        Duration maxDelay,
+        Duration sendLatency,
+        double failureRate,
+        double partialFailureRate,
+        Duration timeout,
+        String output
+) {
+
+    static RelayBenchmarkSettings fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value argument but was '%s'".formatted(arg));
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new RelayBenchmarkSettings(
+                value(values, "rows", Integer::parseInt, 1_000_000),
+                value(values, "event-types", Integer::parseInt, 4),
+                value(values, "instances", RelayBenchmarkSettings::parseInts, List.of(1, 2, 4)),
+                value(values, "strategies", RelayBenchmarkSettings::parseStrings, List.of("fixed", "adaptive")),
+                value(values, "batch-size", Integer::parseInt, 500),
+                value(values, "thread-pool-size", Integer::parseInt, 4),
+                value(values, "fixed-delay", Duration::parse, Duration.ofMillis(100)),
+                value(values, "min-delay", Duration::parse, Duration.ofMillis(50)),
+                value(values, "max-delay", Duration::parse, Duration.ofSeconds(2)),
+                value(values, "send-latency", Duration::parse, Duration.ofMillis(5)),
+                value(values, "failure-rate", Double::parseDouble, 0.0),
+                value(values, "partial-failure-rate", Double::parseDouble, 0.0),
+                value(values, "timeout", Duration::parse, Duration.ofMinutes(30)),
+                values.getOrDefault("output", "relay-report.json")
+        );
+    }
+
+    private static <T> T value(Map<String, String> values, String name, Function<String, T> parser, T defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : parser.apply(value);
+    }
+
+    private static List<Integer> parseInts(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).map(Integer::parseInt).toList();
+    }
+
+    private static List<String> parseStrings(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).toList();
+    }
+}
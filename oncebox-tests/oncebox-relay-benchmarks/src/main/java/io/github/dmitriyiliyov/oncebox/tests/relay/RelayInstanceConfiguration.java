@@ -0,0 +1,42 @@
+package io.github.dmitriyiliyov.oncebox.tests.relay;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxSender;
+import io.github.dmitriyiliyov.oncebox.starter.OutboxRepositoryFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Configuration of a single relay instance. The starter is booted unchanged except for the sender,
+ * which is replaced by {@link ProgrammableOutboxSender}, and the data source and repository, which are
+ * wrapped to feed the shared {@link RelayStatistics} registered by {@link RelayBenchmarkApplication}.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+class RelayInstanceConfiguration {
+
+    @Bean
+    static BeanPostProcessor relayDataSourceObserver(RelayStatistics statistics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? statistics.observe(dataSource) : bean;
+            }
+        };
+    }
+
+    @Bean
+    OutboxSender outboxSender(RelayStatistics statistics, RelayBenchmarkSettings settings) {
+        return new ProgrammableOutboxSender(statistics, Clock.systemUTC(), settings);
+    }
+
+    @Bean
+    OutboxRepository outboxRepository(OutboxRepositoryFactory repositoryFactory, RelayStatistics statistics) {
+        return statistics.observe(repositoryFactory.createOutboxRepository());
+    }
+}
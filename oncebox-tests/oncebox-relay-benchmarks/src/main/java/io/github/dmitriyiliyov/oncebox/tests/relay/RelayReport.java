@@ -0,0 +1,39 @@
+package io.github.dmitriyiliyov.oncebox.tests.relay;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Report written after all scenarios have run. Results of runs with equal settings are comparable
+ * across commits, which is what the report is kept for.
+ */
+record RelayReport(Instant createdAt, RelayBenchmarkSettings settings, List<Result> results) {
+
+    /**
+     * Outcome of one {@link RelayScenario}.
+     *
+     * @param drainRate          events moved out of {@code PENDING} per second, measured from the first send.
+     * @param statementsPerEvent JDBC statements issued by all instances divided by the backlog size.
+     * @param emptyClaimRatio    share of claim queries that returned no rows, a measure of claim contention.
+     * @param averageClaimSize   average number of rows returned by a non-empty claim query.
+     * @param exhausted          events that ran out of retries and ended up {@code FAILED} or in the DLQ.
+     */
+    record Result(
+            String scenario,
+            String strategy,
+            int instances,
+            boolean completed,
+            long durationMillis,
+            double drainRate,
+            long statements,
+            double statementsPerEvent,
+            long claims,
+            double emptyClaimRatio,
+            double averageClaimSize,
+            long sendFailures,
+            long exhausted,
+            double p50AgeAtSendMillis,
+            double p99AgeAtSendMillis
+    ) {
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.dmitriyiliyov.oncebox.tests.relay;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single benchmark run: one polling strategy drained by a number of relay instances.
+ */
+record RelayScenario(String strategy, int instances) {
+
+    static final String DATASOURCE_URL = "jdbc:h2:mem:relay;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+
+    String name() {
+        return "%s-x%d".formatted(strategy, instances);
+    }
+
+    Map<String, Object> properties(RelayBenchmarkSettings settings) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.datasource.url", DATASOURCE_URL);
+        properties.put("spring.datasource.hikari.maximum-pool-size", settings.threadPoolSize() + 2);
+        properties.put("oncebox.thread-pool-size", settings.threadPoolSize());
+        properties.put("oncebox.publisher.sender.type", "kafka");
+        properties.put("oncebox.publisher.defaults.batch-size", settings.batchSize());
+        properties.put("oncebox.publisher.defaults.max-retries", 3);
+        properties.put("oncebox.publisher.defaults.backoff.delay", "200ms");
+        properties.put("oncebox.publisher.defaults.backoff.multiplier", 1.5);
+        properties.put("oncebox.publisher.defaults.polling.type", strategy);
+        properties.put("oncebox.publisher.defaults.polling.initial-delay", "0s");
+        switch (strategy) {
+            case "fixed" -> properties.put("oncebox.publisher.defaults.polling.fixed-delay", settings.fixedDelay());
+            case "adaptive" -> {
+                properties.put("oncebox.publisher.defaults.polling.min-fixed-delay", settings.minDelay());
+                properties.put("oncebox.publisher.defaults.polling.max-fixed-delay", settings.maxDelay());
+                properties.put("oncebox.publisher.defaults.polling.multiplier", 1.5);
+            }
+            default -> throw new IllegalArgumentException("Unsupported polling strategy '%s'".formatted(strategy));
+        }
+        for (int i = 0; i < settings.eventTypes(); i++) {
+            properties.put("oncebox.publisher.events.%s.topic".formatted(RelayBacklogLoader.eventType(i)), "relay");
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.dmitriyiliyov.oncebox.tests.relay;
+
+import io.github.dmitriyiliyov.oncebox.core.publisher.OutboxRepository;
+import io.github.dmitriyiliyov.oncebox.core.publisher.domain.OutboxEvent;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by every relay instance of a scenario. Statements are counted on the JDBC connection,
+ * claims on the {@link OutboxRepository}, and age at send in {@link ProgrammableOutboxSender}.
+ */
+class RelayStatistics {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder claims = new LongAdder();
+    private final LongAdder emptyClaims = new LongAdder();
+    private final LongAdder claimedEvents = new LongAdder();
+    private final LongAdder sentEvents = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+    private final AtomicReference<Instant> firstSendAt = new AtomicReference<>();
+    private final Timer ageAtSend;
+
+    RelayStatistics() {
+        this.ageAtSend = Timer.builder("relay.age-at-send")
+                .publishPercentiles(0.5, 0.99)
+                .distributionStatisticExpiry(Duration.ofDays(1))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+    }
+
+    DataSource observe(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result) -> {
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, (connectionMethod, statement) -> {
+                    if (STATEMENT_METHODS.contains(connectionMethod.getName())) {
+                        statements.increment();
+                    }
+                    return statement;
+                });
+            }
+            return result;
+        });
+    }
+
+    OutboxRepository observe(OutboxRepository repository) {
+        return proxy(OutboxRepository.class, repository, (method, result) -> {
+            if (method.getName().startsWith("findAndLock") && result instanceof List<?> events) {
+                claims.increment();
+                claimedEvents.add(events.size());
+                if (events.isEmpty()) {
+                    emptyClaims.increment();
+                }
+            }
+            return result;
+        });
+    }
+
+    void onSend(Instant now, List<OutboxEvent> events) {
+        firstSendAt.compareAndSet(null, now);
+        for (OutboxEvent event : events) {
+            ageAtSend.record(Duration.between(event.getCreatedAt(), now));
+        }
+    }
+
+    void onSendResult(int sent, int failed) {
+        sentEvents.add(sent);
+        failedEvents.add(failed);
+    }
+
+    Instant firstSendAt() {
+        return firstSendAt.get();
+    }
+
+    long statements() {
+        return statements.sum();
+    }
+
+    long claims() {
+        return claims.sum();
+    }
+
+    long emptyClaims() {
+        return emptyClaims.sum();
+    }
+
+    long claimedEvents() {
+        return claimedEvents.sum();
+    }
+
+    long sentEvents() {
+        return sentEvents.sum();
+    }
+
+    long failedEvents() {
+        return failedEvents.sum();
+    }
+
+    double ageAtSendPercentile(double percentile) {
+        for (ValueAtPercentile value : ageAtSend.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    @FunctionalInterface
+    private interface ResultObserver {
+        Object observe(Method method, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultObserver observer) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return observer.observe(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
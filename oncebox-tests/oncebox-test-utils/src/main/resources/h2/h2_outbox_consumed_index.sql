@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_outbox_consumed_by_consumed_at ON outbox_consumed_events(consumed_at)
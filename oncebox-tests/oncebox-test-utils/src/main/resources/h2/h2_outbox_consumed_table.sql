@@ -0,0 +1,4 @@
+CREATE TABLE IF NOT EXISTS outbox_consumed_events(
+    id UUID PRIMARY KEY,
+    consumed_at TIMESTAMP NOT NULL
+);
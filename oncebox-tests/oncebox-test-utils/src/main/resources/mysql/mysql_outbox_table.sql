@@ -7,9 +7,48 @@ CREATE TABLE IF NOT EXISTS outbox_events (
     retry_count INTEGER NOT NULL,
     next_retry_at DATETIME NOT NULL,
     created_at DATETIME NOT NULL,
-    updated_at DATETIME NOT NULL
+    updated_at DATETIME NOT NULL,
+    claim_token BINARY(16) NULL,
+    locked_by BINARY(16) NULL,
+    lease_until DATETIME NULL
 );
 
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_events'
+    AND column_name = 'claim_token'
+    );
+SET @sql := IF(@exists = 0,
+    'ALTER TABLE outbox_events ADD COLUMN claim_token BINARY(16) NULL',
+    'SELECT 1'
+    );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_events'
+    AND column_name = 'locked_by'
+    );
+SET @sql := IF(@exists = 0,
+    'ALTER TABLE outbox_events ADD COLUMN locked_by BINARY(16) NULL',
+    'SELECT 1'
+    );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_events'
+    AND column_name = 'lease_until'
+    );
+SET @sql := IF(@exists = 0,
+    'ALTER TABLE outbox_events ADD COLUMN lease_until DATETIME NULL',
+    'SELECT 1'
+    );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
 SET @exists := (
     SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
     WHERE table_schema = DATABASE()
@@ -32,4 +71,28 @@ SET @sql := IF(@exists = 0,
     'CREATE INDEX idx_outbox_by_status_and_updated_at ON outbox_events(status, updated_at, id)',
     'SELECT 1'
     );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_events'
+    AND index_name = 'idx_outbox_by_claim_token'
+    );
+SET @sql := IF(@exists = 0,
+    'CREATE INDEX idx_outbox_by_claim_token ON outbox_events(claim_token)',
+    'SELECT 1'
+    );
+PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @exists := (
+    SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+    AND table_name = 'outbox_events'
+    AND index_name = 'idx_outbox_by_status_and_lease_until'
+    );
+SET @sql := IF(@exists = 0,
+    'CREATE INDEX idx_outbox_by_status_and_lease_until ON outbox_events(status, lease_until, id)',
+    'SELECT 1'
+    );
 PREPARE stmt FROM @sql; EXECUTE stmt; DEALLOCATE PREPARE stmt;
\ No newline at end of file
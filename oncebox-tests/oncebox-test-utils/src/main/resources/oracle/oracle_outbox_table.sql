@@ -9,13 +9,37 @@ EXECUTE IMMEDIATE '
             retry_count INTEGER NOT NULL,
             next_retry_at TIMESTAMP NOT NULL,
             created_at TIMESTAMP NOT NULL,
-            updated_at TIMESTAMP NOT NULL
+            updated_at TIMESTAMP NOT NULL,
+            claim_token RAW(16),
+            locked_by RAW(16),
+            lease_until TIMESTAMP
         )';
 EXCEPTION WHEN OTHERS THEN
     IF SQLCODE != -955 THEN RAISE; END IF;
 END;
 /
 
+BEGIN
+EXECUTE IMMEDIATE 'ALTER TABLE outbox_events ADD claim_token RAW(16)';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -1430 THEN RAISE; END IF;
+END;
+/
+
+BEGIN
+EXECUTE IMMEDIATE 'ALTER TABLE outbox_events ADD locked_by RAW(16)';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -1430 THEN RAISE; END IF;
+END;
+/
+
+BEGIN
+EXECUTE IMMEDIATE 'ALTER TABLE outbox_events ADD lease_until TIMESTAMP';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -1430 THEN RAISE; END IF;
+END;
+/
+
 BEGIN
 EXECUTE IMMEDIATE 'CREATE INDEX idx_outbox_by_event_type_and_next_retry_at ON outbox_events(event_type, next_retry_at)';
 EXCEPTION WHEN OTHERS THEN
@@ -28,4 +52,18 @@ EXECUTE IMMEDIATE 'CREATE INDEX idx_outbox_by_status_and_updated_at ON outbox_ev
 EXCEPTION WHEN OTHERS THEN
     IF SQLCODE != -955 THEN RAISE; END IF;
 END;
+/
+
+BEGIN
+EXECUTE IMMEDIATE 'CREATE INDEX idx_outbox_by_claim_token ON outbox_events(claim_token)';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -955 THEN RAISE; END IF;
+END;
+/
+
+BEGIN
+EXECUTE IMMEDIATE 'CREATE INDEX idx_outbox_by_status_and_lease_until ON outbox_events(status, lease_until)';
+EXCEPTION WHEN OTHERS THEN
+    IF SQLCODE != -955 THEN RAISE; END IF;
+END;
 /
\ No newline at end of file